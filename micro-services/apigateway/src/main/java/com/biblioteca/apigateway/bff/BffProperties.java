@@ -0,0 +1,24 @@
+package com.biblioteca.apigateway.bff;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "gateway.bff")
+public class BffProperties {
+    private boolean enabled = true;
+
+    /* Load-balanced base URLs, context path included. */
+    private String userLibraryUrl = "http://userlibraryservice/userlibraryservice";
+    private String catalogUrl = "http://catalogservice/catalogservice";
+
+    /* Per downstream call; a section whose calls time out is reported as unavailable. */
+    private Duration timeout = Duration.ofSeconds(3);
+
+    /* Catalog ids per by-ids request, keeping query strings well under URL length limits. */
+    private int batchSize = 100;
+}
@@ -0,0 +1,76 @@
+package com.biblioteca.apigateway.bff;
+
+import com.biblioteca.apigateway.dto.ResponseDTO;
+import com.fasterxml.jackson.databind.JsonNode;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/*
+ * Calls the services' existing list and by-ids endpoints with the caller's credentials and
+ * unwraps their ResponseDTO. Payloads stay JsonNode: the gateway only joins them by id and
+ * passes them on, so it does not need to know, or be redeployed for, the services' DTOs.
+ */
+public class DashboardClient {
+    private static final ParameterizedTypeReference<ResponseDTO<List<JsonNode>>> LIST_RESPONSE =
+            new ParameterizedTypeReference<>() {
+            };
+
+    private final WebClient webClient;
+    private final BffProperties properties;
+
+    public DashboardClient(WebClient webClient, BffProperties properties) {
+        this.webClient = webClient;
+        this.properties = properties;
+    }
+
+    public Mono<List<JsonNode>> userLibraryRows(String path, Integer userId, HttpHeaders credentials) {
+        return list(properties.getUserLibraryUrl() + path + "/" + userId, credentials);
+    }
+
+    /* Catalog entities by id, fetched in parallel batches; ids the catalog does not know are absent. */
+    public Mono<Map<Integer, JsonNode>> catalogByIds(String path, List<Integer> ids, HttpHeaders credentials) {
+        if (ids.isEmpty()) {
+            return Mono.just(Map.of());
+        }
+
+        List<List<Integer>> batches = new ArrayList<>();
+        for (int from = 0; from < ids.size(); from += properties.getBatchSize()) {
+            batches.add(ids.subList(from, Math.min(ids.size(), from + properties.getBatchSize())));
+        }
+
+        return Flux.fromIterable(batches)
+                .flatMap(batch -> list(properties.getCatalogUrl() + path + "?ids="
+                        + batch.stream().map(String::valueOf).collect(Collectors.joining(",")), credentials)
+                        /* The by-ids endpoints answer 404 when none of the ids exist. */
+                        .onErrorResume(WebClientResponseException.NotFound.class, e -> Mono.just(List.of())))
+                .flatMapIterable(entities -> entities)
+                .filter(entity -> entity.hasNonNull("id"))
+                .collectMap(entity -> entity.get("id").asInt(), entity -> entity);
+    }
+
+    private Mono<List<JsonNode>> list(String uri, HttpHeaders credentials) {
+        return webClient.get()
+                .uri(uri)
+                .headers(headers -> headers.addAll(credentials))
+                .retrieve()
+                .bodyToMono(LIST_RESPONSE)
+                .timeout(properties.getTimeout())
+                .map(response -> response.getData() == null ? List.<JsonNode>of() : response.getData());
+    }
+
+    public static boolean isAuthFailure(Throwable error) {
+        return error instanceof WebClientResponseException responseException
+                && (responseException.getStatusCode().isSameCodeAs(HttpStatus.UNAUTHORIZED)
+                || responseException.getStatusCode().isSameCodeAs(HttpStatus.FORBIDDEN));
+    }
+}
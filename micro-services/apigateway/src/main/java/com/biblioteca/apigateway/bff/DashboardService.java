@@ -0,0 +1,101 @@
+package com.biblioteca.apigateway.bff;
+
+import com.biblioteca.apigateway.dto.dashboard.DashboardDTO;
+import com.biblioteca.apigateway.dto.dashboard.DashboardEntryDTO;
+import com.fasterxml.jackson.databind.JsonNode;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import reactor.core.publisher.Mono;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/*
+ * Builds the web-app dashboard in one request. The series, genre and author sections are loaded
+ * in parallel, and inside each one the catalog lookup starts as soon as the user's rows are in,
+ * so the page waits for the slowest library-then-catalog chain instead of six calls in a row.
+ *
+ * A section that fails is returned empty, or without catalog data, and named in "unavailable",
+ * so one slow service degrades part of the page rather than all of it. Only a 401/403 from a
+ * service fails the whole request, since it applies to every section alike.
+ */
+@Slf4j
+public class DashboardService {
+    private static final Section SERIES = new Section("series",
+            "/v1/user_series/user", "/v1/series/series_ids", "catalogSeriesId");
+    private static final Section GENRES = new Section("genres",
+            "/v1/user_genre_preferences/all/user", "/v1/genres/genre_ids", "catalogGenreId");
+    private static final Section AUTHORS = new Section("authors",
+            "/v1/user_author_preferences/all/user", "/v1/authors/author_ids", "catalogAuthorId");
+
+    private final DashboardClient dashboardClient;
+
+    public DashboardService(DashboardClient dashboardClient) {
+        this.dashboardClient = dashboardClient;
+    }
+
+    public Mono<DashboardDTO> getDashboard(Integer userId, HttpHeaders credentials) {
+        return Mono.zip(load(SERIES, userId, credentials), load(GENRES, userId, credentials), load(AUTHORS, userId, credentials))
+                .map(sections -> {
+                    List<String> unavailable = new ArrayList<>();
+                    for (SectionResult result : List.of(sections.getT1(), sections.getT2(), sections.getT3())) {
+                        if (!result.complete()) {
+                            unavailable.add(result.name());
+                        }
+                    }
+
+                    return DashboardDTO.builder()
+                            .userId(userId)
+                            .series(sections.getT1().entries())
+                            .genres(sections.getT2().entries())
+                            .authors(sections.getT3().entries())
+                            .unavailable(unavailable)
+                            .build();
+                });
+    }
+
+    private Mono<SectionResult> load(Section section, Integer userId, HttpHeaders credentials) {
+        return dashboardClient.userLibraryRows(section.libraryPath(), userId, credentials)
+                .flatMap(rows -> {
+                    Set<Integer> ids = new LinkedHashSet<>();
+                    for (JsonNode row : rows) {
+                        if (row.hasNonNull(section.idField())) {
+                            ids.add(row.get(section.idField()).asInt());
+                        }
+                    }
+
+                    return dashboardClient.catalogByIds(section.catalogPath(), new ArrayList<>(ids), credentials)
+                            .map(catalog -> join(section, rows, catalog, true))
+                            .onErrorResume(e -> !DashboardClient.isAuthFailure(e), e -> {
+                                log.warn("Catalog lookup for dashboard {} failed: {}", section.name(), e.getMessage());
+                                return Mono.just(join(section, rows, Map.of(), false));
+                            });
+                })
+                .onErrorResume(e -> !DashboardClient.isAuthFailure(e), e -> {
+                    log.warn("Loading dashboard {} for user {} failed: {}", section.name(), userId, e.getMessage());
+                    return Mono.just(new SectionResult(section.name(), List.of(), false));
+                });
+    }
+
+    private static SectionResult join(Section section, List<JsonNode> rows, Map<Integer, JsonNode> catalog, boolean complete) {
+        List<DashboardEntryDTO> entries = new ArrayList<>(rows.size());
+        for (JsonNode row : rows) {
+            JsonNode catalogId = row.get(section.idField());
+            entries.add(DashboardEntryDTO.builder()
+                    .library(row)
+                    .catalog(catalogId == null || catalogId.isNull() ? null : catalog.get(catalogId.asInt()))
+                    .build());
+        }
+
+        return new SectionResult(section.name(), entries, complete);
+    }
+
+    private record Section(String name, String libraryPath, String catalogPath, String idField) {
+    }
+
+    private record SectionResult(String name, List<DashboardEntryDTO> entries, boolean complete) {
+    }
+}
@@ -0,0 +1,13 @@
+package com.biblioteca.apigateway.cache;
+
+/*
+ * Who may share a cached response. The gateway verifies the JWT before the cache is consulted,
+ * so TOKEN keys entries by the verified subject (or the verified token when it has no subject):
+ * a caller only ever gets back a response the downstream service produced for the same user,
+ * and invalid tokens are rejected before they reach the cache. PUBLIC shares one entry between
+ * all callers and must only be used for routes the downstream serves without auth.
+ */
+public enum CacheScope {
+    TOKEN,
+    PUBLIC,
+}
@@ -0,0 +1,19 @@
+package com.biblioteca.apigateway.cache;
+
+/*
+ * A stored 200 response: the body as one byte array plus the only headers replayed on a hit.
+ * The generation is the route's invalidation counter when the request started, so a response
+ * fetched before an invalidation is never stored after it.
+ */
+public record CachedResponse(String routeId, long generation, String contentType, String etag, byte[] body,
+                             long storedAtMillis, long expiresAtMillis) {
+
+    public boolean isExpired(long nowMillis) {
+        return nowMillis >= expiresAtMillis;
+    }
+
+    /* Approximate footprint used for the size bound: body plus key and header strings. */
+    public long weight(String key) {
+        return body.length + 2L * (key.length() + etag.length() + (contentType != null ? contentType.length() : 0)) + 64;
+    }
+}
@@ -0,0 +1,247 @@
+package com.biblioteca.apigateway.cache;
+
+import com.biblioteca.apigateway.security.JwtVerificationFilter;
+import org.reactivestreams.Publisher;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.filter.GlobalFilter;
+import org.springframework.cloud.gateway.filter.NettyWriteResponseFilter;
+import org.springframework.core.Ordered;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.http.server.reactive.ServerHttpResponseDecorator;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+/*
+ * Caches 200 responses of the configured GET routes. The key is route, path, query (parameters
+ * sorted by name) and the caller's scope, see CacheScope. Every cacheable response gets a
+ * strong ETag derived from its body, and a matching If-None-Match is answered with 304 both
+ * on hits and on misses, so unchanged pages cost the client no body at all.
+ *
+ * Requests sending Cache-Control: no-cache skip the lookup but refresh the entry; no-store on
+ * either side bypasses the cache. Responses setting cookies are never stored.
+ */
+public class ResponseCacheFilter implements GlobalFilter, Ordered {
+    public static final String CACHE_HEADER = "X-Cache";
+    private static final String ANONYMOUS_SCOPE = "anonymous";
+    private static final String PUBLIC_SCOPE = "public";
+    private static final String SUBJECT_SCOPE_PREFIX = "sub:";
+
+    private final ResponseCacheRoutes routes;
+    private final ResponseCacheStore store;
+    private final ResponseCacheMetrics metrics;
+    private final long maxEntryBytes;
+
+    public ResponseCacheFilter(ResponseCacheRoutes routes, ResponseCacheStore store, ResponseCacheMetrics metrics, long maxEntryBytes) {
+        this.routes = routes;
+        this.store = store;
+        this.metrics = metrics;
+        this.maxEntryBytes = maxEntryBytes;
+    }
+
+    /* Must wrap the response before NettyWriteResponseFilter writes the proxied body to it. */
+    @Override
+    public int getOrder() {
+        return NettyWriteResponseFilter.WRITE_RESPONSE_FILTER_ORDER - 1;
+    }
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, GatewayFilterChain chain) {
+        ServerHttpRequest request = exchange.getRequest();
+        if (request.getMethod() != HttpMethod.GET) {
+            return chain.filter(exchange);
+        }
+
+        ResponseCacheRoutes.CacheRoute route = routes.match(request.getPath().pathWithinApplication());
+        if (route == null) {
+            return chain.filter(exchange);
+        }
+
+        String requestCacheControl = request.getHeaders().getCacheControl();
+        if (hasDirective(requestCacheControl, "no-store")) {
+            metrics.request(route.id(), ResponseCacheMetrics.BYPASS);
+            return chain.filter(exchange);
+        }
+
+        String key = key(route, exchange);
+        long now = System.currentTimeMillis();
+        if (!hasDirective(requestCacheControl, "no-cache")) {
+            CachedResponse cached = store.get(key, now);
+            if (cached != null) {
+                return writeCached(exchange, route, cached, now);
+            }
+        }
+
+        metrics.request(route.id(), ResponseCacheMetrics.MISS);
+        CachingResponse response = new CachingResponse(exchange, route, key, store.generation(route.id()));
+        return chain.filter(exchange.mutate().response(response).build());
+    }
+
+    private Mono<Void> writeCached(ServerWebExchange exchange, ResponseCacheRoutes.CacheRoute route, CachedResponse cached, long now) {
+        ServerHttpResponse response = exchange.getResponse();
+        HttpHeaders headers = response.getHeaders();
+        headers.setETag(cached.etag());
+        headers.set(CACHE_HEADER, "HIT");
+        headers.set(HttpHeaders.AGE, String.valueOf((now - cached.storedAtMillis()) / 1000));
+
+        if (matches(exchange.getRequest().getHeaders().getIfNoneMatch(), cached.etag())) {
+            metrics.request(route.id(), ResponseCacheMetrics.NOT_MODIFIED);
+            response.setStatusCode(HttpStatus.NOT_MODIFIED);
+            return response.setComplete();
+        }
+
+        metrics.request(route.id(), ResponseCacheMetrics.HIT);
+        response.setStatusCode(HttpStatus.OK);
+        if (cached.contentType() != null) {
+            headers.set(HttpHeaders.CONTENT_TYPE, cached.contentType());
+        }
+        headers.setContentLength(cached.body().length);
+        return response.writeWith(Mono.just(response.bufferFactory().wrap(cached.body())));
+    }
+
+    private static String key(ResponseCacheRoutes.CacheRoute route, ServerWebExchange exchange) {
+        ServerHttpRequest request = exchange.getRequest();
+        StringBuilder key = new StringBuilder(route.id()).append(' ')
+                .append(scope(route, exchange)).append(' ')
+                .append(request.getPath().pathWithinApplication().value());
+
+        String query = request.getURI().getRawQuery();
+        if (query != null && !query.isEmpty()) {
+            /* Stable sort on the name only: repeated parameters keep their relative order. */
+            List<String> parameters = new ArrayList<>(List.of(query.split("&")));
+            parameters.sort(Comparator.comparing(parameter -> {
+                int separator = parameter.indexOf('=');
+                return separator < 0 ? parameter : parameter.substring(0, separator);
+            }));
+            key.append('?').append(String.join("&", parameters));
+        }
+
+        return key.toString();
+    }
+
+    private static String scope(ResponseCacheRoutes.CacheRoute route, ServerWebExchange exchange) {
+        if (route.scope() == CacheScope.PUBLIC) {
+            return PUBLIC_SCOPE;
+        }
+
+        String subject = exchange.getAttribute(JwtVerificationFilter.VERIFIED_SUBJECT_ATTRIBUTE);
+        if (subject != null) {
+            return SUBJECT_SCOPE_PREFIX + hash(subject.getBytes(StandardCharsets.UTF_8));
+        }
+        String authorization = exchange.getRequest().getHeaders().getFirst(HttpHeaders.AUTHORIZATION);
+        return authorization != null ? hash(authorization.getBytes(StandardCharsets.UTF_8)) : ANONYMOUS_SCOPE;
+    }
+
+    private static String hash(byte[] bytes) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(bytes);
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    private static String etag(byte[] body) {
+        return "\"" + hash(body).substring(0, 22) + "\"";
+    }
+
+    private static boolean matches(List<String> ifNoneMatch, String etag) {
+        for (String candidate : ifNoneMatch) {
+            if (candidate.equals("*") || candidate.equals(etag) || candidate.equals("W/" + etag)) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    private static boolean hasDirective(String cacheControl, String directive) {
+        return cacheControl != null && cacheControl.toLowerCase().contains(directive);
+    }
+
+    /*
+     * Buffers a 200 body once, tags it with an ETag and stores it before passing it on. A body
+     * without Content-Length is buffered only up to maxEntryBytes; past that the buffered part
+     * and the rest are streamed through untouched.
+     */
+    private class CachingResponse extends ServerHttpResponseDecorator {
+        private final ServerWebExchange exchange;
+        private final ResponseCacheRoutes.CacheRoute route;
+        private final String key;
+        private final long generation;
+
+        CachingResponse(ServerWebExchange exchange, ResponseCacheRoutes.CacheRoute route, String key, long generation) {
+            super(exchange.getResponse());
+            this.exchange = exchange;
+            this.route = route;
+            this.key = key;
+            this.generation = generation;
+        }
+
+        @Override
+        public Mono<Void> writeWith(Publisher<? extends DataBuffer> body) {
+            HttpHeaders headers = getHeaders();
+            if (!HttpStatus.OK.equals(getStatusCode())
+                    || hasDirective(headers.getCacheControl(), "no-store")
+                    || headers.containsKey(HttpHeaders.SET_COOKIE)
+                    || headers.getContentLength() > maxEntryBytes) {
+                return super.writeWith(body);
+            }
+
+            /* The first chunk holds the whole body if it fits, else the buffers up to the one crossing the cap. */
+            AtomicLong size = new AtomicLong();
+            return Flux.<DataBuffer>from(body)
+                    .bufferUntil(buffer -> size.addAndGet(buffer.readableByteCount()) > maxEntryBytes)
+                    .switchOnFirst((first, chunks) -> {
+                        Flux<DataBuffer> buffers = chunks.concatMapIterable(Function.identity());
+                        return size.get() > maxEntryBytes
+                                ? getDelegate().writeWith(buffers)
+                                : buffers.collectList().flatMap(this::writeAndStore);
+                    })
+                    .then();
+        }
+
+        private Mono<Void> writeAndStore(List<DataBuffer> buffers) {
+            byte[] bytes = new byte[0];
+            if (!buffers.isEmpty()) {
+                DataBuffer joined = bufferFactory().join(buffers);
+                bytes = new byte[joined.readableByteCount()];
+                joined.read(bytes);
+                DataBufferUtils.release(joined);
+            }
+
+            HttpHeaders headers = getHeaders();
+            String etag = etag(bytes);
+            headers.setETag(etag);
+            headers.set(CACHE_HEADER, "MISS");
+            long now = System.currentTimeMillis();
+            store.put(key, new CachedResponse(route.id(), generation,
+                    headers.getFirst(HttpHeaders.CONTENT_TYPE), etag, bytes, now, now + route.ttlMillis()));
+
+            if (matches(exchange.getRequest().getHeaders().getIfNoneMatch(), etag)) {
+                setStatusCode(HttpStatus.NOT_MODIFIED);
+                headers.remove(HttpHeaders.CONTENT_LENGTH);
+                headers.remove(HttpHeaders.TRANSFER_ENCODING);
+                return getDelegate().setComplete();
+            }
+
+            return getDelegate().writeWith(Mono.just(bufferFactory().wrap(bytes)));
+        }
+    }
+}
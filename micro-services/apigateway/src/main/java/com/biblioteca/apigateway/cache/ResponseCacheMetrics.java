@@ -0,0 +1,50 @@
+package com.biblioteca.apigateway.cache;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/*
+ * Response cache metrics:
+ *   gateway.cache.requests      - cacheable GETs per route and result (hit, not_modified, miss, bypass)
+ *   gateway.cache.evictions     - entries dropped to stay under the size bound
+ *   gateway.cache.invalidations - entries dropped by invalidation requests, per route
+ *   gateway.cache.entries       - entries currently stored
+ *   gateway.cache.size          - bytes currently stored
+ * The hit ratio is hit + not_modified over all requests of a route.
+ */
+public class ResponseCacheMetrics {
+    public static final String HIT = "hit";
+    public static final String NOT_MODIFIED = "not_modified";
+    public static final String MISS = "miss";
+    public static final String BYPASS = "bypass";
+
+    private final MeterRegistry meterRegistry;
+
+    public ResponseCacheMetrics(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    void bindStore(ResponseCacheStore store) {
+        Gauge.builder("gateway.cache.entries", store, ResponseCacheStore::size)
+                .description("Responses held by the gateway cache")
+                .register(meterRegistry);
+        Gauge.builder("gateway.cache.size", store, ResponseCacheStore::bytes)
+                .description("Bytes held by the gateway cache")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+    }
+
+    public void request(String routeId, String result) {
+        Counter.builder("gateway.cache.requests").tag("route", routeId).tag("result", result)
+                .register(meterRegistry).increment();
+    }
+
+    public void evicted() {
+        Counter.builder("gateway.cache.evictions").register(meterRegistry).increment();
+    }
+
+    public void invalidated(String routeId, int count) {
+        Counter.builder("gateway.cache.invalidations").tag("route", routeId).register(meterRegistry).increment(count);
+    }
+}
@@ -0,0 +1,43 @@
+package com.biblioteca.apigateway.cache;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "gateway.cache")
+public class ResponseCacheProperties {
+    private boolean enabled = true;
+
+    /* Total size of the cached bodies; least recently used entries are evicted beyond it. */
+    private DataSize maxSize = DataSize.ofMegabytes(64);
+
+    /* Larger responses are passed through without being stored. */
+    private DataSize maxEntrySize = DataSize.ofMegabytes(1);
+
+    /* Checked in order; the first route whose path matches decides TTL, scope and tags. */
+    private List<Route> routes = new ArrayList<>();
+
+    @Getter
+    @Setter
+    public static class Route {
+        private String id;
+
+        /* Spring PathPattern, e.g. /catalogservice/v1/genres/** */
+        private String path;
+
+        private Duration ttl = Duration.ofMinutes(5);
+
+        private CacheScope scope = CacheScope.TOKEN;
+
+        /* Aggregate types whose changes invalidate this route, e.g. GENRE or BOOK. */
+        private Set<String> tags = Set.of();
+    }
+}
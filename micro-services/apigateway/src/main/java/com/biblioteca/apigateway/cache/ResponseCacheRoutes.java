@@ -0,0 +1,57 @@
+package com.biblioteca.apigateway.cache;
+
+import org.springframework.http.server.PathContainer;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/*
+ * The configured cache routes with their path patterns parsed once. Routes are matched in
+ * declaration order, so more specific patterns must come before broader ones.
+ */
+public class ResponseCacheRoutes {
+    private final List<CacheRoute> routes = new ArrayList<>();
+
+    public ResponseCacheRoutes(List<ResponseCacheProperties.Route> routes) {
+        Set<String> ids = new HashSet<>();
+        for (ResponseCacheProperties.Route route : routes) {
+            if (route.getId() == null || route.getPath() == null) {
+                throw new IllegalStateException("Every gateway cache route needs an id and a path");
+            }
+            if (!ids.add(route.getId())) {
+                throw new IllegalStateException("Duplicate gateway cache route id " + route.getId());
+            }
+            this.routes.add(new CacheRoute(route.getId(), PathPatternParser.defaultInstance.parse(route.getPath()),
+                    route.getTtl().toMillis(), route.getScope(), Set.copyOf(route.getTags())));
+        }
+    }
+
+    public CacheRoute match(PathContainer path) {
+        for (CacheRoute route : routes) {
+            if (route.pattern().matches(path)) {
+                return route;
+            }
+        }
+
+        return null;
+    }
+
+    /* Ids of the routes carrying any of the tags; tags are compared case-insensitively. */
+    public List<String> findRouteIds(Collection<String> tags) {
+        Set<String> normalised = new HashSet<>();
+        tags.forEach(tag -> normalised.add(tag.toUpperCase()));
+
+        return routes.stream()
+                .filter(route -> route.tags().stream().anyMatch(tag -> normalised.contains(tag.toUpperCase())))
+                .map(CacheRoute::id)
+                .toList();
+    }
+
+    public record CacheRoute(String id, PathPattern pattern, long ttlMillis, CacheScope scope, Set<String> tags) {
+    }
+}
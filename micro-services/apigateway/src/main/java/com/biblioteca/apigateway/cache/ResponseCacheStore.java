@@ -0,0 +1,111 @@
+package com.biblioteca.apigateway.cache;
+
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/*
+ * Size-bounded LRU of cached responses. Bodies are plain byte arrays and the bound is on their
+ * total weight, not on the entry count, so a few large pages cannot push the heap past the
+ * configured size. Every operation is a short critical section on the map; bodies are never
+ * copied or serialised while the lock is held.
+ *
+ * Invalidation bumps a per-route generation before dropping the route's entries. Responses
+ * still in flight carry the old generation and are rejected by put, so a read that raced
+ * with a write cannot repopulate the cache with the pre-write state.
+ */
+public class ResponseCacheStore {
+    private final long maxBytes;
+    private final ResponseCacheMetrics metrics;
+    private final LinkedHashMap<String, CachedResponse> entries = new LinkedHashMap<>(256, 0.75f, true);
+    private final Map<String, AtomicLong> generations = new ConcurrentHashMap<>();
+    private long bytes;
+
+    public ResponseCacheStore(long maxBytes, ResponseCacheMetrics metrics) {
+        this.maxBytes = maxBytes;
+        this.metrics = metrics;
+        metrics.bindStore(this);
+    }
+
+    public long generation(String routeId) {
+        return generations.computeIfAbsent(routeId, id -> new AtomicLong()).get();
+    }
+
+    /* Returns the live entry for the key, dropping it if it has expired or been invalidated. */
+    public synchronized CachedResponse get(String key, long nowMillis) {
+        CachedResponse cached = entries.get(key);
+        if (cached == null) {
+            return null;
+        }
+
+        if (cached.isExpired(nowMillis) || cached.generation() != generation(cached.routeId())) {
+            remove(key);
+            return null;
+        }
+
+        return cached;
+    }
+
+    public synchronized boolean put(String key, CachedResponse response) {
+        long weight = response.weight(key);
+        if (weight > maxBytes || response.generation() != generation(response.routeId())) {
+            return false;
+        }
+
+        CachedResponse previous = entries.put(key, response);
+        if (previous != null) {
+            bytes -= previous.weight(key);
+        }
+        bytes += weight;
+
+        Iterator<Map.Entry<String, CachedResponse>> eldest = entries.entrySet().iterator();
+        while (bytes > maxBytes && eldest.hasNext()) {
+            Map.Entry<String, CachedResponse> entry = eldest.next();
+            bytes -= entry.getValue().weight(entry.getKey());
+            eldest.remove();
+            metrics.evicted();
+        }
+
+        return true;
+    }
+
+    /* Returns the number of entries dropped. */
+    public int invalidate(Collection<String> routeIds) {
+        for (String routeId : routeIds) {
+            generations.computeIfAbsent(routeId, id -> new AtomicLong()).incrementAndGet();
+        }
+
+        int removed = 0;
+        synchronized (this) {
+            Iterator<Map.Entry<String, CachedResponse>> iterator = entries.entrySet().iterator();
+            while (iterator.hasNext()) {
+                Map.Entry<String, CachedResponse> entry = iterator.next();
+                if (routeIds.contains(entry.getValue().routeId())) {
+                    bytes -= entry.getValue().weight(entry.getKey());
+                    iterator.remove();
+                    removed++;
+                }
+            }
+        }
+
+        return removed;
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    public synchronized long bytes() {
+        return bytes;
+    }
+
+    private void remove(String key) {
+        CachedResponse removed = entries.remove(key);
+        if (removed != null) {
+            bytes -= removed.weight(key);
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package com.biblioteca.apigateway.config;
+
+import com.biblioteca.apigateway.bff.BffProperties;
+import com.biblioteca.apigateway.bff.DashboardClient;
+import com.biblioteca.apigateway.bff.DashboardService;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.cloud.client.loadbalancer.reactive.ReactorLoadBalancerExchangeFilterFunction;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.reactive.function.client.WebClient;
+
+@Configuration
+@EnableConfigurationProperties(BffProperties.class)
+@ConditionalOnProperty(prefix = "gateway.bff", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class BffConfig {
+
+    @Bean
+    public DashboardClient dashboardClient(WebClient.Builder webClientBuilder,
+                                           ReactorLoadBalancerExchangeFilterFunction loadBalancerFunction,
+                                           BffProperties properties) {
+        WebClient webClient = webClientBuilder.clone().filter(loadBalancerFunction).build();
+        return new DashboardClient(webClient, properties);
+    }
+
+    @Bean
+    public DashboardService dashboardService(DashboardClient dashboardClient) {
+        return new DashboardService(dashboardClient);
+    }
+}
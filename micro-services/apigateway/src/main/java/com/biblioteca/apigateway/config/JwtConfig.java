@@ -0,0 +1,37 @@
+package com.biblioteca.apigateway.config;
+
+import com.biblioteca.apigateway.security.JwkSetCache;
+import com.biblioteca.apigateway.security.JwtProperties;
+import com.biblioteca.apigateway.security.JwtVerificationFilter;
+import com.biblioteca.apigateway.security.JwtVerifier;
+import com.biblioteca.apigateway.util.ErrorResponseWriter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.reactive.function.client.WebClient;
+
+@Configuration
+@EnableConfigurationProperties(JwtProperties.class)
+@ConditionalOnProperty(prefix = "gateway.jwt", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class JwtConfig {
+
+    @Bean
+    public JwkSetCache jwkSetCache(JwtProperties properties) {
+        return new JwkSetCache(WebClient.builder(), properties.getJwkSetUri(), properties.getRefreshInterval(),
+                properties.getMinRefreshInterval(), properties.getTimeout());
+    }
+
+    @Bean
+    public JwtVerifier jwtVerifier(JwkSetCache jwkSetCache, JwtProperties properties) {
+        return new JwtVerifier(jwkSetCache, properties);
+    }
+
+    @Bean
+    public JwtVerificationFilter jwtVerificationFilter(JwtVerifier jwtVerifier,
+                                                       ErrorResponseWriter errorResponseWriter,
+                                                       MeterRegistry meterRegistry) {
+        return new JwtVerificationFilter(jwtVerifier, errorResponseWriter, meterRegistry);
+    }
+}
@@ -0,0 +1,48 @@
+package com.biblioteca.apigateway.config;
+
+import com.biblioteca.apigateway.ratelimit.*;
+import com.biblioteca.apigateway.util.ErrorResponseWriter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.core.ReactiveStringRedisTemplate;
+
+@Configuration
+@EnableConfigurationProperties(RateLimitProperties.class)
+@ConditionalOnProperty(prefix = "gateway.rate-limit", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class RateLimitConfig {
+
+    @Bean(destroyMethod = "close")
+    @ConditionalOnProperty(prefix = "gateway.rate-limit", name = "backend", havingValue = "memory", matchIfMissing = true)
+    public InMemoryRateLimiter inMemoryRateLimiter(RateLimitProperties properties, MeterRegistry meterRegistry) {
+        InMemoryRateLimiter limiter = new InMemoryRateLimiter(properties.getMemory().getMaxBuckets(),
+                properties.getMemory().getSweepInterval());
+        Gauge.builder("gateway.rate_limit.buckets", limiter, InMemoryRateLimiter::size)
+                .description("Token buckets held in memory")
+                .register(meterRegistry);
+        return limiter;
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "gateway.rate-limit", name = "backend", havingValue = "redis")
+    public RedisRateLimiter redisRateLimiter(ReactiveStringRedisTemplate redisTemplate, RateLimitProperties properties) {
+        return new RedisRateLimiter(redisTemplate, properties.getRedis().getKeyPrefix());
+    }
+
+    @Bean
+    public RateLimitKeyResolver rateLimitKeyResolver() {
+        return new RateLimitKeyResolver();
+    }
+
+    @Bean
+    public RateLimitFilter rateLimitFilter(RateLimiterBackend rateLimiterBackend,
+                                           RateLimitKeyResolver rateLimitKeyResolver,
+                                           ErrorResponseWriter errorResponseWriter,
+                                           MeterRegistry meterRegistry,
+                                           RateLimitProperties properties) {
+        return new RateLimitFilter(rateLimiterBackend, rateLimitKeyResolver, errorResponseWriter, meterRegistry, properties);
+    }
+}
@@ -0,0 +1,40 @@
+package com.biblioteca.apigateway.config;
+
+import com.biblioteca.apigateway.resilience.ResilienceProperties;
+import com.biblioteca.apigateway.resilience.ResilientRoutingFilter;
+import com.biblioteca.apigateway.util.ErrorResponseWriter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.netty.channel.ChannelOption;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.cloud.client.discovery.ReactiveDiscoveryClient;
+import org.springframework.cloud.gateway.filter.headers.HttpHeadersFilter;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.netty.http.client.HttpClient;
+
+import java.util.List;
+
+@Configuration
+@EnableConfigurationProperties(ResilienceProperties.class)
+@ConditionalOnProperty(prefix = "gateway.resilience", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class ResilienceConfig {
+
+    @Bean
+    public ResilientRoutingFilter resilientRoutingFilter(ReactiveDiscoveryClient discoveryClient,
+                                                         ObjectProvider<List<HttpHeadersFilter>> headersFilters,
+                                                         ErrorResponseWriter errorResponseWriter,
+                                                         MeterRegistry meterRegistry,
+                                                         ResilienceProperties properties) {
+        HttpClient httpClient = HttpClient.create()
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, (int) properties.getConnectTimeout().toMillis());
+        WebClient webClient = WebClient.builder()
+                .clientConnector(new ReactorClientHttpConnector(httpClient))
+                .build();
+
+        return new ResilientRoutingFilter(discoveryClient, headersFilters, errorResponseWriter, meterRegistry, webClient, properties);
+    }
+}
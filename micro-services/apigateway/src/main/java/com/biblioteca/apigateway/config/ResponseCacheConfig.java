@@ -0,0 +1,42 @@
+package com.biblioteca.apigateway.config;
+
+import com.biblioteca.apigateway.cache.ResponseCacheFilter;
+import com.biblioteca.apigateway.cache.ResponseCacheMetrics;
+import com.biblioteca.apigateway.cache.ResponseCacheProperties;
+import com.biblioteca.apigateway.cache.ResponseCacheRoutes;
+import com.biblioteca.apigateway.cache.ResponseCacheStore;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@EnableConfigurationProperties(ResponseCacheProperties.class)
+@ConditionalOnProperty(prefix = "gateway.cache", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class ResponseCacheConfig {
+
+    @Bean
+    public ResponseCacheRoutes responseCacheRoutes(ResponseCacheProperties properties) {
+        return new ResponseCacheRoutes(properties.getRoutes());
+    }
+
+    @Bean
+    public ResponseCacheMetrics responseCacheMetrics(MeterRegistry meterRegistry) {
+        return new ResponseCacheMetrics(meterRegistry);
+    }
+
+    @Bean
+    public ResponseCacheStore responseCacheStore(ResponseCacheProperties properties, ResponseCacheMetrics responseCacheMetrics) {
+        return new ResponseCacheStore(properties.getMaxSize().toBytes(), responseCacheMetrics);
+    }
+
+    @Bean
+    public ResponseCacheFilter responseCacheFilter(ResponseCacheRoutes responseCacheRoutes,
+                                                   ResponseCacheStore responseCacheStore,
+                                                   ResponseCacheMetrics responseCacheMetrics,
+                                                   ResponseCacheProperties properties) {
+        return new ResponseCacheFilter(responseCacheRoutes, responseCacheStore, responseCacheMetrics,
+                properties.getMaxEntrySize().toBytes());
+    }
+}
@@ -0,0 +1,113 @@
+package com.biblioteca.apigateway.controller;
+
+import com.biblioteca.apigateway.bff.DashboardClient;
+import com.biblioteca.apigateway.bff.DashboardService;
+import com.biblioteca.apigateway.dto.ResponseDTO;
+import com.biblioteca.apigateway.ratelimit.RateLimitDecision;
+import com.biblioteca.apigateway.ratelimit.RateLimitFilter;
+import com.biblioteca.apigateway.security.JwtVerificationFilter;
+import com.biblioteca.apigateway.security.JwtVerifier;
+import com.biblioteca.gatewayclaims.GatewayClaimsJwtDecoder;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+
+import java.util.Optional;
+import java.util.function.Supplier;
+
+/*
+ * Backend-for-frontend endpoints served by the gateway itself. They are not gateway routes, so
+ * the global filters do not run: the bearer token is verified here, and the signed claims are
+ * forwarded with it exactly as JwtVerificationFilter would for a routed request. Each request
+ * is charged to the same token buckets as RateLimitFilter, by verified subject when there is
+ * one, since one dashboard fans out to several services.
+ */
+@RestController
+@RequestMapping("/gateway/dashboard")
+@RequiredArgsConstructor
+@Slf4j
+@ConditionalOnProperty(prefix = "gateway.bff", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class DashboardController {
+    private static final String BEARER_PREFIX = "Bearer ";
+
+    private final DashboardService dashboardService;
+    private final ObjectProvider<JwtVerifier> jwtVerifier;
+    private final ObjectProvider<RateLimitFilter> rateLimitFilter;
+
+    @GetMapping("/users/{userId}")
+    public Mono<ResponseEntity<ResponseDTO<?>>> getDashboard(@PathVariable Integer userId,
+                                                             @RequestHeader(value = HttpHeaders.AUTHORIZATION, required = false) String authorization,
+                                                             ServerWebExchange exchange) {
+        if (authorization == null || !authorization.regionMatches(true, 0, BEARER_PREFIX, 0, BEARER_PREFIX.length())) {
+            return rateLimited(exchange, () -> Mono.just(error(HttpStatus.UNAUTHORIZED, "Access token is missing")));
+        }
+
+        return credentials(exchange, authorization)
+                .flatMap(credentials -> rateLimited(exchange, () -> credentials.isEmpty()
+                        ? Mono.just(error(HttpStatus.UNAUTHORIZED, "Invalid or expired access token"))
+                        : dashboardService.getDashboard(userId, credentials.get())
+                        .<ResponseEntity<ResponseDTO<?>>>map(dashboard ->
+                                ResponseEntity.ok(new ResponseDTO<>(dashboard, "success", HttpStatus.OK.value())))
+                        .onErrorResume(DashboardClient::isAuthFailure, e ->
+                                Mono.just(error(((WebClientResponseException) e).getStatusCode(), "Not allowed to read this dashboard")))));
+    }
+
+    private Mono<ResponseEntity<ResponseDTO<?>>> rateLimited(ServerWebExchange exchange,
+                                                             Supplier<Mono<ResponseEntity<ResponseDTO<?>>>> handler) {
+        RateLimitFilter limiter = rateLimitFilter.getIfAvailable();
+        if (limiter == null) {
+            return handler.get();
+        }
+
+        return limiter.charge(exchange).flatMap(decision -> {
+            if (!decision.allowed()) {
+                return Mono.just(tooManyRequests(decision));
+            }
+            exchange.getResponse().getHeaders().set(RateLimitFilter.REMAINING_HEADER, String.valueOf(decision.remaining()));
+            return handler.get();
+        });
+    }
+
+    private Mono<Optional<HttpHeaders>> credentials(ServerWebExchange exchange, String authorization) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.set(HttpHeaders.AUTHORIZATION, authorization);
+
+        JwtVerifier verifier = jwtVerifier.getIfAvailable();
+        if (verifier == null) {
+            return Mono.just(Optional.of(headers));
+        }
+
+        return verifier.verify(authorization.substring(BEARER_PREFIX.length()).trim())
+                .map(verified -> {
+                    if (verified.subject() != null) {
+                        exchange.getAttributes().put(JwtVerificationFilter.VERIFIED_SUBJECT_ATTRIBUTE, verified.subject());
+                    }
+                    headers.set(GatewayClaimsJwtDecoder.CLAIMS_HEADER, verified.claimsHeader());
+                    return Optional.of(headers);
+                })
+                .defaultIfEmpty(Optional.empty());
+    }
+
+    private static ResponseEntity<ResponseDTO<?>> tooManyRequests(RateLimitDecision decision) {
+        long retryAfterSeconds = decision.retryAfterSeconds();
+        return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds))
+                .header(RateLimitFilter.REMAINING_HEADER, "0")
+                .body(new ResponseDTO<>(HttpStatus.TOO_MANY_REQUESTS.getReasonPhrase(),
+                        "Too many requests, retry in " + retryAfterSeconds + " seconds", HttpStatus.TOO_MANY_REQUESTS.value()));
+    }
+
+    private static ResponseEntity<ResponseDTO<?>> error(HttpStatusCode status, String message) {
+        HttpStatus httpStatus = HttpStatus.valueOf(status.value());
+        return ResponseEntity.status(status).body(new ResponseDTO<>(httpStatus.getReasonPhrase(), message, status.value()));
+    }
+}
@@ -0,0 +1,70 @@
+package com.biblioteca.apigateway.controller;
+
+import com.biblioteca.apigateway.cache.ResponseCacheMetrics;
+import com.biblioteca.apigateway.cache.ResponseCacheRoutes;
+import com.biblioteca.apigateway.cache.ResponseCacheStore;
+import com.biblioteca.apigateway.dto.CacheInvalidationDTO;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.List;
+
+/*
+ * Invalidation hook for the services behind the cached routes. Callers post the aggregate
+ * types they changed; every route tagged with one of them is dropped. catalogservice calls
+ * this from its outbox after each committed write, on every gateway instance, sending the
+ * shared gateway.cache.invalidation-token; startup fails when no token is configured.
+ */
+@RestController
+@RequestMapping("/gateway/cache")
+@Slf4j
+@ConditionalOnProperty(prefix = "gateway.cache", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class ResponseCacheController {
+    public static final String TOKEN_HEADER = "X-Cache-Invalidation-Token";
+
+    private final ResponseCacheRoutes routes;
+    private final ResponseCacheStore store;
+    private final ResponseCacheMetrics metrics;
+    private final byte[] token;
+
+    public ResponseCacheController(ResponseCacheRoutes routes, ResponseCacheStore store, ResponseCacheMetrics metrics,
+                                   @Value("${gateway.cache.invalidation-token}") String token) {
+        if (token == null || token.isBlank()) {
+            throw new IllegalStateException("gateway.cache.invalidation-token must be set");
+        }
+        this.routes = routes;
+        this.store = store;
+        this.metrics = metrics;
+        this.token = token.getBytes(StandardCharsets.UTF_8);
+    }
+
+    @PostMapping("/invalidations")
+    public ResponseEntity<Void> invalidate(@RequestHeader(value = TOKEN_HEADER, required = false) String token,
+                                           @RequestBody CacheInvalidationDTO cacheInvalidationDTO) {
+        if (!authorised(token)) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
+        }
+
+        if (cacheInvalidationDTO.getTags() == null || cacheInvalidationDTO.getTags().isEmpty()) {
+            return ResponseEntity.noContent().build();
+        }
+
+        List<String> routeIds = routes.findRouteIds(cacheInvalidationDTO.getTags());
+        for (String routeId : routeIds) {
+            metrics.invalidated(routeId, store.invalidate(List.of(routeId)));
+        }
+        log.debug("Gateway cache invalidated routes {} for tags {}", routeIds, cacheInvalidationDTO.getTags());
+
+        return ResponseEntity.noContent().build();
+    }
+
+    private boolean authorised(String token) {
+        return token != null && MessageDigest.isEqual(this.token, token.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,16 @@
+package com.biblioteca.apigateway.dto;
+
+import lombok.*;
+
+import java.util.Set;
+
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+@ToString
+public class CacheInvalidationDTO {
+    /* Aggregate types that changed, matched against the tags of the cache routes. */
+    private Set<String> tags;
+}
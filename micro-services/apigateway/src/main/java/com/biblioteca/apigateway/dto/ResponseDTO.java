@@ -0,0 +1,15 @@
+package com.biblioteca.apigateway.dto;
+
+import lombok.*;
+
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+@ToString
+public class ResponseDTO <T>{
+    private T data;
+    private String message;
+    private int code;
+}
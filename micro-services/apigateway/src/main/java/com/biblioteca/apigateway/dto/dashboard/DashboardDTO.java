@@ -0,0 +1,24 @@
+package com.biblioteca.apigateway.dto.dashboard;
+
+import lombok.*;
+
+import java.util.List;
+
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+@ToString
+public class DashboardDTO {
+    private Integer userId;
+
+    private List<DashboardEntryDTO> series;
+
+    private List<DashboardEntryDTO> genres;
+
+    private List<DashboardEntryDTO> authors;
+
+    /* Sections that could not be loaded completely and may be missing entries or catalog data. */
+    private List<String> unavailable;
+}
@@ -0,0 +1,18 @@
+package com.biblioteca.apigateway.dto.dashboard;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import lombok.*;
+
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+@ToString
+public class DashboardEntryDTO {
+    /* The user's row from userlibraryservice, as returned by it. */
+    private JsonNode library;
+
+    /* The catalog entity it refers to; null if catalogservice did not return it. */
+    private JsonNode catalog;
+}
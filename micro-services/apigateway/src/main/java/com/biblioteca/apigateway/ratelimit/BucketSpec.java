@@ -0,0 +1,15 @@
+package com.biblioteca.apigateway.ratelimit;
+
+public record BucketSpec(long capacity, double refillPerSecond) {
+
+    public BucketSpec {
+        if (capacity < 1 || refillPerSecond <= 0) {
+            throw new IllegalArgumentException("Rate limit buckets need a capacity of at least 1 and a positive refill rate");
+        }
+    }
+
+    /* Milliseconds until a bucket holding the given tokens has one whole token again. */
+    public long millisUntilToken(double tokens) {
+        return (long) Math.ceil(Math.max(0, 1 - tokens) * 1000 / refillPerSecond);
+    }
+}
@@ -0,0 +1,127 @@
+package com.biblioteca.apigateway.ratelimit;
+
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+/*
+ * Token buckets for a single gateway instance. Each bucket is an immutable state swapped with
+ * compare-and-set, so concurrent requests for the same caller never block each other and a
+ * rejected request does not write at all. Refill is computed lazily from the elapsed time.
+ *
+ * A bucket that has refilled completely is indistinguishable from a new one, so a background
+ * sweep drops those. maxBuckets bounds the table between sweeps: when a new caller finds it
+ * full, the least recently used buckets are evicted, a batch at a time. Those are the closest
+ * to full, so evicting them forgives the least, and new callers are never turned away.
+ */
+public class InMemoryRateLimiter implements RateLimiterBackend, AutoCloseable {
+    /* Share of maxBuckets evicted at once, so a stream of new callers does not sort the table per request. */
+    private static final int EVICTION_BATCH_DIVISOR = 16;
+
+    private final ConcurrentHashMap<String, AtomicReference<Bucket>> buckets = new ConcurrentHashMap<>();
+    private final int maxBuckets;
+    private final ScheduledExecutorService sweeper;
+
+    public InMemoryRateLimiter(int maxBuckets, Duration sweepInterval) {
+        this.maxBuckets = maxBuckets;
+        this.sweeper = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "rate-limit-sweeper");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long intervalMillis = sweepInterval.toMillis();
+        sweeper.scheduleWithFixedDelay(() -> sweep(System.nanoTime()), intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public Mono<RateLimitDecision> tryConsume(String key, BucketSpec spec) {
+        return Mono.fromSupplier(() -> consume(key, spec));
+    }
+
+    public RateLimitDecision consume(String key, BucketSpec spec) {
+        return consume(key, spec, System.nanoTime());
+    }
+
+    RateLimitDecision consume(String key, BucketSpec spec, long now) {
+        AtomicReference<Bucket> reference = buckets.get(key);
+        if (reference == null) {
+            if (buckets.size() >= maxBuckets) {
+                makeRoom(now);
+            }
+            AtomicReference<Bucket> created = new AtomicReference<>(Bucket.full(spec, now));
+            reference = buckets.putIfAbsent(key, created);
+            if (reference == null) {
+                reference = created;
+            }
+        }
+
+        while (true) {
+            Bucket current = reference.get();
+            double tokens = current.tokensAt(spec, now);
+            if (tokens < 1) {
+                return RateLimitDecision.rejected(spec.millisUntilToken(tokens));
+            }
+
+            Bucket next = Bucket.of(spec, tokens - 1, Math.max(now, current.updatedNanos()));
+            if (reference.compareAndSet(current, next)) {
+                return RateLimitDecision.allowed((long) next.tokens());
+            }
+        }
+    }
+
+    public int size() {
+        return buckets.size();
+    }
+
+    void sweep(long now) {
+        buckets.values().removeIf(reference -> now - reference.get().fullAtNanos() >= 0);
+    }
+
+    /* Sweeps, then evicts the least recently used buckets if the table is still full. */
+    private synchronized void makeRoom(long now) {
+        if (buckets.size() < maxBuckets) {
+            return;
+        }
+
+        sweep(now);
+        int excess = buckets.size() - maxBuckets + Math.max(1, maxBuckets / EVICTION_BATCH_DIVISOR);
+        if (excess <= 0) {
+            return;
+        }
+
+        buckets.entrySet().stream()
+                .sorted(Comparator.comparingLong(entry -> entry.getValue().get().updatedNanos() - now))
+                .limit(excess)
+                .toList()
+                .forEach(entry -> buckets.remove(entry.getKey(), entry.getValue()));
+    }
+
+    @Override
+    public void close() {
+        sweeper.shutdownNow();
+    }
+
+    /* fullAtNanos is when the bucket will be full again if nothing else is taken. */
+    private record Bucket(double tokens, long updatedNanos, long fullAtNanos) {
+
+        static Bucket full(BucketSpec spec, long now) {
+            return new Bucket(spec.capacity(), now, now);
+        }
+
+        static Bucket of(BucketSpec spec, double tokens, long now) {
+            long untilFull = (long) ((spec.capacity() - tokens) * 1_000_000_000L / spec.refillPerSecond());
+            return new Bucket(tokens, now, now + untilFull);
+        }
+
+        double tokensAt(BucketSpec spec, long now) {
+            long elapsed = Math.max(0, now - updatedNanos);
+            return Math.min(spec.capacity(), tokens + elapsed * spec.refillPerSecond() / 1_000_000_000L);
+        }
+    }
+}
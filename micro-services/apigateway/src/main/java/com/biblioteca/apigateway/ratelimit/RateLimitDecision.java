@@ -0,0 +1,17 @@
+package com.biblioteca.apigateway.ratelimit;
+
+public record RateLimitDecision(boolean allowed, long remaining, long retryAfterMillis) {
+
+    public static RateLimitDecision allowed(long remaining) {
+        return new RateLimitDecision(true, remaining, 0);
+    }
+
+    public static RateLimitDecision rejected(long retryAfterMillis) {
+        return new RateLimitDecision(false, 0, retryAfterMillis);
+    }
+
+    /* Whole seconds for a Retry-After header, never less than one. */
+    public long retryAfterSeconds() {
+        return Math.max(1, (retryAfterMillis + 999) / 1000);
+    }
+}
@@ -0,0 +1,140 @@
+package com.biblioteca.apigateway.ratelimit;
+
+import com.biblioteca.apigateway.util.ErrorResponseWriter;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.filter.GlobalFilter;
+import org.springframework.core.Ordered;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.server.PathContainer;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+import reactor.core.publisher.Mono;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/*
+ * Charges every routed request to two token buckets: the caller's own bucket, then the bucket
+ * of the first configured route matching the path. A request is forwarded only if both have a
+ * token; otherwise it is answered with 429 and a Retry-After telling the client when the
+ * emptier bucket has a token again. The caller's bucket is checked first so that a client
+ * over its own limit does not also drain the route it is hammering.
+ *
+ * Runs after JwtVerificationFilter so callers are identified by their verified subject.
+ * The gateway's own endpoints are not routed, so global filters do not reach them; they call
+ * charge directly.
+ *
+ * If the backend fails the request is let through: an unavailable Redis must not take the
+ * whole API down with it. Failures are counted in gateway.rate_limit.errors.
+ */
+@Slf4j
+public class RateLimitFilter implements GlobalFilter, Ordered {
+    public static final int ORDER = -100;
+    public static final String REMAINING_HEADER = "X-RateLimit-Remaining";
+
+    private final RateLimiterBackend backend;
+    private final RateLimitKeyResolver keyResolver;
+    private final ErrorResponseWriter errorResponseWriter;
+    private final MeterRegistry meterRegistry;
+    private final BucketSpec userSpec;
+    private final List<RateLimitRoute> routes = new ArrayList<>();
+
+    public RateLimitFilter(RateLimiterBackend backend,
+                           RateLimitKeyResolver keyResolver,
+                           ErrorResponseWriter errorResponseWriter,
+                           MeterRegistry meterRegistry,
+                           RateLimitProperties properties) {
+        this.backend = backend;
+        this.keyResolver = keyResolver;
+        this.errorResponseWriter = errorResponseWriter;
+        this.meterRegistry = meterRegistry;
+        this.userSpec = properties.getUser().toSpec();
+
+        for (RateLimitProperties.Route route : properties.getRoutes()) {
+            if (route.getId() == null || route.getPath() == null) {
+                throw new IllegalStateException("Every rate limit route needs an id and a path");
+            }
+            routes.add(new RateLimitRoute(route.getId(), PathPatternParser.defaultInstance.parse(route.getPath()), route.toSpec()));
+        }
+    }
+
+    @Override
+    public int getOrder() {
+        return ORDER;
+    }
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, GatewayFilterChain chain) {
+        return charge(exchange).flatMap(decision -> decision.allowed()
+                ? forward(exchange, chain, decision.remaining())
+                : reject(exchange, decision));
+    }
+
+    /*
+     * Takes a token from the caller's bucket and then from the matching route's. Returns the
+     * first rejection, or an allowed decision with what is left in the emptier bucket.
+     */
+    public Mono<RateLimitDecision> charge(ServerWebExchange exchange) {
+        String caller = keyResolver.resolve(exchange);
+        RateLimitRoute route = match(exchange.getRequest().getPath().pathWithinApplication());
+
+        return consume("user:" + caller, userSpec, "user").flatMap(userDecision -> {
+            if (!userDecision.allowed() || route == null) {
+                return Mono.just(userDecision);
+            }
+
+            return consume("route:" + route.id(), route.spec(), "route").map(routeDecision -> routeDecision.allowed()
+                    ? RateLimitDecision.allowed(Math.min(userDecision.remaining(), routeDecision.remaining()))
+                    : routeDecision);
+        });
+    }
+
+    private Mono<RateLimitDecision> consume(String key, BucketSpec spec, String bucket) {
+        return backend.tryConsume(key, spec)
+                .defaultIfEmpty(RateLimitDecision.allowed(spec.capacity()))
+                .doOnNext(decision -> count(bucket, decision.allowed() ? "allowed" : "rejected"))
+                .onErrorResume(e -> {
+                    log.warn("Rate limit backend failed for {}, letting the request through: {}", key, e.getMessage());
+                    Counter.builder("gateway.rate_limit.errors").register(meterRegistry).increment();
+                    return Mono.just(RateLimitDecision.allowed(spec.capacity()));
+                });
+    }
+
+    private Mono<Void> forward(ServerWebExchange exchange, GatewayFilterChain chain, long remaining) {
+        exchange.getResponse().getHeaders().set(REMAINING_HEADER, String.valueOf(remaining));
+        return chain.filter(exchange);
+    }
+
+    private Mono<Void> reject(ServerWebExchange exchange, RateLimitDecision decision) {
+        long retryAfterSeconds = decision.retryAfterSeconds();
+        HttpHeaders headers = exchange.getResponse().getHeaders();
+        headers.set(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds));
+        headers.set(REMAINING_HEADER, "0");
+
+        return errorResponseWriter.write(exchange, HttpStatus.TOO_MANY_REQUESTS,
+                "Too many requests, retry in " + retryAfterSeconds + " seconds");
+    }
+
+    private RateLimitRoute match(PathContainer path) {
+        for (RateLimitRoute route : routes) {
+            if (route.pattern().matches(path)) {
+                return route;
+            }
+        }
+
+        return null;
+    }
+
+    private void count(String bucket, String result) {
+        Counter.builder("gateway.rate_limit.requests").tag("bucket", bucket).tag("result", result)
+                .register(meterRegistry).increment();
+    }
+
+    private record RateLimitRoute(String id, PathPattern pattern, BucketSpec spec) {
+    }
+}
@@ -0,0 +1,29 @@
+package com.biblioteca.apigateway.ratelimit;
+
+import com.biblioteca.apigateway.security.JwtVerificationFilter;
+import org.springframework.web.server.ServerWebExchange;
+
+import java.net.InetSocketAddress;
+
+/*
+ * Identifies the caller a request is charged to: "sub:<subject>" when JwtVerificationFilter
+ * has verified the bearer token and "ip:<address>" otherwise. Only verified subjects are used,
+ * so a forged token cannot spend another user's bucket.
+ */
+public class RateLimitKeyResolver {
+    private static final String UNKNOWN_ADDRESS = "unknown";
+
+    public String resolve(ServerWebExchange exchange) {
+        String subject = exchange.getAttribute(JwtVerificationFilter.VERIFIED_SUBJECT_ATTRIBUTE);
+        return subject != null ? "sub:" + subject : "ip:" + address(exchange);
+    }
+
+    private static String address(ServerWebExchange exchange) {
+        InetSocketAddress remoteAddress = exchange.getRequest().getRemoteAddress();
+        if (remoteAddress == null || remoteAddress.getAddress() == null) {
+            return UNKNOWN_ADDRESS;
+        }
+
+        return remoteAddress.getAddress().getHostAddress();
+    }
+}
@@ -0,0 +1,81 @@
+package com.biblioteca.apigateway.ratelimit;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "gateway.rate-limit")
+public class RateLimitProperties {
+    private boolean enabled = true;
+
+    /* MEMORY keeps buckets per gateway instance; REDIS shares them between instances. */
+    private Backend backend = Backend.MEMORY;
+
+    /* Bucket of every caller (JWT sub, or client address without a token), across all routes. */
+    private Bucket user = new Bucket(100, 20);
+
+    /* Bucket per route shared by all callers; caps what one downstream service receives. */
+    private List<Route> routes = new ArrayList<>();
+
+    private final Memory memory = new Memory();
+
+    private final Redis redis = new Redis();
+
+    public enum Backend {
+        MEMORY,
+        REDIS,
+    }
+
+    @Getter
+    @Setter
+    public static class Bucket {
+        /* Burst size: tokens available to an idle caller. */
+        private long capacity;
+
+        /* Sustained rate: tokens added per second. */
+        private double refillPerSecond;
+
+        public Bucket() {
+        }
+
+        public Bucket(long capacity, double refillPerSecond) {
+            this.capacity = capacity;
+            this.refillPerSecond = refillPerSecond;
+        }
+
+        public BucketSpec toSpec() {
+            return new BucketSpec(capacity, refillPerSecond);
+        }
+    }
+
+    @Getter
+    @Setter
+    public static class Route extends Bucket {
+        private String id;
+
+        /* Spring PathPattern, e.g. /catalogservice/** */
+        private String path;
+    }
+
+    @Getter
+    @Setter
+    public static class Memory {
+        /* Buckets held at most; beyond it the least recently used ones are evicted. */
+        private int maxBuckets = 100_000;
+
+        /* How often buckets that have refilled completely are dropped. */
+        private Duration sweepInterval = Duration.ofSeconds(30);
+    }
+
+    @Getter
+    @Setter
+    public static class Redis {
+        private String keyPrefix = "rate_limit:";
+    }
+}
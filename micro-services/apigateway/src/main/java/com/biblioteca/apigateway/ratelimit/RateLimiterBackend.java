@@ -0,0 +1,11 @@
+package com.biblioteca.apigateway.ratelimit;
+
+import reactor.core.publisher.Mono;
+
+/*
+ * Token bucket storage. Takes one token from the bucket under the key, creating a full bucket
+ * on first use. Implementations must be safe for concurrent calls on the same key.
+ */
+public interface RateLimiterBackend {
+    Mono<RateLimitDecision> tryConsume(String key, BucketSpec spec);
+}
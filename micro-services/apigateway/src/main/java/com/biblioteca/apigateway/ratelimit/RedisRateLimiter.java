@@ -0,0 +1,57 @@
+package com.biblioteca.apigateway.ratelimit;
+
+import org.springframework.data.redis.core.ReactiveStringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+/*
+ * Token buckets shared by all gateway instances. The refill-and-take step runs as one Lua
+ * script, so it is atomic on the server and costs a single round trip; the script reads the
+ * Redis clock, which keeps instances with drifting clocks consistent. Each bucket is a small
+ * hash that expires once it would have refilled, so idle callers leave nothing behind.
+ *
+ * Works against any server speaking the Redis protocol with Lua scripting (Redis, Valkey,
+ * KeyDB and the embedded stand-ins used in tests).
+ */
+public class RedisRateLimiter implements RateLimiterBackend {
+    private static final String TOKEN_BUCKET_LUA = """
+            local capacity = tonumber(ARGV[1])
+            local refill = tonumber(ARGV[2])
+            local time = redis.call('TIME')
+            local now = tonumber(time[1]) * 1000 + math.floor(tonumber(time[2]) / 1000)
+            local state = redis.call('HMGET', KEYS[1], 'tokens', 'ts')
+            local tokens = tonumber(state[1]) or capacity
+            local ts = tonumber(state[2]) or now
+            tokens = math.min(capacity, tokens + math.max(0, now - ts) * refill / 1000)
+            if tokens < 1 then
+                return {0, 0, math.ceil((1 - tokens) * 1000 / refill)}
+            end
+            tokens = tokens - 1
+            redis.call('HSET', KEYS[1], 'tokens', tostring(tokens), 'ts', tostring(now))
+            redis.call('PEXPIRE', KEYS[1], math.ceil((capacity - tokens) * 1000 / refill) + 1000)
+            return {1, math.floor(tokens), 0}
+            """;
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static final RedisScript<List<Long>> TOKEN_BUCKET_SCRIPT = (RedisScript) RedisScript.of(TOKEN_BUCKET_LUA, List.class);
+
+    private final ReactiveStringRedisTemplate redisTemplate;
+    private final String keyPrefix;
+
+    public RedisRateLimiter(ReactiveStringRedisTemplate redisTemplate, String keyPrefix) {
+        this.redisTemplate = redisTemplate;
+        this.keyPrefix = keyPrefix;
+    }
+
+    @Override
+    public Mono<RateLimitDecision> tryConsume(String key, BucketSpec spec) {
+        return redisTemplate.execute(TOKEN_BUCKET_SCRIPT, List.of(keyPrefix + key),
+                        List.of(String.valueOf(spec.capacity()), String.valueOf(spec.refillPerSecond())))
+                .next()
+                .map(result -> result.get(0) == 1L
+                        ? RateLimitDecision.allowed(result.get(1))
+                        : RateLimitDecision.rejected(result.get(2)));
+    }
+}
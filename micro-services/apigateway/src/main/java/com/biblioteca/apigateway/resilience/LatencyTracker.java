@@ -0,0 +1,50 @@
+package com.biblioteca.apigateway.resilience;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/*
+ * Recent response times of one route in a fixed ring, recorded without locks. The percentile
+ * is recomputed from a sorted copy at most once per refresh interval and cached in between,
+ * so reading it on every request costs nothing.
+ */
+public class LatencyTracker {
+    private static final long REFRESH_NANOS = 1_000_000_000L;
+
+    private final AtomicLongArray samples;
+    private final AtomicLong count = new AtomicLong();
+    private final AtomicLong computedAt = new AtomicLong(System.nanoTime() - REFRESH_NANOS - 1);
+
+    private volatile long percentileNanos;
+
+    public LatencyTracker(int size) {
+        this.samples = new AtomicLongArray(size);
+    }
+
+    public void record(long nanos) {
+        long index = count.getAndIncrement();
+        samples.set((int) (index % samples.length()), nanos);
+    }
+
+    /* Returns -1 until minSamples responses have been recorded. */
+    public long percentileNanos(double percentile, int minSamples) {
+        int recorded = (int) Math.min(count.get(), samples.length());
+        if (recorded < minSamples) {
+            return -1;
+        }
+
+        long now = System.nanoTime();
+        long last = computedAt.get();
+        if (now - last > REFRESH_NANOS && computedAt.compareAndSet(last, now)) {
+            long[] copy = new long[recorded];
+            for (int i = 0; i < recorded; i++) {
+                copy[i] = samples.get(i);
+            }
+            Arrays.sort(copy);
+            percentileNanos = copy[Math.max(0, (int) Math.ceil(percentile * recorded) - 1)];
+        }
+
+        return percentileNanos;
+    }
+}
@@ -0,0 +1,79 @@
+package com.biblioteca.apigateway.resilience;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "gateway.resilience")
+public class ResilienceProperties {
+    private boolean enabled = true;
+
+    private Duration connectTimeout = Duration.ofSeconds(1);
+
+    /* Checked in order; GETs on the first matching route are routed by ResilientRoutingFilter. */
+    private List<Route> routes = new ArrayList<>();
+
+    @Getter
+    @Setter
+    public static class Route {
+        private String id;
+
+        /* Spring PathPattern, e.g. /catalogservice/** */
+        private String path;
+
+        /* Budget for getting a response, over all attempts, backoffs and hedges. */
+        private Duration timeout = Duration.ofSeconds(5);
+
+        /* Longest wait for one instance before the attempt counts as failed. */
+        private Duration attemptTimeout = Duration.ofSeconds(2);
+
+        private final Retry retry = new Retry();
+        private final CircuitBreaker circuitBreaker = new CircuitBreaker();
+        private final Hedge hedge = new Hedge();
+    }
+
+    @Getter
+    @Setter
+    public static class Retry {
+        /* Attempts including the first one; 1 disables retries. */
+        private int maxAttempts = 3;
+        private Duration initialBackoff = Duration.ofMillis(50);
+        private Duration maxBackoff = Duration.ofMillis(500);
+
+        /* Fraction of each backoff randomised so clients do not retry in lockstep. */
+        private double jitter = 0.5;
+    }
+
+    /* One breaker per instance, so a slow or failing instance is skipped while the others serve. */
+    @Getter
+    @Setter
+    public static class CircuitBreaker {
+        private float failureRateThreshold = 50;
+        private float slowCallRateThreshold = 80;
+        private Duration slowCallDuration = Duration.ofSeconds(1);
+        private int slidingWindowSize = 20;
+        private int minimumCalls = 10;
+        private Duration openDuration = Duration.ofSeconds(10);
+        private int halfOpenCalls = 3;
+    }
+
+    @Getter
+    @Setter
+    public static class Hedge {
+        private boolean enabled = false;
+
+        /* The hedge is sent once the first attempt is slower than this percentile of recent responses. */
+        private double percentile = 0.95;
+        private Duration minDelay = Duration.ofMillis(20);
+        private Duration maxDelay = Duration.ofSeconds(1);
+
+        /* Responses needed before the percentile is trusted; maxDelay is used until then. */
+        private int minSamples = 50;
+    }
+}
@@ -0,0 +1,389 @@
+package com.biblioteca.apigateway.resilience;
+
+import com.biblioteca.apigateway.util.ErrorResponseWriter;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerConfig;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.cloud.client.ServiceInstance;
+import org.springframework.cloud.client.discovery.ReactiveDiscoveryClient;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.filter.GlobalFilter;
+import org.springframework.cloud.gateway.filter.RouteToRequestUrlFilter;
+import org.springframework.cloud.gateway.filter.headers.HttpHeadersFilter;
+import org.springframework.core.Ordered;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.PathContainer;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.util.UriComponentsBuilder;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.netty.http.client.HttpClientRequest;
+import reactor.util.retry.Retry;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.springframework.cloud.gateway.support.ServerWebExchangeUtils.GATEWAY_REQUEST_URL_ATTR;
+import static org.springframework.cloud.gateway.support.ServerWebExchangeUtils.isAlreadyRouted;
+import static org.springframework.cloud.gateway.support.ServerWebExchangeUtils.setAlreadyRouted;
+
+/*
+ * Routes GETs on the configured routes itself instead of leaving them to the load balancer
+ * and the Netty routing filter, so that a slow or failing instance costs the caller as little
+ * as possible:
+ *
+ *  - every instance has its own circuit breaker; open instances are skipped when choosing
+ *    where to send an attempt, and only when all of them are open does the caller get a 503;
+ *  - an attempt that fails before a response is streamed back (connection error, no answer
+ *    within attemptTimeout, 502/503/504) is retried on the next instance after a jittered
+ *    exponential backoff, as long as the route's time budget allows it;
+ *  - with hedging enabled, if the first instance has not answered after the route's recent
+ *    p95 latency, the same GET is also sent to a second instance and the first answer wins;
+ *    the other request is cancelled.
+ *
+ * Breakers are keyed by route and host:port. When discovery stops listing an instance its
+ * breaker is dropped, so redeploys, which bring new ports, do not grow the registry forever.
+ *
+ * Only GETs are handled here, because only they are safe to send twice. Other methods keep
+ * the normal route. The budget covers getting a response, not streaming it, so long exports
+ * are not cut off once they have started.
+ */
+@Slf4j
+public class ResilientRoutingFilter implements GlobalFilter, Ordered {
+    /* After the lb:// URL is known, before the load balancer resolves it to a single instance. */
+    public static final int ORDER = RouteToRequestUrlFilter.ROUTE_TO_URL_FILTER_ORDER + 100;
+
+    private static final Set<Integer> RETRYABLE_STATUSES = Set.of(502, 503, 504);
+    private static final int LATENCY_SAMPLES = 1024;
+
+    private final ReactiveDiscoveryClient discoveryClient;
+    private final ObjectProvider<List<HttpHeadersFilter>> headersFilters;
+    private final ErrorResponseWriter errorResponseWriter;
+    private final MeterRegistry meterRegistry;
+    private final WebClient webClient;
+    private final CircuitBreakerRegistry circuitBreakers = CircuitBreakerRegistry.ofDefaults();
+    private final List<ResilientRoute> routes = new ArrayList<>();
+
+    public ResilientRoutingFilter(ReactiveDiscoveryClient discoveryClient,
+                                  ObjectProvider<List<HttpHeadersFilter>> headersFilters,
+                                  ErrorResponseWriter errorResponseWriter,
+                                  MeterRegistry meterRegistry,
+                                  WebClient webClient,
+                                  ResilienceProperties properties) {
+        this.discoveryClient = discoveryClient;
+        this.headersFilters = headersFilters;
+        this.errorResponseWriter = errorResponseWriter;
+        this.meterRegistry = meterRegistry;
+        this.webClient = webClient;
+
+        for (ResilienceProperties.Route route : properties.getRoutes()) {
+            if (route.getId() == null || route.getPath() == null) {
+                throw new IllegalStateException("Every resilience route needs an id and a path");
+            }
+            routes.add(new ResilientRoute(route.getId(), PathPatternParser.defaultInstance.parse(route.getPath()), route,
+                    breakerConfig(route.getCircuitBreaker()), new LatencyTracker(LATENCY_SAMPLES), new AtomicInteger(),
+                    new AtomicReference<>(Set.of())));
+        }
+
+        Gauge.builder("gateway.resilience.breakers", circuitBreakers, registry -> registry.getAllCircuitBreakers().size())
+                .register(meterRegistry);
+    }
+
+    @Override
+    public int getOrder() {
+        return ORDER;
+    }
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, GatewayFilterChain chain) {
+        URI url = exchange.getAttribute(GATEWAY_REQUEST_URL_ATTR);
+        if (url == null || !"lb".equals(url.getScheme()) || isAlreadyRouted(exchange)
+                || !HttpMethod.GET.equals(exchange.getRequest().getMethod())) {
+            return chain.filter(exchange);
+        }
+
+        ResilientRoute route = match(exchange.getRequest().getPath().pathWithinApplication());
+        if (route == null) {
+            return chain.filter(exchange);
+        }
+
+        setAlreadyRouted(exchange);
+        String serviceId = url.getHost();
+        HttpHeaders requestHeaders = new HttpHeaders();
+        requestHeaders.addAll(HttpHeadersFilter.filterRequest(headersFilters.getIfAvailable(), exchange));
+        requestHeaders.remove(HttpHeaders.HOST);
+        long deadline = System.nanoTime() + route.config().getTimeout().toNanos();
+        AtomicBoolean claimed = new AtomicBoolean();
+        Call call = new Call(exchange, route, serviceId, url, requestHeaders, deadline, claimed);
+
+        return discoveryClient.getInstances(serviceId).collectList()
+                .doOnNext(instances -> pruneBreakers(route, instances))
+                .flatMap(instances -> instances.isEmpty()
+                        ? Mono.error(new UpstreamUnavailableException("No instance of " + serviceId + " is registered"))
+                        : Mono.defer(() -> send(call, instances)).retryWhen(retrySpec(call)))
+                .onErrorResume(e -> claimed.get() ? Mono.error(e) : reject(call, e))
+                .then();
+    }
+
+    /* One round: an attempt on the next instance, plus a hedge on the one after it if enabled. */
+    private Mono<Boolean> send(Call call, List<ServiceInstance> instances) {
+        ResilienceProperties.Hedge hedge = call.route().config().getHedge();
+        int start = Math.floorMod(call.route().next().getAndIncrement(), instances.size());
+        AtomicReference<String> primaryInstance = new AtomicReference<>();
+        Mono<Boolean> primary = attempt(call, instances, start, null, primaryInstance);
+        if (!hedge.isEnabled() || instances.size() < 2) {
+            return primary;
+        }
+
+        Mono<Boolean> hedged = Mono.delay(hedgeDelay(call.route()))
+                .then(Mono.defer(() -> {
+                    if (call.claimed().get()) {
+                        return Mono.empty();
+                    }
+                    count(call.route(), "gateway.resilience.hedges", "sent");
+                    return attempt(call, instances, start + 1, primaryInstance.get(), new AtomicReference<>())
+                            .doOnNext(won -> count(call.route(), "gateway.resilience.hedges", "won"));
+                }));
+
+        return Mono.firstWithValue(primary, hedged)
+                .onErrorMap(e -> !call.claimed().get() && !(e instanceof UpstreamUnavailableException),
+                        e -> new UpstreamUnavailableException("Neither attempt on " + call.serviceId() + " succeeded", e));
+    }
+
+    /*
+     * Sends the request to the first instance from start whose breaker lets it through. Emits
+     * true once this attempt's response has been written to the client, completes empty if
+     * another attempt got there first, and fails with UpstreamUnavailableException if it could
+     * be retried.
+     */
+    private Mono<Boolean> attempt(Call call, List<ServiceInstance> instances, int start, String excludedInstance,
+                                  AtomicReference<String> chosen) {
+        long remaining = call.deadline() - System.nanoTime();
+        if (remaining <= 0) {
+            return Mono.error(new UpstreamUnavailableException("Time budget of " + call.route().id() + " exhausted"));
+        }
+
+        ServiceInstance instance = null;
+        CircuitBreaker breaker = null;
+        for (int i = 0; i < instances.size() && instance == null; i++) {
+            ServiceInstance candidate = instances.get(Math.floorMod(start + i, instances.size()));
+            if (candidate.getInstanceId() != null && candidate.getInstanceId().equals(excludedInstance)) {
+                continue;
+            }
+            CircuitBreaker candidateBreaker = breaker(call.route(), candidate);
+            if (candidateBreaker.tryAcquirePermission()) {
+                instance = candidate;
+                breaker = candidateBreaker;
+            }
+        }
+        if (instance == null) {
+            count(call.route(), "gateway.resilience.attempts", "rejected");
+            return Mono.error(new UpstreamUnavailableException("Every instance of " + call.serviceId() + " is open"));
+        }
+
+        chosen.set(instance.getInstanceId());
+        CircuitBreaker instanceBreaker = breaker;
+        URI target = UriComponentsBuilder.fromUri(call.url())
+                .scheme(instance.isSecure() ? "https" : "http")
+                .host(instance.getHost())
+                .port(instance.getPort())
+                .build(true)
+                .toUri();
+        Duration responseTimeout = Duration.ofNanos(Math.min(call.route().config().getAttemptTimeout().toNanos(), remaining));
+        long started = System.nanoTime();
+        AtomicBoolean recorded = new AtomicBoolean();
+
+        return webClient.get()
+                .uri(target)
+                .headers(headers -> headers.addAll(call.requestHeaders()))
+                .httpRequest(request -> {
+                    HttpClientRequest nativeRequest = request.getNativeRequest();
+                    nativeRequest.responseTimeout(responseTimeout);
+                })
+                .exchangeToMono(response -> {
+                    long elapsed = System.nanoTime() - started;
+                    recorded.set(true);
+                    if (RETRYABLE_STATUSES.contains(response.statusCode().value())) {
+                        UpstreamUnavailableException failure = new UpstreamUnavailableException(
+                                target.getHost() + ":" + target.getPort() + " answered " + response.statusCode().value());
+                        instanceBreaker.onError(elapsed, TimeUnit.NANOSECONDS, failure);
+                        count(call.route(), "gateway.resilience.attempts", "unavailable");
+                        return response.releaseBody().then(Mono.error(failure));
+                    }
+
+                    instanceBreaker.onSuccess(elapsed, TimeUnit.NANOSECONDS);
+                    call.route().latency().record(elapsed);
+                    if (!call.claimed().compareAndSet(false, true)) {
+                        return response.releaseBody().then(Mono.empty());
+                    }
+                    count(call.route(), "gateway.resilience.attempts", "success");
+                    return write(call.exchange(), response).thenReturn(true);
+                })
+                .doOnError(e -> {
+                    if (recorded.compareAndSet(false, true)) {
+                        instanceBreaker.onError(System.nanoTime() - started, TimeUnit.NANOSECONDS, e);
+                        count(call.route(), "gateway.resilience.attempts", "error");
+                        log.debug("Attempt on {} for {} failed: {}", target.getHost(), call.route().id(), e.getMessage());
+                    }
+                })
+                .doOnCancel(() -> {
+                    if (recorded.compareAndSet(false, true)) {
+                        instanceBreaker.releasePermission();
+                    }
+                })
+                .onErrorMap(e -> !call.claimed().get() && !(e instanceof UpstreamUnavailableException),
+                        e -> new UpstreamUnavailableException(e.getMessage(), e));
+    }
+
+    private Mono<Void> write(ServerWebExchange exchange, ClientResponse clientResponse) {
+        ServerHttpResponse response = exchange.getResponse();
+        response.setStatusCode(clientResponse.statusCode());
+
+        HttpHeaders headers = HttpHeadersFilter.filter(headersFilters.getIfAvailable(),
+                clientResponse.headers().asHttpHeaders(), exchange, HttpHeadersFilter.Type.RESPONSE);
+        if (headers.getContentLength() >= 0 && headers.containsKey(HttpHeaders.TRANSFER_ENCODING)) {
+            headers = HttpHeaders.writableHttpHeaders(headers);
+            headers.remove(HttpHeaders.TRANSFER_ENCODING);
+        }
+        response.getHeaders().addAll(headers);
+
+        Flux<DataBuffer> body = clientResponse.bodyToFlux(DataBuffer.class);
+        MediaType contentType = headers.getContentType();
+        return contentType != null && isStreaming(contentType)
+                ? response.writeAndFlushWith(body.map(Flux::just))
+                : response.writeWith(body);
+    }
+
+    private Retry retrySpec(Call call) {
+        ResilienceProperties.Retry retry = call.route().config().getRetry();
+        return Retry.backoff(Math.max(0, retry.getMaxAttempts() - 1), retry.getInitialBackoff())
+                .maxBackoff(retry.getMaxBackoff())
+                .jitter(retry.getJitter())
+                .filter(e -> e instanceof UpstreamUnavailableException && !call.claimed().get()
+                        && call.deadline() - System.nanoTime() > retry.getInitialBackoff().toNanos())
+                .doBeforeRetry(signal -> count(call.route(), "gateway.resilience.retries", "scheduled"))
+                .onRetryExhaustedThrow((spec, signal) -> signal.failure());
+    }
+
+    private Duration hedgeDelay(ResilientRoute route) {
+        ResilienceProperties.Hedge hedge = route.config().getHedge();
+        long percentile = route.latency().percentileNanos(hedge.getPercentile(), hedge.getMinSamples());
+        if (percentile < 0) {
+            return hedge.getMaxDelay();
+        }
+
+        long clamped = Math.max(hedge.getMinDelay().toNanos(), Math.min(hedge.getMaxDelay().toNanos(), percentile));
+        return Duration.ofNanos(clamped);
+    }
+
+    private Mono<Void> reject(Call call, Throwable error) {
+        log.warn("Giving up on {} {}: {}", call.route().id(), call.exchange().getRequest().getPath(), error.getMessage());
+        if (call.deadline() - System.nanoTime() <= 0) {
+            return errorResponseWriter.write(call.exchange(), HttpStatus.GATEWAY_TIMEOUT,
+                    call.serviceId() + " did not answer in time");
+        }
+
+        return errorResponseWriter.write(call.exchange(), HttpStatus.SERVICE_UNAVAILABLE,
+                call.serviceId() + " is temporarily unavailable");
+    }
+
+    private CircuitBreaker breaker(ResilientRoute route, ServiceInstance instance) {
+        return circuitBreakers.circuitBreaker(breakerName(route, instance), route.breakerConfig());
+    }
+
+    /*
+     * Removes the route's breakers for instances discovery no longer lists. Only does any work
+     * when the list differs from the one last seen; an empty list is ignored, since it more
+     * likely means discovery is unreachable than that every instance is gone for good.
+     */
+    private void pruneBreakers(ResilientRoute route, List<ServiceInstance> instances) {
+        if (instances.isEmpty()) {
+            return;
+        }
+
+        Set<String> current = new HashSet<>();
+        for (ServiceInstance instance : instances) {
+            current.add(breakerName(route, instance));
+        }
+        Set<String> previous = route.breakerNames().get();
+        if (current.equals(previous) || !route.breakerNames().compareAndSet(previous, current)) {
+            return;
+        }
+
+        String prefix = route.id() + ":";
+        for (CircuitBreaker breaker : circuitBreakers.getAllCircuitBreakers()) {
+            if (breaker.getName().startsWith(prefix) && !current.contains(breaker.getName())) {
+                circuitBreakers.remove(breaker.getName());
+                log.debug("Dropped circuit breaker {}, the instance left discovery", breaker.getName());
+            }
+        }
+    }
+
+    private static String breakerName(ResilientRoute route, ServiceInstance instance) {
+        return route.id() + ":" + instance.getHost() + ":" + instance.getPort();
+    }
+
+    private static CircuitBreakerConfig breakerConfig(ResilienceProperties.CircuitBreaker config) {
+        return CircuitBreakerConfig.custom()
+                .slidingWindowType(CircuitBreakerConfig.SlidingWindowType.COUNT_BASED)
+                .slidingWindowSize(config.getSlidingWindowSize())
+                .minimumNumberOfCalls(config.getMinimumCalls())
+                .failureRateThreshold(config.getFailureRateThreshold())
+                .slowCallRateThreshold(config.getSlowCallRateThreshold())
+                .slowCallDurationThreshold(config.getSlowCallDuration())
+                .waitDurationInOpenState(config.getOpenDuration())
+                .permittedNumberOfCallsInHalfOpenState(config.getHalfOpenCalls())
+                .automaticTransitionFromOpenToHalfOpenEnabled(false)
+                .build();
+    }
+
+    private static boolean isStreaming(MediaType contentType) {
+        return MediaType.TEXT_EVENT_STREAM.isCompatibleWith(contentType)
+                || MediaType.APPLICATION_NDJSON.isCompatibleWith(contentType);
+    }
+
+    private ResilientRoute match(PathContainer path) {
+        for (ResilientRoute route : routes) {
+            if (route.pattern().matches(path)) {
+                return route;
+            }
+        }
+
+        return null;
+    }
+
+    private void count(ResilientRoute route, String name, String outcome) {
+        Counter.builder(name).tag("route", route.id()).tag("outcome", outcome).register(meterRegistry).increment();
+    }
+
+    private record ResilientRoute(String id, PathPattern pattern, ResilienceProperties.Route config,
+                                  CircuitBreakerConfig breakerConfig, LatencyTracker latency, AtomicInteger next,
+                                  AtomicReference<Set<String>> breakerNames) {
+    }
+
+    private record Call(ServerWebExchange exchange, ResilientRoute route, String serviceId, URI url,
+                        HttpHeaders requestHeaders, long deadline, AtomicBoolean claimed) {
+    }
+}
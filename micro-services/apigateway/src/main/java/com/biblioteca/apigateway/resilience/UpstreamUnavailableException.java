@@ -0,0 +1,13 @@
+package com.biblioteca.apigateway.resilience;
+
+/* An attempt that failed before any response reached the client; safe to retry elsewhere. */
+class UpstreamUnavailableException extends RuntimeException {
+
+    UpstreamUnavailableException(String message) {
+        super(message);
+    }
+
+    UpstreamUnavailableException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -0,0 +1,151 @@
+package com.biblioteca.apigateway.security;
+
+import com.nimbusds.jose.JOSEException;
+import com.nimbusds.jose.JWSVerifier;
+import com.nimbusds.jose.crypto.RSASSAVerifier;
+import com.nimbusds.jose.jwk.JWK;
+import com.nimbusds.jose.jwk.JWKSet;
+import com.nimbusds.jose.jwk.KeyUse;
+import com.nimbusds.jose.jwk.RSAKey;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.text.ParseException;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/*
+ * authserver's signing keys, held as ready-to-use verifiers by key id. The set is refetched in
+ * the background every refreshInterval, so a rotated key is normally known before the first
+ * token signed with it arrives; a token with an unknown kid triggers an extra fetch, limited
+ * to one per minRefreshInterval. Concurrent fetches share one request, and a failed fetch
+ * keeps the previous keys, so a short authserver outage does not reject valid tokens.
+ */
+@Slf4j
+public class JwkSetCache implements SmartLifecycle {
+    private final WebClient webClient;
+    private final String jwkSetUri;
+    private final Duration refreshInterval;
+    private final long minRefreshIntervalMillis;
+    private final Duration timeout;
+    private final AtomicReference<Mono<Map<String, JWSVerifier>>> inFlight = new AtomicReference<>();
+    private final AtomicLong lastFetchMillis = new AtomicLong();
+
+    private volatile Map<String, JWSVerifier> verifiers = Map.of();
+    private volatile Disposable refresher;
+
+    public JwkSetCache(WebClient.Builder webClient, String jwkSetUri, Duration refreshInterval,
+                       Duration minRefreshInterval, Duration timeout) {
+        this.webClient = webClient.build();
+        this.jwkSetUri = jwkSetUri;
+        this.refreshInterval = refreshInterval;
+        this.minRefreshIntervalMillis = minRefreshInterval.toMillis();
+        this.timeout = timeout;
+    }
+
+    @Override
+    public void start() {
+        if (refresher != null) {
+            return;
+        }
+
+        refresher = Flux.interval(Duration.ZERO, refreshInterval)
+                .onBackpressureDrop()
+                .concatMap(tick -> fetch().onErrorResume(e -> Mono.empty()))
+                .subscribe();
+    }
+
+    @Override
+    public void stop() {
+        Disposable current = refresher;
+        refresher = null;
+        if (current != null) {
+            current.dispose();
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return refresher != null;
+    }
+
+    /* Empty if the key id is unknown even after an allowed refetch. */
+    public Mono<JWSVerifier> verifier(String keyId) {
+        JWSVerifier verifier = verifiers.get(keyId);
+        if (verifier != null) {
+            return Mono.just(verifier);
+        }
+
+        long now = System.currentTimeMillis();
+        long last = lastFetchMillis.get();
+        if (now - last < minRefreshIntervalMillis || !lastFetchMillis.compareAndSet(last, now)) {
+            Mono<Map<String, JWSVerifier>> current = inFlight.get();
+            return current != null
+                    ? current.onErrorResume(e -> Mono.empty()).mapNotNull(keys -> keys.get(keyId))
+                    : Mono.empty();
+        }
+
+        return fetch().onErrorResume(e -> Mono.empty()).mapNotNull(keys -> keys.get(keyId));
+    }
+
+    private Mono<Map<String, JWSVerifier>> fetch() {
+        Mono<Map<String, JWSVerifier>> current = inFlight.get();
+        if (current != null) {
+            return current;
+        }
+
+        Mono<Map<String, JWSVerifier>> request = webClient.get()
+                .uri(jwkSetUri)
+                .retrieve()
+                .bodyToMono(String.class)
+                .timeout(timeout)
+                .map(this::parse)
+                .doOnNext(keys -> {
+                    verifiers = keys;
+                    lastFetchMillis.set(System.currentTimeMillis());
+                    log.debug("Loaded {} signing keys from {}", keys.size(), jwkSetUri);
+                })
+                .doOnError(e -> log.warn("Could not load signing keys from {}, keeping {} known keys: {}",
+                        jwkSetUri, verifiers.size(), e.getMessage()))
+                .doFinally(signal -> inFlight.set(null))
+                .cache();
+
+        if (inFlight.compareAndSet(null, request)) {
+            return request;
+        }
+
+        current = inFlight.get();
+        return current != null ? current : Mono.just(verifiers);
+    }
+
+    private Map<String, JWSVerifier> parse(String body) {
+        JWKSet jwkSet;
+        try {
+            jwkSet = JWKSet.parse(body);
+        } catch (ParseException e) {
+            throw new IllegalStateException("Invalid JWK set: " + e.getMessage(), e);
+        }
+
+        Map<String, JWSVerifier> keys = new HashMap<>();
+        for (JWK jwk : jwkSet.getKeys()) {
+            if (!(jwk instanceof RSAKey rsaKey) || jwk.getKeyID() == null
+                    || (jwk.getKeyUse() != null && !KeyUse.SIGNATURE.equals(jwk.getKeyUse()))) {
+                continue;
+            }
+            try {
+                keys.put(jwk.getKeyID(), new RSASSAVerifier(rsaKey));
+            } catch (JOSEException e) {
+                log.warn("Skipping signing key {}: {}", jwk.getKeyID(), e.getMessage());
+            }
+        }
+
+        return Map.copyOf(keys);
+    }
+}
@@ -0,0 +1,36 @@
+package com.biblioteca.apigateway.security;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "gateway.jwt")
+public class JwtProperties {
+    private boolean enabled = true;
+
+    /* authserver's JWK set, e.g. http://auth-server:9072/oauth2/jwks */
+    private String jwkSetUri;
+
+    /* Expected iss claim; not checked when empty. */
+    private String issuer;
+
+    private Duration clockSkew = Duration.ofSeconds(60);
+
+    /* The key set is refetched in the background this often, before any key can go missing. */
+    private Duration refreshInterval = Duration.ofMinutes(5);
+
+    /* Unknown key ids trigger a refetch at most this often, so random kids cannot flood authserver. */
+    private Duration minRefreshInterval = Duration.ofSeconds(30);
+
+    private Duration timeout = Duration.ofSeconds(5);
+
+    /* Verified tokens remembered until they expire, so each token is verified once. */
+    private int verifiedTokenCacheSize = 10_000;
+
+    /* Shared with the services; signs the X-Gateway-Claims header. */
+    private String claimsSecret;
+}
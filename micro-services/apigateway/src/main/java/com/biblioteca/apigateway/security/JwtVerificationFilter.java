@@ -0,0 +1,87 @@
+package com.biblioteca.apigateway.security;
+
+import com.biblioteca.apigateway.util.ErrorResponseWriter;
+import com.biblioteca.gatewayclaims.GatewayClaimsJwtDecoder;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.filter.GlobalFilter;
+import org.springframework.core.Ordered;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+
+import java.util.Optional;
+
+/*
+ * Verifies the bearer token of every routed request once, at the edge. Valid tokens are
+ * forwarded together with the signed X-Gateway-Claims header and the subject is stored in
+ * VERIFIED_SUBJECT_ATTRIBUTE for the filters after this one; invalid or expired tokens are
+ * answered with 401 without reaching a service. Requests without a token pass unchanged so
+ * the services can still serve their public endpoints. A claims header sent by the client is
+ * always removed.
+ */
+public class JwtVerificationFilter implements GlobalFilter, Ordered {
+    public static final int ORDER = -200;
+    public static final String VERIFIED_SUBJECT_ATTRIBUTE = JwtVerificationFilter.class.getName() + ".subject";
+    private static final String BEARER_PREFIX = "Bearer ";
+
+    private final JwtVerifier jwtVerifier;
+    private final ErrorResponseWriter errorResponseWriter;
+    private final MeterRegistry meterRegistry;
+
+    public JwtVerificationFilter(JwtVerifier jwtVerifier, ErrorResponseWriter errorResponseWriter, MeterRegistry meterRegistry) {
+        this.jwtVerifier = jwtVerifier;
+        this.errorResponseWriter = errorResponseWriter;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public int getOrder() {
+        return ORDER;
+    }
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, GatewayFilterChain chain) {
+        String authorization = exchange.getRequest().getHeaders().getFirst(HttpHeaders.AUTHORIZATION);
+        if (authorization == null || !authorization.regionMatches(true, 0, BEARER_PREFIX, 0, BEARER_PREFIX.length())) {
+            return chain.filter(withClaims(exchange, null));
+        }
+
+        String token = authorization.substring(BEARER_PREFIX.length()).trim();
+        return jwtVerifier.verify(token)
+                .map(Optional::of)
+                .defaultIfEmpty(Optional.empty())
+                .flatMap(verified -> {
+                    if (verified.isEmpty()) {
+                        count("invalid");
+                        exchange.getResponse().getHeaders().set(HttpHeaders.WWW_AUTHENTICATE, "Bearer error=\"invalid_token\"");
+                        return errorResponseWriter.write(exchange, HttpStatus.UNAUTHORIZED, "Invalid or expired access token");
+                    }
+
+                    count("valid");
+                    if (verified.get().subject() != null) {
+                        exchange.getAttributes().put(VERIFIED_SUBJECT_ATTRIBUTE, verified.get().subject());
+                    }
+                    return chain.filter(withClaims(exchange, verified.get().claimsHeader()));
+                });
+    }
+
+    private static ServerWebExchange withClaims(ServerWebExchange exchange, String claimsHeader) {
+        if (claimsHeader == null && !exchange.getRequest().getHeaders().containsKey(GatewayClaimsJwtDecoder.CLAIMS_HEADER)) {
+            return exchange;
+        }
+
+        return exchange.mutate().request(request -> request.headers(headers -> {
+            headers.remove(GatewayClaimsJwtDecoder.CLAIMS_HEADER);
+            if (claimsHeader != null) {
+                headers.set(GatewayClaimsJwtDecoder.CLAIMS_HEADER, claimsHeader);
+            }
+        })).build();
+    }
+
+    private void count(String result) {
+        Counter.builder("gateway.jwt.verifications").tag("result", result).register(meterRegistry).increment();
+    }
+}
@@ -0,0 +1,130 @@
+package com.biblioteca.apigateway.security;
+
+import com.biblioteca.gatewayclaims.GatewayClaimsJwtDecoder;
+import com.nimbusds.jose.JOSEException;
+import com.nimbusds.jose.JWSAlgorithm;
+import com.nimbusds.jose.JWSHeader;
+import com.nimbusds.jose.JWSSigner;
+import com.nimbusds.jose.crypto.MACSigner;
+import com.nimbusds.jwt.JWTClaimsSet;
+import com.nimbusds.jwt.SignedJWT;
+import reactor.core.publisher.Mono;
+
+import java.text.ParseException;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/*
+ * Verifies bearer tokens against the cached JWK set and turns them into the signed claims
+ * header forwarded to the services. Results are remembered by token hash until the token
+ * expires, so a client sending the same token on every request costs one RSA verification
+ * per token instead of one per request and per service. The header format, key and token
+ * binding come from GatewayClaimsJwtDecoder, which checks them in the services.
+ */
+public class JwtVerifier {
+    private final JwkSetCache jwkSetCache;
+    private final String issuer;
+    private final long clockSkewMillis;
+    private final JWSSigner claimsSigner;
+    private final int cacheSize;
+    private final LinkedHashMap<String, VerifiedToken> verified;
+
+    public JwtVerifier(JwkSetCache jwkSetCache, JwtProperties properties) {
+        if (properties.getClaimsSecret() == null || properties.getClaimsSecret().isEmpty()) {
+            throw new IllegalStateException("gateway.jwt.claims-secret must be set when gateway JWT validation is enabled");
+        }
+
+        this.jwkSetCache = jwkSetCache;
+        this.issuer = properties.getIssuer();
+        this.clockSkewMillis = properties.getClockSkew().toMillis();
+        this.cacheSize = properties.getVerifiedTokenCacheSize();
+        this.verified = new LinkedHashMap<>(256, 0.75f, true);
+        try {
+            this.claimsSigner = new MACSigner(GatewayClaimsJwtDecoder.key(properties.getClaimsSecret()));
+        } catch (JOSEException e) {
+            throw new IllegalStateException("Invalid gateway claims secret", e);
+        }
+    }
+
+    /* Empty if the token is malformed, signed by an unknown key, forged or expired. */
+    public Mono<VerifiedToken> verify(String token) {
+        String tokenHash = GatewayClaimsJwtDecoder.tokenHash(token);
+        long now = System.currentTimeMillis();
+        VerifiedToken cached = cached(tokenHash, now);
+        if (cached != null) {
+            return Mono.just(cached);
+        }
+
+        SignedJWT jwt;
+        try {
+            jwt = SignedJWT.parse(token);
+        } catch (ParseException e) {
+            return Mono.empty();
+        }
+
+        JWSHeader header = jwt.getHeader();
+        if (!JWSAlgorithm.Family.RSA.contains(header.getAlgorithm()) || header.getKeyID() == null) {
+            return Mono.empty();
+        }
+
+        return jwkSetCache.verifier(header.getKeyID()).mapNotNull(verifier -> {
+            try {
+                if (!jwt.verify(verifier)) {
+                    return null;
+                }
+                JWTClaimsSet claims = jwt.getJWTClaimsSet();
+                if (!valid(claims, System.currentTimeMillis())) {
+                    return null;
+                }
+
+                VerifiedToken verifiedToken = new VerifiedToken(claims.getSubject(), sign(claims, tokenHash), claims.getExpirationTime().getTime());
+                remember(tokenHash, verifiedToken);
+                return verifiedToken;
+            } catch (JOSEException | ParseException e) {
+                return null;
+            }
+        });
+    }
+
+    private boolean valid(JWTClaimsSet claims, long now) {
+        Date expiresAt = claims.getExpirationTime();
+        Date notBefore = claims.getNotBeforeTime();
+        if (expiresAt == null || now - clockSkewMillis >= expiresAt.getTime()) {
+            return false;
+        }
+        if (notBefore != null && now + clockSkewMillis < notBefore.getTime()) {
+            return false;
+        }
+
+        return issuer == null || issuer.isEmpty() || issuer.equals(claims.getIssuer());
+    }
+
+    private String sign(JWTClaimsSet claims, String tokenHash) throws JOSEException {
+        JWTClaimsSet forwarded = new JWTClaimsSet.Builder(claims).claim(GatewayClaimsJwtDecoder.TOKEN_HASH_CLAIM, tokenHash).build();
+        SignedJWT signed = new SignedJWT(new JWSHeader(JWSAlgorithm.HS256), forwarded);
+        signed.sign(claimsSigner);
+        return signed.serialize();
+    }
+
+    private synchronized VerifiedToken cached(String tokenHash, long now) {
+        VerifiedToken token = verified.get(tokenHash);
+        if (token != null && now - clockSkewMillis >= token.expiresAtMillis()) {
+            verified.remove(tokenHash);
+            return null;
+        }
+
+        return token;
+    }
+
+    private synchronized void remember(String tokenHash, VerifiedToken token) {
+        verified.put(tokenHash, token);
+        if (verified.size() > cacheSize) {
+            Map.Entry<String, VerifiedToken> eldest = verified.entrySet().iterator().next();
+            verified.remove(eldest.getKey());
+        }
+    }
+
+    public record VerifiedToken(String subject, String claimsHeader, long expiresAtMillis) {
+    }
+}
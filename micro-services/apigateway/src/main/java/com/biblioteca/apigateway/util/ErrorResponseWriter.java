@@ -0,0 +1,41 @@
+package com.biblioteca.apigateway.util;
+
+import com.biblioteca.apigateway.dto.ResponseDTO;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+
+/*
+ * Writes gateway-generated errors in the same ResponseDTO shape the services return from their
+ * exception handlers, so clients see one error format whether or not the request got through.
+ */
+@Component
+@RequiredArgsConstructor
+public class ErrorResponseWriter {
+    private final ObjectMapper objectMapper;
+
+    public Mono<Void> write(ServerWebExchange exchange, HttpStatus status, String message) {
+        ServerHttpResponse response = exchange.getResponse();
+        if (response.isCommitted()) {
+            return Mono.empty();
+        }
+
+        byte[] body;
+        try {
+            body = objectMapper.writeValueAsBytes(new ResponseDTO<>(status.getReasonPhrase(), message, status.value()));
+        } catch (JsonProcessingException e) {
+            body = new byte[0];
+        }
+
+        response.setStatusCode(status);
+        response.getHeaders().setContentType(MediaType.APPLICATION_JSON);
+        response.getHeaders().setContentLength(body.length);
+        return response.writeWith(Mono.just(response.bufferFactory().wrap(body)));
+    }
+}
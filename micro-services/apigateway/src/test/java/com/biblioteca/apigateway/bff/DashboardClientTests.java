@@ -0,0 +1,68 @@
+package com.biblioteca.apigateway.bff;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static com.biblioteca.apigateway.bff.DashboardStubServices.CATALOG;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class DashboardClientTests {
+
+    private static final String GENRES = "/v1/genres/genre_ids";
+
+    private final DashboardStubServices services = new DashboardStubServices();
+
+    @AfterEach
+    void tearDown() {
+        services.close();
+    }
+
+    @Test
+    void catalogIdsAreFetchedInBatches() {
+        Map<Integer, JsonNode> genres = services.client(Duration.ofSeconds(2), 2)
+                .catalogByIds(GENRES, List.of(1, 2, 3, 4, 5), new HttpHeaders()).block();
+
+        assertEquals(Set.of(1, 2, 3, 4, 5), genres.keySet());
+        assertEquals("Entity 3", genres.get(3).get("name").asText());
+        assertEquals(Set.of("1,2", "3,4", "5"), Set.copyOf(services.requests().stream().map(DashboardStubServices.Request::ids).toList()));
+    }
+
+    @Test
+    void idsTheCatalogDoesNotKnowAreLeftOut() {
+        services.unknown(2, 3, 4);
+
+        Map<Integer, JsonNode> genres = services.client(Duration.ofSeconds(2), 2)
+                .catalogByIds(GENRES, List.of(1, 2, 3, 4), new HttpHeaders()).block();
+
+        assertEquals(Set.of(1), genres.keySet(), "a batch answered with 404 is empty, not an error");
+    }
+
+    @Test
+    void noIdsMeansNoRequest() {
+        Map<Integer, JsonNode> genres = services.client(Duration.ofSeconds(2), 2)
+                .catalogByIds(GENRES, List.of(), new HttpHeaders()).block();
+
+        assertTrue(genres.isEmpty());
+        assertTrue(services.requests().isEmpty());
+    }
+
+    @Test
+    void callerCredentialsAreSentWithEveryRequest() {
+        HttpHeaders credentials = new HttpHeaders();
+        credentials.set(HttpHeaders.AUTHORIZATION, "Bearer reader-token");
+
+        services.client(Duration.ofSeconds(2), 1).catalogByIds(GENRES, List.of(1, 2), credentials).block();
+
+        assertEquals(2, services.requests().size());
+        assertTrue(services.requests().stream().allMatch(request ->
+                request.path().equals(CATALOG + GENRES) && "Bearer reader-token".equals(request.authorization())));
+    }
+}
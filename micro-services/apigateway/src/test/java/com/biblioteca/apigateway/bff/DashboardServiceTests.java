@@ -0,0 +1,101 @@
+package com.biblioteca.apigateway.bff;
+
+import com.biblioteca.apigateway.dto.dashboard.DashboardDTO;
+import com.biblioteca.apigateway.dto.dashboard.DashboardEntryDTO;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+
+import java.time.Duration;
+import java.util.List;
+
+import static com.biblioteca.apigateway.bff.DashboardStubServices.CATALOG;
+import static com.biblioteca.apigateway.bff.DashboardStubServices.USER_LIBRARY;
+import static org.junit.jupiter.api.Assertions.*;
+
+class DashboardServiceTests {
+
+    private static final int USER_ID = 7;
+    private static final String SERIES_ROWS = USER_LIBRARY + "/v1/user_series/user/" + USER_ID;
+    private static final String GENRE_ROWS = USER_LIBRARY + "/v1/user_genre_preferences/all/user/" + USER_ID;
+    private static final String AUTHOR_ROWS = USER_LIBRARY + "/v1/user_author_preferences/all/user/" + USER_ID;
+    private static final String SERIES_CATALOG = CATALOG + "/v1/series/series_ids";
+    private static final String GENRE_CATALOG = CATALOG + "/v1/genres/genre_ids";
+
+    private DashboardStubServices services;
+
+    @BeforeEach
+    void setUp() {
+        services = new DashboardStubServices()
+                .rows(SERIES_ROWS, "[{\"id\":1,\"catalogSeriesId\":10},{\"id\":2,\"catalogSeriesId\":11}]")
+                .rows(GENRE_ROWS, "[{\"id\":3,\"catalogGenreId\":20},{\"id\":4,\"catalogGenreId\":null}]")
+                .rows(AUTHOR_ROWS, "[{\"id\":5,\"catalogAuthorId\":30}]");
+    }
+
+    @AfterEach
+    void tearDown() {
+        services.close();
+    }
+
+    @Test
+    void sectionsAreJoinedWithTheirCatalogEntities() {
+        DashboardDTO dashboard = dashboard(Duration.ofSeconds(2));
+
+        assertEquals(USER_ID, dashboard.getUserId());
+        assertEquals(List.of(), dashboard.getUnavailable());
+        assertEquals(List.of(10, 11), catalogIds(dashboard.getSeries()));
+        assertEquals(2, dashboard.getSeries().get(1).getLibrary().get("id").asInt());
+        assertEquals(20, dashboard.getGenres().get(0).getCatalog().get("id").asInt());
+        assertNull(dashboard.getGenres().get(1).getCatalog(), "a row without a catalog id has no catalog data");
+        assertEquals(List.of(30), catalogIds(dashboard.getAuthors()));
+        assertEquals(6, services.requests().size(), "one library and one catalog call per section");
+        assertTrue(services.requests().stream().allMatch(request -> "Bearer reader-token".equals(request.authorization())));
+    }
+
+    @Test
+    void slowCatalogLookupOnlyDegradesItsSection() {
+        services.delay(GENRE_CATALOG, Duration.ofSeconds(3));
+
+        DashboardDTO dashboard = dashboard(Duration.ofMillis(300));
+
+        assertEquals(List.of("genres"), dashboard.getUnavailable());
+        assertEquals(2, dashboard.getGenres().size(), "the user's rows are kept without catalog data");
+        assertTrue(dashboard.getGenres().stream().allMatch(entry -> entry.getCatalog() == null));
+        assertEquals(List.of(10, 11), catalogIds(dashboard.getSeries()));
+        assertEquals(List.of(30), catalogIds(dashboard.getAuthors()));
+    }
+
+    @Test
+    void failingLibraryCallEmptiesOnlyItsSection() {
+        services.status(AUTHOR_ROWS, 500);
+
+        DashboardDTO dashboard = dashboard(Duration.ofSeconds(2));
+
+        assertEquals(List.of("authors"), dashboard.getUnavailable());
+        assertTrue(dashboard.getAuthors().isEmpty());
+        assertEquals(List.of(10, 11), catalogIds(dashboard.getSeries()));
+        assertEquals(2, dashboard.getGenres().size());
+    }
+
+    @Test
+    void authFailureFromAnyServiceFailsTheWholeDashboard() {
+        services.status(SERIES_CATALOG, 403);
+
+        WebClientResponseException error = assertThrows(WebClientResponseException.class, () -> dashboard(Duration.ofSeconds(2)));
+
+        assertEquals(403, error.getStatusCode().value());
+        assertTrue(DashboardClient.isAuthFailure(error));
+    }
+
+    private DashboardDTO dashboard(Duration timeout) {
+        HttpHeaders credentials = new HttpHeaders();
+        credentials.set(HttpHeaders.AUTHORIZATION, "Bearer reader-token");
+        return new DashboardService(services.client(timeout, 100)).getDashboard(USER_ID, credentials).block();
+    }
+
+    private static List<Integer> catalogIds(List<DashboardEntryDTO> entries) {
+        return entries.stream().map(entry -> entry.getCatalog().get("id").asInt()).toList();
+    }
+}
@@ -0,0 +1,127 @@
+package com.biblioteca.apigateway.bff;
+
+import com.biblioteca.gatewayclaims.GatewayClaimsJwtDecoder;
+import io.netty.handler.codec.http.QueryStringDecoder;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+import reactor.netty.DisposableServer;
+import reactor.netty.http.server.HttpServer;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/*
+ * userlibraryservice and catalogservice for dashboard tests, on one local port. Library rows
+ * are configured per path; catalog by-ids paths answer with {"id": n} for every requested id
+ * not marked unknown, and 404 when none is known, as the real endpoints do. Any path can be
+ * given another status or a delay, and every request is recorded with its credentials.
+ */
+public class DashboardStubServices implements AutoCloseable {
+    public static final String USER_LIBRARY = "/userlibraryservice";
+    public static final String CATALOG = "/catalogservice";
+
+    private final DisposableServer server;
+    private final Map<String, String> rows = new ConcurrentHashMap<>();
+    private final Map<String, Integer> statuses = new ConcurrentHashMap<>();
+    private final Map<String, Duration> delays = new ConcurrentHashMap<>();
+    private final Set<Integer> unknownIds = ConcurrentHashMap.newKeySet();
+    private final List<Request> requests = new CopyOnWriteArrayList<>();
+
+    public DashboardStubServices() {
+        this.server = HttpServer.create()
+                .host("127.0.0.1")
+                .port(0)
+                .handle((request, response) -> {
+                    QueryStringDecoder uri = new QueryStringDecoder(request.uri());
+                    String path = uri.path();
+                    requests.add(new Request(path, uri.parameters().getOrDefault("ids", List.of()).stream().findFirst().orElse(null),
+                            request.requestHeaders().get(HttpHeaders.AUTHORIZATION),
+                            request.requestHeaders().get(GatewayClaimsJwtDecoder.CLAIMS_HEADER)));
+
+                    int status = statuses.getOrDefault(path, 200);
+                    String data = status == 200 ? data(path, uri) : null;
+                    if (data == null && status == 200) {
+                        status = 404;
+                    }
+                    String body = data != null
+                            ? "{\"data\":" + data + ",\"message\":\"success\",\"code\":200}"
+                            : "{\"data\":null,\"message\":\"stub error\",\"code\":" + status + "}";
+
+                    return Mono.delay(delays.getOrDefault(path, Duration.ZERO))
+                            .then(response.status(status)
+                                    .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                                    .sendString(Mono.just(body))
+                                    .then());
+                })
+                .bindNow();
+    }
+
+    public DashboardStubServices rows(String path, String json) {
+        rows.put(path, json);
+        return this;
+    }
+
+    public DashboardStubServices status(String path, int status) {
+        statuses.put(path, status);
+        return this;
+    }
+
+    public DashboardStubServices delay(String path, Duration delay) {
+        delays.put(path, delay);
+        return this;
+    }
+
+    public DashboardStubServices unknown(Integer... ids) {
+        unknownIds.addAll(List.of(ids));
+        return this;
+    }
+
+    public List<Request> requests() {
+        return requests;
+    }
+
+    public BffProperties properties(Duration timeout, int batchSize) {
+        BffProperties properties = new BffProperties();
+        properties.setUserLibraryUrl("http://127.0.0.1:" + server.port() + USER_LIBRARY);
+        properties.setCatalogUrl("http://127.0.0.1:" + server.port() + CATALOG);
+        properties.setTimeout(timeout);
+        properties.setBatchSize(batchSize);
+        return properties;
+    }
+
+    public DashboardClient client(Duration timeout, int batchSize) {
+        return new DashboardClient(WebClient.builder().build(), properties(timeout, batchSize));
+    }
+
+    /* Null when the path has nothing to return, which is answered with 404. */
+    private String data(String path, QueryStringDecoder uri) {
+        if (!path.startsWith(CATALOG)) {
+            return rows.get(path);
+        }
+
+        List<String> entities = new ArrayList<>();
+        for (String ids : uri.parameters().getOrDefault("ids", List.of())) {
+            for (String id : ids.split(",")) {
+                if (!unknownIds.contains(Integer.valueOf(id))) {
+                    entities.add("{\"id\":" + id + ",\"name\":\"Entity " + id + "\"}");
+                }
+            }
+        }
+        return entities.isEmpty() ? null : "[" + String.join(",", entities) + "]";
+    }
+
+    @Override
+    public void close() {
+        server.disposeNow();
+    }
+
+    public record Request(String path, String ids, String authorization, String claims) {
+    }
+}
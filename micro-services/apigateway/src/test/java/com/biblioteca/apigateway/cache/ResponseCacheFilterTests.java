@@ -0,0 +1,154 @@
+package com.biblioteca.apigateway.cache;
+
+import com.biblioteca.apigateway.security.JwtVerificationFilter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Sinks;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ResponseCacheFilterTests {
+
+    private static final int MAX_ENTRY_BYTES = 100;
+    private static final String PATH = "/catalogservice/v1/genres";
+    private static final String USER_PATH = "/userlibraryservice/v1/user_books";
+
+    private ResponseCacheStore store;
+    private ResponseCacheFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        ResponseCacheProperties.Route route = new ResponseCacheProperties.Route();
+        route.setId("catalog-genres");
+        route.setPath(PATH + "/**");
+        route.setScope(CacheScope.PUBLIC);
+        ResponseCacheProperties.Route userRoute = new ResponseCacheProperties.Route();
+        userRoute.setId("user-books");
+        userRoute.setPath(USER_PATH + "/**");
+
+        ResponseCacheMetrics metrics = new ResponseCacheMetrics(new SimpleMeterRegistry());
+        store = new ResponseCacheStore(1_000_000, metrics);
+        filter = new ResponseCacheFilter(new ResponseCacheRoutes(List.of(route, userRoute)), store, metrics, MAX_ENTRY_BYTES);
+    }
+
+    @Test
+    void bodyWithinTheCapIsStoredAndTagged() {
+        MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.get(PATH));
+
+        filter.filter(exchange, respond(Flux.just(buffer(40), buffer(40)))).block();
+
+        assertEquals(1, store.size());
+        assertEquals("MISS", exchange.getResponse().getHeaders().getFirst(ResponseCacheFilter.CACHE_HEADER));
+        assertNotNull(exchange.getResponse().getHeaders().getETag());
+        assertEquals(80, exchange.getResponse().getBodyAsString().block().length());
+    }
+
+    @Test
+    void storedBodyAnswersAMatchingIfNoneMatchWithNotModified() {
+        MockServerWebExchange first = MockServerWebExchange.from(MockServerHttpRequest.get(PATH));
+        filter.filter(first, respond(Flux.just(buffer(40)))).block();
+        String etag = first.getResponse().getHeaders().getETag();
+
+        MockServerWebExchange second = MockServerWebExchange.from(MockServerHttpRequest.get(PATH)
+                .header(HttpHeaders.IF_NONE_MATCH, etag));
+        filter.filter(second, respond(Flux.error(new AssertionError("cached response went upstream")))).block();
+
+        assertEquals(HttpStatus.NOT_MODIFIED, second.getResponse().getStatusCode());
+        assertEquals("HIT", second.getResponse().getHeaders().getFirst(ResponseCacheFilter.CACHE_HEADER));
+    }
+
+    @Test
+    void bodyOverTheCapWithoutContentLengthIsStreamedOnceTheCapIsPassed() {
+        MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.get(PATH));
+        List<DataBuffer> written = new ArrayList<>();
+        exchange.getResponse().setWriteHandler(body -> body.doOnNext(written::add).then());
+        Sinks.Many<DataBuffer> upstream = Sinks.many().unicast().onBackpressureBuffer();
+        AtomicBoolean completed = new AtomicBoolean();
+
+        filter.filter(exchange, respond(upstream.asFlux())).doOnSuccess(done -> completed.set(true)).subscribe();
+
+        upstream.tryEmitNext(buffer(60));
+        assertTrue(written.isEmpty(), "nothing is written while the body may still fit");
+        upstream.tryEmitNext(buffer(60));
+        assertEquals(2, written.size());
+        upstream.tryEmitNext(buffer(60));
+        assertEquals(3, written.size());
+        upstream.tryEmitComplete();
+
+        assertTrue(completed.get());
+        assertEquals(0, store.size());
+        assertNull(exchange.getResponse().getHeaders().getETag());
+    }
+
+    @Test
+    void bodyOverTheCapWithContentLengthIsNeverBuffered() {
+        MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.get(PATH));
+        List<DataBuffer> written = new ArrayList<>();
+        exchange.getResponse().setWriteHandler(body -> body.doOnNext(written::add).then());
+        Sinks.Many<DataBuffer> upstream = Sinks.many().unicast().onBackpressureBuffer();
+
+        filter.filter(exchange, chainExchange -> {
+            chainExchange.getResponse().setStatusCode(HttpStatus.OK);
+            chainExchange.getResponse().getHeaders().setContentLength(200);
+            return chainExchange.getResponse().writeWith(upstream.asFlux());
+        }).subscribe();
+
+        upstream.tryEmitNext(buffer(60));
+        assertEquals(1, written.size());
+        upstream.tryEmitNext(buffer(140));
+        upstream.tryEmitComplete();
+
+        assertEquals(0, store.size());
+    }
+
+    @Test
+    void tokenScopedEntriesAreSharedByTheVerifiedSubjectOnly() {
+        filter.filter(userRequest("alice", "token-1"), respond(Flux.just(buffer(10)))).block();
+
+        MockServerWebExchange refreshedToken = userRequest("alice", "token-2");
+        filter.filter(refreshedToken, respond(Flux.error(new AssertionError("cached response went upstream")))).block();
+        MockServerWebExchange otherUser = userRequest("bob", "token-1");
+        filter.filter(otherUser, respond(Flux.just(buffer(10)))).block();
+
+        assertEquals("HIT", refreshedToken.getResponse().getHeaders().getFirst(ResponseCacheFilter.CACHE_HEADER));
+        assertEquals("MISS", otherUser.getResponse().getHeaders().getFirst(ResponseCacheFilter.CACHE_HEADER));
+        assertEquals(2, store.size());
+    }
+
+    private static MockServerWebExchange userRequest(String subject, String token) {
+        MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.get(USER_PATH)
+                .header(HttpHeaders.AUTHORIZATION, "Bearer " + token));
+        exchange.getAttributes().put(JwtVerificationFilter.VERIFIED_SUBJECT_ATTRIBUTE, subject);
+        return exchange;
+    }
+
+    private static GatewayFilterChain respond(Flux<DataBuffer> body) {
+        return exchange -> {
+            exchange.getResponse().setStatusCode(HttpStatus.OK);
+            return exchange.getResponse().writeWith(body);
+        };
+    }
+
+    private static DataBuffer buffer(int size) {
+        byte[] bytes = new byte[size];
+        Arrays.fill(bytes, (byte) 'a');
+        return DefaultDataBufferFactory.sharedInstance.wrap(bytes);
+    }
+}
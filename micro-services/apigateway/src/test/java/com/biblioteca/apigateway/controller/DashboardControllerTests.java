@@ -0,0 +1,223 @@
+package com.biblioteca.apigateway.controller;
+
+import com.biblioteca.apigateway.bff.DashboardService;
+import com.biblioteca.apigateway.bff.DashboardStubServices;
+import com.biblioteca.apigateway.dto.ResponseDTO;
+import com.biblioteca.apigateway.dto.dashboard.DashboardDTO;
+import com.biblioteca.apigateway.ratelimit.InMemoryRateLimiter;
+import com.biblioteca.apigateway.ratelimit.RateLimitFilter;
+import com.biblioteca.apigateway.ratelimit.RateLimitKeyResolver;
+import com.biblioteca.apigateway.ratelimit.RateLimitProperties;
+import com.biblioteca.apigateway.security.JwkSetCache;
+import com.biblioteca.apigateway.security.JwtProperties;
+import com.biblioteca.apigateway.security.JwtVerificationFilter;
+import com.biblioteca.apigateway.security.JwtVerifier;
+import com.biblioteca.apigateway.util.ErrorResponseWriter;
+import com.biblioteca.gatewayclaims.GatewayClaimsJwtDecoder;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.nimbusds.jose.JWSAlgorithm;
+import com.nimbusds.jose.JWSHeader;
+import com.nimbusds.jose.crypto.MACVerifier;
+import com.nimbusds.jose.crypto.RSASSASigner;
+import com.nimbusds.jose.jwk.JWKSet;
+import com.nimbusds.jose.jwk.RSAKey;
+import com.nimbusds.jose.jwk.gen.RSAKeyGenerator;
+import com.nimbusds.jwt.JWTClaimsSet;
+import com.nimbusds.jwt.SignedJWT;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+import reactor.netty.DisposableServer;
+import reactor.netty.http.server.HttpServer;
+
+import java.time.Duration;
+import java.util.Date;
+import java.util.List;
+
+import static com.biblioteca.apigateway.bff.DashboardStubServices.USER_LIBRARY;
+import static org.junit.jupiter.api.Assertions.*;
+
+/* The dashboard endpoint verifies the caller's token and charges its rate limit itself, since it is not a routed request. */
+class DashboardControllerTests {
+
+    private static final int USER_ID = 7;
+    private static final String PATH = "/gateway/dashboard/users/" + USER_ID;
+    private static final String SERIES_ROWS = USER_LIBRARY + "/v1/user_series/user/" + USER_ID;
+    private static final String CLAIMS_SECRET = "test-claims-secret";
+
+    private static RSAKey signingKey;
+    private static RSAKey otherKey;
+
+    private DisposableServer authServer;
+    private DashboardStubServices services;
+    private InMemoryRateLimiter rateLimiter;
+
+    @BeforeAll
+    static void generateKeys() throws Exception {
+        signingKey = new RSAKeyGenerator(2048).keyID("signing-key").generate();
+        otherKey = new RSAKeyGenerator(2048).keyID("signing-key").generate();
+    }
+
+    @BeforeEach
+    void setUp() {
+        String jwkSet = new JWKSet(signingKey.toPublicJWK()).toString();
+        authServer = HttpServer.create()
+                .host("127.0.0.1")
+                .port(0)
+                .route(routes -> routes.get("/oauth2/jwks", (request, response) -> response
+                        .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                        .sendString(Mono.just(jwkSet))))
+                .bindNow();
+        services = new DashboardStubServices()
+                .rows(SERIES_ROWS, "[{\"id\":1,\"catalogSeriesId\":10}]")
+                .rows(USER_LIBRARY + "/v1/user_genre_preferences/all/user/" + USER_ID, "[]")
+                .rows(USER_LIBRARY + "/v1/user_author_preferences/all/user/" + USER_ID, "[]");
+        rateLimiter = new InMemoryRateLimiter(1000, Duration.ofHours(1));
+    }
+
+    @AfterEach
+    void tearDown() {
+        rateLimiter.close();
+        services.close();
+        authServer.disposeNow();
+    }
+
+    @Test
+    void verifiedCallerGetsTheCombinedDashboard() throws Exception {
+        String token = token(signingKey, "reader", 60);
+        MockServerWebExchange exchange = exchange();
+
+        ResponseEntity<ResponseDTO<?>> response = controller(100).getDashboard(USER_ID, "Bearer " + token, exchange).block();
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        DashboardDTO dashboard = (DashboardDTO) response.getBody().getData();
+        assertEquals(1, dashboard.getSeries().size());
+        assertEquals(10, dashboard.getSeries().get(0).getCatalog().get("id").asInt());
+        assertEquals(List.of(), dashboard.getUnavailable());
+        assertEquals("reader", exchange.getAttribute(JwtVerificationFilter.VERIFIED_SUBJECT_ATTRIBUTE));
+        assertEquals("99", exchange.getResponse().getHeaders().getFirst(RateLimitFilter.REMAINING_HEADER));
+    }
+
+    @Test
+    void servicesGetTheTokenTogetherWithSignedVerifiedClaims() throws Exception {
+        String token = token(signingKey, "reader", 60);
+
+        controller(100).getDashboard(USER_ID, "Bearer " + token, exchange()).block();
+
+        assertFalse(services.requests().isEmpty());
+        for (DashboardStubServices.Request request : services.requests()) {
+            assertEquals("Bearer " + token, request.authorization());
+            SignedJWT claims = SignedJWT.parse(request.claims());
+            assertTrue(claims.verify(new MACVerifier(GatewayClaimsJwtDecoder.key(CLAIMS_SECRET))));
+            assertEquals("reader", claims.getJWTClaimsSet().getSubject());
+            assertEquals(GatewayClaimsJwtDecoder.tokenHash(token),
+                    claims.getJWTClaimsSet().getStringClaim(GatewayClaimsJwtDecoder.TOKEN_HASH_CLAIM));
+        }
+    }
+
+    @Test
+    void missingTokenIsRejectedWithoutCallingTheServices() {
+        ResponseEntity<ResponseDTO<?>> missing = controller(100).getDashboard(USER_ID, null, exchange()).block();
+        ResponseEntity<ResponseDTO<?>> notBearer = controller(100).getDashboard(USER_ID, "Basic cmVhZGVyOnNlY3JldA==", exchange()).block();
+
+        assertEquals(HttpStatus.UNAUTHORIZED, missing.getStatusCode());
+        assertEquals(HttpStatus.UNAUTHORIZED, notBearer.getStatusCode());
+        assertTrue(services.requests().isEmpty());
+    }
+
+    @Test
+    void invalidOrExpiredTokenIsRejectedWithoutCallingTheServices() throws Exception {
+        DashboardController controller = controller(100);
+
+        ResponseEntity<ResponseDTO<?>> forged = controller.getDashboard(USER_ID, "Bearer " + token(otherKey, "reader", 60), exchange()).block();
+        ResponseEntity<ResponseDTO<?>> expired = controller.getDashboard(USER_ID, "Bearer " + token(signingKey, "reader", -600), exchange()).block();
+        ResponseEntity<ResponseDTO<?>> malformed = controller.getDashboard(USER_ID, "Bearer not-a-jwt", exchange()).block();
+
+        assertEquals(HttpStatus.UNAUTHORIZED, forged.getStatusCode());
+        assertEquals(HttpStatus.UNAUTHORIZED, expired.getStatusCode());
+        assertEquals(HttpStatus.UNAUTHORIZED, malformed.getStatusCode());
+        assertEquals("Invalid or expired access token", forged.getBody().getMessage());
+        assertTrue(services.requests().isEmpty());
+    }
+
+    @Test
+    void authFailureFromAServiceIsPassedOn() throws Exception {
+        services.status(SERIES_ROWS, 403);
+
+        ResponseEntity<ResponseDTO<?>> response = controller(100)
+                .getDashboard(USER_ID, "Bearer " + token(signingKey, "reader", 60), exchange()).block();
+
+        assertEquals(HttpStatus.FORBIDDEN, response.getStatusCode());
+        assertEquals("Not allowed to read this dashboard", response.getBody().getMessage());
+    }
+
+    @Test
+    void callerOverItsLimitGets429WithoutCallingTheServices() throws Exception {
+        DashboardController controller = controller(1);
+        String authorization = "Bearer " + token(signingKey, "reader", 60);
+
+        ResponseEntity<ResponseDTO<?>> first = controller.getDashboard(USER_ID, authorization, exchange()).block();
+        int requestsAfterFirst = services.requests().size();
+        ResponseEntity<ResponseDTO<?>> second = controller.getDashboard(USER_ID, authorization, exchange()).block();
+
+        assertEquals(HttpStatus.OK, first.getStatusCode());
+        assertEquals(HttpStatus.TOO_MANY_REQUESTS, second.getStatusCode());
+        assertEquals("0", second.getHeaders().getFirst(RateLimitFilter.REMAINING_HEADER));
+        assertTrue(Long.parseLong(second.getHeaders().getFirst(HttpHeaders.RETRY_AFTER)) >= 1);
+        assertEquals(requestsAfterFirst, services.requests().size());
+    }
+
+    @Test
+    void rejectedTokensAreChargedToo() {
+        DashboardController controller = controller(1);
+
+        controller.getDashboard(USER_ID, null, exchange()).block();
+        ResponseEntity<ResponseDTO<?>> second = controller.getDashboard(USER_ID, "Bearer not-a-jwt", exchange()).block();
+
+        assertEquals(HttpStatus.TOO_MANY_REQUESTS, second.getStatusCode(), "unauthenticated callers are charged by address");
+    }
+
+    private DashboardController controller(long userCapacity) {
+        JwtProperties jwtProperties = new JwtProperties();
+        jwtProperties.setClaimsSecret(CLAIMS_SECRET);
+        JwkSetCache jwkSetCache = new JwkSetCache(WebClient.builder(), "http://127.0.0.1:" + authServer.port() + "/oauth2/jwks",
+                Duration.ofMinutes(5), Duration.ZERO, Duration.ofSeconds(2));
+
+        RateLimitProperties rateLimitProperties = new RateLimitProperties();
+        rateLimitProperties.getUser().setCapacity(userCapacity);
+        rateLimitProperties.getUser().setRefillPerSecond(0.001);
+
+        StaticListableBeanFactory beans = new StaticListableBeanFactory();
+        beans.addBean("jwtVerifier", new JwtVerifier(jwkSetCache, jwtProperties));
+        beans.addBean("rateLimitFilter", new RateLimitFilter(rateLimiter, new RateLimitKeyResolver(),
+                new ErrorResponseWriter(new ObjectMapper()), new SimpleMeterRegistry(), rateLimitProperties));
+
+        return new DashboardController(new DashboardService(services.client(Duration.ofSeconds(2), 100)),
+                beans.getBeanProvider(JwtVerifier.class), beans.getBeanProvider(RateLimitFilter.class));
+    }
+
+    private static MockServerWebExchange exchange() {
+        return MockServerWebExchange.from(MockServerHttpRequest.get(PATH));
+    }
+
+    private static String token(RSAKey key, String subject, long expiresInSeconds) throws Exception {
+        SignedJWT jwt = new SignedJWT(new JWSHeader.Builder(JWSAlgorithm.RS256).keyID(key.getKeyID()).build(),
+                new JWTClaimsSet.Builder()
+                        .subject(subject)
+                        .expirationTime(new Date(System.currentTimeMillis() + expiresInSeconds * 1000))
+                        .build());
+        jwt.sign(new RSASSASigner(key));
+        return jwt.serialize();
+    }
+}
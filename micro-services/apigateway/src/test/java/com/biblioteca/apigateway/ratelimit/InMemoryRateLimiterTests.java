@@ -0,0 +1,144 @@
+package com.biblioteca.apigateway.ratelimit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class InMemoryRateLimiterTests {
+
+    private static final long SECOND = 1_000_000_000L;
+    private static final long T0 = 1_000 * SECOND;
+
+    private InMemoryRateLimiter limiter = new InMemoryRateLimiter(1000, Duration.ofHours(1));
+
+    @AfterEach
+    void tearDown() {
+        limiter.close();
+    }
+
+    @Test
+    void burstUpToCapacityThenRejectsUntilTheNextToken() {
+        BucketSpec spec = new BucketSpec(3, 2);
+
+        assertEquals(RateLimitDecision.allowed(2), limiter.consume("caller", spec, T0));
+        assertEquals(RateLimitDecision.allowed(1), limiter.consume("caller", spec, T0));
+        assertEquals(RateLimitDecision.allowed(0), limiter.consume("caller", spec, T0));
+        assertEquals(RateLimitDecision.rejected(500), limiter.consume("caller", spec, T0));
+    }
+
+    @Test
+    void refillsAtTheConfiguredRate() {
+        BucketSpec spec = new BucketSpec(2, 4);
+        limiter.consume("caller", spec, T0);
+        limiter.consume("caller", spec, T0);
+
+        assertEquals(RateLimitDecision.rejected(125), limiter.consume("caller", spec, T0 + SECOND / 8));
+        assertTrue(limiter.consume("caller", spec, T0 + SECOND / 4).allowed());
+        assertFalse(limiter.consume("caller", spec, T0 + SECOND / 4).allowed());
+    }
+
+    @Test
+    void refillStopsAtCapacity() {
+        BucketSpec spec = new BucketSpec(5, 10);
+        limiter.consume("caller", spec, T0);
+
+        assertEquals(RateLimitDecision.allowed(4), limiter.consume("caller", spec, T0 + 60 * SECOND));
+    }
+
+    @Test
+    void callersHaveSeparateBuckets() {
+        BucketSpec spec = new BucketSpec(1, 1);
+
+        assertTrue(limiter.consume("first", spec, T0).allowed());
+        assertFalse(limiter.consume("first", spec, T0).allowed());
+        assertTrue(limiter.consume("second", spec, T0).allowed());
+    }
+
+    @Test
+    void sweepDropsOnlyRefilledBuckets() {
+        BucketSpec spec = new BucketSpec(10, 1);
+        limiter.consume("idle", spec, T0);
+        limiter.consume("busy", spec, T0 + 5 * SECOND);
+
+        limiter.sweep(T0 + 2 * SECOND);
+
+        assertEquals(1, limiter.size());
+        assertEquals(RateLimitDecision.allowed(9), limiter.consume("idle", spec, T0 + 2 * SECOND));
+    }
+
+    @Test
+    void fullTableEvictsTheLeastRecentlyUsedBucketAndAdmitsTheNewCaller() {
+        limiter.close();
+        limiter = new InMemoryRateLimiter(4, Duration.ofHours(1));
+        BucketSpec spec = new BucketSpec(10, 0.001);
+        for (int i = 0; i < 4; i++) {
+            limiter.consume("caller-" + i, spec, T0 + i);
+        }
+        limiter.consume("caller-0", spec, T0 + 10);
+
+        assertEquals(RateLimitDecision.allowed(9), limiter.consume("newcomer", spec, T0 + 20));
+
+        assertEquals(4, limiter.size());
+        assertEquals(RateLimitDecision.allowed(7), limiter.consume("caller-0", spec, T0 + 30));
+        assertEquals(RateLimitDecision.allowed(9), limiter.consume("caller-1", spec, T0 + 40));
+    }
+
+    @Test
+    void tableNeverGrowsPastMaxBuckets() {
+        limiter.close();
+        limiter = new InMemoryRateLimiter(64, Duration.ofHours(1));
+        BucketSpec spec = new BucketSpec(10, 0.001);
+
+        for (int i = 0; i < 10_000; i++) {
+            assertTrue(limiter.consume("caller-" + i, spec, T0 + i).allowed());
+            assertTrue(limiter.size() <= 64);
+        }
+    }
+
+    @Test
+    void concurrentCallersNeverTakeMoreThanTheCapacity() throws Exception {
+        BucketSpec spec = new BucketSpec(1000, 0.000_001);
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Callable<Integer>> workers = new ArrayList<>();
+            for (int thread = 0; thread < 8; thread++) {
+                workers.add(() -> {
+                    int allowed = 0;
+                    for (int i = 0; i < 500; i++) {
+                        if (limiter.consume("shared", spec).allowed()) {
+                            allowed++;
+                        }
+                    }
+                    return allowed;
+                });
+            }
+
+            int allowed = 0;
+            for (Future<Integer> result : executor.invokeAll(workers)) {
+                allowed += result.get();
+            }
+            assertEquals(1000, allowed);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void millisUntilTokenRoundsUp() {
+        BucketSpec spec = new BucketSpec(1, 3);
+
+        assertEquals(334, spec.millisUntilToken(0));
+        assertEquals(0, spec.millisUntilToken(1.5));
+    }
+}
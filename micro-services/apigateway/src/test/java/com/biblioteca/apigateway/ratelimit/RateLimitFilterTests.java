@@ -0,0 +1,104 @@
+package com.biblioteca.apigateway.ratelimit;
+
+import com.biblioteca.apigateway.security.JwtVerificationFilter;
+import com.biblioteca.apigateway.util.ErrorResponseWriter;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class RateLimitFilterTests {
+
+    private static final String DASHBOARD = "/gateway/dashboard/users/7";
+
+    private final InMemoryRateLimiter backend = new InMemoryRateLimiter(1000, Duration.ofHours(1));
+    private RateLimitFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        RateLimitProperties properties = new RateLimitProperties();
+        properties.getUser().setCapacity(3);
+        properties.getUser().setRefillPerSecond(0.001);
+
+        RateLimitProperties.Route dashboard = new RateLimitProperties.Route();
+        dashboard.setId("dashboard");
+        dashboard.setPath("/gateway/dashboard/**");
+        dashboard.setCapacity(2);
+        dashboard.setRefillPerSecond(0.001);
+        properties.setRoutes(List.of(dashboard));
+
+        filter = new RateLimitFilter(backend, new RateLimitKeyResolver(), new ErrorResponseWriter(new ObjectMapper()),
+                new SimpleMeterRegistry(), properties);
+    }
+
+    @AfterEach
+    void tearDown() {
+        backend.close();
+    }
+
+    @Test
+    void chargeReportsWhatIsLeftInTheEmptierBucket() {
+        assertEquals(RateLimitDecision.allowed(1), filter.charge(exchange(DASHBOARD, "reader")).block());
+        assertEquals(RateLimitDecision.allowed(0), filter.charge(exchange(DASHBOARD, "reader")).block());
+    }
+
+    @Test
+    void routeBucketIsSharedBetweenCallers() {
+        filter.charge(exchange(DASHBOARD, "first")).block();
+        filter.charge(exchange(DASHBOARD, "second")).block();
+
+        RateLimitDecision third = filter.charge(exchange(DASHBOARD, "third")).block();
+
+        assertFalse(third.allowed());
+        assertTrue(third.retryAfterSeconds() >= 1);
+    }
+
+    @Test
+    void callerOverItsOwnLimitDoesNotDrainTheRoute() {
+        for (int i = 0; i < 3; i++) {
+            filter.charge(exchange("/catalogservice/v1/books", "greedy")).block();
+        }
+
+        assertFalse(filter.charge(exchange(DASHBOARD, "greedy")).block().allowed());
+        assertEquals(RateLimitDecision.allowed(1), filter.charge(exchange(DASHBOARD, "other")).block());
+    }
+
+    @Test
+    void rejectedRequestIsAnsweredWithRetryAfter() {
+        for (int i = 0; i < 3; i++) {
+            filter.charge(exchange("/catalogservice/v1/books", "reader")).block();
+        }
+        MockServerWebExchange exchange = exchange("/catalogservice/v1/books", "reader");
+
+        filter.filter(exchange, chainExchange -> Mono.error(new AssertionError("rejected request was forwarded"))).block();
+
+        assertEquals(HttpStatus.TOO_MANY_REQUESTS, exchange.getResponse().getStatusCode());
+        assertEquals("0", exchange.getResponse().getHeaders().getFirst(RateLimitFilter.REMAINING_HEADER));
+        assertTrue(Long.parseLong(exchange.getResponse().getHeaders().getFirst(HttpHeaders.RETRY_AFTER)) >= 1);
+    }
+
+    @Test
+    void retryAfterSecondsRoundsUp() {
+        assertEquals(1, RateLimitDecision.rejected(0).retryAfterSeconds());
+        assertEquals(2, RateLimitDecision.rejected(1001).retryAfterSeconds());
+    }
+
+    private static MockServerWebExchange exchange(String path, String subject) {
+        MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.get(path));
+        exchange.getAttributes().put(JwtVerificationFilter.VERIFIED_SUBJECT_ATTRIBUTE, subject);
+        return exchange;
+    }
+}
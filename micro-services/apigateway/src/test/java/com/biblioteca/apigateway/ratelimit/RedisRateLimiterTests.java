@@ -0,0 +1,112 @@
+package com.biblioteca.apigateway.ratelimit;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.ReactiveStringRedisTemplate;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.utility.DockerImageName;
+import reactor.core.publisher.Flux;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/* Runs the token bucket Lua script against a real Redis, on the server's own clock. */
+@Testcontainers(disabledWithoutDocker = true)
+class RedisRateLimiterTests {
+    private static final String PREFIX = "rate_limit_test:";
+
+    @Container
+    static final GenericContainer<?> REDIS = new GenericContainer<>(DockerImageName.parse("redis:7-alpine")).withExposedPorts(6379);
+
+    private static LettuceConnectionFactory connectionFactory;
+    private static ReactiveStringRedisTemplate redisTemplate;
+    private static RedisRateLimiter limiter;
+
+    @BeforeAll
+    static void connect() {
+        connectionFactory = new LettuceConnectionFactory(REDIS.getHost(), REDIS.getMappedPort(6379));
+        connectionFactory.afterPropertiesSet();
+        redisTemplate = new ReactiveStringRedisTemplate(connectionFactory);
+        limiter = new RedisRateLimiter(redisTemplate, PREFIX);
+    }
+
+    @AfterAll
+    static void disconnect() {
+        connectionFactory.destroy();
+    }
+
+    @Test
+    void burstUpToCapacityThenRejectsUntilTheNextToken() {
+        BucketSpec spec = new BucketSpec(3, 0.5);
+
+        assertEquals(RateLimitDecision.allowed(2), limiter.tryConsume("burst", spec).block());
+        assertEquals(RateLimitDecision.allowed(1), limiter.tryConsume("burst", spec).block());
+        assertEquals(RateLimitDecision.allowed(0), limiter.tryConsume("burst", spec).block());
+
+        RateLimitDecision rejected = limiter.tryConsume("burst", spec).block();
+        assertFalse(rejected.allowed());
+        assertTrue(rejected.retryAfterMillis() > 1500 && rejected.retryAfterMillis() <= 2000, "retry after " + rejected.retryAfterMillis());
+    }
+
+    @Test
+    void refillsOnTheServerClock() throws InterruptedException {
+        BucketSpec spec = new BucketSpec(1, 20);
+
+        assertTrue(limiter.tryConsume("refill", spec).block().allowed());
+        assertFalse(limiter.tryConsume("refill", spec).block().allowed());
+
+        Thread.sleep(100);
+
+        assertTrue(limiter.tryConsume("refill", spec).block().allowed());
+    }
+
+    @Test
+    void callersHaveSeparateBuckets() {
+        BucketSpec spec = new BucketSpec(1, 0.01);
+
+        assertTrue(limiter.tryConsume("first", spec).block().allowed());
+        assertFalse(limiter.tryConsume("first", spec).block().allowed());
+        assertTrue(limiter.tryConsume("second", spec).block().allowed());
+    }
+
+    @Test
+    void bucketExpiresOnceItWouldHaveRefilled() {
+        BucketSpec spec = new BucketSpec(10, 2);
+
+        limiter.tryConsume("expiry", spec).block();
+
+        Duration ttl = redisTemplate.getExpire(PREFIX + "expiry").block();
+        assertTrue(ttl.toMillis() > 0 && ttl.toMillis() <= 1500, "ttl " + ttl);
+    }
+
+    @Test
+    void rejectedRequestsDoNotWrite() {
+        BucketSpec spec = new BucketSpec(1, 0.01);
+        limiter.tryConsume("rejected", spec).block();
+        String before = redisTemplate.<String, String>opsForHash().get(PREFIX + "rejected", "ts").block();
+
+        assertFalse(limiter.tryConsume("rejected", spec).block().allowed());
+
+        assertEquals(before, redisTemplate.<String, String>opsForHash().get(PREFIX + "rejected", "ts").block());
+    }
+
+    @Test
+    void concurrentCallersNeverTakeMoreThanTheCapacity() {
+        BucketSpec spec = new BucketSpec(50, 0.001);
+
+        Long allowed = Flux.range(0, 400)
+                .flatMap(i -> limiter.tryConsume("shared", spec), 64)
+                .filter(RateLimitDecision::allowed)
+                .count()
+                .block();
+
+        assertEquals(50L, allowed);
+    }
+}
@@ -0,0 +1,72 @@
+package com.biblioteca.apigateway.resilience;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.web.server.MockServerWebExchange;
+
+import java.time.Duration;
+import java.util.Arrays;
+
+import static com.biblioteca.apigateway.resilience.ResilientRoutingFixture.exchange;
+import static com.biblioteca.apigateway.resilience.ResilientRoutingFixture.unroutedChain;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/*
+ * Tail latency of a route with three instances, one of them deliberately slow, routed with
+ * and without hedging. Without it every request the slow instance gets waits for it; with it
+ * the hedge to another instance answers first.
+ * Run with: mvn test -Pbenchmark -Dtest=ResilientRoutingBenchmark
+ */
+@Tag("benchmark")
+class ResilientRoutingBenchmark {
+
+    private static final int REQUESTS = Integer.getInteger("benchmark.resilience.requests", 150);
+    private static final long SLOW_MILLIS = Long.getLong("benchmark.resilience.slow-ms", 300);
+    private static final double MIN_SPEEDUP = Double.parseDouble(System.getProperty("benchmark.resilience.min-p95-speedup", "3"));
+
+    @Test
+    void hedgingCutsTheP95CausedByASlowInstance() {
+        long plainP95 = p95Millis(false);
+        long hedgedP95 = p95Millis(true);
+
+        System.out.printf("p95 with one instance %d ms slow: %d ms without hedging, %d ms with hedging%n",
+                SLOW_MILLIS, plainP95, hedgedP95);
+
+        assertTrue(plainP95 >= SLOW_MILLIS, "the slow instance was never hit: p95 " + plainP95 + " ms");
+        assertTrue(hedgedP95 * MIN_SPEEDUP <= plainP95, "hedged p95 " + hedgedP95 + " ms vs " + plainP95 + " ms");
+    }
+
+    private static long p95Millis(boolean hedge) {
+        ResilientRoutingFixture fixture = new ResilientRoutingFixture();
+        fixture.route.getHedge().setEnabled(hedge);
+        fixture.route.getHedge().setMaxDelay(Duration.ofMillis(SLOW_MILLIS / 3));
+
+        try (SlowStubService slow = new SlowStubService("slow").delay(Duration.ofMillis(SLOW_MILLIS));
+             SlowStubService fast = new SlowStubService("fast");
+             SlowStubService other = new SlowStubService("other")) {
+            fixture.register(slow, fast, other);
+            ResilientRoutingFilter filter = fixture.filter();
+
+            for (int i = 0; i < REQUESTS / 5; i++) {
+                send(filter);
+            }
+
+            long[] millis = new long[REQUESTS];
+            for (int i = 0; i < REQUESTS; i++) {
+                long started = System.nanoTime();
+                send(filter);
+                millis[i] = (System.nanoTime() - started) / 1_000_000;
+            }
+            Arrays.sort(millis);
+            return millis[(int) Math.ceil(0.95 * REQUESTS) - 1];
+        }
+    }
+
+    private static void send(ResilientRoutingFilter filter) {
+        MockServerWebExchange exchange = exchange();
+        filter.filter(exchange, unroutedChain()).block(Duration.ofSeconds(10));
+        assertEquals(HttpStatus.OK, exchange.getResponse().getStatusCode());
+    }
+}
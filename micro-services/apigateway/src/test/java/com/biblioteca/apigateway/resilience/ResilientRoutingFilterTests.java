@@ -0,0 +1,198 @@
+package com.biblioteca.apigateway.resilience;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+
+import java.net.URI;
+import java.time.Duration;
+
+import static com.biblioteca.apigateway.resilience.ResilientRoutingFixture.exchange;
+import static com.biblioteca.apigateway.resilience.ResilientRoutingFixture.unroutedChain;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.cloud.gateway.support.ServerWebExchangeUtils.GATEWAY_REQUEST_URL_ATTR;
+
+class ResilientRoutingFilterTests {
+
+    private static final Duration SLOW = Duration.ofSeconds(2);
+
+    private final ResilientRoutingFixture fixture = new ResilientRoutingFixture();
+    private SlowStubService first;
+    private SlowStubService second;
+
+    @BeforeEach
+    void setUp() {
+        first = new SlowStubService("first");
+        second = new SlowStubService("second");
+        fixture.register(first, second);
+    }
+
+    @AfterEach
+    void tearDown() {
+        first.close();
+        second.close();
+    }
+
+    @Test
+    void unavailableInstanceIsRetriedOnTheNext() {
+        first.status(503);
+
+        MockServerWebExchange exchange = route(fixture.filter());
+
+        assertEquals(HttpStatus.OK, exchange.getResponse().getStatusCode());
+        assertEquals("second", exchange.getResponse().getBodyAsString().block());
+        assertEquals(1, first.requests());
+        assertEquals(1, second.requests());
+        assertEquals(1.0, counter("gateway.resilience.retries", "scheduled"));
+    }
+
+    @Test
+    void instanceSlowerThanTheAttemptTimeoutIsRetriedOnTheNext() {
+        fixture.route.setAttemptTimeout(Duration.ofMillis(200));
+        first.delay(SLOW);
+
+        long started = System.nanoTime();
+        MockServerWebExchange exchange = route(fixture.filter());
+
+        assertEquals("second", exchange.getResponse().getBodyAsString().block());
+        assertTrue(elapsedMillis(started) < 1000, "took " + elapsedMillis(started) + " ms");
+    }
+
+    @Test
+    void retriesStopOnceTheTimeBudgetIsSpent() {
+        fixture.route.setTimeout(Duration.ofMillis(500));
+        fixture.route.setAttemptTimeout(Duration.ofMillis(150));
+        fixture.route.getRetry().setMaxAttempts(20);
+        first.delay(SLOW);
+        second.delay(SLOW);
+
+        long started = System.nanoTime();
+        MockServerWebExchange exchange = route(fixture.filter());
+
+        assertTrue(exchange.getResponse().getStatusCode().is5xxServerError());
+        assertTrue(elapsedMillis(started) < 1000, "took " + elapsedMillis(started) + " ms");
+        assertTrue(first.requests() + second.requests() <= 4, "sent " + (first.requests() + second.requests()) + " attempts");
+    }
+
+    @Test
+    void retriesStopAtMaxAttempts() {
+        fixture.route.getRetry().setMaxAttempts(3);
+        first.status(503);
+        second.status(503);
+
+        MockServerWebExchange exchange = route(fixture.filter());
+
+        assertEquals(HttpStatus.SERVICE_UNAVAILABLE, exchange.getResponse().getStatusCode());
+        assertEquals(3, first.requests() + second.requests());
+    }
+
+    @Test
+    void hedgeToTheSecondInstanceAnswersBeforeTheSlowFirst() {
+        fixture.route.getHedge().setEnabled(true);
+        fixture.route.getHedge().setMaxDelay(Duration.ofMillis(50));
+        first.delay(SLOW);
+
+        long started = System.nanoTime();
+        MockServerWebExchange exchange = route(fixture.filter());
+
+        assertEquals("second", exchange.getResponse().getBodyAsString().block());
+        assertTrue(elapsedMillis(started) < 1000, "took " + elapsedMillis(started) + " ms");
+        assertEquals(1.0, counter("gateway.resilience.hedges", "sent"));
+        assertEquals(1.0, counter("gateway.resilience.hedges", "won"));
+    }
+
+    @Test
+    void hedgeIsNotSentWhenTheFirstInstanceAnswersInTime() {
+        fixture.route.getHedge().setEnabled(true);
+        fixture.route.getHedge().setMaxDelay(Duration.ofMillis(500));
+
+        MockServerWebExchange exchange = route(fixture.filter());
+
+        assertEquals("first", exchange.getResponse().getBodyAsString().block());
+        assertEquals(0, second.requests());
+    }
+
+    @Test
+    void openBreakerSkipsTheFailingInstance() {
+        fixture.route.getCircuitBreaker().setSlidingWindowSize(4);
+        fixture.route.getCircuitBreaker().setMinimumCalls(4);
+        first.status(503);
+        ResilientRoutingFilter filter = fixture.filter();
+
+        for (int i = 0; i < 10; i++) {
+            assertEquals(HttpStatus.OK, route(filter).getResponse().getStatusCode());
+        }
+
+        assertEquals(4, first.requests());
+        assertEquals(10, second.requests());
+    }
+
+    @Test
+    void everyInstanceOpenAnswersUnavailableWithoutCallingThem() {
+        fixture.route.getCircuitBreaker().setSlidingWindowSize(2);
+        fixture.route.getCircuitBreaker().setMinimumCalls(2);
+        fixture.route.getRetry().setMaxAttempts(2);
+        first.status(503);
+        second.status(503);
+        ResilientRoutingFilter filter = fixture.filter();
+        route(filter);
+        route(filter);
+
+        MockServerWebExchange exchange = route(filter);
+
+        assertEquals(HttpStatus.SERVICE_UNAVAILABLE, exchange.getResponse().getStatusCode());
+        assertEquals(4, first.requests() + second.requests());
+        assertTrue(counter("gateway.resilience.attempts", "rejected") > 0);
+    }
+
+    @Test
+    void breakerOfAnInstanceThatLeftDiscoveryIsDropped() {
+        first.status(503);
+        ResilientRoutingFilter filter = fixture.filter();
+        route(filter);
+        assertEquals(2.0, breakers());
+
+        try (SlowStubService replacement = new SlowStubService("replacement")) {
+            fixture.register(second, replacement);
+            route(filter);
+
+            assertEquals(1.0, breakers());
+        }
+    }
+
+    @Test
+    void nonGetRequestsKeepTheNormalRoute() {
+        MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.post(ResilientRoutingFixture.PATH));
+        exchange.getAttributes().put(GATEWAY_REQUEST_URL_ATTR, URI.create("lb://" + ResilientRoutingFixture.SERVICE_ID + "/v1/books"));
+
+        fixture.filter().filter(exchange, chainExchange -> {
+            chainExchange.getResponse().setStatusCode(HttpStatus.ACCEPTED);
+            return chainExchange.getResponse().setComplete();
+        }).block();
+
+        assertEquals(HttpStatus.ACCEPTED, exchange.getResponse().getStatusCode());
+        assertEquals(0, first.requests() + second.requests());
+    }
+
+    private static MockServerWebExchange route(ResilientRoutingFilter filter) {
+        MockServerWebExchange exchange = exchange();
+        filter.filter(exchange, unroutedChain()).block(Duration.ofSeconds(10));
+        return exchange;
+    }
+
+    private double counter(String name, String outcome) {
+        return fixture.meterRegistry.get(name).tag("outcome", outcome).counter().count();
+    }
+
+    private double breakers() {
+        return fixture.meterRegistry.get("gateway.resilience.breakers").gauge().value();
+    }
+
+    private static long elapsedMillis(long started) {
+        return (System.nanoTime() - started) / 1_000_000;
+    }
+}
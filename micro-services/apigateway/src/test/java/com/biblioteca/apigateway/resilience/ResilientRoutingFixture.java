@@ -0,0 +1,85 @@
+package com.biblioteca.apigateway.resilience;
+
+import com.biblioteca.apigateway.util.ErrorResponseWriter;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.cloud.client.ServiceInstance;
+import org.springframework.cloud.client.discovery.ReactiveDiscoveryClient;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.filter.headers.HttpHeadersFilter;
+import org.springframework.core.ResolvableType;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.springframework.cloud.gateway.support.ServerWebExchangeUtils.GATEWAY_REQUEST_URL_ATTR;
+
+/* A ResilientRoutingFilter for one route in front of SlowStubService instances, without a context. */
+class ResilientRoutingFixture {
+    static final String SERVICE_ID = "catalogservice";
+    static final String PATH = "/catalogservice/v1/books";
+
+    final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    final List<ServiceInstance> instances = new CopyOnWriteArrayList<>();
+    final ResilienceProperties.Route route = new ResilienceProperties.Route();
+
+    ResilientRoutingFixture() {
+        route.setId("catalog");
+        route.setPath("/catalogservice/**");
+        route.getRetry().setInitialBackoff(Duration.ofMillis(10));
+        route.getRetry().setMaxBackoff(Duration.ofMillis(20));
+    }
+
+    void register(SlowStubService... services) {
+        instances.clear();
+        for (SlowStubService service : services) {
+            instances.add(service.instance(SERVICE_ID));
+        }
+    }
+
+    /* Built after the test has adjusted the route, since the filter reads it once. */
+    ResilientRoutingFilter filter() {
+        ResilienceProperties properties = new ResilienceProperties();
+        properties.setRoutes(List.of(route));
+        return new ResilientRoutingFilter(discoveryClient(), new StaticListableBeanFactory()
+                .getBeanProvider(ResolvableType.forClassWithGenerics(List.class, HttpHeadersFilter.class)),
+                new ErrorResponseWriter(new ObjectMapper()), meterRegistry, WebClient.create(), properties);
+    }
+
+    static MockServerWebExchange exchange() {
+        MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.get(PATH));
+        exchange.getAttributes().put(GATEWAY_REQUEST_URL_ATTR, URI.create("lb://" + SERVICE_ID + "/v1/books"));
+        return exchange;
+    }
+
+    static GatewayFilterChain unroutedChain() {
+        return exchange -> Mono.error(new AssertionError("request was left to the normal route"));
+    }
+
+    private ReactiveDiscoveryClient discoveryClient() {
+        return new ReactiveDiscoveryClient() {
+            @Override
+            public String description() {
+                return "test instances";
+            }
+
+            @Override
+            public Flux<ServiceInstance> getInstances(String serviceId) {
+                return SERVICE_ID.equals(serviceId) ? Flux.fromIterable(List.copyOf(instances)) : Flux.empty();
+            }
+
+            @Override
+            public Flux<String> getServices() {
+                return Flux.just(SERVICE_ID);
+            }
+        };
+    }
+}
@@ -0,0 +1,59 @@
+package com.biblioteca.apigateway.resilience;
+
+import org.springframework.cloud.client.DefaultServiceInstance;
+import org.springframework.cloud.client.ServiceInstance;
+import reactor.core.publisher.Mono;
+import reactor.netty.DisposableServer;
+import reactor.netty.http.server.HttpServer;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/*
+ * A local upstream instance for routing tests: answers every request with its own name after
+ * a configurable delay and with a configurable status, and counts the requests it received.
+ */
+class SlowStubService implements AutoCloseable {
+    private final String name;
+    private final DisposableServer server;
+    private final AtomicInteger requests = new AtomicInteger();
+
+    private volatile Duration delay = Duration.ZERO;
+    private volatile int status = 200;
+
+    SlowStubService(String name) {
+        this.name = name;
+        this.server = HttpServer.create()
+                .host("127.0.0.1")
+                .port(0)
+                .handle((request, response) -> {
+                    requests.incrementAndGet();
+                    return Mono.delay(delay)
+                            .then(response.status(status).sendString(Mono.just(name)).then());
+                })
+                .bindNow();
+    }
+
+    SlowStubService delay(Duration delay) {
+        this.delay = delay;
+        return this;
+    }
+
+    SlowStubService status(int status) {
+        this.status = status;
+        return this;
+    }
+
+    int requests() {
+        return requests.get();
+    }
+
+    ServiceInstance instance(String serviceId) {
+        return new DefaultServiceInstance(name, serviceId, "127.0.0.1", server.port(), false);
+    }
+
+    @Override
+    public void close() {
+        server.disposeNow();
+    }
+}
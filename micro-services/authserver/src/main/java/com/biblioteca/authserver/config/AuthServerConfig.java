@@ -114,6 +114,8 @@ public class AuthServerConfig {
                 Set<String> authorities = principal.getAuthorities().stream()
                         .map(GrantedAuthority::getAuthority).collect(Collectors.toSet());
                 context.getClaims().claim("authorities", authorities);
+                /* The subject is the login email; services key their data by this id. */
+                context.getClaims().claim("user_id", authUserService.findByEmail(principal.getName()).getId());
             }
         };
     }
@@ -0,0 +1,15 @@
+package com.biblioteca.catalogservice.config;
+
+import com.biblioteca.catalogservice.util.async.AsyncRequestTimeout;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.AsyncSupportConfigurer;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+@Configuration
+public class AsyncConfig implements WebMvcConfigurer {
+
+    @Override
+    public void configureAsyncSupport(AsyncSupportConfigurer configurer) {
+        configurer.registerCallableInterceptors(new AsyncRequestTimeout());
+    }
+}
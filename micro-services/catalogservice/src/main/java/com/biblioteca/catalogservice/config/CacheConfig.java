@@ -0,0 +1,46 @@
+package com.biblioteca.catalogservice.config;
+
+import com.biblioteca.catalogservice.util.cache.CacheRegions;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.JCacheMetrics;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.cache.Cache;
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+
+/*
+ * Second-level cache for the reference entities (authors, genres, publishers, series and
+ * their association collections). Regions are Caffeine caches sized in application.conf;
+ * the same CacheManager is handed to Hibernate so the regions can be bound to Micrometer.
+ */
+@Configuration
+public class CacheConfig {
+
+    @Bean(destroyMethod = "close")
+    public CacheManager jCacheManager() {
+        return Caching.getCachingProvider(CaffeineCachingProvider.class.getName()).getCacheManager();
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer secondLevelCacheCustomizer(CacheManager jCacheManager) {
+        return properties -> properties.put(ConfigSettings.CACHE_MANAGER, jCacheManager);
+    }
+
+    @Bean
+    public MeterBinder secondLevelCacheMetrics(CacheManager jCacheManager) {
+        return registry -> {
+            for (String region : CacheRegions.ALL) {
+                Cache<Object, Object> cache = jCacheManager.getCache(region);
+                if (cache != null) {
+                    JCacheMetrics.monitor(registry, cache, Tags.of("cacheManager", "hibernate"));
+                }
+            }
+        };
+    }
+}
@@ -0,0 +1,28 @@
+package com.biblioteca.catalogservice.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+/*
+ * Imports run off the request thread. The pool is deliberately small: each job already
+ * saturates the database with batched inserts, so extra jobs wait in the queue instead of
+ * competing for connections with the interactive APIs.
+ */
+@Configuration
+public class ImportConfig {
+
+    @Bean(name = "catalogImportExecutor")
+    public ThreadPoolTaskExecutor catalogImportExecutor(@Value("${catalog.import.concurrency:1}") int concurrency,
+                                                        @Value("${catalog.import.queue-capacity:10}") int queueCapacity) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(concurrency);
+        executor.setMaxPoolSize(concurrency);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("catalog-import-");
+        executor.setWaitForTasksToCompleteOnShutdown(false);
+        executor.initialize();
+        return executor;
+    }
+}
@@ -0,0 +1,30 @@
+package com.biblioteca.catalogservice.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.ThreadPoolExecutor;
+
+/*
+ * The four reference loads of one lookup run on this pool so they overlap instead of
+ * following each other on the request thread. When the pool and its queue are full the
+ * request thread runs the load itself, which is slower but never fails the lookup.
+ */
+@Configuration
+public class LookupConfig {
+
+    @Bean(name = "catalogLookupExecutor")
+    public ThreadPoolTaskExecutor catalogLookupExecutor(@Value("${catalog.lookup.concurrency:8}") int concurrency,
+                                                        @Value("${catalog.lookup.queue-capacity:100}") int queueCapacity) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(concurrency);
+        executor.setMaxPoolSize(concurrency);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("catalog-lookup-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.initialize();
+        return executor;
+    }
+}
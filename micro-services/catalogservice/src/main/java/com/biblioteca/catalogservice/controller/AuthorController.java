@@ -3,6 +3,8 @@ package com.biblioteca.catalogservice.controller;
 import com.biblioteca.catalogservice.dto.author.AuthorCreateDTO;
 import com.biblioteca.catalogservice.dto.author.AuthorDTO;
 import com.biblioteca.catalogservice.dto.author.AuthorUpdateDTO;
+import com.biblioteca.catalogservice.dto.pagination.CursorPageDTO;
+import com.biblioteca.catalogservice.dto.pagination.CursorPageRequestDTO;
 import com.biblioteca.catalogservice.dto.pagination.PageRequestDTO;
 import com.biblioteca.catalogservice.dto.response.ResponseDTO;
 import com.biblioteca.catalogservice.service.AuthorService;
@@ -114,4 +116,21 @@ public class AuthorController {
 
         return new ResponseEntity<>(new ResponseDTO<>(dtos, "success", HttpStatus.OK.value()), HttpStatus.OK);
     }
+
+    @Operation(summary = "API ID: Author009")
+    @GetMapping("/cursor")
+    public ResponseEntity<ResponseDTO<CursorPageDTO<AuthorDTO>>> getAllWithCursor(
+            @RequestParam(value = "after", required = false) String after,
+            @RequestParam(value = "before", required = false) String before,
+            @RequestParam(value = "size", required = false, defaultValue = "10") int size,
+            HttpServletRequest request,
+            @Parameter(hidden = true) @AuthenticationPrincipal Jwt jwt) {
+        log.info("getAllWithCursor in AuthorController is called by user: {}", jwt.getSubject());
+
+        CursorPageRequestDTO cursorPageRequestDTO = new CursorPageRequestDTO(after, before, size);
+
+        CursorPageDTO<AuthorDTO> cursorPage = authorService.getAllWithCursor(cursorPageRequestDTO, request, jwt);
+
+        return new ResponseEntity<>(new ResponseDTO<>(cursorPage, "success", HttpStatus.OK.value()), HttpStatus.OK);
+    }
 }
@@ -4,6 +4,8 @@ import com.biblioteca.catalogservice.dto.author.AuthorDTO;
 import com.biblioteca.catalogservice.dto.book.BookCreateDTO;
 import com.biblioteca.catalogservice.dto.book.BookDTO;
 import com.biblioteca.catalogservice.dto.book.BookUpdateDTO;
+import com.biblioteca.catalogservice.dto.pagination.CursorPageDTO;
+import com.biblioteca.catalogservice.dto.pagination.CursorPageRequestDTO;
 import com.biblioteca.catalogservice.dto.pagination.PageRequestDTO;
 import com.biblioteca.catalogservice.dto.response.ResponseDTO;
 import com.biblioteca.catalogservice.service.BookService;
@@ -119,10 +121,12 @@ public class BookController {
 
     @Operation(summary = "API ID: Book007")
     @GetMapping("/genres/{genreId}")
-    public ResponseEntity<ResponseDTO<List<BookDTO>>> getBookByGenreId(@PathVariable(value = "genreId") Integer genreId, HttpServletRequest request, @Parameter(hidden = true) @AuthenticationPrincipal Jwt jwt) {
-        log.info("getBookByGenreId in BookController is called with id: {}", genreId);
+    public ResponseEntity<ResponseDTO<List<BookDTO>>> getBookByGenreId(@PathVariable(value = "genreId") Integer genreId,
+                                                                       @RequestParam(value = "includeDescendants", defaultValue = "false") boolean includeDescendants,
+                                                                       HttpServletRequest request, @Parameter(hidden = true) @AuthenticationPrincipal Jwt jwt) {
+        log.info("getBookByGenreId in BookController is called with id: {}, includeDescendants: {}", genreId, includeDescendants);
 
-        List<BookDTO> bookDTO = bookService.getBookByGenreId(genreId, request, jwt);
+        List<BookDTO> bookDTO = bookService.getBookByGenreId(genreId, includeDescendants, request, jwt);
 
         return new ResponseEntity<>(new ResponseDTO<>(bookDTO, "success", HttpStatus.OK.value()), HttpStatus.OK);
     }
@@ -137,4 +141,21 @@ public class BookController {
 
         return new ResponseEntity<>(new ResponseDTO<>(authorDTOs, "success", HttpStatus.OK.value()), HttpStatus.OK);
     }
+
+    @Operation(summary = "API ID: Book009")
+    @GetMapping("/cursor")
+    public ResponseEntity<ResponseDTO<CursorPageDTO<BookDTO>>> getAllBooksWithCursor(
+            @RequestParam(value = "after", required = false) String after,
+            @RequestParam(value = "before", required = false) String before,
+            @RequestParam(value = "size", required = false, defaultValue = "10") int size,
+            HttpServletRequest request,
+            @Parameter(hidden = true) @AuthenticationPrincipal Jwt jwt) {
+        log.info("getAllBooksWithCursor in BookController is called by user: {}", jwt.getSubject());
+
+        CursorPageRequestDTO cursorPageRequestDTO = new CursorPageRequestDTO(after, before, size);
+
+        CursorPageDTO<BookDTO> cursorPage = bookService.getAllBooksWithCursor(cursorPageRequestDTO, request, jwt);
+
+        return new ResponseEntity<>(new ResponseDTO<>(cursorPage, "success", HttpStatus.OK.value()), HttpStatus.OK);
+    }
 }
@@ -3,6 +3,8 @@ package com.biblioteca.catalogservice.controller;
 import com.biblioteca.catalogservice.dto.bookEdition.BookEditionCreateDTO;
 import com.biblioteca.catalogservice.dto.bookEdition.BookEditionDTO;
 import com.biblioteca.catalogservice.dto.bookEdition.BookEditionUpdateDTO;
+import com.biblioteca.catalogservice.dto.pagination.CursorPageDTO;
+import com.biblioteca.catalogservice.dto.pagination.CursorPageRequestDTO;
 import com.biblioteca.catalogservice.dto.pagination.PageRequestDTO;
 import com.biblioteca.catalogservice.dto.response.ResponseDTO;
 import com.biblioteca.catalogservice.service.BookEditionService;
@@ -114,4 +116,21 @@ public class BookEditionController {
 
         return new ResponseEntity<>(new ResponseDTO<>(bookEditionDTOList, "success", HttpStatus.OK.value()), HttpStatus.OK);
     }
+
+    @Operation(summary = "API ID: BookEdition009")
+    @GetMapping("/cursor")
+    public ResponseEntity<ResponseDTO<CursorPageDTO<BookEditionDTO>>> getBookEditionsWithCursor(
+            @RequestParam(value = "after", required = false) String after,
+            @RequestParam(value = "before", required = false) String before,
+            @RequestParam(value = "size", required = false, defaultValue = "10") int size,
+            HttpServletRequest request,
+            @Parameter(hidden = true) @AuthenticationPrincipal Jwt jwt) {
+        log.info("getBookEditionsWithCursor in BookEditionController is called by user: {}", jwt.getSubject());
+
+        CursorPageRequestDTO cursorPageRequestDTO = new CursorPageRequestDTO(after, before, size);
+
+        CursorPageDTO<BookEditionDTO> cursorPage = bookEditionService.getBookEditionsWithCursor(cursorPageRequestDTO, request, jwt);
+
+        return new ResponseEntity<>(new ResponseDTO<>(cursorPage, "success", HttpStatus.OK.value()), HttpStatus.OK);
+    }
 }
@@ -0,0 +1,64 @@
+package com.biblioteca.catalogservice.controller;
+
+import com.biblioteca.catalogservice.dto.bookImport.ImportJobDTO;
+import com.biblioteca.catalogservice.dto.response.ResponseDTO;
+import com.biblioteca.catalogservice.service.BookImportService;
+import com.biblioteca.catalogservice.util.enums.ImportFormat;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.util.List;
+
+@RestController
+@Slf4j
+@RequiredArgsConstructor
+@RequestMapping("/v1/imports")
+@Tag(name = "9. Import Controller", description = "Bulk Catalog Import Related APIs")
+public class BookImportController {
+    private final BookImportService bookImportService;
+
+    @Operation(summary = "API ID: Import001")
+    @PostMapping(consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    public ResponseEntity<ResponseDTO<ImportJobDTO>> startImport(
+            @RequestParam("file") MultipartFile file,
+            @RequestParam(defaultValue = "CSV") ImportFormat format,
+            HttpServletRequest request,
+            @Parameter(hidden = true) @AuthenticationPrincipal Jwt jwt) {
+        log.info("startImport in BookImportController is called with file: {}, format: {} by user: {}", file.getOriginalFilename(), format, jwt.getSubject());
+
+        ImportJobDTO importJobDTO = bookImportService.startImport(file, format, request, jwt);
+
+        return new ResponseEntity<>(new ResponseDTO<>(importJobDTO, "success", HttpStatus.ACCEPTED.value()), HttpStatus.ACCEPTED);
+    }
+
+    @Operation(summary = "API ID: Import002")
+    @GetMapping("/{jobId}")
+    public ResponseEntity<ResponseDTO<ImportJobDTO>> getImportJob(@PathVariable String jobId, HttpServletRequest request, @Parameter(hidden = true) @AuthenticationPrincipal Jwt jwt) {
+        log.info("getImportJob in BookImportController is called with id: {} by user: {}", jobId, jwt.getSubject());
+
+        ImportJobDTO importJobDTO = bookImportService.getImportJob(jobId, request, jwt);
+
+        return new ResponseEntity<>(new ResponseDTO<>(importJobDTO, "success", HttpStatus.OK.value()), HttpStatus.OK);
+    }
+
+    @Operation(summary = "API ID: Import003")
+    @GetMapping
+    public ResponseEntity<ResponseDTO<List<ImportJobDTO>>> getImportJobs(HttpServletRequest request, @Parameter(hidden = true) @AuthenticationPrincipal Jwt jwt) {
+        log.info("getImportJobs in BookImportController is called by user: {}", jwt.getSubject());
+
+        List<ImportJobDTO> importJobDTOs = bookImportService.getImportJobs(request, jwt);
+
+        return new ResponseEntity<>(new ResponseDTO<>(importJobDTOs, "success", HttpStatus.OK.value()), HttpStatus.OK);
+    }
+}
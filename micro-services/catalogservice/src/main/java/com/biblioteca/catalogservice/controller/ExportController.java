@@ -0,0 +1,67 @@
+package com.biblioteca.catalogservice.controller;
+
+import com.biblioteca.catalogservice.service.ExportService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+@RestController
+@Slf4j
+@RequiredArgsConstructor
+@RequestMapping("/v1/export")
+@Tag(name = "8. Export Controller", description = "Catalog Export Related APIs")
+public class ExportController {
+    private final ExportService exportService;
+
+    @Operation(summary = "API ID: Export001")
+    @GetMapping(value = "/books", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> exportBooks(HttpServletRequest request, @Parameter(hidden = true) @AuthenticationPrincipal Jwt jwt) {
+        log.info("exportBooks in ExportController is called by user: {}", jwt.getSubject());
+
+        return ndjson("books.ndjson", exportService.exportBooks(request, jwt));
+    }
+
+    @Operation(summary = "API ID: Export002")
+    @GetMapping(value = "/authors", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> exportAuthors(HttpServletRequest request, @Parameter(hidden = true) @AuthenticationPrincipal Jwt jwt) {
+        log.info("exportAuthors in ExportController is called by user: {}", jwt.getSubject());
+
+        return ndjson("authors.ndjson", exportService.exportAuthors(request, jwt));
+    }
+
+    @Operation(summary = "API ID: Export003")
+    @GetMapping(value = "/series", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> exportSeries(HttpServletRequest request, @Parameter(hidden = true) @AuthenticationPrincipal Jwt jwt) {
+        log.info("exportSeries in ExportController is called by user: {}", jwt.getSubject());
+
+        return ndjson("series.ndjson", exportService.exportSeries(request, jwt));
+    }
+
+    @Operation(summary = "API ID: Export004")
+    @GetMapping(value = "/book_editions", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> exportBookEditions(HttpServletRequest request, @Parameter(hidden = true) @AuthenticationPrincipal Jwt jwt) {
+        log.info("exportBookEditions in ExportController is called by user: {}", jwt.getSubject());
+
+        return ndjson("book_editions.ndjson", exportService.exportBookEditions(request, jwt));
+    }
+
+    private ResponseEntity<StreamingResponseBody> ndjson(String fileName, StreamingResponseBody body) {
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment().filename(fileName).build().toString())
+                .body(body);
+    }
+}
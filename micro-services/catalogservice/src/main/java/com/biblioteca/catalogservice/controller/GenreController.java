@@ -3,7 +3,10 @@ package com.biblioteca.catalogservice.controller;
 import com.biblioteca.catalogservice.dto.author.AuthorDTO;
 import com.biblioteca.catalogservice.dto.genre.GenreCreateDTO;
 import com.biblioteca.catalogservice.dto.genre.GenreDTO;
+import com.biblioteca.catalogservice.dto.genre.GenreTreeDTO;
 import com.biblioteca.catalogservice.dto.genre.GenreUpdateDTO;
+import com.biblioteca.catalogservice.dto.pagination.CursorPageDTO;
+import com.biblioteca.catalogservice.dto.pagination.CursorPageRequestDTO;
 import com.biblioteca.catalogservice.dto.pagination.PageRequestDTO;
 import com.biblioteca.catalogservice.dto.response.ResponseDTO;
 import com.biblioteca.catalogservice.service.GenreService;
@@ -115,4 +118,51 @@ public class GenreController {
 
         return new ResponseEntity<>(new ResponseDTO<>(dtos, "success", HttpStatus.OK.value()), HttpStatus.OK);
     }
+
+    @Operation(summary = "API ID: Genre008")
+    @GetMapping("/cursor")
+    public ResponseEntity<ResponseDTO<CursorPageDTO<GenreDTO>>> getAllGenresWithCursor(
+            @RequestParam(value = "after", required = false) String after,
+            @RequestParam(value = "before", required = false) String before,
+            @RequestParam(value = "size", required = false, defaultValue = "10") int size,
+            HttpServletRequest request,
+            @Parameter(hidden = true) @AuthenticationPrincipal Jwt jwt) {
+        log.info("getAllGenresWithCursor in GenreController is called by user: {}", jwt.getSubject());
+
+        CursorPageRequestDTO cursorPageRequestDTO = new CursorPageRequestDTO(after, before, size);
+
+        CursorPageDTO<GenreDTO> cursorPage = genreService.getAllGenresWithCursor(cursorPageRequestDTO, request, jwt);
+
+        return new ResponseEntity<>(new ResponseDTO<>(cursorPage, "success", HttpStatus.OK.value()), HttpStatus.OK);
+    }
+
+    @GetMapping("/tree")
+    @Operation(summary = "API ID: Genre009")
+    public ResponseEntity<ResponseDTO<List<GenreTreeDTO>>> getGenreTree(HttpServletRequest request, @Parameter(hidden = true) @AuthenticationPrincipal Jwt jwt) {
+        log.info("getGenreTree in GenreController is called by user: {}", jwt.getSubject());
+
+        List<GenreTreeDTO> genreTree = genreService.getGenreTree(request, jwt);
+
+        return new ResponseEntity<>(new ResponseDTO<>(genreTree, "success", HttpStatus.OK.value()), HttpStatus.OK);
+    }
+
+    @GetMapping("/{id}/subtree")
+    @Operation(summary = "API ID: Genre010")
+    public ResponseEntity<ResponseDTO<GenreTreeDTO>> getGenreSubtree(@PathVariable Integer id, HttpServletRequest request, @Parameter(hidden = true) @AuthenticationPrincipal Jwt jwt) {
+        log.info("getGenreSubtree in GenreController is called with id: {} by user: {}", id, jwt.getSubject());
+
+        GenreTreeDTO genreTreeDTO = genreService.getGenreSubtree(id, request, jwt);
+
+        return new ResponseEntity<>(new ResponseDTO<>(genreTreeDTO, "success", HttpStatus.OK.value()), HttpStatus.OK);
+    }
+
+    @GetMapping("/{id}/ancestors")
+    @Operation(summary = "API ID: Genre011")
+    public ResponseEntity<ResponseDTO<List<GenreDTO>>> getGenreAncestors(@PathVariable Integer id, HttpServletRequest request, @Parameter(hidden = true) @AuthenticationPrincipal Jwt jwt) {
+        log.info("getGenreAncestors in GenreController is called with id: {} by user: {}", id, jwt.getSubject());
+
+        List<GenreDTO> ancestors = genreService.getGenreAncestors(id, request, jwt);
+
+        return new ResponseEntity<>(new ResponseDTO<>(ancestors, "success", HttpStatus.OK.value()), HttpStatus.OK);
+    }
 }
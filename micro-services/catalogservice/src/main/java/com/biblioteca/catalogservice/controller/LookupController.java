@@ -0,0 +1,39 @@
+package com.biblioteca.catalogservice.controller;
+
+import com.biblioteca.catalogservice.dto.lookup.LookupRequestDTO;
+import com.biblioteca.catalogservice.dto.lookup.LookupResponseDTO;
+import com.biblioteca.catalogservice.dto.response.ResponseDTO;
+import com.biblioteca.catalogservice.service.LookupService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@Slf4j
+@RequiredArgsConstructor
+@RequestMapping("/v1/lookup")
+@Tag(name = "10. Lookup Controller", description = "Batch Reference Lookup Related APIs")
+public class LookupController {
+    private final LookupService lookupService;
+
+    @Operation(summary = "API ID: Lookup001")
+    @PostMapping
+    public ResponseEntity<ResponseDTO<LookupResponseDTO>> lookup(@RequestBody LookupRequestDTO lookupRequestDTO, HttpServletRequest request, @Parameter(hidden = true) @AuthenticationPrincipal Jwt jwt) {
+        log.info("lookup in LookupController is called with data: {} by user: {}", lookupRequestDTO, jwt.getSubject());
+
+        LookupResponseDTO lookupResponseDTO = lookupService.lookup(lookupRequestDTO, request, jwt);
+
+        return new ResponseEntity<>(new ResponseDTO<>(lookupResponseDTO, "success", HttpStatus.OK.value()), HttpStatus.OK);
+    }
+}
@@ -1,5 +1,7 @@
 package com.biblioteca.catalogservice.controller;
 
+import com.biblioteca.catalogservice.dto.pagination.CursorPageDTO;
+import com.biblioteca.catalogservice.dto.pagination.CursorPageRequestDTO;
 import com.biblioteca.catalogservice.dto.pagination.PageRequestDTO;
 import com.biblioteca.catalogservice.dto.publisher.PublisherCreateDTO;
 import com.biblioteca.catalogservice.dto.publisher.PublisherDTO;
@@ -107,4 +109,21 @@ public class PublisherController {
 
         return new ResponseEntity<>(new ResponseDTO<>(authorDTOs, "success", HttpStatus.OK.value()), HttpStatus.OK);
     }
+
+    @Operation(summary = "API ID: Publisher008")
+    @GetMapping("/cursor")
+    public ResponseEntity<ResponseDTO<CursorPageDTO<PublisherDTO>>> getAllPublisherWithCursor(
+            @RequestParam(value = "after", required = false) String after,
+            @RequestParam(value = "before", required = false) String before,
+            @RequestParam(value = "size", required = false, defaultValue = "10") int size,
+            HttpServletRequest request,
+            @Parameter(hidden = true) @AuthenticationPrincipal Jwt jwt) {
+        log.info("getAllPublisherWithCursor in PublisherController is called by user: {}", jwt.getSubject());
+
+        CursorPageRequestDTO cursorPageRequestDTO = new CursorPageRequestDTO(after, before, size);
+
+        CursorPageDTO<PublisherDTO> cursorPage = publisherService.getAllPublisherWithCursor(cursorPageRequestDTO, request, jwt);
+
+        return new ResponseEntity<>(new ResponseDTO<>(cursorPage, "success", HttpStatus.OK.value()), HttpStatus.OK);
+    }
 }
@@ -0,0 +1,46 @@
+package com.biblioteca.catalogservice.controller;
+
+import com.biblioteca.catalogservice.dto.pagination.PageRequestDTO;
+import com.biblioteca.catalogservice.dto.response.ResponseDTO;
+import com.biblioteca.catalogservice.dto.search.SearchDTO;
+import com.biblioteca.catalogservice.service.SearchService;
+import com.biblioteca.catalogservice.util.enums.SearchType;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Page;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@Slf4j
+@RequiredArgsConstructor
+@RequestMapping("/v1/search")
+@Tag(name = "7. Search Controller", description = "Catalog Search Related APIs")
+public class SearchController {
+    private final SearchService searchService;
+
+    @Operation(summary = "API ID: Search001")
+    @GetMapping
+    public ResponseEntity<ResponseDTO<Page<SearchDTO>>> search(
+            @RequestParam String query,
+            @RequestParam(required = false) SearchType type,
+            @RequestParam(defaultValue = "1") Integer page,
+            @RequestParam(defaultValue = "10") Integer size,
+            HttpServletRequest request,
+            @Parameter(hidden = true) @AuthenticationPrincipal Jwt jwt) {
+        log.info("search in SearchController is called with query: {}, type: {}, page: {}, size: {} by user: {}", query, type, page, size, jwt.getSubject());
+
+        PageRequestDTO pageRequestDTO = new PageRequestDTO(page, size);
+
+        Page<SearchDTO> results = searchService.search(query, type, pageRequestDTO, request, jwt);
+
+        return new ResponseEntity<>(new ResponseDTO<>(results, "success", HttpStatus.OK.value()), HttpStatus.OK);
+    }
+}
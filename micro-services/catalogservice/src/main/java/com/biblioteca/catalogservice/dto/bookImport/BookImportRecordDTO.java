@@ -0,0 +1,34 @@
+package com.biblioteca.catalogservice.dto.bookImport;
+
+import lombok.*;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@ToString
+public class BookImportRecordDTO {
+    private String title;
+    private String subtitle;
+    private String description;
+    private LocalDate publicationDate;
+    private Integer pageCount;
+    private String language;
+    private Double averageRating;
+    private String goodreadsId;
+    private String googleBooksId;
+    private List<String> authors;
+    private List<String> genres;
+    private String series;
+    private Integer seriesPosition;
+    private String isbn;
+    private String publisher;
+    private String format;
+    private BigDecimal price;
+    private String currency;
+}
@@ -0,0 +1,31 @@
+package com.biblioteca.catalogservice.dto.bookImport;
+
+import com.biblioteca.catalogservice.util.enums.ImportFormat;
+import com.biblioteca.catalogservice.util.enums.ImportStatus;
+import lombok.*;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@ToString
+public class ImportJobDTO {
+    private String jobId;
+    private String fileName;
+    private ImportFormat format;
+    private ImportStatus status;
+    private long processed;
+    private long imported;
+    private long skipped;
+    private long failed;
+    private double rowsPerSecond;
+    private List<String> errors;
+    private String startedBy;
+    private LocalDateTime createdAt;
+    private LocalDateTime startedAt;
+    private LocalDateTime finishedAt;
+}
@@ -0,0 +1,20 @@
+package com.biblioteca.catalogservice.dto.genre;
+
+import lombok.*;
+
+import java.util.List;
+
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+@ToString
+public class GenreTreeDTO {
+    private Integer id;
+    private String name;
+    private String description;
+    private Integer parentGenreId;
+    private Boolean isActive;
+    private List<GenreTreeDTO> subGenres;
+}
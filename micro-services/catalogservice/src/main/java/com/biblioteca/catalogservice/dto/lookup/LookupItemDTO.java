@@ -0,0 +1,16 @@
+package com.biblioteca.catalogservice.dto.lookup;
+
+import lombok.*;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@ToString
+public class LookupItemDTO {
+    private Integer id;
+    private String name;
+    private String imageId;
+    private Integer parentGenreId;
+}
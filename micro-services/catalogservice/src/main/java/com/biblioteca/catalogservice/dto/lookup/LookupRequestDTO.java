@@ -0,0 +1,18 @@
+package com.biblioteca.catalogservice.dto.lookup;
+
+import lombok.*;
+
+import java.util.List;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@ToString
+public class LookupRequestDTO {
+    private List<Integer> authorIds;
+    private List<Integer> genreIds;
+    private List<Integer> seriesIds;
+    private List<Integer> publisherIds;
+}
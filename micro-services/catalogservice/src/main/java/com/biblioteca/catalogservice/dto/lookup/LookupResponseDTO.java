@@ -0,0 +1,18 @@
+package com.biblioteca.catalogservice.dto.lookup;
+
+import lombok.*;
+
+import java.util.List;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@ToString
+public class LookupResponseDTO {
+    private List<LookupItemDTO> authors;
+    private List<LookupItemDTO> genres;
+    private List<LookupItemDTO> series;
+    private List<LookupItemDTO> publishers;
+}
@@ -0,0 +1,15 @@
+package com.biblioteca.catalogservice.dto.pagination;
+
+import lombok.*;
+
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+@ToString
+public class CursorPageRequestDTO {
+    private String after;
+    private String before;
+    private int size;
+}
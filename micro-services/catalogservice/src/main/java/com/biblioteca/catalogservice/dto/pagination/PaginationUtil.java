@@ -1,10 +1,21 @@
 package com.biblioteca.catalogservice.dto.pagination;
 
+import com.biblioteca.catalogservice.repository.KeysetRepository;
+import com.biblioteca.catalogservice.util.exception.CustomException;
 import org.springframework.data.domain.*;
+import org.springframework.http.HttpStatus;
 
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Collections;
 import java.util.List;
+import java.util.function.Function;
 
 public class PaginationUtil {
+    private static final String CURSOR_PREFIX = "id:";
+    private static final int MAX_CURSOR_PAGE_SIZE = 100;
+
     public static Pageable getPageable(Integer page, Integer size) {
         if (page > 0) page = page - 1;
         return PageRequest.of(page, size);
@@ -19,4 +30,71 @@ public class PaginationUtil {
         return new PageImpl<>(content, pageable, total);
     }
 
+    /**
+     * Reads one page in id DESC order by seeking past the cursor instead of using an offset,
+     * so no count query is run and deep pages cost the same as the first one.
+     * One extra row is fetched to find out whether another page exists in the read direction.
+     */
+    public static <T, D> CursorPageDTO<D> getCursorPage(KeysetRepository<T> repository,
+                                                        CursorPageRequestDTO cursorPageRequestDTO,
+                                                        Function<T, Integer> idExtractor,
+                                                        Function<List<T>, List<D>> mapper) {
+        int size = Math.max(1, Math.min(cursorPageRequestDTO.getSize(), MAX_CURSOR_PAGE_SIZE));
+        Limit limit = Limit.of(size + 1);
+
+        List<T> rows;
+        boolean hasNext;
+        boolean hasPrevious;
+
+        if (cursorPageRequestDTO.getBefore() != null) {
+            Integer beforeId = decodeCursor(cursorPageRequestDTO.getBefore());
+
+            rows = new ArrayList<>(repository.findByIdGreaterThanOrderByIdAsc(beforeId, limit));
+            hasPrevious = rows.size() > size;
+            hasNext = true;
+
+            if (hasPrevious) {
+                rows = rows.subList(0, size);
+            }
+            Collections.reverse(rows);
+        } else {
+            rows = cursorPageRequestDTO.getAfter() != null
+                    ? repository.findByIdLessThanOrderByIdDesc(decodeCursor(cursorPageRequestDTO.getAfter()), limit)
+                    : repository.findAllByOrderByIdDesc(limit);
+            hasNext = rows.size() > size;
+            hasPrevious = cursorPageRequestDTO.getAfter() != null;
+
+            if (hasNext) {
+                rows = rows.subList(0, size);
+            }
+        }
+
+        return CursorPageDTO.<D>builder()
+                .content(mapper.apply(rows))
+                .size(size)
+                .hasNext(hasNext && !rows.isEmpty())
+                .hasPrevious(hasPrevious && !rows.isEmpty())
+                .nextCursor(hasNext && !rows.isEmpty() ? encodeCursor(idExtractor.apply(rows.get(rows.size() - 1))) : null)
+                .previousCursor(hasPrevious && !rows.isEmpty() ? encodeCursor(idExtractor.apply(rows.get(0))) : null)
+                .build();
+    }
+
+    public static String encodeCursor(Integer id) {
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString((CURSOR_PREFIX + id).getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static Integer decodeCursor(String cursor) {
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+
+            if (!decoded.startsWith(CURSOR_PREFIX)) {
+                throw new IllegalArgumentException("Unknown cursor format");
+            }
+
+            return Integer.valueOf(decoded.substring(CURSOR_PREFIX.length()));
+        } catch (IllegalArgumentException e) {
+            throw new CustomException("Invalid pagination cursor", HttpStatus.BAD_REQUEST.value());
+        }
+    }
 }
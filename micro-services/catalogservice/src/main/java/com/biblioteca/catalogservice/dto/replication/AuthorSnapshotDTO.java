@@ -0,0 +1,15 @@
+package com.biblioteca.catalogservice.dto.replication;
+
+import lombok.*;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@ToString
+public class AuthorSnapshotDTO {
+    private Integer id;
+    private String name;
+    private String imageId;
+}
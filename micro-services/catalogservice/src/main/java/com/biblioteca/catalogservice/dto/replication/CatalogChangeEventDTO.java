@@ -0,0 +1,19 @@
+package com.biblioteca.catalogservice.dto.replication;
+
+import com.biblioteca.catalogservice.util.enums.CatalogAggregateType;
+import com.biblioteca.catalogservice.util.enums.CatalogEventType;
+import lombok.*;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@ToString
+public class CatalogChangeEventDTO {
+    private CatalogAggregateType aggregateType;
+    private Integer aggregateId;
+    private CatalogEventType eventType;
+    private Long version;
+    private Object payload;
+}
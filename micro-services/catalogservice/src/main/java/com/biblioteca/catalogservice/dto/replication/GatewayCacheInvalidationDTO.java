@@ -0,0 +1,16 @@
+package com.biblioteca.catalogservice.dto.replication;
+
+import com.biblioteca.catalogservice.util.enums.CatalogAggregateType;
+import lombok.*;
+
+import java.util.Set;
+
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+@ToString
+public class GatewayCacheInvalidationDTO {
+    private Set<CatalogAggregateType> tags;
+}
@@ -0,0 +1,16 @@
+package com.biblioteca.catalogservice.dto.replication;
+
+import lombok.*;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@ToString
+public class GenreSnapshotDTO {
+    private Integer id;
+    private String name;
+    private Integer parentGenreId;
+    private Boolean isActive;
+}
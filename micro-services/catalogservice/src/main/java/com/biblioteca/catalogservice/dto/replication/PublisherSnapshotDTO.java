@@ -0,0 +1,14 @@
+package com.biblioteca.catalogservice.dto.replication;
+
+import lombok.*;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@ToString
+public class PublisherSnapshotDTO {
+    private Integer id;
+    private String name;
+}
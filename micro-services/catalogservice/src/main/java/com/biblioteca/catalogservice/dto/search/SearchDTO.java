@@ -1,5 +1,6 @@
 package com.biblioteca.catalogservice.dto.search;
 
+import com.biblioteca.catalogservice.util.enums.SearchType;
 import lombok.*;
 
 @Getter
@@ -9,8 +10,10 @@ import lombok.*;
 @ToString
 @Builder
 public class SearchDTO {
+    private SearchType type;
     private Integer id;
     private String name;
     private String title;
     private String description;
+    private Double rank;
 }
@@ -1,7 +1,10 @@
 package com.biblioteca.catalogservice.entity;
 
+import com.biblioteca.catalogservice.util.cache.CacheRegions;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
@@ -16,9 +19,12 @@ import java.util.List;
 @Builder
 @ToString
 @Table(name = "authors")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CacheRegions.AUTHOR)
 public class Author {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "authors_id_seq")
+    @SequenceGenerator(name = "authors_id_seq", sequenceName = "authors_id_seq", allocationSize = 50)
     private Integer id;
 
     @Column(name = "name", nullable = false, columnDefinition = "VARCHAR(255)")
@@ -13,7 +13,8 @@ import lombok.*;
 @Table(name = "book_authors")
 public class BookAuthor {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "book_authors_id_seq")
+    @SequenceGenerator(name = "book_authors_id_seq", sequenceName = "book_authors_id_seq", allocationSize = 50)
     private Integer id;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -22,7 +22,8 @@ import java.time.LocalDateTime;
 })
 public class BookEdition {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "book_editions_id_seq")
+    @SequenceGenerator(name = "book_editions_id_seq", sequenceName = "book_editions_id_seq", allocationSize = 50)
     private Integer id;
 
     @Column(name = "format", columnDefinition = "VARCHAR(50)")
@@ -13,14 +13,15 @@ import lombok.*;
 @Table(name = "book_genres")
 public class BookGenre {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "book_genres_id_seq")
+    @SequenceGenerator(name = "book_genres_id_seq", sequenceName = "book_genres_id_seq", allocationSize = 50)
     private Integer id;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "book_id", nullable = false)
     private Book book;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "genre_id", nullable = false)
     private Genre genre;
 }
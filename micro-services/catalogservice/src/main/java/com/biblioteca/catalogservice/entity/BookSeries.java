@@ -15,7 +15,8 @@ import java.io.Serializable;
 @Table(name = "book_series")
 public class BookSeries {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "book_series_id_seq")
+    @SequenceGenerator(name = "book_series_id_seq", sequenceName = "book_series_id_seq", allocationSize = 50)
     private Integer id;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -1,7 +1,10 @@
 package com.biblioteca.catalogservice.entity;
 
+import com.biblioteca.catalogservice.util.cache.CacheRegions;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
@@ -15,9 +18,12 @@ import java.util.List;
 @Builder
 @ToString
 @Table(name = "genres")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CacheRegions.GENRE)
 public class Genre {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "genres_id_seq")
+    @SequenceGenerator(name = "genres_id_seq", sequenceName = "genres_id_seq", allocationSize = 50)
     private Integer id;
 
     @Column(name = "name", nullable = false, columnDefinition = "VARCHAR(100)")
@@ -36,10 +42,11 @@ public class Genre {
     private LocalDateTime updatedAt;
 
     @JoinColumn(name = "parent_genre_id", referencedColumnName = "id")
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     private Genre parentGenreId;
 
     @OneToMany(mappedBy = "parentGenreId", cascade = CascadeType.ALL, fetch = FetchType.LAZY)
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CacheRegions.GENRE_SUB_GENRES)
     private List<Genre> subGenres = new ArrayList<>();
 
     @OneToMany(mappedBy = "genre", cascade = CascadeType.ALL, orphanRemoval = true)
@@ -1,7 +1,10 @@
 package com.biblioteca.catalogservice.entity;
 
+import com.biblioteca.catalogservice.util.cache.CacheRegions;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import java.time.LocalDateTime;
 
@@ -13,9 +16,12 @@ import java.time.LocalDateTime;
 @Builder
 @ToString
 @Table(name = "publishers")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CacheRegions.PUBLISHER)
 public class Publisher {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "publishers_id_seq")
+    @SequenceGenerator(name = "publishers_id_seq", sequenceName = "publishers_id_seq", allocationSize = 50)
     private Integer id;
 
     @Column(name = "name", nullable = false, unique = true, columnDefinition = "VARCHAR(255)")
@@ -1,7 +1,10 @@
 package com.biblioteca.catalogservice.entity;
 
+import com.biblioteca.catalogservice.util.cache.CacheRegions;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
@@ -15,9 +18,12 @@ import java.util.List;
 @Builder
 @ToString
 @Table(name = "series")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CacheRegions.SERIES)
 public class Series {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "series_id_seq")
+    @SequenceGenerator(name = "series_id_seq", sequenceName = "series_id_seq", allocationSize = 50)
     private Integer id;
 
     @Column(name = "name", nullable = false, columnDefinition = "VARCHAR(255)")
@@ -39,9 +45,11 @@ public class Series {
     private LocalDateTime updatedAt;
 
     @OneToMany(mappedBy = "series", cascade = CascadeType.ALL, orphanRemoval = true)
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CacheRegions.SERIES_AUTHORS)
     private List<SeriesAuthor> seriesAuthors = new ArrayList<>();
 
     @OneToMany(mappedBy = "series", cascade = CascadeType.ALL, orphanRemoval = true)
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CacheRegions.SERIES_GENRES)
     private List<SeriesGenre> seriesGenres = new ArrayList<>();
 
     @OneToMany(mappedBy = "series", cascade = CascadeType.ALL, orphanRemoval = true)
@@ -1,6 +1,9 @@
 package com.biblioteca.catalogservice.entity;
+import com.biblioteca.catalogservice.util.cache.CacheRegions;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 @Entity
 @Getter
@@ -10,9 +13,12 @@ import lombok.*;
 @Builder
 @ToString
 @Table(name = "series_authors")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CacheRegions.SERIES_AUTHOR)
 public class SeriesAuthor {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "series_authors_id_seq")
+    @SequenceGenerator(name = "series_authors_id_seq", sequenceName = "series_authors_id_seq", allocationSize = 50)
     private Integer id;
 
     @ManyToOne(fetch = FetchType.LAZY)
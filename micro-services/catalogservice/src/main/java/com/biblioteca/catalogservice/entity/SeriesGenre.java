@@ -1,7 +1,10 @@
 package com.biblioteca.catalogservice.entity;
 
+import com.biblioteca.catalogservice.util.cache.CacheRegions;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 @Entity
 @Getter
@@ -11,9 +14,12 @@ import lombok.*;
 @Builder
 @ToString
 @Table(name = "series_genres")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CacheRegions.SERIES_GENRE)
 public class SeriesGenre {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "series_genres_id_seq")
+    @SequenceGenerator(name = "series_genres_id_seq", sequenceName = "series_genres_id_seq", allocationSize = 50)
     private Integer id;
 
     @ManyToOne
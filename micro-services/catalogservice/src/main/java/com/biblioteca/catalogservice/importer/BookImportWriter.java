@@ -0,0 +1,266 @@
+package com.biblioteca.catalogservice.importer;
+
+import com.biblioteca.catalogservice.dto.bookImport.BookImportRecordDTO;
+import com.biblioteca.catalogservice.entity.*;
+import com.biblioteca.catalogservice.replication.CatalogOutbox;
+import com.biblioteca.catalogservice.repository.BookEditionRepository;
+import com.biblioteca.catalogservice.repository.BookRepository;
+import com.biblioteca.catalogservice.util.enums.AuthorRoleEnums;
+import com.biblioteca.catalogservice.util.enums.CatalogAggregateType;
+import jakarta.persistence.EntityManager;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.function.Function;
+
+/*
+ * Writes one chunk of import records in a single transaction. Existing titles and ISBNs are
+ * checked with one IN query each, reference entities are resolved through the job's name
+ * cache, and books are persisted with their association rows so Hibernate can batch the
+ * inserts (sequence ids, hibernate.jdbc.batch_size). If the chunk fails as a whole it is
+ * replayed record by record so one bad row only costs itself. Replication events for the
+ * chunk are written to the outbox in the same transaction.
+ */
+@Component
+@Slf4j
+public class BookImportWriter {
+    private static final String DEFAULT_EDITION_FORMAT = "Paperback";
+    private static final int MAX_TITLE_LENGTH = 500;
+
+    private final BookRepository bookRepository;
+    private final BookEditionRepository bookEditionRepository;
+    private final EntityManager entityManager;
+    private final CatalogOutbox catalogOutbox;
+    private final TransactionTemplate writeTransaction;
+
+    public BookImportWriter(BookRepository bookRepository,
+                            BookEditionRepository bookEditionRepository,
+                            EntityManager entityManager,
+                            CatalogOutbox catalogOutbox,
+                            PlatformTransactionManager transactionManager) {
+        this.bookRepository = bookRepository;
+        this.bookEditionRepository = bookEditionRepository;
+        this.entityManager = entityManager;
+        this.catalogOutbox = catalogOutbox;
+        this.writeTransaction = new TransactionTemplate(transactionManager);
+    }
+
+    public ImportChunkResult write(List<ImportLine> lines, ImportNameCache names) {
+        try {
+            ImportChunkResult result = writeTransaction.execute(status -> persist(lines, names));
+            names.commitPending();
+            return result;
+        } catch (RuntimeException e) {
+            names.discardPending();
+            if (lines.size() == 1) {
+                ImportChunkResult result = new ImportChunkResult();
+                result.failed(lines.get(0).position(), rootMessage(e));
+                return result;
+            }
+            log.warn("Import chunk of {} records failed, retrying one by one: {}", lines.size(), rootMessage(e));
+        }
+
+        ImportChunkResult result = new ImportChunkResult();
+        for (ImportLine line : lines) {
+            result.add(write(List.of(line), names));
+        }
+
+        return result;
+    }
+
+    private ImportChunkResult persist(List<ImportLine> lines, ImportNameCache names) {
+        ImportChunkResult result = new ImportChunkResult();
+        Map<CatalogAggregateType, List<Integer>> changes = new EnumMap<>(CatalogAggregateType.class);
+
+        Set<String> titles = new HashSet<>();
+        Set<String> isbns = new HashSet<>();
+        for (ImportLine line : lines) {
+            if (line.record().getTitle() != null) titles.add(line.record().getTitle());
+            if (line.record().getIsbn() != null) isbns.add(line.record().getIsbn());
+        }
+        Set<String> existingTitles = titles.isEmpty() ? new HashSet<>() : new HashSet<>(bookRepository.findExistingTitles(titles));
+        Set<String> existingIsbns = isbns.isEmpty() ? new HashSet<>() : new HashSet<>(bookEditionRepository.findExistingIsbns(isbns));
+
+        LocalDateTime now = LocalDateTime.now();
+
+        for (ImportLine line : lines) {
+            BookImportRecordDTO record = line.record();
+
+            String error = validate(record);
+            if (error != null) {
+                result.failed(line.position(), error);
+                continue;
+            }
+            if (!existingTitles.add(record.getTitle())) {
+                result.skipped();
+                continue;
+            }
+
+            Book book = toBook(record, now);
+
+            Set<Integer> authorIds = new HashSet<>();
+            for (String name : record.getAuthors()) {
+                Integer authorId = resolve(names.authors(), name, authorName -> track(changes, CatalogAggregateType.AUTHOR, newAuthor(authorName, now)));
+                if (authorIds.add(authorId)) {
+                    BookAuthor bookAuthor = new BookAuthor();
+                    bookAuthor.setBook(book);
+                    bookAuthor.setAuthor(entityManager.getReference(Author.class, authorId));
+                    bookAuthor.setRole(AuthorRoleEnums.AUTHOR.name());
+                    book.getBookAuthors().add(bookAuthor);
+                }
+            }
+
+            Set<Integer> genreIds = new HashSet<>();
+            for (String name : record.getGenres()) {
+                Integer genreId = resolve(names.genres(), name, genreName -> track(changes, CatalogAggregateType.GENRE, newGenre(genreName, now)));
+                if (genreIds.add(genreId)) {
+                    BookGenre bookGenre = new BookGenre();
+                    bookGenre.setBook(book);
+                    bookGenre.setGenre(entityManager.getReference(Genre.class, genreId));
+                    book.getBookGenres().add(bookGenre);
+                }
+            }
+
+            if (record.getSeries() != null) {
+                Integer seriesId = resolve(names.series(), record.getSeries(), seriesName -> track(changes, CatalogAggregateType.SERIES, newSeries(seriesName, now)));
+                BookSeries bookSeries = new BookSeries();
+                bookSeries.setBook(book);
+                bookSeries.setSeries(entityManager.getReference(Series.class, seriesId));
+                bookSeries.setPosition(record.getSeriesPosition());
+                book.getBookSeries().add(bookSeries);
+            }
+
+            entityManager.persist(book);
+            track(changes, CatalogAggregateType.BOOK, book.getId());
+
+            if (record.getPublisher() != null && (record.getIsbn() == null || existingIsbns.add(record.getIsbn()))) {
+                Integer publisherId = resolve(names.publishers(), record.getPublisher(), publisherName -> track(changes, CatalogAggregateType.PUBLISHER, newPublisher(publisherName, now)));
+                entityManager.persist(toBookEdition(record, book, entityManager.getReference(Publisher.class, publisherId), now));
+            }
+
+            result.imported();
+        }
+
+        changes.forEach(catalogOutbox::upsertAll);
+
+        return result;
+    }
+
+    private static Integer track(Map<CatalogAggregateType, List<Integer>> changes, CatalogAggregateType aggregateType, Integer id) {
+        changes.computeIfAbsent(aggregateType, type -> new ArrayList<>()).add(id);
+        return id;
+    }
+
+    private String validate(BookImportRecordDTO record) {
+        if (record.getTitle() == null) {
+            return "Title is required";
+        }
+        if (record.getTitle().length() > MAX_TITLE_LENGTH) {
+            return "Title is longer than " + MAX_TITLE_LENGTH + " characters";
+        }
+
+        return null;
+    }
+
+    private Integer resolve(ImportNameCache.NameMap nameMap, String name, Function<String, Integer> creator) {
+        Integer id = nameMap.get(name);
+        if (id == null) {
+            id = creator.apply(name.trim());
+            nameMap.put(name, id);
+        }
+
+        return id;
+    }
+
+    private Book toBook(BookImportRecordDTO record, LocalDateTime now) {
+        Book book = new Book();
+        book.setTitle(record.getTitle());
+        book.setSubtitle(record.getSubtitle());
+        book.setDescription(record.getDescription());
+        book.setPublicationDate(record.getPublicationDate());
+        book.setPageCount(record.getPageCount());
+        book.setGoodreadsId(record.getGoodreadsId());
+        book.setGoogleBooksId(record.getGoogleBooksId());
+        book.setCreatedAt(now);
+        book.setUpdatedAt(now);
+        if (record.getLanguage() != null) {
+            book.setLanguage(record.getLanguage());
+        }
+        if (record.getAverageRating() != null) {
+            book.setAverageRating(record.getAverageRating());
+        }
+
+        return book;
+    }
+
+    private BookEdition toBookEdition(BookImportRecordDTO record, Book book, Publisher publisher, LocalDateTime now) {
+        BookEdition bookEdition = new BookEdition();
+        bookEdition.setBook(book);
+        bookEdition.setPublisher(publisher);
+        bookEdition.setIsbn(record.getIsbn());
+        bookEdition.setFormat(record.getFormat() != null ? record.getFormat() : DEFAULT_EDITION_FORMAT);
+        bookEdition.setPublicationDate(record.getPublicationDate());
+        bookEdition.setPageCount(record.getPageCount());
+        bookEdition.setPrice(record.getPrice());
+        bookEdition.setCreatedAt(now);
+        bookEdition.setUpdatedAt(now);
+        if (record.getCurrency() != null) {
+            bookEdition.setCurrency(record.getCurrency());
+        }
+
+        return bookEdition;
+    }
+
+    private Integer newAuthor(String name, LocalDateTime now) {
+        Author author = new Author();
+        author.setName(name);
+        author.setCreatedAt(now);
+        author.setUpdatedAt(now);
+        entityManager.persist(author);
+
+        return author.getId();
+    }
+
+    private Integer newGenre(String name, LocalDateTime now) {
+        Genre genre = new Genre();
+        genre.setName(name);
+        genre.setCreatedAt(now);
+        genre.setUpdatedAt(now);
+        entityManager.persist(genre);
+
+        return genre.getId();
+    }
+
+    private Integer newSeries(String name, LocalDateTime now) {
+        Series series = new Series();
+        series.setName(name);
+        series.setCreatedAt(now);
+        series.setUpdatedAt(now);
+        entityManager.persist(series);
+
+        return series.getId();
+    }
+
+    private Integer newPublisher(String name, LocalDateTime now) {
+        Publisher publisher = new Publisher();
+        publisher.setName(name);
+        publisher.setCreatedAt(now);
+        publisher.setUpdatedAt(now);
+        entityManager.persist(publisher);
+
+        return publisher.getId();
+    }
+
+    private static String rootMessage(Throwable e) {
+        Throwable root = e;
+        while (root.getCause() != null && root.getCause() != root) {
+            root = root.getCause();
+        }
+
+        return root.getMessage();
+    }
+}
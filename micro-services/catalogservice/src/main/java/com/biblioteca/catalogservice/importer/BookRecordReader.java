@@ -0,0 +1,17 @@
+package com.biblioteca.catalogservice.importer;
+
+import com.biblioteca.catalogservice.dto.bookImport.BookImportRecordDTO;
+
+import java.io.Closeable;
+import java.io.IOException;
+
+/*
+ * Pull-based source of import records. next() returns null once the input is exhausted;
+ * a malformed record surfaces as IllegalArgumentException so the caller can count it and
+ * keep reading, while an IOException means the input itself is unreadable.
+ */
+public interface BookRecordReader extends Closeable {
+    BookImportRecordDTO next() throws IOException;
+
+    long getPosition();
+}
@@ -0,0 +1,85 @@
+package com.biblioteca.catalogservice.importer;
+
+import com.biblioteca.catalogservice.dto.bookImport.BookImportRecordDTO;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/*
+ * Reads the native CSV layout. Header names are matched case-insensitively and ignoring
+ * spaces, dashes and underscores; authors and genres hold several names separated by ';' or '|'.
+ */
+public class CsvBookRecordReader implements BookRecordReader {
+    private final CsvReader csvReader;
+    private final Map<String, Integer> columnIndex = new HashMap<>();
+
+    public CsvBookRecordReader(Reader reader) throws IOException {
+        this.csvReader = new CsvReader(reader);
+
+        List<String> header = csvReader.readRow();
+        if (header == null) {
+            throw new IOException("CSV file has no header row");
+        }
+        for (int i = 0; i < header.size(); i++) {
+            columnIndex.put(normalize(header.get(i)), i);
+        }
+        if (!columnIndex.containsKey("title")) {
+            throw new IOException("CSV header has no title column");
+        }
+    }
+
+    @Override
+    public BookImportRecordDTO next() throws IOException {
+        List<String> row;
+        do {
+            row = csvReader.readRow();
+            if (row == null) {
+                return null;
+            }
+        } while (row.size() == 1 && ImportValues.text(row.get(0)) == null);
+
+        return BookImportRecordDTO.builder()
+                .title(ImportValues.text(value(row, "title")))
+                .subtitle(ImportValues.text(value(row, "subtitle")))
+                .description(ImportValues.text(value(row, "description")))
+                .publicationDate(ImportValues.date("publicationDate", value(row, "publicationdate")))
+                .pageCount(ImportValues.integer("pageCount", value(row, "pagecount")))
+                .language(ImportValues.text(value(row, "language")))
+                .averageRating(ImportValues.decimal("averageRating", value(row, "averagerating")))
+                .goodreadsId(ImportValues.text(value(row, "goodreadsid")))
+                .googleBooksId(ImportValues.text(value(row, "googlebooksid")))
+                .authors(ImportValues.list(value(row, "authors")))
+                .genres(ImportValues.list(value(row, "genres")))
+                .series(ImportValues.text(value(row, "series")))
+                .seriesPosition(ImportValues.integer("seriesPosition", value(row, "seriesposition")))
+                .isbn(ImportValues.isbn(value(row, "isbn")))
+                .publisher(ImportValues.text(value(row, "publisher")))
+                .format(ImportValues.text(value(row, "format")))
+                .price(ImportValues.money("price", value(row, "price")))
+                .currency(ImportValues.text(value(row, "currency")))
+                .build();
+    }
+
+    @Override
+    public long getPosition() {
+        return csvReader.getLineNumber();
+    }
+
+    @Override
+    public void close() throws IOException {
+        csvReader.close();
+    }
+
+    private String value(List<String> row, String column) {
+        Integer index = columnIndex.get(column);
+        return index == null || index >= row.size() ? null : row.get(index);
+    }
+
+    private static String normalize(String header) {
+        return header.replaceAll("[\\s_-]", "").toLowerCase(Locale.ROOT);
+    }
+}
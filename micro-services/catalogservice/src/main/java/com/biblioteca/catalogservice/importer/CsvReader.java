@@ -0,0 +1,96 @@
+package com.biblioteca.catalogservice.importer;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.List;
+
+/*
+ * Minimal streaming RFC 4180 reader: quoted fields, doubled quotes and line breaks inside
+ * quotes are supported. Only the current row is held in memory.
+ */
+public class CsvReader implements Closeable {
+    private static final int NONE = -2;
+
+    private final Reader reader;
+    private int pushback = NONE;
+    private long lineNumber = 0;
+
+    public CsvReader(Reader reader) {
+        this.reader = reader;
+    }
+
+    public List<String> readRow() throws IOException {
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean inQuotes = false;
+        boolean consumed = false;
+
+        int c;
+        while ((c = read()) != -1) {
+            consumed = true;
+            if (inQuotes) {
+                if (c == '"') {
+                    int next = read();
+                    if (next == '"') {
+                        field.append('"');
+                    } else {
+                        inQuotes = false;
+                        unread(next);
+                    }
+                } else {
+                    if (c == '\n') lineNumber++;
+                    field.append((char) c);
+                }
+            } else if (c == '"') {
+                inQuotes = true;
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else if (c == '\r') {
+                int next = read();
+                if (next != '\n') unread(next);
+                break;
+            } else if (c == '\n') {
+                break;
+            } else {
+                field.append((char) c);
+            }
+        }
+
+        if (!consumed) {
+            return null;
+        }
+
+        lineNumber++;
+        fields.add(field.toString());
+        if (lineNumber == 1 && !fields.isEmpty() && fields.get(0).startsWith("\uFEFF")) {
+            fields.set(0, fields.get(0).substring(1));
+        }
+
+        return fields;
+    }
+
+    public long getLineNumber() {
+        return lineNumber;
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+
+    private int read() throws IOException {
+        if (pushback != NONE) {
+            int c = pushback;
+            pushback = NONE;
+            return c;
+        }
+        return reader.read();
+    }
+
+    private void unread(int c) {
+        pushback = c;
+    }
+}
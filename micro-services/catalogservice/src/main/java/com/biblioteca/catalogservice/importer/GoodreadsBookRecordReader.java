@@ -0,0 +1,105 @@
+package com.biblioteca.catalogservice.importer;
+
+import com.biblioteca.catalogservice.dto.bookImport.BookImportRecordDTO;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.*;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/*
+ * Reads the "goodreads_library_export.csv" layout. Series membership is only present in the
+ * title ("The Way of Kings (The Stormlight Archive, #1)"), so it is split off here; ISBNs come
+ * wrapped as ="..." and are unwrapped.
+ */
+public class GoodreadsBookRecordReader implements BookRecordReader {
+    private static final Pattern SERIES_IN_TITLE = Pattern.compile("^(.*\\S)\\s*\\(([^()]+?),?\\s*#(\\d+)(?:\\.\\d+)?\\)\\s*$");
+
+    private final CsvReader csvReader;
+    private final Map<String, Integer> columnIndex = new HashMap<>();
+
+    public GoodreadsBookRecordReader(Reader reader) throws IOException {
+        this.csvReader = new CsvReader(reader);
+
+        List<String> header = csvReader.readRow();
+        if (header == null) {
+            throw new IOException("Goodreads export has no header row");
+        }
+        for (int i = 0; i < header.size(); i++) {
+            columnIndex.put(header.get(i).trim().toLowerCase(Locale.ROOT), i);
+        }
+        if (!columnIndex.containsKey("title") || !columnIndex.containsKey("author")) {
+            throw new IOException("File is not a Goodreads library export");
+        }
+    }
+
+    @Override
+    public BookImportRecordDTO next() throws IOException {
+        List<String> row;
+        do {
+            row = csvReader.readRow();
+            if (row == null) {
+                return null;
+            }
+        } while (row.size() == 1 && ImportValues.text(row.get(0)) == null);
+
+        BookImportRecordDTO record = BookImportRecordDTO.builder()
+                .goodreadsId(ImportValues.text(value(row, "book id")))
+                .publisher(ImportValues.text(value(row, "publisher")))
+                .format(ImportValues.text(value(row, "binding")))
+                .pageCount(ImportValues.integer("Number of Pages", value(row, "number of pages")))
+                .averageRating(ImportValues.decimal("Average Rating", value(row, "average rating")))
+                .build();
+
+        String isbn = ImportValues.isbn(value(row, "isbn13"));
+        record.setIsbn(isbn != null ? isbn : ImportValues.isbn(value(row, "isbn")));
+
+        String year = ImportValues.text(value(row, "original publication year"));
+        record.setPublicationDate(ImportValues.date("Year Published", year != null ? year : value(row, "year published")));
+
+        List<String> authors = new ArrayList<>();
+        String author = ImportValues.text(value(row, "author"));
+        if (author != null) {
+            authors.add(author);
+        }
+        String additionalAuthors = value(row, "additional authors");
+        if (additionalAuthors != null) {
+            for (String additionalAuthor : additionalAuthors.split(",")) {
+                String name = ImportValues.text(additionalAuthor);
+                if (name != null) {
+                    authors.add(name);
+                }
+            }
+        }
+        record.setAuthors(authors);
+        record.setGenres(List.of());
+
+        String title = ImportValues.text(value(row, "title"));
+        Matcher matcher = title == null ? null : SERIES_IN_TITLE.matcher(title);
+        if (matcher != null && matcher.matches()) {
+            record.setTitle(matcher.group(1));
+            record.setSeries(matcher.group(2).trim());
+            record.setSeriesPosition(Integer.valueOf(matcher.group(3)));
+        } else {
+            record.setTitle(title);
+        }
+
+        return record;
+    }
+
+    @Override
+    public long getPosition() {
+        return csvReader.getLineNumber();
+    }
+
+    @Override
+    public void close() throws IOException {
+        csvReader.close();
+    }
+
+    private String value(List<String> row, String column) {
+        Integer index = columnIndex.get(column);
+        return index == null || index >= row.size() ? null : row.get(index);
+    }
+}
@@ -0,0 +1,34 @@
+package com.biblioteca.catalogservice.importer;
+
+import lombok.Getter;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Getter
+public class ImportChunkResult {
+    private int imported = 0;
+    private int skipped = 0;
+    private int failed = 0;
+    private final List<String> errors = new ArrayList<>();
+
+    void imported() {
+        imported++;
+    }
+
+    void skipped() {
+        skipped++;
+    }
+
+    void failed(long position, String message) {
+        failed++;
+        errors.add("Record " + position + ": " + message);
+    }
+
+    void add(ImportChunkResult other) {
+        imported += other.imported;
+        skipped += other.skipped;
+        failed += other.failed;
+        errors.addAll(other.errors);
+    }
+}
@@ -0,0 +1,7 @@
+package com.biblioteca.catalogservice.importer;
+
+import com.biblioteca.catalogservice.dto.bookImport.BookImportRecordDTO;
+
+/* A parsed record together with the line (CSV) or record number (JSON) it came from. */
+public record ImportLine(long position, BookImportRecordDTO record) {
+}
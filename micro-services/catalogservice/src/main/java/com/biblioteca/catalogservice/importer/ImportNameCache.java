@@ -0,0 +1,100 @@
+package com.biblioteca.catalogservice.importer;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/*
+ * Case-insensitive name -> id lookup for one import job, preloaded once so that resolving
+ * the authors, genres, series and publishers of a row never costs a query. Ids created by a
+ * chunk stay pending until that chunk commits, so a rolled-back chunk cannot leave ids behind
+ * that point at rows which were never written.
+ */
+public class ImportNameCache {
+    private final NameMap authors;
+    private final NameMap genres;
+    private final NameMap series;
+    private final NameMap publishers;
+
+    public ImportNameCache(List<Object[]> authorRows, List<Object[]> genreRows, List<Object[]> seriesRows, List<Object[]> publisherRows) {
+        this.authors = new NameMap(authorRows);
+        this.genres = new NameMap(genreRows);
+        this.series = new NameMap(seriesRows);
+        this.publishers = new NameMap(publisherRows);
+    }
+
+    public NameMap authors() {
+        return authors;
+    }
+
+    public NameMap genres() {
+        return genres;
+    }
+
+    public NameMap series() {
+        return series;
+    }
+
+    public NameMap publishers() {
+        return publishers;
+    }
+
+    public void commitPending() {
+        authors.commitPending();
+        genres.commitPending();
+        series.commitPending();
+        publishers.commitPending();
+    }
+
+    public void discardPending() {
+        authors.discardPending();
+        genres.discardPending();
+        series.discardPending();
+        publishers.discardPending();
+    }
+
+    public int getCreatedCount() {
+        return authors.created + genres.created + series.created + publishers.created;
+    }
+
+    public boolean hasCreatedGenres() {
+        return genres.created > 0;
+    }
+
+    public static class NameMap {
+        private final Map<String, Integer> ids = new HashMap<>();
+        private final Map<String, Integer> pending = new HashMap<>();
+        private int created = 0;
+
+        private NameMap(List<Object[]> rows) {
+            for (Object[] row : rows) {
+                ids.putIfAbsent(key((String) row[1]), (Integer) row[0]);
+            }
+        }
+
+        public Integer get(String name) {
+            String key = key(name);
+            Integer id = ids.get(key);
+            return id != null ? id : pending.get(key);
+        }
+
+        public void put(String name, Integer id) {
+            pending.put(key(name), id);
+        }
+
+        private void commitPending() {
+            ids.putAll(pending);
+            created += pending.size();
+            pending.clear();
+        }
+
+        private void discardPending() {
+            pending.clear();
+        }
+
+        private static String key(String name) {
+            return name.trim().toLowerCase(Locale.ROOT);
+        }
+    }
+}
@@ -0,0 +1,103 @@
+package com.biblioteca.catalogservice.importer;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.Arrays;
+import java.util.List;
+import java.util.regex.Pattern;
+
+final class ImportValues {
+    private static final Pattern LIST_SEPARATOR = Pattern.compile("[;|]");
+
+    private ImportValues() {
+    }
+
+    static String text(String value) {
+        if (value == null) {
+            return null;
+        }
+
+        String trimmed = value.trim();
+        return trimmed.isEmpty() ? null : trimmed;
+    }
+
+    static List<String> list(String value) {
+        String text = text(value);
+        if (text == null) {
+            return List.of();
+        }
+
+        return Arrays.stream(LIST_SEPARATOR.split(text))
+                .map(ImportValues::text)
+                .filter(item -> item != null)
+                .toList();
+    }
+
+    static Integer integer(String column, String value) {
+        String text = text(value);
+        if (text == null) {
+            return null;
+        }
+
+        try {
+            return Integer.valueOf(text);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid " + column + ": " + text);
+        }
+    }
+
+    static Double decimal(String column, String value) {
+        String text = text(value);
+        if (text == null) {
+            return null;
+        }
+
+        try {
+            return Double.valueOf(text);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid " + column + ": " + text);
+        }
+    }
+
+    static BigDecimal money(String column, String value) {
+        String text = text(value);
+        if (text == null) {
+            return null;
+        }
+
+        try {
+            return new BigDecimal(text);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid " + column + ": " + text);
+        }
+    }
+
+    /* Accepts a full ISO date or a bare year, which is all Goodreads exports carry. */
+    static LocalDate date(String column, String value) {
+        String text = text(value);
+        if (text == null) {
+            return null;
+        }
+
+        try {
+            if (text.length() == 4) {
+                return LocalDate.of(Integer.parseInt(text), 1, 1);
+            }
+            return LocalDate.parse(text.replace('/', '-'));
+        } catch (NumberFormatException | DateTimeParseException e) {
+            throw new IllegalArgumentException("Invalid " + column + ": " + text);
+        }
+    }
+
+    /* Strips spreadsheet quoting (="978...") and hyphens; returns null for an empty ISBN. */
+    static String isbn(String value) {
+        String text = text(value);
+        if (text == null) {
+            return null;
+        }
+
+        String isbn = text.replace("=", "").replace("\"", "").replace("-", "").replace(" ", "");
+        return isbn.isEmpty() ? null : isbn;
+    }
+}
@@ -0,0 +1,56 @@
+package com.biblioteca.catalogservice.importer;
+
+import com.biblioteca.catalogservice.dto.bookImport.BookImportRecordDTO;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.List;
+
+/*
+ * Reads either a top-level JSON array of records or newline-delimited records (the format
+ * written by the export endpoints). Records are bound one at a time, never as a whole list.
+ */
+public class JsonBookRecordReader implements BookRecordReader {
+    private final MappingIterator<BookImportRecordDTO> iterator;
+    private long position = 0;
+
+    public JsonBookRecordReader(ObjectMapper objectMapper, Reader reader) throws IOException {
+        this.iterator = objectMapper.readerFor(BookImportRecordDTO.class)
+                .without(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)
+                .readValues(reader);
+    }
+
+    @Override
+    public BookImportRecordDTO next() throws IOException {
+        try {
+            if (!iterator.hasNextValue()) {
+                return null;
+            }
+
+            position++;
+            BookImportRecordDTO record = iterator.nextValue();
+            record.setTitle(ImportValues.text(record.getTitle()));
+            record.setIsbn(ImportValues.isbn(record.getIsbn()));
+            record.setAuthors(record.getAuthors() == null ? List.of() : record.getAuthors());
+            record.setGenres(record.getGenres() == null ? List.of() : record.getGenres());
+
+            return record;
+        } catch (JsonMappingException e) {
+            throw new IllegalArgumentException(e.getOriginalMessage());
+        }
+    }
+
+    @Override
+    public long getPosition() {
+        return position;
+    }
+
+    @Override
+    public void close() throws IOException {
+        iterator.close();
+    }
+}
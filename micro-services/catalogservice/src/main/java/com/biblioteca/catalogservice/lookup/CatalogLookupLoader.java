@@ -0,0 +1,88 @@
+package com.biblioteca.catalogservice.lookup;
+
+import com.biblioteca.catalogservice.dto.lookup.LookupItemDTO;
+import com.biblioteca.catalogservice.entity.Author;
+import com.biblioteca.catalogservice.entity.Genre;
+import com.biblioteca.catalogservice.entity.Publisher;
+import com.biblioteca.catalogservice.entity.Series;
+import com.biblioteca.catalogservice.repository.ReferenceEntityRepository;
+import com.biblioteca.catalogservice.util.mapper.LookupMapper;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/*
+ * One coalescing loader per reference type. Batches are resolved through
+ * ReferenceEntityRepository, so ids already in the second-level cache never reach the
+ * database, and are mapped straight to the compact lookup projection.
+ */
+@Component
+public class CatalogLookupLoader {
+    private final ReferenceEntityRepository referenceEntityRepository;
+    private final TransactionTemplate readTransaction;
+    private final long windowNanos;
+
+    private final CoalescingLoader<LookupItemDTO> authors;
+    private final CoalescingLoader<LookupItemDTO> genres;
+    private final CoalescingLoader<LookupItemDTO> series;
+    private final CoalescingLoader<LookupItemDTO> publishers;
+
+    public CatalogLookupLoader(ReferenceEntityRepository referenceEntityRepository,
+                               PlatformTransactionManager transactionManager,
+                               @Value("${catalog.lookup.window-micros:2000}") long windowMicros,
+                               @Value("${catalog.lookup.max-batch-size:1000}") int maxBatchSize) {
+        this.referenceEntityRepository = referenceEntityRepository;
+        this.readTransaction = new TransactionTemplate(transactionManager);
+        this.readTransaction.setReadOnly(true);
+
+        this.windowNanos = TimeUnit.MICROSECONDS.toNanos(windowMicros);
+        this.authors = new CoalescingLoader<>("author", ids -> load(Author.class, ids, LookupMapper::fromAuthor), maxBatchSize);
+        this.genres = new CoalescingLoader<>("genre", ids -> load(Genre.class, ids, LookupMapper::fromGenre), maxBatchSize);
+        this.series = new CoalescingLoader<>("series", ids -> load(Series.class, ids, LookupMapper::fromSeries), maxBatchSize);
+        this.publishers = new CoalescingLoader<>("publisher", ids -> load(Publisher.class, ids, LookupMapper::fromPublisher), maxBatchSize);
+    }
+
+    /* All loads of one request share this deadline so a request queued behind in-flight loads waits at most one window. */
+    public long newDeadline() {
+        return System.nanoTime() + windowNanos;
+    }
+
+    public CompletableFuture<Map<Integer, LookupItemDTO>> loadAuthors(Set<Integer> ids, long deadlineNanos) {
+        return authors.load(ids, deadlineNanos);
+    }
+
+    public CompletableFuture<Map<Integer, LookupItemDTO>> loadGenres(Set<Integer> ids, long deadlineNanos) {
+        return genres.load(ids, deadlineNanos);
+    }
+
+    public CompletableFuture<Map<Integer, LookupItemDTO>> loadSeries(Set<Integer> ids, long deadlineNanos) {
+        return series.load(ids, deadlineNanos);
+    }
+
+    public CompletableFuture<Map<Integer, LookupItemDTO>> loadPublishers(Set<Integer> ids, long deadlineNanos) {
+        return publishers.load(ids, deadlineNanos);
+    }
+
+    private <T> Map<Integer, LookupItemDTO> load(Class<T> entityClass, Set<Integer> ids, Function<T, LookupItemDTO> mapper) {
+        return readTransaction.execute(status -> {
+            List<T> entities = referenceEntityRepository.findAllById(entityClass, ids);
+
+            Map<Integer, LookupItemDTO> items = new HashMap<>();
+            for (T entity : entities) {
+                LookupItemDTO item = mapper.apply(entity);
+                items.put(item.getId(), item);
+            }
+
+            return items;
+        });
+    }
+}
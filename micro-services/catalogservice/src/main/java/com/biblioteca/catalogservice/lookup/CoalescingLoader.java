@@ -0,0 +1,102 @@
+package com.biblioteca.catalogservice.lookup;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/*
+ * DataLoader-style id batching without a fixed delay. When no load of this loader is in
+ * flight, the first caller dispatches its ids straight away. While a load is in flight,
+ * arriving callers join one open batch; its leader (the first to arrive) flushes it as soon
+ * as the in-flight load finishes, or at its deadline if that comes first. Followers only wait
+ * on the shared result, so a lone lookup pays no delay and N concurrent lookups still cost
+ * about one query per in-flight round. The deadline is passed in so a caller using several
+ * loaders waits at most one window, not one per loader.
+ */
+@Slf4j
+public class CoalescingLoader<V> {
+    private final String name;
+    private final Function<Set<Integer>, Map<Integer, V>> batchLoader;
+    private final int maxBatchSize;
+
+    private Batch<V> open;
+    private int inFlight = 0;
+
+    public CoalescingLoader(String name, Function<Set<Integer>, Map<Integer, V>> batchLoader, int maxBatchSize) {
+        this.name = name;
+        this.batchLoader = batchLoader;
+        this.maxBatchSize = maxBatchSize;
+    }
+
+    public CompletableFuture<Map<Integer, V>> load(Collection<Integer> ids, long deadlineNanos) {
+        if (ids.isEmpty()) {
+            return CompletableFuture.completedFuture(Map.of());
+        }
+
+        Batch<V> batch;
+        boolean leader = false;
+        synchronized (this) {
+            if (open == null || open.ids.size() + ids.size() > maxBatchSize) {
+                open = new Batch<>();
+                leader = true;
+            }
+            batch = open;
+            batch.ids.addAll(ids);
+
+            if (leader) {
+                awaitIdle(deadlineNanos);
+                if (open == batch) {
+                    open = null;
+                }
+                inFlight++;
+            }
+        }
+
+        if (leader) {
+            dispatch(batch);
+        }
+
+        return batch.result;
+    }
+
+    /* Called with the monitor held; waiting releases it so followers can join the batch. */
+    private void awaitIdle(long deadlineNanos) {
+        long remainingNanos;
+        while (inFlight > 0 && (remainingNanos = deadlineNanos - System.nanoTime()) > 0) {
+            try {
+                TimeUnit.NANOSECONDS.timedWait(this, remainingNanos);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    private void dispatch(Batch<V> batch) {
+        Set<Integer> ids;
+        synchronized (this) {
+            ids = batch.ids;
+        }
+
+        try {
+            Map<Integer, V> values = batchLoader.apply(ids);
+            log.debug("Coalesced {} lookup loaded {} ids", name, ids.size());
+            batch.result.complete(values);
+        } catch (RuntimeException e) {
+            batch.result.completeExceptionally(e);
+        } finally {
+            synchronized (this) {
+                inFlight--;
+                notifyAll();
+            }
+        }
+    }
+
+    private static class Batch<V> {
+        private final Set<Integer> ids = new HashSet<>();
+        private final CompletableFuture<Map<Integer, V>> result = new CompletableFuture<>();
+    }
+}
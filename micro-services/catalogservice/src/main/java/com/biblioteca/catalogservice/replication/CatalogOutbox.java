@@ -0,0 +1,74 @@
+package com.biblioteca.catalogservice.replication;
+
+import com.biblioteca.catalogservice.repository.CatalogOutboxRepository;
+import com.biblioteca.catalogservice.util.enums.CatalogAggregateType;
+import com.biblioteca.catalogservice.util.enums.CatalogEventType;
+import com.biblioteca.outbox.OutboxPublisher;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.List;
+
+/*
+ * Records catalog changes for replication on the "catalog" outbox topic. Must be called inside
+ * the transaction that makes the change; renames fan out to the books whose denormalised
+ * snapshot carries the name, and deletes of authors, genres and series refresh those books
+ * before the cascade removes the association rows. Events carry no payload: CatalogOutboxRelay
+ * reads the current state when it delivers them.
+ *
+ * Every change also writes one event to the "gateway-cache" topic so GatewayCacheSink can drop
+ * the gateway's cached catalog responses once the change has committed; fan-outs to many books
+ * need only one of those per call.
+ */
+@Component
+@RequiredArgsConstructor
+public class CatalogOutbox {
+    public static final String TOPIC = "catalog";
+    public static final String CACHE_TOPIC = "gateway-cache";
+
+    private final OutboxPublisher outboxPublisher;
+    private final CatalogOutboxRepository catalogOutboxRepository;
+
+    public void upsert(CatalogAggregateType aggregateType, Integer aggregateId) {
+        outboxPublisher.publish(TOPIC, aggregateType.name(), aggregateId, CatalogEventType.UPSERT.name(), null);
+        invalidateCache(aggregateType, aggregateId);
+    }
+
+    public void upsertAll(CatalogAggregateType aggregateType, Collection<Integer> aggregateIds) {
+        if (aggregateIds.isEmpty()) {
+            return;
+        }
+
+        outboxPublisher.publishAll(TOPIC, aggregateType.name(), aggregateIds, CatalogEventType.UPSERT.name(), null);
+        invalidateCache(aggregateType, aggregateIds.iterator().next());
+    }
+
+    public void delete(CatalogAggregateType aggregateType, Integer aggregateId) {
+        outboxPublisher.publish(TOPIC, aggregateType.name(), aggregateId, CatalogEventType.DELETE.name(), null);
+        invalidateCache(aggregateType, aggregateId);
+    }
+
+    public void upsertWithBooks(CatalogAggregateType aggregateType, Integer aggregateId) {
+        upsert(aggregateType, aggregateId);
+        upsertAll(CatalogAggregateType.BOOK, findBookIds(aggregateType, aggregateId));
+    }
+
+    public void deleteWithBooks(CatalogAggregateType aggregateType, Integer aggregateId) {
+        delete(aggregateType, aggregateId);
+        upsertAll(CatalogAggregateType.BOOK, findBookIds(aggregateType, aggregateId));
+    }
+
+    private void invalidateCache(CatalogAggregateType aggregateType, Integer aggregateId) {
+        outboxPublisher.publish(CACHE_TOPIC, aggregateType.name(), aggregateId, CatalogEventType.UPSERT.name(), null);
+    }
+
+    private List<Integer> findBookIds(CatalogAggregateType aggregateType, Integer aggregateId) {
+        return switch (aggregateType) {
+            case AUTHOR -> catalogOutboxRepository.findBookIdsByAuthorId(aggregateId);
+            case GENRE -> catalogOutboxRepository.findBookIdsByGenreId(aggregateId);
+            case SERIES -> catalogOutboxRepository.findBookIdsBySeriesId(aggregateId);
+            default -> List.of();
+        };
+    }
+}
@@ -0,0 +1,126 @@
+package com.biblioteca.catalogservice.replication;
+
+import com.biblioteca.catalogservice.dto.replication.*;
+import com.biblioteca.catalogservice.repository.CatalogOutboxRepository;
+import com.biblioteca.catalogservice.repository.CatalogSnapshotRepository;
+import com.biblioteca.catalogservice.util.enums.CatalogAggregateType;
+import com.biblioteca.catalogservice.util.enums.CatalogEventType;
+import com.biblioteca.outbox.OutboxEvent;
+import com.biblioteca.outbox.sink.OutboxSink;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import java.time.Duration;
+import java.util.*;
+import java.util.function.Function;
+
+/*
+ * Delivers the "catalog" outbox topic to userlibraryservice. The topic is ordered, so batches
+ * are handed over one at a time in commit order; each batch collapses repeated events for the
+ * same aggregate, reads the current committed state in one query per aggregate type and is
+ * sent with a single version number. Consumers apply a snapshot only if its version is newer
+ * than the one they hold, so redelivery after a failed acknowledgement is harmless.
+ */
+@Component
+@Slf4j
+public class CatalogOutboxRelay implements OutboxSink {
+    private static final String TOKEN_HEADER = "X-Replication-Token";
+
+    private final CatalogOutboxRepository catalogOutboxRepository;
+    private final CatalogSnapshotRepository catalogSnapshotRepository;
+    private final WebClient webClient;
+    private final String token;
+    private final Duration timeout;
+
+    public CatalogOutboxRelay(CatalogOutboxRepository catalogOutboxRepository,
+                              CatalogSnapshotRepository catalogSnapshotRepository,
+                              WebClient.Builder webClient,
+                              @Value("${userlibrary.service.url}") String userLibraryServiceUrl,
+                              @Value("${catalog.replication.token}") String token,
+                              @Value("${catalog.replication.timeout-ms:5000}") long timeoutMillis) {
+        if (token == null || token.isBlank()) {
+            throw new IllegalStateException("catalog.replication.token must be set");
+        }
+        this.catalogOutboxRepository = catalogOutboxRepository;
+        this.catalogSnapshotRepository = catalogSnapshotRepository;
+        this.webClient = webClient.baseUrl(userLibraryServiceUrl).build();
+        this.token = token;
+        this.timeout = Duration.ofMillis(timeoutMillis);
+    }
+
+    @Override
+    public String topic() {
+        return CatalogOutbox.TOPIC;
+    }
+
+    @Override
+    public boolean ordered() {
+        return true;
+    }
+
+    @Override
+    public void deliver(List<OutboxEvent> outboxEvents) {
+        List<CatalogChangeEventDTO> events = toEvents(outboxEvents, catalogOutboxRepository.nextVersion());
+
+        webClient.post()
+                .uri("/v1/catalog_snapshots/events")
+                .header(TOKEN_HEADER, token)
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(events)
+                .retrieve()
+                .toBodilessEntity()
+                .block(timeout);
+
+        log.debug("Relayed {} catalog events from {} outbox rows", events.size(), outboxEvents.size());
+    }
+
+    private List<CatalogChangeEventDTO> toEvents(List<OutboxEvent> outboxEvents, long version) {
+        /* Latest event per aggregate wins; payloads are read now, so intermediate states are never sent. */
+        Map<CatalogAggregateType, Map<Integer, CatalogEventType>> latest = new EnumMap<>(CatalogAggregateType.class);
+        for (OutboxEvent event : outboxEvents) {
+            latest.computeIfAbsent(CatalogAggregateType.valueOf(event.getAggregateType()), type -> new LinkedHashMap<>())
+                    .put(Integer.valueOf(event.getAggregateId()), CatalogEventType.valueOf(event.getEventType()));
+        }
+
+        List<CatalogChangeEventDTO> events = new ArrayList<>();
+        latest.forEach((aggregateType, byId) -> {
+            List<Integer> upsertIds = byId.entrySet().stream()
+                    .filter(entry -> entry.getValue() == CatalogEventType.UPSERT)
+                    .map(Map.Entry::getKey)
+                    .toList();
+            Map<Integer, Object> snapshots = upsertIds.isEmpty() ? Map.of() : loadSnapshots(aggregateType, upsertIds);
+
+            byId.keySet().forEach(aggregateId -> {
+                Object snapshot = snapshots.get(aggregateId);
+                events.add(CatalogChangeEventDTO.builder()
+                        .aggregateType(aggregateType)
+                        .aggregateId(aggregateId)
+                        .eventType(snapshot != null ? CatalogEventType.UPSERT : CatalogEventType.DELETE)
+                        .version(version)
+                        .payload(snapshot)
+                        .build());
+            });
+        });
+
+        return events;
+    }
+
+    private Map<Integer, Object> loadSnapshots(CatalogAggregateType aggregateType, List<Integer> ids) {
+        return switch (aggregateType) {
+            case BOOK -> index(catalogSnapshotRepository.findBooks(ids), BookSnapshotDTO::getId);
+            case AUTHOR -> index(catalogSnapshotRepository.findAuthors(ids), AuthorSnapshotDTO::getId);
+            case SERIES -> index(catalogSnapshotRepository.findSeries(ids), SeriesSnapshotDTO::getId);
+            case GENRE -> index(catalogSnapshotRepository.findGenres(ids), GenreSnapshotDTO::getId);
+            case PUBLISHER -> index(catalogSnapshotRepository.findPublishers(ids), PublisherSnapshotDTO::getId);
+        };
+    }
+
+    private static <T> Map<Integer, Object> index(List<T> snapshots, Function<T, Integer> idExtractor) {
+        Map<Integer, Object> byId = new HashMap<>();
+        snapshots.forEach(snapshot -> byId.put(idExtractor.apply(snapshot), snapshot));
+        return byId;
+    }
+}
@@ -0,0 +1,81 @@
+package com.biblioteca.catalogservice.replication;
+
+import com.biblioteca.catalogservice.dto.replication.GatewayCacheInvalidationDTO;
+import com.biblioteca.catalogservice.util.enums.CatalogAggregateType;
+import com.biblioteca.outbox.OutboxEvent;
+import com.biblioteca.outbox.sink.OutboxSink;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cloud.client.ServiceInstance;
+import org.springframework.cloud.client.discovery.DiscoveryClient;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import java.time.Duration;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+
+/*
+ * Delivers the "gateway-cache" outbox topic: the aggregate types changed in a batch are posted
+ * to every registered apigateway instance so each drops the cached routes tagged with them.
+ * Every instance keeps its own cache, hence no load balancing here; if one instance fails the
+ * whole batch is retried, which is harmless because invalidation is idempotent.
+ */
+@Component
+@Slf4j
+public class GatewayCacheSink implements OutboxSink {
+    private static final String TOKEN_HEADER = "X-Cache-Invalidation-Token";
+    private static final String INVALIDATION_PATH = "/gateway/cache/invalidations";
+
+    private final DiscoveryClient discoveryClient;
+    private final WebClient webClient;
+    private final String serviceId;
+    private final String token;
+    private final Duration timeout;
+
+    public GatewayCacheSink(DiscoveryClient discoveryClient,
+                            @Value("${gateway.service-id:apigateway}") String serviceId,
+                            @Value("${gateway.cache.invalidation-token}") String token,
+                            @Value("${gateway.cache.timeout-ms:2000}") long timeoutMillis) {
+        if (token == null || token.isBlank()) {
+            throw new IllegalStateException("gateway.cache.invalidation-token must be set");
+        }
+        this.discoveryClient = discoveryClient;
+        this.webClient = WebClient.create();
+        this.serviceId = serviceId;
+        this.token = token;
+        this.timeout = Duration.ofMillis(timeoutMillis);
+    }
+
+    @Override
+    public String topic() {
+        return CatalogOutbox.CACHE_TOPIC;
+    }
+
+    @Override
+    public boolean ordered() {
+        return false;
+    }
+
+    @Override
+    public void deliver(List<OutboxEvent> outboxEvents) {
+        Set<CatalogAggregateType> tags = EnumSet.noneOf(CatalogAggregateType.class);
+        outboxEvents.forEach(event -> tags.add(CatalogAggregateType.valueOf(event.getAggregateType())));
+
+        List<ServiceInstance> instances = discoveryClient.getInstances(serviceId);
+        for (ServiceInstance instance : instances) {
+            webClient.post()
+                    .uri(instance.getUri().resolve(INVALIDATION_PATH))
+                    .header(TOKEN_HEADER, token)
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .bodyValue(GatewayCacheInvalidationDTO.builder().tags(tags).build())
+                    .retrieve()
+                    .toBodilessEntity()
+                    .block(timeout);
+        }
+
+        log.debug("Invalidated gateway cache tags {} on {} instances", tags, instances.size());
+    }
+}
@@ -2,14 +2,18 @@ package com.biblioteca.catalogservice.repository;
 
 import com.biblioteca.catalogservice.entity.Author;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
 import java.util.Optional;
 
 @Repository
-public interface AuthorRepository extends JpaRepository<Author, Integer> {
+public interface AuthorRepository extends JpaRepository<Author, Integer>, KeysetRepository<Author> {
     Optional<Author> findByNameIgnoreCase(String name);
 
     List<Author> findByNameContainingIgnoreCase(String name);
+
+    @Query("SELECT a.id, a.name FROM Author a")
+    List<Object[]> findAllIdAndName();
 }
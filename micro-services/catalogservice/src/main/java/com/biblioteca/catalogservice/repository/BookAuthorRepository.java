@@ -2,8 +2,16 @@ package com.biblioteca.catalogservice.repository;
 
 import com.biblioteca.catalogservice.entity.BookAuthor;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
+
 @Repository
 public interface BookAuthorRepository extends JpaRepository<BookAuthor, Integer> {
+    @Query("SELECT ba FROM BookAuthor ba JOIN FETCH ba.author " +
+            "WHERE ba.book.id IN :bookIds ORDER BY ba.id")
+    List<BookAuthor> findWithAuthorByBookIds(@Param("bookIds") Collection<Integer> bookIds);
 }
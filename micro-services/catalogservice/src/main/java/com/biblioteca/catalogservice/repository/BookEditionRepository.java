@@ -4,16 +4,22 @@ import com.biblioteca.catalogservice.entity.Book;
 import com.biblioteca.catalogservice.entity.BookEdition;
 import com.biblioteca.catalogservice.entity.Publisher;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 @Repository
-public interface BookEditionRepository extends JpaRepository<BookEdition, Integer> {
+public interface BookEditionRepository extends JpaRepository<BookEdition, Integer>, KeysetRepository<BookEdition> {
     Optional<BookEdition> findByIsbn(String isbn);
 
     List<BookEdition> findByBookId(Integer bookId);
 
     List<BookEdition> findByPublisherId(Integer publisherId);
+
+    @Query("SELECT be.isbn FROM BookEdition be WHERE be.isbn IN :isbns")
+    List<String> findExistingIsbns(@Param("isbns") Collection<String> isbns);
 }
@@ -2,8 +2,16 @@ package com.biblioteca.catalogservice.repository;
 
 import com.biblioteca.catalogservice.entity.BookGenre;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
+
 @Repository
 public interface BookGenreRepository extends JpaRepository<BookGenre, Integer> {
+    @Query("SELECT bg FROM BookGenre bg JOIN FETCH bg.genre " +
+            "WHERE bg.book.id IN :bookIds ORDER BY bg.id")
+    List<BookGenre> findWithGenreByBookIds(@Param("bookIds") Collection<Integer> bookIds);
 }
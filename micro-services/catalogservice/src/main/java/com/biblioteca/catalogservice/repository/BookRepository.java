@@ -7,11 +7,12 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 @Repository
-public interface BookRepository extends JpaRepository<Book, Integer> {
+public interface BookRepository extends JpaRepository<Book, Integer>, KeysetRepository<Book> {
     Optional<Book> findByTitle(String title);
 
     @Query("SELECT b FROM BookSeries bs JOIN bs.book b " +
@@ -26,5 +27,12 @@ public interface BookRepository extends JpaRepository<Book, Integer> {
             "WHERE bg.genre.id = :genreId")
     List<Book> findByBookGenres(@Param("genreId") Integer genreId);
 
+    @Query("SELECT DISTINCT b FROM BookGenre bg JOIN bg.book b " +
+            "WHERE bg.genre.id IN :genreIds")
+    List<Book> findByBookGenreIds(@Param("genreIds") Collection<Integer> genreIds);
+
     List<Book> findByTitleContaining(String title);
+
+    @Query("SELECT b.title FROM Book b WHERE b.title IN :titles")
+    List<String> findExistingTitles(@Param("titles") Collection<String> titles);
 }
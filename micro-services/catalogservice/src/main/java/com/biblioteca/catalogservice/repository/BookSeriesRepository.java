@@ -2,8 +2,16 @@ package com.biblioteca.catalogservice.repository;
 
 import com.biblioteca.catalogservice.entity.BookSeries;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
+
 @Repository
 public interface BookSeriesRepository extends JpaRepository<BookSeries, Integer> {
+    @Query("SELECT bs FROM BookSeries bs JOIN FETCH bs.series " +
+            "WHERE bs.book.id IN :bookIds ORDER BY bs.id")
+    List<BookSeries> findWithSeriesByBookIds(@Param("bookIds") Collection<Integer> bookIds);
 }
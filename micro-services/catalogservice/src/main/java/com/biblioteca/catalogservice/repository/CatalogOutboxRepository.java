@@ -0,0 +1,43 @@
+package com.biblioteca.catalogservice.repository;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import javax.sql.DataSource;
+import java.util.List;
+
+/*
+ * Catalog-side queries behind the "catalog" outbox topic: the books whose denormalised snapshot
+ * must be refreshed when an author, genre or series changes, and the snapshot version stamped
+ * on each delivered batch. The events themselves live in the shared outbox_events table.
+ */
+@Repository
+public class CatalogOutboxRepository {
+    private static final String BOOK_IDS_BY_AUTHOR_SQL = "SELECT DISTINCT book_id FROM book_authors WHERE author_id = ?";
+    private static final String BOOK_IDS_BY_GENRE_SQL = "SELECT DISTINCT book_id FROM book_genres WHERE genre_id = ?";
+    private static final String BOOK_IDS_BY_SERIES_SQL = "SELECT DISTINCT book_id FROM book_series WHERE series_id = ?";
+    private static final String NEXT_VERSION_SQL = "SELECT nextval('catalog_snapshot_version_seq')";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public CatalogOutboxRepository(DataSource dataSource) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+    }
+
+    public List<Integer> findBookIdsByAuthorId(Integer authorId) {
+        return jdbcTemplate.queryForList(BOOK_IDS_BY_AUTHOR_SQL, Integer.class, authorId);
+    }
+
+    public List<Integer> findBookIdsByGenreId(Integer genreId) {
+        return jdbcTemplate.queryForList(BOOK_IDS_BY_GENRE_SQL, Integer.class, genreId);
+    }
+
+    public List<Integer> findBookIdsBySeriesId(Integer seriesId) {
+        return jdbcTemplate.queryForList(BOOK_IDS_BY_SERIES_SQL, Integer.class, seriesId);
+    }
+
+    /* Versions are handed out in delivery order because the catalog topic is relayed in order. */
+    public long nextVersion() {
+        return jdbcTemplate.queryForObject(NEXT_VERSION_SQL, Long.class);
+    }
+}
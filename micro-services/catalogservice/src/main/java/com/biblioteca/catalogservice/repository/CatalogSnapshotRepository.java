@@ -0,0 +1,144 @@
+package com.biblioteca.catalogservice.repository;
+
+import com.biblioteca.catalogservice.dto.replication.*;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import javax.sql.DataSource;
+import java.sql.Array;
+import java.sql.Date;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+
+/*
+ * Builds the denormalised rows replicated to consumers: one query per aggregate type for a
+ * whole relay batch, with author, genre, series and cover data already folded into each book.
+ */
+@Repository
+public class CatalogSnapshotRepository {
+    private static final String BOOKS_SQL = """
+            SELECT b.id, b.title, b.subtitle, b.publication_date, b.page_count, b.language,
+                   b.average_rating, b.is_active,
+                   (SELECT be.cover_image_id FROM book_editions be
+                    WHERE be.book_id = b.id AND be.cover_image_id IS NOT NULL ORDER BY be.id LIMIT 1) AS cover_image_id,
+                   ARRAY(SELECT ba.author_id FROM book_authors ba WHERE ba.book_id = b.id ORDER BY ba.id) AS author_ids,
+                   (SELECT string_agg(a.name, ', ' ORDER BY ba.id) FROM book_authors ba
+                    JOIN authors a ON a.id = ba.author_id WHERE ba.book_id = b.id) AS author_names,
+                   ARRAY(SELECT bg.genre_id FROM book_genres bg WHERE bg.book_id = b.id ORDER BY bg.id) AS genre_ids,
+                   (SELECT string_agg(g.name, ', ' ORDER BY bg.id) FROM book_genres bg
+                    JOIN genres g ON g.id = bg.genre_id WHERE bg.book_id = b.id) AS genre_names,
+                   ARRAY(SELECT DISTINCT be.publisher_id FROM book_editions be
+                    WHERE be.book_id = b.id AND be.publisher_id IS NOT NULL ORDER BY be.publisher_id) AS publisher_ids,
+                   s.series_id, s.series_name, s.series_position,
+                   pr.price AS lowest_price, pr.currency AS price_currency
+            FROM books b
+            LEFT JOIN LATERAL (
+                SELECT bs.series_id, se.name AS series_name, bs.position AS series_position
+                FROM book_series bs JOIN series se ON se.id = bs.series_id
+                WHERE bs.book_id = b.id ORDER BY bs.id LIMIT 1
+            ) s ON true
+            LEFT JOIN LATERAL (
+                SELECT be.price, be.currency FROM book_editions be
+                WHERE be.book_id = b.id AND be.price IS NOT NULL ORDER BY be.price, be.id LIMIT 1
+            ) pr ON true
+            WHERE b.id = ANY (?)
+            """;
+
+    private static final String AUTHORS_SQL = "SELECT id, name, image_id FROM authors WHERE id = ANY (?)";
+    private static final String SERIES_SQL = "SELECT id, name, total_books, is_completed FROM series WHERE id = ANY (?)";
+    private static final String GENRES_SQL = "SELECT id, name, parent_genre_id, is_active FROM genres WHERE id = ANY (?)";
+    private static final String PUBLISHERS_SQL = "SELECT id, name FROM publishers WHERE id = ANY (?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public CatalogSnapshotRepository(DataSource dataSource) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+    }
+
+    public List<BookSnapshotDTO> findBooks(Collection<Integer> ids) {
+        return jdbcTemplate.query(BOOKS_SQL, (rs, rowNum) -> BookSnapshotDTO.builder()
+                .id(rs.getInt("id"))
+                .title(rs.getString("title"))
+                .subtitle(rs.getString("subtitle"))
+                .publicationDate(toLocalDate(rs.getDate("publication_date")))
+                .pageCount(getInteger(rs, "page_count"))
+                .language(rs.getString("language"))
+                .averageRating(rs.getBigDecimal("average_rating"))
+                .isActive(getBoolean(rs, "is_active"))
+                .coverImageId(getInteger(rs, "cover_image_id"))
+                .authorIds(toIds(rs.getArray("author_ids")))
+                .authorNames(rs.getString("author_names"))
+                .genreIds(toIds(rs.getArray("genre_ids")))
+                .genreNames(rs.getString("genre_names"))
+                .publisherIds(toIds(rs.getArray("publisher_ids")))
+                .seriesId(getInteger(rs, "series_id"))
+                .seriesName(rs.getString("series_name"))
+                .seriesPosition(getInteger(rs, "series_position"))
+                .lowestPrice(rs.getBigDecimal("lowest_price"))
+                .priceCurrency(rs.getString("price_currency"))
+                .build(), toArray(ids));
+    }
+
+    public List<AuthorSnapshotDTO> findAuthors(Collection<Integer> ids) {
+        return jdbcTemplate.query(AUTHORS_SQL, (rs, rowNum) -> AuthorSnapshotDTO.builder()
+                .id(rs.getInt("id"))
+                .name(rs.getString("name"))
+                .imageId(rs.getString("image_id"))
+                .build(), toArray(ids));
+    }
+
+    public List<SeriesSnapshotDTO> findSeries(Collection<Integer> ids) {
+        return jdbcTemplate.query(SERIES_SQL, (rs, rowNum) -> SeriesSnapshotDTO.builder()
+                .id(rs.getInt("id"))
+                .name(rs.getString("name"))
+                .totalBooks(getInteger(rs, "total_books"))
+                .isCompleted(getBoolean(rs, "is_completed"))
+                .build(), toArray(ids));
+    }
+
+    public List<GenreSnapshotDTO> findGenres(Collection<Integer> ids) {
+        return jdbcTemplate.query(GENRES_SQL, (rs, rowNum) -> GenreSnapshotDTO.builder()
+                .id(rs.getInt("id"))
+                .name(rs.getString("name"))
+                .parentGenreId(getInteger(rs, "parent_genre_id"))
+                .isActive(getBoolean(rs, "is_active"))
+                .build(), toArray(ids));
+    }
+
+    public List<PublisherSnapshotDTO> findPublishers(Collection<Integer> ids) {
+        return jdbcTemplate.query(PUBLISHERS_SQL, (rs, rowNum) -> PublisherSnapshotDTO.builder()
+                .id(rs.getInt("id"))
+                .name(rs.getString("name"))
+                .build(), toArray(ids));
+    }
+
+    private static Object[] toArray(Collection<Integer> ids) {
+        return new Object[]{ids.toArray(Integer[]::new)};
+    }
+
+    private static List<Integer> toIds(Array array) throws SQLException {
+        if (array == null) {
+            return List.of();
+        }
+
+        return Arrays.stream((Object[]) array.getArray()).map(id -> ((Number) id).intValue()).toList();
+    }
+
+    private static Integer getInteger(ResultSet rs, String column) throws SQLException {
+        int value = rs.getInt(column);
+        return rs.wasNull() ? null : value;
+    }
+
+    private static Boolean getBoolean(ResultSet rs, String column) throws SQLException {
+        boolean value = rs.getBoolean(column);
+        return rs.wasNull() ? null : value;
+    }
+
+    private static LocalDate toLocalDate(Date date) {
+        return date != null ? date.toLocalDate() : null;
+    }
+}
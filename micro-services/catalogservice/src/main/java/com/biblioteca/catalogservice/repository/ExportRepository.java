@@ -0,0 +1,79 @@
+package com.biblioteca.catalogservice.repository;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Repository;
+
+import javax.sql.DataSource;
+
+/*
+ * Row-at-a-time reads for the catalog export. The PostgreSQL driver only uses a server-side
+ * cursor when a fetch size is set and autocommit is off, so callers must run these inside a
+ * transaction; rows are then pulled in fetch-size batches instead of being buffered whole.
+ */
+@Repository
+public class ExportRepository {
+    private static final String BOOKS_SQL = """
+            SELECT b.id, b.title, b.subtitle, b.description,
+                   b.publication_date AS "publicationDate", b.page_count AS "pageCount", b.language,
+                   b.average_rating AS "averageRating", b.total_ratings AS "totalRatings",
+                   b.goodreads_id AS "goodreadsId", b.google_books_id AS "googleBooksId",
+                   b.is_active AS "isActive", b.created_at AS "createdAt", b.updated_at AS "updatedAt",
+                   ARRAY(SELECT ba.author_id FROM book_authors ba WHERE ba.book_id = b.id ORDER BY ba.id) AS "authorIds",
+                   ARRAY(SELECT bg.genre_id FROM book_genres bg WHERE bg.book_id = b.id ORDER BY bg.id) AS "genreIds",
+                   ARRAY(SELECT bs.series_id FROM book_series bs WHERE bs.book_id = b.id ORDER BY bs.id) AS "seriesIds"
+            FROM books b
+            ORDER BY b.id
+            """;
+
+    private static final String AUTHORS_SQL = """
+            SELECT a.id, a.name, a.bio, a.birth_date AS "birthDate", a.death_date AS "deathDate",
+                   a.nationality, a.website, a.image_id AS "imageId", a.instagram_url AS "instagramUrl",
+                   a.threads_url AS "threadsUrl", a.goodread_url AS "goodreadUrl",
+                   a.created_at AS "createdAt", a.updated_at AS "updatedAt"
+            FROM authors a
+            ORDER BY a.id
+            """;
+
+    private static final String SERIES_SQL = """
+            SELECT s.id, s.name, s.description, s.total_books AS "totalBooks", s.is_completed AS "isCompleted",
+                   s.created_at AS "createdAt", s.updated_at AS "updatedAt",
+                   ARRAY(SELECT sa.author_id FROM series_authors sa WHERE sa.series_id = s.id ORDER BY sa.id) AS "authorIds",
+                   ARRAY(SELECT sg.genre_id FROM series_genres sg WHERE sg.series_id = s.id ORDER BY sg.id) AS "genreIds"
+            FROM series s
+            ORDER BY s.id
+            """;
+
+    private static final String BOOK_EDITIONS_SQL = """
+            SELECT be.id, be.book_id AS "bookId", be.format, be.isbn, be.publisher_id AS "publisherId",
+                   be.publication_date AS "publicationDate", be.page_count AS "pageCount", be.price, be.currency,
+                   be.cover_image_id AS "coverImageId", be.availability_status AS "availabilityStatus",
+                   be.created_at AS "createdAt", be.updated_at AS "updatedAt"
+            FROM book_editions be
+            ORDER BY be.id
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public ExportRepository(DataSource dataSource, @Value("${catalog.export.fetch-size:1000}") int fetchSize) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.jdbcTemplate.setFetchSize(fetchSize);
+    }
+
+    public void streamBooks(RowCallbackHandler handler) {
+        jdbcTemplate.query(BOOKS_SQL, handler);
+    }
+
+    public void streamAuthors(RowCallbackHandler handler) {
+        jdbcTemplate.query(AUTHORS_SQL, handler);
+    }
+
+    public void streamSeries(RowCallbackHandler handler) {
+        jdbcTemplate.query(SERIES_SQL, handler);
+    }
+
+    public void streamBookEditions(RowCallbackHandler handler) {
+        jdbcTemplate.query(BOOK_EDITIONS_SQL, handler);
+    }
+}
@@ -0,0 +1,43 @@
+package com.biblioteca.catalogservice.repository;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import javax.sql.DataSource;
+
+/*
+ * Hierarchy checks that must see committed data rather than the cached GenreTree.
+ * Moves take a transaction-scoped advisory lock first, so two concurrent moves cannot
+ * each pass the cycle check against a tree that the other is about to change.
+ */
+@Repository
+public class GenreHierarchyRepository {
+    private static final String LOCK_HIERARCHY_SQL = "SELECT pg_advisory_xact_lock(hashtext('genres:hierarchy'))";
+
+    private static final String IS_ANCESTOR_OR_SELF_SQL = """
+            WITH RECURSIVE ancestors (id, parent_genre_id) AS (
+                SELECT id, parent_genre_id FROM genres WHERE id = ?
+                UNION
+                SELECT g.id, g.parent_genre_id
+                FROM genres g
+                JOIN ancestors a ON g.id = a.parent_genre_id
+            )
+            SELECT EXISTS (SELECT 1 FROM ancestors WHERE id = ?)
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public GenreHierarchyRepository(DataSource dataSource) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+    }
+
+    /* Held until the surrounding transaction commits or rolls back. */
+    public void lockHierarchy() {
+        jdbcTemplate.execute(LOCK_HIERARCHY_SQL);
+    }
+
+    /* UNION (not UNION ALL) stops the walk if the stored parents already form a cycle. */
+    public boolean isAncestorOrSelf(Integer ancestorId, Integer genreId) {
+        return Boolean.TRUE.equals(jdbcTemplate.queryForObject(IS_ANCESTOR_OR_SELF_SQL, Boolean.class, genreId, ancestorId));
+    }
+}
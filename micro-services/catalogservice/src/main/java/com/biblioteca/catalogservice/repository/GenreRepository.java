@@ -3,14 +3,21 @@ package com.biblioteca.catalogservice.repository;
 import com.biblioteca.catalogservice.entity.Author;
 import com.biblioteca.catalogservice.entity.Genre;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
 import java.util.Optional;
 
 @Repository
-public interface GenreRepository extends JpaRepository<Genre, Integer> {
+public interface GenreRepository extends JpaRepository<Genre, Integer>, KeysetRepository<Genre> {
     Optional<Genre> findByNameIgnoreCase(String name);
 
     List<Genre> findByNameContainingIgnoreCase(String name);
+
+    @Query("SELECT g.id, p.id FROM Genre g LEFT JOIN g.parentGenreId p")
+    List<Object[]> findAllParentLinks();
+
+    @Query("SELECT g.id, g.name FROM Genre g")
+    List<Object[]> findAllIdAndName();
 }
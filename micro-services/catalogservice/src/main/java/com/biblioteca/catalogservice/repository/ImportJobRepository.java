@@ -0,0 +1,179 @@
+package com.biblioteca.catalogservice.repository;
+
+import com.biblioteca.catalogservice.dto.bookImport.ImportJobDTO;
+import com.biblioteca.catalogservice.util.enums.ImportFormat;
+import com.biblioteca.catalogservice.util.enums.ImportStatus;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+
+import javax.sql.DataSource;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+/*
+ * Import job rows in import_jobs. Jobs are written as a whole after every chunk, so the
+ * state any node reads is at most one chunk behind the node running the job.
+ */
+@Repository
+public class ImportJobRepository {
+    private static final String SAVE_SQL = """
+            INSERT INTO import_jobs (id, file_name, format, status, imported, skipped, failed, errors,
+                                     started_by, created_at, started_at, finished_at, heartbeat_at)
+            VALUES (?, ?, ?, ?, ?, ?, ?, CAST(? AS JSONB), ?, ?, ?, ?, CURRENT_TIMESTAMP)
+            ON CONFLICT (id) DO UPDATE SET
+                status = EXCLUDED.status,
+                imported = EXCLUDED.imported,
+                skipped = EXCLUDED.skipped,
+                failed = EXCLUDED.failed,
+                errors = EXCLUDED.errors,
+                started_at = EXCLUDED.started_at,
+                finished_at = EXCLUDED.finished_at,
+                heartbeat_at = CURRENT_TIMESTAMP
+            """;
+
+    private static final String SELECT_COLUMNS = """
+            SELECT id, file_name, format, status, imported, skipped, failed, errors,
+                   started_by, created_at, started_at, finished_at
+            FROM import_jobs
+            """;
+
+    private static final String FIND_BY_ID_SQL = SELECT_COLUMNS + "WHERE id = ?";
+
+    private static final String FIND_RECENT_SQL = SELECT_COLUMNS + "ORDER BY created_at DESC, id LIMIT ?";
+
+    private static final String HEARTBEAT_SQL = """
+            UPDATE import_jobs SET heartbeat_at = CURRENT_TIMESTAMP
+            WHERE id = ANY (?) AND status IN ('QUEUED', 'RUNNING')
+            """;
+
+    private static final String FAIL_STALE_SQL = """
+            UPDATE import_jobs
+            SET status = 'FAILED',
+                finished_at = CURRENT_TIMESTAMP,
+                errors = errors || to_jsonb(?::text)
+            WHERE status IN ('QUEUED', 'RUNNING')
+              AND heartbeat_at < CURRENT_TIMESTAMP - make_interval(secs => ?)
+            """;
+
+    private static final String DELETE_OLD_FINISHED_SQL = """
+            DELETE FROM import_jobs
+            WHERE status IN ('COMPLETED', 'FAILED')
+              AND id NOT IN (SELECT id FROM import_jobs ORDER BY created_at DESC, id LIMIT ?)
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectMapper objectMapper;
+    private final RowMapper<ImportJobDTO> rowMapper = this::mapRow;
+
+    public ImportJobRepository(DataSource dataSource, ObjectMapper objectMapper) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.objectMapper = objectMapper;
+    }
+
+    public void save(ImportJobDTO job) {
+        jdbcTemplate.update(SAVE_SQL,
+                job.getJobId(),
+                job.getFileName(),
+                job.getFormat().name(),
+                job.getStatus().name(),
+                job.getImported(),
+                job.getSkipped(),
+                job.getFailed(),
+                toJson(job.getErrors()),
+                job.getStartedBy(),
+                toTimestamp(job.getCreatedAt()),
+                toTimestamp(job.getStartedAt()),
+                toTimestamp(job.getFinishedAt()));
+    }
+
+    public Optional<ImportJobDTO> findById(String id) {
+        return jdbcTemplate.query(FIND_BY_ID_SQL, rowMapper, id).stream().findFirst();
+    }
+
+    public List<ImportJobDTO> findRecent(int limit) {
+        return jdbcTemplate.query(FIND_RECENT_SQL, rowMapper, limit);
+    }
+
+    public void heartbeat(Collection<String> ids) {
+        if (ids.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.update(HEARTBEAT_SQL, (Object) ids.toArray(String[]::new));
+    }
+
+    public int failStale(Duration staleAfter, String reason) {
+        return jdbcTemplate.update(FAIL_STALE_SQL, reason, staleAfter.toSeconds());
+    }
+
+    public int deleteOldFinished(int keep) {
+        return jdbcTemplate.update(DELETE_OLD_FINISHED_SQL, keep);
+    }
+
+    private ImportJobDTO mapRow(ResultSet rs, int rowNum) throws SQLException {
+        long imported = rs.getLong("imported");
+        long skipped = rs.getLong("skipped");
+        long failed = rs.getLong("failed");
+        LocalDateTime startedAt = toLocalDateTime(rs.getTimestamp("started_at"));
+        LocalDateTime finishedAt = toLocalDateTime(rs.getTimestamp("finished_at"));
+
+        return ImportJobDTO.builder()
+                .jobId(rs.getString("id"))
+                .fileName(rs.getString("file_name"))
+                .format(ImportFormat.valueOf(rs.getString("format")))
+                .status(ImportStatus.valueOf(rs.getString("status")))
+                .processed(imported + skipped + failed)
+                .imported(imported)
+                .skipped(skipped)
+                .failed(failed)
+                .rowsPerSecond(rowsPerSecond(imported + skipped + failed, startedAt, finishedAt))
+                .errors(fromJson(rs.getString("errors")))
+                .startedBy(rs.getString("started_by"))
+                .createdAt(toLocalDateTime(rs.getTimestamp("created_at")))
+                .startedAt(startedAt)
+                .finishedAt(finishedAt)
+                .build();
+    }
+
+    public static double rowsPerSecond(long processed, LocalDateTime startedAt, LocalDateTime finishedAt) {
+        if (startedAt == null) {
+            return 0;
+        }
+
+        long millis = Duration.between(startedAt, finishedAt != null ? finishedAt : LocalDateTime.now()).toMillis();
+        return millis <= 0 ? 0 : Math.round(processed * 10000.0 / millis) / 10.0;
+    }
+
+    private String toJson(List<String> errors) {
+        try {
+            return objectMapper.writeValueAsString(errors == null ? List.of() : errors);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Import errors could not be serialised", e);
+        }
+    }
+
+    private List<String> fromJson(String errors) {
+        try {
+            return errors == null ? List.of() : objectMapper.readValue(errors, new TypeReference<List<String>>() {});
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Import errors could not be read", e);
+        }
+    }
+
+    private static Timestamp toTimestamp(LocalDateTime value) {
+        return value == null ? null : Timestamp.valueOf(value);
+    }
+
+    private static LocalDateTime toLocalDateTime(Timestamp value) {
+        return value == null ? null : value.toLocalDateTime();
+    }
+}
@@ -0,0 +1,16 @@
+package com.biblioteca.catalogservice.repository;
+
+import org.springframework.data.domain.Limit;
+import org.springframework.data.repository.NoRepositoryBean;
+import org.springframework.data.repository.Repository;
+
+import java.util.List;
+
+@NoRepositoryBean
+public interface KeysetRepository<T> extends Repository<T, Integer> {
+    List<T> findAllByOrderByIdDesc(Limit limit);
+
+    List<T> findByIdLessThanOrderByIdDesc(Integer id, Limit limit);
+
+    List<T> findByIdGreaterThanOrderByIdAsc(Integer id, Limit limit);
+}
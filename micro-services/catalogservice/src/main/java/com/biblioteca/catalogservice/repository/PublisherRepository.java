@@ -2,14 +2,18 @@ package com.biblioteca.catalogservice.repository;
 
 import com.biblioteca.catalogservice.entity.Publisher;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
 import java.util.Optional;
 
 @Repository
-public interface PublisherRepository extends JpaRepository<Publisher, Integer> {
+public interface PublisherRepository extends JpaRepository<Publisher, Integer>, KeysetRepository<Publisher> {
     Optional<Publisher> findByNameIgnoreCase(String name);
 
     List<Publisher> findByNameContainingIgnoreCase(String name);
+
+    @Query("SELECT p.id, p.name FROM Publisher p")
+    List<Object[]> findAllIdAndName();
 }
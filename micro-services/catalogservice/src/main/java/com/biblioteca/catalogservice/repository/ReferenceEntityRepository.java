@@ -0,0 +1,39 @@
+package com.biblioteca.catalogservice.repository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.hibernate.CacheMode;
+import org.hibernate.Session;
+import org.springframework.stereotype.Repository;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Objects;
+
+/*
+ * findAllById on the Spring Data repositories always issues an IN query; multiLoad
+ * resolves ids from the persistence context and the second-level cache first and only
+ * queries the ids that are still missing.
+ */
+@Repository
+public class ReferenceEntityRepository {
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    public <T> List<T> findAllById(Class<T> entityClass, Collection<Integer> ids) {
+        if (ids == null || ids.isEmpty()) {
+            return List.of();
+        }
+
+        return entityManager.unwrap(Session.class)
+                .byMultipleIds(entityClass)
+                .with(CacheMode.NORMAL)
+                .enableSessionCheck(true)
+                .multiLoad(new ArrayList<>(new LinkedHashSet<>(ids)))
+                .stream()
+                .filter(Objects::nonNull)
+                .toList();
+    }
+}
@@ -0,0 +1,179 @@
+package com.biblioteca.catalogservice.repository;
+
+import com.biblioteca.catalogservice.dto.search.SearchDTO;
+import com.biblioteca.catalogservice.util.enums.SearchType;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.*;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+@Repository
+@RequiredArgsConstructor
+public class SearchRepository {
+    private static final Pattern ISBN_PATTERN = Pattern.compile("^(\\d{9}[\\dX]|\\d{13})$");
+
+    /*
+     * Each branch yields (type, id, title, name, description, rank) with rank in [0, 1]:
+     * ts_rank_cd with normalization 32 for books, trigram similarity for names and for
+     * misspelled titles. Fuzzy title and author hits on books are scaled down so a full-text
+     * match wins over them.
+     */
+    private static final String BOOK_TEXT_BRANCH = """
+            SELECT 'BOOK' AS type, b.id, b.title, NULL AS name, b.subtitle AS description,
+                   ts_rank_cd(b.search_vector, websearch_to_tsquery('english', :query), 32) AS rank
+            FROM books b
+            WHERE b.search_vector @@ websearch_to_tsquery('english', :query)
+            """;
+
+    private static final String BOOK_TITLE_BRANCH = """
+            SELECT 'BOOK' AS type, b.id, b.title, NULL AS name, b.subtitle AS description,
+                   similarity(b.title, :query) * 0.5 AS rank
+            FROM books b
+            WHERE b.title % :query
+            """;
+
+    private static final String BOOK_ISBN_BRANCH = """
+            SELECT 'BOOK' AS type, b.id, b.title, NULL AS name, b.subtitle AS description, 1.0 AS rank
+            FROM book_editions be
+            JOIN books b ON b.id = be.book_id
+            WHERE be.isbn IN (:isbns)
+            """;
+
+    private static final String BOOK_AUTHOR_BRANCH = """
+            SELECT 'BOOK' AS type, b.id, b.title, NULL AS name, b.subtitle AS description,
+                   similarity(upper(a.name), upper(:query)) * 0.5 AS rank
+            FROM authors a
+            JOIN book_authors ba ON ba.author_id = a.id
+            JOIN books b ON b.id = ba.book_id
+            WHERE upper(a.name) % upper(:query)
+            """;
+
+    private static final String AUTHOR_BRANCH = """
+            SELECT 'AUTHOR' AS type, a.id, NULL AS title, a.name, a.bio AS description,
+                   similarity(upper(a.name), upper(:query)) AS rank
+            FROM authors a
+            WHERE upper(a.name) % upper(:query) OR upper(a.name) LIKE upper(:pattern)
+            """;
+
+    private static final String SERIES_BRANCH = """
+            SELECT 'SERIES' AS type, s.id, NULL AS title, s.name, s.description,
+                   similarity(upper(s.name), upper(:query)) AS rank
+            FROM series s
+            WHERE upper(s.name) % upper(:query) OR upper(s.name) LIKE upper(:pattern)
+            """;
+
+    private static final String PUBLISHER_BRANCH = """
+            SELECT 'PUBLISHER' AS type, p.id, NULL AS title, p.name, p.location AS description,
+                   similarity(upper(p.name), upper(:query)) AS rank
+            FROM publishers p
+            WHERE upper(p.name) % upper(:query) OR upper(p.name) LIKE upper(:pattern)
+            """;
+
+    private static final String GENRE_BRANCH = """
+            SELECT 'GENRE' AS type, g.id, NULL AS title, g.name, g.description,
+                   similarity(upper(g.name), upper(:query)) AS rank
+            FROM genres g
+            WHERE upper(g.name) % upper(:query) OR upper(g.name) LIKE upper(:pattern)
+            """;
+
+    private static final RowMapper<SearchDTO> SEARCH_ROW_MAPPER = (rs, rowNum) -> SearchDTO.builder()
+            .type(SearchType.valueOf(rs.getString("type")))
+            .id(rs.getInt("id"))
+            .title(rs.getString("title"))
+            .name(rs.getString("name"))
+            .description(rs.getString("description"))
+            .rank(rs.getDouble("rank"))
+            .build();
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    /*
+     * One page of hits together with the number of distinct hits, counted by a window over the
+     * grouped union in the same statement. Only a page past the end, which has no row to carry
+     * the count, falls back to a separate count.
+     */
+    public SearchPage search(String query, SearchType type, int limit, long offset) {
+        MapSqlParameterSource params = buildParams(query);
+        params.addValue("limit", limit);
+        params.addValue("offset", offset);
+
+        String sql = "SELECT hit.type, hit.id, hit.title, hit.name, hit.description, MAX(hit.rank) AS rank, "
+                + "COUNT(*) OVER () AS total "
+                + "FROM (" + buildUnion(query, type) + ") hit "
+                + "GROUP BY hit.type, hit.id, hit.title, hit.name, hit.description "
+                + "ORDER BY rank DESC, hit.type, hit.id "
+                + "LIMIT :limit OFFSET :offset";
+
+        long[] total = {0};
+        List<SearchDTO> hits = jdbcTemplate.query(sql, params, (rs, rowNum) -> {
+            total[0] = rs.getLong("total");
+            return SEARCH_ROW_MAPPER.mapRow(rs, rowNum);
+        });
+        if (hits.isEmpty() && offset > 0) {
+            total[0] = count(query, type);
+        }
+
+        return new SearchPage(hits, total[0]);
+    }
+
+    public long count(String query, SearchType type) {
+        String sql = "SELECT COUNT(*) FROM (SELECT DISTINCT hit.type, hit.id FROM ("
+                + buildUnion(query, type) + ") hit) matched";
+
+        Long total = jdbcTemplate.queryForObject(sql, buildParams(query), Long.class);
+        return total == null ? 0 : total;
+    }
+
+    private String buildUnion(String query, SearchType type) {
+        List<String> branches = new ArrayList<>();
+
+        if (type == null || type == SearchType.BOOK) {
+            branches.add(BOOK_TEXT_BRANCH);
+            branches.add(BOOK_TITLE_BRANCH);
+            branches.add(BOOK_AUTHOR_BRANCH);
+            if (!isbnCandidates(query).isEmpty()) {
+                branches.add(BOOK_ISBN_BRANCH);
+            }
+        }
+        if (type == null || type == SearchType.AUTHOR) branches.add(AUTHOR_BRANCH);
+        if (type == null || type == SearchType.SERIES) branches.add(SERIES_BRANCH);
+        if (type == null || type == SearchType.PUBLISHER) branches.add(PUBLISHER_BRANCH);
+        if (type == null || type == SearchType.GENRE) branches.add(GENRE_BRANCH);
+
+        return String.join(" UNION ALL ", branches);
+    }
+
+    private MapSqlParameterSource buildParams(String query) {
+        MapSqlParameterSource params = new MapSqlParameterSource();
+        params.addValue("query", query);
+        params.addValue("pattern", escapeLike(query) + "%");
+
+        Set<String> isbns = isbnCandidates(query);
+        if (!isbns.isEmpty()) {
+            params.addValue("isbns", isbns);
+        }
+
+        return params;
+    }
+
+    private Set<String> isbnCandidates(String query) {
+        String normalized = query.replaceAll("[\\s-]", "").toUpperCase(Locale.ROOT);
+        if (!ISBN_PATTERN.matcher(normalized).matches()) {
+            return Collections.emptySet();
+        }
+
+        return Arrays.stream(new String[]{query.trim(), normalized}).collect(Collectors.toCollection(LinkedHashSet::new));
+    }
+
+    private String escapeLike(String value) {
+        return value.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+    }
+
+    public record SearchPage(List<SearchDTO> hits, long total) {
+    }
+}
@@ -10,7 +10,7 @@ import java.util.List;
 import java.util.Optional;
 
 @Repository
-public interface SeriesRepository extends JpaRepository<Series, Integer> {
+public interface SeriesRepository extends JpaRepository<Series, Integer>, KeysetRepository<Series> {
     Optional<Series> findByNameIgnoreCase(String name);
 
     @Query("SELECT s FROM SeriesAuthor sa JOIN sa.series s " +
@@ -22,4 +22,7 @@ public interface SeriesRepository extends JpaRepository<Series, Integer> {
     List<Series> findBySeriesGenres(@Param("genreId") Integer genreId);
 
     List<Series> findByNameContainingIgnoreCase(String name);
+
+    @Query("SELECT s.id, s.name FROM Series s")
+    List<Object[]> findAllIdAndName();
 }
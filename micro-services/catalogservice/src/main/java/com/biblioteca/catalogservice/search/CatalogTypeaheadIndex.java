@@ -0,0 +1,296 @@
+package com.biblioteca.catalogservice.search;
+
+import com.biblioteca.catalogservice.dto.author.AuthorDTO;
+import com.biblioteca.catalogservice.dto.genre.GenreDTO;
+import com.biblioteca.catalogservice.dto.publisher.PublisherDTO;
+import com.biblioteca.catalogservice.dto.series.SeriesDTO;
+import com.biblioteca.catalogservice.repository.AuthorRepository;
+import com.biblioteca.catalogservice.repository.GenreRepository;
+import com.biblioteca.catalogservice.repository.PublisherRepository;
+import com.biblioteca.catalogservice.repository.SeriesRepository;
+import com.biblioteca.catalogservice.util.mapper.AuthorMapper;
+import com.biblioteca.catalogservice.util.mapper.GenreMapper;
+import com.biblioteca.catalogservice.util.mapper.PublisherMapper;
+import com.biblioteca.catalogservice.util.mapper.SeriesMapper;
+import com.biblioteca.catalogservice.util.transaction.TransactionHooks;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.unit.DataSize;
+
+import java.util.*;
+import java.util.function.Supplier;
+
+/*
+ * Keeps typeahead indexes for authors, genres, series and publishers in memory.
+ * Indexes are loaded once the application is ready and updated by the service
+ * create/update/delete paths after their transaction commits. Series entries embed
+ * author and genre names, so renaming or deleting either reloads the linked series.
+ * An index that was disabled, by its size bound or a failed load, is retried on a fixed delay.
+ */
+@Component
+@Slf4j
+public class CatalogTypeaheadIndex {
+    private static final long DTO_OVERHEAD_BYTES = 128;
+    private static final long STRING_OVERHEAD_BYTES = 40;
+
+    private final AuthorRepository authorRepository;
+    private final GenreRepository genreRepository;
+    private final SeriesRepository seriesRepository;
+    private final PublisherRepository publisherRepository;
+    private final TransactionTemplate readTransaction;
+    private final int maxResults;
+
+    private final TypeaheadIndex<AuthorDTO> authors;
+    private final TypeaheadIndex<GenreDTO> genres;
+    private final TypeaheadIndex<SeriesDTO> series;
+    private final TypeaheadIndex<PublisherDTO> publishers;
+
+    public CatalogTypeaheadIndex(AuthorRepository authorRepository,
+                                 GenreRepository genreRepository,
+                                 SeriesRepository seriesRepository,
+                                 PublisherRepository publisherRepository,
+                                 PlatformTransactionManager transactionManager,
+                                 MeterRegistry meterRegistry,
+                                 @Value("${catalog.typeahead.max-size:32MB}") DataSize maxSize,
+                                 @Value("${catalog.typeahead.max-results:20}") int maxResults) {
+        this.authorRepository = authorRepository;
+        this.genreRepository = genreRepository;
+        this.seriesRepository = seriesRepository;
+        this.publisherRepository = publisherRepository;
+        this.maxResults = maxResults;
+
+        this.readTransaction = new TransactionTemplate(transactionManager);
+        this.readTransaction.setReadOnly(true);
+        this.readTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+
+        long maxBytes = maxSize.toBytes();
+        this.authors = new TypeaheadIndex<>(AuthorDTO::getId, AuthorDTO::getName, CatalogTypeaheadIndex::weigh, maxBytes);
+        this.genres = new TypeaheadIndex<>(GenreDTO::getId, GenreDTO::getName, CatalogTypeaheadIndex::weigh, maxBytes);
+        this.series = new TypeaheadIndex<>(SeriesDTO::getId, SeriesDTO::getName, CatalogTypeaheadIndex::weigh, maxBytes);
+        this.publishers = new TypeaheadIndex<>(PublisherDTO::getId, PublisherDTO::getName, CatalogTypeaheadIndex::weigh, maxBytes);
+
+        registerMetrics(meterRegistry, "author", authors);
+        registerMetrics(meterRegistry, "genre", genres);
+        registerMetrics(meterRegistry, "series", series);
+        registerMetrics(meterRegistry, "publisher", publishers);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuildAll() {
+        rebuildAuthors();
+        rebuildGenres();
+        rebuildSeries();
+        rebuildPublishers();
+    }
+
+    @Scheduled(fixedDelayString = "${catalog.typeahead.retry-interval:PT5M}",
+            initialDelayString = "${catalog.typeahead.retry-interval:PT5M}")
+    public void rebuildUnavailable() {
+        if (!authors.isAvailable()) rebuildAuthors();
+        if (!genres.isAvailable()) rebuildGenres();
+        if (!series.isAvailable()) rebuildSeries();
+        if (!publishers.isAvailable()) rebuildPublishers();
+    }
+
+    public Optional<List<AuthorDTO>> searchAuthors(String name) {
+        return authors.search(name, maxResults);
+    }
+
+    public Optional<List<GenreDTO>> searchGenres(String name) {
+        return genres.search(name, maxResults);
+    }
+
+    public Optional<List<SeriesDTO>> searchSeries(String name) {
+        return series.search(name, maxResults);
+    }
+
+    public Optional<List<PublisherDTO>> searchPublishers(String name) {
+        return publishers.search(name, maxResults);
+    }
+
+    public void putAuthor(AuthorDTO authorDTO) {
+        boolean renamed = authors.get(authorDTO.getId())
+                .map(existing -> !Objects.equals(existing.getName(), authorDTO.getName()))
+                .orElse(false);
+
+        TransactionHooks.afterCommit(() -> {
+            authors.put(authorDTO);
+            if (renamed) reindexSeries(seriesLinkedToAuthor(authorDTO.getId()));
+        });
+    }
+
+    public void removeAuthor(Integer id) {
+        TransactionHooks.afterCommit(() -> {
+            authors.remove(id);
+            reindexSeries(seriesLinkedToAuthor(id));
+        });
+    }
+
+    public void putGenre(GenreDTO genreDTO) {
+        boolean renamed = genres.get(genreDTO.getId())
+                .map(existing -> !Objects.equals(existing.getName(), genreDTO.getName()))
+                .orElse(false);
+
+        TransactionHooks.afterCommit(() -> {
+            genres.put(genreDTO);
+            if (renamed) reindexSeries(seriesLinkedToGenre(genreDTO.getId()));
+        });
+    }
+
+    public void removeGenre(Integer id) {
+        TransactionHooks.afterCommit(() -> {
+            genres.remove(id);
+            reindexSeries(seriesLinkedToGenre(id));
+        });
+    }
+
+    public void putSeries(SeriesDTO seriesDTO) {
+        TransactionHooks.afterCommit(() -> series.put(seriesDTO));
+    }
+
+    public void removeSeries(Integer id) {
+        TransactionHooks.afterCommit(() -> series.remove(id));
+    }
+
+    public void putPublisher(PublisherDTO publisherDTO) {
+        TransactionHooks.afterCommit(() -> publishers.put(publisherDTO));
+    }
+
+    public void removePublisher(Integer id) {
+        TransactionHooks.afterCommit(() -> publishers.remove(id));
+    }
+
+    private void rebuildAuthors() {
+        rebuild("author", authors, () -> authorRepository.findAll().stream().map(AuthorMapper::toDTO).toList());
+    }
+
+    private void rebuildGenres() {
+        rebuild("genre", genres, () -> genreRepository.findAll().stream().map(GenreMapper::toDTO).toList());
+    }
+
+    private void rebuildSeries() {
+        rebuild("series", series, () -> seriesRepository.findAll().stream().map(SeriesMapper::toDTO).toList());
+    }
+
+    private void rebuildPublishers() {
+        rebuild("publisher", publishers, () -> publisherRepository.findAll().stream().map(PublisherMapper::toDTO).toList());
+    }
+
+    private List<Integer> seriesLinkedToAuthor(Integer authorId) {
+        return series.idsMatching(seriesDTO -> seriesDTO.getSeriesAuthors() != null && seriesDTO.getSeriesAuthors().stream()
+                .anyMatch(seriesAuthor -> Objects.equals(seriesAuthor.getAuthorId(), authorId)));
+    }
+
+    private List<Integer> seriesLinkedToGenre(Integer genreId) {
+        return series.idsMatching(seriesDTO -> seriesDTO.getSeriesGenres() != null && seriesDTO.getSeriesGenres().stream()
+                .anyMatch(seriesGenre -> Objects.equals(seriesGenre.getGenreId(), genreId)));
+    }
+
+    /*
+     * Reloads only the given series. Ids that no longer exist are dropped from the index.
+     */
+    private void reindexSeries(List<Integer> ids) {
+        if (ids.isEmpty()) {
+            return;
+        }
+
+        try {
+            List<SeriesDTO> reloaded = readTransaction.execute(status ->
+                    seriesRepository.findAllById(ids).stream().map(SeriesMapper::toDTO).toList());
+
+            Set<Integer> missing = new HashSet<>(ids);
+            for (SeriesDTO seriesDTO : reloaded == null ? List.<SeriesDTO>of() : reloaded) {
+                series.put(seriesDTO);
+                missing.remove(seriesDTO.getId());
+            }
+            missing.forEach(series::remove);
+
+            log.info("Typeahead index for series re-indexed {} linked entries", ids.size());
+        } catch (Exception e) {
+            series.disable();
+            log.error("Error occurred while re-indexing series {}: {}", ids, e.getMessage());
+        }
+    }
+
+    private <D> void rebuild(String name, TypeaheadIndex<D> index, Supplier<List<D>> loader) {
+        try {
+            index.rebuild(() -> readTransaction.execute(status -> loader.get()));
+
+            if (index.isAvailable()) {
+                log.info("Typeahead index for {} built with {} entries (~{} bytes)", name, index.size(), index.estimatedBytes());
+            } else {
+                log.warn("Typeahead index for {} disabled: entries exceed the configured size limit", name);
+            }
+        } catch (Exception e) {
+            index.disable();
+            log.error("Error occurred while building typeahead index for {}: {}", name, e.getMessage());
+        }
+    }
+
+    private static long weigh(AuthorDTO authorDTO) {
+        return weigh(authorDTO.getName(), authorDTO.getBio(), authorDTO.getNationality(), authorDTO.getWebsite(),
+                authorDTO.getImageId(), authorDTO.getInstagramUrl(), authorDTO.getThreadsUrl(), authorDTO.getGoodreadUrl());
+    }
+
+    private static long weigh(GenreDTO genreDTO) {
+        return weigh(genreDTO.getName(), genreDTO.getDescription());
+    }
+
+    private static long weigh(SeriesDTO seriesDTO) {
+        long bytes = weigh(seriesDTO.getName(), seriesDTO.getDescription());
+        if (seriesDTO.getSeriesAuthors() != null) {
+            bytes += seriesDTO.getSeriesAuthors().stream().mapToLong(a -> DTO_OVERHEAD_BYTES + weigh(a.getAuthorName())).sum();
+        }
+        if (seriesDTO.getSeriesGenres() != null) {
+            bytes += seriesDTO.getSeriesGenres().stream().mapToLong(g -> DTO_OVERHEAD_BYTES + weigh(g.getGenreName())).sum();
+        }
+        return bytes;
+    }
+
+    private static long weigh(PublisherDTO publisherDTO) {
+        return weigh(publisherDTO.getName(), publisherDTO.getLocation(), publisherDTO.getWebsite(), publisherDTO.getDescription());
+    }
+
+    /* DTO header and boxed fields plus each string's header and UTF-16 payload. */
+    private static long weigh(String... values) {
+        long bytes = DTO_OVERHEAD_BYTES;
+        for (String value : values) {
+            if (value != null) {
+                bytes += STRING_OVERHEAD_BYTES + 2L * value.length();
+            }
+        }
+        return bytes;
+    }
+
+    private static void registerMetrics(MeterRegistry meterRegistry, String name, TypeaheadIndex<?> index) {
+        Gauge.builder("catalog.typeahead.entries", index, TypeaheadIndex::size)
+                .description("Entries held by the typeahead index")
+                .tag("index", name)
+                .register(meterRegistry);
+
+        Gauge.builder("catalog.typeahead.grams", index, TypeaheadIndex::gramCount)
+                .description("Distinct trigrams held by the typeahead index")
+                .tag("index", name)
+                .register(meterRegistry);
+
+        Gauge.builder("catalog.typeahead.bytes", index, TypeaheadIndex::estimatedBytes)
+                .description("Estimated heap held by the typeahead index")
+                .tag("index", name)
+                .baseUnit("bytes")
+                .register(meterRegistry);
+
+        Gauge.builder("catalog.typeahead.available", index, i -> i.isAvailable() ? 1 : 0)
+                .description("Whether the typeahead index is serving queries")
+                .tag("index", name)
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,387 @@
+package com.biblioteca.catalogservice.search;
+
+import java.util.*;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+import java.util.function.ToLongFunction;
+
+/*
+ * Case-insensitive name index backed by a trigram posting map and a sorted word map.
+ * Queries of three or more characters intersect trigram postings and then verify the
+ * substring match; shorter queries match names with a word starting with the query.
+ * The index estimates its heap footprint and reports itself unavailable once that passes
+ * maxBytes, so callers go back to the database instead of growing the heap without limit.
+ * Puts and removes that land while a rebuild is reading from the database are replayed
+ * on top of the loaded snapshot, so a rebuild never drops a concurrent change.
+ */
+public class TypeaheadIndex<D> {
+    private static final int GRAM_SIZE = 3;
+
+    /* Rough per-object costs on a 64-bit JVM with compressed oops. */
+    private static final long ENTRY_OVERHEAD_BYTES = 96;
+    private static final long POSTING_BYTES = 48;
+    private static final long STRING_OVERHEAD_BYTES = 40;
+
+    private final Function<D, Integer> idExtractor;
+    private final Function<D, String> nameExtractor;
+    private final ToLongFunction<D> weigher;
+    private final long maxBytes;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Lock rebuildLock = new ReentrantLock();
+
+    private Map<Integer, Entry<D>> entries = new HashMap<>();
+    private Map<String, Set<Integer>> grams = new HashMap<>();
+    private NavigableMap<String, Set<Integer>> words = new TreeMap<>();
+    private long estimatedBytes = 0;
+    private boolean available = false;
+    private Map<Integer, Optional<D>> pendingChanges = null;
+
+    public TypeaheadIndex(Function<D, Integer> idExtractor, Function<D, String> nameExtractor,
+                          ToLongFunction<D> weigher, long maxBytes) {
+        this.idExtractor = idExtractor;
+        this.nameExtractor = nameExtractor;
+        this.weigher = weigher;
+        this.maxBytes = maxBytes;
+    }
+
+    /**
+     * Reloads the whole index from the loader. Changes made through put and remove while
+     * the loader runs are recorded and applied after the snapshot, in arrival order.
+     * If the loader throws, the index is left unavailable and the exception propagates.
+     */
+    public void rebuild(Supplier<? extends Collection<D>> loader) {
+        rebuildLock.lock();
+        try {
+            lock.writeLock().lock();
+            try {
+                pendingChanges = new LinkedHashMap<>();
+            } finally {
+                lock.writeLock().unlock();
+            }
+
+            Snapshot snapshot = null;
+            try {
+                Collection<D> values = loader.get();
+                snapshot = new Snapshot();
+                for (D value : values == null ? List.<D>of() : values) {
+                    snapshot.put(toEntry(value));
+                    if (snapshot.bytes > maxBytes) {
+                        snapshot = null;
+                        break;
+                    }
+                }
+            } finally {
+                lock.writeLock().lock();
+                try {
+                    if (snapshot != null) {
+                        for (Map.Entry<Integer, Optional<D>> change : pendingChanges.entrySet()) {
+                            snapshot.remove(change.getKey());
+                            if (change.getValue().isPresent()) {
+                                snapshot.put(toEntry(change.getValue().get()));
+                            }
+                        }
+                    }
+
+                    if (snapshot != null && snapshot.bytes <= maxBytes) {
+                        install(snapshot.entries, snapshot.grams, snapshot.words, snapshot.bytes, true);
+                    } else {
+                        install(new HashMap<>(), new HashMap<>(), new TreeMap<>(), 0, false);
+                    }
+                    pendingChanges = null;
+                } finally {
+                    lock.writeLock().unlock();
+                }
+            }
+        } finally {
+            rebuildLock.unlock();
+        }
+    }
+
+    public void disable() {
+        lock.writeLock().lock();
+        try {
+            install(new HashMap<>(), new HashMap<>(), new TreeMap<>(), 0, false);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void put(D value) {
+        Entry<D> entry = toEntry(value);
+
+        lock.writeLock().lock();
+        try {
+            if (pendingChanges != null) {
+                pendingChanges.remove(entry.id());
+                pendingChanges.put(entry.id(), Optional.of(value));
+            }
+            if (!available) {
+                return;
+            }
+
+            Entry<D> previous = entries.get(entry.id());
+            long delta = entry.bytes() - (previous == null ? 0 : previous.bytes());
+            if (estimatedBytes + delta > maxBytes) {
+                install(new HashMap<>(), new HashMap<>(), new TreeMap<>(), 0, false);
+                return;
+            }
+
+            if (previous != null) {
+                unlink(grams, words, previous);
+            }
+            entries.put(entry.id(), entry);
+            link(grams, words, entry);
+            estimatedBytes += delta;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(Integer id) {
+        lock.writeLock().lock();
+        try {
+            if (pendingChanges != null) {
+                pendingChanges.remove(id);
+                pendingChanges.put(id, Optional.empty());
+            }
+
+            Entry<D> previous = entries.remove(id);
+            if (previous != null) {
+                unlink(grams, words, previous);
+                estimatedBytes -= previous.bytes();
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public Optional<D> get(Integer id) {
+        lock.readLock().lock();
+        try {
+            return Optional.ofNullable(entries.get(id)).map(Entry::value);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Ids of the indexed values matching the predicate. Used to find entries that embed
+     * data from another index, without going to the database.
+     */
+    public List<Integer> idsMatching(Predicate<D> predicate) {
+        lock.readLock().lock();
+        try {
+            return entries.values().stream()
+                    .filter(entry -> predicate.test(entry.value()))
+                    .map(Entry::id)
+                    .toList();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public Optional<List<D>> search(String query, int limit) {
+        String normalizedQuery = normalize(query);
+
+        lock.readLock().lock();
+        try {
+            if (!available) {
+                return Optional.empty();
+            }
+
+            Collection<Entry<D>> candidates = normalizedQuery.length() < GRAM_SIZE
+                    ? wordPrefixCandidates(normalizedQuery)
+                    : trigramCandidates(normalizedQuery);
+
+            List<D> results = candidates.stream()
+                    .filter(entry -> entry.name().contains(normalizedQuery))
+                    .sorted(Comparator.<Entry<D>, Boolean>comparing(entry -> !entry.name().startsWith(normalizedQuery))
+                            .thenComparing(Entry::name)
+                            .thenComparing(Entry::id))
+                    .limit(limit)
+                    .map(Entry::value)
+                    .toList();
+
+            return Optional.of(results);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public boolean isAvailable() {
+        lock.readLock().lock();
+        try {
+            return available;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return entries.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int gramCount() {
+        lock.readLock().lock();
+        try {
+            return grams.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public long estimatedBytes() {
+        lock.readLock().lock();
+        try {
+            return estimatedBytes;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void install(Map<Integer, Entry<D>> newEntries, Map<String, Set<Integer>> newGrams,
+                         NavigableMap<String, Set<Integer>> newWords, long newBytes, boolean newAvailable) {
+        entries = newEntries;
+        grams = newGrams;
+        words = newWords;
+        estimatedBytes = newBytes;
+        available = newAvailable;
+    }
+
+    private List<Entry<D>> trigramCandidates(String normalizedQuery) {
+        List<Set<Integer>> postings = new ArrayList<>();
+        for (String gram : gramsOf(normalizedQuery)) {
+            Set<Integer> posting = grams.get(gram);
+            if (posting == null) {
+                return List.of();
+            }
+            postings.add(posting);
+        }
+        postings.sort(Comparator.comparingInt(Set::size));
+
+        List<Entry<D>> candidates = new ArrayList<>();
+        for (Integer id : postings.get(0)) {
+            boolean inAll = true;
+            for (int i = 1; i < postings.size() && inAll; i++) {
+                inAll = postings.get(i).contains(id);
+            }
+            if (inAll) {
+                candidates.add(entries.get(id));
+            }
+        }
+
+        return candidates;
+    }
+
+    private Collection<Entry<D>> wordPrefixCandidates(String normalizedQuery) {
+        if (normalizedQuery.isEmpty()) {
+            return List.of();
+        }
+
+        Map<Integer, Entry<D>> candidates = new HashMap<>();
+        for (Set<Integer> posting : words.subMap(normalizedQuery, true, normalizedQuery + Character.MAX_VALUE, false).values()) {
+            for (Integer id : posting) {
+                candidates.computeIfAbsent(id, entries::get);
+            }
+        }
+        return candidates.values();
+    }
+
+    private Entry<D> toEntry(D value) {
+        String name = normalize(nameExtractor.apply(value));
+        Set<String> entryGrams = gramsOf(name);
+        Set<String> entryWords = wordsOf(name);
+
+        long bytes = ENTRY_OVERHEAD_BYTES
+                + STRING_OVERHEAD_BYTES + 2L * name.length()
+                + POSTING_BYTES * (entryGrams.size() + entryWords.size())
+                + weigher.applyAsLong(value);
+
+        return new Entry<>(idExtractor.apply(value), name, value, entryGrams, entryWords, bytes);
+    }
+
+    private static <D> void link(Map<String, Set<Integer>> grams, Map<String, Set<Integer>> words, Entry<D> entry) {
+        for (String gram : entry.grams()) {
+            grams.computeIfAbsent(gram, key -> new HashSet<>()).add(entry.id());
+        }
+        for (String word : entry.words()) {
+            words.computeIfAbsent(word, key -> new HashSet<>()).add(entry.id());
+        }
+    }
+
+    private static <D> void unlink(Map<String, Set<Integer>> grams, Map<String, Set<Integer>> words, Entry<D> entry) {
+        unlinkKeys(grams, entry.grams(), entry.id());
+        unlinkKeys(words, entry.words(), entry.id());
+    }
+
+    private static void unlinkKeys(Map<String, Set<Integer>> postings, Set<String> keys, Integer id) {
+        for (String key : keys) {
+            Set<Integer> posting = postings.get(key);
+            if (posting != null) {
+                posting.remove(id);
+                if (posting.isEmpty()) {
+                    postings.remove(key);
+                }
+            }
+        }
+    }
+
+    private static Set<String> gramsOf(String value) {
+        Set<String> result = new HashSet<>();
+        for (int i = 0; i + GRAM_SIZE <= value.length(); i++) {
+            result.add(value.substring(i, i + GRAM_SIZE));
+        }
+        return result;
+    }
+
+    /* The first characters of every word, enough to answer queries shorter than a trigram. */
+    private static Set<String> wordsOf(String value) {
+        Set<String> result = new HashSet<>();
+        for (int i = 0; i < value.length(); i++) {
+            boolean wordStart = i == 0 || !Character.isLetterOrDigit(value.charAt(i - 1));
+            if (wordStart && Character.isLetterOrDigit(value.charAt(i))) {
+                result.add(value.substring(i, Math.min(value.length(), i + GRAM_SIZE - 1)));
+            }
+        }
+        return result;
+    }
+
+    private static String normalize(String value) {
+        return value == null ? "" : value.trim().toLowerCase(Locale.ROOT);
+    }
+
+    private record Entry<D>(Integer id, String name, D value, Set<String> grams, Set<String> words, long bytes) {
+    }
+
+    private final class Snapshot {
+        private final Map<Integer, Entry<D>> entries = new HashMap<>();
+        private final Map<String, Set<Integer>> grams = new HashMap<>();
+        private final NavigableMap<String, Set<Integer>> words = new TreeMap<>();
+        private long bytes = 0;
+
+        private void put(Entry<D> entry) {
+            remove(entry.id());
+            entries.put(entry.id(), entry);
+            link(grams, words, entry);
+            bytes += entry.bytes();
+        }
+
+        private void remove(Integer id) {
+            Entry<D> previous = entries.remove(id);
+            if (previous != null) {
+                unlink(grams, words, previous);
+                bytes -= previous.bytes();
+            }
+        }
+    }
+}
@@ -3,6 +3,8 @@ package com.biblioteca.catalogservice.service;
 import com.biblioteca.catalogservice.dto.author.AuthorCreateDTO;
 import com.biblioteca.catalogservice.dto.author.AuthorDTO;
 import com.biblioteca.catalogservice.dto.author.AuthorUpdateDTO;
+import com.biblioteca.catalogservice.dto.pagination.CursorPageDTO;
+import com.biblioteca.catalogservice.dto.pagination.CursorPageRequestDTO;
 import com.biblioteca.catalogservice.dto.pagination.PageRequestDTO;
 import jakarta.servlet.http.HttpServletRequest;
 import org.springframework.data.domain.Page;
@@ -26,4 +28,6 @@ public interface AuthorService {
     List<AuthorDTO> searchAuthor(String authorName, HttpServletRequest request, Jwt jwt);
 
     List<AuthorDTO> getAuthorsByIds(List<Integer> ids, HttpServletRequest request, Jwt jwt);
+
+    CursorPageDTO<AuthorDTO> getAllWithCursor(CursorPageRequestDTO cursorPageRequestDTO, HttpServletRequest request, Jwt jwt);
 }
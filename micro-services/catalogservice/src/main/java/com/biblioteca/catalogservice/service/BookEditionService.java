@@ -3,6 +3,8 @@ package com.biblioteca.catalogservice.service;
 import com.biblioteca.catalogservice.dto.bookEdition.BookEditionCreateDTO;
 import com.biblioteca.catalogservice.dto.bookEdition.BookEditionDTO;
 import com.biblioteca.catalogservice.dto.bookEdition.BookEditionUpdateDTO;
+import com.biblioteca.catalogservice.dto.pagination.CursorPageDTO;
+import com.biblioteca.catalogservice.dto.pagination.CursorPageRequestDTO;
 import com.biblioteca.catalogservice.dto.pagination.PageRequestDTO;
 import jakarta.servlet.http.HttpServletRequest;
 import org.springframework.data.domain.Page;
@@ -26,4 +28,6 @@ public interface BookEditionService {
     List<BookEditionDTO> getByBookId(Integer bookId, HttpServletRequest request, Jwt jwt);
 
     List<BookEditionDTO> getByPublisherId(Integer publisherId, HttpServletRequest request, Jwt jwt);
+
+    CursorPageDTO<BookEditionDTO> getBookEditionsWithCursor(CursorPageRequestDTO cursorPageRequestDTO, HttpServletRequest request, Jwt jwt);
 }
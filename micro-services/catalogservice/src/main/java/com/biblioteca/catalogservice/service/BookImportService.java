@@ -0,0 +1,17 @@
+package com.biblioteca.catalogservice.service;
+
+import com.biblioteca.catalogservice.dto.bookImport.ImportJobDTO;
+import com.biblioteca.catalogservice.util.enums.ImportFormat;
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.util.List;
+
+public interface BookImportService {
+    ImportJobDTO startImport(MultipartFile file, ImportFormat format, HttpServletRequest request, Jwt jwt);
+
+    ImportJobDTO getImportJob(String jobId, HttpServletRequest request, Jwt jwt);
+
+    List<ImportJobDTO> getImportJobs(HttpServletRequest request, Jwt jwt);
+}
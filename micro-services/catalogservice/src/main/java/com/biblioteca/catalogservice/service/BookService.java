@@ -4,6 +4,8 @@ import com.biblioteca.catalogservice.dto.author.AuthorDTO;
 import com.biblioteca.catalogservice.dto.book.BookCreateDTO;
 import com.biblioteca.catalogservice.dto.book.BookDTO;
 import com.biblioteca.catalogservice.dto.book.BookUpdateDTO;
+import com.biblioteca.catalogservice.dto.pagination.CursorPageDTO;
+import com.biblioteca.catalogservice.dto.pagination.CursorPageRequestDTO;
 import com.biblioteca.catalogservice.dto.pagination.PageRequestDTO;
 import jakarta.servlet.http.HttpServletRequest;
 import org.springframework.data.domain.Page;
@@ -28,7 +30,9 @@ public interface BookService {
 
     List<BookDTO> getBookByAuthorId(Integer authorId, HttpServletRequest request, Jwt jwt);
 
-    List<BookDTO> getBookByGenreId(Integer genreId, HttpServletRequest request, Jwt jwt);
+    List<BookDTO> getBookByGenreId(Integer genreId, boolean includeDescendants, HttpServletRequest request, Jwt jwt);
 
     List<BookDTO> searchBook(String title, HttpServletRequest request, Jwt jwt);
+
+    CursorPageDTO<BookDTO> getAllBooksWithCursor(CursorPageRequestDTO cursorPageRequestDTO, HttpServletRequest request, Jwt jwt);
 }
@@ -0,0 +1,15 @@
+package com.biblioteca.catalogservice.service;
+
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+public interface ExportService {
+    StreamingResponseBody exportBooks(HttpServletRequest request, Jwt jwt);
+
+    StreamingResponseBody exportAuthors(HttpServletRequest request, Jwt jwt);
+
+    StreamingResponseBody exportSeries(HttpServletRequest request, Jwt jwt);
+
+    StreamingResponseBody exportBookEditions(HttpServletRequest request, Jwt jwt);
+}
@@ -3,7 +3,10 @@ package com.biblioteca.catalogservice.service;
 import com.biblioteca.catalogservice.dto.author.AuthorDTO;
 import com.biblioteca.catalogservice.dto.genre.GenreCreateDTO;
 import com.biblioteca.catalogservice.dto.genre.GenreDTO;
+import com.biblioteca.catalogservice.dto.genre.GenreTreeDTO;
 import com.biblioteca.catalogservice.dto.genre.GenreUpdateDTO;
+import com.biblioteca.catalogservice.dto.pagination.CursorPageDTO;
+import com.biblioteca.catalogservice.dto.pagination.CursorPageRequestDTO;
 import com.biblioteca.catalogservice.dto.pagination.PageRequestDTO;
 import jakarta.servlet.http.HttpServletRequest;
 import org.springframework.data.domain.Page;
@@ -27,4 +30,12 @@ public interface GenreService {
     List<GenreDTO> searchGenre(String genreName, HttpServletRequest request, Jwt jwt);
 
     List<GenreDTO> getGenresByIds(List<Integer> ids, HttpServletRequest request, Jwt jwt);
+
+    CursorPageDTO<GenreDTO> getAllGenresWithCursor(CursorPageRequestDTO cursorPageRequestDTO, HttpServletRequest request, Jwt jwt);
+
+    List<GenreTreeDTO> getGenreTree(HttpServletRequest request, Jwt jwt);
+
+    GenreTreeDTO getGenreSubtree(Integer id, HttpServletRequest request, Jwt jwt);
+
+    List<GenreDTO> getGenreAncestors(Integer id, HttpServletRequest request, Jwt jwt);
 }
@@ -0,0 +1,10 @@
+package com.biblioteca.catalogservice.service;
+
+import com.biblioteca.catalogservice.dto.lookup.LookupRequestDTO;
+import com.biblioteca.catalogservice.dto.lookup.LookupResponseDTO;
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.security.oauth2.jwt.Jwt;
+
+public interface LookupService {
+    LookupResponseDTO lookup(LookupRequestDTO lookupRequestDTO, HttpServletRequest request, Jwt jwt);
+}
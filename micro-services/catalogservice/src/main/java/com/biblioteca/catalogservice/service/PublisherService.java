@@ -1,6 +1,8 @@
 package com.biblioteca.catalogservice.service;
 
 import com.biblioteca.catalogservice.dto.author.AuthorDTO;
+import com.biblioteca.catalogservice.dto.pagination.CursorPageDTO;
+import com.biblioteca.catalogservice.dto.pagination.CursorPageRequestDTO;
 import com.biblioteca.catalogservice.dto.pagination.PageRequestDTO;
 import com.biblioteca.catalogservice.dto.publisher.PublisherCreateDTO;
 import com.biblioteca.catalogservice.dto.publisher.PublisherDTO;
@@ -26,4 +28,5 @@ public interface PublisherService {
 
     List<PublisherDTO> searchPublisher(String publisherName, HttpServletRequest request, Jwt jwt);
 
+    CursorPageDTO<PublisherDTO> getAllPublisherWithCursor(CursorPageRequestDTO cursorPageRequestDTO, HttpServletRequest request, Jwt jwt);
 }
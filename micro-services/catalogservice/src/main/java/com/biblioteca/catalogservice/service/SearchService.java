@@ -0,0 +1,12 @@
+package com.biblioteca.catalogservice.service;
+
+import com.biblioteca.catalogservice.dto.pagination.PageRequestDTO;
+import com.biblioteca.catalogservice.dto.search.SearchDTO;
+import com.biblioteca.catalogservice.util.enums.SearchType;
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.data.domain.Page;
+import org.springframework.security.oauth2.jwt.Jwt;
+
+public interface SearchService {
+    Page<SearchDTO> search(String query, SearchType type, PageRequestDTO pageRequestDTO, HttpServletRequest request, Jwt jwt);
+}
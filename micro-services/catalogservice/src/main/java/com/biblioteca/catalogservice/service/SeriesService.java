@@ -1,5 +1,7 @@
 package com.biblioteca.catalogservice.service;
 
+import com.biblioteca.catalogservice.dto.pagination.CursorPageDTO;
+import com.biblioteca.catalogservice.dto.pagination.CursorPageRequestDTO;
 import com.biblioteca.catalogservice.dto.pagination.PageRequestDTO;
 import com.biblioteca.catalogservice.dto.series.SeriesCreateDTO;
 import com.biblioteca.catalogservice.dto.series.SeriesDTO;
@@ -30,4 +32,6 @@ public interface SeriesService {
     List<SeriesDTO> searchSeries(String seriesName, HttpServletRequest request, Jwt jwt);
 
     List<SeriesDTO> getSeriesByIds(List<Integer> ids, HttpServletRequest request, Jwt jwt);
+
+    CursorPageDTO<SeriesDTO> getAllWithCursor(CursorPageRequestDTO cursorPageRequestDTO, HttpServletRequest request, Jwt jwt);
 }
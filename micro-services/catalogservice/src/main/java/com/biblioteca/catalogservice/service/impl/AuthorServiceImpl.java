@@ -4,14 +4,20 @@ import com.biblioteca.catalogservice.dto.author.AuthorCreateDTO;
 import com.biblioteca.catalogservice.dto.author.AuthorDTO;
 import com.biblioteca.catalogservice.dto.author.AuthorUpdateDTO;
 import com.biblioteca.catalogservice.dto.book.BookDTO;
+import com.biblioteca.catalogservice.dto.pagination.CursorPageDTO;
+import com.biblioteca.catalogservice.dto.pagination.CursorPageRequestDTO;
 import com.biblioteca.catalogservice.dto.pagination.PageRequestDTO;
 import com.biblioteca.catalogservice.dto.pagination.PaginationUtil;
 import com.biblioteca.catalogservice.entity.Author;
 import com.biblioteca.catalogservice.entity.Book;
 import com.biblioteca.catalogservice.entity.BookAuthor;
+import com.biblioteca.catalogservice.replication.CatalogOutbox;
 import com.biblioteca.catalogservice.repository.AuthorRepository;
+import com.biblioteca.catalogservice.repository.ReferenceEntityRepository;
+import com.biblioteca.catalogservice.search.CatalogTypeaheadIndex;
 import com.biblioteca.catalogservice.service.AuthorService;
 import com.biblioteca.catalogservice.service.BookService;
+import com.biblioteca.catalogservice.util.enums.CatalogAggregateType;
 import com.biblioteca.catalogservice.util.exception.CustomException;
 import com.biblioteca.catalogservice.util.mapper.AuthorMapper;
 import com.biblioteca.catalogservice.util.mapper.BookMapper;
@@ -38,7 +44,10 @@ import static org.springframework.http.HttpStatus.*;
 @RequiredArgsConstructor
 public class AuthorServiceImpl implements AuthorService {
     private final AuthorRepository authorRepository;
+    private final ReferenceEntityRepository referenceEntityRepository;
     private final BookService bookService;
+    private final CatalogTypeaheadIndex catalogTypeaheadIndex;
+    private final CatalogOutbox catalogOutbox;
 
     @Override
     @Transactional
@@ -55,10 +64,14 @@ public class AuthorServiceImpl implements AuthorService {
 
         try {
             authorRepository.save(author);
+            catalogOutbox.upsert(CatalogAggregateType.AUTHOR, author.getId());
 
             log.info("Author created successfully ");
 
-            return convertToDTO(author);
+            AuthorDTO authorDTO = convertToDTO(author);
+            catalogTypeaheadIndex.putAuthor(authorDTO);
+
+            return authorDTO;
         }catch (Exception e) {
             log.error("Error occurred while creating author: {}", e.getMessage());
             throw new CustomException("Failed to create author", INTERNAL_SERVER_ERROR.value());
@@ -123,6 +136,14 @@ public class AuthorServiceImpl implements AuthorService {
         return authorPage.map(this::convertToDTO);
     }
 
+    @Override
+    public CursorPageDTO<AuthorDTO> getAllWithCursor(CursorPageRequestDTO cursorPageRequestDTO, HttpServletRequest request, Jwt jwt) {
+        log.info("getAllWithCursor in AuthorServiceImpl is called with data: {} by user: {}", cursorPageRequestDTO, jwt.getSubject());
+
+        return PaginationUtil.getCursorPage(authorRepository, cursorPageRequestDTO, Author::getId,
+                authors -> authors.stream().map(this::convertToDTO).toList());
+    }
+
     @Override
     @Transactional
     public AuthorDTO updateAuthor(AuthorUpdateDTO updateDTO, HttpServletRequest request, Jwt jwt) {
@@ -143,10 +164,14 @@ public class AuthorServiceImpl implements AuthorService {
 
         try{
             authorRepository.save(author);
+            catalogOutbox.upsertWithBooks(CatalogAggregateType.AUTHOR, author.getId());
 
             log.info("Author updated successfully ");
 
-            return convertToDTO(author);
+            AuthorDTO authorDTO = convertToDTO(author);
+            catalogTypeaheadIndex.putAuthor(authorDTO);
+
+            return authorDTO;
         }catch (Exception e) {
             log.error("Error occurred while updating author: {}", e.getMessage());
             throw new CustomException("Failed to update author", INTERNAL_SERVER_ERROR.value());
@@ -154,13 +179,16 @@ public class AuthorServiceImpl implements AuthorService {
     }
 
     @Override
+    @Transactional
     public String deleteAuthor(Integer id, HttpServletRequest request, Jwt jwt) {
         log.info("deleteAuthor in AuthorServiceImpl is called with id: {} by user: {}", id, jwt.getSubject());
 
         Author author = findById(id);
 
         try {
+            catalogOutbox.deleteWithBooks(CatalogAggregateType.AUTHOR, id);
             authorRepository.delete(author);
+            catalogTypeaheadIndex.removeAuthor(id);
             log.info("Author deleted successfully ");
             return "Author deleted successfully";
         } catch (Exception e) {
@@ -173,6 +201,11 @@ public class AuthorServiceImpl implements AuthorService {
     public List<AuthorDTO> searchAuthor(String authorName, HttpServletRequest request, Jwt jwt) {
         log.info("searchAuthor in AuthorServiceImpl is called with data: {} by user: {}", authorName, jwt.getSubject());
 
+        Optional<List<AuthorDTO>> indexedAuthors = catalogTypeaheadIndex.searchAuthors(authorName);
+        if (indexedAuthors.isPresent()) {
+            return indexedAuthors.get();
+        }
+
         List<Author>  authors = authorRepository.findByNameContainingIgnoreCase(authorName);
         List<AuthorDTO> authorDTOS = authors.stream().map(this::convertToDTO).toList();
 
@@ -187,7 +220,7 @@ public class AuthorServiceImpl implements AuthorService {
             throw new CustomException("Author ID list cannot be empty", HttpStatus.BAD_REQUEST.value());
         }
 
-        List<Author> authors = authorRepository.findAllById(ids);
+        List<Author> authors = referenceEntityRepository.findAllById(Author.class, ids);
         if (authors.isEmpty()) {
             throw new CustomException("No authors found for given IDs", HttpStatus.NOT_FOUND.value());
         }
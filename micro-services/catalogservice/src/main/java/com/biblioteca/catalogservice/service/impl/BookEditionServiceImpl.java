@@ -3,16 +3,20 @@ package com.biblioteca.catalogservice.service.impl;
 import com.biblioteca.catalogservice.dto.bookEdition.BookEditionCreateDTO;
 import com.biblioteca.catalogservice.dto.bookEdition.BookEditionDTO;
 import com.biblioteca.catalogservice.dto.bookEdition.BookEditionUpdateDTO;
+import com.biblioteca.catalogservice.dto.pagination.CursorPageDTO;
+import com.biblioteca.catalogservice.dto.pagination.CursorPageRequestDTO;
 import com.biblioteca.catalogservice.dto.pagination.PageRequestDTO;
 import com.biblioteca.catalogservice.dto.pagination.PaginationUtil;
 import com.biblioteca.catalogservice.entity.Book;
 import com.biblioteca.catalogservice.entity.BookEdition;
 import com.biblioteca.catalogservice.entity.Publisher;
+import com.biblioteca.catalogservice.replication.CatalogOutbox;
 import com.biblioteca.catalogservice.repository.BookEditionRepository;
 import com.biblioteca.catalogservice.repository.BookRepository;
 import com.biblioteca.catalogservice.repository.PublisherRepository;
 import com.biblioteca.catalogservice.service.BookEditionService;
 import com.biblioteca.catalogservice.service.BookService;
+import com.biblioteca.catalogservice.util.enums.CatalogAggregateType;
 import com.biblioteca.catalogservice.util.exception.CustomException;
 import com.biblioteca.catalogservice.util.mapper.BookEditionMapper;
 import jakarta.servlet.http.HttpServletRequest;
@@ -37,6 +41,7 @@ public class BookEditionServiceImpl implements BookEditionService {
     private final BookRepository bookRepository;
     private final BookService bookService;
     private final PublisherRepository publisherRepository;
+    private final CatalogOutbox catalogOutbox;
 
     @Override
     @Transactional
@@ -68,6 +73,7 @@ public class BookEditionServiceImpl implements BookEditionService {
 
         try {
             bookEditionRepository.save(bookEdition);
+            catalogOutbox.upsert(CatalogAggregateType.BOOK, book.getId());
             log.info("Book Edition saved in BookEditionServiceImpl");
             return convertToDTO(bookEdition);
         }catch (Exception e) {
@@ -89,6 +95,14 @@ public class BookEditionServiceImpl implements BookEditionService {
         return bookEditionDTOPage;
     }
 
+    @Override
+    public CursorPageDTO<BookEditionDTO> getBookEditionsWithCursor(CursorPageRequestDTO cursorPageRequestDTO, HttpServletRequest request, Jwt jwt) {
+        log.info("getBookEditionsWithCursor in BookEditionServiceImpl is called with data: {} by user: {}", cursorPageRequestDTO, jwt.getSubject());
+
+        return PaginationUtil.getCursorPage(bookEditionRepository, cursorPageRequestDTO, BookEdition::getId,
+                bookEditions -> bookEditions.stream().map(this::convertToDTO).toList());
+    }
+
     @Override
     public List<BookEditionDTO> getAllBookEditions(HttpServletRequest request, Jwt jwt) {
         log.info("getAllBookEditions in BookEditionServiceImpl is called");
@@ -133,12 +147,17 @@ public class BookEditionServiceImpl implements BookEditionService {
             return new CustomException("Publisher Not Found", HttpStatus.NOT_FOUND.value());
         });
 
+        Integer previousBookId = bookEdition.getBook().getId();
         BookEdition updatedEdition = fromUpdateBookEdition(bookEditionUpdateDTO, bookEdition);
         updatedEdition.setBook(book);
         updatedEdition.setPublisher(publisher);
 
         try{
             bookEditionRepository.save(updatedEdition);
+            catalogOutbox.upsert(CatalogAggregateType.BOOK, book.getId());
+            if (!book.getId().equals(previousBookId)) {
+                catalogOutbox.upsert(CatalogAggregateType.BOOK, previousBookId);
+            }
 
             log.info("Publisher updated successfully");
 
@@ -158,6 +177,7 @@ public class BookEditionServiceImpl implements BookEditionService {
 
         try {
             bookEditionRepository.delete(bookEdition);
+            catalogOutbox.upsert(CatalogAggregateType.BOOK, bookEdition.getBook().getId());
             log.info("BookEdition deleted successfully");
             return "BookEdition has been deleted successfully";
 
@@ -0,0 +1,341 @@
+package com.biblioteca.catalogservice.service.impl;
+
+import com.biblioteca.catalogservice.dto.bookImport.BookImportRecordDTO;
+import com.biblioteca.catalogservice.dto.bookImport.ImportJobDTO;
+import com.biblioteca.catalogservice.importer.*;
+import com.biblioteca.catalogservice.repository.AuthorRepository;
+import com.biblioteca.catalogservice.repository.GenreRepository;
+import com.biblioteca.catalogservice.repository.ImportJobRepository;
+import com.biblioteca.catalogservice.repository.PublisherRepository;
+import com.biblioteca.catalogservice.repository.SeriesRepository;
+import com.biblioteca.catalogservice.search.CatalogTypeaheadIndex;
+import com.biblioteca.catalogservice.service.BookImportService;
+import com.biblioteca.catalogservice.util.cache.GenreTreeCache;
+import com.biblioteca.catalogservice.util.enums.ImportFormat;
+import com.biblioteca.catalogservice.util.enums.ImportStatus;
+import com.biblioteca.catalogservice.util.exception.CustomException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.http.HttpStatus;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.stereotype.Service;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+@Service
+@Slf4j
+public class BookImportServiceImpl implements BookImportService {
+    private static final int MAX_REPORTED_ERRORS = 100;
+    private static final String INTERRUPTED_MESSAGE = "Import was interrupted: the node running it stopped";
+
+    private final BookImportWriter bookImportWriter;
+    private final ImportJobRepository importJobRepository;
+    private final AuthorRepository authorRepository;
+    private final GenreRepository genreRepository;
+    private final SeriesRepository seriesRepository;
+    private final PublisherRepository publisherRepository;
+    private final CatalogTypeaheadIndex catalogTypeaheadIndex;
+    private final GenreTreeCache genreTreeCache;
+    private final ObjectMapper objectMapper;
+    private final TaskExecutor catalogImportExecutor;
+    private final int chunkSize;
+    private final int maxRetainedJobs;
+    private final Duration staleAfter;
+
+    /* Jobs queued or running on this node; their heartbeat keeps other nodes from failing them. */
+    private final Set<String> activeJobIds = ConcurrentHashMap.newKeySet();
+
+    public BookImportServiceImpl(BookImportWriter bookImportWriter,
+                                 ImportJobRepository importJobRepository,
+                                 AuthorRepository authorRepository,
+                                 GenreRepository genreRepository,
+                                 SeriesRepository seriesRepository,
+                                 PublisherRepository publisherRepository,
+                                 CatalogTypeaheadIndex catalogTypeaheadIndex,
+                                 GenreTreeCache genreTreeCache,
+                                 ObjectMapper objectMapper,
+                                 @Qualifier("catalogImportExecutor") TaskExecutor catalogImportExecutor,
+                                 @Value("${catalog.import.chunk-size:500}") int chunkSize,
+                                 @Value("${catalog.import.max-retained-jobs:50}") int maxRetainedJobs,
+                                 @Value("${catalog.import.stale-after:PT5M}") Duration staleAfter) {
+        this.bookImportWriter = bookImportWriter;
+        this.importJobRepository = importJobRepository;
+        this.authorRepository = authorRepository;
+        this.genreRepository = genreRepository;
+        this.seriesRepository = seriesRepository;
+        this.publisherRepository = publisherRepository;
+        this.catalogTypeaheadIndex = catalogTypeaheadIndex;
+        this.genreTreeCache = genreTreeCache;
+        this.objectMapper = objectMapper;
+        this.catalogImportExecutor = catalogImportExecutor;
+        this.chunkSize = chunkSize;
+        this.maxRetainedJobs = maxRetainedJobs;
+        this.staleAfter = staleAfter;
+    }
+
+    @Override
+    public ImportJobDTO startImport(MultipartFile file, ImportFormat format, HttpServletRequest request, Jwt jwt) {
+        log.info("startImport in BookImportServiceImpl is called with file: {}, format: {} by user: {}", file.getOriginalFilename(), format, jwt.getSubject());
+
+        if (file.isEmpty()) {
+            throw new CustomException("Import file is empty", HttpStatus.BAD_REQUEST.value());
+        }
+
+        Path path;
+        try {
+            path = Files.createTempFile("catalog-import-", "." + format.name().toLowerCase());
+            file.transferTo(path);
+        } catch (IOException e) {
+            log.error("Error occurred while storing import file: {}", e.getMessage());
+            throw new CustomException("Import file could not be stored", HttpStatus.INTERNAL_SERVER_ERROR.value());
+        }
+
+        ImportJob job = new ImportJob(UUID.randomUUID().toString(), file.getOriginalFilename(), format, jwt.getSubject());
+        activeJobIds.add(job.id);
+        try {
+            save(job);
+        } catch (RuntimeException e) {
+            activeJobIds.remove(job.id);
+            deleteQuietly(path);
+            log.error("Error occurred while saving import job {}: {}", job.id, e.getMessage());
+            throw new CustomException("Import job could not be created", HttpStatus.INTERNAL_SERVER_ERROR.value());
+        }
+
+        try {
+            catalogImportExecutor.execute(() -> run(job, path));
+        } catch (TaskRejectedException e) {
+            deleteQuietly(path);
+            job.fail("Import queue is full");
+            finish(job);
+            log.warn("Import job {} rejected, queue is full", job.id);
+            throw new CustomException("Too many imports are queued, try again later", HttpStatus.SERVICE_UNAVAILABLE.value());
+        }
+
+        log.info("Import job {} has been queued", job.id);
+
+        return job.toDTO();
+    }
+
+    @Override
+    public ImportJobDTO getImportJob(String jobId, HttpServletRequest request, Jwt jwt) {
+        log.info("getImportJob in BookImportServiceImpl is called with id: {} by user: {}", jobId, jwt.getSubject());
+
+        return importJobRepository.findById(jobId)
+                .orElseThrow(() -> {
+                    log.error("Import job with id {} not found", jobId);
+                    return new CustomException("Import job with id " + jobId + " not found", HttpStatus.NOT_FOUND.value());
+                });
+    }
+
+    @Override
+    public List<ImportJobDTO> getImportJobs(HttpServletRequest request, Jwt jwt) {
+        log.info("getImportJobs in BookImportServiceImpl is called by user: {}", jwt.getSubject());
+
+        return importJobRepository.findRecent(maxRetainedJobs);
+    }
+
+    /*
+     * Refreshes the heartbeat of the jobs held by this node and fails jobs whose node has
+     * stopped heart-beating, e.g. after a restart lost the queued work and the uploaded file.
+     */
+    @Scheduled(fixedDelayString = "${catalog.import.heartbeat-interval:PT30S}")
+    public void heartbeat() {
+        try {
+            importJobRepository.heartbeat(Set.copyOf(activeJobIds));
+
+            int interrupted = importJobRepository.failStale(staleAfter, INTERRUPTED_MESSAGE);
+            if (interrupted > 0) {
+                log.warn("Marked {} import jobs as failed after their node stopped reporting", interrupted);
+            }
+        } catch (RuntimeException e) {
+            log.error("Error occurred while updating import job heartbeats: {}", e.getMessage());
+        }
+    }
+
+    private void run(ImportJob job, Path path) {
+        job.start();
+        log.info("Import job {} started for file: {}, format: {}", job.id, job.fileName, job.format);
+
+        ImportNameCache names = null;
+        try (Reader fileReader = Files.newBufferedReader(path, StandardCharsets.UTF_8);
+             BookRecordReader reader = openReader(job.format, fileReader)) {
+            save(job);
+            names = new ImportNameCache(
+                    authorRepository.findAllIdAndName(),
+                    genreRepository.findAllIdAndName(),
+                    seriesRepository.findAllIdAndName(),
+                    publisherRepository.findAllIdAndName());
+
+            List<ImportLine> chunk = new ArrayList<>(chunkSize);
+            while (true) {
+                BookImportRecordDTO record;
+                try {
+                    record = reader.next();
+                } catch (IllegalArgumentException e) {
+                    job.recordFailed(reader.getPosition(), e.getMessage());
+                    continue;
+                }
+                if (record == null) {
+                    break;
+                }
+
+                chunk.add(new ImportLine(reader.getPosition(), record));
+                if (chunk.size() >= chunkSize) {
+                    job.add(bookImportWriter.write(chunk, names));
+                    save(job);
+                    chunk = new ArrayList<>(chunkSize);
+                    log.debug("Import job {} progress: {} processed, {} rows/sec", job.id, job.processed(), job.rowsPerSecond());
+                }
+            }
+            if (!chunk.isEmpty()) {
+                job.add(bookImportWriter.write(chunk, names));
+            }
+
+            job.complete();
+            log.info("Import job {} completed: {} imported, {} skipped, {} failed, {} rows/sec",
+                    job.id, job.imported, job.skipped, job.failed, job.rowsPerSecond());
+        } catch (IOException | RuntimeException e) {
+            job.fail(e.getMessage());
+            log.error("Import job {} failed: {}", job.id, e.getMessage());
+        } finally {
+            finish(job);
+            deleteQuietly(path);
+            if (names != null && names.getCreatedCount() > 0) {
+                catalogTypeaheadIndex.rebuildAll();
+                if (names.hasCreatedGenres()) {
+                    genreTreeCache.invalidate();
+                }
+            }
+        }
+    }
+
+    private BookRecordReader openReader(ImportFormat format, Reader reader) throws IOException {
+        return switch (format) {
+            case CSV -> new CsvBookRecordReader(reader);
+            case GOODREADS -> new GoodreadsBookRecordReader(reader);
+            case JSON -> new JsonBookRecordReader(objectMapper, reader);
+        };
+    }
+
+    private void save(ImportJob job) {
+        importJobRepository.save(job.toDTO());
+    }
+
+    /* Persists the final state; the oldest finished jobs are dropped once the limit is reached. */
+    private void finish(ImportJob job) {
+        activeJobIds.remove(job.id);
+        try {
+            save(job);
+            importJobRepository.deleteOldFinished(maxRetainedJobs);
+        } catch (RuntimeException e) {
+            log.error("Error occurred while saving import job {}: {}", job.id, e.getMessage());
+        }
+    }
+
+    private void deleteQuietly(Path path) {
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException e) {
+            log.warn("Could not delete import file {}: {}", path, e.getMessage());
+        }
+    }
+
+    private static class ImportJob {
+        private final String id;
+        private final String fileName;
+        private final ImportFormat format;
+        private final String startedBy;
+        private final LocalDateTime createdAt = LocalDateTime.now();
+        private final List<String> errors = new ArrayList<>();
+
+        private ImportStatus status = ImportStatus.QUEUED;
+        private long imported = 0;
+        private long skipped = 0;
+        private long failed = 0;
+        private LocalDateTime startedAt;
+        private LocalDateTime finishedAt;
+
+        private ImportJob(String id, String fileName, ImportFormat format, String startedBy) {
+            this.id = id;
+            this.fileName = fileName;
+            this.format = format;
+            this.startedBy = startedBy;
+        }
+
+        private synchronized void start() {
+            status = ImportStatus.RUNNING;
+            startedAt = LocalDateTime.now();
+        }
+
+        private synchronized void add(ImportChunkResult result) {
+            imported += result.getImported();
+            skipped += result.getSkipped();
+            failed += result.getFailed();
+            result.getErrors().forEach(this::addError);
+        }
+
+        private synchronized void recordFailed(long position, String message) {
+            failed++;
+            addError("Record " + position + ": " + message);
+        }
+
+        private synchronized void complete() {
+            status = ImportStatus.COMPLETED;
+            finishedAt = LocalDateTime.now();
+        }
+
+        private synchronized void fail(String message) {
+            status = ImportStatus.FAILED;
+            finishedAt = LocalDateTime.now();
+            addError(message != null ? message : "Import failed");
+        }
+
+        private synchronized long processed() {
+            return imported + skipped + failed;
+        }
+
+        private synchronized double rowsPerSecond() {
+            return ImportJobRepository.rowsPerSecond(processed(), startedAt, finishedAt);
+        }
+
+        private synchronized ImportJobDTO toDTO() {
+            return ImportJobDTO.builder()
+                    .jobId(id)
+                    .fileName(fileName)
+                    .format(format)
+                    .status(status)
+                    .processed(processed())
+                    .imported(imported)
+                    .skipped(skipped)
+                    .failed(failed)
+                    .rowsPerSecond(rowsPerSecond())
+                    .errors(List.copyOf(errors))
+                    .startedBy(startedBy)
+                    .createdAt(createdAt)
+                    .startedAt(startedAt)
+                    .finishedAt(finishedAt)
+                    .build();
+        }
+
+        private void addError(String message) {
+            if (errors.size() < MAX_REPORTED_ERRORS) {
+                errors.add(message);
+            }
+        }
+    }
+}
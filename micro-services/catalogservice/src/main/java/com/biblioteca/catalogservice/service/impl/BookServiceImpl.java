@@ -9,17 +9,26 @@ import com.biblioteca.catalogservice.dto.bookGenre.BookGenreCreateDTO;
 import com.biblioteca.catalogservice.dto.bookGenre.BookGenreUpdateDTO;
 import com.biblioteca.catalogservice.dto.bookSeries.BookSeriesCreateDTO;
 import com.biblioteca.catalogservice.dto.bookSeries.BookSeriesUpdateDTO;
+import com.biblioteca.catalogservice.dto.pagination.CursorPageDTO;
+import com.biblioteca.catalogservice.dto.pagination.CursorPageRequestDTO;
 import com.biblioteca.catalogservice.dto.pagination.PageRequestDTO;
 import com.biblioteca.catalogservice.dto.pagination.PaginationUtil;
 import com.biblioteca.catalogservice.dto.seriesAuthor.SeriesAuthorCreateDTO;
 import com.biblioteca.catalogservice.dto.seriesAuthor.SeriesAuthorUpdateDTO;
 import com.biblioteca.catalogservice.dto.seriesGenre.SeriesGenreUpdateDTO;
 import com.biblioteca.catalogservice.entity.*;
+import com.biblioteca.catalogservice.replication.CatalogOutbox;
 import com.biblioteca.catalogservice.repository.AuthorRepository;
+import com.biblioteca.catalogservice.repository.BookAuthorRepository;
+import com.biblioteca.catalogservice.repository.BookGenreRepository;
 import com.biblioteca.catalogservice.repository.BookRepository;
+import com.biblioteca.catalogservice.repository.BookSeriesRepository;
 import com.biblioteca.catalogservice.repository.GenreRepository;
+import com.biblioteca.catalogservice.repository.ReferenceEntityRepository;
 import com.biblioteca.catalogservice.repository.SeriesRepository;
 import com.biblioteca.catalogservice.service.BookService;
+import com.biblioteca.catalogservice.util.cache.GenreTreeCache;
+import com.biblioteca.catalogservice.util.enums.CatalogAggregateType;
 import com.biblioteca.catalogservice.util.exception.CustomException;
 import com.biblioteca.catalogservice.util.mapper.BookAuthorMapper;
 import com.biblioteca.catalogservice.util.mapper.BookMapper;
@@ -42,10 +51,18 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 @Slf4j
 public class BookServiceImpl implements BookService {
+    private static final int RELATION_FETCH_CHUNK_SIZE = 1000;
+
     private final BookRepository bookRepository;
     private final AuthorRepository authorRepository;
     private final GenreRepository genreRepository;
     private final SeriesRepository seriesRepository;
+    private final BookAuthorRepository bookAuthorRepository;
+    private final BookGenreRepository bookGenreRepository;
+    private final BookSeriesRepository bookSeriesRepository;
+    private final ReferenceEntityRepository referenceEntityRepository;
+    private final GenreTreeCache genreTreeCache;
+    private final CatalogOutbox catalogOutbox;
 
     @Override
     @Transactional
@@ -64,7 +81,7 @@ public class BookServiceImpl implements BookService {
         if(bookCreateDTO.getBookAuthorCreateDTOs() != null && !bookCreateDTO.getBookAuthorCreateDTOs().isEmpty()){
             List<Integer> bookAuthorIds = bookCreateDTO.getBookAuthorCreateDTOs().stream().map(BookAuthorCreateDTO::getAuthorId).toList();
 
-            List<Author> authors = authorRepository.findAllById(bookAuthorIds);
+            List<Author> authors = referenceEntityRepository.findAllById(Author.class, bookAuthorIds);
 
             for(BookAuthorCreateDTO bookAuthorCreateDTO : bookCreateDTO.getBookAuthorCreateDTOs()){
                 Author author = authors.stream()
@@ -82,7 +99,7 @@ public class BookServiceImpl implements BookService {
         if(bookCreateDTO.getBookGenreCreateDTOs() != null && !bookCreateDTO.getBookGenreCreateDTOs().isEmpty()){
             List<Integer> bookGenreIds = bookCreateDTO.getBookGenreCreateDTOs().stream().map(BookGenreCreateDTO::getGenreId).toList();
 
-            List<Genre> genres = genreRepository.findAllById(bookGenreIds);
+            List<Genre> genres = referenceEntityRepository.findAllById(Genre.class, bookGenreIds);
 
             for(BookGenreCreateDTO bookGenreCreateDTO : bookCreateDTO.getBookGenreCreateDTOs()){
                 Genre genre = genres.stream()
@@ -100,7 +117,7 @@ public class BookServiceImpl implements BookService {
         if(bookCreateDTO.getBookSeriesCreateDTOs() != null && !bookCreateDTO.getBookSeriesCreateDTOs().isEmpty()){
             List<Integer> bookSeriesIds = bookCreateDTO.getBookSeriesCreateDTOs().stream().map(BookSeriesCreateDTO::getSeriesId).toList();
 
-            List<Series> series = seriesRepository.findAllById(bookSeriesIds);
+            List<Series> series = referenceEntityRepository.findAllById(Series.class, bookSeriesIds);
 
             for(BookSeriesCreateDTO bookSeriesCreateDTO : bookCreateDTO.getBookSeriesCreateDTOs()){
                 Series s = series.stream()
@@ -117,6 +134,7 @@ public class BookServiceImpl implements BookService {
 
         try{
             bookRepository.save(book);
+            catalogOutbox.upsert(CatalogAggregateType.BOOK, book.getId());
 
             log.info("Book has been created");
 
@@ -134,7 +152,7 @@ public class BookServiceImpl implements BookService {
 
         List<Book> books = bookRepository.findAll();
 
-        List<BookDTO> bookDTOS = books.stream().map(this::convertToDTO).toList();
+        List<BookDTO> bookDTOS = convertToDTOs(books);
 
         return bookDTOS;
     }
@@ -147,11 +165,18 @@ public class BookServiceImpl implements BookService {
         Pageable pageable = PaginationUtil.getPageableSorted(pageRequestDTO.getPage(),  pageRequestDTO.getSize(), sort);
 
         Page<Book> books = bookRepository.findAll(pageable);
-        Page<BookDTO> bookDTOPage = books.map(this::convertToDTO);
+        Page<BookDTO> bookDTOPage = PaginationUtil.getPage(convertToDTOs(books.getContent()), pageable, books.getTotalElements());
 
         return bookDTOPage;
     }
 
+    @Override
+    public CursorPageDTO<BookDTO> getAllBooksWithCursor(CursorPageRequestDTO cursorPageRequestDTO, HttpServletRequest request, Jwt jwt) {
+        log.info("getAllBooksWithCursor in BookServiceImpl is called with data: {} by user: {}", cursorPageRequestDTO, jwt.getSubject());
+
+        return PaginationUtil.getCursorPage(bookRepository, cursorPageRequestDTO, Book::getId, this::convertToDTOs);
+    }
+
     @Override
     public BookDTO getBookById(Integer id, HttpServletRequest request, Jwt jwt) {
         log.info("getBookById in BookServiceImpl with id: {}", id);
@@ -187,6 +212,7 @@ public class BookServiceImpl implements BookService {
 
         try{
             bookRepository.save(updatedBook);
+            catalogOutbox.upsert(CatalogAggregateType.BOOK, updatedBook.getId());
             log.info("Book has been updated");
             return convertToDTO(updatedBook);
 
@@ -197,6 +223,7 @@ public class BookServiceImpl implements BookService {
     }
 
     @Override
+    @Transactional
     public String deleteBook(Integer id, HttpServletRequest request, Jwt jwt) {
         log.info("deleteBook in BookController is called with id: {} by user: {}", id, jwt.getSubject());
 
@@ -208,6 +235,7 @@ public class BookServiceImpl implements BookService {
 
         try {
             bookRepository.delete(book);
+            catalogOutbox.delete(CatalogAggregateType.BOOK, id);
 
             log.info("Successfully deleted book with id: {} and its {} BookAuthor, {} BookSeries and {} BookGenre relationships", id, authorCount, seriesCount, genreCount);
 
@@ -230,7 +258,7 @@ public class BookServiceImpl implements BookService {
         });
 
         List<Book> books = bookRepository.findByBookSeries(seriesId);
-        List<BookDTO> bookDTOList = books.stream().map(this::convertToDTO).toList();
+        List<BookDTO> bookDTOList = convertToDTOs(books);
 
         return bookDTOList;
     }
@@ -245,22 +273,28 @@ public class BookServiceImpl implements BookService {
         });
 
         List<Book> books = bookRepository.findByBookAuthors(authorId);
-        List<BookDTO> bookDTOList = books.stream().map(this::convertToDTO).toList();
+        List<BookDTO> bookDTOList = convertToDTOs(books);
 
         return bookDTOList;
     }
 
     @Override
-    public List<BookDTO> getBookByGenreId(Integer genreId, HttpServletRequest request, Jwt jwt) {
-        log.info("getBookByGenreId in BookServiceImpl is called with genreId: {} by user: {}", genreId, jwt.getSubject());
+    public List<BookDTO> getBookByGenreId(Integer genreId, boolean includeDescendants, HttpServletRequest request, Jwt jwt) {
+        log.info("getBookByGenreId in BookServiceImpl is called with genreId: {}, includeDescendants: {} by user: {}", genreId, includeDescendants, jwt.getSubject());
 
         genreRepository.findById(genreId).orElseThrow(() -> {
             log.error("Genre with id {} not found", genreId);
             return new CustomException("Genre with id " + genreId + " not found", HttpStatus.NOT_FOUND.value());
         });
 
-        List<Book> books = bookRepository.findByBookGenres(genreId);
-        List<BookDTO> bookDTOList = books.stream().map(this::convertToDTO).toList();
+        List<Book> books;
+        if (includeDescendants) {
+            List<Integer> genreIds = genreTreeCache.getTree().subtreeIds(genreId);
+            books = bookRepository.findByBookGenreIds(genreIds.isEmpty() ? List.of(genreId) : genreIds);
+        } else {
+            books = bookRepository.findByBookGenres(genreId);
+        }
+        List<BookDTO> bookDTOList = convertToDTOs(books);
 
         return bookDTOList;
     }
@@ -270,7 +304,7 @@ public class BookServiceImpl implements BookService {
         log.info("searchBook in BookServiceImpl is called with title: {} by user: {}", title, jwt.getSubject());
 
         List<Book> books = bookRepository.findByTitleContaining(title);
-        List<BookDTO> bookDTOList = books.stream().map(this::convertToDTO).toList();
+        List<BookDTO> bookDTOList = convertToDTOs(books);
 
         return bookDTOList;
     }
@@ -298,7 +332,7 @@ public class BookServiceImpl implements BookService {
                 .distinct()
                 .toList();
 
-        List<Author> existingAuthors = authorRepository.findAllById(incomingAuthorIds);
+        List<Author> existingAuthors = referenceEntityRepository.findAllById(Author.class, incomingAuthorIds);
 
         if (existingAuthors.size() != incomingAuthorIds.size()) {
             List<Integer> foundIds = existingAuthors.stream().map(Author::getId).toList();
@@ -370,7 +404,7 @@ public class BookServiceImpl implements BookService {
                 .distinct()
                 .toList();
 
-        List<Genre> existingGenres = genreRepository.findAllById(incomingGenreIds);
+        List<Genre> existingGenres = referenceEntityRepository.findAllById(Genre.class, incomingGenreIds);
 
         if (existingGenres.size() != incomingGenreIds.size()) {
             List<Integer> foundIds = existingGenres.stream().map(Genre::getId).toList();
@@ -437,7 +471,7 @@ public class BookServiceImpl implements BookService {
                 .distinct()
                 .toList();
 
-        List<Series> existingSeries = seriesRepository.findAllById(incomingSeriesIds);
+        List<Series> existingSeries = referenceEntityRepository.findAllById(Series.class, incomingSeriesIds);
 
         if (existingSeries.size() != incomingSeriesIds.size()) {
             List<Integer> foundIds = existingSeries.stream().map(Series::getId).toList();
@@ -497,10 +531,6 @@ public class BookServiceImpl implements BookService {
         return BookMapper.fromCreateDTO(bookCreateDTO);
     }
 
-    private BookDTO convertToDTO(Book book) {
-        return BookMapper.toDTO(book);
-    }
-
     private Book fromUpdateDTO(BookUpdateDTO bookUpdateDTO, Book book) {
         return BookMapper.fromUpdateDTO(bookUpdateDTO, book);
     }
@@ -512,4 +542,47 @@ public class BookServiceImpl implements BookService {
     private BookSeries fromBookSeriesCreateDTO(BookSeriesCreateDTO bookSeriesCreateDTO) {
         return BookSeriesMapper.fromCreateDTO(bookSeriesCreateDTO);
     }
+
+    private BookDTO convertToDTO(Book book) {
+        return BookMapper.toDTO(book);
+    }
+
+    /**
+     * Maps a list of books to DTOs with a fixed number of queries per chunk of books.
+     * The author, genre and series relations are loaded in one batched query each
+     * instead of walking the lazy collections book by book.
+     */
+    private List<BookDTO> convertToDTOs(List<Book> books) {
+        List<BookDTO> bookDTOS = new ArrayList<>(books.size());
+
+        for (int from = 0; from < books.size(); from += RELATION_FETCH_CHUNK_SIZE) {
+            List<Book> chunk = books.subList(from, Math.min(from + RELATION_FETCH_CHUNK_SIZE, books.size()));
+            bookDTOS.addAll(convertChunkToDTOs(chunk));
+        }
+
+        return bookDTOS;
+    }
+
+    private List<BookDTO> convertChunkToDTOs(List<Book> books) {
+        Set<Integer> bookIds = books.stream().map(Book::getId).collect(Collectors.toSet());
+
+        Map<Integer, List<BookAuthor>> bookAuthorMap = bookAuthorRepository.findWithAuthorByBookIds(bookIds)
+                .stream()
+                .collect(Collectors.groupingBy(ba -> ba.getBook().getId()));
+
+        Map<Integer, List<BookGenre>> bookGenreMap = bookGenreRepository.findWithGenreByBookIds(bookIds)
+                .stream()
+                .collect(Collectors.groupingBy(bg -> bg.getBook().getId()));
+
+        Map<Integer, List<BookSeries>> bookSeriesMap = bookSeriesRepository.findWithSeriesByBookIds(bookIds)
+                .stream()
+                .collect(Collectors.groupingBy(bs -> bs.getBook().getId()));
+
+        return books.stream()
+                .map(book -> BookMapper.toDTO(book,
+                        bookAuthorMap.getOrDefault(book.getId(), List.of()),
+                        bookGenreMap.getOrDefault(book.getId(), List.of()),
+                        bookSeriesMap.getOrDefault(book.getId(), List.of())))
+                .toList();
+    }
 }
@@ -0,0 +1,142 @@
+package com.biblioteca.catalogservice.service.impl;
+
+import com.biblioteca.catalogservice.repository.ExportRepository;
+import com.biblioteca.catalogservice.service.ExportService;
+import com.biblioteca.catalogservice.util.async.AsyncRequestTimeout;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.sql.*;
+import java.time.Duration;
+import java.util.function.Consumer;
+
+@Service
+@Slf4j
+public class ExportServiceImpl implements ExportService {
+    private static final int FLUSH_INTERVAL = 500;
+
+    private final ExportRepository exportRepository;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate readTransaction;
+    private final Duration requestTimeout;
+
+    public ExportServiceImpl(ExportRepository exportRepository,
+                             ObjectMapper objectMapper,
+                             PlatformTransactionManager transactionManager,
+                             @Value("${catalog.export.request-timeout:10m}") Duration requestTimeout) {
+        this.exportRepository = exportRepository;
+        this.objectMapper = objectMapper;
+        this.requestTimeout = requestTimeout;
+        this.readTransaction = new TransactionTemplate(transactionManager);
+        this.readTransaction.setReadOnly(true);
+    }
+
+    @Override
+    public StreamingResponseBody exportBooks(HttpServletRequest request, Jwt jwt) {
+        log.info("exportBooks in ExportServiceImpl is called by user: {}", jwt.getSubject());
+        AsyncRequestTimeout.set(request, requestTimeout);
+
+        return outputStream -> export("books", outputStream, exportRepository::streamBooks);
+    }
+
+    @Override
+    public StreamingResponseBody exportAuthors(HttpServletRequest request, Jwt jwt) {
+        log.info("exportAuthors in ExportServiceImpl is called by user: {}", jwt.getSubject());
+        AsyncRequestTimeout.set(request, requestTimeout);
+
+        return outputStream -> export("authors", outputStream, exportRepository::streamAuthors);
+    }
+
+    @Override
+    public StreamingResponseBody exportSeries(HttpServletRequest request, Jwt jwt) {
+        log.info("exportSeries in ExportServiceImpl is called by user: {}", jwt.getSubject());
+        AsyncRequestTimeout.set(request, requestTimeout);
+
+        return outputStream -> export("series", outputStream, exportRepository::streamSeries);
+    }
+
+    @Override
+    public StreamingResponseBody exportBookEditions(HttpServletRequest request, Jwt jwt) {
+        log.info("exportBookEditions in ExportServiceImpl is called by user: {}", jwt.getSubject());
+        AsyncRequestTimeout.set(request, requestTimeout);
+
+        return outputStream -> export("book editions", outputStream, exportRepository::streamBookEditions);
+    }
+
+    private void export(String name, OutputStream outputStream, Consumer<RowCallbackHandler> streamer) throws IOException {
+        long startTime = System.currentTimeMillis();
+
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(outputStream)) {
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            generator.setRootValueSeparator(null);
+
+            long[] rowCount = {0};
+            readTransaction.executeWithoutResult(status -> streamer.accept(resultSet -> {
+                writeRow(generator, resultSet);
+                if (++rowCount[0] % FLUSH_INTERVAL == 0) {
+                    flush(generator);
+                }
+            }));
+
+            generator.flush();
+            log.info("Exported {} {} rows in {} ms", rowCount[0], name, System.currentTimeMillis() - startTime);
+        } catch (UncheckedIOException e) {
+            log.warn("Export of {} aborted while writing the response: {}", name, e.getMessage());
+            throw e.getCause();
+        }
+    }
+
+    private void writeRow(JsonGenerator generator, ResultSet resultSet) throws SQLException {
+        try {
+            ResultSetMetaData metaData = resultSet.getMetaData();
+
+            generator.writeStartObject();
+            for (int column = 1; column <= metaData.getColumnCount(); column++) {
+                generator.writeFieldName(metaData.getColumnLabel(column));
+                writeValue(generator, resultSet.getObject(column));
+            }
+            generator.writeEndObject();
+            generator.writeRaw('\n');
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void writeValue(JsonGenerator generator, Object value) throws IOException, SQLException {
+        if (value == null) {
+            generator.writeNull();
+        } else if (value instanceof Array array) {
+            generator.writeStartArray();
+            for (Object element : (Object[]) array.getArray()) {
+                writeValue(generator, element);
+            }
+            generator.writeEndArray();
+        } else if (value instanceof Timestamp timestamp) {
+            generator.writeString(timestamp.toLocalDateTime().toString());
+        } else if (value instanceof Date date) {
+            generator.writeString(date.toLocalDate().toString());
+        } else {
+            generator.writeObject(value);
+        }
+    }
+
+    private void flush(JsonGenerator generator) {
+        try {
+            generator.flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -2,13 +2,23 @@ package com.biblioteca.catalogservice.service.impl;
 
 import com.biblioteca.catalogservice.dto.genre.GenreCreateDTO;
 import com.biblioteca.catalogservice.dto.genre.GenreDTO;
+import com.biblioteca.catalogservice.dto.genre.GenreTreeDTO;
 import com.biblioteca.catalogservice.dto.genre.GenreUpdateDTO;
+import com.biblioteca.catalogservice.dto.pagination.CursorPageDTO;
+import com.biblioteca.catalogservice.dto.pagination.CursorPageRequestDTO;
 import com.biblioteca.catalogservice.dto.pagination.PageRequestDTO;
 import com.biblioteca.catalogservice.dto.pagination.PaginationUtil;
 import com.biblioteca.catalogservice.entity.Author;
 import com.biblioteca.catalogservice.entity.Genre;
+import com.biblioteca.catalogservice.replication.CatalogOutbox;
+import com.biblioteca.catalogservice.repository.GenreHierarchyRepository;
 import com.biblioteca.catalogservice.repository.GenreRepository;
+import com.biblioteca.catalogservice.repository.ReferenceEntityRepository;
+import com.biblioteca.catalogservice.search.CatalogTypeaheadIndex;
 import com.biblioteca.catalogservice.service.GenreService;
+import com.biblioteca.catalogservice.util.cache.GenreTree;
+import com.biblioteca.catalogservice.util.cache.GenreTreeCache;
+import com.biblioteca.catalogservice.util.enums.CatalogAggregateType;
 import com.biblioteca.catalogservice.util.exception.CustomException;
 import com.biblioteca.catalogservice.util.mapper.GenreMapper;
 import jakarta.servlet.http.HttpServletRequest;
@@ -23,7 +33,10 @@ import org.springframework.security.oauth2.jwt.Jwt;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 import static org.springframework.http.HttpStatus.*;
 
@@ -32,6 +45,11 @@ import static org.springframework.http.HttpStatus.*;
 @RequiredArgsConstructor
 public class GenreServiceImpl implements GenreService {
     private final GenreRepository genreRepository;
+    private final GenreHierarchyRepository genreHierarchyRepository;
+    private final ReferenceEntityRepository referenceEntityRepository;
+    private final CatalogTypeaheadIndex catalogTypeaheadIndex;
+    private final GenreTreeCache genreTreeCache;
+    private final CatalogOutbox catalogOutbox;
 
     @Override
     @Transactional
@@ -59,8 +77,14 @@ public class GenreServiceImpl implements GenreService {
 
         try {
             genreRepository.save(genre);
+            catalogOutbox.upsert(CatalogAggregateType.GENRE, genre.getId());
             log.info("Genre created successfully");
-            return convertToDTO(genre);
+
+            GenreDTO genreDTO = convertToDTO(genre);
+            catalogTypeaheadIndex.putGenre(genreDTO);
+            genreTreeCache.invalidate();
+
+            return genreDTO;
         } catch (Exception e) {
             log.error("Error occurred while creating genre: {}", e.getMessage());
             throw new CustomException("Failed to create genre", INTERNAL_SERVER_ERROR.value());
@@ -113,6 +137,15 @@ public class GenreServiceImpl implements GenreService {
             throw new CustomException("A genre cannot be its own parent", BAD_REQUEST.value());
         }
 
+        if(genreUpdateDTO.getParentGenreId() != null) {
+            genreHierarchyRepository.lockHierarchy();
+        }
+
+        if(genreUpdateDTO.getParentGenreId() != null && genreHierarchyRepository.isAncestorOrSelf(genreUpdateDTO.getId(), genreUpdateDTO.getParentGenreId())) {
+            log.warn("Moving genre {} under genre {} would create a cycle. Update aborted.", genreUpdateDTO.getId(), genreUpdateDTO.getParentGenreId());
+            throw new CustomException("A genre cannot be moved under one of its own sub-genres", BAD_REQUEST.value());
+        }
+
         Genre genre = findById(genreUpdateDTO.getId());
 
         Genre updatedGenre = fromUpdateDTO(genreUpdateDTO, genre);
@@ -121,8 +154,14 @@ public class GenreServiceImpl implements GenreService {
 
         try {
             genreRepository.save(updatedGenre);
+            catalogOutbox.upsertWithBooks(CatalogAggregateType.GENRE, updatedGenre.getId());
             log.info("Genre updated successfully");
-            return convertToDTO(updatedGenre);
+
+            GenreDTO genreDTO = convertToDTO(updatedGenre);
+            catalogTypeaheadIndex.putGenre(genreDTO);
+            genreTreeCache.invalidate();
+
+            return genreDTO;
         } catch (Exception e) {
             log.error("Error occurred while updating genre: {}", e.getMessage());
             throw new CustomException("Failed to update genre", INTERNAL_SERVER_ERROR.value());
@@ -130,6 +169,7 @@ public class GenreServiceImpl implements GenreService {
     }
 
     @Override
+    @Transactional
     public String deleteGenre(Integer id, HttpServletRequest request, Jwt jwt) {
         log.info("deleteGenre in GenreServiceImpl is called with id: {} by user: {}", id, jwt.getSubject());
 
@@ -140,7 +180,10 @@ public class GenreServiceImpl implements GenreService {
         }
 
         try {
+            catalogOutbox.deleteWithBooks(CatalogAggregateType.GENRE, id);
             genreRepository.delete(genre);
+            catalogTypeaheadIndex.removeGenre(id);
+            genreTreeCache.invalidate();
             log.info("Genre deleted successfully");
             return "Genre deleted successfully";
         } catch (Exception e) {
@@ -162,10 +205,23 @@ public class GenreServiceImpl implements GenreService {
         return genrePage.map(this::convertToDTO);
     }
 
+    @Override
+    public CursorPageDTO<GenreDTO> getAllGenresWithCursor(CursorPageRequestDTO cursorPageRequestDTO, HttpServletRequest request, Jwt jwt) {
+        log.info("getAllGenresWithCursor in GenreServiceImpl is called with data: {} by user: {}", cursorPageRequestDTO, jwt.getSubject());
+
+        return PaginationUtil.getCursorPage(genreRepository, cursorPageRequestDTO, Genre::getId,
+                genres -> genres.stream().map(this::convertToDTO).toList());
+    }
+
     @Override
     public List<GenreDTO> searchGenre(String genreName, HttpServletRequest request, Jwt jwt) {
         log.info("searchGenre in GenreServiceImpl is called with name: {}", genreName);
 
+        Optional<List<GenreDTO>> indexedGenres = catalogTypeaheadIndex.searchGenres(genreName);
+        if (indexedGenres.isPresent()) {
+            return indexedGenres.get();
+        }
+
         List<Genre> genres = genreRepository.findByNameContainingIgnoreCase(genreName);
 
         List<GenreDTO> dtos = genres.stream().map(this::convertToDTO).toList();
@@ -181,7 +237,7 @@ public class GenreServiceImpl implements GenreService {
             throw new CustomException("Genre ID list cannot be empty", HttpStatus.BAD_REQUEST.value());
         }
 
-        List<Genre> genres = genreRepository.findAllById(ids);
+        List<Genre> genres = referenceEntityRepository.findAllById(Genre.class, ids);
         if (genres.isEmpty()) {
             throw new CustomException("No genres found for given IDs", HttpStatus.NOT_FOUND.value());
         }
@@ -191,6 +247,59 @@ public class GenreServiceImpl implements GenreService {
         return dtos;
     }
 
+    @Override
+    public List<GenreTreeDTO> getGenreTree(HttpServletRequest request, Jwt jwt) {
+        log.info("getGenreTree in GenreServiceImpl is called by user: {}", jwt.getSubject());
+
+        GenreTree tree = genreTreeCache.getTree();
+        Map<Integer, Genre> genresById = genreRepository.findAll().stream()
+                .collect(Collectors.toMap(Genre::getId, Function.identity()));
+
+        return tree.roots().stream()
+                .filter(genresById::containsKey)
+                .map(rootId -> convertToTreeDTO(rootId, tree, genresById))
+                .toList();
+    }
+
+    @Override
+    public GenreTreeDTO getGenreSubtree(Integer id, HttpServletRequest request, Jwt jwt) {
+        log.info("getGenreSubtree in GenreServiceImpl is called with id: {} by user: {}", id, jwt.getSubject());
+
+        Genre genre = findById(id);
+
+        GenreTree tree = genreTreeCache.getTree();
+        Map<Integer, Genre> genresById = referenceEntityRepository.findAllById(Genre.class, tree.subtreeIds(id)).stream()
+                .collect(Collectors.toMap(Genre::getId, Function.identity()));
+        genresById.putIfAbsent(genre.getId(), genre);
+
+        return convertToTreeDTO(id, tree, genresById);
+    }
+
+    @Override
+    public List<GenreDTO> getGenreAncestors(Integer id, HttpServletRequest request, Jwt jwt) {
+        log.info("getGenreAncestors in GenreServiceImpl is called with id: {} by user: {}", id, jwt.getSubject());
+
+        findById(id);
+
+        List<Integer> ancestorIds = genreTreeCache.getTree().ancestorIds(id);
+        Map<Integer, Genre> genresById = referenceEntityRepository.findAllById(Genre.class, ancestorIds).stream()
+                .collect(Collectors.toMap(Genre::getId, Function.identity()));
+
+        return ancestorIds.stream()
+                .filter(genresById::containsKey)
+                .map(ancestorId -> convertToDTO(genresById.get(ancestorId)))
+                .toList();
+    }
+
+    private GenreTreeDTO convertToTreeDTO(Integer id, GenreTree tree, Map<Integer, Genre> genresById) {
+        List<GenreTreeDTO> subGenres = tree.childrenOf(id).stream()
+                .filter(genresById::containsKey)
+                .map(childId -> convertToTreeDTO(childId, tree, genresById))
+                .toList();
+
+        return GenreMapper.toTreeDTO(genresById.get(id), subGenres);
+    }
+
     private Genre findById(Integer id) {
         return genreRepository.findById(id).orElseThrow(() -> {
             log.warn("Genre with id '{}' not found.", id);
@@ -0,0 +1,129 @@
+package com.biblioteca.catalogservice.service.impl;
+
+import com.biblioteca.catalogservice.dto.lookup.LookupItemDTO;
+import com.biblioteca.catalogservice.dto.lookup.LookupRequestDTO;
+import com.biblioteca.catalogservice.dto.lookup.LookupResponseDTO;
+import com.biblioteca.catalogservice.lookup.CatalogLookupLoader;
+import com.biblioteca.catalogservice.service.LookupService;
+import com.biblioteca.catalogservice.util.exception.CustomException;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.stereotype.Service;
+
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Function;
+
+@Service
+@Slf4j
+public class LookupServiceImpl implements LookupService {
+    private final CatalogLookupLoader catalogLookupLoader;
+    private final TaskExecutor catalogLookupExecutor;
+    private final int maxIds;
+    private final long timeoutNanos;
+
+    public LookupServiceImpl(CatalogLookupLoader catalogLookupLoader,
+                             @Qualifier("catalogLookupExecutor") TaskExecutor catalogLookupExecutor,
+                             @Value("${catalog.lookup.max-ids:1000}") int maxIds,
+                             @Value("${catalog.lookup.timeout-ms:2000}") long timeoutMillis) {
+        this.catalogLookupLoader = catalogLookupLoader;
+        this.catalogLookupExecutor = catalogLookupExecutor;
+        this.maxIds = maxIds;
+        this.timeoutNanos = TimeUnit.MILLISECONDS.toNanos(timeoutMillis);
+    }
+
+    @Override
+    public LookupResponseDTO lookup(LookupRequestDTO lookupRequestDTO, HttpServletRequest request, Jwt jwt) {
+        log.info("lookup in LookupServiceImpl is called with data: {} by user: {}", lookupRequestDTO, jwt.getSubject());
+
+        Set<Integer> authorIds = distinctIds(lookupRequestDTO.getAuthorIds());
+        Set<Integer> genreIds = distinctIds(lookupRequestDTO.getGenreIds());
+        Set<Integer> seriesIds = distinctIds(lookupRequestDTO.getSeriesIds());
+        Set<Integer> publisherIds = distinctIds(lookupRequestDTO.getPublisherIds());
+
+        int total = authorIds.size() + genreIds.size() + seriesIds.size() + publisherIds.size();
+        if (total == 0) {
+            throw new CustomException("Lookup requires at least one ID", HttpStatus.BAD_REQUEST.value());
+        }
+        if (total > maxIds) {
+            throw new CustomException("Lookup is limited to " + maxIds + " IDs per request", HttpStatus.BAD_REQUEST.value());
+        }
+
+        long deadline = catalogLookupLoader.newDeadline();
+        CompletableFuture<Map<Integer, LookupItemDTO>> authors = loadAsync(authorIds, ids -> catalogLookupLoader.loadAuthors(ids, deadline));
+        CompletableFuture<Map<Integer, LookupItemDTO>> genres = loadAsync(genreIds, ids -> catalogLookupLoader.loadGenres(ids, deadline));
+        CompletableFuture<Map<Integer, LookupItemDTO>> series = loadAsync(seriesIds, ids -> catalogLookupLoader.loadSeries(ids, deadline));
+        CompletableFuture<Map<Integer, LookupItemDTO>> publishers = loadAsync(publisherIds, ids -> catalogLookupLoader.loadPublishers(ids, deadline));
+        CompletableFuture<Void> all = CompletableFuture.allOf(authors, genres, series, publishers);
+
+        try {
+            all.get(deadline + timeoutNanos - System.nanoTime(), TimeUnit.NANOSECONDS);
+            return LookupResponseDTO.builder()
+                    .authors(select(authorIds, authors.join()))
+                    .genres(select(genreIds, genres.join()))
+                    .series(select(seriesIds, series.join()))
+                    .publishers(select(publisherIds, publishers.join()))
+                    .build();
+        } catch (TimeoutException e) {
+            all.cancel(false);
+            log.error("Catalog lookup did not finish within {} ms", TimeUnit.NANOSECONDS.toMillis(timeoutNanos));
+            throw new CustomException("Catalog lookup timed out", HttpStatus.SERVICE_UNAVAILABLE.value());
+        } catch (ExecutionException e) {
+            log.error("Error occurred while looking up catalog entities: {}", e.getCause().getMessage());
+            throw new CustomException("Error occurred while looking up catalog entities", HttpStatus.INTERNAL_SERVER_ERROR.value());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CustomException("Error occurred while looking up catalog entities", HttpStatus.INTERNAL_SERVER_ERROR.value());
+        }
+    }
+
+    /*
+     * A batch leader runs its query on the calling thread, so each type is started on the
+     * lookup pool; the four loads then overlap and all share the one deadline.
+     */
+    private CompletableFuture<Map<Integer, LookupItemDTO>> loadAsync(Set<Integer> ids,
+                                                                     Function<Set<Integer>, CompletableFuture<Map<Integer, LookupItemDTO>>> loader) {
+        if (ids.isEmpty()) {
+            return CompletableFuture.completedFuture(Map.of());
+        }
+
+        return CompletableFuture.supplyAsync(() -> loader.apply(ids), catalogLookupExecutor)
+                .thenCompose(Function.identity());
+    }
+
+    private Set<Integer> distinctIds(List<Integer> ids) {
+        if (ids == null) {
+            return Set.of();
+        }
+
+        Set<Integer> distinct = new LinkedHashSet<>();
+        for (Integer id : ids) {
+            if (id != null) {
+                distinct.add(id);
+            }
+        }
+
+        return distinct;
+    }
+
+    /* A batch may hold other requests' ids too; keep only this request's, in request order. */
+    private List<LookupItemDTO> select(Set<Integer> ids, Map<Integer, LookupItemDTO> loaded) {
+        List<LookupItemDTO> items = new ArrayList<>(ids.size());
+        for (Integer id : ids) {
+            LookupItemDTO item = loaded.get(id);
+            if (item != null) {
+                items.add(item);
+            }
+        }
+
+        return items;
+    }
+}
@@ -1,6 +1,8 @@
 package com.biblioteca.catalogservice.service.impl;
 
 import com.biblioteca.catalogservice.dto.author.AuthorDTO;
+import com.biblioteca.catalogservice.dto.pagination.CursorPageDTO;
+import com.biblioteca.catalogservice.dto.pagination.CursorPageRequestDTO;
 import com.biblioteca.catalogservice.dto.pagination.PageRequestDTO;
 import com.biblioteca.catalogservice.dto.pagination.PaginationUtil;
 import com.biblioteca.catalogservice.dto.publisher.PublisherCreateDTO;
@@ -8,8 +10,11 @@ import com.biblioteca.catalogservice.dto.publisher.PublisherDTO;
 import com.biblioteca.catalogservice.dto.publisher.PublisherUpdateDTO;
 import com.biblioteca.catalogservice.entity.Author;
 import com.biblioteca.catalogservice.entity.Publisher;
+import com.biblioteca.catalogservice.replication.CatalogOutbox;
 import com.biblioteca.catalogservice.repository.PublisherRepository;
+import com.biblioteca.catalogservice.search.CatalogTypeaheadIndex;
 import com.biblioteca.catalogservice.service.PublisherService;
+import com.biblioteca.catalogservice.util.enums.CatalogAggregateType;
 import com.biblioteca.catalogservice.util.exception.CustomException;
 import com.biblioteca.catalogservice.util.mapper.PublisherMapper;
 import jakarta.servlet.http.HttpServletRequest;
@@ -32,6 +37,8 @@ import java.util.Optional;
 @RequiredArgsConstructor
 public class PublisherServiceImpl implements PublisherService {
     private final PublisherRepository publisherRepository;
+    private final CatalogTypeaheadIndex catalogTypeaheadIndex;
+    private final CatalogOutbox catalogOutbox;
 
     @Override
     @Transactional
@@ -48,8 +55,13 @@ public class PublisherServiceImpl implements PublisherService {
 
         try {
             publisherRepository.save(publisher);
+            catalogOutbox.upsert(CatalogAggregateType.PUBLISHER, publisher.getId());
             log.info("Publisher created successfully");
-            return convertToDTO(publisher);
+
+            PublisherDTO publisherDTO = convertToDTO(publisher);
+            catalogTypeaheadIndex.putPublisher(publisherDTO);
+
+            return publisherDTO;
         } catch (Exception e) {
             log.error("Error occurred while creating publisher: {}", e.getMessage());
             throw new CustomException("Failed to create publisher", HttpStatus.INTERNAL_SERVER_ERROR.value());
@@ -82,6 +94,14 @@ public class PublisherServiceImpl implements PublisherService {
         return publisherDTOS;
     }
 
+    @Override
+    public CursorPageDTO<PublisherDTO> getAllPublisherWithCursor(CursorPageRequestDTO cursorPageRequestDTO, HttpServletRequest request, Jwt jwt) {
+        log.info("getAllPublisherWithCursor in PublisherServiceImpl is called with data: {} by user: {}", cursorPageRequestDTO, jwt.getSubject());
+
+        return PaginationUtil.getCursorPage(publisherRepository, cursorPageRequestDTO, Publisher::getId,
+                publishers -> publishers.stream().map(this::convertToDTO).toList());
+    }
+
     @Override
     public PublisherDTO getPublisherById(Integer id, HttpServletRequest request, Jwt jwt) {
         log.info("getPublisherById in PublisherServiceImpl is called with id: {} by user: {}",id, jwt.getSubject());
@@ -108,8 +128,13 @@ public class PublisherServiceImpl implements PublisherService {
         updatedPublisher.setId(publisherUpdateDTO.getId());
         try {
             publisherRepository.save(updatedPublisher);
+            catalogOutbox.upsert(CatalogAggregateType.PUBLISHER, updatedPublisher.getId());
             log.info("Publisher updated successfully");
-            return convertToDTO(updatedPublisher);
+
+            PublisherDTO publisherDTO = convertToDTO(updatedPublisher);
+            catalogTypeaheadIndex.putPublisher(publisherDTO);
+
+            return publisherDTO;
         } catch (Exception e) {
             log.error("Error occurred while updating publisher: {}", e.getMessage());
             throw new CustomException("Failed to update publisher", HttpStatus.INTERNAL_SERVER_ERROR.value());
@@ -117,6 +142,7 @@ public class PublisherServiceImpl implements PublisherService {
     }
 
     @Override
+    @Transactional
     public String deletePublisher(Integer id, HttpServletRequest request, Jwt jwt) {
         log.info("deletePublisher in PublisherServiceImpl is called with id: {} by user: {}", id, jwt.getSubject());
 
@@ -124,6 +150,8 @@ public class PublisherServiceImpl implements PublisherService {
 
         try {
             publisherRepository.delete(publisher);
+            catalogOutbox.delete(CatalogAggregateType.PUBLISHER, id);
+            catalogTypeaheadIndex.removePublisher(id);
             log.info("Publisher deleted successfully");
             return "Publisher deleted successfully";
         } catch (Exception e) {
@@ -136,6 +164,11 @@ public class PublisherServiceImpl implements PublisherService {
     public List<PublisherDTO> searchPublisher(String publisherName, HttpServletRequest request, Jwt jwt) {
         log.info("searchPublisher in PublisherServiceImpl is called with data: {} by user: {}", publisherName, jwt.getSubject());
 
+        Optional<List<PublisherDTO>> indexedPublishers = catalogTypeaheadIndex.searchPublishers(publisherName);
+        if (indexedPublishers.isPresent()) {
+            return indexedPublishers.get();
+        }
+
         List<Publisher>  publishers = publisherRepository.findByNameContainingIgnoreCase(publisherName);
         List<PublisherDTO> publisherDTOs = publishers.stream().map(this::convertToDTO).toList();
 
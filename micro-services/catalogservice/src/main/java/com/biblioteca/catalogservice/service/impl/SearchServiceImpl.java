@@ -0,0 +1,53 @@
+package com.biblioteca.catalogservice.service.impl;
+
+import com.biblioteca.catalogservice.dto.pagination.PageRequestDTO;
+import com.biblioteca.catalogservice.dto.pagination.PaginationUtil;
+import com.biblioteca.catalogservice.dto.search.SearchDTO;
+import com.biblioteca.catalogservice.repository.SearchRepository;
+import com.biblioteca.catalogservice.service.SearchService;
+import com.biblioteca.catalogservice.util.enums.SearchType;
+import com.biblioteca.catalogservice.util.exception.CustomException;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.stereotype.Service;
+
+@Service
+@Slf4j
+@RequiredArgsConstructor
+public class SearchServiceImpl implements SearchService {
+    private static final int MAX_QUERY_LENGTH = 200;
+    private static final int MAX_PAGE_SIZE = 100;
+
+    private final SearchRepository searchRepository;
+
+    @Override
+    public Page<SearchDTO> search(String query, SearchType type, PageRequestDTO pageRequestDTO, HttpServletRequest request, Jwt jwt) {
+        log.info("search in SearchServiceImpl is called with query: {}, type: {}, page: {}, size: {} by user: {}", query, type, pageRequestDTO.getPage(), pageRequestDTO.getSize(), jwt.getSubject());
+
+        String trimmedQuery = query == null ? "" : query.trim();
+        if (trimmedQuery.isEmpty()) {
+            throw new CustomException("Search query must not be empty", HttpStatus.BAD_REQUEST.value());
+        }
+        if (trimmedQuery.length() > MAX_QUERY_LENGTH) {
+            throw new CustomException("Search query must not exceed " + MAX_QUERY_LENGTH + " characters", HttpStatus.BAD_REQUEST.value());
+        }
+
+        int size = Math.min(Math.max(pageRequestDTO.getSize(), 1), MAX_PAGE_SIZE);
+        Pageable pageable = PaginationUtil.getPageable(pageRequestDTO.getPage(), size);
+
+        try {
+            SearchRepository.SearchPage page = searchRepository.search(trimmedQuery, type, pageable.getPageSize(), pageable.getOffset());
+            log.info("Found {} search results for query: {}", page.total(), trimmedQuery);
+
+            return PaginationUtil.getPage(page.hits(), pageable, page.total());
+        } catch (Exception e) {
+            log.error("Error occurred while searching catalog: {}", e.getMessage());
+            throw new CustomException("Failed to search catalog", HttpStatus.INTERNAL_SERVER_ERROR.value());
+        }
+    }
+}
@@ -1,6 +1,8 @@
 package com.biblioteca.catalogservice.service.impl;
 
 import com.biblioteca.catalogservice.dto.book.BookDTO;
+import com.biblioteca.catalogservice.dto.pagination.CursorPageDTO;
+import com.biblioteca.catalogservice.dto.pagination.CursorPageRequestDTO;
 import com.biblioteca.catalogservice.dto.pagination.PageRequestDTO;
 import com.biblioteca.catalogservice.dto.pagination.PaginationUtil;
 import com.biblioteca.catalogservice.dto.series.SeriesCreateDTO;
@@ -11,8 +13,12 @@ import com.biblioteca.catalogservice.dto.seriesAuthor.SeriesAuthorUpdateDTO;
 import com.biblioteca.catalogservice.dto.seriesGenre.SeriesGenreCreateDTO;
 import com.biblioteca.catalogservice.dto.seriesGenre.SeriesGenreUpdateDTO;
 import com.biblioteca.catalogservice.entity.*;
+import com.biblioteca.catalogservice.replication.CatalogOutbox;
 import com.biblioteca.catalogservice.repository.*;
+import com.biblioteca.catalogservice.repository.ReferenceEntityRepository;
+import com.biblioteca.catalogservice.search.CatalogTypeaheadIndex;
 import com.biblioteca.catalogservice.service.SeriesService;
+import com.biblioteca.catalogservice.util.enums.CatalogAggregateType;
 import com.biblioteca.catalogservice.util.exception.CustomException;
 import com.biblioteca.catalogservice.util.mapper.BookMapper;
 import com.biblioteca.catalogservice.util.mapper.SeriesAuthorMapper;
@@ -39,6 +45,9 @@ public class SeriesServiceImpl implements SeriesService {
     private final SeriesRepository seriesRepository;
     private final AuthorRepository authorRepository;
     private final GenreRepository genreRepository;
+    private final ReferenceEntityRepository referenceEntityRepository;
+    private final CatalogTypeaheadIndex catalogTypeaheadIndex;
+    private final CatalogOutbox catalogOutbox;
 
     @Override
     @Transactional
@@ -56,7 +65,7 @@ public class SeriesServiceImpl implements SeriesService {
         if(seriesCreateDTO.getSeriesAuthorCreateDTOS() != null && !seriesCreateDTO.getSeriesAuthorCreateDTOS().isEmpty()){
             List<Integer> seriesAuthorIds = seriesCreateDTO.getSeriesAuthorCreateDTOS().stream().map(SeriesAuthorCreateDTO::getAuthorId).toList();
 
-            List<Author> authors = authorRepository.findAllById(seriesAuthorIds);
+            List<Author> authors = referenceEntityRepository.findAllById(Author.class, seriesAuthorIds);
 
             for(SeriesAuthorCreateDTO seriesAuthorCreateDTO : seriesCreateDTO.getSeriesAuthorCreateDTOS()){
                 Author author = authors.stream()
@@ -75,7 +84,7 @@ public class SeriesServiceImpl implements SeriesService {
 
         if(seriesCreateDTO.getSeriesGenreCreateDTOS() != null && !seriesCreateDTO.getSeriesGenreCreateDTOS().isEmpty()){
             List<Integer> genreIds = seriesCreateDTO.getSeriesGenreCreateDTOS().stream().map(SeriesGenreCreateDTO::getGenreId).toList();
-            List<Genre> genres = genreRepository.findAllById(genreIds);
+            List<Genre> genres = referenceEntityRepository.findAllById(Genre.class, genreIds);
 
             for(SeriesGenreCreateDTO seriesGenreCreateDTO : seriesCreateDTO.getSeriesGenreCreateDTOS()){
                 Genre genre = genres.stream()
@@ -93,10 +102,14 @@ public class SeriesServiceImpl implements SeriesService {
 
         try{
             seriesRepository.save(series);
+            catalogOutbox.upsert(CatalogAggregateType.SERIES, series.getId());
 
             log.info("Series created successfully ");
 
-            return convertToDTO(series);
+            SeriesDTO seriesDTO = convertToDTO(series);
+            catalogTypeaheadIndex.putSeries(seriesDTO);
+
+            return seriesDTO;
         }catch (Exception e){
             log.error("Error occurred while creating series: {}", e.getMessage());
             throw new CustomException("Failed to create series", HttpStatus.INTERNAL_SERVER_ERROR.value());
@@ -145,6 +158,14 @@ public class SeriesServiceImpl implements SeriesService {
         return seriesDTOPage;
     }
 
+    @Override
+    public CursorPageDTO<SeriesDTO> getAllWithCursor(CursorPageRequestDTO cursorPageRequestDTO, HttpServletRequest request, Jwt jwt) {
+        log.info("getAllWithCursor in SeriesServiceImpl is called with data: {} by user: {}", cursorPageRequestDTO, jwt.getSubject());
+
+        return PaginationUtil.getCursorPage(seriesRepository, cursorPageRequestDTO, Series::getId,
+                seriesList -> seriesList.stream().map(this::convertToDTO).toList());
+    }
+
     @Override
     @Transactional
     public SeriesDTO updateSeries(SeriesUpdateDTO seriesUpdateDTO, HttpServletRequest request, Jwt jwt) {
@@ -168,8 +189,13 @@ public class SeriesServiceImpl implements SeriesService {
 
         try {
             seriesRepository.save(updatedSeries);
+            catalogOutbox.upsertWithBooks(CatalogAggregateType.SERIES, updatedSeries.getId());
             log.info("Series updated successfully with id: {}", updatedSeries.getId());
-            return convertToDTO(updatedSeries);
+
+            SeriesDTO seriesDTO = convertToDTO(updatedSeries);
+            catalogTypeaheadIndex.putSeries(seriesDTO);
+
+            return seriesDTO;
         } catch (Exception e) {
             log.error("Error occurred while updating series: {}", e.getMessage());
             throw new CustomException("Failed to update series", HttpStatus.INTERNAL_SERVER_ERROR.value());
@@ -187,7 +213,9 @@ public class SeriesServiceImpl implements SeriesService {
         int genreCount = series.getSeriesGenres().size();
 
         try {
+            catalogOutbox.deleteWithBooks(CatalogAggregateType.SERIES, id);
             seriesRepository.delete(series);
+            catalogTypeaheadIndex.removeSeries(id);
             
             log.info("Successfully deleted series with id: {} and its {} SeriesAuthor and {} SeriesGenre relationships", id, authorCount, genreCount);
             
@@ -234,6 +262,11 @@ public class SeriesServiceImpl implements SeriesService {
     public List<SeriesDTO> searchSeries(String seriesName, HttpServletRequest request, Jwt jwt) {
         log.info("searchSeries method in SeriesServiceImpl is called with seriesName: {}", seriesName);
 
+        Optional<List<SeriesDTO>> indexedSeries = catalogTypeaheadIndex.searchSeries(seriesName);
+        if (indexedSeries.isPresent()) {
+            return indexedSeries.get();
+        }
+
         List<Series> series = seriesRepository.findByNameContainingIgnoreCase(seriesName);
 
         List<SeriesDTO> seriesDTOS = series.stream().map(this::convertToDTO).toList();
@@ -295,7 +328,7 @@ public class SeriesServiceImpl implements SeriesService {
                 .distinct()
                 .toList();
         
-        List<Author> existingAuthors = authorRepository.findAllById(incomingAuthorIds);
+        List<Author> existingAuthors = referenceEntityRepository.findAllById(Author.class, incomingAuthorIds);
         
         if (existingAuthors.size() != incomingAuthorIds.size()) {
             List<Integer> foundIds = existingAuthors.stream().map(Author::getId).toList();
@@ -375,7 +408,7 @@ public class SeriesServiceImpl implements SeriesService {
                 .distinct()
                 .toList();
         
-        List<Genre> existingGenres = genreRepository.findAllById(incomingGenreIds);
+        List<Genre> existingGenres = referenceEntityRepository.findAllById(Genre.class, incomingGenreIds);
         
         if (existingGenres.size() != incomingGenreIds.size()) {
             List<Integer> foundIds = existingGenres.stream().map(Genre::getId).toList();
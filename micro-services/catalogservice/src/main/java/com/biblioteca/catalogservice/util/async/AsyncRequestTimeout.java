@@ -0,0 +1,32 @@
+package com.biblioteca.catalogservice.util.async;
+
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.async.AsyncWebRequest;
+import org.springframework.web.context.request.async.CallableProcessingInterceptor;
+
+import java.time.Duration;
+import java.util.concurrent.Callable;
+
+/*
+ * Lets a single handler choose the async timeout of its own request, e.g. a long-running
+ * StreamingResponseBody, while every other endpoint keeps the default MVC async timeout.
+ * The handler records the timeout as a request attribute; this interceptor applies it just
+ * before async processing starts.
+ */
+public class AsyncRequestTimeout implements CallableProcessingInterceptor {
+    private static final String ATTRIBUTE = AsyncRequestTimeout.class.getName() + ".timeout";
+
+    public static void set(HttpServletRequest request, Duration timeout) {
+        request.setAttribute(ATTRIBUTE, timeout);
+    }
+
+    @Override
+    public <T> void beforeConcurrentHandling(NativeWebRequest request, Callable<T> task) {
+        if (request.getAttribute(ATTRIBUTE, RequestAttributes.SCOPE_REQUEST) instanceof Duration timeout
+                && request instanceof AsyncWebRequest asyncWebRequest) {
+            asyncWebRequest.setTimeout(timeout.toMillis());
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package com.biblioteca.catalogservice.util.cache;
+
+import java.util.List;
+
+public final class CacheRegions {
+    public static final String AUTHOR = "catalog-author";
+    public static final String GENRE = "catalog-genre";
+    public static final String GENRE_SUB_GENRES = "catalog-genre-sub-genres";
+    public static final String PUBLISHER = "catalog-publisher";
+    public static final String SERIES = "catalog-series";
+    public static final String SERIES_AUTHORS = "catalog-series-authors";
+    public static final String SERIES_GENRES = "catalog-series-genres";
+    public static final String SERIES_AUTHOR = "catalog-series-author";
+    public static final String SERIES_GENRE = "catalog-series-genre";
+
+    public static final List<String> ALL = List.of(
+            AUTHOR,
+            GENRE,
+            GENRE_SUB_GENRES,
+            PUBLISHER,
+            SERIES,
+            SERIES_AUTHORS,
+            SERIES_GENRES,
+            SERIES_AUTHOR,
+            SERIES_GENRE
+    );
+
+    private CacheRegions() {
+    }
+}
@@ -0,0 +1,162 @@
+package com.biblioteca.catalogservice.util.cache;
+
+import java.util.*;
+
+/*
+ * Immutable snapshot of the genre hierarchy laid out in DFS pre-order. Each genre keeps the
+ * [enter, exit) range its subtree occupies in that order, so ancestor checks are O(1) and a
+ * subtree is a contiguous slice of the order array.
+ */
+public final class GenreTree {
+    private final Map<Integer, Integer> parentById;
+    private final Map<Integer, List<Integer>> childrenById;
+    private final Map<Integer, Integer> enterById;
+    private final Map<Integer, Integer> exitById;
+    private final List<Integer> roots;
+    private final Set<Integer> rootIds;
+    private final int[] order;
+
+    private GenreTree(Map<Integer, Integer> parentById,
+                      Map<Integer, List<Integer>> childrenById,
+                      Map<Integer, Integer> enterById,
+                      Map<Integer, Integer> exitById,
+                      List<Integer> roots,
+                      int[] order) {
+        this.parentById = parentById;
+        this.childrenById = childrenById;
+        this.enterById = enterById;
+        this.exitById = exitById;
+        this.roots = roots;
+        this.rootIds = Set.copyOf(roots);
+        this.order = order;
+    }
+
+    /*
+     * parentById maps every genre id to its parent id (or null for a root). Genres caught in a
+     * parent cycle are not reachable from any root; they are attached as roots so the
+     * snapshot stays a forest and every id is still present.
+     */
+    public static GenreTree of(Map<Integer, Integer> parentById) {
+        Map<Integer, List<Integer>> childrenById = new HashMap<>();
+        List<Integer> roots = new ArrayList<>();
+
+        for (Map.Entry<Integer, Integer> entry : parentById.entrySet()) {
+            Integer parentId = entry.getValue();
+            if (parentId == null || !parentById.containsKey(parentId)) {
+                roots.add(entry.getKey());
+            } else {
+                childrenById.computeIfAbsent(parentId, key -> new ArrayList<>()).add(entry.getKey());
+            }
+        }
+        childrenById.values().forEach(Collections::sort);
+        Collections.sort(roots);
+
+        Map<Integer, List<Integer>> treeChildrenById = new HashMap<>();
+        Map<Integer, Integer> enterById = new HashMap<>();
+        Map<Integer, Integer> exitById = new HashMap<>();
+        int[] order = new int[parentById.size()];
+        int position = 0;
+
+        for (Integer root : roots) {
+            position = visit(root, childrenById, treeChildrenById, enterById, exitById, order, position);
+        }
+
+        List<Integer> detachedIds = parentById.keySet().stream()
+                .filter(id -> !enterById.containsKey(id))
+                .sorted()
+                .toList();
+        for (Integer id : detachedIds) {
+            if (!enterById.containsKey(id)) {
+                roots.add(id);
+                position = visit(id, childrenById, treeChildrenById, enterById, exitById, order, position);
+            }
+        }
+
+        Map<Integer, List<Integer>> immutableChildren = new HashMap<>();
+        treeChildrenById.forEach((id, children) -> immutableChildren.put(id, List.copyOf(children)));
+
+        return new GenreTree(new HashMap<>(parentById), immutableChildren, enterById, exitById, List.copyOf(roots), order);
+    }
+
+    public boolean contains(Integer id) {
+        return enterById.containsKey(id);
+    }
+
+    public boolean isAncestorOrSelf(Integer ancestorId, Integer id) {
+        Integer ancestorEnter = enterById.get(ancestorId);
+        Integer enter = enterById.get(id);
+        if (ancestorEnter == null || enter == null) {
+            return false;
+        }
+
+        return ancestorEnter <= enter && exitById.get(id) <= exitById.get(ancestorId);
+    }
+
+    public List<Integer> subtreeIds(Integer id) {
+        Integer enter = enterById.get(id);
+        if (enter == null) {
+            return List.of();
+        }
+
+        return Arrays.stream(order, enter, exitById.get(id)).boxed().toList();
+    }
+
+    public List<Integer> ancestorIds(Integer id) {
+        List<Integer> ancestors = new ArrayList<>();
+        Integer currentId = id;
+        while (contains(currentId) && !rootIds.contains(currentId)) {
+            currentId = parentById.get(currentId);
+            ancestors.add(currentId);
+        }
+
+        return ancestors;
+    }
+
+    public List<Integer> childrenOf(Integer id) {
+        return childrenById.getOrDefault(id, List.of());
+    }
+
+    public List<Integer> roots() {
+        return roots;
+    }
+
+    public int size() {
+        return order.length;
+    }
+
+    private static int visit(Integer rootId,
+                             Map<Integer, List<Integer>> childrenById,
+                             Map<Integer, List<Integer>> treeChildrenById,
+                             Map<Integer, Integer> enterById,
+                             Map<Integer, Integer> exitById,
+                             int[] order,
+                             int position) {
+        Deque<Iterator<Integer>> stack = new ArrayDeque<>();
+        Deque<Integer> path = new ArrayDeque<>();
+
+        enterById.put(rootId, position);
+        order[position++] = rootId;
+        path.push(rootId);
+        stack.push(childrenById.getOrDefault(rootId, List.of()).iterator());
+
+        while (!stack.isEmpty()) {
+            Iterator<Integer> children = stack.peek();
+            if (children.hasNext()) {
+                Integer childId = children.next();
+                if (enterById.containsKey(childId)) {
+                    continue;
+                }
+                treeChildrenById.computeIfAbsent(path.peek(), key -> new ArrayList<>()).add(childId);
+                enterById.put(childId, position);
+                order[position++] = childId;
+                path.push(childId);
+                stack.push(childrenById.getOrDefault(childId, List.of()).iterator());
+            } else {
+                stack.pop();
+                exitById.put(path.pop(), position);
+            }
+        }
+
+        return position;
+    }
+}
@@ -0,0 +1,55 @@
+package com.biblioteca.catalogservice.util.cache;
+
+import com.biblioteca.catalogservice.repository.GenreRepository;
+import com.biblioteca.catalogservice.util.transaction.TransactionHooks;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/*
+ * Holds the current GenreTree snapshot. Genre mutations mark it stale once their transaction
+ * commits and the next reader rebuilds it from a single id/parent-id query.
+ */
+@Component
+@Slf4j
+@RequiredArgsConstructor
+public class GenreTreeCache {
+    private final GenreRepository genreRepository;
+
+    private volatile GenreTree tree;
+    private volatile boolean stale = true;
+
+    public GenreTree getTree() {
+        GenreTree current = tree;
+        if (current != null && !stale) {
+            return current;
+        }
+
+        synchronized (this) {
+            if (tree == null || stale) {
+                stale = false;
+                tree = load();
+            }
+            return tree;
+        }
+    }
+
+    public void invalidate() {
+        TransactionHooks.afterCommit(() -> stale = true);
+    }
+
+    private GenreTree load() {
+        Map<Integer, Integer> parentById = new HashMap<>();
+        for (Object[] link : genreRepository.findAllParentLinks()) {
+            parentById.put((Integer) link[0], (Integer) link[1]);
+        }
+
+        GenreTree genreTree = GenreTree.of(parentById);
+        log.info("Genre tree snapshot built with {} genres and {} roots", genreTree.size(), genreTree.roots().size());
+
+        return genreTree;
+    }
+}
@@ -0,0 +1,9 @@
+package com.biblioteca.catalogservice.util.enums;
+
+public enum CatalogAggregateType {
+    BOOK,
+    AUTHOR,
+    SERIES,
+    GENRE,
+    PUBLISHER,
+}
@@ -0,0 +1,6 @@
+package com.biblioteca.catalogservice.util.enums;
+
+public enum CatalogEventType {
+    UPSERT,
+    DELETE,
+}
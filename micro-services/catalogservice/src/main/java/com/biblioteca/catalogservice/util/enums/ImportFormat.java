@@ -0,0 +1,7 @@
+package com.biblioteca.catalogservice.util.enums;
+
+public enum ImportFormat {
+    CSV,
+    GOODREADS,
+    JSON,
+}
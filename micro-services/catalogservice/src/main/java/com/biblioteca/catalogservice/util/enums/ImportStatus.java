@@ -0,0 +1,8 @@
+package com.biblioteca.catalogservice.util.enums;
+
+public enum ImportStatus {
+    QUEUED,
+    RUNNING,
+    COMPLETED,
+    FAILED,
+}
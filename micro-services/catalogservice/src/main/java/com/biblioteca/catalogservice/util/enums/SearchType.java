@@ -0,0 +1,9 @@
+package com.biblioteca.catalogservice.util.enums;
+
+public enum SearchType {
+    BOOK,
+    AUTHOR,
+    SERIES,
+    PUBLISHER,
+    GENRE,
+}
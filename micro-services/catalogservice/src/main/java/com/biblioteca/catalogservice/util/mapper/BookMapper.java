@@ -4,12 +4,20 @@ import com.biblioteca.catalogservice.dto.book.BookCreateDTO;
 import com.biblioteca.catalogservice.dto.book.BookDTO;
 import com.biblioteca.catalogservice.dto.book.BookUpdateDTO;
 import com.biblioteca.catalogservice.entity.Book;
+import com.biblioteca.catalogservice.entity.BookAuthor;
+import com.biblioteca.catalogservice.entity.BookGenre;
+import com.biblioteca.catalogservice.entity.BookSeries;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.List;
 
 public class BookMapper {
     public static BookDTO toDTO(Book book){
+        return toDTO(book, book.getBookAuthors(), book.getBookGenres(), book.getBookSeries());
+    }
+
+    public static BookDTO toDTO(Book book, List<BookAuthor> bookAuthors, List<BookGenre> bookGenres, List<BookSeries> bookSeries){
         return BookDTO.builder()
                 .id(book.getId())
                 .title(book.getTitle())
@@ -23,9 +31,9 @@ public class BookMapper {
                 .goodreadsId(book.getGoodreadsId())
                 .googleBooksId(book.getGoogleBooksId())
                 .isActive(book.getIsActive())
-                .bookAuthors(book.getBookAuthors() != null ? book.getBookAuthors().stream().map(BookAuthorMapper::toDTO).toList() : null)
-                .bookGenres(book.getBookGenres() != null ? book.getBookGenres().stream().map(BookGenreMapper::toDTO).toList() : null)
-                .bookSeries(book.getBookSeries() != null ? book.getBookSeries().stream().map(BookSeriesMapper::toDTO).toList() : null)
+                .bookAuthors(bookAuthors != null ? bookAuthors.stream().map(BookAuthorMapper::toDTO).toList() : null)
+                .bookGenres(bookGenres != null ? bookGenres.stream().map(BookGenreMapper::toDTO).toList() : null)
+                .bookSeries(bookSeries != null ? bookSeries.stream().map(BookSeriesMapper::toDTO).toList() : null)
                 .createdAt(book.getCreatedAt())
                 .updatedAt(book.getUpdatedAt())
                 .build();
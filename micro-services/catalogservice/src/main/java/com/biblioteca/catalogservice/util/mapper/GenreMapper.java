@@ -2,10 +2,12 @@ package com.biblioteca.catalogservice.util.mapper;
 
 import com.biblioteca.catalogservice.dto.genre.GenreCreateDTO;
 import com.biblioteca.catalogservice.dto.genre.GenreDTO;
+import com.biblioteca.catalogservice.dto.genre.GenreTreeDTO;
 import com.biblioteca.catalogservice.dto.genre.GenreUpdateDTO;
 import com.biblioteca.catalogservice.entity.Genre;
 
 import java.time.LocalDateTime;
+import java.util.List;
 
 public class GenreMapper {
     public static GenreDTO toDTO(Genre genre) {
@@ -20,6 +22,17 @@ public class GenreMapper {
                 .build();
     }
 
+    public static GenreTreeDTO toTreeDTO(Genre genre, List<GenreTreeDTO> subGenres) {
+        return GenreTreeDTO.builder()
+                .id(genre.getId())
+                .name(genre.getName())
+                .description(genre.getDescription())
+                .parentGenreId(genre.getParentGenreId() != null ? genre.getParentGenreId().getId() : null)
+                .isActive(genre.getIsActive())
+                .subGenres(subGenres)
+                .build();
+    }
+
     public static Genre fromCreateDTO(GenreCreateDTO genreCreateDTO) {
         return Genre.builder()
                 .name(genreCreateDTO.getName())
@@ -0,0 +1,39 @@
+package com.biblioteca.catalogservice.util.mapper;
+
+import com.biblioteca.catalogservice.dto.lookup.LookupItemDTO;
+import com.biblioteca.catalogservice.entity.Author;
+import com.biblioteca.catalogservice.entity.Genre;
+import com.biblioteca.catalogservice.entity.Publisher;
+import com.biblioteca.catalogservice.entity.Series;
+
+public class LookupMapper {
+    public static LookupItemDTO fromAuthor(Author author) {
+        return LookupItemDTO.builder()
+                .id(author.getId())
+                .name(author.getName())
+                .imageId(author.getImageId())
+                .build();
+    }
+
+    public static LookupItemDTO fromGenre(Genre genre) {
+        return LookupItemDTO.builder()
+                .id(genre.getId())
+                .name(genre.getName())
+                .parentGenreId(genre.getParentGenreId() != null ? genre.getParentGenreId().getId() : null)
+                .build();
+    }
+
+    public static LookupItemDTO fromSeries(Series series) {
+        return LookupItemDTO.builder()
+                .id(series.getId())
+                .name(series.getName())
+                .build();
+    }
+
+    public static LookupItemDTO fromPublisher(Publisher publisher) {
+        return LookupItemDTO.builder()
+                .id(publisher.getId())
+                .name(publisher.getName())
+                .build();
+    }
+}
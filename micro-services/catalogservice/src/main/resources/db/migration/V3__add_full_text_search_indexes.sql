@@ -0,0 +1,35 @@
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+
+-- Weighted document for ranked book search: title > subtitle > description
+ALTER TABLE books ADD COLUMN IF NOT EXISTS search_vector tsvector
+    GENERATED ALWAYS AS (
+        setweight(to_tsvector('english'::regconfig, coalesce(title, '')), 'A') ||
+        setweight(to_tsvector('english'::regconfig, coalesce(subtitle, '')), 'B') ||
+        setweight(to_tsvector('english'::regconfig, coalesce(description, '')), 'C')
+    ) STORED;
+
+CREATE INDEX IF NOT EXISTS idx_books_search_vector
+    ON books USING GIN (search_vector);
+
+-- Trigram indexes serve fuzzy matching and the existing LIKE '%x%' lookups
+CREATE INDEX IF NOT EXISTS idx_books_title_trgm
+    ON books USING GIN (title gin_trgm_ops);
+
+CREATE INDEX IF NOT EXISTS idx_authors_name_trgm
+    ON authors USING GIN (upper(name) gin_trgm_ops);
+
+CREATE INDEX IF NOT EXISTS idx_series_name_trgm
+    ON series USING GIN (upper(name) gin_trgm_ops);
+
+CREATE INDEX IF NOT EXISTS idx_publishers_name_trgm
+    ON publishers USING GIN (upper(name) gin_trgm_ops);
+
+CREATE INDEX IF NOT EXISTS idx_genres_name_trgm
+    ON genres USING GIN (upper(name) gin_trgm_ops);
+
+-- Reverse lookups from an author or edition back to its books
+CREATE INDEX IF NOT EXISTS idx_book_authors_author_id
+    ON book_authors (author_id);
+
+CREATE INDEX IF NOT EXISTS idx_book_editions_book_id
+    ON book_editions (book_id);
@@ -0,0 +1,10 @@
+-- Hibernate hands out ids in blocks of 50 (pooled-lo) for the book tables so inserts can be
+-- JDBC-batched; the SERIAL sequences must advance by the same allocation size.
+ALTER SEQUENCE books_id_seq INCREMENT BY 50;
+ALTER SEQUENCE book_authors_id_seq INCREMENT BY 50;
+ALTER SEQUENCE book_genres_id_seq INCREMENT BY 50;
+ALTER SEQUENCE book_series_id_seq INCREMENT BY 50;
+ALTER SEQUENCE book_editions_id_seq INCREMENT BY 50;
+
+-- The importer and createBook both look books up by exact title.
+CREATE INDEX IF NOT EXISTS idx_books_title ON books (title);
@@ -0,0 +1,8 @@
+-- Same pooled-lo allocation as the book tables (V4) for the remaining catalog entities, so
+-- series/author/genre association rows and imported reference data can be JDBC-batched too.
+ALTER SEQUENCE authors_id_seq INCREMENT BY 50;
+ALTER SEQUENCE genres_id_seq INCREMENT BY 50;
+ALTER SEQUENCE publishers_id_seq INCREMENT BY 50;
+ALTER SEQUENCE series_id_seq INCREMENT BY 50;
+ALTER SEQUENCE series_authors_id_seq INCREMENT BY 50;
+ALTER SEQUENCE series_genres_id_seq INCREMENT BY 50;
@@ -0,0 +1,22 @@
+-- Transactional outbox for catalog change events. Rows are written in the same transaction
+-- as the catalog change and removed by the relay once the consumer has acknowledged them.
+-- Payloads are built at relay time from the committed rows, so only the aggregate is stored.
+CREATE TABLE IF NOT EXISTS catalog_outbox_events (
+    id BIGSERIAL PRIMARY KEY,
+    aggregate_type VARCHAR(20) NOT NULL,
+    aggregate_id INT NOT NULL,
+    event_type VARCHAR(10) NOT NULL,
+    attempts INT NOT NULL DEFAULT 0,
+    last_error TEXT,
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+
+-- Snapshot versions handed to consumers; strictly increasing across relay batches.
+CREATE SEQUENCE IF NOT EXISTS catalog_snapshot_version_seq;
+
+-- Seed the outbox so consumers receive the existing catalog on first start.
+INSERT INTO catalog_outbox_events (aggregate_type, aggregate_id, event_type) SELECT 'AUTHOR', id, 'UPSERT' FROM authors;
+INSERT INTO catalog_outbox_events (aggregate_type, aggregate_id, event_type) SELECT 'GENRE', id, 'UPSERT' FROM genres;
+INSERT INTO catalog_outbox_events (aggregate_type, aggregate_id, event_type) SELECT 'SERIES', id, 'UPSERT' FROM series;
+INSERT INTO catalog_outbox_events (aggregate_type, aggregate_id, event_type) SELECT 'PUBLISHER', id, 'UPSERT' FROM publishers;
+INSERT INTO catalog_outbox_events (aggregate_type, aggregate_id, event_type) SELECT 'BOOK', id, 'UPSERT' FROM books;
@@ -0,0 +1,24 @@
+-- Move catalog replication onto the shared outbox library (com.biblioteca:outbox).
+-- Table definition mirrors outbox/src/main/resources/db/outbox/outbox_events.sql.
+CREATE TABLE IF NOT EXISTS outbox_events (
+    id BIGSERIAL PRIMARY KEY,
+    topic VARCHAR(100) NOT NULL,
+    aggregate_type VARCHAR(50) NOT NULL,
+    aggregate_id VARCHAR(100) NOT NULL,
+    event_type VARCHAR(50) NOT NULL,
+    payload JSONB,
+    attempts INT NOT NULL DEFAULT 0,
+    next_attempt_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    last_error TEXT,
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+
+CREATE INDEX IF NOT EXISTS idx_outbox_events_topic ON outbox_events (topic, id);
+
+-- Carry over undelivered catalog events in their original order
+INSERT INTO outbox_events (topic, aggregate_type, aggregate_id, event_type, attempts, last_error, created_at)
+SELECT 'catalog', aggregate_type, aggregate_id::text, event_type, attempts, last_error, created_at
+FROM catalog_outbox_events
+ORDER BY id;
+
+DROP TABLE catalog_outbox_events;
@@ -0,0 +1,23 @@
+-- Bulk import job state, shared by every catalogservice node and kept across restarts.
+-- heartbeat_at is refreshed by the node holding the job; a QUEUED or RUNNING job whose
+-- heartbeat stops (node crashed or restarted) is marked FAILED by the next sweep.
+CREATE TABLE IF NOT EXISTS import_jobs (
+    id VARCHAR(36) PRIMARY KEY,
+    file_name VARCHAR(500),
+    format VARCHAR(20) NOT NULL,
+    status VARCHAR(20) NOT NULL,
+    imported BIGINT NOT NULL DEFAULT 0,
+    skipped BIGINT NOT NULL DEFAULT 0,
+    failed BIGINT NOT NULL DEFAULT 0,
+    errors JSONB NOT NULL DEFAULT '[]',
+    started_by VARCHAR(255),
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    started_at TIMESTAMP,
+    finished_at TIMESTAMP,
+    heartbeat_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+
+CREATE INDEX IF NOT EXISTS idx_import_jobs_created_at ON import_jobs (created_at DESC);
+
+CREATE INDEX IF NOT EXISTS idx_import_jobs_active ON import_jobs (heartbeat_at)
+    WHERE status IN ('QUEUED', 'RUNNING');
@@ -0,0 +1,121 @@
+package com.biblioteca.catalogservice;
+
+import com.biblioteca.catalogservice.entity.*;
+import com.biblioteca.catalogservice.repository.AuthorRepository;
+import com.biblioteca.catalogservice.repository.BookRepository;
+import com.biblioteca.catalogservice.repository.GenreRepository;
+import com.biblioteca.catalogservice.repository.SeriesRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/*
+ * Cascaded create of books with three authors, two genres and a series link, saved in
+ * transactions of 100 books. Subclasses run the same scenario with and without JDBC
+ * batching; -Dbenchmark.cascade.books overrides the number of books (default 20k).
+ * Run with: mvn test -Pbenchmark -Dtest='CascadedCreate*Benchmark'
+ */
+@Tag("benchmark")
+@TestPropertySource(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+abstract class AbstractCascadedCreateBenchmark extends AbstractPostgresTest {
+
+    private static final int BOOKS = Integer.getInteger("benchmark.cascade.books", 20_000);
+    private static final int BOOKS_PER_TRANSACTION = 100;
+
+    @Autowired
+    private BookRepository bookRepository;
+
+    @Autowired
+    private AuthorRepository authorRepository;
+
+    @Autowired
+    private GenreRepository genreRepository;
+
+    @Autowired
+    private SeriesRepository seriesRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    protected abstract String label();
+
+    @Test
+    void cascadedCreateThroughput() {
+        String prefix = label() + " " + System.nanoTime();
+        List<Author> authors = authorRepository.saveAll(List.of(author(prefix, 1), author(prefix, 2), author(prefix, 3)));
+        List<Genre> genres = genreRepository.saveAll(List.of(genre(prefix, 1), genre(prefix, 2)));
+        Series series = seriesRepository.save(series(prefix));
+
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        long start = System.nanoTime();
+
+        for (int from = 0; from < BOOKS; from += BOOKS_PER_TRANSACTION) {
+            int first = from;
+            transactionTemplate.executeWithoutResult(status -> {
+                List<Book> books = new ArrayList<>(BOOKS_PER_TRANSACTION);
+                for (int i = first; i < Math.min(first + BOOKS_PER_TRANSACTION, BOOKS); i++) {
+                    books.add(book(prefix, i, authors, genres, series));
+                }
+                bookRepository.saveAll(books);
+            });
+        }
+
+        long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+        System.out.printf("%s: %d books (%d rows) in %d ms, %.0f books/sec, %d statements prepared, %d entity inserts%n",
+                label(), BOOKS, BOOKS * 7L, elapsedMillis, BOOKS * 1000.0 / elapsedMillis,
+                statistics.getPrepareStatementCount(), statistics.getEntityInsertCount());
+
+        assertEquals(BOOKS * 7L, statistics.getEntityInsertCount());
+    }
+
+    private static Book book(String prefix, int index, List<Author> authors, List<Genre> genres, Series series) {
+        Book book = new Book();
+        book.setTitle(prefix + " Book " + index);
+        book.setPageCount(100 + index % 500);
+
+        for (Author author : authors) {
+            book.getBookAuthors().add(BookAuthor.builder().book(book).author(author).role("AUTHOR").build());
+        }
+        for (Genre genre : genres) {
+            book.getBookGenres().add(BookGenre.builder().book(book).genre(genre).build());
+        }
+        book.getBookSeries().add(BookSeries.builder().book(book).series(series).position(index).build());
+        return book;
+    }
+
+    private static Author author(String prefix, int index) {
+        Author author = new Author();
+        author.setName(prefix + " Author " + index);
+        author.setCreatedAt(LocalDateTime.now());
+        return author;
+    }
+
+    private static Genre genre(String prefix, int index) {
+        Genre genre = new Genre();
+        genre.setName(prefix + " Genre " + index);
+        genre.setCreatedAt(LocalDateTime.now());
+        return genre;
+    }
+
+    private static Series series(String prefix) {
+        Series series = new Series();
+        series.setName(prefix + " Series");
+        series.setCreatedAt(LocalDateTime.now());
+        return series;
+    }
+}
@@ -0,0 +1,30 @@
+package com.biblioteca.catalogservice;
+
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+/*
+ * Base class for tests that need the real schema. One throwaway Postgres container
+ * is shared by every subclass so the cached Spring context keeps pointing at a live
+ * database; the config server, Eureka and the outbox relay are off.
+ */
+@Testcontainers(disabledWithoutDocker = true)
+@SpringBootTest(properties = {
+        "spring.cloud.config.enabled=false",
+        "eureka.client.enabled=false",
+        "outbox.relay.enabled=false",
+        "catalog.replication.token=test-replication-token",
+        "gateway.cache.invalidation-token=test-invalidation-token",
+        "gateway.claims.secret=test-claims-secret-test-claims-secret"
+})
+public abstract class AbstractPostgresTest {
+
+    @ServiceConnection
+    static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    static {
+        POSTGRES.start();
+    }
+}
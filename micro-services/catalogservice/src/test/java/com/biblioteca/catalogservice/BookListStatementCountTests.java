@@ -0,0 +1,83 @@
+package com.biblioteca.catalogservice;
+
+import com.biblioteca.catalogservice.dto.book.BookDTO;
+import com.biblioteca.catalogservice.dto.pagination.PageRequestDTO;
+import com.biblioteca.catalogservice.service.BookService;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Page;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/*
+ * The batched list mapping must issue the same number of statements whatever
+ * the page size: one page query, one count query and one query per relation.
+ */
+@TestPropertySource(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+class BookListStatementCountTests extends AbstractPostgresTest {
+
+    private static final int BOOKS = 200;
+
+    @Autowired
+    private BookService bookService;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @BeforeAll
+    static void seed(@Autowired JdbcTemplate jdbcTemplate) {
+        jdbcTemplate.update("INSERT INTO authors (name) VALUES ('Statement Count Author')");
+        jdbcTemplate.update("INSERT INTO genres (name) VALUES ('Statement Count Genre')");
+        jdbcTemplate.update("INSERT INTO series (name) VALUES ('Statement Count Series')");
+        jdbcTemplate.update("""
+                INSERT INTO books (id, title)
+                SELECT nextval('books_id_seq'), 'Book ' || g FROM generate_series(1, ?) g
+                """, BOOKS);
+        jdbcTemplate.update("""
+                INSERT INTO book_authors (book_id, author_id)
+                SELECT b.id, a.id FROM books b, authors a WHERE a.name = 'Statement Count Author'
+                """);
+        jdbcTemplate.update("""
+                INSERT INTO book_genres (book_id, genre_id)
+                SELECT b.id, g.id FROM books b, genres g WHERE g.name = 'Statement Count Genre'
+                """);
+        jdbcTemplate.update("""
+                INSERT INTO book_series (book_id, series_id)
+                SELECT b.id, s.id FROM books b, series s WHERE s.name = 'Statement Count Series'
+                """);
+    }
+
+    @Test
+    void listMappingStatementCountDoesNotGrowWithPageSize() {
+        long small = statementsForPage(10);
+        long large = statementsForPage(BOOKS);
+
+        assertEquals(small, large, "statement count must not depend on the page size");
+        assertTrue(large <= 5, "expected page + count + three relation queries, got " + large);
+    }
+
+    private long statementsForPage(int size) {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        entityManagerFactory.getCache().evictAll();
+        statistics.clear();
+
+        Page<BookDTO> page = transactionTemplate.execute(status ->
+                bookService.getAllBooksWithPagination(new PageRequestDTO(0, size), null, null));
+
+        assertEquals(size, page.getContent().size());
+        assertTrue(page.getContent().stream().anyMatch(book -> !book.getBookAuthors().isEmpty()
+                && !book.getBookGenres().isEmpty() && !book.getBookSeries().isEmpty()));
+        return statistics.getPrepareStatementCount();
+    }
+}
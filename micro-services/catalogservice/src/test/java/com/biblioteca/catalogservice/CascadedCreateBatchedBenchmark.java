@@ -0,0 +1,12 @@
+package com.biblioteca.catalogservice;
+
+/*
+ * Current configuration: pooled-lo sequences with jdbc.batch_size=50 and ordered inserts.
+ */
+class CascadedCreateBatchedBenchmark extends AbstractCascadedCreateBenchmark {
+
+    @Override
+    protected String label() {
+        return "batched";
+    }
+}
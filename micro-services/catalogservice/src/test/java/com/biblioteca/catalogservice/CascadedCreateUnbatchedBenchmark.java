@@ -0,0 +1,19 @@
+package com.biblioteca.catalogservice;
+
+import org.springframework.test.context.TestPropertySource;
+
+/*
+ * Baseline: one INSERT round trip per row, which is what IDENTITY columns forced before
+ * the move to sequences (Hibernate cannot batch inserts whose id the database assigns).
+ */
+@TestPropertySource(properties = {
+        "spring.jpa.properties.hibernate.jdbc.batch_size=1",
+        "spring.jpa.properties.hibernate.order_inserts=false"
+})
+class CascadedCreateUnbatchedBenchmark extends AbstractCascadedCreateBenchmark {
+
+    @Override
+    protected String label() {
+        return "unbatched";
+    }
+}
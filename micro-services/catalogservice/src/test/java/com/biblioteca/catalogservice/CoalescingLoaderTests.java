@@ -0,0 +1,134 @@
+package com.biblioteca.catalogservice;
+
+import com.biblioteca.catalogservice.lookup.CoalescingLoader;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CoalescingLoaderTests {
+
+    private final ExecutorService executor = Executors.newCachedThreadPool();
+    private final List<Set<Integer>> calls = Collections.synchronizedList(new ArrayList<>());
+
+    @AfterEach
+    void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private Function<Set<Integer>, Map<Integer, String>> recording(CountDownLatch gate) {
+        return ids -> {
+            calls.add(Set.copyOf(ids));
+            try {
+                gate.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return ids.stream().collect(Collectors.toMap(id -> id, id -> "item-" + id));
+        };
+    }
+
+    private static long deadlineIn(long millis) {
+        return System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(millis);
+    }
+
+    @Test
+    void loneCallerDispatchesWithoutWaitingForTheWindow() throws Exception {
+        CoalescingLoader<String> loader = new CoalescingLoader<>("test", recording(new CountDownLatch(0)), 100);
+
+        long start = System.nanoTime();
+        Map<Integer, String> result = loader.load(List.of(1, 2), deadlineIn(5_000)).get(1, TimeUnit.SECONDS);
+
+        assertEquals(Map.of(1, "item-1", 2, "item-2"), result);
+        assertTrue(System.nanoTime() - start < TimeUnit.SECONDS.toNanos(1), "a lone lookup must not park for the window");
+        assertEquals(1, calls.size());
+    }
+
+    @Test
+    void callersArrivingDuringAnInFlightLoadShareTheNextBatch() throws Exception {
+        CountDownLatch gate = new CountDownLatch(1);
+        CoalescingLoader<String> loader = new CoalescingLoader<>("test", recording(gate), 100);
+
+        Future<CompletableFuture<Map<Integer, String>>> first = executor.submit(() -> loader.load(List.of(1), deadlineIn(5_000)));
+        awaitCalls(1);
+
+        List<Future<CompletableFuture<Map<Integer, String>>>> followers = new ArrayList<>();
+        for (int id = 2; id <= 6; id++) {
+            List<Integer> ids = List.of(id);
+            followers.add(executor.submit(() -> loader.load(ids, deadlineIn(5_000))));
+        }
+        Thread.sleep(200);
+        assertEquals(1, calls.size(), "followers must wait while the first load is in flight");
+
+        gate.countDown();
+        assertEquals(Map.of(1, "item-1"), first.get(1, TimeUnit.SECONDS).get(1, TimeUnit.SECONDS));
+        for (int i = 0; i < followers.size(); i++) {
+            assertEquals("item-" + (i + 2), followers.get(i).get(1, TimeUnit.SECONDS).get(1, TimeUnit.SECONDS).get(i + 2));
+        }
+
+        assertEquals(2, calls.size());
+        assertEquals(Set.of(2, 3, 4, 5, 6), calls.get(1));
+    }
+
+    @Test
+    void deadlineCapsTheWaitBehindASlowLoad() throws Exception {
+        CountDownLatch gate = new CountDownLatch(1);
+        CoalescingLoader<String> loader = new CoalescingLoader<>("test", recording(gate), 100);
+
+        executor.submit(() -> loader.load(List.of(1), deadlineIn(5_000)));
+        awaitCalls(1);
+
+        Future<CompletableFuture<Map<Integer, String>>> second = executor.submit(() -> loader.load(List.of(2), deadlineIn(50)));
+        awaitCalls(2);
+
+        assertEquals(Set.of(2), calls.get(1));
+        gate.countDown();
+        assertEquals(Map.of(2, "item-2"), second.get(1, TimeUnit.SECONDS).get(1, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void fullBatchesAreSplit() throws Exception {
+        CountDownLatch gate = new CountDownLatch(1);
+        CoalescingLoader<String> loader = new CoalescingLoader<>("test", recording(gate), 3);
+
+        executor.submit(() -> loader.load(List.of(0), deadlineIn(5_000)));
+        awaitCalls(1);
+
+        Future<?> a = executor.submit(() -> loader.load(List.of(1, 2), deadlineIn(5_000)));
+        Thread.sleep(100);
+        Future<?> b = executor.submit(() -> loader.load(List.of(3, 4), deadlineIn(5_000)));
+        Thread.sleep(100);
+        gate.countDown();
+        a.get(1, TimeUnit.SECONDS);
+        b.get(1, TimeUnit.SECONDS);
+        awaitCalls(3);
+
+        assertTrue(calls.stream().allMatch(ids -> ids.size() <= 3));
+    }
+
+    @Test
+    void loaderFailureReachesEveryWaiter() {
+        CoalescingLoader<String> loader = new CoalescingLoader<>("test", ids -> {
+            throw new IllegalStateException("database unavailable");
+        }, 100);
+
+        ExecutionException e = assertThrows(ExecutionException.class,
+                () -> loader.load(List.of(1), deadlineIn(5_000)).get(1, TimeUnit.SECONDS));
+        assertInstanceOf(IllegalStateException.class, e.getCause());
+
+        assertEquals(Map.of(), assertDoesNotThrow(() -> loader.load(List.of(), deadlineIn(0)).get()));
+    }
+
+    private void awaitCalls(int count) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(2);
+        while (calls.size() < count && System.nanoTime() < deadline) {
+            Thread.sleep(5);
+        }
+        assertTrue(calls.size() >= count, "expected " + count + " loads, saw " + calls.size());
+    }
+}
@@ -0,0 +1,96 @@
+package com.biblioteca.catalogservice;
+
+import com.biblioteca.catalogservice.service.ExportService;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.security.oauth2.jwt.Jwt;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/*
+ * Streams 500k books (override with -Dbenchmark.export.rows) through the NDJSON export
+ * and checks that heap use stays flat. The benchmark profile runs the tests with -Xmx256m,
+ * so an export that buffered the result set would fail with OutOfMemoryError.
+ * Run with: mvn test -Pbenchmark -Dtest=ExportHeapBenchmark
+ */
+@Tag("benchmark")
+class ExportHeapBenchmark extends AbstractPostgresTest {
+
+    private static final int ROWS = Integer.getInteger("benchmark.export.rows", 500_000);
+    private static final long MAX_HEAP_GROWTH_BYTES = 64L * 1024 * 1024;
+
+    @Autowired
+    private ExportService exportService;
+
+    @BeforeAll
+    static void seed(@Autowired JdbcTemplate jdbcTemplate) {
+        jdbcTemplate.update("""
+                INSERT INTO books (id, title, subtitle, description, page_count)
+                SELECT nextval('books_id_seq'), 'Export Book ' || g, 'Volume ' || (g % 10),
+                       repeat('A long description used to make every exported row a realistic size. ', 4), 100 + g % 900
+                FROM generate_series(1, ?) g
+                """, ROWS);
+    }
+
+    @Test
+    void exportStreamsWithFlatHeap() throws IOException {
+        Jwt jwt = Jwt.withTokenValue("benchmark").header("alg", "none").subject("benchmark").build();
+        NdjsonCountingStream output = new NdjsonCountingStream();
+
+        MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+        System.gc();
+        long heapBefore = memory.getHeapMemoryUsage().getUsed();
+        long start = System.nanoTime();
+
+        exportService.exportBooks(new MockHttpServletRequest(), jwt).writeTo(output);
+
+        long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+        System.gc();
+        long heapGrowth = memory.getHeapMemoryUsage().getUsed() - heapBefore;
+
+        System.out.printf("exported %d rows, %d bytes in %d ms; retained heap growth %d KB, max heap %d MB%n",
+                output.lines, output.bytes, elapsedMillis, heapGrowth / 1024,
+                Runtime.getRuntime().maxMemory() / (1024 * 1024));
+
+        assertTrue(output.lines >= ROWS, "expected at least " + ROWS + " lines, got " + output.lines);
+        assertEquals(0, output.linesNotStartingWithBrace, "every NDJSON line must start with '{'");
+        assertTrue(heapGrowth < MAX_HEAP_GROWTH_BYTES, "heap grew by " + heapGrowth + " bytes");
+    }
+
+    /* Counts lines and checks each one starts a JSON object, without keeping the output. */
+    private static final class NdjsonCountingStream extends OutputStream {
+        private long bytes;
+        private long lines;
+        private long linesNotStartingWithBrace;
+        private boolean atLineStart = true;
+
+        @Override
+        public void write(int b) {
+            bytes++;
+            if (atLineStart && b != '{') {
+                linesNotStartingWithBrace++;
+            }
+            atLineStart = b == '\n';
+            if (atLineStart) {
+                lines++;
+            }
+        }
+
+        @Override
+        public void write(byte[] buffer, int offset, int length) {
+            for (int i = offset; i < offset + length; i++) {
+                write(buffer[i]);
+            }
+        }
+    }
+}
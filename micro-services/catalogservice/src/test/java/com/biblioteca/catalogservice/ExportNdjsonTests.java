@@ -0,0 +1,47 @@
+package com.biblioteca.catalogservice;
+
+import com.biblioteca.catalogservice.service.ExportService;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.security.oauth2.jwt.Jwt;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ExportNdjsonTests extends AbstractPostgresTest {
+
+    @Autowired
+    private ExportService exportService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Test
+    void everyLineIsAStandaloneJsonObject() throws IOException {
+        jdbcTemplate.update("INSERT INTO authors (name) VALUES ('Export Author One'), ('Export Author Two'), ('Export Author Three')");
+        Jwt jwt = Jwt.withTokenValue("test").header("alg", "none").subject("test").build();
+
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        exportService.exportAuthors(new MockHttpServletRequest(), jwt).writeTo(output);
+
+        List<String> lines = output.toString(StandardCharsets.UTF_8).lines().toList();
+        assertTrue(lines.size() >= 3);
+        for (String line : lines) {
+            assertTrue(line.startsWith("{"), "line must not be prefixed: '" + line + "'");
+            JsonNode node = objectMapper.readTree(line);
+            assertFalse(node.path("name").isMissingNode());
+        }
+    }
+}
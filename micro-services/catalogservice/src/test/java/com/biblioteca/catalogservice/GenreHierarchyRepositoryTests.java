@@ -0,0 +1,44 @@
+package com.biblioteca.catalogservice;
+
+import com.biblioteca.catalogservice.repository.GenreHierarchyRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class GenreHierarchyRepositoryTests extends AbstractPostgresTest {
+
+    @Autowired
+    private GenreHierarchyRepository genreHierarchyRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void ancestorCheckReadsCommittedParents() {
+        Integer root = insertGenre("Hierarchy Root", null);
+        Integer child = insertGenre("Hierarchy Child", root);
+        Integer grandchild = insertGenre("Hierarchy Grandchild", child);
+
+        assertTrue(genreHierarchyRepository.isAncestorOrSelf(root, grandchild));
+        assertTrue(genreHierarchyRepository.isAncestorOrSelf(child, child));
+        assertFalse(genreHierarchyRepository.isAncestorOrSelf(grandchild, root));
+    }
+
+    @Test
+    void ancestorCheckTerminatesOnStoredCycles() {
+        Integer first = insertGenre("Hierarchy Cycle A", null);
+        Integer second = insertGenre("Hierarchy Cycle B", first);
+        jdbcTemplate.update("UPDATE genres SET parent_genre_id = ? WHERE id = ?", second, first);
+
+        assertTrue(genreHierarchyRepository.isAncestorOrSelf(first, second));
+        assertFalse(genreHierarchyRepository.isAncestorOrSelf(insertGenre("Hierarchy Outsider", null), second));
+    }
+
+    private Integer insertGenre(String name, Integer parentId) {
+        return jdbcTemplate.queryForObject("INSERT INTO genres (name, parent_genre_id) VALUES (?, ?) RETURNING id",
+                Integer.class, name, parentId);
+    }
+}
@@ -0,0 +1,95 @@
+package com.biblioteca.catalogservice;
+
+import com.biblioteca.catalogservice.util.cache.GenreTree;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GenreTreeTests {
+
+    /*
+     * 1 Fiction
+     *   2 Fantasy
+     *     4 Epic Fantasy
+     *     5 Urban Fantasy
+     *   3 Science Fiction
+     * 6 Non-fiction
+     */
+    private static GenreTree sampleTree() {
+        Map<Integer, Integer> parentById = new HashMap<>();
+        parentById.put(1, null);
+        parentById.put(2, 1);
+        parentById.put(3, 1);
+        parentById.put(4, 2);
+        parentById.put(5, 2);
+        parentById.put(6, null);
+        return GenreTree.of(parentById);
+    }
+
+    @Test
+    void subtreesAreContiguousPreOrderSlices() {
+        GenreTree tree = sampleTree();
+
+        assertEquals(List.of(1, 2, 4, 5, 3), tree.subtreeIds(1));
+        assertEquals(List.of(2, 4, 5), tree.subtreeIds(2));
+        assertEquals(List.of(3), tree.subtreeIds(3));
+        assertEquals(List.of(), tree.subtreeIds(99));
+    }
+
+    @Test
+    void ancestorChecksFollowTheHierarchy() {
+        GenreTree tree = sampleTree();
+
+        assertTrue(tree.isAncestorOrSelf(1, 4));
+        assertTrue(tree.isAncestorOrSelf(2, 2));
+        assertFalse(tree.isAncestorOrSelf(4, 1));
+        assertFalse(tree.isAncestorOrSelf(3, 4));
+        assertFalse(tree.isAncestorOrSelf(6, 4));
+        assertFalse(tree.isAncestorOrSelf(1, 99));
+    }
+
+    @Test
+    void ancestorsChildrenAndRoots() {
+        GenreTree tree = sampleTree();
+
+        assertEquals(List.of(2, 1), tree.ancestorIds(4));
+        assertEquals(List.of(), tree.ancestorIds(6));
+        assertEquals(List.of(2, 3), tree.childrenOf(1));
+        assertEquals(List.of(), tree.childrenOf(4));
+        assertEquals(List.of(1, 6), tree.roots());
+        assertEquals(6, tree.size());
+    }
+
+    @Test
+    void parentOutsideTheSnapshotMakesARoot() {
+        Map<Integer, Integer> parentById = new HashMap<>();
+        parentById.put(1, 42);
+        parentById.put(2, 1);
+
+        GenreTree tree = GenreTree.of(parentById);
+
+        assertEquals(List.of(1), tree.roots());
+        assertEquals(List.of(1, 2), tree.subtreeIds(1));
+    }
+
+    @Test
+    void cyclesAreDetachedAsRootsInsteadOfLooping() {
+        Map<Integer, Integer> parentById = new HashMap<>();
+        parentById.put(1, null);
+        parentById.put(2, 3);
+        parentById.put(3, 2);
+
+        GenreTree tree = GenreTree.of(parentById);
+
+        assertEquals(3, tree.size());
+        assertTrue(tree.contains(2));
+        assertTrue(tree.contains(3));
+        assertEquals(List.of(1, 2), tree.roots());
+        assertEquals(List.of(2, 3), tree.subtreeIds(2));
+        assertEquals(List.of(), tree.ancestorIds(2));
+    }
+}
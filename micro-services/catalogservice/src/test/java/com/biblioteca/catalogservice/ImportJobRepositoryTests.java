@@ -0,0 +1,94 @@
+package com.biblioteca.catalogservice;
+
+import com.biblioteca.catalogservice.dto.bookImport.ImportJobDTO;
+import com.biblioteca.catalogservice.repository.ImportJobRepository;
+import com.biblioteca.catalogservice.util.enums.ImportFormat;
+import com.biblioteca.catalogservice.util.enums.ImportStatus;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ImportJobRepositoryTests extends AbstractPostgresTest {
+
+    @Autowired
+    private ImportJobRepository importJobRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void savedJobsAreReadBackWithProgressAndErrors() {
+        ImportJobDTO job = job(ImportStatus.RUNNING);
+        job.setImported(40);
+        job.setSkipped(5);
+        job.setFailed(2);
+        job.setErrors(List.of("Record 3: bad date", "Record 9: \"quoted\" title"));
+        importJobRepository.save(job);
+
+        job.setImported(90);
+        importJobRepository.save(job);
+
+        ImportJobDTO stored = importJobRepository.findById(job.getJobId()).orElseThrow();
+        assertEquals(ImportStatus.RUNNING, stored.getStatus());
+        assertEquals(97, stored.getProcessed());
+        assertEquals(List.of("Record 3: bad date", "Record 9: \"quoted\" title"), stored.getErrors());
+        assertEquals("tester", stored.getStartedBy());
+    }
+
+    @Test
+    void jobsWithoutHeartbeatAreFailed() {
+        ImportJobDTO live = job(ImportStatus.RUNNING);
+        ImportJobDTO abandoned = job(ImportStatus.QUEUED);
+        importJobRepository.save(live);
+        importJobRepository.save(abandoned);
+        jdbcTemplate.update("UPDATE import_jobs SET heartbeat_at = now() - interval '1 hour' WHERE id = ?", abandoned.getJobId());
+
+        importJobRepository.heartbeat(List.of(live.getJobId()));
+        importJobRepository.failStale(Duration.ofMinutes(5), "interrupted");
+
+        assertEquals(ImportStatus.RUNNING, importJobRepository.findById(live.getJobId()).orElseThrow().getStatus());
+        ImportJobDTO failed = importJobRepository.findById(abandoned.getJobId()).orElseThrow();
+        assertEquals(ImportStatus.FAILED, failed.getStatus());
+        assertEquals(List.of("interrupted"), failed.getErrors());
+        assertNotNull(failed.getFinishedAt());
+    }
+
+    @Test
+    void onlyTheNewestFinishedJobsAreRetained() {
+        jdbcTemplate.update("DELETE FROM import_jobs");
+        for (int i = 0; i < 5; i++) {
+            ImportJobDTO job = job(ImportStatus.COMPLETED);
+            job.setCreatedAt(LocalDateTime.now().minusMinutes(10 - i));
+            importJobRepository.save(job);
+        }
+        ImportJobDTO running = job(ImportStatus.RUNNING);
+        running.setCreatedAt(LocalDateTime.now().minusDays(1));
+        importJobRepository.save(running);
+
+        importJobRepository.deleteOldFinished(2);
+
+        List<ImportJobDTO> remaining = importJobRepository.findRecent(10);
+        assertEquals(3, remaining.size());
+        assertTrue(remaining.stream().anyMatch(job -> job.getJobId().equals(running.getJobId())));
+    }
+
+    private static ImportJobDTO job(ImportStatus status) {
+        return ImportJobDTO.builder()
+                .jobId(UUID.randomUUID().toString())
+                .fileName("books.csv")
+                .format(ImportFormat.CSV)
+                .status(status)
+                .errors(List.of())
+                .startedBy("tester")
+                .createdAt(LocalDateTime.now())
+                .startedAt(status == ImportStatus.QUEUED ? null : LocalDateTime.now())
+                .build();
+    }
+}
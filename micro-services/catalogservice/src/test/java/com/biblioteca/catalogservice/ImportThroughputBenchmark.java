@@ -0,0 +1,74 @@
+package com.biblioteca.catalogservice;
+
+import com.biblioteca.catalogservice.dto.bookImport.ImportJobDTO;
+import com.biblioteca.catalogservice.service.BookImportService;
+import com.biblioteca.catalogservice.util.enums.ImportFormat;
+import com.biblioteca.catalogservice.util.enums.ImportStatus;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.security.oauth2.jwt.Jwt;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/*
+ * Imports a generated CSV of 100k books (override with -Dbenchmark.import.rows) with
+ * shared authors, genres, series and publishers, and reports rows per second.
+ * Run with: mvn test -Pbenchmark -Dtest=ImportThroughputBenchmark
+ */
+@Tag("benchmark")
+class ImportThroughputBenchmark extends AbstractPostgresTest {
+
+    private static final int ROWS = Integer.getInteger("benchmark.import.rows", 100_000);
+    private static final Duration TIMEOUT = Duration.ofMinutes(30);
+
+    @Autowired
+    private BookImportService bookImportService;
+
+    @Test
+    void csvImportThroughput() throws InterruptedException {
+        Jwt jwt = Jwt.withTokenValue("benchmark").header("alg", "none").subject("benchmark").build();
+        MockMultipartFile file = new MockMultipartFile("file", "benchmark.csv", "text/csv", csv(ROWS));
+
+        long start = System.nanoTime();
+        ImportJobDTO job = bookImportService.startImport(file, ImportFormat.CSV, new MockHttpServletRequest(), jwt);
+
+        while (job.getStatus() == ImportStatus.QUEUED || job.getStatus() == ImportStatus.RUNNING) {
+            assertTrue(System.nanoTime() - start < TIMEOUT.toNanos(), "import did not finish in " + TIMEOUT);
+            Thread.sleep(250);
+            job = bookImportService.getImportJob(job.getJobId(), new MockHttpServletRequest(), jwt);
+        }
+        long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+
+        System.out.printf("imported %d of %d rows in %d ms: %.1f rows/sec end to end, %.1f rows/sec reported%n",
+                job.getImported(), ROWS, elapsedMillis, ROWS * 1000.0 / elapsedMillis, job.getRowsPerSecond());
+
+        assertEquals(ImportStatus.COMPLETED, job.getStatus(), String.valueOf(job.getErrors()));
+        assertEquals(ROWS, job.getImported());
+    }
+
+    private static byte[] csv(int rows) {
+        StringBuilder csv = new StringBuilder(rows * 160);
+        csv.append("title,subtitle,publication_date,page_count,authors,genres,series,series_position,isbn,publisher,format\n");
+        for (int i = 1; i <= rows; i++) {
+            csv.append("Imported Book ").append(i).append(',')
+                    .append("Volume ").append(i % 12 + 1).append(',')
+                    .append(1950 + i % 70).append("-01-01,")
+                    .append(100 + i % 700).append(',')
+                    .append("Import Author ").append(i % 5000).append(";Import Author ").append((i + 1) % 5000).append(',')
+                    .append("Import Genre ").append(i % 50).append(',')
+                    .append("Import Series ").append(i % 2000).append(',')
+                    .append(i % 12 + 1).append(',')
+                    .append(String.format("978%010d", i)).append(',')
+                    .append("Import Publisher ").append(i % 200).append(',')
+                    .append("PAPERBACK\n");
+        }
+        return csv.toString().getBytes(StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,50 @@
+package com.biblioteca.catalogservice;
+
+import java.util.Arrays;
+
+/*
+ * Wall-clock latencies of one benchmark scenario, in milliseconds.
+ */
+final class LatencySample {
+    private final String name;
+    private final double[] millis;
+
+    private LatencySample(String name, double[] millis) {
+        this.name = name;
+        this.millis = millis;
+        Arrays.sort(this.millis);
+    }
+
+    static LatencySample measure(String name, int warmup, int iterations, Runnable action) {
+        for (int i = 0; i < warmup; i++) {
+            action.run();
+        }
+
+        double[] millis = new double[iterations];
+        for (int i = 0; i < iterations; i++) {
+            long start = System.nanoTime();
+            action.run();
+            millis[i] = (System.nanoTime() - start) / 1_000_000.0;
+        }
+        return new LatencySample(name, millis);
+    }
+
+    double percentile(double p) {
+        int index = (int) Math.ceil(p * millis.length) - 1;
+        return millis[Math.max(0, Math.min(index, millis.length - 1))];
+    }
+
+    double p50() {
+        return percentile(0.50);
+    }
+
+    double p95() {
+        return percentile(0.95);
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%s: n=%d p50=%.2fms p95=%.2fms p99=%.2fms max=%.2fms",
+                name, millis.length, p50(), p95(), percentile(0.99), millis[millis.length - 1]);
+    }
+}
@@ -0,0 +1,155 @@
+package com.biblioteca.catalogservice;
+
+import com.biblioteca.catalogservice.config.LookupConfig;
+import com.biblioteca.catalogservice.dto.lookup.LookupItemDTO;
+import com.biblioteca.catalogservice.dto.lookup.LookupRequestDTO;
+import com.biblioteca.catalogservice.dto.lookup.LookupResponseDTO;
+import com.biblioteca.catalogservice.lookup.CatalogLookupLoader;
+import com.biblioteca.catalogservice.service.impl.LookupServiceImpl;
+import com.biblioteca.catalogservice.util.exception.CustomException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.security.oauth2.jwt.Jwt;
+
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LookupServiceImplTests {
+
+    private static final Jwt JWT = Jwt.withTokenValue("token").header("alg", "none").subject("tester").build();
+
+    private final ThreadPoolTaskExecutor executor = new LookupConfig().catalogLookupExecutor(4, 10);
+
+    @AfterEach
+    void shutdown() {
+        executor.shutdown();
+    }
+
+    @Test
+    void theFourTypesAreLoadedConcurrently() {
+        StubLoader loader = new StubLoader(300);
+        LookupServiceImpl service = new LookupServiceImpl(loader, executor, 1000, 2000);
+
+        long started = System.nanoTime();
+        LookupResponseDTO response = service.lookup(everyType(), null, JWT);
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started);
+
+        assertTrue(elapsedMillis < 900, "took " + elapsedMillis + " ms for four 300 ms loads");
+        assertEquals(List.of(3, 1, 2), ids(response.getAuthors()));
+        assertEquals(List.of(4), ids(response.getGenres()));
+        assertEquals(List.of(5), ids(response.getSeries()));
+        assertEquals(List.of(6), ids(response.getPublishers()));
+    }
+
+    @Test
+    void loadsRunOffTheRequestThread() {
+        StubLoader loader = new StubLoader(0);
+        LookupServiceImpl service = new LookupServiceImpl(loader, executor, 1000, 2000);
+
+        service.lookup(everyType(), null, JWT);
+
+        assertEquals(4, loader.threads.size());
+        assertFalse(loader.threads.contains(Thread.currentThread().getName()));
+    }
+
+    @Test
+    void typesWithoutIdsAreNotLoaded() {
+        StubLoader loader = new StubLoader(0);
+        LookupServiceImpl service = new LookupServiceImpl(loader, executor, 1000, 2000);
+
+        LookupResponseDTO response = service.lookup(LookupRequestDTO.builder().authorIds(List.of(1)).build(), null, JWT);
+
+        assertEquals(1, loader.threads.size());
+        assertTrue(response.getGenres().isEmpty());
+    }
+
+    @Test
+    void lookupSlowerThanTheTimeoutFailsWithServiceUnavailable() {
+        StubLoader loader = new StubLoader(2000);
+        LookupServiceImpl service = new LookupServiceImpl(loader, executor, 1000, 100);
+
+        long started = System.nanoTime();
+        CustomException e = assertThrows(CustomException.class, () -> service.lookup(everyType(), null, JWT));
+
+        assertEquals(503, e.getCode());
+        assertTrue(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started) < 1000);
+    }
+
+    @Test
+    void failedLoadIsReportedAsServerError() {
+        StubLoader loader = new StubLoader(0) {
+            @Override
+            public CompletableFuture<Map<Integer, LookupItemDTO>> loadGenres(Set<Integer> ids, long deadlineNanos) {
+                return CompletableFuture.failedFuture(new IllegalStateException("database down"));
+            }
+        };
+        LookupServiceImpl service = new LookupServiceImpl(loader, executor, 1000, 2000);
+
+        CustomException e = assertThrows(CustomException.class, () -> service.lookup(everyType(), null, JWT));
+
+        assertEquals(500, e.getCode());
+    }
+
+    private static LookupRequestDTO everyType() {
+        return LookupRequestDTO.builder()
+                .authorIds(List.of(3, 1, 2, 3))
+                .genreIds(List.of(4))
+                .seriesIds(List.of(5))
+                .publisherIds(List.of(6))
+                .build();
+    }
+
+    private static List<Integer> ids(List<LookupItemDTO> items) {
+        return items.stream().map(LookupItemDTO::getId).toList();
+    }
+
+    /* Answers every id after a fixed delay on whichever thread calls it, as a batch leader would. */
+    private static class StubLoader extends CatalogLookupLoader {
+        private final long delayMillis;
+        private final List<String> threads = Collections.synchronizedList(new ArrayList<>());
+
+        StubLoader(long delayMillis) {
+            super(null, null, 2000, 1000);
+            this.delayMillis = delayMillis;
+        }
+
+        @Override
+        public CompletableFuture<Map<Integer, LookupItemDTO>> loadAuthors(Set<Integer> ids, long deadlineNanos) {
+            return load(ids);
+        }
+
+        @Override
+        public CompletableFuture<Map<Integer, LookupItemDTO>> loadGenres(Set<Integer> ids, long deadlineNanos) {
+            return load(ids);
+        }
+
+        @Override
+        public CompletableFuture<Map<Integer, LookupItemDTO>> loadSeries(Set<Integer> ids, long deadlineNanos) {
+            return load(ids);
+        }
+
+        @Override
+        public CompletableFuture<Map<Integer, LookupItemDTO>> loadPublishers(Set<Integer> ids, long deadlineNanos) {
+            return load(ids);
+        }
+
+        private CompletableFuture<Map<Integer, LookupItemDTO>> load(Set<Integer> ids) {
+            threads.add(Thread.currentThread().getName());
+            try {
+                Thread.sleep(delayMillis);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+
+            Map<Integer, LookupItemDTO> items = new HashMap<>();
+            for (Integer id : ids) {
+                items.put(id, LookupItemDTO.builder().id(id).name("item-" + id).build());
+            }
+            return CompletableFuture.completedFuture(items);
+        }
+    }
+}
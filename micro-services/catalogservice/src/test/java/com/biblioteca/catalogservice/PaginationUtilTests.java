@@ -0,0 +1,98 @@
+package com.biblioteca.catalogservice;
+
+import com.biblioteca.catalogservice.dto.pagination.CursorPageDTO;
+import com.biblioteca.catalogservice.dto.pagination.CursorPageRequestDTO;
+import com.biblioteca.catalogservice.dto.pagination.PaginationUtil;
+import com.biblioteca.catalogservice.repository.KeysetRepository;
+import com.biblioteca.catalogservice.util.exception.CustomException;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Limit;
+
+import java.util.Base64;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.Function;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PaginationUtilTests {
+
+    private static final List<Integer> IDS = IntStream.rangeClosed(1, 25).boxed().toList();
+
+    private final KeysetRepository<Integer> repository = new KeysetRepository<>() {
+        @Override
+        public List<Integer> findAllByOrderByIdDesc(Limit limit) {
+            return IDS.stream().sorted(Comparator.reverseOrder()).limit(limit.max()).toList();
+        }
+
+        @Override
+        public List<Integer> findByIdLessThanOrderByIdDesc(Integer id, Limit limit) {
+            return IDS.stream().filter(i -> i < id).sorted(Comparator.reverseOrder()).limit(limit.max()).toList();
+        }
+
+        @Override
+        public List<Integer> findByIdGreaterThanOrderByIdAsc(Integer id, Limit limit) {
+            return IDS.stream().filter(i -> i > id).sorted().limit(limit.max()).toList();
+        }
+    };
+
+    @Test
+    void cursorRoundTrips() {
+        assertEquals(42, PaginationUtil.decodeCursor(PaginationUtil.encodeCursor(42)));
+    }
+
+    @Test
+    void malformedCursorIsBadRequest() {
+        CustomException e = assertThrows(CustomException.class, () -> PaginationUtil.decodeCursor("not a cursor"));
+        assertEquals(400, e.getCode());
+
+        String foreign = Base64.getUrlEncoder().encodeToString("offset:10".getBytes());
+        assertThrows(CustomException.class, () -> PaginationUtil.decodeCursor(foreign));
+    }
+
+    @Test
+    void firstPageHasNextButNoPrevious() {
+        CursorPageDTO<Integer> page = page(null, null, 10);
+
+        assertEquals(List.of(25, 24, 23, 22, 21, 20, 19, 18, 17, 16), page.getContent());
+        assertTrue(page.isHasNext());
+        assertFalse(page.isHasPrevious());
+        assertEquals(16, PaginationUtil.decodeCursor(page.getNextCursor()));
+        assertNull(page.getPreviousCursor());
+    }
+
+    @Test
+    void walkingForwardVisitsEveryRowOnce() {
+        CursorPageDTO<Integer> first = page(null, null, 10);
+        CursorPageDTO<Integer> second = page(first.getNextCursor(), null, 10);
+        CursorPageDTO<Integer> last = page(second.getNextCursor(), null, 10);
+
+        assertEquals(List.of(15, 14, 13, 12, 11, 10, 9, 8, 7, 6), second.getContent());
+        assertTrue(second.isHasPrevious());
+        assertEquals(List.of(5, 4, 3, 2, 1), last.getContent());
+        assertFalse(last.isHasNext());
+        assertNull(last.getNextCursor());
+    }
+
+    @Test
+    void walkingBackwardReturnsThePreviousPageInDescendingOrder() {
+        CursorPageDTO<Integer> second = page(page(null, null, 10).getNextCursor(), null, 10);
+        CursorPageDTO<Integer> back = page(null, second.getPreviousCursor(), 10);
+
+        assertEquals(List.of(25, 24, 23, 22, 21, 20, 19, 18, 17, 16), back.getContent());
+        assertFalse(back.isHasPrevious());
+        assertTrue(back.isHasNext());
+    }
+
+    @Test
+    void pageSizeIsClamped() {
+        assertEquals(1, page(null, null, 0).getSize());
+        assertEquals(100, page(null, null, 10_000).getSize());
+    }
+
+    private CursorPageDTO<Integer> page(String after, String before, int size) {
+        return PaginationUtil.getCursorPage(repository, new CursorPageRequestDTO(after, before, size),
+                Function.identity(), Function.identity());
+    }
+}
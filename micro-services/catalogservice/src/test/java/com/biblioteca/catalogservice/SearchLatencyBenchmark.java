@@ -0,0 +1,72 @@
+package com.biblioteca.catalogservice;
+
+import com.biblioteca.catalogservice.repository.SearchRepository;
+import com.biblioteca.catalogservice.util.enums.SearchType;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/*
+ * Search latency over a generated catalog of one million books (override with
+ * -Dbenchmark.books). Run with: mvn test -Pbenchmark -Dtest=SearchLatencyBenchmark
+ */
+@Tag("benchmark")
+class SearchLatencyBenchmark extends AbstractPostgresTest {
+
+    private static final int BOOKS = Integer.getInteger("benchmark.books", 1_000_000);
+    private static final double MAX_P95_MILLIS = Double.parseDouble(System.getProperty("benchmark.search.max-p95-ms", "1000"));
+
+    private static final List<String> QUERIES = List.of(
+            "dragon", "silent empire", "crown of ash", "tolkien", "\"winter storm\"", "-river forest", "ninth");
+
+    @Autowired
+    private SearchRepository searchRepository;
+
+    @BeforeAll
+    static void seed(@Autowired JdbcTemplate jdbcTemplate) {
+        jdbcTemplate.update("""
+                INSERT INTO books (id, title, subtitle, description)
+                SELECT nextval('books_id_seq'),
+                       initcap(w[g % 16 + 1] || ' of the ' || w[(g / 16) % 16 + 1]) || ' ' || g,
+                       'Book ' || (g % 12 + 1) || ' of the ' || w[(g / 256) % 16 + 1] || ' cycle',
+                       'A story of ' || w[g % 16 + 1] || ', ' || w[(g / 16) % 16 + 1] || ' and '
+                           || w[(g / 256) % 16 + 1] || ' told across ' || (g % 40) || ' chapters.'
+                FROM generate_series(1, ?) g,
+                     (SELECT ARRAY['dragon', 'empire', 'silent', 'crown', 'ash', 'winter', 'storm', 'river',
+                                   'forest', 'ninth', 'glass', 'iron', 'shadow', 'harbor', 'garden', 'ember'] AS w) words
+                """, BOOKS);
+        jdbcTemplate.update("""
+                INSERT INTO authors (name)
+                SELECT 'Author ' || g FROM generate_series(1, ?) g
+                """, BOOKS / 100);
+        jdbcTemplate.update("INSERT INTO authors (name) VALUES ('J. R. R. Tolkien')");
+        jdbcTemplate.update("""
+                INSERT INTO book_authors (book_id, author_id)
+                SELECT b.id, a.id
+                FROM books b
+                JOIN authors a ON a.name = 'Author ' || (b.id % ? + 1)
+                """, BOOKS / 100);
+        jdbcTemplate.execute("ANALYZE");
+    }
+
+    @Test
+    void rankedSearchLatencyAtScale() {
+        for (String query : QUERIES) {
+            LatencySample mixed = LatencySample.measure("search '" + query + "' all types", 5, 50,
+                    () -> searchRepository.search(query, null, 10, 0));
+            LatencySample books = LatencySample.measure("search '" + query + "' books page 5", 5, 50,
+                    () -> searchRepository.search(query, SearchType.BOOK, 10, 40));
+
+            System.out.println(mixed);
+            System.out.println(books);
+
+            assertTrue(mixed.p95() < MAX_P95_MILLIS, mixed.toString());
+        }
+    }
+}
@@ -0,0 +1,91 @@
+package com.biblioteca.catalogservice;
+
+import com.biblioteca.catalogservice.dto.search.SearchDTO;
+import com.biblioteca.catalogservice.repository.SearchRepository;
+import com.biblioteca.catalogservice.util.enums.SearchType;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SearchRepositoryTests extends AbstractPostgresTest {
+
+    @Autowired
+    private SearchRepository searchRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeAll
+    static void seed(@Autowired JdbcTemplate jdbcTemplate) {
+        for (int i = 1; i <= 7; i++) {
+            jdbcTemplate.update("INSERT INTO books (id, title) VALUES (nextval('books_id_seq'), ?)",
+                    "Quillarion Chronicle " + i);
+        }
+        jdbcTemplate.update("INSERT INTO books (id, title) VALUES (nextval('books_id_seq'), 'The Marrowgate Lighthouse')");
+    }
+
+    @Test
+    void pageCarriesTheTotalOfDistinctHits() {
+        SearchRepository.SearchPage first = searchRepository.search("quillarion", SearchType.BOOK, 3, 0);
+        SearchRepository.SearchPage last = searchRepository.search("quillarion", SearchType.BOOK, 3, 6);
+
+        assertEquals(3, first.hits().size());
+        assertEquals(7, first.total());
+        assertEquals(1, last.hits().size());
+        assertEquals(7, last.total());
+    }
+
+    @Test
+    void pagePastTheEndStillReportsTheTotal() {
+        SearchRepository.SearchPage page = searchRepository.search("quillarion", SearchType.BOOK, 3, 30);
+
+        assertTrue(page.hits().isEmpty());
+        assertEquals(7, page.total());
+    }
+
+    @Test
+    void misspelledTitleIsFoundThroughTrigrams() {
+        List<SearchDTO> hits = searchRepository.search("Marowgate Lighthose", SearchType.BOOK, 10, 0).hits();
+
+        assertEquals(1, hits.size());
+        assertEquals("The Marrowgate Lighthouse", hits.get(0).getTitle());
+        assertTrue(hits.get(0).getRank() <= 0.5);
+    }
+
+    @Test
+    void fullTextMatchIsNotCountedTwiceWhenTheTitleAlsoMatchesFuzzily() {
+        SearchRepository.SearchPage page = searchRepository.search("Marrowgate Lighthouse", SearchType.BOOK, 10, 0);
+
+        assertEquals(1, page.total());
+        assertEquals(1, page.hits().size());
+    }
+
+    @Test
+    void trigramIndexServesTheFuzzyTitleBranch() {
+        List<String> plan = jdbcTemplate.execute((ConnectionCallback<List<String>>) connection -> {
+            try (Statement statement = connection.createStatement()) {
+                statement.execute("SET enable_seqscan = off");
+                List<String> lines = new ArrayList<>();
+                try (ResultSet rs = statement.executeQuery("EXPLAIN SELECT id FROM books WHERE title % 'Marowgate Lighthose'")) {
+                    while (rs.next()) {
+                        lines.add(rs.getString(1));
+                    }
+                }
+                statement.execute("RESET enable_seqscan");
+                return lines;
+            }
+        });
+
+        assertTrue(plan.stream().anyMatch(line -> line.contains("idx_books_title_trgm")), String.join("\n", plan));
+    }
+}
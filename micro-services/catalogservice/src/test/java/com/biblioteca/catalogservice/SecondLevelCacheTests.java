@@ -0,0 +1,170 @@
+package com.biblioteca.catalogservice;
+
+import com.biblioteca.catalogservice.entity.Author;
+import com.biblioteca.catalogservice.entity.Genre;
+import com.biblioteca.catalogservice.entity.Series;
+import com.biblioteca.catalogservice.entity.SeriesAuthor;
+import com.biblioteca.catalogservice.repository.ReferenceEntityRepository;
+import com.biblioteca.catalogservice.util.cache.CacheRegions;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.PersistenceContext;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/* Reference entities come from the second-level cache and writes keep their regions current. */
+@TestPropertySource(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+class SecondLevelCacheTests extends AbstractPostgresTest {
+
+    private static final String SERIES_AUTHORS_ROLE = Series.class.getName() + ".seriesAuthors";
+
+    @Autowired
+    private ReferenceEntityRepository referenceEntityRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private Statistics statistics;
+    private org.hibernate.Cache cache;
+
+    @BeforeEach
+    void setUp() {
+        SessionFactory sessionFactory = entityManagerFactory.unwrap(SessionFactory.class);
+        statistics = sessionFactory.getStatistics();
+        cache = sessionFactory.getCache();
+        cache.evictAll();
+        statistics.clear();
+    }
+
+    @Test
+    void referenceLookupsAfterTheFirstAreServedFromTheCache() {
+        List<Integer> ids = List.of(author("Cache Author One"), author("Cache Author Two"));
+
+        List<Author> first = transactionTemplate.execute(status -> referenceEntityRepository.findAllById(Author.class, ids));
+        long statementsAfterFirst = statistics.getPrepareStatementCount();
+        List<Author> second = transactionTemplate.execute(status -> referenceEntityRepository.findAllById(Author.class, ids));
+
+        assertEquals(2, first.size());
+        assertEquals(2, second.size());
+        assertEquals(1, statementsAfterFirst);
+        assertEquals(statementsAfterFirst, statistics.getPrepareStatementCount());
+        assertEquals(2, statistics.getDomainDataRegionStatistics(CacheRegions.AUTHOR).getHitCount());
+    }
+
+    @Test
+    void onlyMissingIdsAreQueried() {
+        Integer cached = author("Cache Author Warm");
+        Integer missing = author("Cache Author Cold");
+        transactionTemplate.execute(status -> referenceEntityRepository.findAllById(Author.class, List.of(cached)));
+        statistics.clear();
+
+        List<Author> authors = transactionTemplate.execute(status ->
+                referenceEntityRepository.findAllById(Author.class, List.of(cached, missing)));
+
+        assertEquals(2, authors.size());
+        assertEquals(1, statistics.getDomainDataRegionStatistics(CacheRegions.AUTHOR).getHitCount());
+        assertEquals(1, statistics.getDomainDataRegionStatistics(CacheRegions.AUTHOR).getMissCount());
+    }
+
+    @Test
+    void updatedAuthorIsReadBackFromTheCacheWithTheNewValue() {
+        Integer id = author("Cache Author Before");
+        transactionTemplate.execute(status -> referenceEntityRepository.findAllById(Author.class, List.of(id)));
+
+        transactionTemplate.executeWithoutResult(status -> entityManager.find(Author.class, id).setName("Cache Author After"));
+        statistics.clear();
+        Author reread = transactionTemplate.execute(status -> referenceEntityRepository.findAllById(Author.class, List.of(id)).get(0));
+
+        assertEquals("Cache Author After", reread.getName());
+        assertEquals(0, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void deletedAuthorLeavesItsRegion() {
+        Integer id = author("Cache Author Deleted");
+        transactionTemplate.execute(status -> referenceEntityRepository.findAllById(Author.class, List.of(id)));
+        assertTrue(cache.containsEntity(Author.class, id));
+
+        transactionTemplate.executeWithoutResult(status -> entityManager.remove(entityManager.find(Author.class, id)));
+
+        assertFalse(cache.containsEntity(Author.class, id));
+    }
+
+    @Test
+    void newSeriesAuthorEvictsOnlyThatSeriesAuthorCollection() {
+        Integer seriesId = series("Cache Series Changed");
+        Integer otherSeriesId = series("Cache Series Untouched");
+        Integer authorId = author("Cache Series Author");
+        transactionTemplate.executeWithoutResult(status -> {
+            entityManager.find(Series.class, seriesId).getSeriesAuthors().size();
+            entityManager.find(Series.class, otherSeriesId).getSeriesAuthors().size();
+        });
+        assertTrue(cache.containsCollection(SERIES_AUTHORS_ROLE, seriesId));
+
+        transactionTemplate.executeWithoutResult(status -> entityManager.persist(SeriesAuthor.builder()
+                .series(entityManager.getReference(Series.class, seriesId))
+                .author(entityManager.getReference(Author.class, authorId))
+                .role("Author")
+                .build()));
+
+        assertFalse(cache.containsCollection(SERIES_AUTHORS_ROLE, seriesId));
+        assertTrue(cache.containsCollection(SERIES_AUTHORS_ROLE, otherSeriesId));
+        assertTrue(cache.containsEntity(Series.class, seriesId));
+        int authors = transactionTemplate.execute(status -> entityManager.find(Series.class, seriesId).getSeriesAuthors().size());
+        assertEquals(1, authors);
+    }
+
+    @Test
+    void genreRegionIsNotTouchedByAuthorWrites() {
+        Integer genreId = jdbcTemplate.queryForObject(
+                "INSERT INTO genres (name) VALUES ('Cache Genre') RETURNING id", Integer.class);
+        Integer authorId = author("Cache Author Unrelated");
+        transactionTemplate.execute(status -> referenceEntityRepository.findAllById(Genre.class, List.of(genreId)));
+
+        transactionTemplate.executeWithoutResult(status -> entityManager.find(Author.class, authorId).setName("Cache Author Renamed"));
+
+        assertTrue(cache.containsEntity(Genre.class, genreId));
+    }
+
+    @Test
+    void everyRegionIsBoundToMicrometer() {
+        for (String region : CacheRegions.ALL) {
+            assertNotNull(meterRegistry.find("cache.gets").tag("cache", region).tag("cacheManager", "hibernate").meter(),
+                    "no cache metrics for " + region);
+        }
+    }
+
+    private Integer author(String name) {
+        return jdbcTemplate.queryForObject("INSERT INTO authors (name) VALUES (?) RETURNING id", Integer.class, name);
+    }
+
+    private Integer series(String name) {
+        return jdbcTemplate.queryForObject("INSERT INTO series (name) VALUES (?) RETURNING id", Integer.class, name);
+    }
+}
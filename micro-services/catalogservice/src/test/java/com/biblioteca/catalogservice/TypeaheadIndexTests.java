@@ -0,0 +1,142 @@
+package com.biblioteca.catalogservice;
+
+import com.biblioteca.catalogservice.search.TypeaheadIndex;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TypeaheadIndexTests {
+
+    private record Item(Integer id, String name) {
+    }
+
+    private static TypeaheadIndex<Item> index(long maxBytes) {
+        return new TypeaheadIndex<>(Item::id, Item::name, item -> 0, maxBytes);
+    }
+
+    private static List<String> names(Optional<List<Item>> results) {
+        return results.orElseThrow().stream().map(Item::name).toList();
+    }
+
+    @Test
+    void unavailableUntilBuilt() {
+        TypeaheadIndex<Item> index = index(1_000_000);
+
+        assertTrue(index.search("tolkien", 10).isEmpty());
+
+        index.rebuild(() -> List.of(new Item(1, "J. R. R. Tolkien")));
+        assertTrue(index.isAvailable());
+    }
+
+    @Test
+    void substringQueriesPreferPrefixMatches() {
+        TypeaheadIndex<Item> index = index(1_000_000);
+        index.rebuild(() -> List.of(
+                new Item(1, "The Stormlight Archive"),
+                new Item(2, "Stormbringer"),
+                new Item(3, "Mistborn")));
+
+        assertEquals(List.of("Stormbringer", "The Stormlight Archive"), names(index.search("STORM", 10)));
+        assertEquals(List.of("Mistborn"), names(index.search("stb", 10)));
+        assertEquals(List.of(), names(index.search("dune", 10)));
+        assertEquals(1, index.search("storm", 1).orElseThrow().size());
+    }
+
+    @Test
+    void shortQueriesMatchWordStartsWithoutScanning() {
+        TypeaheadIndex<Item> index = index(1_000_000);
+        index.rebuild(() -> List.of(
+                new Item(1, "Robin Hobb"),
+                new Item(2, "Brandon Sanderson"),
+                new Item(3, "Ursula K. Le Guin")));
+
+        assertEquals(List.of("Robin Hobb"), names(index.search("ho", 10)));
+        assertEquals(List.of("Ursula K. Le Guin"), names(index.search("k", 10)));
+        assertEquals(List.of("Brandon Sanderson"), names(index.search("b", 10)));
+        assertEquals(List.of(), names(index.search("an", 10)));
+    }
+
+    @Test
+    void putAndRemoveKeepPostingsInStep() {
+        TypeaheadIndex<Item> index = index(1_000_000);
+        index.rebuild(List::of);
+
+        index.put(new Item(1, "Earthsea"));
+        assertEquals(List.of("Earthsea"), names(index.search("earth", 10)));
+
+        index.put(new Item(1, "Tehanu"));
+        assertEquals(List.of(), names(index.search("earth", 10)));
+        assertEquals(List.of("Tehanu"), names(index.search("tehanu", 10)));
+
+        index.remove(1);
+        assertEquals(List.of(), names(index.search("te", 10)));
+        assertEquals(0, index.gramCount());
+        assertEquals(0, index.estimatedBytes());
+    }
+
+    @Test
+    void exceedingTheByteBoundDisablesAndARebuildReEnables() {
+        TypeaheadIndex<Item> index = index(1_000);
+        index.rebuild(() -> List.of(new Item(1, "Dune")));
+        assertTrue(index.isAvailable());
+
+        for (int id = 2; id < 50 && index.isAvailable(); id++) {
+            index.put(new Item(id, "A long enough series name number " + id));
+        }
+        assertFalse(index.isAvailable());
+        assertEquals(0, index.size());
+
+        index.rebuild(() -> List.of(new Item(1, "Dune")));
+        assertTrue(index.isAvailable());
+        assertEquals(List.of("Dune"), names(index.search("dune", 10)));
+    }
+
+    @Test
+    void oversizedSnapshotLeavesIndexUnavailable() {
+        TypeaheadIndex<Item> index = new TypeaheadIndex<>(Item::id, Item::name, item -> 10_000, 50_000);
+
+        index.rebuild(() -> List.of(new Item(1, "a"), new Item(2, "b"), new Item(3, "c"),
+                new Item(4, "d"), new Item(5, "e"), new Item(6, "f")));
+
+        assertFalse(index.isAvailable());
+    }
+
+    @Test
+    void changesDuringRebuildAreNotLost() {
+        TypeaheadIndex<Item> index = index(1_000_000);
+        index.rebuild(() -> List.of(new Item(1, "Gormenghast"), new Item(2, "Titus Groan")));
+
+        index.rebuild(() -> {
+            /* Committed after the loader's snapshot was read. */
+            index.put(new Item(3, "Titus Alone"));
+            index.put(new Item(1, "Gormenghast Castle"));
+            index.remove(2);
+            return List.of(new Item(1, "Gormenghast"), new Item(2, "Titus Groan"));
+        });
+
+        assertEquals(List.of("Titus Alone"), names(index.search("titus", 10)));
+        assertEquals(List.of("Gormenghast Castle"), names(index.search("gormenghast", 10)));
+    }
+
+    @Test
+    void failedLoadDisablesAndPropagates() {
+        TypeaheadIndex<Item> index = index(1_000_000);
+        index.rebuild(() -> List.of(new Item(1, "Dune")));
+
+        assertThrows(IllegalStateException.class, () -> index.rebuild(() -> {
+            throw new IllegalStateException("database unavailable");
+        }));
+        assertFalse(index.isAvailable());
+    }
+
+    @Test
+    void idsMatchingFiltersIndexedValues() {
+        TypeaheadIndex<Item> index = index(1_000_000);
+        index.rebuild(() -> List.of(new Item(1, "Dune"), new Item(2, "Dune Messiah"), new Item(3, "Hyperion")));
+
+        assertEquals(List.of(1, 2), index.idsMatching(item -> item.name().startsWith("Dune")).stream().sorted().toList());
+    }
+}
@@ -0,0 +1,50 @@
+package com.biblioteca.gatewayclaims;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.autoconfigure.security.oauth2.resource.OAuth2ResourceServerProperties;
+import org.springframework.boot.autoconfigure.security.oauth2.resource.servlet.OAuth2ResourceServerAutoConfiguration;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.security.oauth2.core.OAuth2TokenValidator;
+import org.springframework.security.oauth2.jwt.*;
+
+/*
+ * Replaces Spring Boot's resource server JwtDecoder in servlet services behind apigateway.
+ * Adding the dependency is enough; gateway.claims.secret is required and startup fails
+ * without it.
+ */
+@AutoConfiguration(before = OAuth2ResourceServerAutoConfiguration.class)
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+@ConditionalOnClass(NimbusJwtDecoder.class)
+@EnableConfigurationProperties(OAuth2ResourceServerProperties.class)
+public class GatewayClaimsAutoConfiguration {
+
+    /*
+     * Trusts claims already verified by apigateway (see GatewayClaimsJwtDecoder) and verifies
+     * the RSA signature itself only for requests that did not come through the gateway.
+     */
+    @Bean
+    @ConditionalOnMissingBean(JwtDecoder.class)
+    public JwtDecoder jwtDecoder(OAuth2ResourceServerProperties properties,
+                                 @Value("${gateway.claims.secret}") String gatewayClaimsSecret) {
+        OAuth2ResourceServerProperties.Jwt jwt = properties.getJwt();
+        OAuth2TokenValidator<Jwt> validator = jwt.getIssuerUri() != null
+                ? JwtValidators.createDefaultWithIssuer(jwt.getIssuerUri())
+                : JwtValidators.createDefault();
+
+        JwtDecoder delegate;
+        if (jwt.getJwkSetUri() != null) {
+            NimbusJwtDecoder nimbusJwtDecoder = NimbusJwtDecoder.withJwkSetUri(jwt.getJwkSetUri()).build();
+            nimbusJwtDecoder.setJwtValidator(validator);
+            delegate = nimbusJwtDecoder;
+        } else {
+            delegate = new SupplierJwtDecoder(() -> JwtDecoders.fromIssuerLocation(jwt.getIssuerUri()));
+        }
+
+        return new GatewayClaimsJwtDecoder(delegate, validator, gatewayClaimsSecret);
+    }
+}
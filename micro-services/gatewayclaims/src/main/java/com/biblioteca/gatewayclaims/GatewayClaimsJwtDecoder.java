@@ -0,0 +1,126 @@
+package com.biblioteca.gatewayclaims;
+
+import com.nimbusds.jose.JOSEException;
+import com.nimbusds.jose.JWSAlgorithm;
+import com.nimbusds.jose.crypto.MACVerifier;
+import com.nimbusds.jwt.SignedJWT;
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.core.convert.converter.Converter;
+import org.springframework.security.oauth2.core.OAuth2TokenValidator;
+import org.springframework.security.oauth2.core.OAuth2TokenValidatorResult;
+import org.springframework.security.oauth2.jwt.*;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.text.ParseException;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/*
+ * Accepts the claims apigateway has already verified instead of checking the RSA signature
+ * again. The gateway sends them in X-Gateway-Claims as an HS256 JWS bound to the bearer token
+ * by its SHA-256 ("th"); a matching MAC and binding is enough, and the token's timestamps and
+ * issuer are still validated here. Requests that did not come through the gateway, or whose
+ * header does not check out, fall back to the regular decoder, so direct calls keep working.
+ * The secret must match apigateway's gateway.jwt.claims-secret; apigateway signs the header
+ * with key() and binds it with tokenHash() from this class.
+ */
+public class GatewayClaimsJwtDecoder implements JwtDecoder {
+    public static final String CLAIMS_HEADER = "X-Gateway-Claims";
+    public static final String TOKEN_HASH_CLAIM = "th";
+
+    private final JwtDecoder delegate;
+    private final MACVerifier verifier;
+    private final OAuth2TokenValidator<Jwt> validator;
+    private final Converter<Map<String, Object>, Map<String, Object>> claimSetConverter =
+            MappedJwtClaimSetConverter.withDefaults(Collections.emptyMap());
+
+    public GatewayClaimsJwtDecoder(JwtDecoder delegate, OAuth2TokenValidator<Jwt> validator, String secret) {
+        if (secret == null || secret.isBlank()) {
+            throw new IllegalStateException("gateway.claims.secret must be set");
+        }
+
+        this.delegate = delegate;
+        this.validator = validator;
+        try {
+            this.verifier = new MACVerifier(key(secret));
+        } catch (JOSEException e) {
+            throw new IllegalStateException("Invalid gateway claims secret", e);
+        }
+    }
+
+    @Override
+    public Jwt decode(String token) throws JwtException {
+        String claimsHeader = currentClaimsHeader();
+        if (claimsHeader == null) {
+            return delegate.decode(token);
+        }
+
+        Jwt jwt = fromGateway(token, claimsHeader);
+        if (jwt == null) {
+            return delegate.decode(token);
+        }
+
+        OAuth2TokenValidatorResult result = validator.validate(jwt);
+        if (result.hasErrors()) {
+            throw new JwtValidationException("Gateway claims failed validation", result.getErrors());
+        }
+
+        return jwt;
+    }
+
+    private Jwt fromGateway(String token, String claimsHeader) {
+        try {
+            SignedJWT claims = SignedJWT.parse(claimsHeader);
+            if (!JWSAlgorithm.HS256.equals(claims.getHeader().getAlgorithm()) || !claims.verify(verifier)) {
+                return null;
+            }
+
+            Map<String, Object> claimSet = new LinkedHashMap<>(claims.getJWTClaimsSet().getClaims());
+            if (!tokenHash(token).equals(claimSet.remove(TOKEN_HASH_CLAIM))) {
+                return null;
+            }
+
+            Map<String, Object> headers = SignedJWT.parse(token).getHeader().toJSONObject();
+            return Jwt.withTokenValue(token)
+                    .headers(h -> h.putAll(headers))
+                    .claims(c -> c.putAll(claimSetConverter.convert(claimSet)))
+                    .build();
+        } catch (ParseException | JOSEException | IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    private static String currentClaimsHeader() {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (!(attributes instanceof ServletRequestAttributes servletAttributes)) {
+            return null;
+        }
+
+        HttpServletRequest request = servletAttributes.getRequest();
+        return request.getHeader(CLAIMS_HEADER);
+    }
+
+    /* HS256 key derived from the shared secret, so any secret length yields a 256-bit key. */
+    public static byte[] key(String secret) {
+        return sha256(secret.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static String tokenHash(String token) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(sha256(token.getBytes(StandardCharsets.US_ASCII)));
+    }
+
+    private static byte[] sha256(byte[] bytes) {
+        try {
+            return MessageDigest.getInstance("SHA-256").digest(bytes);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+}
@@ -0,0 +1,67 @@
+package com.biblioteca.gatewayclaims;
+
+import com.nimbusds.jose.JOSEException;
+import com.nimbusds.jose.JWSAlgorithm;
+import com.nimbusds.jose.JWSHeader;
+import com.nimbusds.jose.crypto.MACSigner;
+import com.nimbusds.jose.crypto.RSASSASigner;
+import com.nimbusds.jose.jwk.RSAKey;
+import com.nimbusds.jose.jwk.gen.RSAKeyGenerator;
+import com.nimbusds.jwt.JWTClaimsSet;
+import com.nimbusds.jwt.SignedJWT;
+import org.springframework.security.oauth2.core.OAuth2TokenValidator;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.NimbusJwtDecoder;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.Date;
+import java.util.List;
+
+/*
+ * Bearer tokens signed like authserver's, with a throwaway RSA key, and the X-Gateway-Claims
+ * header apigateway would forward for them.
+ */
+final class GatewayClaimsFixture {
+    static final String SECRET = "test-claims-secret-test-claims-secret";
+
+    private final RSAKey rsaKey;
+
+    GatewayClaimsFixture() throws JOSEException {
+        this.rsaKey = new RSAKeyGenerator(2048).keyID("test-key").generate();
+    }
+
+    String token(Instant issuedAt, Instant expiresAt) throws JOSEException {
+        JWTClaimsSet claims = new JWTClaimsSet.Builder()
+                .subject("reader@example.com")
+                .issueTime(Date.from(issuedAt))
+                .expirationTime(Date.from(expiresAt))
+                .claim("user_id", 42)
+                .claim("roles", List.of("ROLE_USER"))
+                .build();
+        SignedJWT jwt = new SignedJWT(new JWSHeader.Builder(JWSAlgorithm.RS256).keyID(rsaKey.getKeyID()).build(), claims);
+        jwt.sign(new RSASSASigner(rsaKey));
+        return jwt.serialize();
+    }
+
+    static String claimsHeader(String token, String secret) throws Exception {
+        JWTClaimsSet claims = new JWTClaimsSet.Builder(SignedJWT.parse(token).getJWTClaimsSet())
+                .claim("th", Base64.getUrlEncoder().withoutPadding().encodeToString(sha256(token.getBytes(StandardCharsets.US_ASCII))))
+                .build();
+        SignedJWT signed = new SignedJWT(new JWSHeader(JWSAlgorithm.HS256), claims);
+        signed.sign(new MACSigner(sha256(secret.getBytes(StandardCharsets.UTF_8))));
+        return signed.serialize();
+    }
+
+    NimbusJwtDecoder rsaDecoder(OAuth2TokenValidator<Jwt> validator) throws JOSEException {
+        NimbusJwtDecoder decoder = NimbusJwtDecoder.withPublicKey(rsaKey.toRSAPublicKey()).build();
+        decoder.setJwtValidator(validator);
+        return decoder;
+    }
+
+    private static byte[] sha256(byte[] bytes) throws Exception {
+        return MessageDigest.getInstance("SHA-256").digest(bytes);
+    }
+}
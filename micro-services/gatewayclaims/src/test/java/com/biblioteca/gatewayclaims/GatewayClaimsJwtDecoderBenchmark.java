@@ -0,0 +1,79 @@
+package com.biblioteca.gatewayclaims;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.security.oauth2.core.OAuth2TokenValidator;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.security.oauth2.jwt.JwtValidators;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/*
+ * CPU time a service spends per request authenticating a bearer token: checking the RSA
+ * signature itself versus checking the gateway's HS256 claims header. Measured with the
+ * thread CPU clock, so it is not skewed by other load on the machine.
+ * Run with: mvn test -Pbenchmark -Dtest=GatewayClaimsJwtDecoderBenchmark
+ */
+@Tag("benchmark")
+class GatewayClaimsJwtDecoderBenchmark {
+
+    private static final int ITERATIONS = Integer.getInteger("benchmark.claims.iterations", 20_000);
+    private static final double MIN_SPEEDUP = Double.parseDouble(System.getProperty("benchmark.claims.min-speedup", "2"));
+
+    @AfterEach
+    void tearDown() {
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @Test
+    void gatewayClaimsCostLessCpuThanRsaVerification() throws Exception {
+        GatewayClaimsFixture fixture = new GatewayClaimsFixture();
+        OAuth2TokenValidator<Jwt> validator = JwtValidators.createDefault();
+        JwtDecoder rsaDecoder = fixture.rsaDecoder(validator);
+        AtomicInteger delegateCalls = new AtomicInteger();
+        GatewayClaimsJwtDecoder decoder = new GatewayClaimsJwtDecoder(value -> {
+            delegateCalls.incrementAndGet();
+            return rsaDecoder.decode(value);
+        }, validator, GatewayClaimsFixture.SECRET);
+
+        String token = fixture.token(Instant.now(), Instant.now().plus(Duration.ofHours(1)));
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.addHeader(GatewayClaimsJwtDecoder.CLAIMS_HEADER, GatewayClaimsFixture.claimsHeader(token, GatewayClaimsFixture.SECRET));
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+
+        double rsaMicros = cpuMicrosPerDecode(() -> rsaDecoder.decode(token));
+        double gatewayMicros = cpuMicrosPerDecode(() -> decoder.decode(token));
+
+        System.out.printf("RSA signature: %.1f us CPU per request, gateway claims: %.1f us CPU per request (%.1fx)%n",
+                rsaMicros, gatewayMicros, rsaMicros / gatewayMicros);
+
+        assertEquals(0, delegateCalls.get());
+        assertTrue(gatewayMicros * MIN_SPEEDUP <= rsaMicros,
+                String.format("gateway claims %.1f us vs RSA %.1f us", gatewayMicros, rsaMicros));
+    }
+
+    private static double cpuMicrosPerDecode(Runnable decode) {
+        ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+        for (int i = 0; i < ITERATIONS / 4; i++) {
+            decode.run();
+        }
+
+        long start = threads.getCurrentThreadCpuTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            decode.run();
+        }
+        return (threads.getCurrentThreadCpuTime() - start) / 1000.0 / ITERATIONS;
+    }
+}
@@ -0,0 +1,114 @@
+package com.biblioteca.gatewayclaims;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.security.oauth2.jwt.JwtValidationException;
+import org.springframework.security.oauth2.jwt.JwtValidators;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class GatewayClaimsJwtDecoderTests {
+
+    private final MockHttpServletRequest request = new MockHttpServletRequest();
+    private final AtomicInteger delegateCalls = new AtomicInteger();
+
+    private GatewayClaimsFixture fixture;
+    private JwtDecoder rsaDecoder;
+    private GatewayClaimsJwtDecoder decoder;
+    private String token;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        fixture = new GatewayClaimsFixture();
+        rsaDecoder = fixture.rsaDecoder(JwtValidators.createDefault());
+        decoder = new GatewayClaimsJwtDecoder(value -> {
+            delegateCalls.incrementAndGet();
+            return rsaDecoder.decode(value);
+        }, JwtValidators.createDefault(), GatewayClaimsFixture.SECRET);
+        token = fixture.token(Instant.now(), Instant.now().plus(Duration.ofMinutes(5)));
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+    }
+
+    @AfterEach
+    void tearDown() {
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @Test
+    void gatewayClaimsAreTrustedWithoutCheckingTheSignature() throws Exception {
+        request.addHeader(GatewayClaimsJwtDecoder.CLAIMS_HEADER, GatewayClaimsFixture.claimsHeader(token, GatewayClaimsFixture.SECRET));
+
+        Jwt jwt = decoder.decode(token);
+
+        assertEquals(0, delegateCalls.get());
+        assertEquals("reader@example.com", jwt.getSubject());
+        assertEquals(42L, ((Number) jwt.getClaim("user_id")).longValue());
+        assertEquals(token, jwt.getTokenValue());
+        assertEquals("RS256", jwt.getHeaders().get("alg"));
+        assertFalse(jwt.hasClaim("th"));
+    }
+
+    @Test
+    void requestWithoutTheHeaderGoesToTheDelegate() {
+        Jwt jwt = decoder.decode(token);
+
+        assertEquals(1, delegateCalls.get());
+        assertEquals("reader@example.com", jwt.getSubject());
+    }
+
+    @Test
+    void headerSignedWithAnotherSecretGoesToTheDelegate() throws Exception {
+        request.addHeader(GatewayClaimsJwtDecoder.CLAIMS_HEADER, GatewayClaimsFixture.claimsHeader(token, "some-other-secret"));
+
+        decoder.decode(token);
+
+        assertEquals(1, delegateCalls.get());
+    }
+
+    @Test
+    void headerIssuedForAnotherTokenGoesToTheDelegate() throws Exception {
+        String otherToken = fixture.token(Instant.now(), Instant.now().plus(Duration.ofMinutes(10)));
+        request.addHeader(GatewayClaimsJwtDecoder.CLAIMS_HEADER, GatewayClaimsFixture.claimsHeader(otherToken, GatewayClaimsFixture.SECRET));
+
+        Jwt jwt = decoder.decode(token);
+
+        assertEquals(1, delegateCalls.get());
+        assertEquals(token, jwt.getTokenValue());
+    }
+
+    @Test
+    void malformedHeaderGoesToTheDelegate() {
+        request.addHeader(GatewayClaimsJwtDecoder.CLAIMS_HEADER, "not-a-jws");
+
+        decoder.decode(token);
+
+        assertEquals(1, delegateCalls.get());
+    }
+
+    @Test
+    void expiredGatewayClaimsAreRejected() throws Exception {
+        String expired = fixture.token(Instant.now().minus(Duration.ofHours(2)), Instant.now().minus(Duration.ofHours(1)));
+        request.addHeader(GatewayClaimsJwtDecoder.CLAIMS_HEADER, GatewayClaimsFixture.claimsHeader(expired, GatewayClaimsFixture.SECRET));
+
+        assertThrows(JwtValidationException.class, () -> decoder.decode(expired));
+        assertEquals(0, delegateCalls.get());
+    }
+
+    @Test
+    void missingSecretFailsConstruction() {
+        assertThrows(IllegalStateException.class, () -> new GatewayClaimsJwtDecoder(rsaDecoder, JwtValidators.createDefault(), ""));
+        assertThrows(IllegalStateException.class, () -> new GatewayClaimsJwtDecoder(rsaDecoder, JwtValidators.createDefault(), null));
+    }
+}
@@ -0,0 +1,66 @@
+package com.biblioteca.outbox;
+
+import com.biblioteca.outbox.sink.OutboxSink;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceAutoConfiguration;
+import org.springframework.boot.autoconfigure.jdbc.JdbcTemplateAutoConfiguration;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernateJpaAutoConfiguration;
+import org.springframework.boot.autoconfigure.transaction.TransactionAutoConfiguration;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import javax.sql.DataSource;
+
+/*
+ * Registers the outbox for any service with a DataSource. Adding the dependency gives a
+ * ready OutboxPublisher; the relay starts as soon as at least one OutboxSink bean exists.
+ */
+@AutoConfiguration(after = {DataSourceAutoConfiguration.class, JdbcTemplateAutoConfiguration.class,
+        HibernateJpaAutoConfiguration.class, TransactionAutoConfiguration.class, JacksonAutoConfiguration.class},
+        afterName = "org.springframework.boot.actuate.autoconfigure.metrics.CompositeMeterRegistryAutoConfiguration")
+@ConditionalOnBean(DataSource.class)
+@EnableConfigurationProperties(OutboxProperties.class)
+public class OutboxAutoConfiguration {
+
+    @Bean
+    @ConditionalOnMissingBean
+    public OutboxRepository outboxRepository(DataSource dataSource) {
+        return new OutboxRepository(new JdbcTemplate(dataSource));
+    }
+
+    @Bean
+    @ConditionalOnMissingBean
+    public OutboxMetrics outboxMetrics(ObjectProvider<MeterRegistry> meterRegistry) {
+        return new OutboxMetrics(meterRegistry.getIfAvailable());
+    }
+
+    @Bean
+    @ConditionalOnMissingBean
+    @ConditionalOnBean({OutboxSink.class, PlatformTransactionManager.class})
+    @ConditionalOnProperty(prefix = "outbox.relay", name = "enabled", havingValue = "true", matchIfMissing = true)
+    public OutboxRelay outboxRelay(OutboxRepository outboxRepository,
+                                   PlatformTransactionManager transactionManager,
+                                   ObjectProvider<OutboxSink> sinks,
+                                   OutboxProperties properties,
+                                   OutboxMetrics outboxMetrics) {
+        return new OutboxRelay(outboxRepository, transactionManager, sinks.orderedStream().toList(), properties, outboxMetrics);
+    }
+
+    @Bean
+    @ConditionalOnMissingBean
+    public OutboxPublisher outboxPublisher(OutboxRepository outboxRepository,
+                                           ObjectMapper objectMapper,
+                                           OutboxMetrics outboxMetrics,
+                                           ObjectProvider<OutboxRelay> outboxRelay) {
+        return new OutboxPublisher(outboxRepository, objectMapper, outboxMetrics, () -> outboxRelay.ifAvailable(OutboxRelay::wakeUp));
+    }
+}
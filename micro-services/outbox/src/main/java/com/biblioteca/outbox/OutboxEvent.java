@@ -0,0 +1,43 @@
+package com.biblioteca.outbox;
+
+import com.fasterxml.jackson.annotation.JsonRawValue;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import lombok.*;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+
+/* One outbox row as handed to sinks. The payload is the stored JSON, passed through untouched. */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@ToString
+public class OutboxEvent {
+    private Long id;
+    private String topic;
+    private String aggregateType;
+    private String aggregateId;
+    private String eventType;
+
+    @JsonRawValue
+    @JsonDeserialize(using = RawJsonDeserializer.class)
+    private String payload;
+
+    private int attempts;
+    private LocalDateTime createdAt;
+
+    /* Reads the embedded payload object back into its JSON text. */
+    public static class RawJsonDeserializer extends JsonDeserializer<String> {
+        @Override
+        public String deserialize(JsonParser parser, DeserializationContext context) throws IOException {
+            JsonNode node = parser.readValueAsTree();
+            return node == null || node.isNull() ? null : node.toString();
+        }
+    }
+}
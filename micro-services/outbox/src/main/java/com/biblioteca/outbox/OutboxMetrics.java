@@ -0,0 +1,66 @@
+package com.biblioteca.outbox;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+/*
+ * Outbox throughput metrics:
+ *   outbox.events.written   - events written by publishers, per topic
+ *   outbox.events.delivered - events acknowledged by a sink, per topic
+ *   outbox.events.failed    - events whose delivery failed and were rescheduled, per topic
+ *   outbox.delivery         - time spent in sink.deliver per batch, per topic
+ *   outbox.events.pending   - rows in outbox_events, refreshed on every poll
+ * Without a MeterRegistry bean every method is a no-op.
+ */
+public class OutboxMetrics {
+    private final MeterRegistry meterRegistry;
+    private final AtomicLong pending = new AtomicLong();
+
+    public OutboxMetrics(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+        if (meterRegistry != null) {
+            Gauge.builder("outbox.events.pending", pending, AtomicLong::get)
+                    .description("Outbox rows waiting for delivery")
+                    .register(meterRegistry);
+        }
+    }
+
+    public static OutboxMetrics noop() {
+        return new OutboxMetrics(null);
+    }
+
+    public void written(String topic, int count) {
+        increment("outbox.events.written", topic, count);
+    }
+
+    public void delivered(String topic, int count, Duration duration) {
+        increment("outbox.events.delivered", topic, count);
+        record(topic, duration);
+    }
+
+    public void failed(String topic, int count, Duration duration) {
+        increment("outbox.events.failed", topic, count);
+        record(topic, duration);
+    }
+
+    public void pending(long count) {
+        pending.set(count);
+    }
+
+    private void increment(String name, String topic, int count) {
+        if (meterRegistry != null) {
+            Counter.builder(name).tag("topic", topic).register(meterRegistry).increment(count);
+        }
+    }
+
+    private void record(String topic, Duration duration) {
+        if (meterRegistry != null) {
+            Timer.builder("outbox.delivery").tag("topic", topic).register(meterRegistry).record(duration);
+        }
+    }
+}
@@ -0,0 +1,47 @@
+package com.biblioteca.outbox;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "outbox")
+public class OutboxProperties {
+    private final Relay relay = new Relay();
+    private final Backoff backoff = new Backoff();
+
+    @Getter
+    @Setter
+    public static class Relay {
+        /* Disable on instances that only write events. */
+        private boolean enabled = true;
+
+        private Duration pollInterval = Duration.ofSeconds(1);
+
+        /* Rows claimed per topic per transaction. */
+        private int batchSize = 200;
+
+        /* Batches delivered per topic in one poll before other topics get a turn. */
+        private int maxBatchesPerPoll = 10;
+
+        /*
+         * How long a claimed batch stays invisible to other relays while its sink runs. A batch
+         * not acknowledged by then is claimed again, so keep it above the sinks' own timeouts.
+         */
+        private Duration lease = Duration.ofMinutes(1);
+    }
+
+    @Getter
+    @Setter
+    public static class Backoff {
+        private Duration initial = Duration.ofSeconds(1);
+        private Duration max = Duration.ofMinutes(5);
+        private double multiplier = 2.0;
+
+        /* Fraction of the delay added at random so failed batches do not retry in lockstep. */
+        private double jitter = 0.2;
+    }
+}
@@ -0,0 +1,93 @@
+package com.biblioteca.outbox;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Collection;
+import java.util.function.Function;
+
+/*
+ * Writes events to the outbox. Must be called inside the transaction that makes the change
+ * being described - typically a @Transactional service method - otherwise an event could be
+ * published for a change that later rolls back. After commit the local relay is nudged so the
+ * event does not wait for the next poll.
+ */
+public class OutboxPublisher {
+    private final OutboxRepository outboxRepository;
+    private final ObjectMapper objectMapper;
+    private final OutboxMetrics outboxMetrics;
+    private final Runnable afterCommit;
+
+    public OutboxPublisher(OutboxRepository outboxRepository, ObjectMapper objectMapper, OutboxMetrics outboxMetrics, Runnable afterCommit) {
+        this.outboxRepository = outboxRepository;
+        this.objectMapper = objectMapper;
+        this.outboxMetrics = outboxMetrics;
+        this.afterCommit = afterCommit;
+    }
+
+    public void publish(String topic, String aggregateType, Object aggregateId, String eventType, Object payload) {
+        requireTransaction();
+        outboxRepository.insert(topic, aggregateType, String.valueOf(aggregateId), eventType, toJson(payload));
+        outboxMetrics.written(topic, 1);
+        registerAfterCommit();
+    }
+
+    /* Same event for many aggregates in one JDBC batch, e.g. fan-out after a rename. */
+    public void publishAll(String topic, String aggregateType, Collection<?> aggregateIds, String eventType, Object payload) {
+        if (aggregateIds.isEmpty()) {
+            return;
+        }
+
+        requireTransaction();
+        outboxRepository.insertAll(topic, aggregateType, aggregateIds.stream().map(String::valueOf).toList(), eventType, toJson(payload));
+        outboxMetrics.written(topic, aggregateIds.size());
+        registerAfterCommit();
+    }
+
+    /* One event per payload in one JDBC batch, e.g. a notification per recipient. */
+    public <T> void publishEach(String topic, String aggregateType, String eventType, Collection<T> payloads, Function<T, ?> aggregateId) {
+        if (payloads.isEmpty()) {
+            return;
+        }
+
+        requireTransaction();
+        outboxRepository.insertEach(topic, aggregateType, eventType, payloads.stream()
+                .map(payload -> new OutboxRepository.PendingEvent(String.valueOf(aggregateId.apply(payload)), toJson(payload)))
+                .toList());
+        outboxMetrics.written(topic, payloads.size());
+        registerAfterCommit();
+    }
+
+    private void requireTransaction() {
+        if (!TransactionSynchronizationManager.isActualTransactionActive()) {
+            throw new IllegalStateException("Outbox events must be published inside a transaction");
+        }
+    }
+
+    private void registerAfterCommit() {
+        if (afterCommit == null || !TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                afterCommit.run();
+            }
+        });
+    }
+
+    private String toJson(Object payload) {
+        if (payload == null) {
+            return null;
+        }
+
+        try {
+            return objectMapper.writeValueAsString(payload);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("Outbox payload could not be serialized: " + e.getOriginalMessage(), e);
+        }
+    }
+}
@@ -0,0 +1,207 @@
+package com.biblioteca.outbox;
+
+import com.biblioteca.outbox.sink.OutboxSink;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/*
+ * Polls outbox_events and hands batches to the sink registered for each topic. A batch is
+ * claimed in a short transaction that leases its rows (next_attempt_at moves to the end of the
+ * lease) and commits, so no locks or connection are held while the sink runs. The batch is then
+ * acknowledged in a second short transaction: deleted when the sink returns, rescheduled with
+ * exponential backoff when it throws. A crash in between leaves the rows leased; they become due
+ * again when the lease runs out and are delivered again (at-least-once).
+ *
+ * Polling runs on a single thread, so batches of one instance never overlap; publishers wake
+ * the relay up after commit so the poll interval only bounds the latency of missed nudges and
+ * retries. Events whose topic has no sink stay in the table untouched.
+ */
+@Slf4j
+public class OutboxRelay implements SmartLifecycle {
+    private static final int MAX_ERROR_LENGTH = 1000;
+
+    private final OutboxRepository outboxRepository;
+    private final TransactionTemplate relayTransaction;
+    private final Map<String, OutboxSink> sinks = new LinkedHashMap<>();
+    private final OutboxProperties properties;
+    private final OutboxMetrics outboxMetrics;
+    private final AtomicBoolean wakeUpQueued = new AtomicBoolean();
+
+    private volatile ScheduledExecutorService executor;
+
+    public OutboxRelay(OutboxRepository outboxRepository,
+                       PlatformTransactionManager transactionManager,
+                       List<OutboxSink> sinks,
+                       OutboxProperties properties,
+                       OutboxMetrics outboxMetrics) {
+        this.outboxRepository = outboxRepository;
+        this.relayTransaction = new TransactionTemplate(transactionManager);
+        this.properties = properties;
+        this.outboxMetrics = outboxMetrics;
+
+        for (OutboxSink sink : sinks) {
+            if (this.sinks.putIfAbsent(sink.topic(), sink) != null) {
+                throw new IllegalStateException("More than one outbox sink registered for topic " + sink.topic());
+            }
+        }
+    }
+
+    @Override
+    public void start() {
+        if (executor != null) {
+            return;
+        }
+
+        executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "outbox-relay");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long intervalMillis = properties.getRelay().getPollInterval().toMillis();
+        executor.scheduleWithFixedDelay(this::poll, intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+
+        log.info("Outbox relay started for topics {} with poll interval {} ms", sinks.keySet(), intervalMillis);
+    }
+
+    @Override
+    public void stop() {
+        ScheduledExecutorService current = executor;
+        executor = null;
+        if (current == null) {
+            return;
+        }
+
+        current.shutdown();
+        try {
+            if (!current.awaitTermination(10, TimeUnit.SECONDS)) {
+                current.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            current.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return executor != null;
+    }
+
+    /* Requests an immediate poll; concurrent requests collapse into one. */
+    public void wakeUp() {
+        ScheduledExecutorService current = executor;
+        if (current != null && wakeUpQueued.compareAndSet(false, true)) {
+            try {
+                current.execute(() -> {
+                    wakeUpQueued.set(false);
+                    poll();
+                });
+            } catch (RuntimeException e) {
+                wakeUpQueued.set(false);
+            }
+        }
+    }
+
+    public void poll() {
+        for (OutboxSink sink : sinks.values()) {
+            try {
+                drain(sink);
+            } catch (RuntimeException e) {
+                log.error("Outbox relay failed for topic {}: {}", sink.topic(), e.getMessage());
+            }
+        }
+
+        try {
+            outboxMetrics.pending(outboxRepository.countPending());
+        } catch (RuntimeException e) {
+            log.debug("Could not count pending outbox events: {}", e.getMessage());
+        }
+    }
+
+    private void drain(OutboxSink sink) {
+        int batchSize = properties.getRelay().getBatchSize();
+        for (int batch = 0; batch < properties.getRelay().getMaxBatchesPerPoll(); batch++) {
+            if (relayBatch(sink, batchSize) < batchSize) {
+                return;
+            }
+        }
+    }
+
+    /* Returns the number of events delivered, or -1 if the sink failed. */
+    private int relayBatch(OutboxSink sink, int batchSize) {
+        String topic = sink.topic();
+        Claim claim = relayTransaction.execute(status -> claim(sink, batchSize));
+        if (claim == null || claim.events().isEmpty()) {
+            return 0;
+        }
+
+        List<OutboxEvent> events = claim.events();
+        List<Long> ids = events.stream().map(OutboxEvent::getId).toList();
+        long started = System.nanoTime();
+        try {
+            sink.deliver(events);
+        } catch (Exception e) {
+            int attempts = events.stream().mapToInt(OutboxEvent::getAttempts).max().orElse(0);
+            Duration delay = backoff(attempts);
+            String error = truncate(e.getMessage() != null ? e.getMessage() : e.getClass().getSimpleName());
+            relayTransaction.executeWithoutResult(status -> outboxRepository.reschedule(ids, claim.leaseUntil(), delay, error));
+            outboxMetrics.failed(topic, events.size(), Duration.ofNanos(System.nanoTime() - started));
+            log.warn("Delivery of {} outbox events for topic {} failed (attempt {}), retrying in {} ms: {}",
+                    events.size(), topic, attempts + 1, delay.toMillis(), e.getMessage());
+            return -1;
+        }
+
+        Integer acknowledged = relayTransaction.execute(status -> outboxRepository.delete(ids, claim.leaseUntil()));
+        outboxMetrics.delivered(topic, events.size(), Duration.ofNanos(System.nanoTime() - started));
+        if (acknowledged == null || acknowledged < ids.size()) {
+            log.warn("Lease on {} of {} outbox events for topic {} ran out before delivery finished; they will be delivered again",
+                    ids.size() - (acknowledged != null ? acknowledged : 0), ids.size(), topic);
+        }
+        log.debug("Delivered {} outbox events for topic {}", events.size(), topic);
+
+        return events.size();
+    }
+
+    private Claim claim(OutboxSink sink, int batchSize) {
+        String topic = sink.topic();
+        if (sink.ordered() && !outboxRepository.tryTopicLock(topic)) {
+            return null;
+        }
+
+        LocalDateTime leaseUntil = outboxRepository.leaseUntil(properties.getRelay().getLease());
+        List<OutboxEvent> events = sink.ordered()
+                ? outboxRepository.claimOrdered(topic, batchSize, leaseUntil)
+                : outboxRepository.claim(topic, batchSize, leaseUntil);
+
+        return new Claim(events, leaseUntil);
+    }
+
+    private Duration backoff(int attempts) {
+        OutboxProperties.Backoff backoff = properties.getBackoff();
+        double delay = backoff.getInitial().toMillis() * Math.pow(backoff.getMultiplier(), Math.min(attempts, 30));
+        delay = Math.min(delay, backoff.getMax().toMillis());
+        delay += delay * backoff.getJitter() * ThreadLocalRandom.current().nextDouble();
+
+        return Duration.ofMillis((long) delay);
+    }
+
+    private static String truncate(String error) {
+        return error.length() > MAX_ERROR_LENGTH ? error.substring(0, MAX_ERROR_LENGTH) : error;
+    }
+
+    private record Claim(List<OutboxEvent> events, LocalDateTime leaseUntil) {
+    }
+}
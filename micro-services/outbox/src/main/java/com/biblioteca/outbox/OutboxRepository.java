@@ -0,0 +1,157 @@
+package com.biblioteca.outbox;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+
+/*
+ * JDBC access to outbox_events. Inserts join the caller's transaction through the shared
+ * DataSource, so an event row commits or rolls back together with the change it describes.
+ */
+public class OutboxRepository {
+    private static final String INSERT_SQL = """
+            INSERT INTO outbox_events (topic, aggregate_type, aggregate_id, event_type, payload)
+            VALUES (?, ?, ?, ?, CAST(? AS jsonb))
+            """;
+
+    /* Unordered topics: due rows are leased with SKIP LOCKED, so concurrent relays take disjoint batches. */
+    private static final String CLAIM_SQL = """
+            UPDATE outbox_events
+            SET next_attempt_at = ?
+            WHERE id IN (
+                SELECT id
+                FROM outbox_events
+                WHERE topic = ? AND next_attempt_at <= CURRENT_TIMESTAMP
+                ORDER BY id
+                LIMIT ?
+                FOR UPDATE SKIP LOCKED
+            )
+            RETURNING id, topic, aggregate_type, aggregate_id, event_type, payload, attempts, created_at
+            """;
+
+    /*
+     * Ordered topics read from the head, due or not; the relay stops at the first row that is not
+     * due. A leased row is not due, so the head stays blocked until its batch is acknowledged.
+     */
+    private static final String CLAIM_ORDERED_SQL = """
+            SELECT id, topic, aggregate_type, aggregate_id, event_type, payload, attempts, created_at,
+                   next_attempt_at <= CURRENT_TIMESTAMP AS due
+            FROM outbox_events
+            WHERE topic = ?
+            ORDER BY id
+            LIMIT ?
+            FOR UPDATE
+            """;
+
+    private static final String LEASE_UNTIL_SQL = "SELECT LOCALTIMESTAMP + make_interval(secs => ?)";
+    private static final String LEASE_SQL = "UPDATE outbox_events SET next_attempt_at = ? WHERE id = ANY (?)";
+    private static final String TOPIC_LOCK_SQL = "SELECT pg_try_advisory_xact_lock(hashtext('outbox:' || ?))";
+
+    /* Acknowledgements only touch rows still under the caller's lease; a re-claimed row belongs to the new claimer. */
+    private static final String DELETE_SQL = "DELETE FROM outbox_events WHERE id = ANY (?) AND next_attempt_at = ?";
+    private static final String RESCHEDULE_SQL = """
+            UPDATE outbox_events
+            SET attempts = attempts + 1, next_attempt_at = CURRENT_TIMESTAMP + make_interval(secs => ?), last_error = ?
+            WHERE id = ANY (?) AND next_attempt_at = ?
+            """;
+    private static final String COUNT_SQL = "SELECT count(*) FROM outbox_events";
+
+    private static final RowMapper<OutboxEvent> EVENT_MAPPER = (rs, rowNum) -> OutboxEvent.builder()
+            .id(rs.getLong("id"))
+            .topic(rs.getString("topic"))
+            .aggregateType(rs.getString("aggregate_type"))
+            .aggregateId(rs.getString("aggregate_id"))
+            .eventType(rs.getString("event_type"))
+            .payload(rs.getString("payload"))
+            .attempts(rs.getInt("attempts"))
+            .createdAt(rs.getTimestamp("created_at").toLocalDateTime())
+            .build();
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public OutboxRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    public void insert(String topic, String aggregateType, String aggregateId, String eventType, String payload) {
+        jdbcTemplate.update(INSERT_SQL, topic, aggregateType, aggregateId, eventType, payload);
+    }
+
+    public void insertAll(String topic, String aggregateType, Collection<String> aggregateIds, String eventType, String payload) {
+        jdbcTemplate.batchUpdate(INSERT_SQL, aggregateIds, 500, (ps, aggregateId) -> {
+            ps.setString(1, topic);
+            ps.setString(2, aggregateType);
+            ps.setString(3, aggregateId);
+            ps.setString(4, eventType);
+            ps.setString(5, payload);
+        });
+    }
+
+    public void insertEach(String topic, String aggregateType, String eventType, List<PendingEvent> events) {
+        jdbcTemplate.batchUpdate(INSERT_SQL, events, 500, (ps, event) -> {
+            ps.setString(1, topic);
+            ps.setString(2, aggregateType);
+            ps.setString(3, event.aggregateId());
+            ps.setString(4, eventType);
+            ps.setString(5, event.payload());
+        });
+    }
+
+    /* The lease deadline for a claim made now, by the database clock. */
+    public LocalDateTime leaseUntil(Duration lease) {
+        return jdbcTemplate.queryForObject(LEASE_UNTIL_SQL, LocalDateTime.class, lease.toMillis() / 1000.0);
+    }
+
+    public List<OutboxEvent> claim(String topic, int limit, LocalDateTime leaseUntil) {
+        List<OutboxEvent> events = new ArrayList<>(jdbcTemplate.query(CLAIM_SQL, EVENT_MAPPER, leaseUntil, topic, limit));
+        events.sort(Comparator.comparing(OutboxEvent::getId));
+
+        return events;
+    }
+
+    /* Leases the head of the topic up to the first row that is not due yet. Call under tryTopicLock. */
+    public List<OutboxEvent> claimOrdered(String topic, int limit, LocalDateTime leaseUntil) {
+        List<OutboxEvent> events = new ArrayList<>();
+        boolean[] blocked = {false};
+        jdbcTemplate.query(CLAIM_ORDERED_SQL, rs -> {
+            if (blocked[0] || !rs.getBoolean("due")) {
+                blocked[0] = true;
+                return;
+            }
+            events.add(EVENT_MAPPER.mapRow(rs, events.size()));
+        }, topic, limit);
+
+        if (!events.isEmpty()) {
+            jdbcTemplate.update(LEASE_SQL, leaseUntil, events.stream().map(OutboxEvent::getId).toArray(Long[]::new));
+        }
+
+        return events;
+    }
+
+    public boolean tryTopicLock(String topic) {
+        return Boolean.TRUE.equals(jdbcTemplate.queryForObject(TOPIC_LOCK_SQL, Boolean.class, topic));
+    }
+
+    /* Returns the number of rows deleted; fewer than ids.size() means the lease ran out before the ack. */
+    public int delete(Collection<Long> ids, LocalDateTime leaseUntil) {
+        return jdbcTemplate.update(DELETE_SQL, ids.toArray(Long[]::new), leaseUntil);
+    }
+
+    public int reschedule(Collection<Long> ids, LocalDateTime leaseUntil, Duration delay, String error) {
+        return jdbcTemplate.update(RESCHEDULE_SQL, delay.toMillis() / 1000.0, error, ids.toArray(Long[]::new), leaseUntil);
+    }
+
+    public long countPending() {
+        Long count = jdbcTemplate.queryForObject(COUNT_SQL, Long.class);
+        return count != null ? count : 0;
+    }
+
+    public record PendingEvent(String aggregateId, String payload) {
+    }
+}
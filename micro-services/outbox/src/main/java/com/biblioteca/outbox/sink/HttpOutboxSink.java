@@ -0,0 +1,56 @@
+package com.biblioteca.outbox.sink;
+
+import com.biblioteca.outbox.OutboxEvent;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.function.Consumer;
+
+/*
+ * POSTs each batch as a JSON array of OutboxEvent to one endpoint and treats any 2xx as the
+ * acknowledgement. Consumers should deduplicate on the event id because a batch is resent
+ * whenever the acknowledgement is lost.
+ */
+public class HttpOutboxSink implements OutboxSink {
+    private final String topic;
+    private final boolean ordered;
+    private final WebClient webClient;
+    private final String path;
+    private final Consumer<HttpHeaders> headers;
+    private final Duration timeout;
+
+    public HttpOutboxSink(String topic, boolean ordered, WebClient webClient, String path,
+                          Consumer<HttpHeaders> headers, Duration timeout) {
+        this.topic = topic;
+        this.ordered = ordered;
+        this.webClient = webClient;
+        this.path = path;
+        this.headers = headers;
+        this.timeout = timeout;
+    }
+
+    @Override
+    public String topic() {
+        return topic;
+    }
+
+    @Override
+    public boolean ordered() {
+        return ordered;
+    }
+
+    @Override
+    public void deliver(List<OutboxEvent> events) {
+        webClient.post()
+                .uri(path)
+                .headers(headers)
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(events)
+                .retrieve()
+                .toBodilessEntity()
+                .block(timeout);
+    }
+}
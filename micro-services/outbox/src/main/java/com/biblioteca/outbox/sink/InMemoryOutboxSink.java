@@ -0,0 +1,51 @@
+package com.biblioteca.outbox.sink;
+
+import com.biblioteca.outbox.OutboxEvent;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+/*
+ * Delivers events to in-process listeners, synchronously on the relay thread. Useful when the
+ * producer and the consumer live in the same service (cache invalidation, read models) and in
+ * tests. A listener that throws fails the batch, which is then retried for every listener, so
+ * listeners must be idempotent.
+ */
+public class InMemoryOutboxSink implements OutboxSink {
+    private final String topic;
+    private final boolean ordered;
+    private final List<Consumer<OutboxEvent>> listeners = new CopyOnWriteArrayList<>();
+
+    public InMemoryOutboxSink(String topic) {
+        this(topic, false);
+    }
+
+    public InMemoryOutboxSink(String topic, boolean ordered) {
+        this.topic = topic;
+        this.ordered = ordered;
+    }
+
+    public void subscribe(Consumer<OutboxEvent> listener) {
+        listeners.add(listener);
+    }
+
+    @Override
+    public String topic() {
+        return topic;
+    }
+
+    @Override
+    public boolean ordered() {
+        return ordered;
+    }
+
+    @Override
+    public void deliver(List<OutboxEvent> events) {
+        for (OutboxEvent event : events) {
+            for (Consumer<OutboxEvent> listener : listeners) {
+                listener.accept(event);
+            }
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package com.biblioteca.outbox.sink;
+
+import com.biblioteca.outbox.OutboxEvent;
+
+import java.util.List;
+
+/*
+ * Destination for one topic. deliver() is called outside any transaction while the batch is
+ * leased (outbox.relay.lease); returning normally acknowledges the whole batch (rows are
+ * deleted), throwing schedules every event of the batch for a retry with backoff. A batch still
+ * running when its lease ends is claimed again, so delivery is at-least-once and sinks must
+ * tolerate duplicates and finish well within the lease.
+ */
+public interface OutboxSink {
+    String topic();
+
+    void deliver(List<OutboxEvent> events) throws Exception;
+
+    /*
+     * Ordered topics are claimed by a single relay at a time (advisory lock) and stop at the
+     * first event that is leased or waiting for a retry, so consumers see events in the order
+     * they were written.
+     * Unordered topics are claimed with SKIP LOCKED and can be drained by several instances.
+     */
+    default boolean ordered() {
+        return false;
+    }
+}
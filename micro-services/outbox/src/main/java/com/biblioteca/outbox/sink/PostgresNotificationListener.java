@@ -0,0 +1,111 @@
+package com.biblioteca.outbox.sink;
+
+import com.biblioteca.outbox.OutboxEvent;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.springframework.context.SmartLifecycle;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.function.Consumer;
+import java.util.regex.Pattern;
+
+/*
+ * Receiving side of PostgresNotifyOutboxSink. Holds one dedicated connection that LISTENs on
+ * the channel and hands every notification to the consumer on its own thread. Notifications
+ * sent while the listener is disconnected are lost, so consumers that need every event should
+ * also reconcile from their source of truth (or use an HTTP or in-memory sink instead).
+ */
+@Slf4j
+public class PostgresNotificationListener implements SmartLifecycle {
+    private static final Pattern CHANNEL_NAME = Pattern.compile("[a-z_][a-z0-9_]*");
+    private static final int WAIT_MILLIS = 1000;
+    private static final long RECONNECT_DELAY_MILLIS = 5000;
+
+    private final DataSource dataSource;
+    private final String channel;
+    private final ObjectMapper objectMapper;
+    private final Consumer<OutboxEvent> consumer;
+
+    private volatile Thread thread;
+
+    public PostgresNotificationListener(DataSource dataSource, String channel, ObjectMapper objectMapper, Consumer<OutboxEvent> consumer) {
+        if (!CHANNEL_NAME.matcher(channel).matches()) {
+            throw new IllegalArgumentException("Invalid notification channel name: " + channel);
+        }
+        this.dataSource = dataSource;
+        this.channel = channel;
+        this.objectMapper = objectMapper;
+        this.consumer = consumer;
+    }
+
+    @Override
+    public void start() {
+        if (thread != null) {
+            return;
+        }
+
+        thread = new Thread(this::listen, "outbox-listener-" + channel);
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    @Override
+    public void stop() {
+        Thread current = thread;
+        thread = null;
+        if (current != null) {
+            current.interrupt();
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return thread != null;
+    }
+
+    private void listen() {
+        while (thread == Thread.currentThread()) {
+            try (Connection connection = dataSource.getConnection()) {
+                connection.setAutoCommit(true);
+                try (Statement statement = connection.createStatement()) {
+                    statement.execute("LISTEN " + channel);
+                }
+                PGConnection pgConnection = connection.unwrap(PGConnection.class);
+                log.info("Listening for outbox notifications on channel {}", channel);
+
+                while (thread == Thread.currentThread()) {
+                    PGNotification[] notifications = pgConnection.getNotifications(WAIT_MILLIS);
+                    if (notifications == null) {
+                        continue;
+                    }
+                    for (PGNotification notification : notifications) {
+                        dispatch(notification.getParameter());
+                    }
+                }
+            } catch (SQLException e) {
+                if (thread != Thread.currentThread()) {
+                    return;
+                }
+                log.warn("Outbox listener on channel {} lost its connection, reconnecting: {}", channel, e.getMessage());
+                try {
+                    Thread.sleep(RECONNECT_DELAY_MILLIS);
+                } catch (InterruptedException interrupted) {
+                    return;
+                }
+            }
+        }
+    }
+
+    private void dispatch(String message) {
+        try {
+            consumer.accept(objectMapper.readValue(message, OutboxEvent.class));
+        } catch (Exception e) {
+            log.error("Outbox notification on channel {} could not be handled: {}", channel, e.getMessage());
+        }
+    }
+}
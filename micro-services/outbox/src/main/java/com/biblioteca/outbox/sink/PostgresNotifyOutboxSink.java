@@ -0,0 +1,61 @@
+package com.biblioteca.outbox.sink;
+
+import com.biblioteca.outbox.OutboxEvent;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+/*
+ * Publishes each event with pg_notify on a channel. Notifications go out as the sink runs,
+ * before the relay deletes the rows, so a relay crash in between sends them again. NOTIFY
+ * payloads are limited to 8000 bytes; larger events are sent without their payload and
+ * listeners fetch whatever they need themselves.
+ */
+public class PostgresNotifyOutboxSink implements OutboxSink {
+    private static final int MAX_NOTIFY_BYTES = 7900;
+
+    private final String topic;
+    private final String channel;
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectMapper objectMapper;
+
+    public PostgresNotifyOutboxSink(String topic, String channel, JdbcTemplate jdbcTemplate, ObjectMapper objectMapper) {
+        this.topic = topic;
+        this.channel = channel;
+        this.jdbcTemplate = jdbcTemplate;
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    public String topic() {
+        return topic;
+    }
+
+    @Override
+    public boolean ordered() {
+        return true;
+    }
+
+    @Override
+    public void deliver(List<OutboxEvent> events) throws JsonProcessingException {
+        for (OutboxEvent event : events) {
+            String message = objectMapper.writeValueAsString(event);
+            if (message.getBytes(StandardCharsets.UTF_8).length > MAX_NOTIFY_BYTES) {
+                OutboxEvent trimmed = OutboxEvent.builder()
+                        .id(event.getId())
+                        .topic(event.getTopic())
+                        .aggregateType(event.getAggregateType())
+                        .aggregateId(event.getAggregateId())
+                        .eventType(event.getEventType())
+                        .attempts(event.getAttempts())
+                        .createdAt(event.getCreatedAt())
+                        .build();
+                message = objectMapper.writeValueAsString(trimmed);
+            }
+            jdbcTemplate.queryForObject("SELECT pg_notify(?, ?)", Object.class, channel, message);
+        }
+    }
+}
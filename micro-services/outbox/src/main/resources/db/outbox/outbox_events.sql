@@ -0,0 +1,17 @@
+-- Transactional outbox shared by all services (com.biblioteca:outbox).
+-- Services apply this with their own migrations; the library never creates tables itself.
+CREATE TABLE IF NOT EXISTS outbox_events (
+    id BIGSERIAL PRIMARY KEY,
+    topic VARCHAR(100) NOT NULL,          -- routes the event to an OutboxSink
+    aggregate_type VARCHAR(50) NOT NULL,
+    aggregate_id VARCHAR(100) NOT NULL,
+    event_type VARCHAR(50) NOT NULL,
+    payload JSONB,                        -- null for notification-only events
+    attempts INT NOT NULL DEFAULT 0,
+    next_attempt_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    last_error TEXT,
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+
+-- The relay scans one topic in id order
+CREATE INDEX IF NOT EXISTS idx_outbox_events_topic ON outbox_events (topic, id);
@@ -0,0 +1,93 @@
+package com.biblioteca.outbox;
+
+import com.biblioteca.outbox.sink.OutboxSink;
+import org.junit.jupiter.api.BeforeEach;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.SpringBootConfiguration;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.time.Duration;
+import java.util.List;
+
+/*
+ * Base class for tests that need outbox_events. One throwaway Postgres container is shared by
+ * every subclass and the table is created from the script services apply in their migrations.
+ * The auto-configured relay is off; tests build their own relays around the sinks they need
+ * and drive them with poll().
+ */
+@Testcontainers(disabledWithoutDocker = true)
+@SpringBootTest(classes = AbstractOutboxPostgresTest.TestApplication.class,
+        webEnvironment = SpringBootTest.WebEnvironment.NONE,
+        properties = {
+                "outbox.relay.enabled=false",
+                "spring.sql.init.mode=always",
+                "spring.sql.init.schema-locations=classpath:db/outbox/outbox_events.sql"
+        })
+public abstract class AbstractOutboxPostgresTest {
+
+    @ServiceConnection
+    static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    static {
+        POSTGRES.start();
+    }
+
+    @Autowired
+    protected OutboxRepository outboxRepository;
+
+    @Autowired
+    protected JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    protected PlatformTransactionManager transactionManager;
+
+    protected TransactionTemplate transactionTemplate;
+
+    @BeforeEach
+    void clearOutbox() {
+        transactionTemplate = new TransactionTemplate(transactionManager);
+        jdbcTemplate.update("DELETE FROM outbox_events");
+    }
+
+    /* Writes count events for the topic and returns their ids in insertion order. */
+    protected List<Long> insert(String topic, int count) {
+        for (int i = 0; i < count; i++) {
+            outboxRepository.insert(topic, "Book", String.valueOf(i), "BookUpdated", "{\"n\": " + i + "}");
+        }
+        return jdbcTemplate.queryForList("SELECT id FROM outbox_events WHERE topic = ? ORDER BY id", Long.class, topic);
+    }
+
+    protected long rows() {
+        return outboxRepository.countPending();
+    }
+
+    protected OutboxRelay relay(OutboxProperties properties, OutboxSink... sinks) {
+        return new OutboxRelay(outboxRepository, transactionManager, List.of(sinks), properties, OutboxMetrics.noop());
+    }
+
+    /* Relay settings with a fixed backoff so delays can be asserted. */
+    protected static OutboxProperties properties(int batchSize, Duration lease, Duration backoff) {
+        OutboxProperties properties = new OutboxProperties();
+        properties.getRelay().setBatchSize(batchSize);
+        properties.getRelay().setLease(lease);
+        properties.getBackoff().setInitial(backoff);
+        properties.getBackoff().setJitter(0);
+        return properties;
+    }
+
+    protected static List<Long> ids(List<OutboxEvent> events) {
+        return events.stream().map(OutboxEvent::getId).toList();
+    }
+
+    @SpringBootConfiguration
+    @EnableAutoConfiguration
+    static class TestApplication {
+    }
+}
@@ -0,0 +1,101 @@
+package com.biblioteca.outbox;
+
+import com.biblioteca.outbox.sink.HttpOutboxSink;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Mono;
+import reactor.netty.DisposableServer;
+import reactor.netty.http.server.HttpServer;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class HttpOutboxSinkTests {
+
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+
+    private DisposableServer server;
+    private volatile Duration delay = Duration.ZERO;
+    private volatile int status = 204;
+    private volatile String receivedPath;
+    private volatile String receivedToken;
+    private volatile String receivedBody;
+
+    @BeforeEach
+    void startConsumer() {
+        server = HttpServer.create()
+                .host("127.0.0.1")
+                .port(0)
+                .handle((request, response) -> {
+                    receivedPath = request.uri();
+                    receivedToken = request.requestHeaders().get("X-Service-Token");
+                    return request.receive().aggregate().asString()
+                            .doOnNext(body -> receivedBody = body)
+                            .then(Mono.delay(delay))
+                            .then(response.status(status).send().then());
+                })
+                .bindNow();
+    }
+
+    @AfterEach
+    void stopConsumer() {
+        server.disposeNow();
+    }
+
+    @Test
+    void batchIsPostedAsJsonArrayWithTheStoredPayload() throws Exception {
+        sink(Duration.ofSeconds(5)).deliver(List.of(event(1L, "{\"title\": \"Dune\"}"), event(2L, null)));
+
+        JsonNode body = objectMapper.readTree(receivedBody);
+        assertEquals("/events", receivedPath);
+        assertEquals("secret", receivedToken);
+        assertEquals(2, body.size());
+        assertEquals(1, body.get(0).get("id").asLong());
+        assertEquals("Dune", body.get(0).get("payload").get("title").asText());
+        assertTrue(body.get(1).get("payload").isNull());
+    }
+
+    @Test
+    void nonSuccessStatusFailsTheBatch() {
+        status = 503;
+
+        assertThrows(WebClientResponseException.class, () -> sink(Duration.ofSeconds(5)).deliver(List.of(event(1L, null))));
+    }
+
+    @Test
+    void consumerSlowerThanTheTimeoutFailsTheBatch() {
+        delay = Duration.ofSeconds(2);
+
+        long started = System.nanoTime();
+        assertThrows(IllegalStateException.class, () -> sink(Duration.ofMillis(200)).deliver(List.of(event(1L, null))));
+
+        assertTrue(Duration.ofNanos(System.nanoTime() - started).toMillis() < 1500);
+    }
+
+    private HttpOutboxSink sink(Duration timeout) {
+        WebClient webClient = WebClient.builder().baseUrl("http://127.0.0.1:" + server.port()).build();
+        return new HttpOutboxSink("books", false, webClient, "/events", headers -> headers.set("X-Service-Token", "secret"), timeout);
+    }
+
+    private static OutboxEvent event(Long id, String payload) {
+        return OutboxEvent.builder()
+                .id(id)
+                .topic("books")
+                .aggregateType("Book")
+                .aggregateId(String.valueOf(id))
+                .eventType("BookUpdated")
+                .payload(payload)
+                .createdAt(LocalDateTime.now())
+                .build();
+    }
+}
@@ -0,0 +1,49 @@
+package com.biblioteca.outbox;
+
+import com.biblioteca.outbox.sink.InMemoryOutboxSink;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class InMemoryOutboxSinkTests {
+
+    @Test
+    void everyListenerSeesEveryEventInOrder() {
+        List<String> seen = new ArrayList<>();
+        InMemoryOutboxSink sink = new InMemoryOutboxSink("books");
+        sink.subscribe(event -> seen.add("first:" + event.getId()));
+        sink.subscribe(event -> seen.add("second:" + event.getId()));
+
+        sink.deliver(List.of(event(1L), event(2L)));
+
+        assertEquals(List.of("first:1", "second:1", "first:2", "second:2"), seen);
+    }
+
+    @Test
+    void throwingListenerFailsTheBatch() {
+        InMemoryOutboxSink sink = new InMemoryOutboxSink("books");
+        sink.subscribe(event -> {
+            throw new IllegalStateException("listener down");
+        });
+
+        IllegalStateException e = assertThrows(IllegalStateException.class, () -> sink.deliver(List.of(event(1L))));
+
+        assertEquals("listener down", e.getMessage());
+    }
+
+    @Test
+    void orderingIsChosenPerSink() {
+        assertFalse(new InMemoryOutboxSink("books").ordered());
+        assertTrue(new InMemoryOutboxSink("books", true).ordered());
+    }
+
+    private static OutboxEvent event(Long id) {
+        return OutboxEvent.builder().id(id).topic("books").aggregateType("Book").aggregateId("1").eventType("BookUpdated").build();
+    }
+}
@@ -0,0 +1,214 @@
+package com.biblioteca.outbox;
+
+import com.biblioteca.outbox.sink.InMemoryOutboxSink;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class OutboxRelayTests extends AbstractOutboxPostgresTest {
+
+    @Test
+    void deliveredBatchIsAcknowledged() {
+        List<Long> ids = insert("books", 5);
+        List<Long> delivered = new ArrayList<>();
+        InMemoryOutboxSink sink = new InMemoryOutboxSink("books");
+        sink.subscribe(event -> delivered.add(event.getId()));
+
+        relay(properties(100, Duration.ofMinutes(1), Duration.ofSeconds(1)), sink).poll();
+
+        assertEquals(ids, delivered);
+        assertEquals(0, rows());
+    }
+
+    @Test
+    void eventsOfTopicsWithoutASinkStayInTheTable() {
+        insert("books", 2);
+        insert("authors", 3);
+
+        relay(properties(100, Duration.ofMinutes(1), Duration.ofSeconds(1)), new InMemoryOutboxSink("books")).poll();
+
+        assertEquals(3, rows());
+    }
+
+    @Test
+    void failedBatchIsRescheduledAndRetriedOnceDue() {
+        List<Long> ids = insert("books", 1);
+        AtomicInteger calls = new AtomicInteger();
+        List<Integer> attemptsSeen = new ArrayList<>();
+        InMemoryOutboxSink sink = new InMemoryOutboxSink("books");
+        sink.subscribe(event -> {
+            attemptsSeen.add(event.getAttempts());
+            if (calls.incrementAndGet() == 1) {
+                throw new IllegalStateException("consumer unavailable");
+            }
+        });
+        OutboxRelay relay = relay(properties(100, Duration.ofMinutes(1), Duration.ofSeconds(30)), sink);
+
+        relay.poll();
+        relay.poll();
+
+        assertEquals(1, calls.get(), "a rescheduled event must wait for its backoff");
+        assertEquals(1, rows());
+        assertEquals("consumer unavailable", jdbcTemplate.queryForObject("SELECT last_error FROM outbox_events", String.class));
+        double delaySeconds = secondsUntilNextAttempt(ids.get(0));
+        assertTrue(delaySeconds > 25 && delaySeconds <= 30, "retry scheduled " + delaySeconds + " s ahead");
+
+        jdbcTemplate.update("UPDATE outbox_events SET next_attempt_at = LOCALTIMESTAMP - interval '1 second'");
+        relay.poll();
+
+        assertEquals(List.of(0, 1), attemptsSeen);
+        assertEquals(0, rows());
+    }
+
+    @Test
+    void backoffGrowsWithAttemptsUpToTheMaximum() {
+        List<Long> ids = insert("books", 2);
+        jdbcTemplate.update("UPDATE outbox_events SET attempts = 3 WHERE id = ?", ids.get(0));
+        jdbcTemplate.update("UPDATE outbox_events SET attempts = 20 WHERE id = ?", ids.get(1));
+        OutboxProperties properties = properties(1, Duration.ofMinutes(1), Duration.ofSeconds(1));
+        properties.getBackoff().setMax(Duration.ofSeconds(20));
+        InMemoryOutboxSink sink = new InMemoryOutboxSink("books");
+        sink.subscribe(event -> {
+            throw new IllegalStateException("consumer unavailable");
+        });
+        OutboxRelay relay = relay(properties, sink);
+
+        relay.poll();
+        relay.poll();
+
+        double first = secondsUntilNextAttempt(ids.get(0));
+        double second = secondsUntilNextAttempt(ids.get(1));
+        assertTrue(first > 6 && first <= 8, "1 s * 2^3 backoff was " + first + " s");
+        assertTrue(second > 18 && second <= 20, "capped backoff was " + second + " s");
+    }
+
+    @Test
+    void orderedTopicWaitsBehindAFailedEvent() {
+        List<Long> ids = insert("books", 3);
+        List<Long> delivered = new ArrayList<>();
+        InMemoryOutboxSink sink = new InMemoryOutboxSink("books", true);
+        sink.subscribe(failing(ids.get(0), delivered));
+        OutboxRelay relay = relay(properties(1, Duration.ofMinutes(1), Duration.ofSeconds(30)), sink);
+
+        relay.poll();
+        relay.poll();
+
+        assertTrue(delivered.isEmpty(), "events behind the failed head were delivered out of order: " + delivered);
+        assertEquals(3, rows());
+    }
+
+    @Test
+    void unorderedTopicMovesPastAFailedEvent() {
+        List<Long> ids = insert("books", 3);
+        List<Long> delivered = new ArrayList<>();
+        InMemoryOutboxSink sink = new InMemoryOutboxSink("books");
+        sink.subscribe(failing(ids.get(0), delivered));
+        OutboxRelay relay = relay(properties(1, Duration.ofMinutes(1), Duration.ofSeconds(30)), sink);
+
+        relay.poll();
+        relay.poll();
+
+        assertEquals(ids.subList(1, 3), delivered);
+        assertEquals(1, rows());
+    }
+
+    @Test
+    void concurrentRelaysDeliverEveryEventExactlyOnce() throws Exception {
+        List<Long> ids = insert("books", 300);
+        Map<Long, Integer> deliveries = new ConcurrentHashMap<>();
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            List<Future<?>> relays = new ArrayList<>();
+            for (int i = 0; i < 2; i++) {
+                InMemoryOutboxSink sink = new InMemoryOutboxSink("books");
+                sink.subscribe(event -> deliveries.merge(event.getId(), 1, Integer::sum));
+                OutboxRelay relay = relay(properties(10, Duration.ofMinutes(1), Duration.ofSeconds(1)), sink);
+                relays.add(executor.submit(() -> {
+                    while (rows() > 0) {
+                        relay.poll();
+                    }
+                }));
+            }
+            for (Future<?> relay : relays) {
+                relay.get(30, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertEquals(ids.size(), deliveries.size());
+        assertTrue(deliveries.values().stream().allMatch(count -> count == 1), "duplicate deliveries: " + deliveries);
+    }
+
+    @Test
+    void ackArrivingAfterTheLeaseRanOutDoesNotDeleteTheNewClaimersRows() throws Exception {
+        insert("books", 1);
+        List<String> seenBy = Collections.synchronizedList(new ArrayList<>());
+
+        InMemoryOutboxSink slowSink = new InMemoryOutboxSink("books");
+        slowSink.subscribe(event -> {
+            seenBy.add("slow");
+            sleep(800);
+        });
+        OutboxRelay slowRelay = relay(properties(10, Duration.ofMillis(200), Duration.ofSeconds(30)), slowSink);
+
+        InMemoryOutboxSink failingSink = new InMemoryOutboxSink("books");
+        failingSink.subscribe(event -> {
+            seenBy.add("failing");
+            throw new IllegalStateException("consumer unavailable");
+        });
+        OutboxRelay failingRelay = relay(properties(10, Duration.ofMinutes(1), Duration.ofSeconds(30)), failingSink);
+
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            Future<?> slow = executor.submit(slowRelay::poll);
+            sleep(400);
+            failingRelay.poll();
+            slow.get(10, TimeUnit.SECONDS);
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertEquals(List.of("slow", "failing"), seenBy);
+        assertEquals(1, rows(), "the late ack removed an event that is waiting for its retry");
+        assertEquals(Integer.valueOf(1), jdbcTemplate.queryForObject("SELECT attempts FROM outbox_events", Integer.class));
+    }
+
+    private double secondsUntilNextAttempt(Long id) {
+        return jdbcTemplate.queryForObject(
+                "SELECT EXTRACT(EPOCH FROM next_attempt_at - LOCALTIMESTAMP)::float8 FROM outbox_events WHERE id = ?",
+                Double.class, id);
+    }
+
+    /* Records delivered ids and throws for the given one. */
+    private static Consumer<OutboxEvent> failing(Long failingId, List<Long> delivered) {
+        return event -> {
+            if (event.getId().equals(failingId)) {
+                throw new IllegalStateException("consumer rejected " + failingId);
+            }
+            delivered.add(event.getId());
+        };
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
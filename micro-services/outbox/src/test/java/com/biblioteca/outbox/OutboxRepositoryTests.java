@@ -0,0 +1,151 @@
+package com.biblioteca.outbox;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class OutboxRepositoryTests extends AbstractOutboxPostgresTest {
+
+    @Test
+    void concurrentClaimsSkipRowsLockedByTheOtherClaim() throws Exception {
+        List<Long> ids = insert("books", 10);
+        CountDownLatch firstClaimed = new CountDownLatch(1);
+        CountDownLatch secondClaimed = new CountDownLatch(1);
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            Future<List<Long>> first = executor.submit(() -> transactionTemplate.execute(status -> {
+                List<Long> claimed = ids(outboxRepository.claim("books", 6, outboxRepository.leaseUntil(Duration.ofMinutes(1))));
+                firstClaimed.countDown();
+                await(secondClaimed);
+                return claimed;
+            }));
+            assertTrue(firstClaimed.await(10, TimeUnit.SECONDS));
+
+            long started = System.nanoTime();
+            List<Long> second = transactionTemplate.execute(status ->
+                    ids(outboxRepository.claim("books", 6, outboxRepository.leaseUntil(Duration.ofMinutes(1)))));
+            long waitedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started);
+            secondClaimed.countDown();
+
+            assertEquals(ids.subList(0, 6), first.get(10, TimeUnit.SECONDS));
+            assertEquals(ids.subList(6, 10), second);
+            assertTrue(waitedMillis < 5000, "second claim waited " + waitedMillis + " ms on the first one's locks");
+        } finally {
+            secondClaimed.countDown();
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void leasedRowsAreNotClaimedAgainWhileTheLeaseRuns() {
+        insert("books", 3);
+
+        List<OutboxEvent> first = claim("books", Duration.ofMinutes(1));
+        List<OutboxEvent> second = claim("books", Duration.ofMinutes(1));
+
+        assertEquals(3, first.size());
+        assertTrue(second.isEmpty());
+    }
+
+    @Test
+    void lateAckAfterTheLeaseRanOutIsIgnored() throws InterruptedException {
+        List<Long> ids = insert("books", 2);
+        LocalDateTime firstLease = outboxRepository.leaseUntil(Duration.ofMillis(100));
+        transactionTemplate.execute(status -> outboxRepository.claim("books", 10, firstLease));
+        Thread.sleep(300);
+
+        LocalDateTime secondLease = outboxRepository.leaseUntil(Duration.ofMinutes(1));
+        List<OutboxEvent> reclaimed = transactionTemplate.execute(status -> outboxRepository.claim("books", 10, secondLease));
+
+        assertEquals(ids, ids(reclaimed));
+        assertEquals(0, outboxRepository.delete(ids, firstLease));
+        assertEquals(0, outboxRepository.reschedule(ids, firstLease, Duration.ofSeconds(1), "late"));
+        assertEquals(2, rows());
+        assertEquals(2, outboxRepository.delete(ids, secondLease));
+        assertEquals(0, rows());
+    }
+
+    @Test
+    void rescheduleCountsTheAttemptAndDelaysTheRows() {
+        List<Long> ids = insert("books", 2);
+        LocalDateTime lease = outboxRepository.leaseUntil(Duration.ofMinutes(1));
+        transactionTemplate.execute(status -> outboxRepository.claim("books", 10, lease));
+
+        assertEquals(2, outboxRepository.reschedule(ids, lease, Duration.ofSeconds(30), "sink down"));
+
+        Double delaySeconds = jdbcTemplate.queryForObject(
+                "SELECT EXTRACT(EPOCH FROM min(next_attempt_at) - LOCALTIMESTAMP)::float8 FROM outbox_events", Double.class);
+        assertTrue(delaySeconds > 25 && delaySeconds <= 30, "rescheduled " + delaySeconds + " s ahead");
+        assertEquals(List.of(1, 1), jdbcTemplate.queryForList("SELECT attempts FROM outbox_events ORDER BY id", Integer.class));
+        assertEquals("sink down", jdbcTemplate.queryForObject("SELECT DISTINCT last_error FROM outbox_events", String.class));
+        assertTrue(claim("books", Duration.ofMinutes(1)).isEmpty());
+    }
+
+    @Test
+    void orderedClaimStopsAtTheFirstRowThatIsNotDue() {
+        List<Long> ids = insert("books", 3);
+        jdbcTemplate.update("UPDATE outbox_events SET next_attempt_at = LOCALTIMESTAMP + interval '1 hour' WHERE id = ?", ids.get(1));
+
+        List<OutboxEvent> first = claimOrdered("books");
+        List<OutboxEvent> second = claimOrdered("books");
+
+        assertEquals(ids.subList(0, 1), ids(first));
+        assertTrue(second.isEmpty(), "the leased head must block the rest of the topic");
+    }
+
+    @Test
+    void topicLockAdmitsOneOrderedClaimerAtATime() throws Exception {
+        CountDownLatch locked = new CountDownLatch(1);
+        CountDownLatch checked = new CountDownLatch(1);
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            Future<Boolean> holder = executor.submit(() -> transactionTemplate.execute(status -> {
+                boolean acquired = outboxRepository.tryTopicLock("books");
+                locked.countDown();
+                await(checked);
+                return acquired;
+            }));
+            assertTrue(locked.await(10, TimeUnit.SECONDS));
+
+            Boolean sameTopic = transactionTemplate.execute(status -> outboxRepository.tryTopicLock("books"));
+            Boolean otherTopic = transactionTemplate.execute(status -> outboxRepository.tryTopicLock("authors"));
+            checked.countDown();
+
+            assertTrue(holder.get(10, TimeUnit.SECONDS));
+            assertFalse(sameTopic);
+            assertTrue(otherTopic);
+            assertTrue(transactionTemplate.execute(status -> outboxRepository.tryTopicLock("books")));
+        } finally {
+            checked.countDown();
+            executor.shutdownNow();
+        }
+    }
+
+    private List<OutboxEvent> claim(String topic, Duration lease) {
+        return transactionTemplate.execute(status -> outboxRepository.claim(topic, 10, outboxRepository.leaseUntil(lease)));
+    }
+
+    private List<OutboxEvent> claimOrdered(String topic) {
+        return transactionTemplate.execute(status ->
+                outboxRepository.claimOrdered(topic, 10, outboxRepository.leaseUntil(Duration.ofMinutes(1))));
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
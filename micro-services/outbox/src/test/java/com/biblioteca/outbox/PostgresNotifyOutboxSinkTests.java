@@ -0,0 +1,128 @@
+package com.biblioteca.outbox;
+
+import com.biblioteca.outbox.sink.PostgresNotificationListener;
+import com.biblioteca.outbox.sink.PostgresNotifyOutboxSink;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.fail;
+
+/* The notify sink and its listener, end to end through a real LISTEN connection. */
+class PostgresNotifyOutboxSinkTests extends AbstractOutboxPostgresTest {
+
+    private static final String CHANNEL = "outbox_test";
+    private static final long WARM_UP_ID = 0L;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private final BlockingQueue<OutboxEvent> received = new LinkedBlockingQueue<>();
+    private PostgresNotificationListener listener;
+    private PostgresNotifyOutboxSink sink;
+
+    @BeforeEach
+    void listen() {
+        listener = new PostgresNotificationListener(dataSource, CHANNEL, objectMapper, received::add);
+        listener.start();
+        sink = new PostgresNotifyOutboxSink("books", CHANNEL, jdbcTemplate, objectMapper);
+    }
+
+    @AfterEach
+    void stopListening() {
+        listener.stop();
+    }
+
+    @Test
+    void listenerReceivesTheEventWithItsPayload() throws Exception {
+        OutboxEvent delivered = deliverUntilReceived(event(1L, "{\"title\": \"Dune\"}"));
+
+        assertEquals("books", delivered.getTopic());
+        assertEquals("BookUpdated", delivered.getEventType());
+        assertEquals("1", delivered.getAggregateId());
+        assertEquals("Dune", objectMapper.readTree(delivered.getPayload()).get("title").asText());
+    }
+
+    @Test
+    void payloadTooLargeForNotifyIsDropped() throws Exception {
+        String large = "{\"text\": \"" + "x".repeat(10_000) + "\"}";
+
+        OutboxEvent delivered = deliverUntilReceived(event(2L, large));
+
+        assertEquals(2L, delivered.getId().longValue());
+        assertNull(delivered.getPayload());
+    }
+
+    @Test
+    void relayDeliversThroughTheNotifySink() throws Exception {
+        deliverUntilReceived(event(WARM_UP_ID, null));
+        List<Long> ids = insert("books", 2);
+
+        relay(properties(100, Duration.ofMinutes(1), Duration.ofSeconds(1)), sink).poll();
+
+        assertEquals(ids.get(0), poll().getId());
+        assertEquals(ids.get(1), poll().getId());
+        assertEquals(0, rows());
+    }
+
+    @Test
+    void channelNameIsValidated() {
+        assertThrows(IllegalArgumentException.class,
+                () -> new PostgresNotificationListener(dataSource, "books; DROP TABLE outbox_events", objectMapper, event -> { }));
+    }
+
+    /* The LISTEN is issued on the listener's own thread, so resend until the first notification arrives. */
+    private OutboxEvent deliverUntilReceived(OutboxEvent event) throws Exception {
+        for (int attempt = 0; attempt < 20; attempt++) {
+            sink.deliver(List.of(event));
+            OutboxEvent delivered = received.poll(500, TimeUnit.MILLISECONDS);
+            if (delivered != null) {
+                received.clear();
+                assertEquals(event.getId(), delivered.getId());
+                return delivered;
+            }
+        }
+        return fail("no notification received on " + CHANNEL);
+    }
+
+    /* Next relayed event, skipping late copies of the warm-up notification. */
+    private OutboxEvent poll() throws InterruptedException {
+        while (true) {
+            OutboxEvent event = received.poll(5, TimeUnit.SECONDS);
+            if (event == null) {
+                return fail("no notification received on " + CHANNEL);
+            }
+            if (event.getId() != WARM_UP_ID) {
+                return event;
+            }
+        }
+    }
+
+    private static OutboxEvent event(Long id, String payload) {
+        return OutboxEvent.builder()
+                .id(id)
+                .topic("books")
+                .aggregateType("Book")
+                .aggregateId(String.valueOf(id))
+                .eventType("BookUpdated")
+                .payload(payload)
+                .createdAt(LocalDateTime.now())
+                .build();
+    }
+}
@@ -0,0 +1,106 @@
+package com.biblioteca.userlibraryservice.collection;
+
+import com.biblioteca.userlibraryservice.dto.readingCollections.CollectionBookMoveDTO;
+import com.biblioteca.userlibraryservice.repository.CollectionMembershipRepository.Member;
+import com.biblioteca.userlibraryservice.util.exception.CustomException;
+import org.springframework.http.HttpStatus;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/*
+ * Gap-based positions for collection members. Books are spaced GAP apart and a moved book
+ * takes the midpoint of its new neighbours, so a move writes one row. Only when two
+ * neighbours are adjacent (about log2(GAP) moves into the same spot) is the collection
+ * renumbered, and then every member is written once.
+ */
+public class CollectionOrdering {
+    public static final int GAP = 1024;
+
+    /* Positions for count books appended after lastPosition, or null if they do not fit. */
+    public static int[] append(Integer lastPosition, int count) {
+        long start = lastPosition != null ? lastPosition : 0;
+        if (start + (long) count * GAP > Integer.MAX_VALUE) {
+            return null;
+        }
+
+        int[] positions = new int[count];
+        for (int i = 0; i < count; i++) {
+            positions[i] = (int) (start + (long) (i + 1) * GAP);
+        }
+
+        return positions;
+    }
+
+    public static List<Member> renumber(List<Member> members) {
+        List<Member> renumbered = new ArrayList<>(members.size());
+        for (int i = 0; i < members.size(); i++) {
+            Member member = members.get(i);
+            renumbered.add(new Member(member.id(), member.userBookId(), (i + 1) * GAP));
+        }
+
+        return renumbered;
+    }
+
+    /* Applies the moves in order to members (sorted by position) and returns the members whose position changed. */
+    public static List<Member> move(List<Member> members, List<CollectionBookMoveDTO> moves) {
+        List<Member> ordered = new ArrayList<>(members);
+        Map<Integer, Member> changed = new LinkedHashMap<>();
+
+        for (CollectionBookMoveDTO move : moves) {
+            if (Objects.equals(move.getUserBookId(), move.getAfterUserBookId())) {
+                throw new CustomException("A book can not be moved after itself", HttpStatus.BAD_REQUEST.value());
+            }
+
+            Member moving = ordered.remove(indexOf(ordered, move.getUserBookId()));
+            int index = move.getAfterUserBookId() != null ? indexOf(ordered, move.getAfterUserBookId()) + 1 : 0;
+
+            Integer position = between(ordered, index);
+            if (position == null) {
+                ordered = renumber(ordered);
+                ordered.forEach(member -> changed.put(member.id(), member));
+                position = between(ordered, index);
+            }
+
+            Member moved = new Member(moving.id(), moving.userBookId(), position);
+            ordered.add(index, moved);
+            changed.put(moved.id(), moved);
+        }
+
+        return List.copyOf(changed.values());
+    }
+
+    /* A free position between index - 1 and index, or null if the neighbours are adjacent. */
+    private static Integer between(List<Member> ordered, int index) {
+        Long previous = index > 0 ? (long) ordered.get(index - 1).displayOrder() : null;
+        Long next = index < ordered.size() ? (long) ordered.get(index).displayOrder() : null;
+
+        long position;
+        if (previous == null && next == null) {
+            position = GAP;
+        } else if (previous == null) {
+            position = next - GAP;
+        } else if (next == null) {
+            position = previous + GAP;
+        } else if (next - previous >= 2) {
+            position = previous + (next - previous) / 2;
+        } else {
+            return null;
+        }
+
+        return position >= Integer.MIN_VALUE && position <= Integer.MAX_VALUE ? (int) position : null;
+    }
+
+    private static int indexOf(List<Member> ordered, Integer userBookId) {
+        for (int i = 0; i < ordered.size(); i++) {
+            if (ordered.get(i).userBookId().equals(userBookId)) {
+                return i;
+            }
+        }
+
+        throw new CustomException("UserBook " + userBookId + " is not in the collection", HttpStatus.BAD_REQUEST.value());
+    }
+}
@@ -0,0 +1,56 @@
+package com.biblioteca.userlibraryservice.config;
+
+import com.biblioteca.outbox.sink.HttpOutboxSink;
+import com.biblioteca.outbox.sink.OutboxSink;
+import com.biblioteca.outbox.sink.PostgresNotifyOutboxSink;
+import com.biblioteca.userlibraryservice.wishlist.PriceAlertEvaluator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.cloud.client.loadbalancer.LoadBalanced;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+
+/*
+ * Delivery of the "price-alerts" outbox topic. By default alerts are posted to the notification
+ * service, authenticated with the shared notification token; while it is unreachable they stay
+ * in the outbox and are retried with backoff. price-alerts.sink=notify sends them with pg_notify
+ * on the price_alerts channel instead, which only suits a consumer that keeps a LISTEN open on
+ * this database: notifications sent while nobody listens are lost.
+ */
+@Configuration
+public class PriceAlertConfig {
+    public static final String TOKEN_HEADER = "X-Notification-Token";
+
+    @Bean
+    @ConditionalOnProperty(name = "price-alerts.sink", havingValue = "http", matchIfMissing = true)
+    public OutboxSink priceAlertHttpSink(@LoadBalanced WebClient.Builder webClient,
+                                         @Value("${price-alerts.notification.url}") String url,
+                                         @Value("${price-alerts.notification.path:/v1/notifications/price_alerts}") String path,
+                                         @Value("${price-alerts.notification.token}") String token,
+                                         @Value("${price-alerts.notification.timeout-ms:5000}") long timeoutMillis) {
+        if (token == null || token.isBlank()) {
+            throw new IllegalStateException("price-alerts.notification.token must be set");
+        }
+        return new HttpOutboxSink(PriceAlertEvaluator.TOPIC, false, webClient.clone().baseUrl(url).build(), path,
+                headers -> headers.set(TOKEN_HEADER, token), Duration.ofMillis(timeoutMillis));
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "price-alerts.sink", havingValue = "notify")
+    public OutboxSink priceAlertNotifySink(DataSource dataSource, ObjectMapper objectMapper) {
+        return new PostgresNotifyOutboxSink(PriceAlertEvaluator.TOPIC, "price_alerts", new JdbcTemplate(dataSource), objectMapper);
+    }
+
+    @Bean
+    @LoadBalanced
+    @ConditionalOnProperty(name = "price-alerts.sink", havingValue = "http", matchIfMissing = true)
+    public WebClient.Builder loadBalancedWebClientBuilder() {
+        return WebClient.builder();
+    }
+}
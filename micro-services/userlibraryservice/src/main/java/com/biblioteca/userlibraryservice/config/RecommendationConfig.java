@@ -0,0 +1,27 @@
+package com.biblioteca.userlibraryservice.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+/*
+ * Scores users the nightly refresh has not seen yet, off the request thread. The queue is
+ * bounded and a full queue rejects the task: the user keeps getting the popular fallback and
+ * is queued again on the next request.
+ */
+@Configuration
+public class RecommendationConfig {
+
+    @Bean(name = "recommendationExecutor")
+    public ThreadPoolTaskExecutor recommendationExecutor(@Value("${recommendations.on-demand.concurrency:2}") int concurrency,
+                                                         @Value("${recommendations.on-demand.queue-capacity:100}") int queueCapacity) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(concurrency);
+        executor.setMaxPoolSize(concurrency);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("recommendation-");
+        executor.initialize();
+        return executor;
+    }
+}
@@ -0,0 +1,58 @@
+package com.biblioteca.userlibraryservice.controller;
+
+import com.biblioteca.userlibraryservice.dto.catalogSnapshot.CatalogChangeEventDTO;
+import com.biblioteca.userlibraryservice.dto.response.ResponseDTO;
+import com.biblioteca.userlibraryservice.service.CatalogSnapshotService;
+import com.biblioteca.userlibraryservice.util.exception.CustomException;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.List;
+
+/*
+ * Called by the catalogservice outbox relay, authenticated with the shared replication token.
+ * The endpoint is open in WebSecurityConfig, so the token is checked here before any event
+ * reaches the service; startup fails when no token is configured.
+ */
+@RestController
+@Slf4j
+@Tag(name = "5. Catalog Snapshot Controller", description = "Catalog Replication Related APIs")
+@RequestMapping("/v1/catalog_snapshots")
+public class CatalogSnapshotController {
+    public static final String TOKEN_HEADER = "X-Replication-Token";
+
+    private final CatalogSnapshotService catalogSnapshotService;
+    private final byte[] token;
+
+    public CatalogSnapshotController(CatalogSnapshotService catalogSnapshotService,
+                                     @Value("${catalog.replication.token}") String token) {
+        if (token == null || token.isBlank()) {
+            throw new IllegalStateException("catalog.replication.token must be set");
+        }
+        this.catalogSnapshotService = catalogSnapshotService;
+        this.token = token.getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Operation(summary = "API ID: CatalogSnapshot001")
+    @PostMapping("/events")
+    public ResponseEntity<ResponseDTO<Integer>> applyEvents(@RequestBody List<CatalogChangeEventDTO> events,
+                                                            @RequestHeader(value = TOKEN_HEADER, required = false) String token) {
+        if (token == null || !MessageDigest.isEqual(this.token, token.getBytes(StandardCharsets.UTF_8))) {
+            log.error("applyEvents in CatalogSnapshotController is called with an invalid replication token");
+            throw new CustomException("Invalid replication token", HttpStatus.UNAUTHORIZED.value());
+        }
+
+        log.info("applyEvents in CatalogSnapshotController is called with {} events", events.size());
+
+        Integer applied = catalogSnapshotService.applyEvents(events);
+
+        return new ResponseEntity<>(new ResponseDTO<>(applied, "success", HttpStatus.OK.value()), HttpStatus.OK);
+    }
+}
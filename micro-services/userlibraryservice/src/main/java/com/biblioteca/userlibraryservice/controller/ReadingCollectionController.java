@@ -0,0 +1,142 @@
+package com.biblioteca.userlibraryservice.controller;
+
+import com.biblioteca.userlibraryservice.dto.pagination.CursorPageDTO;
+import com.biblioteca.userlibraryservice.dto.pagination.CursorPageRequestDTO;
+import com.biblioteca.userlibraryservice.dto.readingCollections.*;
+import com.biblioteca.userlibraryservice.dto.response.ResponseDTO;
+import com.biblioteca.userlibraryservice.service.ReadingCollectionService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@Slf4j
+@RequiredArgsConstructor
+@Tag(name = "10. Reading Collection Controller", description = "Reading Collection Related APIs")
+@RequestMapping("/v1/collections")
+public class ReadingCollectionController {
+    private final ReadingCollectionService readingCollectionService;
+
+    @Operation(summary = "API ID: ReadingCollection001")
+    @PostMapping
+    public ResponseEntity<ResponseDTO<ReadingCollectionDTO>> createReadingCollection(@RequestBody @Valid ReadingCollectionCreateDTO createDTO,
+                                                                                     HttpServletRequest request,
+                                                                                     @Parameter(hidden = true) @AuthenticationPrincipal Jwt jwt) {
+        log.info("createReadingCollection in ReadingCollectionController is called by user: {}", jwt.getSubject());
+
+        ReadingCollectionDTO readingCollectionDTO = readingCollectionService.createReadingCollection(createDTO, request, jwt);
+
+        return new ResponseEntity<>(new ResponseDTO<>(readingCollectionDTO, "success", HttpStatus.CREATED.value()), HttpStatus.CREATED);
+    }
+
+    @GetMapping("/user/{userId}")
+    @Operation(summary = "API ID: ReadingCollection002")
+    public ResponseEntity<ResponseDTO<List<ReadingCollectionDTO>>> getReadingCollectionsByUserId(@PathVariable Integer userId, HttpServletRequest request,
+                                                                                                 @Parameter(hidden = true) @AuthenticationPrincipal Jwt jwt) {
+        log.info("getReadingCollectionsByUserId in ReadingCollectionController is called by user: {}", jwt.getSubject());
+
+        List<ReadingCollectionDTO> collections = readingCollectionService.getReadingCollectionsByUserId(userId, request, jwt);
+
+        return new ResponseEntity<>(new ResponseDTO<>(collections, "success", HttpStatus.OK.value()), HttpStatus.OK);
+    }
+
+    @GetMapping("/{id}")
+    @Operation(summary = "API ID: ReadingCollection003")
+    public ResponseEntity<ResponseDTO<ReadingCollectionDTO>> getReadingCollectionById(@PathVariable Integer id, HttpServletRequest request,
+                                                                                      @Parameter(hidden = true) @AuthenticationPrincipal Jwt jwt) {
+        log.info("getReadingCollectionById in ReadingCollectionController is called by user: {}", jwt.getSubject());
+
+        ReadingCollectionDTO readingCollectionDTO = readingCollectionService.getReadingCollectionById(id, request, jwt);
+
+        return new ResponseEntity<>(new ResponseDTO<>(readingCollectionDTO, "success", HttpStatus.OK.value()), HttpStatus.OK);
+    }
+
+    @PutMapping
+    @Operation(summary = "API ID: ReadingCollection004")
+    public ResponseEntity<ResponseDTO<ReadingCollectionDTO>> updateReadingCollection(@RequestBody @Valid ReadingCollectionUpdateDTO updateDTO,
+                                                                                     HttpServletRequest request,
+                                                                                     @Parameter(hidden = true) @AuthenticationPrincipal Jwt jwt) {
+        log.info("updateReadingCollection in ReadingCollectionController is called by user: {}", jwt.getSubject());
+
+        ReadingCollectionDTO readingCollectionDTO = readingCollectionService.updateReadingCollection(updateDTO, request, jwt);
+
+        return new ResponseEntity<>(new ResponseDTO<>(readingCollectionDTO, "success", HttpStatus.OK.value()), HttpStatus.OK);
+    }
+
+    @DeleteMapping("/{id}")
+    @Operation(summary = "API ID: ReadingCollection005")
+    public ResponseEntity<ResponseDTO<String>> deleteReadingCollection(@PathVariable Integer id, HttpServletRequest request,
+                                                                       @Parameter(hidden = true) @AuthenticationPrincipal Jwt jwt) {
+        log.info("deleteReadingCollection in ReadingCollectionController is called by user: {}", jwt.getSubject());
+
+        String message = readingCollectionService.deleteReadingCollection(id, request, jwt);
+
+        return new ResponseEntity<>(new ResponseDTO<>(message, "success", HttpStatus.OK.value()), HttpStatus.OK);
+    }
+
+    @GetMapping("/{id}/books")
+    @Operation(summary = "API ID: ReadingCollection006")
+    public ResponseEntity<ResponseDTO<CursorPageDTO<CollectionBookDTO>>> getCollectionBooks(@PathVariable Integer id,
+                                                                                            @RequestParam(value = "after", required = false) String after,
+                                                                                            @RequestParam(value = "size", required = false, defaultValue = "20") int size,
+                                                                                            HttpServletRequest request,
+                                                                                            @Parameter(hidden = true) @AuthenticationPrincipal Jwt jwt) {
+        log.info("getCollectionBooks in ReadingCollectionController is called by user: {}", jwt.getSubject());
+
+        CursorPageRequestDTO cursorPageRequestDTO = new CursorPageRequestDTO(after, size);
+
+        CursorPageDTO<CollectionBookDTO> books = readingCollectionService.getCollectionBooks(id, cursorPageRequestDTO, request, jwt);
+
+        return new ResponseEntity<>(new ResponseDTO<>(books, "success", HttpStatus.OK.value()), HttpStatus.OK);
+    }
+
+    @PostMapping("/{id}/books")
+    @Operation(summary = "API ID: ReadingCollection007")
+    public ResponseEntity<ResponseDTO<ReadingCollectionDTO>> addCollectionBooks(@PathVariable Integer id,
+                                                                                @RequestBody @Valid CollectionBooksAddDTO addDTO,
+                                                                                HttpServletRequest request,
+                                                                                @Parameter(hidden = true) @AuthenticationPrincipal Jwt jwt) {
+        log.info("addCollectionBooks in ReadingCollectionController is called by user: {}", jwt.getSubject());
+
+        ReadingCollectionDTO readingCollectionDTO = readingCollectionService.addCollectionBooks(id, addDTO, request, jwt);
+
+        return new ResponseEntity<>(new ResponseDTO<>(readingCollectionDTO, "success", HttpStatus.CREATED.value()), HttpStatus.CREATED);
+    }
+
+    @DeleteMapping("/{id}/books")
+    @Operation(summary = "API ID: ReadingCollection008")
+    public ResponseEntity<ResponseDTO<ReadingCollectionDTO>> removeCollectionBooks(@PathVariable Integer id,
+                                                                                   @RequestParam("userBookIds") List<Integer> userBookIds,
+                                                                                   HttpServletRequest request,
+                                                                                   @Parameter(hidden = true) @AuthenticationPrincipal Jwt jwt) {
+        log.info("removeCollectionBooks in ReadingCollectionController is called by user: {}", jwt.getSubject());
+
+        ReadingCollectionDTO readingCollectionDTO = readingCollectionService.removeCollectionBooks(id, userBookIds, request, jwt);
+
+        return new ResponseEntity<>(new ResponseDTO<>(readingCollectionDTO, "success", HttpStatus.OK.value()), HttpStatus.OK);
+    }
+
+    @PutMapping("/{id}/books/order")
+    @Operation(summary = "API ID: ReadingCollection009")
+    public ResponseEntity<ResponseDTO<ReadingCollectionDTO>> reorderCollectionBooks(@PathVariable Integer id,
+                                                                                    @RequestBody @Valid CollectionBooksReorderDTO reorderDTO,
+                                                                                    HttpServletRequest request,
+                                                                                    @Parameter(hidden = true) @AuthenticationPrincipal Jwt jwt) {
+        log.info("reorderCollectionBooks in ReadingCollectionController is called by user: {}", jwt.getSubject());
+
+        ReadingCollectionDTO readingCollectionDTO = readingCollectionService.reorderCollectionBooks(id, reorderDTO, request, jwt);
+
+        return new ResponseEntity<>(new ResponseDTO<>(readingCollectionDTO, "success", HttpStatus.OK.value()), HttpStatus.OK);
+    }
+}
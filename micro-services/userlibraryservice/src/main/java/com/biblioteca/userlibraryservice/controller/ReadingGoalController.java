@@ -0,0 +1,75 @@
+package com.biblioteca.userlibraryservice.controller;
+
+import com.biblioteca.userlibraryservice.dto.readingGoals.ReadingGoalCreateDTO;
+import com.biblioteca.userlibraryservice.dto.readingGoals.ReadingGoalDTO;
+import com.biblioteca.userlibraryservice.dto.readingGoals.ReadingStreakDTO;
+import com.biblioteca.userlibraryservice.dto.response.ResponseDTO;
+import com.biblioteca.userlibraryservice.service.ReadingGoalService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@Slf4j
+@RequiredArgsConstructor
+@Tag(name = "7. Reading Goal Controller", description = "Reading Goal and Streak Related APIs")
+@RequestMapping("/v1/reading_goals")
+public class ReadingGoalController {
+    private final ReadingGoalService readingGoalService;
+
+    @Operation(summary = "API ID: ReadingGoal001")
+    @PostMapping
+    public ResponseEntity<ResponseDTO<ReadingGoalDTO>> createReadingGoal(@RequestBody @Valid ReadingGoalCreateDTO createDTO,
+                                                                         HttpServletRequest request,
+                                                                         @Parameter(hidden = true) @AuthenticationPrincipal Jwt jwt) {
+        log.info("createReadingGoal in ReadingGoalController is called by user: {}", jwt.getSubject());
+
+        ReadingGoalDTO readingGoalDTO = readingGoalService.createReadingGoal(createDTO, request, jwt);
+
+        return new ResponseEntity<>(new ResponseDTO<>(readingGoalDTO, "success", HttpStatus.CREATED.value()), HttpStatus.CREATED);
+    }
+
+    @GetMapping("/user/{userId}")
+    @Operation(summary = "API ID: ReadingGoal002")
+    public ResponseEntity<ResponseDTO<List<ReadingGoalDTO>>> getReadingGoals(@PathVariable Integer userId, HttpServletRequest request,
+                                                                             @Parameter(hidden = true) @AuthenticationPrincipal Jwt jwt) {
+        log.info("getReadingGoals in ReadingGoalController is called by user: {}", jwt.getSubject());
+
+        List<ReadingGoalDTO> readingGoals = readingGoalService.getReadingGoals(userId, request, jwt);
+
+        return new ResponseEntity<>(new ResponseDTO<>(readingGoals, "success", HttpStatus.OK.value()), HttpStatus.OK);
+    }
+
+    @DeleteMapping("/{id}")
+    @Operation(summary = "API ID: ReadingGoal003")
+    public ResponseEntity<ResponseDTO<String>> deleteReadingGoal(@PathVariable Integer id, HttpServletRequest request,
+                                                                 @Parameter(hidden = true) @AuthenticationPrincipal Jwt jwt) {
+        log.info("deleteReadingGoal in ReadingGoalController is called by user: {}", jwt.getSubject());
+
+        String message = readingGoalService.deleteReadingGoal(id, request, jwt);
+
+        return new ResponseEntity<>(new ResponseDTO<>(message, "success", HttpStatus.OK.value()), HttpStatus.OK);
+    }
+
+    @GetMapping("/user/{userId}/streak")
+    @Operation(summary = "API ID: ReadingGoal004")
+    public ResponseEntity<ResponseDTO<ReadingStreakDTO>> getReadingStreak(@PathVariable Integer userId, HttpServletRequest request,
+                                                                          @Parameter(hidden = true) @AuthenticationPrincipal Jwt jwt) {
+        log.info("getReadingStreak in ReadingGoalController is called by user: {}", jwt.getSubject());
+
+        ReadingStreakDTO readingStreakDTO = readingGoalService.getReadingStreak(userId, request, jwt);
+
+        return new ResponseEntity<>(new ResponseDTO<>(readingStreakDTO, "success", HttpStatus.OK.value()), HttpStatus.OK);
+    }
+}
@@ -0,0 +1,71 @@
+package com.biblioteca.userlibraryservice.controller;
+
+import com.biblioteca.userlibraryservice.dto.pagination.CursorPageDTO;
+import com.biblioteca.userlibraryservice.dto.pagination.CursorPageRequestDTO;
+import com.biblioteca.userlibraryservice.dto.readingSessions.ReadingSessionBatchCreateDTO;
+import com.biblioteca.userlibraryservice.dto.readingSessions.ReadingSessionBatchResultDTO;
+import com.biblioteca.userlibraryservice.dto.readingSessions.ReadingSessionCreateDTO;
+import com.biblioteca.userlibraryservice.dto.readingSessions.ReadingSessionDTO;
+import com.biblioteca.userlibraryservice.dto.response.ResponseDTO;
+import com.biblioteca.userlibraryservice.service.ReadingSessionService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@Slf4j
+@RequiredArgsConstructor
+@Tag(name = "6. Reading Session Controller", description = "Reading Session Related APIs")
+@RequestMapping("/v1/reading_sessions")
+public class ReadingSessionController {
+    private final ReadingSessionService readingSessionService;
+
+    @Operation(summary = "API ID: ReadingSession001")
+    @PostMapping
+    public ResponseEntity<ResponseDTO<ReadingSessionDTO>> createReadingSession(@RequestBody @Valid ReadingSessionCreateDTO createDTO,
+                                                                               HttpServletRequest request,
+                                                                               @Parameter(hidden = true) @AuthenticationPrincipal Jwt jwt) {
+        log.info("createReadingSession in ReadingSessionController is called by user: {}", jwt.getSubject());
+
+        ReadingSessionDTO readingSessionDTO = readingSessionService.createReadingSession(createDTO, request, jwt);
+
+        return new ResponseEntity<>(new ResponseDTO<>(readingSessionDTO, "success", HttpStatus.CREATED.value()), HttpStatus.CREATED);
+    }
+
+    @Operation(summary = "API ID: ReadingSession002")
+    @PostMapping("/batch")
+    public ResponseEntity<ResponseDTO<ReadingSessionBatchResultDTO>> createReadingSessions(@RequestBody @Valid ReadingSessionBatchCreateDTO batchCreateDTO,
+                                                                                           HttpServletRequest request,
+                                                                                           @Parameter(hidden = true) @AuthenticationPrincipal Jwt jwt) {
+        log.info("createReadingSessions in ReadingSessionController is called by user: {}", jwt.getSubject());
+
+        ReadingSessionBatchResultDTO result = readingSessionService.createReadingSessions(batchCreateDTO, request, jwt);
+
+        return new ResponseEntity<>(new ResponseDTO<>(result, "success", HttpStatus.OK.value()), HttpStatus.OK);
+    }
+
+    @GetMapping("/user_book/{userBookId}")
+    @Operation(summary = "API ID: ReadingSession003")
+    public ResponseEntity<ResponseDTO<CursorPageDTO<ReadingSessionDTO>>> getReadingSessions(@PathVariable Integer userBookId,
+                                                                                            @RequestParam(value = "after", required = false) String after,
+                                                                                            @RequestParam(value = "size", required = false, defaultValue = "20") int size,
+                                                                                            HttpServletRequest request,
+                                                                                            @Parameter(hidden = true) @AuthenticationPrincipal Jwt jwt) {
+        log.info("getReadingSessions in ReadingSessionController is called by user: {}", jwt.getSubject());
+
+        CursorPageRequestDTO cursorPageRequestDTO = new CursorPageRequestDTO(after, size);
+
+        CursorPageDTO<ReadingSessionDTO> sessions = readingSessionService.getReadingSessions(userBookId, cursorPageRequestDTO, request, jwt);
+
+        return new ResponseEntity<>(new ResponseDTO<>(sessions, "success", HttpStatus.OK.value()), HttpStatus.OK);
+    }
+}
@@ -0,0 +1,41 @@
+package com.biblioteca.userlibraryservice.controller;
+
+import com.biblioteca.userlibraryservice.dto.readingStats.ReadingStatsDTO;
+import com.biblioteca.userlibraryservice.dto.response.ResponseDTO;
+import com.biblioteca.userlibraryservice.service.ReadingStatsService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDate;
+
+@RestController
+@Slf4j
+@RequiredArgsConstructor
+@Tag(name = "8. Reading Stats Controller", description = "Reading Statistics Related APIs")
+@RequestMapping("/v1/stats")
+public class ReadingStatsController {
+    private final ReadingStatsService readingStatsService;
+
+    @GetMapping("/user/{userId}")
+    @Operation(summary = "API ID: ReadingStats001")
+    public ResponseEntity<ResponseDTO<ReadingStatsDTO>> getReadingStats(@PathVariable Integer userId,
+                                                                        @RequestParam(required = false) LocalDate startDate,
+                                                                        @RequestParam(required = false) LocalDate endDate,
+                                                                        HttpServletRequest request,
+                                                                        @Parameter(hidden = true) @AuthenticationPrincipal Jwt jwt) {
+        log.info("getReadingStats in ReadingStatsController is called by user: {}", jwt.getSubject());
+
+        ReadingStatsDTO readingStatsDTO = readingStatsService.getReadingStats(userId, startDate, endDate, request, jwt);
+
+        return new ResponseEntity<>(new ResponseDTO<>(readingStatsDTO, "success", HttpStatus.OK.value()), HttpStatus.OK);
+    }
+}
@@ -0,0 +1,51 @@
+package com.biblioteca.userlibraryservice.controller;
+
+import com.biblioteca.userlibraryservice.dto.recommendations.RecommendationsDTO;
+import com.biblioteca.userlibraryservice.dto.response.ResponseDTO;
+import com.biblioteca.userlibraryservice.service.RecommendationService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@Slf4j
+@RequiredArgsConstructor
+@Tag(name = "11. Recommendation Controller", description = "Book Recommendation Related APIs")
+@RequestMapping("/v1/recommendations")
+public class RecommendationController {
+    private final RecommendationService recommendationService;
+
+    @GetMapping("/user/{userId}")
+    @Operation(summary = "API ID: Recommendation001")
+    public ResponseEntity<ResponseDTO<RecommendationsDTO>> getRecommendations(@PathVariable Integer userId,
+                                                                              @RequestParam(value = "limit", required = false, defaultValue = "20") int limit,
+                                                                              HttpServletRequest request,
+                                                                              @Parameter(hidden = true) @AuthenticationPrincipal Jwt jwt) {
+        log.info("getRecommendations in RecommendationController is called by user: {}", jwt.getSubject());
+
+        RecommendationsDTO recommendations = recommendationService.getRecommendations(userId, limit, request, jwt);
+
+        return new ResponseEntity<>(new ResponseDTO<>(recommendations, "success", HttpStatus.OK.value()), HttpStatus.OK);
+    }
+
+    @PostMapping("/user/{userId}/refresh")
+    @Operation(summary = "API ID: Recommendation002")
+    public ResponseEntity<ResponseDTO<RecommendationsDTO>> refreshRecommendations(@PathVariable Integer userId,
+                                                                                  @RequestParam(value = "limit", required = false, defaultValue = "20") int limit,
+                                                                                  HttpServletRequest request,
+                                                                                  @Parameter(hidden = true) @AuthenticationPrincipal Jwt jwt) {
+        log.info("refreshRecommendations in RecommendationController is called by user: {}", jwt.getSubject());
+
+        RecommendationsDTO recommendations = recommendationService.refreshRecommendations(userId, limit, request, jwt);
+
+        return new ResponseEntity<>(new ResponseDTO<>(recommendations, "success", HttpStatus.OK.value()), HttpStatus.OK);
+    }
+}
@@ -20,6 +20,8 @@ import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.security.oauth2.jwt.Jwt;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.List;
+
 @RestController
 @Slf4j
 @RequiredArgsConstructor
@@ -84,4 +86,15 @@ public class UserAuthorPreferenceController {
 
         return new ResponseEntity<>(new ResponseDTO<>(message, "success", HttpStatus.OK.value()), HttpStatus.OK);
     }
+
+    @GetMapping("/all/user/{userId}")
+    @Operation(summary = "API ID: UserAuthorPreferences006")
+    public ResponseEntity<ResponseDTO<List<UserAuthorPreferenceDTO>>> getAllUserAuthors(@PathVariable Integer userId, HttpServletRequest request,
+                                                                                          @Parameter(hidden = true) @AuthenticationPrincipal Jwt jwt ){
+        log.info("getAllUserAuthors in UserAuthorPreferenceController is called by user: {}", jwt.getSubject());
+
+        List<UserAuthorPreferenceDTO> dtos = userAuthorPreferenceService.getAllUserAuthorsByUserId(userId, request, jwt);
+
+        return new ResponseEntity<>(new ResponseDTO<>(dtos, "success", HttpStatus.OK.value()), HttpStatus.OK);
+    }
 }
@@ -0,0 +1,107 @@
+package com.biblioteca.userlibraryservice.controller;
+
+import com.biblioteca.userlibraryservice.dto.pagination.CursorPageDTO;
+import com.biblioteca.userlibraryservice.dto.pagination.CursorPageRequestDTO;
+import com.biblioteca.userlibraryservice.dto.response.ResponseDTO;
+import com.biblioteca.userlibraryservice.dto.userBooks.UserBookCreateDTO;
+import com.biblioteca.userlibraryservice.dto.userBooks.UserBookDTO;
+import com.biblioteca.userlibraryservice.dto.userBooks.UserBookShelfItemDTO;
+import com.biblioteca.userlibraryservice.dto.userBooks.UserBookUpdateDTO;
+import com.biblioteca.userlibraryservice.service.UserBookService;
+import com.biblioteca.userlibraryservice.util.enums.BookStatus;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.Map;
+
+@RestController
+@Slf4j
+@RequiredArgsConstructor
+@Tag(name = "4. User Book Controller", description = "User Book Related APIs")
+@RequestMapping("/v1/user_books")
+public class UserBookController {
+    private final UserBookService userBookService;
+
+    @Operation(summary = "API ID: UserBook001")
+    @PostMapping
+    public ResponseEntity<ResponseDTO<UserBookDTO>> createUserBook(@RequestBody @Valid UserBookCreateDTO createDTO,
+                                                                   HttpServletRequest request,
+                                                                   @Parameter(hidden = true) @AuthenticationPrincipal Jwt jwt) {
+        log.info("createUserBook in UserBookController is called by user: {}", jwt.getSubject());
+
+        UserBookDTO userBookDTO = userBookService.createUserBook(createDTO, request, jwt);
+
+        return new ResponseEntity<>(new ResponseDTO<>(userBookDTO, "success", HttpStatus.CREATED.value()), HttpStatus.CREATED);
+    }
+
+    @GetMapping("/{id}")
+    @Operation(summary = "API ID: UserBook002")
+    public ResponseEntity<ResponseDTO<UserBookDTO>> getUserBookById(@PathVariable Integer id, HttpServletRequest request,
+                                                                    @Parameter(hidden = true) @AuthenticationPrincipal Jwt jwt) {
+        log.info("getUserBookById in UserBookController is called by user: {}", jwt.getSubject());
+
+        UserBookDTO userBookDTO = userBookService.getUserBookById(id, request, jwt);
+
+        return new ResponseEntity<>(new ResponseDTO<>(userBookDTO, "success", HttpStatus.OK.value()), HttpStatus.OK);
+    }
+
+    @PutMapping
+    @Operation(summary = "API ID: UserBook003")
+    public ResponseEntity<ResponseDTO<UserBookDTO>> updateUserBook(@RequestBody @Valid UserBookUpdateDTO updateDTO,
+                                                                   HttpServletRequest request, @Parameter(hidden = true) @AuthenticationPrincipal Jwt jwt) {
+        log.info("updateUserBook in UserBookController is called by user: {}", jwt.getSubject());
+
+        UserBookDTO userBookDTO = userBookService.updateUserBook(updateDTO, request, jwt);
+
+        return new ResponseEntity<>(new ResponseDTO<>(userBookDTO, "success", HttpStatus.OK.value()), HttpStatus.OK);
+    }
+
+    @DeleteMapping("/{id}")
+    @Operation(summary = "API ID: UserBook004")
+    public ResponseEntity<ResponseDTO<String>> deleteUserBook(@PathVariable Integer id, HttpServletRequest request,
+                                                              @Parameter(hidden = true) @AuthenticationPrincipal Jwt jwt) {
+        log.info("deleteUserBook in UserBookController is called by user: {}", jwt.getSubject());
+
+        String message = userBookService.deleteUserBook(id, request, jwt);
+
+        return new ResponseEntity<>(new ResponseDTO<>(message, "success", HttpStatus.OK.value()), HttpStatus.OK);
+    }
+
+    @GetMapping("/user/{userId}/shelf")
+    @Operation(summary = "API ID: UserBook005")
+    public ResponseEntity<ResponseDTO<CursorPageDTO<UserBookShelfItemDTO>>> getShelf(@PathVariable Integer userId,
+                                                                                     @RequestParam(value = "status", required = false) BookStatus status,
+                                                                                     @RequestParam(value = "after", required = false) String after,
+                                                                                     @RequestParam(value = "size", required = false, defaultValue = "20") int size,
+                                                                                     HttpServletRequest request,
+                                                                                     @Parameter(hidden = true) @AuthenticationPrincipal Jwt jwt) {
+        log.info("getShelf in UserBookController is called by user: {}", jwt.getSubject());
+
+        CursorPageRequestDTO cursorPageRequestDTO = new CursorPageRequestDTO(after, size);
+
+        CursorPageDTO<UserBookShelfItemDTO> shelf = userBookService.getShelf(userId, status, cursorPageRequestDTO, request, jwt);
+
+        return new ResponseEntity<>(new ResponseDTO<>(shelf, "success", HttpStatus.OK.value()), HttpStatus.OK);
+    }
+
+    @GetMapping("/user/{userId}/shelf_counts")
+    @Operation(summary = "API ID: UserBook006")
+    public ResponseEntity<ResponseDTO<Map<BookStatus, Long>>> getShelfCounts(@PathVariable Integer userId, HttpServletRequest request,
+                                                                             @Parameter(hidden = true) @AuthenticationPrincipal Jwt jwt) {
+        log.info("getShelfCounts in UserBookController is called by user: {}", jwt.getSubject());
+
+        Map<BookStatus, Long> counts = userBookService.getShelfCounts(userId, request, jwt);
+
+        return new ResponseEntity<>(new ResponseDTO<>(counts, "success", HttpStatus.OK.value()), HttpStatus.OK);
+    }
+}
@@ -0,0 +1,87 @@
+package com.biblioteca.userlibraryservice.controller;
+
+import com.biblioteca.userlibraryservice.dto.response.ResponseDTO;
+import com.biblioteca.userlibraryservice.dto.wishlists.WishlistCreateDTO;
+import com.biblioteca.userlibraryservice.dto.wishlists.WishlistDTO;
+import com.biblioteca.userlibraryservice.dto.wishlists.WishlistUpdateDTO;
+import com.biblioteca.userlibraryservice.service.WishlistService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@Slf4j
+@RequiredArgsConstructor
+@Tag(name = "9. Wishlist Controller", description = "Wishlist and Price Watch Related APIs")
+@RequestMapping("/v1/wishlists")
+public class WishlistController {
+    private final WishlistService wishlistService;
+
+    @Operation(summary = "API ID: Wishlist001")
+    @PostMapping
+    public ResponseEntity<ResponseDTO<WishlistDTO>> createWishlistItem(@RequestBody @Valid WishlistCreateDTO createDTO,
+                                                                       HttpServletRequest request,
+                                                                       @Parameter(hidden = true) @AuthenticationPrincipal Jwt jwt) {
+        log.info("createWishlistItem in WishlistController is called by user: {}", jwt.getSubject());
+
+        WishlistDTO wishlistDTO = wishlistService.createWishlistItem(createDTO, request, jwt);
+
+        return new ResponseEntity<>(new ResponseDTO<>(wishlistDTO, "success", HttpStatus.CREATED.value()), HttpStatus.CREATED);
+    }
+
+    @GetMapping("/user/{userId}")
+    @Operation(summary = "API ID: Wishlist002")
+    public ResponseEntity<ResponseDTO<List<WishlistDTO>>> getWishlistByUserId(@PathVariable Integer userId, HttpServletRequest request,
+                                                                              @Parameter(hidden = true) @AuthenticationPrincipal Jwt jwt) {
+        log.info("getWishlistByUserId in WishlistController is called by user: {}", jwt.getSubject());
+
+        List<WishlistDTO> wishlist = wishlistService.getWishlistByUserId(userId, request, jwt);
+
+        return new ResponseEntity<>(new ResponseDTO<>(wishlist, "success", HttpStatus.OK.value()), HttpStatus.OK);
+    }
+
+    @GetMapping("/{id}")
+    @Operation(summary = "API ID: Wishlist003")
+    public ResponseEntity<ResponseDTO<WishlistDTO>> getWishlistItemById(@PathVariable Integer id, HttpServletRequest request,
+                                                                        @Parameter(hidden = true) @AuthenticationPrincipal Jwt jwt) {
+        log.info("getWishlistItemById in WishlistController is called by user: {}", jwt.getSubject());
+
+        WishlistDTO wishlistDTO = wishlistService.getWishlistItemById(id, request, jwt);
+
+        return new ResponseEntity<>(new ResponseDTO<>(wishlistDTO, "success", HttpStatus.OK.value()), HttpStatus.OK);
+    }
+
+    @PutMapping
+    @Operation(summary = "API ID: Wishlist004")
+    public ResponseEntity<ResponseDTO<WishlistDTO>> updateWishlistItem(@RequestBody @Valid WishlistUpdateDTO updateDTO,
+                                                                       HttpServletRequest request,
+                                                                       @Parameter(hidden = true) @AuthenticationPrincipal Jwt jwt) {
+        log.info("updateWishlistItem in WishlistController is called by user: {}", jwt.getSubject());
+
+        WishlistDTO wishlistDTO = wishlistService.updateWishlistItem(updateDTO, request, jwt);
+
+        return new ResponseEntity<>(new ResponseDTO<>(wishlistDTO, "success", HttpStatus.OK.value()), HttpStatus.OK);
+    }
+
+    @DeleteMapping("/{id}")
+    @Operation(summary = "API ID: Wishlist005")
+    public ResponseEntity<ResponseDTO<String>> deleteWishlistItem(@PathVariable Integer id, HttpServletRequest request,
+                                                                  @Parameter(hidden = true) @AuthenticationPrincipal Jwt jwt) {
+        log.info("deleteWishlistItem in WishlistController is called by user: {}", jwt.getSubject());
+
+        String message = wishlistService.deleteWishlistItem(id, request, jwt);
+
+        return new ResponseEntity<>(new ResponseDTO<>(message, "success", HttpStatus.OK.value()), HttpStatus.OK);
+    }
+}
@@ -0,0 +1,37 @@
+package com.biblioteca.userlibraryservice.dto.catalogSnapshot;
+
+import lombok.*;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@ToString
+public class BookSnapshotDTO {
+    private Integer id;
+    private String title;
+    private String subtitle;
+    private LocalDate publicationDate;
+    private Integer pageCount;
+    private String language;
+    private BigDecimal averageRating;
+    private Boolean isActive;
+    private Integer coverImageId;
+    private List<Integer> authorIds;
+    private String authorNames;
+    private List<Integer> genreIds;
+    private String genreNames;
+    private List<Integer> publisherIds;
+    private Integer seriesId;
+    private String seriesName;
+    private Integer seriesPosition;
+
+    /* Cheapest priced edition; null when no edition has a price. */
+    private BigDecimal lowestPrice;
+    private String priceCurrency;
+}
@@ -0,0 +1,29 @@
+package com.biblioteca.userlibraryservice.dto.catalogSnapshot;
+
+import com.biblioteca.userlibraryservice.util.enums.CatalogAggregateType;
+import com.biblioteca.userlibraryservice.util.enums.CatalogEventType;
+import com.fasterxml.jackson.databind.JsonNode;
+import jakarta.validation.constraints.NotNull;
+import lombok.*;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@ToString
+public class CatalogChangeEventDTO {
+    @NotNull
+    private CatalogAggregateType aggregateType;
+
+    @NotNull
+    private Integer aggregateId;
+
+    @NotNull
+    private CatalogEventType eventType;
+
+    @NotNull
+    private Long version;
+
+    private JsonNode payload;
+}
@@ -0,0 +1,14 @@
+package com.biblioteca.userlibraryservice.dto.catalogSnapshot;
+
+import lombok.*;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@ToString
+public class PublisherSnapshotDTO {
+    private Integer id;
+    private String name;
+}
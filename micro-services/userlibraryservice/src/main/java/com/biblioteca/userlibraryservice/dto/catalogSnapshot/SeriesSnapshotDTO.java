@@ -0,0 +1,16 @@
+package com.biblioteca.userlibraryservice.dto.catalogSnapshot;
+
+import lombok.*;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@ToString
+public class SeriesSnapshotDTO {
+    private Integer id;
+    private String name;
+    private Integer totalBooks;
+    private Boolean isCompleted;
+}
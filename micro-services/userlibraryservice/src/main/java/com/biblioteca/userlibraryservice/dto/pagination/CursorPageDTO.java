@@ -0,0 +1,25 @@
+package com.biblioteca.userlibraryservice.dto.pagination;
+
+import lombok.*;
+
+import java.util.List;
+
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+@ToString
+public class CursorPageDTO<T> {
+    private List<T> content;
+
+    private int size;
+
+    private boolean hasNext;
+
+    private boolean hasPrevious;
+
+    private String nextCursor;
+
+    private String previousCursor;
+}
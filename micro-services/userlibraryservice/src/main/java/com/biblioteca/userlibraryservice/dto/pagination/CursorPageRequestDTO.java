@@ -0,0 +1,14 @@
+package com.biblioteca.userlibraryservice.dto.pagination;
+
+import lombok.*;
+
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+@ToString
+public class CursorPageRequestDTO {
+    private String after;
+    private int size;
+}
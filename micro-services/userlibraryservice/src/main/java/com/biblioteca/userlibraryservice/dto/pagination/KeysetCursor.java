@@ -0,0 +1,13 @@
+package com.biblioteca.userlibraryservice.dto.pagination;
+
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+@Getter
+@AllArgsConstructor
+@ToString
+public class KeysetCursor {
+    private LocalDateTime position;
+    private Integer id;
+}
@@ -0,0 +1,11 @@
+package com.biblioteca.userlibraryservice.dto.pagination;
+
+import lombok.*;
+
+@Getter
+@AllArgsConstructor
+@ToString
+public class OrderKeysetCursor {
+    private Integer position;
+    private Integer id;
+}
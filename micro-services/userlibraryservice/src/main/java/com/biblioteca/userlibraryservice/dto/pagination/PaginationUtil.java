@@ -1,10 +1,20 @@
 package com.biblioteca.userlibraryservice.dto.pagination;
 
+import com.biblioteca.userlibraryservice.util.exception.CustomException;
 import org.springframework.data.domain.*;
+import org.springframework.http.HttpStatus;
 
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
 import java.util.List;
+import java.util.function.Function;
 
 public class PaginationUtil {
+    private static final String CURSOR_SEPARATOR = "|";
+    private static final int MAX_CURSOR_PAGE_SIZE = 100;
+
     public static Pageable getPageable(Integer page, Integer size) {
         if (page > 0) page = page - 1;
         return PageRequest.of(page, size);
@@ -18,4 +28,66 @@ public class PaginationUtil {
     public static <T> Page<T> getPage(List<T> content, Pageable pageable, long total) {
         return new PageImpl<>(content, pageable, total);
     }
+
+    public static int getCursorPageSize(CursorPageRequestDTO cursorPageRequestDTO) {
+        return Math.max(1, Math.min(cursorPageRequestDTO.getSize(), MAX_CURSOR_PAGE_SIZE));
+    }
+
+    /**
+     * Builds a forward-only page from rows read with one extra row beyond the page size;
+     * the extra row only signals that another page exists and is dropped.
+     */
+    public static <T> CursorPageDTO<T> getCursorPage(List<T> rows, int size, boolean hasPrevious, Function<T, String> cursorExtractor) {
+        boolean hasNext = rows.size() > size;
+        List<T> content = hasNext ? rows.subList(0, size) : rows;
+
+        return CursorPageDTO.<T>builder()
+                .content(content)
+                .size(size)
+                .hasNext(hasNext)
+                .hasPrevious(hasPrevious)
+                .nextCursor(hasNext ? cursorExtractor.apply(content.get(content.size() - 1)) : null)
+                .previousCursor(null)
+                .build();
+    }
+
+    public static String encodeCursor(LocalDateTime position, Integer id) {
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString((position + CURSOR_SEPARATOR + id).getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static KeysetCursor decodeCursor(String cursor) {
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = decoded.lastIndexOf(CURSOR_SEPARATOR);
+
+            if (separator < 0) {
+                throw new IllegalArgumentException("Unknown cursor format");
+            }
+
+            return new KeysetCursor(LocalDateTime.parse(decoded.substring(0, separator)), Integer.valueOf(decoded.substring(separator + 1)));
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new CustomException("Invalid pagination cursor", HttpStatus.BAD_REQUEST.value());
+        }
+    }
+
+    public static String encodeOrderCursor(Integer position, Integer id) {
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString((position + CURSOR_SEPARATOR + id).getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static OrderKeysetCursor decodeOrderCursor(String cursor) {
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = decoded.lastIndexOf(CURSOR_SEPARATOR);
+
+            if (separator < 0) {
+                throw new IllegalArgumentException("Unknown cursor format");
+            }
+
+            return new OrderKeysetCursor(Integer.valueOf(decoded.substring(0, separator)), Integer.valueOf(decoded.substring(separator + 1)));
+        } catch (IllegalArgumentException e) {
+            throw new CustomException("Invalid pagination cursor", HttpStatus.BAD_REQUEST.value());
+        }
+    }
 }
@@ -0,0 +1,40 @@
+package com.biblioteca.userlibraryservice.dto.readingCollections;
+
+import com.biblioteca.userlibraryservice.util.enums.BookStatus;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+@ToString
+public class CollectionBookDTO {
+    private Integer id;
+
+    private Integer collectionId;
+
+    private Integer userBookId;
+
+    private Integer displayOrder;
+
+    private String notes;
+
+    private LocalDateTime addedAt;
+
+    private Integer catalogBookId;
+
+    private BookStatus status;
+
+    private Integer rating;
+
+    private String title;
+
+    private String authorNames;
+
+    private String genreNames;
+
+    private Integer coverImageId;
+}
@@ -0,0 +1,18 @@
+package com.biblioteca.userlibraryservice.dto.readingCollections;
+
+import jakarta.validation.constraints.NotNull;
+import lombok.*;
+
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+@ToString
+public class CollectionBookMoveDTO {
+    @NotNull(message = "userBookId can not be null")
+    private Integer userBookId;
+
+    /* The book to place it right after; null moves it to the top. */
+    private Integer afterUserBookId;
+}
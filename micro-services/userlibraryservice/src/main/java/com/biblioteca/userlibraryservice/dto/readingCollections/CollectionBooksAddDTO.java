@@ -0,0 +1,21 @@
+package com.biblioteca.userlibraryservice.dto.readingCollections;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.*;
+
+import java.util.List;
+
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+@ToString
+public class CollectionBooksAddDTO {
+    /* Appended in this order after the current last book; books already in the collection are skipped. */
+    @NotEmpty(message = "userBookIds can not be empty")
+    @Size(max = 500, message = "can not add more than 500 books at once")
+    private List<@NotNull Integer> userBookIds;
+}
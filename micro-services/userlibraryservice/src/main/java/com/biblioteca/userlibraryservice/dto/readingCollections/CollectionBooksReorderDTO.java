@@ -0,0 +1,21 @@
+package com.biblioteca.userlibraryservice.dto.readingCollections;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.*;
+
+import java.util.List;
+
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+@ToString
+public class CollectionBooksReorderDTO {
+    /* Applied in order, so a later move may use an earlier one as its anchor. */
+    @NotEmpty(message = "moves can not be empty")
+    @Size(max = 500, message = "can not apply more than 500 moves at once")
+    private List<@Valid CollectionBookMoveDTO> moves;
+}
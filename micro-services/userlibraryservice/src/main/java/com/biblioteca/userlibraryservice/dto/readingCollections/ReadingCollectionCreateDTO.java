@@ -0,0 +1,32 @@
+package com.biblioteca.userlibraryservice.dto.readingCollections;
+
+import com.biblioteca.userlibraryservice.util.enums.CollectionType;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.*;
+
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+@ToString
+public class ReadingCollectionCreateDTO {
+    @NotNull(message = "userId can not be null")
+    private Integer userId;
+
+    @NotBlank(message = "name can not be blank")
+    @Size(max = 255, message = "name can not be longer than 255 characters")
+    private String name;
+
+    private String description;
+
+    private CollectionType collectionType;
+
+    private Boolean isPublic;
+
+    private Boolean isDefault;
+
+    private Integer sortOrder;
+}
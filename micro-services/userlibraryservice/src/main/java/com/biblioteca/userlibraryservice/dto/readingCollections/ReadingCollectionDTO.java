@@ -0,0 +1,36 @@
+package com.biblioteca.userlibraryservice.dto.readingCollections;
+
+import com.biblioteca.userlibraryservice.util.enums.CollectionType;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+@ToString
+public class ReadingCollectionDTO {
+    private Integer id;
+
+    private Integer userId;
+
+    private String name;
+
+    private String description;
+
+    private CollectionType collectionType;
+
+    private Boolean isPublic;
+
+    private Boolean isDefault;
+
+    private Integer sortOrder;
+
+    private Long bookCount;
+
+    private LocalDateTime createdAt;
+
+    private LocalDateTime updatedAt;
+}
@@ -0,0 +1,33 @@
+package com.biblioteca.userlibraryservice.dto.readingGoals;
+
+import com.biblioteca.userlibraryservice.util.enums.GoalPeriod;
+import com.biblioteca.userlibraryservice.util.enums.GoalType;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import lombok.*;
+
+import java.time.LocalDate;
+
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+@ToString
+public class ReadingGoalCreateDTO {
+    @NotNull(message = "userId can not be null")
+    private Integer userId;
+
+    @NotNull(message = "goalType can not be null")
+    private GoalType goalType;
+
+    @NotNull(message = "goalPeriod can not be null")
+    private GoalPeriod goalPeriod;
+
+    @NotNull(message = "targetValue can not be null")
+    @Min(value = 1, message = "targetValue can not be less than 1")
+    private Integer targetValue;
+
+    /* First day of the period; defaults to the start of the current week, month or year. */
+    private LocalDate startDate;
+}
@@ -0,0 +1,44 @@
+package com.biblioteca.userlibraryservice.dto.readingGoals;
+
+import com.biblioteca.userlibraryservice.util.enums.GoalPeriod;
+import com.biblioteca.userlibraryservice.util.enums.GoalType;
+import lombok.*;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+@ToString
+public class ReadingGoalDTO {
+    private Integer id;
+
+    private Integer userId;
+
+    private GoalType goalType;
+
+    private Integer targetValue;
+
+    private Integer currentValue;
+
+    private Integer progressMinutes;
+
+    private GoalPeriod goalPeriod;
+
+    private LocalDate startDate;
+
+    private LocalDate endDate;
+
+    private Boolean isActive;
+
+    private Boolean isCompleted;
+
+    private LocalDateTime completedAt;
+
+    private LocalDateTime createdAt;
+
+    private LocalDateTime updatedAt;
+}
@@ -0,0 +1,27 @@
+package com.biblioteca.userlibraryservice.dto.readingGoals;
+
+import com.biblioteca.userlibraryservice.util.enums.StreakType;
+import lombok.*;
+
+import java.time.LocalDate;
+
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+@ToString
+public class ReadingStreakDTO {
+    private Integer userId;
+
+    private StreakType streakType;
+
+    /* Zero once a full day has passed without reading since lastActivityDate. */
+    private Integer currentStreak;
+
+    private Integer longestStreak;
+
+    private LocalDate lastActivityDate;
+
+    private LocalDate streakStartDate;
+}
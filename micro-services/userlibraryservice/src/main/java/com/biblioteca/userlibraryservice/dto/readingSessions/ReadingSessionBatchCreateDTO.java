@@ -0,0 +1,20 @@
+package com.biblioteca.userlibraryservice.dto.readingSessions;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.*;
+
+import java.util.List;
+
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+@ToString
+public class ReadingSessionBatchCreateDTO {
+    @NotEmpty(message = "sessions can not be empty")
+    @Size(max = 500, message = "sessions can not contain more than 500 entries")
+    private List<@Valid ReadingSessionCreateDTO> sessions;
+}
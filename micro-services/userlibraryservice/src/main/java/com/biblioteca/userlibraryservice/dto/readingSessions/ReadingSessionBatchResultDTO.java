@@ -0,0 +1,20 @@
+package com.biblioteca.userlibraryservice.dto.readingSessions;
+
+import lombok.*;
+
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+@ToString
+public class ReadingSessionBatchResultDTO {
+    private Integer received;
+
+    private Integer inserted;
+
+    /* Sessions already stored by an earlier upload of the same clientSessionId. */
+    private Integer duplicates;
+
+    private Integer userBooksUpdated;
+}
@@ -0,0 +1,65 @@
+package com.biblioteca.userlibraryservice.dto.readingSessions;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.*;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+@ToString
+public class ReadingSessionCreateDTO {
+    @NotNull(message = "userId can not be null")
+    private Integer userId;
+
+    @NotNull(message = "userBookId can not be null")
+    private Integer userBookId;
+
+    /* Generated by the client so a retried upload is not stored twice; assigned by the server when absent. */
+    private UUID clientSessionId;
+
+    @NotNull(message = "sessionDate can not be null")
+    private LocalDate sessionDate;
+
+    private LocalDateTime startTime;
+
+    private LocalDateTime endTime;
+
+    @NotNull(message = "startPage can not be null")
+    @Min(value = 0, message = "startPage can not be negative")
+    private Integer startPage;
+
+    @NotNull(message = "endPage can not be null")
+    @Min(value = 0, message = "endPage can not be negative")
+    private Integer endPage;
+
+    @Min(value = 0, message = "sessionDurationMinutes can not be negative")
+    private Integer sessionDurationMinutes;
+
+    @Size(max = 100, message = "location can not be longer than 100 characters")
+    private String location;
+
+    @Size(max = 50, message = "mood can not be longer than 50 characters")
+    private String mood;
+
+    @Min(value = 1, message = "comprehensionRating can not be less than 1")
+    @Max(value = 5, message = "comprehensionRating can not be greater than 5")
+    private Integer comprehensionRating;
+
+    @Min(value = 1, message = "focusRating can not be less than 1")
+    @Max(value = 5, message = "focusRating can not be greater than 5")
+    private Integer focusRating;
+
+    private String notes;
+
+    @Size(max = 50, message = "weather can not be longer than 50 characters")
+    private String weather;
+}
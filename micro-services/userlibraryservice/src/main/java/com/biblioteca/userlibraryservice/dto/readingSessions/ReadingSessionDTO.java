@@ -0,0 +1,49 @@
+package com.biblioteca.userlibraryservice.dto.readingSessions;
+
+import lombok.*;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+@ToString
+public class ReadingSessionDTO {
+    private Integer id;
+
+    private Integer userBookId;
+
+    private UUID clientSessionId;
+
+    private LocalDate sessionDate;
+
+    private LocalDateTime startTime;
+
+    private LocalDateTime endTime;
+
+    private Integer startPage;
+
+    private Integer endPage;
+
+    private Integer pagesRead;
+
+    private Integer sessionDurationMinutes;
+
+    private String location;
+
+    private String mood;
+
+    private Integer comprehensionRating;
+
+    private Integer focusRating;
+
+    private String notes;
+
+    private String weather;
+
+    private LocalDateTime createdAt;
+}
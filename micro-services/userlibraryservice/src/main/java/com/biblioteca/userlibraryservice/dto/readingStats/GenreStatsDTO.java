@@ -0,0 +1,17 @@
+package com.biblioteca.userlibraryservice.dto.readingStats;
+
+import lombok.*;
+
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+@ToString
+public class GenreStatsDTO {
+    private Integer genreId;
+
+    private String genreName;
+
+    private Integer booksRead;
+}
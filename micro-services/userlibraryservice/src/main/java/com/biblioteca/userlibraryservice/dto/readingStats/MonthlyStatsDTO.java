@@ -0,0 +1,24 @@
+package com.biblioteca.userlibraryservice.dto.readingStats;
+
+import lombok.*;
+
+import java.time.LocalDate;
+
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+@ToString
+public class MonthlyStatsDTO {
+    /* First day of the month. */
+    private LocalDate month;
+
+    private Long pagesRead;
+
+    private Long minutesRead;
+
+    private Integer sessions;
+
+    private Integer booksFinished;
+}
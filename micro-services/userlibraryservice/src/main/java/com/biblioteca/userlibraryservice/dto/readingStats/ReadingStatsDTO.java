@@ -0,0 +1,45 @@
+package com.biblioteca.userlibraryservice.dto.readingStats;
+
+import lombok.*;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+@ToString
+public class ReadingStatsDTO {
+    private Integer userId;
+
+    private Integer totalBooks;
+
+    private Integer booksRead;
+
+    private Integer currentlyReading;
+
+    private Integer wantToRead;
+
+    private Integer onHold;
+
+    private Integer didNotFinish;
+
+    private BigDecimal averageRating;
+
+    /* Percentage of finished books among read and abandoned ones. */
+    private BigDecimal completionRate;
+
+    private Long pagesRead;
+
+    private Long minutesRead;
+
+    private Integer sessions;
+
+    private List<YearlyStatsDTO> booksPerYear;
+
+    private List<MonthlyStatsDTO> pagesPerMonth;
+
+    private List<GenreStatsDTO> genreMix;
+}
@@ -0,0 +1,19 @@
+package com.biblioteca.userlibraryservice.dto.readingStats;
+
+import lombok.*;
+
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+@ToString
+public class YearlyStatsDTO {
+    private Integer year;
+
+    private Integer booksFinished;
+
+    private Long pagesRead;
+
+    private Long minutesRead;
+}
@@ -0,0 +1,30 @@
+package com.biblioteca.userlibraryservice.dto.recommendations;
+
+import com.biblioteca.userlibraryservice.util.enums.RecommendationReason;
+import lombok.*;
+
+import java.math.BigDecimal;
+
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+@ToString
+public class RecommendationDTO {
+    private Integer catalogBookId;
+
+    private String title;
+
+    private String authorNames;
+
+    private String genreNames;
+
+    private Integer coverImageId;
+
+    private BigDecimal averageRating;
+
+    private Double score;
+
+    private RecommendationReason reason;
+}
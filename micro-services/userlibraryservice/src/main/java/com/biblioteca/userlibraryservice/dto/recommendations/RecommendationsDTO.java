@@ -0,0 +1,20 @@
+package com.biblioteca.userlibraryservice.dto.recommendations;
+
+import lombok.*;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+@ToString
+public class RecommendationsDTO {
+    private Integer userId;
+
+    private LocalDateTime computedAt;
+
+    private List<RecommendationDTO> recommendations;
+}
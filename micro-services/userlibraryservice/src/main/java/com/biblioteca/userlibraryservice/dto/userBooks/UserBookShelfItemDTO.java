@@ -0,0 +1,53 @@
+package com.biblioteca.userlibraryservice.dto.userBooks;
+
+import com.biblioteca.userlibraryservice.util.enums.BookStatus;
+import com.biblioteca.userlibraryservice.util.enums.Format;
+import lombok.*;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+@ToString
+public class UserBookShelfItemDTO {
+    private Integer id;
+
+    private Integer catalogBookId;
+
+    private BookStatus status;
+
+    private Integer rating;
+
+    private BigDecimal progressPercentage;
+
+    private Integer currentPage;
+
+    private LocalDate startDate;
+
+    private LocalDate finishDate;
+
+    private Boolean isFavorite;
+
+    private Format readingFormat;
+
+    private LocalDateTime updatedAt;
+
+    private String title;
+
+    private String subtitle;
+
+    private String authorNames;
+
+    private String seriesName;
+
+    private Integer seriesPosition;
+
+    private Integer coverImageId;
+
+    private Integer pageCount;
+}
@@ -0,0 +1,30 @@
+package com.biblioteca.userlibraryservice.dto.wishlists;
+
+import lombok.*;
+
+import java.math.BigDecimal;
+
+/* Payload of one price alert notification on the "price-alerts" outbox topic. */
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+@ToString
+public class PriceAlertDTO {
+    private Integer wishlistId;
+
+    private Integer userId;
+
+    private Integer catalogBookId;
+
+    private String bookTitle;
+
+    private BigDecimal price;
+
+    private String currency;
+
+    private BigDecimal priceAlertThreshold;
+
+    private BigDecimal targetPrice;
+}
@@ -0,0 +1,60 @@
+package com.biblioteca.userlibraryservice.dto.wishlists;
+
+import com.biblioteca.userlibraryservice.util.enums.WishlistStatus;
+import lombok.*;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+@ToString
+public class WishlistDTO {
+    private Integer id;
+
+    private Integer userId;
+
+    private Integer catalogBookId;
+
+    private WishlistStatus wishlistStatus;
+
+    private Integer priority;
+
+    private BigDecimal targetPrice;
+
+    private String targetCurrency;
+
+    private BigDecimal priceAlertThreshold;
+
+    private LocalDate targetAcquisitionDate;
+
+    private String wishlistCategory;
+
+    private Boolean isGiftIdea;
+
+    private String giftRecipient;
+
+    private String giftOccasion;
+
+    private String wishlistNotes;
+
+    private String wishlistReason;
+
+    private String sourceType;
+
+    private String sourceReference;
+
+    private LocalDate targetReadDate;
+
+    private BigDecimal lastAlertedPrice;
+
+    private LocalDateTime lastAlertedAt;
+
+    private LocalDateTime addedDate;
+
+    private LocalDateTime updatedDate;
+}
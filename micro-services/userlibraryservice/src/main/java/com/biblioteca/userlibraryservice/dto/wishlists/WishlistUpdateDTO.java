@@ -0,0 +1,57 @@
+package com.biblioteca.userlibraryservice.dto.wishlists;
+
+import com.biblioteca.userlibraryservice.util.enums.WishlistStatus;
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import lombok.*;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+@ToString
+public class WishlistUpdateDTO {
+    @NotNull(message = "id can not be null")
+    private Integer id;
+
+    @NotNull(message = "wishlistStatus can not be null")
+    private WishlistStatus wishlistStatus;
+
+    @Min(value = 1, message = "priority can not be less than 1")
+    @Max(value = 5, message = "priority can not be greater than 5")
+    private Integer priority;
+
+    private BigDecimal targetPrice;
+
+    private String targetCurrency;
+
+    /* Notify when the cheapest edition costs this much or less, in targetCurrency. */
+    @DecimalMin(value = "0.00", message = "priceAlertThreshold can not be negative")
+    private BigDecimal priceAlertThreshold;
+
+    private LocalDate targetAcquisitionDate;
+
+    private String wishlistCategory;
+
+    private Boolean isGiftIdea;
+
+    private String giftRecipient;
+
+    private String giftOccasion;
+
+    private String wishlistNotes;
+
+    private String wishlistReason;
+
+    private String sourceType;
+
+    private String sourceReference;
+
+    private LocalDate targetReadDate;
+}
@@ -0,0 +1,79 @@
+package com.biblioteca.userlibraryservice.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.Immutable;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/* Read-only view of the replicated catalog; rows are written by CatalogSnapshotRepository only. */
+@Entity
+@Immutable
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@ToString
+@Table(name = "catalog_book_snapshots")
+public class CatalogBookSnapshot {
+    @Id
+    @Column(name = "book_id")
+    private Integer bookId;
+
+    @Column(name = "title")
+    private String title;
+
+    @Column(name = "subtitle")
+    private String subtitle;
+
+    @Column(name = "publication_date")
+    private LocalDate publicationDate;
+
+    @Column(name = "page_count")
+    private Integer pageCount;
+
+    @Column(name = "language")
+    private String language;
+
+    @Column(name = "average_rating")
+    private BigDecimal averageRating;
+
+    @Column(name = "is_active")
+    private Boolean isActive;
+
+    @Column(name = "cover_image_id")
+    private Integer coverImageId;
+
+    @Column(name = "author_names")
+    private String authorNames;
+
+    @Column(name = "genre_names")
+    private String genreNames;
+
+    @Column(name = "series_id")
+    private Integer seriesId;
+
+    @Column(name = "series_name")
+    private String seriesName;
+
+    @Column(name = "series_position")
+    private Integer seriesPosition;
+
+    @Column(name = "lowest_price")
+    private BigDecimal lowestPrice;
+
+    @Column(name = "price_currency")
+    private String priceCurrency;
+
+    @Column(name = "is_deleted", nullable = false)
+    private Boolean isDeleted;
+
+    @Column(name = "version", nullable = false)
+    private Long version;
+
+    @Column(name = "synced_at", nullable = false)
+    private LocalDateTime syncedAt;
+}
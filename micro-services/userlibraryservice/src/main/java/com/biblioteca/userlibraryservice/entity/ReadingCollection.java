@@ -15,7 +15,8 @@ import java.time.LocalDateTime;
 @Table(name = "reading_collections")
 public class ReadingCollection {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "reading_collections_id_seq")
+    @SequenceGenerator(name = "reading_collections_id_seq", sequenceName = "reading_collections_id_seq", allocationSize = 50)
     private Integer id;
 
     //    TODO - propagate user data to use foreign key
@@ -28,6 +29,9 @@ public class ReadingCollection {
     @Column(name = "description", columnDefinition = "TEXT")
     private String description;
 
+    @Column(name = "collection_type", nullable = false)
+    private String collectionType;
+
     @Column(name = "is_public")
     private Boolean isPublic = false;
 
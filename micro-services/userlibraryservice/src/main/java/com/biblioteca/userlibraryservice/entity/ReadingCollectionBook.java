@@ -15,7 +15,8 @@ import java.time.LocalDateTime;
 @Table(name = "reading_collection_books")
 public class ReadingCollectionBook {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "reading_collection_books_id_seq")
+    @SequenceGenerator(name = "reading_collection_books_id_seq", sequenceName = "reading_collection_books_id_seq", allocationSize = 50)
     private Integer id;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -0,0 +1,62 @@
+package com.biblioteca.userlibraryservice.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+@Entity
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@ToString
+@Table(name = "reading_goals")
+public class ReadingGoal {
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "reading_goals_id_seq")
+    @SequenceGenerator(name = "reading_goals_id_seq", sequenceName = "reading_goals_id_seq", allocationSize = 50)
+    private Integer id;
+
+    //    TODO - propagate user data to use foreign key
+    @Column(name = "user_id", nullable = false)
+    private Integer userId;
+
+    @Column(name = "goal_type", nullable = false)
+    private String goalType;
+
+    @Column(name = "target_value", nullable = false)
+    private Integer targetValue;
+
+    @Column(name = "current_value")
+    private Integer currentValue = 0;
+
+    @Column(name = "progress_minutes", nullable = false)
+    private Integer progressMinutes = 0;
+
+    @Column(name = "goal_period", nullable = false)
+    private String goalPeriod;
+
+    @Column(name = "start_date", nullable = false)
+    private LocalDate startDate;
+
+    @Column(name = "end_date", nullable = false)
+    private LocalDate endDate;
+
+    @Column(name = "is_active")
+    private Boolean isActive = true;
+
+    @Column(name = "is_completed")
+    private Boolean isCompleted = false;
+
+    @Column(name = "completed_at")
+    private LocalDateTime completedAt;
+
+    @Column(name = "created_at")
+    private LocalDateTime createdAt;
+
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+}
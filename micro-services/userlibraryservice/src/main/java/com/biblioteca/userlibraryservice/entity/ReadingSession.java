@@ -0,0 +1,73 @@
+package com.biblioteca.userlibraryservice.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.Immutable;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/* Read side of reading_sessions; rows are written in JDBC batches by ReadingSessionWriteRepository. */
+@Entity
+@Immutable
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@ToString
+@Table(name = "reading_sessions")
+public class ReadingSession {
+    @Id
+    @Column(name = "id")
+    private Integer id;
+
+    @Column(name = "user_book_id", nullable = false)
+    private Integer userBookId;
+
+    @Column(name = "client_session_id", nullable = false)
+    private UUID clientSessionId;
+
+    @Column(name = "session_date", nullable = false)
+    private LocalDate sessionDate;
+
+    @Column(name = "start_time")
+    private LocalDateTime startTime;
+
+    @Column(name = "end_time")
+    private LocalDateTime endTime;
+
+    @Column(name = "start_page")
+    private Integer startPage;
+
+    @Column(name = "end_page")
+    private Integer endPage;
+
+    @Column(name = "pages_read", insertable = false, updatable = false)
+    private Integer pagesRead;
+
+    @Column(name = "session_duration_minutes")
+    private Integer sessionDurationMinutes;
+
+    @Column(name = "location")
+    private String location;
+
+    @Column(name = "mood")
+    private String mood;
+
+    @Column(name = "comprehension_rating")
+    private Integer comprehensionRating;
+
+    @Column(name = "focus_rating")
+    private Integer focusRating;
+
+    @Column(name = "notes", columnDefinition = "TEXT")
+    private String notes;
+
+    @Column(name = "weather")
+    private String weather;
+
+    @Column(name = "created_at")
+    private LocalDateTime createdAt;
+}
@@ -19,7 +19,8 @@ import java.time.LocalDateTime;
 @Table(name = "user_books")
 public class UserBook {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "user_books_id_seq")
+    @SequenceGenerator(name = "user_books_id_seq", sequenceName = "user_books_id_seq", allocationSize = 50)
     private Integer id;
 
 //    TODO - propagate user data to use foreign key
@@ -81,15 +82,6 @@ public class UserBook {
     @Column(name = "wishlist_priority")
     private Integer wishlistPriority;
 
-    @Column(name = "target_price")
-    private BigDecimal targetPrice;
-
-    @Column(name = "target_currency")
-    private String targetCurrency;
-
-    @Column(name = "price_alert_threshold")
-    private BigDecimal priceAlertThreshold;
-
     @Column(name = "target_acquisition_date")
     private LocalDate targetAcquisitionDate;
 
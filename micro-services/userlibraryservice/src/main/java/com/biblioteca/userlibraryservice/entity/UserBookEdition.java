@@ -17,7 +17,8 @@ import java.time.LocalDateTime;
 @Table(name = "user_book_editions")
 public class UserBookEdition {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "user_book_editions_id_seq")
+    @SequenceGenerator(name = "user_book_editions_id_seq", sequenceName = "user_book_editions_id_seq", allocationSize = 50)
     private Integer id;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -15,7 +15,8 @@ import java.time.LocalDateTime;
 @Table(name = "user_genre_preferences")
 public class UserGenrePreference {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "user_genre_preferences_id_seq")
+    @SequenceGenerator(name = "user_genre_preferences_id_seq", sequenceName = "user_genre_preferences_id_seq", allocationSize = 50)
     private Integer id;
 
     //    TODO - propagate user data to use foreign key
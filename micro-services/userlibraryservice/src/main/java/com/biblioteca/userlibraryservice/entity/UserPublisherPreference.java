@@ -15,7 +15,8 @@ import java.time.LocalDateTime;
 @Table(name = "user_publisher_preferences")
 public class UserPublisherPreference {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "user_publisher_preferences_id_seq")
+    @SequenceGenerator(name = "user_publisher_preferences_id_seq", sequenceName = "user_publisher_preferences_id_seq", allocationSize = 50)
     private Integer id;
 
     //    TODO - propagate user data to use foreign key
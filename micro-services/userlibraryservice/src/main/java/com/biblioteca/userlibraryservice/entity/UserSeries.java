@@ -18,7 +18,8 @@ import java.time.LocalDateTime;
 @Table(name = "user_series")
 public class UserSeries {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "user_series_id_seq")
+    @SequenceGenerator(name = "user_series_id_seq", sequenceName = "user_series_id_seq", allocationSize = 50)
     private Integer id;
 
     //    TODO - propagate user data to use foreign key
@@ -15,7 +15,8 @@ import java.time.LocalDateTime;
 @Table(name = "user_series_books")
 public class UserSeriesBook {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "user_series_books_id_seq")
+    @SequenceGenerator(name = "user_series_books_id_seq", sequenceName = "user_series_books_id_seq", allocationSize = 50)
     private Integer id;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -0,0 +1,88 @@
+package com.biblioteca.userlibraryservice.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+@Entity
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@ToString
+@Table(name = "user_wishlists")
+public class UserWishlist {
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "user_wishlists_id_seq")
+    @SequenceGenerator(name = "user_wishlists_id_seq", sequenceName = "user_wishlists_id_seq", allocationSize = 50)
+    private Integer id;
+
+    //    TODO - propagate user data to use foreign key
+    @Column(name = "user_id", nullable = false)
+    private Integer userId;
+
+    @Column(name = "catalog_book_id", nullable = false)
+    private Integer catalogBookId;
+
+    @Column(name = "wishlist_status", nullable = false)
+    private String wishlistStatus;
+
+    @Column(name = "priority")
+    private Integer priority = 3;
+
+    @Column(name = "target_price")
+    private BigDecimal targetPrice;
+
+    @Column(name = "target_currency")
+    private String targetCurrency;
+
+    @Column(name = "price_alert_threshold")
+    private BigDecimal priceAlertThreshold;
+
+    @Column(name = "target_acquisition_date")
+    private LocalDate targetAcquisitionDate;
+
+    @Column(name = "wishlist_category")
+    private String wishlistCategory;
+
+    @Column(name = "is_gift_idea")
+    private Boolean isGiftIdea = false;
+
+    @Column(name = "gift_recipient")
+    private String giftRecipient;
+
+    @Column(name = "gift_occasion")
+    private String giftOccasion;
+
+    @Column(name = "wishlist_notes", columnDefinition = "TEXT")
+    private String wishlistNotes;
+
+    @Column(name = "wishlist_reason", columnDefinition = "TEXT")
+    private String wishlistReason;
+
+    @Column(name = "source_type")
+    private String sourceType = "manual";
+
+    @Column(name = "source_reference", columnDefinition = "TEXT")
+    private String sourceReference;
+
+    @Column(name = "target_read_date")
+    private LocalDate targetReadDate;
+
+    /* Maintained by PriceAlertEvaluator. */
+    @Column(name = "last_alerted_price")
+    private BigDecimal lastAlertedPrice;
+
+    @Column(name = "last_alerted_at")
+    private LocalDateTime lastAlertedAt;
+
+    @Column(name = "added_date")
+    private LocalDateTime addedDate;
+
+    @Column(name = "updated_date")
+    private LocalDateTime updatedDate;
+}
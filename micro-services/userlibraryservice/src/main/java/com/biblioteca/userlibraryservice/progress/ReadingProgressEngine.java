@@ -0,0 +1,156 @@
+package com.biblioteca.userlibraryservice.progress;
+
+import com.biblioteca.userlibraryservice.progress.ReadingSessionsRecordedEvent.RecordedSession;
+import com.biblioteca.userlibraryservice.repository.ReadingProgressRepository;
+import com.biblioteca.userlibraryservice.repository.ReadingProgressRepository.GoalState;
+import com.biblioteca.userlibraryservice.repository.ReadingProgressRepository.StreakState;
+import com.biblioteca.userlibraryservice.util.enums.GoalType;
+import com.biblioteca.userlibraryservice.util.enums.StreakType;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.util.*;
+
+/*
+ * Maintains reading_streaks and reading_goals from reading session and user book events. The
+ * listeners run synchronously in the publishing transaction and only apply the delta of the
+ * event: the streak row of the user is locked and moved forward day by day, and the counters
+ * of the active goals covering the event date are added to. Nothing is read back from the
+ * session history here.
+ *
+ * A few changes cannot be applied from the delta alone and are left to the nightly
+ * ReadingProgressReconciler: sessions backdated before the current streak, catalog genre
+ * changes of books already read, and sessions removed together with their user book.
+ */
+@Component
+@Slf4j
+@RequiredArgsConstructor
+public class ReadingProgressEngine {
+    private final ReadingProgressRepository readingProgressRepository;
+
+    @EventListener
+    public void onReadingSessionsRecorded(ReadingSessionsRecordedEvent event) {
+        /* Users in id order so concurrent uploads lock streak rows in the same order. */
+        Map<Integer, List<RecordedSession>> byUser = new TreeMap<>();
+        event.sessions().forEach(session -> byUser.computeIfAbsent(session.userId(), userId -> new ArrayList<>()).add(session));
+
+        byUser.forEach((userId, sessions) -> {
+            StreakState stored = readingProgressRepository.lockStreak(userId, StreakType.DAILY_READING);
+            StreakState streak = stored;
+            Map<LocalDate, int[]> totals = new TreeMap<>();
+            for (RecordedSession session : sessions) {
+                int[] dayTotals = totals.computeIfAbsent(session.sessionDate(), day -> new int[2]);
+                dayTotals[0] += session.pagesRead();
+                dayTotals[1] += session.minutes();
+            }
+
+            for (LocalDate day : totals.keySet()) {
+                streak = advance(streak, day);
+            }
+            if (!streak.equals(stored)) {
+                readingProgressRepository.saveStreak(userId, StreakType.DAILY_READING, streak);
+            }
+
+            totals.forEach((day, dayTotals) -> {
+                if (dayTotals[0] != 0) {
+                    readingProgressRepository.addToGoals(userId, GoalType.PAGES_COUNT, day, dayTotals[0]);
+                }
+                if (dayTotals[1] != 0) {
+                    readingProgressRepository.addMinutesToGoals(userId, day, dayTotals[1]);
+                }
+            });
+            readingProgressRepository.refreshGoalCompletion(userId);
+        });
+    }
+
+    @EventListener
+    public void onUserBookStatusChanged(UserBookStatusChangedEvent event) {
+        if (Objects.equals(event.previousReadOn(), event.readOn())) {
+            return;
+        }
+
+        List<Integer> genreIds = readingProgressRepository.findGenreIds(event.catalogBookId());
+        if (event.previousReadOn() != null) {
+            applyBookRead(event.userId(), event.previousReadOn(), genreIds, -1);
+        }
+        if (event.readOn() != null) {
+            applyBookRead(event.userId(), event.readOn(), genreIds, 1);
+        }
+        readingProgressRepository.refreshGoalCompletion(event.userId());
+    }
+
+    /* Recomputes the streak and active goals of one user from history; call inside a transaction. */
+    public Drift reconcile(Integer userId) {
+        StreakState stored = readingProgressRepository.lockStreak(userId, StreakType.DAILY_READING);
+        StreakState expected = readingProgressRepository.computeStreak(userId);
+        boolean streakDrifted = !expected.equals(stored);
+        if (streakDrifted) {
+            readingProgressRepository.saveStreak(userId, StreakType.DAILY_READING, expected);
+        }
+
+        int goalsDrifted = 0;
+        for (GoalState goal : readingProgressRepository.lockActiveGoals(userId)) {
+            GoalValue value = computeGoal(goal.id(), userId, goal.goalType(), goal.startDate(), goal.endDate());
+            if (value.currentValue() != goal.currentValue() || value.progressMinutes() != goal.progressMinutes()) {
+                readingProgressRepository.setGoalProgress(goal.id(), value.currentValue(), value.progressMinutes());
+                goalsDrifted++;
+            }
+        }
+        readingProgressRepository.refreshGoalCompletion(userId);
+
+        return new Drift(streakDrifted, goalsDrifted);
+    }
+
+    /* Progress of a goal over its whole period, e.g. for a goal that starts in the past. */
+    public GoalValue computeGoal(Integer goalId, Integer userId, GoalType goalType, LocalDate startDate, LocalDate endDate) {
+        return switch (goalType) {
+            case PAGES_COUNT -> new GoalValue(readingProgressRepository.computeSessionTotals(userId, startDate, endDate)[0], 0);
+            case HOURS_COUNT -> {
+                int minutes = readingProgressRepository.computeSessionTotals(userId, startDate, endDate)[1];
+                yield new GoalValue(minutes / 60, minutes);
+            }
+            case BOOKS_COUNT -> new GoalValue(readingProgressRepository.computeBooksRead(userId, startDate, endDate), 0);
+            case GENRE_VARIETY -> new GoalValue(readingProgressRepository.rebuildGoalGenres(goalId, userId, startDate, endDate), 0);
+        };
+    }
+
+    /*
+     * Adds one reading day to a streak. Days inside the current run change nothing, the next day
+     * extends it, a later day starts a new run and the day before the run extends it backwards.
+     * Older backfilled days could join earlier runs and are left to reconciliation.
+     */
+    static StreakState advance(StreakState streak, LocalDate day) {
+        LocalDate last = streak.lastActivityDate();
+        LocalDate start = streak.streakStartDate();
+
+        if (last == null || start == null || day.isAfter(last.plusDays(1))) {
+            return new StreakState(1, Math.max(streak.longestStreak(), 1), day, day);
+        }
+        if (day.equals(last.plusDays(1))) {
+            int current = streak.currentStreak() + 1;
+            return new StreakState(current, Math.max(streak.longestStreak(), current), day, start);
+        }
+        if (day.equals(start.minusDays(1))) {
+            int current = streak.currentStreak() + 1;
+            return new StreakState(current, Math.max(streak.longestStreak(), current), last, day);
+        }
+
+        return streak;
+    }
+
+    private void applyBookRead(Integer userId, LocalDate readOn, List<Integer> genreIds, int delta) {
+        readingProgressRepository.addToGoals(userId, GoalType.BOOKS_COUNT, readOn, delta);
+        if (!genreIds.isEmpty()) {
+            readingProgressRepository.addGenresToGoals(userId, readOn, genreIds, delta);
+        }
+    }
+
+    public record GoalValue(int currentValue, int progressMinutes) {
+    }
+
+    public record Drift(boolean streakDrifted, int goalsDrifted) {
+    }
+}
@@ -0,0 +1,136 @@
+package com.biblioteca.userlibraryservice.progress;
+
+import com.biblioteca.userlibraryservice.progress.ReadingProgressEngine.Drift;
+import com.biblioteca.userlibraryservice.repository.ReadingProgressRepository;
+import com.biblioteca.userlibraryservice.stats.ReadingStatsProjector;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/*
+ * Nightly safety net for ReadingProgressEngine. Users are split into user_id % parallelism
+ * partitions that are reconciled concurrently, one short transaction per user, so live events
+ * for a user only wait for that user's recomputation. Every difference between the incremental
+ * values and the recomputed ones is corrected, logged and counted in the
+ * reading.reconciliation.drift metric. The statistics rollups of each user are rebuilt in the
+ * same transaction.
+ */
+@Component
+@Slf4j
+public class ReadingProgressReconciler {
+    private final ReadingProgressEngine readingProgressEngine;
+    private final ReadingProgressRepository readingProgressRepository;
+    private final ReadingStatsProjector readingStatsProjector;
+    private final TransactionTemplate userTransaction;
+    private final MeterRegistry meterRegistry;
+    private final boolean enabled;
+    private final int parallelism;
+
+    public ReadingProgressReconciler(ReadingProgressEngine readingProgressEngine,
+                                     ReadingProgressRepository readingProgressRepository,
+                                     ReadingStatsProjector readingStatsProjector,
+                                     PlatformTransactionManager transactionManager,
+                                     MeterRegistry meterRegistry,
+                                     @Value("${reading.reconciliation.enabled:true}") boolean enabled,
+                                     @Value("${reading.reconciliation.parallelism:4}") int parallelism) {
+        this.readingProgressEngine = readingProgressEngine;
+        this.readingProgressRepository = readingProgressRepository;
+        this.readingStatsProjector = readingStatsProjector;
+        this.userTransaction = new TransactionTemplate(transactionManager);
+        this.meterRegistry = meterRegistry;
+        this.enabled = enabled;
+        this.parallelism = Math.max(1, parallelism);
+    }
+
+    @Scheduled(cron = "${reading.reconciliation.cron:0 30 3 * * *}")
+    public void reconcileNightly() {
+        if (enabled) {
+            reconcile();
+        }
+    }
+
+    public ReconciliationReport reconcile() {
+        long started = System.currentTimeMillis();
+        AtomicInteger threadNumber = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(parallelism, runnable -> {
+            Thread thread = new Thread(runnable, "reading-reconciliation-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        try {
+            List<Future<ReconciliationReport>> partitions = new ArrayList<>();
+            for (int partition = 0; partition < parallelism; partition++) {
+                int current = partition;
+                partitions.add(executor.submit(() -> reconcilePartition(current)));
+            }
+
+            ReconciliationReport report = ReconciliationReport.EMPTY;
+            for (Future<ReconciliationReport> partition : partitions) {
+                report = report.plus(partition.get());
+            }
+
+            meterRegistry.counter("reading.reconciliation.drift", "kind", "streak").increment(report.streaksDrifted());
+            meterRegistry.counter("reading.reconciliation.drift", "kind", "goal").increment(report.goalsDrifted());
+            log.info("Reading progress reconciliation finished in {} ms: {} users, {} streaks and {} goals drifted, {} users failed",
+                    System.currentTimeMillis() - started, report.users(), report.streaksDrifted(), report.goalsDrifted(), report.failed());
+
+            return report;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Reading progress reconciliation was interrupted", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Reading progress reconciliation failed", e.getCause());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private ReconciliationReport reconcilePartition(int partition) {
+        List<Integer> userIds = readingProgressRepository.findUserIds(partition, parallelism);
+        int streaksDrifted = 0;
+        int goalsDrifted = 0;
+        int failed = 0;
+
+        for (Integer userId : userIds) {
+            try {
+                Drift drift = userTransaction.execute(status -> {
+                    Drift userDrift = readingProgressEngine.reconcile(userId);
+                    readingStatsProjector.rebuild(userId);
+                    return userDrift;
+                });
+                if (drift != null && (drift.streakDrifted() || drift.goalsDrifted() > 0)) {
+                    log.warn("Reading progress drift corrected for user {}: streak {}, {} goals", userId, drift.streakDrifted(), drift.goalsDrifted());
+                    streaksDrifted += drift.streakDrifted() ? 1 : 0;
+                    goalsDrifted += drift.goalsDrifted();
+                }
+            } catch (RuntimeException e) {
+                failed++;
+                log.error("Reading progress reconciliation failed for user {}: {}", userId, e.getMessage());
+            }
+        }
+
+        return new ReconciliationReport(userIds.size(), streaksDrifted, goalsDrifted, failed);
+    }
+
+    public record ReconciliationReport(int users, int streaksDrifted, int goalsDrifted, int failed) {
+        static final ReconciliationReport EMPTY = new ReconciliationReport(0, 0, 0, 0);
+
+        ReconciliationReport plus(ReconciliationReport other) {
+            return new ReconciliationReport(users + other.users, streaksDrifted + other.streaksDrifted,
+                    goalsDrifted + other.goalsDrifted, failed + other.failed);
+        }
+    }
+}
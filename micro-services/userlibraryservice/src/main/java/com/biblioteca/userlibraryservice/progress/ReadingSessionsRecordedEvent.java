@@ -0,0 +1,10 @@
+package com.biblioteca.userlibraryservice.progress;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/* Published inside the ingesting transaction with the sessions that were actually stored. */
+public record ReadingSessionsRecordedEvent(List<RecordedSession> sessions) {
+    public record RecordedSession(Integer userId, LocalDate sessionDate, int pagesRead, int minutes) {
+    }
+}
@@ -0,0 +1,25 @@
+package com.biblioteca.userlibraryservice.progress;
+
+import com.biblioteca.userlibraryservice.entity.UserBook;
+import com.biblioteca.userlibraryservice.util.enums.BookStatus;
+
+import java.time.LocalDate;
+
+/*
+ * Published inside the transaction that creates, updates or deletes a user book. readOn is the
+ * day the book counts as read for goals (finish date, or the day it was marked read) and is
+ * null when the book is not read; a deleted book has a null status. Also published when only
+ * the rating changes, for the rating statistics.
+ */
+public record UserBookStatusChangedEvent(Integer userId, Integer userBookId, Integer catalogBookId,
+                                         String previousStatus, String status,
+                                         LocalDate previousReadOn, LocalDate readOn,
+                                         Integer previousRating, Integer rating) {
+    public static LocalDate readOn(UserBook userBook) {
+        if (!BookStatus.READ.name().equals(userBook.getStatus())) {
+            return null;
+        }
+
+        return userBook.getFinishDate() != null ? userBook.getFinishDate() : userBook.getUpdatedAt().toLocalDate();
+    }
+}
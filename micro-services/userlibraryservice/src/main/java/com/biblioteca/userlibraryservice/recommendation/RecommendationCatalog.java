@@ -0,0 +1,97 @@
+package com.biblioteca.userlibraryservice.recommendation;
+
+import com.biblioteca.userlibraryservice.repository.RecommendationRepository;
+import com.biblioteca.userlibraryservice.repository.RecommendationRepository.CatalogBook;
+
+import java.util.*;
+
+/*
+ * Immutable in-memory index of the replicated catalog for scoring: every active book by id
+ * plus, per author, genre and publisher, its highest rated books. Candidate lists are capped
+ * at candidatesPerKey so a user who likes a huge genre costs the same as one who likes a
+ * small one; books beyond the cap can still be reached through authors or co-reads.
+ */
+public class RecommendationCatalog {
+    private final Map<Integer, CatalogBook> books;
+    private final Map<Integer, int[]> byAuthor;
+    private final Map<Integer, int[]> byGenre;
+    private final Map<Integer, int[]> byPublisher;
+    private final int[] topRated;
+
+    private RecommendationCatalog(Map<Integer, CatalogBook> books, Map<Integer, int[]> byAuthor, Map<Integer, int[]> byGenre,
+                                  Map<Integer, int[]> byPublisher, int[] topRated) {
+        this.books = books;
+        this.byAuthor = byAuthor;
+        this.byGenre = byGenre;
+        this.byPublisher = byPublisher;
+        this.topRated = topRated;
+    }
+
+    public static RecommendationCatalog load(RecommendationRepository recommendationRepository, int candidatesPerKey) {
+        List<CatalogBook> loaded = new ArrayList<>();
+        recommendationRepository.findCatalogBooks(loaded::add);
+
+        return of(loaded, candidatesPerKey);
+    }
+
+    /* Builds the index from books in any order; the list is sorted in place. */
+    public static RecommendationCatalog of(List<CatalogBook> loaded, int candidatesPerKey) {
+        loaded.sort(Comparator.comparingDouble(CatalogBook::rating).reversed().thenComparingInt(CatalogBook::id));
+
+        Map<Integer, CatalogBook> books = new HashMap<>(loaded.size() * 2);
+        Map<Integer, List<Integer>> byAuthor = new HashMap<>();
+        Map<Integer, List<Integer>> byGenre = new HashMap<>();
+        Map<Integer, List<Integer>> byPublisher = new HashMap<>();
+        for (CatalogBook book : loaded) {
+            books.put(book.id(), book);
+            index(byAuthor, book.authorIds(), book.id(), candidatesPerKey);
+            index(byGenre, book.genreIds(), book.id(), candidatesPerKey);
+            index(byPublisher, book.publisherIds(), book.id(), candidatesPerKey);
+        }
+
+        int[] topRated = loaded.stream().limit(candidatesPerKey).mapToInt(CatalogBook::id).toArray();
+
+        return new RecommendationCatalog(books, freeze(byAuthor), freeze(byGenre), freeze(byPublisher), topRated);
+    }
+
+    public CatalogBook book(int bookId) {
+        return books.get(bookId);
+    }
+
+    public int[] booksByAuthor(int authorId) {
+        return byAuthor.getOrDefault(authorId, new int[0]);
+    }
+
+    public int[] booksByGenre(int genreId) {
+        return byGenre.getOrDefault(genreId, new int[0]);
+    }
+
+    public int[] booksByPublisher(int publisherId) {
+        return byPublisher.getOrDefault(publisherId, new int[0]);
+    }
+
+    /* Highest rated books of the whole catalog, for users without usable signals. */
+    public int[] topRated() {
+        return topRated;
+    }
+
+    public int size() {
+        return books.size();
+    }
+
+    /* Books arrive highest rated first, so each list keeps its best candidatesPerKey. */
+    private static void index(Map<Integer, List<Integer>> index, int[] keys, int bookId, int candidatesPerKey) {
+        for (int key : keys) {
+            List<Integer> bookIds = index.computeIfAbsent(key, k -> new ArrayList<>());
+            if (bookIds.size() < candidatesPerKey) {
+                bookIds.add(bookId);
+            }
+        }
+    }
+
+    private static Map<Integer, int[]> freeze(Map<Integer, List<Integer>> index) {
+        Map<Integer, int[]> frozen = new HashMap<>(index.size() * 2);
+        index.forEach((key, bookIds) -> frozen.put(key, bookIds.stream().mapToInt(Integer::intValue).toArray()));
+        return frozen;
+    }
+}
@@ -0,0 +1,190 @@
+package com.biblioteca.userlibraryservice.recommendation;
+
+import com.biblioteca.userlibraryservice.repository.RecommendationRepository;
+import com.biblioteca.userlibraryservice.repository.RecommendationRepository.CoRead;
+import com.biblioteca.userlibraryservice.repository.RecommendationRepository.OwnedBook;
+import com.biblioteca.userlibraryservice.repository.RecommendationRepository.Preference;
+import com.biblioteca.userlibraryservice.repository.RecommendationRepository.UserRecommendations;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/*
+ * Computes and stores top-N recommendation lists. Signals of a batch of users are read with one
+ * query per source (three preference tables, user_books, book_co_reads) and scored in memory
+ * against the shared RecommendationCatalog. The catalog is loaded when the application is
+ * ready, reloaded on a fixed delay and by every nightly refresh, so requests never pay for the
+ * full scan. Users the refresh has not seen yet are scored on recommendationExecutor.
+ */
+@Component
+@Slf4j
+public class RecommendationEngine {
+    private final RecommendationRepository recommendationRepository;
+    private final TaskExecutor recommendationExecutor;
+    private final TransactionTemplate onDemandTransaction;
+    private final int topN;
+    private final int candidatesPerKey;
+    private final Set<Integer> queuedUsers = ConcurrentHashMap.newKeySet();
+
+    private volatile RecommendationCatalog catalog;
+
+    public RecommendationEngine(RecommendationRepository recommendationRepository,
+                                @Qualifier("recommendationExecutor") TaskExecutor recommendationExecutor,
+                                PlatformTransactionManager transactionManager,
+                                @Value("${recommendations.top-n:50}") int topN,
+                                @Value("${recommendations.candidates-per-key:1000}") int candidatesPerKey) {
+        this.recommendationRepository = recommendationRepository;
+        this.recommendationExecutor = recommendationExecutor;
+        this.onDemandTransaction = new TransactionTemplate(transactionManager);
+        this.topN = Math.max(1, topN);
+        this.candidatesPerKey = Math.max(1, candidatesPerKey);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadCatalogAtStartup() {
+        reloadCatalogQuietly();
+    }
+
+    /* Picks up books replicated since the last load; a failed reload keeps the previous index. */
+    @Scheduled(initialDelayString = "${recommendations.catalog.reload-interval-ms:3600000}",
+            fixedDelayString = "${recommendations.catalog.reload-interval-ms:3600000}")
+    public void reloadCatalogPeriodically() {
+        reloadCatalogQuietly();
+    }
+
+    public RecommendationCatalog reloadCatalog() {
+        long started = System.currentTimeMillis();
+        RecommendationCatalog loaded = RecommendationCatalog.load(recommendationRepository, candidatesPerKey);
+        catalog = loaded;
+        log.info("Recommendation catalog loaded in {} ms: {} books", System.currentTimeMillis() - started, loaded.size());
+
+        return loaded;
+    }
+
+    /*
+     * Queues the computation of one user's list. A user already queued is not queued twice, and
+     * a full queue drops the request; the next request for that user queues it again.
+     */
+    public void recomputeLater(Integer userId) {
+        if (!queuedUsers.add(userId)) {
+            return;
+        }
+
+        try {
+            recommendationExecutor.execute(() -> {
+                try {
+                    onDemandTransaction.executeWithoutResult(status -> recomputeUsers(List.of(userId), LocalDateTime.now()));
+                    log.info("Recommendations computed on demand for user {}", userId);
+                } catch (RuntimeException e) {
+                    log.error("On-demand recommendations failed for user {}: {}", userId, e.getMessage());
+                } finally {
+                    queuedUsers.remove(userId);
+                }
+            });
+        } catch (TaskRejectedException e) {
+            queuedUsers.remove(userId);
+            log.warn("On-demand recommendation queue is full, user {} is not queued", userId);
+        }
+    }
+
+    /* Highest rated books of the loaded catalog, best first; empty until the first load finished. */
+    public int[] popularBooks() {
+        RecommendationCatalog current = catalog;
+        return current != null ? current.topRated() : new int[0];
+    }
+
+    /* Scores and stores the users in the caller's transaction; returns the number of users stored. */
+    public int recomputeUsers(List<Integer> userIds, LocalDateTime computedAt) {
+        RecommendationCatalog current = catalog();
+        Map<Integer, UserSignals> signals = loadSignals(userIds);
+
+        List<UserRecommendations> recommendations = userIds.stream()
+                .map(userId -> new UserRecommendations(userId, RecommendationScorer.score(signals.get(userId), current, topN)))
+                .toList();
+        recommendationRepository.saveAll(recommendations, computedAt);
+
+        return recommendations.size();
+    }
+
+    private void reloadCatalogQuietly() {
+        try {
+            reloadCatalog();
+        } catch (RuntimeException e) {
+            log.error("Recommendation catalog could not be loaded: {}", e.getMessage());
+        }
+    }
+
+    /* Only loads here when the startup load failed. */
+    private RecommendationCatalog catalog() {
+        RecommendationCatalog current = catalog;
+        if (current == null) {
+            synchronized (this) {
+                current = catalog;
+                if (current == null) {
+                    current = reloadCatalog();
+                }
+            }
+        }
+
+        return current;
+    }
+
+    private Map<Integer, UserSignals> loadSignals(List<Integer> userIds) {
+        Map<Integer, UserSignals> signals = new HashMap<>();
+        userIds.forEach(userId -> signals.put(userId, new UserSignals(userId)));
+
+        for (Preference preference : recommendationRepository.findAuthorPreferences(userIds)) {
+            UserSignals user = signals.get(preference.userId());
+            if (preference.excluded()) {
+                user.getExcludedAuthors().add(preference.targetId());
+            } else {
+                user.getAuthorWeights().put(preference.targetId(), RecommendationScorer.levelWeight(preference.preferenceLevel(), preference.favorite()));
+            }
+        }
+        for (Preference preference : recommendationRepository.findGenrePreferences(userIds)) {
+            UserSignals user = signals.get(preference.userId());
+            if (preference.excluded()) {
+                user.getExcludedGenres().add(preference.targetId());
+            } else {
+                user.getGenreWeights().put(preference.targetId(), RecommendationScorer.levelWeight(preference.preferenceLevel(), false));
+            }
+        }
+        for (Preference preference : recommendationRepository.findPublisherPreferences(userIds)) {
+            signals.get(preference.userId()).getPublisherWeights()
+                    .put(preference.targetId(), RecommendationScorer.levelWeight(preference.preferenceLevel(), preference.favorite()));
+        }
+
+        /* Liked books of the whole batch share one co-read lookup. */
+        Map<Integer, List<UserSignals>> likedBy = new HashMap<>();
+        for (OwnedBook book : recommendationRepository.findUserBooks(userIds)) {
+            UserSignals user = signals.get(book.userId());
+            user.getOwnedBooks().add(book.bookId());
+            if (book.liked()) {
+                user.getLikedBooks().add(book.bookId());
+                likedBy.computeIfAbsent(book.bookId(), id -> new ArrayList<>()).add(user);
+            }
+        }
+        if (!likedBy.isEmpty()) {
+            for (CoRead coRead : recommendationRepository.findCoReads(likedBy.keySet())) {
+                double strength = Math.log1p(coRead.coReads());
+                for (UserSignals user : likedBy.get(coRead.bookId())) {
+                    user.getCoReads().merge(coRead.relatedBookId(), strength, Double::sum);
+                }
+            }
+        }
+
+        return signals;
+    }
+}
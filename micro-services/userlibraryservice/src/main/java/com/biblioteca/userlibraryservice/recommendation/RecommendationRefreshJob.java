@@ -0,0 +1,141 @@
+package com.biblioteca.userlibraryservice.recommendation;
+
+import com.biblioteca.userlibraryservice.repository.RecommendationRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/*
+ * Nightly rebuild of all recommendation lists: co-reads are recomputed in one statement, the
+ * catalog index is reloaded, and users are scored in a fork-join pass that splits the sorted
+ * user ids in halves down to batches of batchSize. Each batch is one transaction that reads
+ * its signals in bulk and writes one JDBC batch. Lists of users that have no data anymore are
+ * deleted at the end.
+ */
+@Component
+@Slf4j
+public class RecommendationRefreshJob {
+    private final RecommendationEngine recommendationEngine;
+    private final RecommendationRepository recommendationRepository;
+    private final TransactionTemplate batchTransaction;
+    private final MeterRegistry meterRegistry;
+    private final boolean enabled;
+    private final int parallelism;
+    private final int batchSize;
+    private final int coReadBooksPerUser;
+    private final int coReadMinimum;
+    private final int coReadNeighbours;
+
+    public RecommendationRefreshJob(RecommendationEngine recommendationEngine,
+                                    RecommendationRepository recommendationRepository,
+                                    PlatformTransactionManager transactionManager,
+                                    MeterRegistry meterRegistry,
+                                    @Value("${recommendations.refresh.enabled:true}") boolean enabled,
+                                    @Value("${recommendations.refresh.parallelism:4}") int parallelism,
+                                    @Value("${recommendations.refresh.batch-size:200}") int batchSize,
+                                    @Value("${recommendations.co-reads.books-per-user:200}") int coReadBooksPerUser,
+                                    @Value("${recommendations.co-reads.minimum:2}") int coReadMinimum,
+                                    @Value("${recommendations.co-reads.neighbours:20}") int coReadNeighbours) {
+        this.recommendationEngine = recommendationEngine;
+        this.recommendationRepository = recommendationRepository;
+        this.batchTransaction = new TransactionTemplate(transactionManager);
+        this.meterRegistry = meterRegistry;
+        this.enabled = enabled;
+        this.parallelism = Math.max(1, parallelism);
+        this.batchSize = Math.max(1, batchSize);
+        this.coReadBooksPerUser = coReadBooksPerUser;
+        this.coReadMinimum = coReadMinimum;
+        this.coReadNeighbours = coReadNeighbours;
+    }
+
+    @Scheduled(cron = "${recommendations.refresh.cron:0 30 4 * * *}")
+    public void refreshNightly() {
+        if (enabled) {
+            refreshAll();
+        }
+    }
+
+    public RefreshReport refreshAll() {
+        long started = System.currentTimeMillis();
+        LocalDateTime computedAt = LocalDateTime.now();
+
+        Integer coReads = batchTransaction.execute(status ->
+                recommendationRepository.refreshCoReads(coReadBooksPerUser, coReadMinimum, coReadNeighbours));
+        recommendationEngine.reloadCatalog();
+
+        List<Integer> userIds = recommendationRepository.findUserIds();
+        AtomicInteger users = new AtomicInteger();
+        AtomicInteger failed = new AtomicInteger();
+        ForkJoinPool pool = new ForkJoinPool(parallelism);
+        try {
+            pool.invoke(new RefreshTask(userIds, 0, userIds.size(), computedAt, users, failed));
+        } finally {
+            pool.shutdown();
+        }
+
+        /* Keep old lists when a batch failed; they are still better than none. */
+        Integer removed = failed.get() == 0
+                ? batchTransaction.execute(status -> recommendationRepository.deleteComputedBefore(computedAt))
+                : Integer.valueOf(0);
+
+        RefreshReport report = new RefreshReport(users.get(), failed.get(), coReads != null ? coReads : 0, removed != null ? removed : 0);
+        meterRegistry.counter("recommendations.refresh.users").increment(report.users());
+        log.info("Recommendation refresh finished in {} ms: {} users, {} users failed, {} co-read pairs, {} stale lists removed",
+                System.currentTimeMillis() - started, report.users(), report.failed(), report.coReads(), report.removed());
+
+        return report;
+    }
+
+    private class RefreshTask extends RecursiveAction {
+        private final List<Integer> userIds;
+        private final int from;
+        private final int to;
+        private final LocalDateTime computedAt;
+        private final AtomicInteger users;
+        private final AtomicInteger failed;
+
+        RefreshTask(List<Integer> userIds, int from, int to, LocalDateTime computedAt, AtomicInteger users, AtomicInteger failed) {
+            this.userIds = userIds;
+            this.from = from;
+            this.to = to;
+            this.computedAt = computedAt;
+            this.users = users;
+            this.failed = failed;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from > batchSize) {
+                int middle = (from + to) >>> 1;
+                invokeAll(new RefreshTask(userIds, from, middle, computedAt, users, failed),
+                        new RefreshTask(userIds, middle, to, computedAt, users, failed));
+                return;
+            }
+            if (from == to) {
+                return;
+            }
+
+            List<Integer> batch = userIds.subList(from, to);
+            try {
+                batchTransaction.executeWithoutResult(status -> recommendationEngine.recomputeUsers(batch, computedAt));
+                users.addAndGet(batch.size());
+            } catch (RuntimeException e) {
+                failed.addAndGet(batch.size());
+                log.error("Recommendation refresh failed for users {}..{}: {}", batch.get(0), batch.get(batch.size() - 1), e.getMessage());
+            }
+        }
+    }
+
+    public record RefreshReport(int users, int failed, int coReads, int removed) {
+    }
+}
@@ -0,0 +1,151 @@
+package com.biblioteca.userlibraryservice.recommendation;
+
+import com.biblioteca.userlibraryservice.repository.RecommendationRepository.CatalogBook;
+import com.biblioteca.userlibraryservice.repository.RecommendationRepository.ScoredBook;
+import com.biblioteca.userlibraryservice.util.enums.RecommendationReason;
+
+import java.util.*;
+import java.util.function.IntFunction;
+
+/*
+ * Scores catalog books for one user. Candidates are the capped book lists of the user's liked
+ * authors, genres and publishers plus the co-read neighbours of their liked books; each
+ * candidate is then scored on its own ids, so dislikes (levels 1-2) lower a score and an
+ * excluded author or genre removes the book. Owned books are never recommended.
+ *
+ * score = 3.0 * authors + 1.5 * genres + 1.0 * publishers + 2.0 * co-reads + 0.5 * rating / 5
+ */
+public class RecommendationScorer {
+    private static final double AUTHOR_WEIGHT = 3.0;
+    private static final double GENRE_WEIGHT = 1.5;
+    private static final double PUBLISHER_WEIGHT = 1.0;
+    private static final double CO_READ_WEIGHT = 2.0;
+    private static final double RATING_WEIGHT = 0.5;
+
+    private static final Comparator<ScoredBook> RANKING = Comparator.comparingDouble(ScoredBook::score).reversed()
+            .thenComparingInt(ScoredBook::bookId);
+
+    /*
+     * Levels 1 and 2 are dislikes (-2, -1); 3, the default, and up are increasingly liked (1, 2, 3).
+     * There is no neutral level. A favourite counts one level higher.
+     */
+    public static double levelWeight(int preferenceLevel, boolean favorite) {
+        int level = (preferenceLevel > 0 ? preferenceLevel : 3) + (favorite ? 1 : 0);
+        return level >= 3 ? level - 2 : level - 3;
+    }
+
+    /* Score of a book recommended only for its rating. */
+    public static double popularScore(double rating) {
+        return RATING_WEIGHT * rating / 5;
+    }
+
+    public static List<ScoredBook> score(UserSignals signals, RecommendationCatalog catalog, int topN) {
+        Set<Integer> candidates = new HashSet<>();
+        collect(candidates, signals.getAuthorWeights(), catalog::booksByAuthor);
+        collect(candidates, signals.getGenreWeights(), catalog::booksByGenre);
+        collect(candidates, signals.getPublisherWeights(), catalog::booksByPublisher);
+        candidates.addAll(signals.getCoReads().keySet());
+
+        PriorityQueue<ScoredBook> top = new PriorityQueue<>(RANKING.reversed());
+        for (Integer bookId : candidates) {
+            CatalogBook book = catalog.book(bookId);
+            if (book == null || signals.getOwnedBooks().contains(bookId) || isExcluded(book, signals)) {
+                continue;
+            }
+
+            double author = AUTHOR_WEIGHT * sum(book.authorIds(), signals.getAuthorWeights());
+            double genre = GENRE_WEIGHT * sum(book.genreIds(), signals.getGenreWeights());
+            double publisher = PUBLISHER_WEIGHT * sum(book.publisherIds(), signals.getPublisherWeights());
+            double coRead = CO_READ_WEIGHT * signals.getCoReads().getOrDefault(bookId, 0.0);
+            double signal = author + genre + publisher + coRead;
+            if (signal <= 0) {
+                continue;
+            }
+
+            offer(top, new ScoredBook(bookId, signal + RATING_WEIGHT * book.rating() / 5, strongest(author, genre, publisher, coRead)), topN);
+        }
+
+        if (top.isEmpty()) {
+            popular(top, signals, catalog, topN);
+        }
+
+        List<ScoredBook> ranked = new ArrayList<>(top);
+        ranked.sort(RANKING);
+
+        return ranked;
+    }
+
+    private static void popular(PriorityQueue<ScoredBook> top, UserSignals signals, RecommendationCatalog catalog, int topN) {
+        for (int bookId : catalog.topRated()) {
+            if (top.size() >= topN) {
+                return;
+            }
+            CatalogBook book = catalog.book(bookId);
+            if (!signals.getOwnedBooks().contains(bookId) && !isExcluded(book, signals)) {
+                top.add(new ScoredBook(bookId, popularScore(book.rating()), RecommendationReason.POPULAR));
+            }
+        }
+    }
+
+    private static void collect(Set<Integer> candidates, Map<Integer, Double> weights, IntFunction<int[]> books) {
+        weights.forEach((id, weight) -> {
+            if (weight > 0) {
+                for (int bookId : books.apply(id)) {
+                    candidates.add(bookId);
+                }
+            }
+        });
+    }
+
+    private static boolean isExcluded(CatalogBook book, UserSignals signals) {
+        for (int authorId : book.authorIds()) {
+            if (signals.getExcludedAuthors().contains(authorId)) {
+                return true;
+            }
+        }
+        for (int genreId : book.genreIds()) {
+            if (signals.getExcludedGenres().contains(genreId)) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    private static double sum(int[] ids, Map<Integer, Double> weights) {
+        double sum = 0;
+        for (int id : ids) {
+            sum += weights.getOrDefault(id, 0.0);
+        }
+
+        return sum;
+    }
+
+    /* Keeps the topN best; the head of the queue is the weakest kept book. */
+    private static void offer(PriorityQueue<ScoredBook> top, ScoredBook book, int topN) {
+        if (top.size() < topN) {
+            top.add(book);
+        } else if (RANKING.compare(book, top.peek()) < 0) {
+            top.poll();
+            top.add(book);
+        }
+    }
+
+    private static RecommendationReason strongest(double author, double genre, double publisher, double coRead) {
+        RecommendationReason reason = RecommendationReason.AUTHOR;
+        double strongest = author;
+        if (genre > strongest) {
+            reason = RecommendationReason.GENRE;
+            strongest = genre;
+        }
+        if (publisher > strongest) {
+            reason = RecommendationReason.PUBLISHER;
+            strongest = publisher;
+        }
+        if (coRead > strongest) {
+            reason = RecommendationReason.CO_READ;
+        }
+
+        return reason;
+    }
+}
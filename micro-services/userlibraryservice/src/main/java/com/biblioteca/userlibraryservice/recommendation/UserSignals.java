@@ -0,0 +1,26 @@
+package com.biblioteca.userlibraryservice.recommendation;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+/* Everything the scorer knows about one user, loaded in batches by RecommendationEngine. */
+@Getter
+@RequiredArgsConstructor
+public class UserSignals {
+    private final int userId;
+    private final Map<Integer, Double> authorWeights = new HashMap<>();
+    private final Map<Integer, Double> genreWeights = new HashMap<>();
+    private final Map<Integer, Double> publisherWeights = new HashMap<>();
+    private final Set<Integer> excludedAuthors = new HashSet<>();
+    private final Set<Integer> excludedGenres = new HashSet<>();
+    private final Set<Integer> ownedBooks = new HashSet<>();
+    private final Set<Integer> likedBooks = new HashSet<>();
+
+    /* Related book id to the summed log-damped co-read counts of the user's liked books. */
+    private final Map<Integer, Double> coReads = new HashMap<>();
+}
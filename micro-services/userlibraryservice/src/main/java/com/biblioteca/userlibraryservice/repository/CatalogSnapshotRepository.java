@@ -0,0 +1,192 @@
+package com.biblioteca.userlibraryservice.repository;
+
+import com.biblioteca.userlibraryservice.dto.catalogSnapshot.*;
+import com.biblioteca.userlibraryservice.util.enums.CatalogAggregateType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+/*
+ * Versioned upserts into the catalog_*_snapshots tables. Every statement only touches a row
+ * when the incoming version is newer, so redelivered or reordered batches are no-ops, and
+ * deletes leave a tombstone carrying the version instead of removing the row.
+ */
+@Repository
+public class CatalogSnapshotRepository {
+    private static final String UPSERT_BOOK_SQL = """
+            INSERT INTO catalog_book_snapshots (book_id, title, subtitle, publication_date, page_count, language,
+                average_rating, is_active, cover_image_id, author_ids, author_names, genre_ids, genre_names, publisher_ids,
+                series_id, series_name, series_position, lowest_price, price_currency, is_deleted, version, synced_at)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, false, ?, CURRENT_TIMESTAMP)
+            ON CONFLICT (book_id) DO UPDATE SET
+                title = EXCLUDED.title, subtitle = EXCLUDED.subtitle, publication_date = EXCLUDED.publication_date,
+                page_count = EXCLUDED.page_count, language = EXCLUDED.language, average_rating = EXCLUDED.average_rating,
+                is_active = EXCLUDED.is_active, cover_image_id = EXCLUDED.cover_image_id,
+                author_ids = EXCLUDED.author_ids, author_names = EXCLUDED.author_names,
+                genre_ids = EXCLUDED.genre_ids, genre_names = EXCLUDED.genre_names, publisher_ids = EXCLUDED.publisher_ids,
+                series_id = EXCLUDED.series_id, series_name = EXCLUDED.series_name,
+                series_position = EXCLUDED.series_position, lowest_price = EXCLUDED.lowest_price,
+                price_currency = EXCLUDED.price_currency, is_deleted = false,
+                version = EXCLUDED.version, synced_at = EXCLUDED.synced_at
+            WHERE catalog_book_snapshots.version < EXCLUDED.version
+            """;
+
+    private static final String UPSERT_AUTHOR_SQL = """
+            INSERT INTO catalog_author_snapshots (author_id, name, image_id, is_deleted, version, synced_at)
+            VALUES (?, ?, ?, false, ?, CURRENT_TIMESTAMP)
+            ON CONFLICT (author_id) DO UPDATE SET
+                name = EXCLUDED.name, image_id = EXCLUDED.image_id, is_deleted = false,
+                version = EXCLUDED.version, synced_at = EXCLUDED.synced_at
+            WHERE catalog_author_snapshots.version < EXCLUDED.version
+            """;
+
+    private static final String UPSERT_SERIES_SQL = """
+            INSERT INTO catalog_series_snapshots (series_id, name, total_books, is_completed, is_deleted, version, synced_at)
+            VALUES (?, ?, ?, ?, false, ?, CURRENT_TIMESTAMP)
+            ON CONFLICT (series_id) DO UPDATE SET
+                name = EXCLUDED.name, total_books = EXCLUDED.total_books, is_completed = EXCLUDED.is_completed,
+                is_deleted = false, version = EXCLUDED.version, synced_at = EXCLUDED.synced_at
+            WHERE catalog_series_snapshots.version < EXCLUDED.version
+            """;
+
+    private static final String UPSERT_GENRE_SQL = """
+            INSERT INTO catalog_genre_snapshots (genre_id, name, parent_genre_id, is_active, is_deleted, version, synced_at)
+            VALUES (?, ?, ?, ?, false, ?, CURRENT_TIMESTAMP)
+            ON CONFLICT (genre_id) DO UPDATE SET
+                name = EXCLUDED.name, parent_genre_id = EXCLUDED.parent_genre_id, is_active = EXCLUDED.is_active,
+                is_deleted = false, version = EXCLUDED.version, synced_at = EXCLUDED.synced_at
+            WHERE catalog_genre_snapshots.version < EXCLUDED.version
+            """;
+
+    private static final String UPSERT_PUBLISHER_SQL = """
+            INSERT INTO catalog_publisher_snapshots (publisher_id, name, is_deleted, version, synced_at)
+            VALUES (?, ?, false, ?, CURRENT_TIMESTAMP)
+            ON CONFLICT (publisher_id) DO UPDATE SET
+                name = EXCLUDED.name, is_deleted = false, version = EXCLUDED.version, synced_at = EXCLUDED.synced_at
+            WHERE catalog_publisher_snapshots.version < EXCLUDED.version
+            """;
+
+    /* Table and key column per aggregate; tombstones keep the key and version only. */
+    private static final Map<CatalogAggregateType, String[]> TABLES = Map.of(
+            CatalogAggregateType.BOOK, new String[]{"catalog_book_snapshots", "book_id"},
+            CatalogAggregateType.AUTHOR, new String[]{"catalog_author_snapshots", "author_id"},
+            CatalogAggregateType.SERIES, new String[]{"catalog_series_snapshots", "series_id"},
+            CatalogAggregateType.GENRE, new String[]{"catalog_genre_snapshots", "genre_id"},
+            CatalogAggregateType.PUBLISHER, new String[]{"catalog_publisher_snapshots", "publisher_id"});
+
+    private static final String TOMBSTONE_SQL = """
+            INSERT INTO %1$s (%2$s, is_deleted, version, synced_at) VALUES (?, true, ?, CURRENT_TIMESTAMP)
+            ON CONFLICT (%2$s) DO UPDATE SET is_deleted = true, version = EXCLUDED.version, synced_at = EXCLUDED.synced_at
+            WHERE %1$s.version < EXCLUDED.version
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public CatalogSnapshotRepository(DataSource dataSource) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+    }
+
+    public void upsertBooks(List<BookSnapshotDTO> books, long version) {
+        jdbcTemplate.batchUpdate(UPSERT_BOOK_SQL, books, books.size(), (ps, book) -> {
+            Connection connection = ps.getConnection();
+            ps.setInt(1, book.getId());
+            ps.setString(2, book.getTitle());
+            ps.setString(3, book.getSubtitle());
+            setDate(ps, 4, book.getPublicationDate());
+            setInteger(ps, 5, book.getPageCount());
+            ps.setString(6, book.getLanguage());
+            ps.setBigDecimal(7, book.getAverageRating());
+            setBoolean(ps, 8, book.getIsActive());
+            setInteger(ps, 9, book.getCoverImageId());
+            ps.setArray(10, connection.createArrayOf("integer", toArray(book.getAuthorIds())));
+            ps.setString(11, book.getAuthorNames());
+            ps.setArray(12, connection.createArrayOf("integer", toArray(book.getGenreIds())));
+            ps.setString(13, book.getGenreNames());
+            ps.setArray(14, connection.createArrayOf("integer", toArray(book.getPublisherIds())));
+            setInteger(ps, 15, book.getSeriesId());
+            ps.setString(16, book.getSeriesName());
+            setInteger(ps, 17, book.getSeriesPosition());
+            ps.setBigDecimal(18, book.getLowestPrice());
+            ps.setString(19, book.getPriceCurrency());
+            ps.setLong(20, version);
+        });
+    }
+
+    public void upsertAuthors(List<AuthorSnapshotDTO> authors, long version) {
+        jdbcTemplate.batchUpdate(UPSERT_AUTHOR_SQL, authors, authors.size(), (ps, author) -> {
+            ps.setInt(1, author.getId());
+            ps.setString(2, author.getName());
+            ps.setString(3, author.getImageId());
+            ps.setLong(4, version);
+        });
+    }
+
+    public void upsertSeries(List<SeriesSnapshotDTO> series, long version) {
+        jdbcTemplate.batchUpdate(UPSERT_SERIES_SQL, series, series.size(), (ps, s) -> {
+            ps.setInt(1, s.getId());
+            ps.setString(2, s.getName());
+            setInteger(ps, 3, s.getTotalBooks());
+            setBoolean(ps, 4, s.getIsCompleted());
+            ps.setLong(5, version);
+        });
+    }
+
+    public void upsertGenres(List<GenreSnapshotDTO> genres, long version) {
+        jdbcTemplate.batchUpdate(UPSERT_GENRE_SQL, genres, genres.size(), (ps, genre) -> {
+            ps.setInt(1, genre.getId());
+            ps.setString(2, genre.getName());
+            setInteger(ps, 3, genre.getParentGenreId());
+            setBoolean(ps, 4, genre.getIsActive());
+            ps.setLong(5, version);
+        });
+    }
+
+    public void upsertPublishers(List<PublisherSnapshotDTO> publishers, long version) {
+        jdbcTemplate.batchUpdate(UPSERT_PUBLISHER_SQL, publishers, publishers.size(), (ps, publisher) -> {
+            ps.setInt(1, publisher.getId());
+            ps.setString(2, publisher.getName());
+            ps.setLong(3, version);
+        });
+    }
+
+    public void markDeleted(CatalogAggregateType aggregateType, List<Integer> ids, long version) {
+        String[] table = TABLES.get(aggregateType);
+        jdbcTemplate.batchUpdate(TOMBSTONE_SQL.formatted(table[0], table[1]), ids, ids.size(), (ps, id) -> {
+            ps.setInt(1, id);
+            ps.setLong(2, version);
+        });
+    }
+
+    private static Integer[] toArray(List<Integer> ids) {
+        return ids != null ? ids.toArray(Integer[]::new) : new Integer[0];
+    }
+
+    private static void setInteger(PreparedStatement ps, int index, Integer value) throws SQLException {
+        if (value != null) {
+            ps.setInt(index, value);
+        } else {
+            ps.setNull(index, Types.INTEGER);
+        }
+    }
+
+    private static void setBoolean(PreparedStatement ps, int index, Boolean value) throws SQLException {
+        if (value != null) {
+            ps.setBoolean(index, value);
+        } else {
+            ps.setNull(index, Types.BOOLEAN);
+        }
+    }
+
+    private static void setDate(PreparedStatement ps, int index, LocalDate value) throws SQLException {
+        ps.setDate(index, value != null ? Date.valueOf(value) : null);
+    }
+}
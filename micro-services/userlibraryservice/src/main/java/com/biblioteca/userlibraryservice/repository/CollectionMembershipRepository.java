@@ -0,0 +1,104 @@
+package com.biblioteca.userlibraryservice.repository;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import javax.sql.DataSource;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/*
+ * Write path of collection membership. A bulk add, remove or reorder is one JDBC batch (or
+ * one statement) however many books it touches, and a reorder only rewrites the rows whose
+ * display_order actually changed. Callers hold the collection row lock.
+ */
+@Repository
+public class CollectionMembershipRepository {
+    private static final int BATCH_SIZE = 100;
+
+    private static final String OWNED_SQL = "SELECT id FROM user_books WHERE user_id = ? AND id = ANY (?)";
+
+    private static final String MEMBERS_SQL = """
+            SELECT id, user_book_id, display_order FROM reading_collection_books
+            WHERE collection_id = ? ORDER BY display_order, id
+            """;
+
+    private static final String LAST_POSITION_SQL = """
+            SELECT display_order FROM reading_collection_books
+            WHERE collection_id = ? ORDER BY display_order DESC, id DESC LIMIT 1
+            """;
+
+    private static final String INSERT_SQL = """
+            INSERT INTO reading_collection_books (collection_id, user_book_id, display_order, created_at, updated_at)
+            VALUES (?, ?, ?, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP)
+            ON CONFLICT (collection_id, user_book_id) DO NOTHING
+            """;
+
+    private static final String DELETE_SQL = "DELETE FROM reading_collection_books WHERE collection_id = ? AND user_book_id = ANY (?)";
+
+    private static final String UPDATE_POSITION_SQL = """
+            UPDATE reading_collection_books SET display_order = ?, updated_at = CURRENT_TIMESTAMP WHERE id = ?
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public CollectionMembershipRepository(DataSource dataSource) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+    }
+
+    /* The ids among userBookIds that belong to the user's library. */
+    public Set<Integer> findOwnedUserBookIds(Integer userId, Collection<Integer> userBookIds) {
+        return new HashSet<>(jdbcTemplate.queryForList(OWNED_SQL, Integer.class, userId, userBookIds.toArray(Integer[]::new)));
+    }
+
+    public List<Member> findMembers(Integer collectionId) {
+        return jdbcTemplate.query(MEMBERS_SQL, (rs, rowNum) -> new Member(
+                rs.getInt("id"),
+                rs.getInt("user_book_id"),
+                rs.getInt("display_order")), collectionId);
+    }
+
+    /* display_order of the last book, or null for an empty collection. */
+    public Integer findLastPosition(Integer collectionId) {
+        List<Integer> positions = jdbcTemplate.queryForList(LAST_POSITION_SQL, Integer.class, collectionId);
+        return positions.isEmpty() ? null : positions.get(0);
+    }
+
+    /* Inserts the books at the given positions and returns how many were not members yet. */
+    public int insertAll(Integer collectionId, List<Integer> userBookIds, int[] positions) {
+        int[][] counts = jdbcTemplate.batchUpdate(INSERT_SQL, indexes(userBookIds.size()), BATCH_SIZE, (ps, index) -> {
+            ps.setInt(1, collectionId);
+            ps.setInt(2, userBookIds.get(index));
+            ps.setInt(3, positions[index]);
+        });
+
+        return sum(counts);
+    }
+
+    public int deleteAll(Integer collectionId, Collection<Integer> userBookIds) {
+        return jdbcTemplate.update(DELETE_SQL, collectionId, userBookIds.toArray(Integer[]::new));
+    }
+
+    public void updatePositions(List<Member> members) {
+        jdbcTemplate.batchUpdate(UPDATE_POSITION_SQL, members, BATCH_SIZE, (ps, member) -> {
+            ps.setInt(1, member.displayOrder());
+            ps.setInt(2, member.id());
+        });
+    }
+
+    private static List<Integer> indexes(int size) {
+        Integer[] indexes = new Integer[size];
+        Arrays.setAll(indexes, i -> i);
+        return Arrays.asList(indexes);
+    }
+
+    private static int sum(int[][] counts) {
+        return Arrays.stream(counts).flatMapToInt(Arrays::stream).map(count -> Math.max(count, 0)).sum();
+    }
+
+    public record Member(Integer id, Integer userBookId, int displayOrder) {
+    }
+}
@@ -0,0 +1,99 @@
+package com.biblioteca.userlibraryservice.repository;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import javax.sql.DataSource;
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.Collection;
+import java.util.List;
+
+/*
+ * JDBC access for PriceAlertEvaluator. Prices of a whole batch of books travel as parallel
+ * arrays and are joined against user_wishlists through idx_user_wishlists_price_watch
+ * (catalog_book_id, price_alert_threshold), so the cost grows with the number of changed
+ * books and matching watchers, not with the size of the wishlist table.
+ */
+@Repository
+public class PriceAlertRepository {
+    private static final String FIND_PRICES_SQL = """
+            SELECT book_id, title, lowest_price, price_currency, version
+            FROM catalog_book_snapshots WHERE book_id = ANY (?)
+            """;
+
+    /* Marks and returns the watchers to alert in one statement; a watcher alerted at a price is only alerted again below it. */
+    private static final String TRIGGER_ALERTS_SQL = """
+            UPDATE user_wishlists w
+            SET last_alerted_price = p.price, last_alerted_at = CURRENT_TIMESTAMP
+            FROM unnest(?, ?, ?) AS p(book_id, price, currency)
+            WHERE w.catalog_book_id = p.book_id
+              AND w.price_alert_threshold IS NOT NULL
+              AND w.wishlist_status <> 'completed'
+              AND w.price_alert_threshold >= p.price
+              AND COALESCE(w.target_currency, p.currency) = p.currency
+              AND (w.last_alerted_price IS NULL OR p.price < w.last_alerted_price)
+            RETURNING w.id, w.user_id, w.catalog_book_id, w.price_alert_threshold, w.target_price, p.price, p.currency
+            """;
+
+    /* Re-arms watchers whose book is no longer at or below their threshold. */
+    private static final String REARM_SQL = """
+            UPDATE user_wishlists w
+            SET last_alerted_price = NULL, last_alerted_at = NULL
+            FROM unnest(?, ?) AS p(book_id, price)
+            WHERE w.catalog_book_id = p.book_id
+              AND w.price_alert_threshold IS NOT NULL
+              AND w.wishlist_status <> 'completed'
+              AND w.last_alerted_price IS NOT NULL
+              AND (p.price IS NULL OR p.price > w.price_alert_threshold)
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public PriceAlertRepository(DataSource dataSource) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+    }
+
+    /* Current replicated prices; books without a snapshot are missing from the result. */
+    public List<BookPrice> findPrices(Collection<Integer> catalogBookIds) {
+        return jdbcTemplate.query(FIND_PRICES_SQL, (rs, rowNum) -> new BookPrice(
+                rs.getInt("book_id"),
+                rs.getString("title"),
+                rs.getBigDecimal("lowest_price"),
+                rs.getString("price_currency"),
+                rs.getLong("version")), (Object) catalogBookIds.toArray(Integer[]::new));
+    }
+
+    public List<TriggeredAlert> triggerAlerts(List<BookPrice> prices) {
+        return jdbcTemplate.query(TRIGGER_ALERTS_SQL, ps -> {
+            setPrices(ps, prices);
+            ps.setArray(3, ps.getConnection().createArrayOf("varchar", prices.stream().map(BookPrice::currency).toArray()));
+        }, (rs, rowNum) -> new TriggeredAlert(
+                rs.getInt("id"),
+                rs.getInt("user_id"),
+                rs.getInt("catalog_book_id"),
+                rs.getBigDecimal("price_alert_threshold"),
+                rs.getBigDecimal("target_price"),
+                rs.getBigDecimal("price"),
+                rs.getString("currency")));
+    }
+
+    public int rearm(List<BookPrice> prices) {
+        return jdbcTemplate.update(REARM_SQL, ps -> setPrices(ps, prices));
+    }
+
+    private static void setPrices(PreparedStatement ps, List<BookPrice> prices) throws SQLException {
+        Connection connection = ps.getConnection();
+        ps.setArray(1, connection.createArrayOf("integer", prices.stream().map(BookPrice::catalogBookId).toArray()));
+        ps.setArray(2, connection.createArrayOf("numeric", prices.stream().map(BookPrice::price).toArray()));
+    }
+
+    public record BookPrice(Integer catalogBookId, String title, BigDecimal price, String currency, long version) {
+    }
+
+    public record TriggeredAlert(Integer wishlistId, Integer userId, Integer catalogBookId, BigDecimal priceAlertThreshold,
+                                 BigDecimal targetPrice, BigDecimal price, String currency) {
+    }
+}
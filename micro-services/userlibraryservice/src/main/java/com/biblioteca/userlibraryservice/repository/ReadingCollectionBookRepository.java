@@ -1,9 +1,44 @@
 package com.biblioteca.userlibraryservice.repository;
 
 import com.biblioteca.userlibraryservice.entity.ReadingCollectionBook;
+import com.biblioteca.userlibraryservice.repository.projection.CollectionBookView;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
+
+/*
+ * Collection pages walk idx_reading_collection_books_position ((collection_id, display_order,
+ * id)) and seek past the (display_order, id) cursor. Titles, authors and covers come from the
+ * local catalog_book_snapshots replica in the same query, so a page is one round trip no
+ * matter how many books it holds.
+ */
 @Repository
 public interface ReadingCollectionBookRepository extends JpaRepository<ReadingCollectionBook, Integer> {
+    String PAGE_COLUMNS = "SELECT rcb.id AS id, rcb.collection.id AS collectionId, ub.id AS userBookId, " +
+            "rcb.displayOrder AS displayOrder, rcb.notes AS notes, rcb.createdAt AS addedAt, " +
+            "ub.catalogBookId AS catalogBookId, ub.status AS status, ub.rating AS rating, " +
+            "cb.title AS title, cb.authorNames AS authorNames, cb.genreNames AS genreNames, cb.coverImageId AS coverImageId " +
+            "FROM ReadingCollectionBook rcb JOIN rcb.userBook ub " +
+            "LEFT JOIN CatalogBookSnapshot cb ON cb.bookId = ub.catalogBookId AND cb.isDeleted = false ";
+
+    @Query(PAGE_COLUMNS + "WHERE rcb.collection.id = :collectionId " +
+            "ORDER BY rcb.displayOrder, rcb.id")
+    List<CollectionBookView> findPage(@Param("collectionId") Integer collectionId, Limit limit);
+
+    @Query(PAGE_COLUMNS + "WHERE rcb.collection.id = :collectionId " +
+            "AND (rcb.displayOrder, rcb.id) > (:displayOrder, :id) " +
+            "ORDER BY rcb.displayOrder, rcb.id")
+    List<CollectionBookView> findPageAfter(@Param("collectionId") Integer collectionId,
+                                           @Param("displayOrder") Integer displayOrder, @Param("id") Integer id, Limit limit);
+
+    @Query("SELECT rcb.collection.id, COUNT(rcb) FROM ReadingCollectionBook rcb " +
+            "WHERE rcb.collection.id IN :collectionIds GROUP BY rcb.collection.id")
+    List<Object[]> countByCollection(@Param("collectionIds") Collection<Integer> collectionIds);
+
+    long countByCollectionId(Integer collectionId);
 }
@@ -1,9 +1,24 @@
 package com.biblioteca.userlibraryservice.repository;
 
 import com.biblioteca.userlibraryservice.entity.ReadingCollection;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
+import java.util.Optional;
+
 @Repository
 public interface ReadingCollectionRepository extends JpaRepository<ReadingCollection,Integer> {
+    Optional<ReadingCollection> findByUserIdAndName(Integer userId, String name);
+
+    List<ReadingCollection> findByUserIdOrderBySortOrderAscIdAsc(Integer userId);
+
+    /* Membership changes of one collection are serialised on its row. */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT c FROM ReadingCollection c WHERE c.id = :id")
+    Optional<ReadingCollection> findByIdForUpdate(@Param("id") Integer id);
 }
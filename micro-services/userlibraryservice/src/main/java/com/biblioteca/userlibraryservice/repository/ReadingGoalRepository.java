@@ -0,0 +1,12 @@
+package com.biblioteca.userlibraryservice.repository;
+
+import com.biblioteca.userlibraryservice.entity.ReadingGoal;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface ReadingGoalRepository extends JpaRepository<ReadingGoal, Integer> {
+    List<ReadingGoal> findByUserIdAndIsActiveOrderByEndDateAscIdAsc(Integer userId, Boolean isActive);
+}
@@ -0,0 +1,235 @@
+package com.biblioteca.userlibraryservice.repository;
+
+import com.biblioteca.userlibraryservice.util.enums.GoalType;
+import com.biblioteca.userlibraryservice.util.enums.StreakType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import javax.sql.DataSource;
+import java.sql.Array;
+import java.sql.Date;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.List;
+
+/*
+ * JDBC access for ReadingProgressEngine. The incremental statements touch one streak row or
+ * the active goals of one user whose period contains the event date (idx_reading_goals_active);
+ * the compute* queries rebuild the same values from reading_sessions and user_books and are
+ * only used when a goal is created and by the nightly reconciliation.
+ */
+@Repository
+public class ReadingProgressRepository {
+    private static final String ENSURE_STREAK_SQL = """
+            INSERT INTO reading_streaks (user_id, streak_type, current_streak, longest_streak, is_active, created_at, updated_at)
+            VALUES (?, ?, 0, 0, true, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP)
+            ON CONFLICT (user_id, streak_type) DO NOTHING
+            """;
+
+    private static final String LOCK_STREAK_SQL = """
+            SELECT current_streak, longest_streak, last_activity_date, streak_start_date
+            FROM reading_streaks WHERE user_id = ? AND streak_type = ?
+            FOR UPDATE
+            """;
+
+    private static final String UPDATE_STREAK_SQL = """
+            UPDATE reading_streaks
+            SET current_streak = ?, longest_streak = ?, last_activity_date = ?, streak_start_date = ?, updated_at = CURRENT_TIMESTAMP
+            WHERE user_id = ? AND streak_type = ?
+            """;
+
+    /* Gaps and islands: consecutive reading days share (day - row_number). */
+    private static final String COMPUTE_STREAK_SQL = """
+            WITH days AS (
+                SELECT DISTINCT rs.session_date AS day
+                FROM reading_sessions rs JOIN user_books ub ON ub.id = rs.user_book_id
+                WHERE ub.user_id = ?
+            ), islands AS (
+                SELECT MIN(day) AS start_date, MAX(day) AS end_date, COUNT(*) AS length
+                FROM (SELECT day, day - CAST(ROW_NUMBER() OVER (ORDER BY day) AS integer) AS island FROM days) numbered
+                GROUP BY island
+            )
+            SELECT start_date, end_date, length, MAX(length) OVER () AS longest
+            FROM islands ORDER BY end_date DESC LIMIT 1
+            """;
+
+    private static final String ACTIVE_GOALS_FILTER = "user_id = ? AND goal_type = ? AND is_active = true AND ? BETWEEN start_date AND end_date";
+
+    private static final String ADD_VALUE_SQL = "UPDATE reading_goals SET current_value = GREATEST(current_value + ?, 0), " +
+            "updated_at = CURRENT_TIMESTAMP WHERE " + ACTIVE_GOALS_FILTER;
+
+    private static final String ADD_MINUTES_SQL = "UPDATE reading_goals SET progress_minutes = GREATEST(progress_minutes + ?, 0), " +
+            "current_value = GREATEST(progress_minutes + ?, 0) / 60, updated_at = CURRENT_TIMESTAMP WHERE " + ACTIVE_GOALS_FILTER;
+
+    private static final String ADD_GENRES_SQL = """
+            INSERT INTO reading_goal_genres (goal_id, genre_id, book_count)
+            SELECT g.id, genre.id, GREATEST(?, 0)
+            FROM reading_goals g CROSS JOIN unnest(CAST(? AS integer[])) AS genre(id)
+            WHERE g.user_id = ? AND g.goal_type = ? AND g.is_active = true AND ? BETWEEN g.start_date AND g.end_date
+            ON CONFLICT (goal_id, genre_id) DO UPDATE SET book_count = GREATEST(reading_goal_genres.book_count + ?, 0)
+            """;
+
+    private static final String COUNT_GENRES_SQL = "UPDATE reading_goals g SET current_value = (SELECT count(*) FROM reading_goal_genres gg " +
+            "WHERE gg.goal_id = g.id AND gg.book_count > 0), updated_at = CURRENT_TIMESTAMP WHERE " + ACTIVE_GOALS_FILTER;
+
+    /* Flips is_completed only on goals whose counter crossed the target in either direction. */
+    private static final String REFRESH_COMPLETION_SQL = """
+            UPDATE reading_goals
+            SET is_completed = current_value >= target_value,
+                completed_at = CASE WHEN current_value >= target_value THEN CURRENT_TIMESTAMP END
+            WHERE user_id = ? AND is_active = true AND is_completed IS DISTINCT FROM (current_value >= target_value)
+            """;
+
+    private static final String GENRE_IDS_SQL = "SELECT genre_ids FROM catalog_book_snapshots WHERE book_id = ? AND is_deleted = false";
+
+    private static final String LOCK_ACTIVE_GOALS_SQL = """
+            SELECT id, goal_type, start_date, end_date, current_value, progress_minutes
+            FROM reading_goals WHERE user_id = ? AND is_active = true ORDER BY id
+            FOR UPDATE
+            """;
+
+    private static final String SET_GOAL_PROGRESS_SQL = "UPDATE reading_goals SET current_value = ?, progress_minutes = ?, " +
+            "updated_at = CURRENT_TIMESTAMP WHERE id = ?";
+
+    private static final String SESSION_TOTALS_SQL = """
+            SELECT COALESCE(SUM(rs.pages_read), 0) AS pages, COALESCE(SUM(rs.session_duration_minutes), 0) AS minutes
+            FROM reading_sessions rs JOIN user_books ub ON ub.id = rs.user_book_id
+            WHERE ub.user_id = ? AND rs.session_date BETWEEN ? AND ?
+            """;
+
+    /* Same read date as UserBookStatusChangedEvent: finish_date, or the day the book was marked read. */
+    private static final String READ_ON = "COALESCE(ub.finish_date, CAST(ub.updated_at AS date))";
+
+    private static final String BOOKS_READ_SQL = "SELECT count(*) FROM user_books ub WHERE ub.user_id = ? AND ub.status = 'READ' " +
+            "AND " + READ_ON + " BETWEEN ? AND ?";
+
+    private static final String CLEAR_GENRES_SQL = "DELETE FROM reading_goal_genres WHERE goal_id = ?";
+
+    private static final String REBUILD_GENRES_SQL = "INSERT INTO reading_goal_genres (goal_id, genre_id, book_count) " +
+            "SELECT ?, genre.id, count(*) FROM user_books ub " +
+            "JOIN catalog_book_snapshots cb ON cb.book_id = ub.catalog_book_id AND cb.is_deleted = false " +
+            "CROSS JOIN unnest(cb.genre_ids) AS genre(id) " +
+            "WHERE ub.user_id = ? AND ub.status = 'READ' AND " + READ_ON + " BETWEEN ? AND ? GROUP BY genre.id";
+
+    private static final String PARTITION_USERS_SQL = """
+            SELECT user_id FROM reading_streaks WHERE MOD(user_id, ?) = ?
+            UNION
+            SELECT user_id FROM reading_goals WHERE is_active = true AND MOD(user_id, ?) = ?
+            UNION
+            SELECT user_id FROM user_books WHERE MOD(user_id, ?) = ?
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public ReadingProgressRepository(DataSource dataSource) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+    }
+
+    /* Creates the streak row on first use and locks it for the rest of the transaction. */
+    public StreakState lockStreak(Integer userId, StreakType streakType) {
+        jdbcTemplate.update(ENSURE_STREAK_SQL, userId, streakType.name());
+
+        return jdbcTemplate.queryForObject(LOCK_STREAK_SQL, (rs, rowNum) -> new StreakState(
+                rs.getInt("current_streak"),
+                rs.getInt("longest_streak"),
+                toLocalDate(rs.getDate("last_activity_date")),
+                toLocalDate(rs.getDate("streak_start_date"))), userId, streakType.name());
+    }
+
+    public void saveStreak(Integer userId, StreakType streakType, StreakState state) {
+        jdbcTemplate.update(UPDATE_STREAK_SQL, state.currentStreak(), state.longestStreak(),
+                toDate(state.lastActivityDate()), toDate(state.streakStartDate()), userId, streakType.name());
+    }
+
+    public StreakState computeStreak(Integer userId) {
+        List<StreakState> latest = jdbcTemplate.query(COMPUTE_STREAK_SQL, (rs, rowNum) -> new StreakState(
+                rs.getInt("length"),
+                rs.getInt("longest"),
+                toLocalDate(rs.getDate("end_date")),
+                toLocalDate(rs.getDate("start_date"))), userId);
+
+        return latest.isEmpty() ? StreakState.EMPTY : latest.get(0);
+    }
+
+    public void addToGoals(Integer userId, GoalType goalType, LocalDate date, int delta) {
+        jdbcTemplate.update(ADD_VALUE_SQL, delta, userId, goalType.name(), Date.valueOf(date));
+    }
+
+    public void addMinutesToGoals(Integer userId, LocalDate date, int minutes) {
+        jdbcTemplate.update(ADD_MINUTES_SQL, minutes, minutes, userId, GoalType.HOURS_COUNT.name(), Date.valueOf(date));
+    }
+
+    public void addGenresToGoals(Integer userId, LocalDate date, List<Integer> genreIds, int delta) {
+        jdbcTemplate.update(ADD_GENRES_SQL, delta, genreIds.toArray(Integer[]::new), userId, GoalType.GENRE_VARIETY.name(), Date.valueOf(date), delta);
+        jdbcTemplate.update(COUNT_GENRES_SQL, userId, GoalType.GENRE_VARIETY.name(), Date.valueOf(date));
+    }
+
+    public void refreshGoalCompletion(Integer userId) {
+        jdbcTemplate.update(REFRESH_COMPLETION_SQL, userId);
+    }
+
+    public List<Integer> findGenreIds(Integer catalogBookId) {
+        List<List<Integer>> rows = jdbcTemplate.query(GENRE_IDS_SQL, (rs, rowNum) -> toIds(rs.getArray("genre_ids")), catalogBookId);
+        return rows.isEmpty() ? List.of() : rows.get(0);
+    }
+
+    public List<GoalState> lockActiveGoals(Integer userId) {
+        return jdbcTemplate.query(LOCK_ACTIVE_GOALS_SQL, (rs, rowNum) -> new GoalState(
+                rs.getInt("id"),
+                GoalType.valueOf(rs.getString("goal_type")),
+                toLocalDate(rs.getDate("start_date")),
+                toLocalDate(rs.getDate("end_date")),
+                rs.getInt("current_value"),
+                rs.getInt("progress_minutes")), userId);
+    }
+
+    public void setGoalProgress(Integer goalId, int currentValue, int progressMinutes) {
+        jdbcTemplate.update(SET_GOAL_PROGRESS_SQL, currentValue, progressMinutes, goalId);
+    }
+
+    /* Pages and minutes read by the user between the two dates (inclusive). */
+    public int[] computeSessionTotals(Integer userId, LocalDate from, LocalDate to) {
+        return jdbcTemplate.queryForObject(SESSION_TOTALS_SQL, (rs, rowNum) -> new int[]{rs.getInt("pages"), rs.getInt("minutes")},
+                userId, Date.valueOf(from), Date.valueOf(to));
+    }
+
+    public int computeBooksRead(Integer userId, LocalDate from, LocalDate to) {
+        Integer count = jdbcTemplate.queryForObject(BOOKS_READ_SQL, Integer.class, userId, Date.valueOf(from), Date.valueOf(to));
+        return count != null ? count : 0;
+    }
+
+    /* Replaces the genre rows of a goal and returns the number of distinct genres. */
+    public int rebuildGoalGenres(Integer goalId, Integer userId, LocalDate from, LocalDate to) {
+        jdbcTemplate.update(CLEAR_GENRES_SQL, goalId);
+        return jdbcTemplate.update(REBUILD_GENRES_SQL, goalId, userId, Date.valueOf(from), Date.valueOf(to));
+    }
+
+    public List<Integer> findUserIds(int partition, int partitions) {
+        return jdbcTemplate.queryForList(PARTITION_USERS_SQL, Integer.class,
+                partitions, partition, partitions, partition, partitions, partition);
+    }
+
+    public record StreakState(int currentStreak, int longestStreak, LocalDate lastActivityDate, LocalDate streakStartDate) {
+        public static final StreakState EMPTY = new StreakState(0, 0, null, null);
+    }
+
+    public record GoalState(Integer id, GoalType goalType, LocalDate startDate, LocalDate endDate, int currentValue, int progressMinutes) {
+    }
+
+    private static List<Integer> toIds(Array array) throws SQLException {
+        if (array == null) {
+            return List.of();
+        }
+
+        return Arrays.stream((Object[]) array.getArray()).map(id -> ((Number) id).intValue()).toList();
+    }
+
+    private static LocalDate toLocalDate(Date date) {
+        return date != null ? date.toLocalDate() : null;
+    }
+
+    private static Date toDate(LocalDate date) {
+        return date != null ? Date.valueOf(date) : null;
+    }
+}
@@ -0,0 +1,29 @@
+package com.biblioteca.userlibraryservice.repository;
+
+import com.biblioteca.userlibraryservice.entity.ReadingSession;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/* History reads walk idx_reading_sessions_history and seek past the (session_date, id) cursor. */
+@Repository
+public interface ReadingSessionRepository extends JpaRepository<ReadingSession, Integer> {
+    Optional<ReadingSession> findByUserBookIdAndClientSessionId(Integer userBookId, UUID clientSessionId);
+
+    @Query("SELECT rs FROM ReadingSession rs WHERE rs.userBookId = :userBookId " +
+            "ORDER BY rs.sessionDate DESC, rs.id DESC")
+    List<ReadingSession> findHistory(@Param("userBookId") Integer userBookId, Limit limit);
+
+    @Query("SELECT rs FROM ReadingSession rs WHERE rs.userBookId = :userBookId " +
+            "AND (rs.sessionDate, rs.id) < (:sessionDate, :id) " +
+            "ORDER BY rs.sessionDate DESC, rs.id DESC")
+    List<ReadingSession> findHistoryAfter(@Param("userBookId") Integer userBookId, @Param("sessionDate") LocalDate sessionDate,
+                                          @Param("id") Integer id, Limit limit);
+}
@@ -0,0 +1,151 @@
+package com.biblioteca.userlibraryservice.repository;
+
+import com.biblioteca.userlibraryservice.dto.readingSessions.ReadingSessionCreateDTO;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import javax.sql.DataSource;
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/*
+ * Write path of reading sessions. Sessions go in as JDBC batches and a session whose
+ * (user_book_id, client_session_id) is already stored is skipped, so replayed uploads are
+ * no-ops. Progress is applied as one conditional UPDATE for the whole batch that only ever
+ * moves current_page forward; nothing is recomputed from the session history.
+ */
+@Repository
+public class ReadingSessionWriteRepository {
+    private static final int BATCH_SIZE = 100;
+
+    private static final String INSERT_SQL = """
+            INSERT INTO reading_sessions (user_book_id, client_session_id, session_date, start_time, end_time,
+                start_page, end_page, session_duration_minutes, location, mood, comprehension_rating, focus_rating,
+                notes, weather, created_at)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, CURRENT_TIMESTAMP)
+            ON CONFLICT (user_book_id, client_session_id) DO NOTHING
+            """;
+
+    private static final String OWNERS_SQL = "SELECT id, user_id FROM user_books WHERE id = ANY (?)";
+
+    /*
+     * One statement for the whole batch. The locked CTE takes the row locks in id order, so
+     * concurrent batches cannot deadlock, and keeps the status each row had before the update.
+     * Percentage uses the replicated catalog page count and is left alone when it is unknown.
+     */
+    private static final String PROGRESS_SQL = """
+            WITH deltas AS (
+                SELECT * FROM unnest(CAST(? AS int[]), CAST(? AS int[]), CAST(? AS date[])) AS d(user_book_id, current_page, first_session_date)
+            ), locked AS (
+                SELECT ub.id, ub.status
+                FROM user_books ub
+                JOIN deltas d ON d.user_book_id = ub.id
+                WHERE COALESCE(ub.current_page, 0) < d.current_page
+                ORDER BY ub.id
+                FOR UPDATE OF ub
+            )
+            UPDATE user_books ub SET
+                current_page = d.current_page,
+                progress_percentage = COALESCE((SELECT LEAST(100, ROUND(CAST(d.current_page AS numeric) * 100 / cb.page_count, 2))
+                    FROM catalog_book_snapshots cb
+                    WHERE cb.book_id = ub.catalog_book_id AND cb.page_count > 0 AND cb.is_deleted = false), ub.progress_percentage),
+                start_date = COALESCE(ub.start_date, d.first_session_date),
+                status = CASE WHEN ub.status = 'WANT_TO_READ' THEN 'CURRENTLY_READ' ELSE ub.status END,
+                updated_at = CURRENT_TIMESTAMP
+            FROM deltas d, locked l
+            WHERE ub.id = d.user_book_id AND l.id = ub.id AND COALESCE(ub.current_page, 0) < d.current_page
+            RETURNING ub.id, ub.user_id, ub.catalog_book_id, l.status AS previous_status, ub.status, ub.rating
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public ReadingSessionWriteRepository(DataSource dataSource) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+    }
+
+    /* Owner (user_id) of every existing user book among the ids. */
+    public Map<Integer, Integer> findOwners(Collection<Integer> userBookIds) {
+        Map<Integer, Integer> owners = new HashMap<>();
+        jdbcTemplate.query(OWNERS_SQL, rs -> {
+            owners.put(rs.getInt("id"), rs.getInt("user_id"));
+        }, (Object) userBookIds.toArray(Integer[]::new));
+
+        return owners;
+    }
+
+    /* Returns, per session and in order, whether it was stored (false means it was a duplicate). */
+    public boolean[] insertAll(List<ReadingSessionCreateDTO> sessions) {
+        int[][] counts = jdbcTemplate.batchUpdate(INSERT_SQL, sessions, BATCH_SIZE, (ps, session) -> {
+            ps.setInt(1, session.getUserBookId());
+            ps.setObject(2, session.getClientSessionId());
+            ps.setDate(3, Date.valueOf(session.getSessionDate()));
+            setTimestamp(ps, 4, session.getStartTime());
+            setTimestamp(ps, 5, session.getEndTime());
+            ps.setInt(6, session.getStartPage());
+            ps.setInt(7, session.getEndPage());
+            setInteger(ps, 8, session.getSessionDurationMinutes());
+            ps.setString(9, session.getLocation());
+            ps.setString(10, session.getMood());
+            setInteger(ps, 11, session.getComprehensionRating());
+            setInteger(ps, 12, session.getFocusRating());
+            ps.setString(13, session.getNotes());
+            ps.setString(14, session.getWeather());
+        });
+
+        boolean[] inserted = new boolean[sessions.size()];
+        int index = 0;
+        for (int[] batch : counts) {
+            for (int count : batch) {
+                inserted[index++] = count > 0;
+            }
+        }
+
+        return inserted;
+    }
+
+    /* Moves each user book forward and returns the rows that actually changed. */
+    public List<ProgressUpdate> updateProgress(List<ProgressDelta> deltas) {
+        return jdbcTemplate.query(PROGRESS_SQL, (rs, rowNum) -> new ProgressUpdate(
+                        rs.getInt("id"),
+                        rs.getInt("user_id"),
+                        rs.getInt("catalog_book_id"),
+                        rs.getString("previous_status"),
+                        rs.getString("status"),
+                        (Integer) rs.getObject("rating")),
+                deltas.stream().map(ProgressDelta::userBookId).toArray(Integer[]::new),
+                deltas.stream().map(ProgressDelta::currentPage).toArray(Integer[]::new),
+                deltas.stream().map(delta -> delta.firstSessionDate().toString()).toArray(String[]::new));
+    }
+
+    public record ProgressDelta(Integer userBookId, int currentPage, LocalDate firstSessionDate) {
+    }
+
+    public record ProgressUpdate(Integer userBookId, Integer userId, Integer catalogBookId,
+                                 String previousStatus, String status, Integer rating) {
+        public boolean statusChanged() {
+            return !Objects.equals(previousStatus, status);
+        }
+    }
+
+    private static void setInteger(PreparedStatement ps, int index, Integer value) throws SQLException {
+        if (value != null) {
+            ps.setInt(index, value);
+        } else {
+            ps.setNull(index, Types.INTEGER);
+        }
+    }
+
+    private static void setTimestamp(PreparedStatement ps, int index, LocalDateTime value) throws SQLException {
+        ps.setTimestamp(index, value != null ? Timestamp.valueOf(value) : null);
+    }
+}
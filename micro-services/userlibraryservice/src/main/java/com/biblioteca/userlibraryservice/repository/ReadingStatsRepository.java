@@ -0,0 +1,212 @@
+package com.biblioteca.userlibraryservice.repository;
+
+import com.biblioteca.userlibraryservice.util.enums.BookStatus;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import javax.sql.DataSource;
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+/*
+ * JDBC access to the statistics rollups (user_reading_stats, user_reading_stats_monthly and
+ * user_genre_stats). Writes are additive upserts keyed by primary key, so concurrent writers
+ * for the same user never lose an increment. The dashboard read fetches the totals row and
+ * aggregates the monthly and genre rows into JSON in one statement, all through the
+ * (user_id, ...) primary keys.
+ */
+@Repository
+public class ReadingStatsRepository {
+    public static final String RATING_SUM = "rating_sum";
+    public static final String RATING_COUNT = "rating_count";
+    public static final String PAGES_READ = "pages_read";
+    public static final String MINUTES_READ = "minutes_read";
+    public static final String SESSIONS_COUNT = "sessions_count";
+    public static final String BOOKS_FINISHED = "books_finished";
+
+    private static final Map<BookStatus, String> STATUS_COLUMNS = new EnumMap<>(Map.of(
+            BookStatus.WANT_TO_READ, "books_want_to_read",
+            BookStatus.CURRENTLY_READ, "books_currently_read",
+            BookStatus.READ, "books_read",
+            BookStatus.DID_NOT_FINISH, "books_did_not_finish",
+            BookStatus.ON_HOLD, "books_on_hold"));
+
+    /* %1$s: column list, %2$s: placeholders, %3$s: column = GREATEST(column + EXCLUDED.column, 0) list. */
+    private static final String ADD_TOTALS_SQL = """
+            INSERT INTO user_reading_stats (user_id, %1$s, updated_at) VALUES (?, %2$s, CURRENT_TIMESTAMP)
+            ON CONFLICT (user_id) DO UPDATE SET %3$s, updated_at = CURRENT_TIMESTAMP
+            """;
+
+    private static final String ADD_MONTH_SQL = """
+            INSERT INTO user_reading_stats_monthly (user_id, period_month, %1$s) VALUES (?, ?, %2$s)
+            ON CONFLICT (user_id, period_month) DO UPDATE SET %3$s
+            """;
+
+    private static final String ADD_GENRES_SQL = """
+            INSERT INTO user_genre_stats (user_id, genre_id, books_read)
+            SELECT ?, genre.id, ? FROM unnest(CAST(? AS integer[])) AS genre(id)
+            ON CONFLICT (user_id, genre_id) DO UPDATE SET books_read = GREATEST(user_genre_stats.books_read + EXCLUDED.books_read, 0)
+            """;
+
+    private static final String BOOK_SESSIONS_SQL = """
+            SELECT CAST(date_trunc('month', session_date) AS date) AS period_month,
+                   COALESCE(SUM(pages_read), 0) AS pages_read, COALESCE(SUM(session_duration_minutes), 0) AS minutes_read,
+                   COUNT(*) AS sessions_count
+            FROM reading_sessions WHERE user_book_id = ?
+            GROUP BY 1
+            """;
+
+    private static final String FIND_STATS_SQL = """
+            SELECT s.books_want_to_read, s.books_currently_read, s.books_read, s.books_did_not_finish, s.books_on_hold,
+                   s.rating_sum, s.rating_count, s.pages_read, s.minutes_read, s.sessions_count,
+                   (SELECT json_agg(json_build_object('month', m.period_month, 'pagesRead', m.pages_read,
+                                                      'minutesRead', m.minutes_read, 'sessions', m.sessions_count,
+                                                      'booksFinished', m.books_finished) ORDER BY m.period_month)
+                    FROM user_reading_stats_monthly m WHERE m.user_id = s.user_id) AS months,
+                   (SELECT json_agg(json_build_object('genreId', g.genre_id, 'genreName', gs.name, 'booksRead', g.books_read)
+                                    ORDER BY g.books_read DESC, g.genre_id)
+                    FROM user_genre_stats g
+                    LEFT JOIN catalog_genre_snapshots gs ON gs.genre_id = g.genre_id AND gs.is_deleted = false
+                    WHERE g.user_id = s.user_id AND g.books_read > 0) AS genres
+            FROM user_reading_stats s WHERE s.user_id = ?
+            """;
+
+    private static final String DELETE_TOTALS_SQL = "DELETE FROM user_reading_stats WHERE user_id = ?";
+    private static final String DELETE_MONTHS_SQL = "DELETE FROM user_reading_stats_monthly WHERE user_id = ?";
+    private static final String DELETE_GENRES_SQL = "DELETE FROM user_genre_stats WHERE user_id = ?";
+
+    private static final String REBUILD_MONTHS_SQL = """
+            INSERT INTO user_reading_stats_monthly (user_id, period_month, pages_read, minutes_read, sessions_count, books_finished)
+            SELECT ?, period_month, SUM(pages_read), SUM(minutes_read), SUM(sessions_count), SUM(books_finished)
+            FROM (
+                SELECT CAST(date_trunc('month', rs.session_date) AS date) AS period_month,
+                       COALESCE(rs.pages_read, 0) AS pages_read, COALESCE(rs.session_duration_minutes, 0) AS minutes_read,
+                       1 AS sessions_count, 0 AS books_finished
+                FROM reading_sessions rs JOIN user_books ub ON ub.id = rs.user_book_id
+                WHERE ub.user_id = ?
+                UNION ALL
+                SELECT CAST(date_trunc('month', COALESCE(ub.finish_date, CAST(ub.updated_at AS date))) AS date), 0, 0, 0, 1
+                FROM user_books ub WHERE ub.user_id = ? AND ub.status = 'READ'
+            ) activity
+            GROUP BY period_month
+            """;
+
+    private static final String REBUILD_TOTALS_SQL = """
+            INSERT INTO user_reading_stats (user_id, books_want_to_read, books_currently_read, books_read, books_did_not_finish,
+                books_on_hold, rating_sum, rating_count, pages_read, minutes_read, sessions_count)
+            SELECT ?,
+                   COUNT(*) FILTER (WHERE ub.status = 'WANT_TO_READ'),
+                   COUNT(*) FILTER (WHERE ub.status = 'CURRENTLY_READ'),
+                   COUNT(*) FILTER (WHERE ub.status = 'READ'),
+                   COUNT(*) FILTER (WHERE ub.status = 'DID_NOT_FINISH'),
+                   COUNT(*) FILTER (WHERE ub.status = 'ON_HOLD'),
+                   COALESCE(SUM(ub.rating), 0), COUNT(ub.rating),
+                   (SELECT COALESCE(SUM(m.pages_read), 0) FROM user_reading_stats_monthly m WHERE m.user_id = ?),
+                   (SELECT COALESCE(SUM(m.minutes_read), 0) FROM user_reading_stats_monthly m WHERE m.user_id = ?),
+                   (SELECT COALESCE(SUM(m.sessions_count), 0) FROM user_reading_stats_monthly m WHERE m.user_id = ?)
+            FROM user_books ub WHERE ub.user_id = ?
+            """;
+
+    private static final String REBUILD_GENRES_SQL = """
+            INSERT INTO user_genre_stats (user_id, genre_id, books_read)
+            SELECT ?, genre.id, COUNT(*)
+            FROM user_books ub
+            JOIN catalog_book_snapshots cb ON cb.book_id = ub.catalog_book_id AND cb.is_deleted = false
+            CROSS JOIN unnest(cb.genre_ids) AS genre(id)
+            WHERE ub.user_id = ? AND ub.status = 'READ'
+            GROUP BY genre.id
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public ReadingStatsRepository(DataSource dataSource) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+    }
+
+    public static String statusColumn(String status) {
+        return STATUS_COLUMNS.get(BookStatus.valueOf(status));
+    }
+
+    /* Adds the deltas (column name -> delta) to the user's totals row; column names are the constants above. */
+    public void addToTotals(Integer userId, Map<String, Long> deltas) {
+        List<Object> args = new ArrayList<>();
+        args.add(userId);
+        args.addAll(deltas.values());
+        jdbcTemplate.update(upsertSql(ADD_TOTALS_SQL, "user_reading_stats", deltas), args.toArray());
+    }
+
+    public void addToMonth(Integer userId, LocalDate periodMonth, Map<String, Long> deltas) {
+        List<Object> args = new ArrayList<>();
+        args.add(userId);
+        args.add(Date.valueOf(periodMonth.withDayOfMonth(1)));
+        args.addAll(deltas.values());
+        jdbcTemplate.update(upsertSql(ADD_MONTH_SQL, "user_reading_stats_monthly", deltas), args.toArray());
+    }
+
+    public void addToGenres(Integer userId, List<Integer> genreIds, int delta) {
+        jdbcTemplate.update(ADD_GENRES_SQL, userId, delta, genreIds.toArray(Integer[]::new));
+    }
+
+    /* Per-month session totals of one user book, e.g. to subtract them before the book is deleted. */
+    public List<MonthTotals> findBookSessionTotals(Integer userBookId) {
+        return jdbcTemplate.query(BOOK_SESSIONS_SQL, (rs, rowNum) -> new MonthTotals(
+                rs.getDate("period_month").toLocalDate(),
+                rs.getLong("pages_read"),
+                rs.getLong("minutes_read"),
+                rs.getLong("sessions_count")), userBookId);
+    }
+
+    public Optional<StatsRow> findStats(Integer userId) {
+        List<StatsRow> rows = jdbcTemplate.query(FIND_STATS_SQL, (rs, rowNum) -> new StatsRow(
+                rs.getInt("books_want_to_read"),
+                rs.getInt("books_currently_read"),
+                rs.getInt("books_read"),
+                rs.getInt("books_did_not_finish"),
+                rs.getInt("books_on_hold"),
+                rs.getLong("rating_sum"),
+                rs.getInt("rating_count"),
+                rs.getLong("pages_read"),
+                rs.getLong("minutes_read"),
+                rs.getInt("sessions_count"),
+                rs.getString("months"),
+                rs.getString("genres")), userId);
+
+        return rows.stream().findFirst();
+    }
+
+    /* Replaces all rollup rows of one user with values recomputed from user_books and reading_sessions. */
+    public void rebuild(Integer userId) {
+        jdbcTemplate.update(DELETE_TOTALS_SQL, userId);
+        jdbcTemplate.update(DELETE_MONTHS_SQL, userId);
+        jdbcTemplate.update(DELETE_GENRES_SQL, userId);
+
+        jdbcTemplate.update(REBUILD_MONTHS_SQL, userId, userId, userId);
+        jdbcTemplate.update(REBUILD_TOTALS_SQL, userId, userId, userId, userId, userId);
+        jdbcTemplate.update(REBUILD_GENRES_SQL, userId, userId);
+    }
+
+    private static String upsertSql(String template, String table, Map<String, Long> deltas) {
+        String columns = String.join(", ", deltas.keySet());
+        String placeholders = deltas.keySet().stream().map(column -> "?").collect(Collectors.joining(", "));
+        String updates = deltas.keySet().stream()
+                .map(column -> column + " = GREATEST(" + table + "." + column + " + EXCLUDED." + column + ", 0)")
+                .collect(Collectors.joining(", "));
+
+        return template.formatted(columns, placeholders, updates);
+    }
+
+    public record MonthTotals(LocalDate periodMonth, long pagesRead, long minutesRead, long sessions) {
+    }
+
+    /* Monthly and genre rows arrive as JSON arrays (null when the user has none). */
+    public record StatsRow(int wantToRead, int currentlyRead, int read, int didNotFinish, int onHold,
+                           long ratingSum, int ratingCount, long pagesRead, long minutesRead, int sessions,
+                           String monthsJson, String genresJson) {
+    }
+}
@@ -0,0 +1,12 @@
+package com.biblioteca.userlibraryservice.repository;
+
+import com.biblioteca.userlibraryservice.entity.ReadingStreak;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+@Repository
+public interface ReadingStreakRepository extends JpaRepository<ReadingStreak, Integer> {
+    Optional<ReadingStreak> findByUserIdAndStreakType(Integer userId, String streakType);
+}
@@ -0,0 +1,283 @@
+package com.biblioteca.userlibraryservice.repository;
+
+import com.biblioteca.userlibraryservice.recommendation.RecommendationScorer;
+import com.biblioteca.userlibraryservice.util.enums.RecommendationReason;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Repository;
+
+import javax.sql.DataSource;
+import java.math.BigDecimal;
+import java.sql.Array;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.function.Consumer;
+
+/*
+ * JDBC access for the recommendation engine. Signals are read for whole batches of users with
+ * one query per table; results are stored as one row per user with the ranked books in
+ * parallel arrays, so serving a user is a primary-key read joined to the catalog replica.
+ */
+@Repository
+public class RecommendationRepository {
+    private static final int BATCH_SIZE = 100;
+
+    private static final String CATALOG_SQL = """
+            SELECT book_id, author_ids, genre_ids, publisher_ids, average_rating
+            FROM catalog_book_snapshots
+            WHERE is_deleted = false AND COALESCE(is_active, true)
+            """;
+
+    private static final String USER_IDS_SQL = """
+            SELECT user_id FROM user_books
+            UNION SELECT user_id FROM user_genre_preferences
+            UNION SELECT user_id FROM user_author_preferences
+            UNION SELECT user_id FROM user_publisher_preferences
+            ORDER BY user_id
+            """;
+
+    private static final String GENRE_PREFERENCES_SQL = """
+            SELECT user_id, catalog_genre_id AS target_id, preference_level, false AS is_favorite,
+                   COALESCE(is_excluded, false) AS is_excluded
+            FROM user_genre_preferences WHERE user_id = ANY (?)
+            """;
+
+    private static final String AUTHOR_PREFERENCES_SQL = """
+            SELECT user_id, catalog_author_id AS target_id, preference_level, COALESCE(is_favorite, false) AS is_favorite,
+                   COALESCE(is_excluded, false) AS is_excluded
+            FROM user_author_preferences WHERE user_id = ANY (?)
+            """;
+
+    private static final String PUBLISHER_PREFERENCES_SQL = """
+            SELECT user_id, catalog_publisher_id AS target_id, preference_level, COALESCE(is_favorite, false) AS is_favorite,
+                   false AS is_excluded
+            FROM user_publisher_preferences WHERE user_id = ANY (?)
+            """;
+
+    /* A book counts as liked when it is a favourite or read (or being read) and not rated below 4. */
+    private static final String USER_BOOKS_SQL = """
+            SELECT user_id, catalog_book_id,
+                   COALESCE(is_favorite, false) OR (status IN ('READ', 'CURRENTLY_READ') AND COALESCE(rating, 4) >= 4) AS liked
+            FROM user_books WHERE user_id = ANY (?)
+            """;
+
+    private static final String CO_READS_SQL = "SELECT book_id, related_book_id, co_reads FROM book_co_reads WHERE book_id = ANY (?)";
+
+    private static final String DELETE_CO_READS_SQL = "DELETE FROM book_co_reads";
+
+    /* Only each user's most recent liked books pair up, which bounds the self-join for large libraries. */
+    private static final String INSERT_CO_READS_SQL = """
+            WITH liked AS (
+                SELECT user_id, catalog_book_id FROM (
+                    SELECT user_id, catalog_book_id,
+                           row_number() OVER (PARTITION BY user_id ORDER BY updated_at DESC, id DESC) AS recency
+                    FROM user_books
+                    WHERE is_favorite = true OR (status IN ('READ', 'CURRENTLY_READ') AND COALESCE(rating, 4) >= 4)
+                ) ranked
+                WHERE recency <= ?
+            ), pairs AS (
+                SELECT a.catalog_book_id AS book_id, b.catalog_book_id AS related_book_id, COUNT(*) AS co_reads
+                FROM liked a JOIN liked b ON b.user_id = a.user_id AND b.catalog_book_id <> a.catalog_book_id
+                GROUP BY a.catalog_book_id, b.catalog_book_id
+                HAVING COUNT(*) >= ?
+            )
+            INSERT INTO book_co_reads (book_id, related_book_id, co_reads)
+            SELECT book_id, related_book_id, co_reads FROM (
+                SELECT book_id, related_book_id, co_reads,
+                       row_number() OVER (PARTITION BY book_id ORDER BY co_reads DESC, related_book_id) AS strength
+                FROM pairs
+            ) ranked
+            WHERE strength <= ?
+            """;
+
+    private static final String SAVE_SQL = """
+            INSERT INTO user_recommendations (user_id, book_ids, scores, reasons, computed_at)
+            VALUES (?, ?, ?, ?, ?)
+            ON CONFLICT (user_id) DO UPDATE SET
+                book_ids = EXCLUDED.book_ids, scores = EXCLUDED.scores, reasons = EXCLUDED.reasons,
+                computed_at = EXCLUDED.computed_at
+            """;
+
+    private static final String DELETE_STALE_SQL = "DELETE FROM user_recommendations WHERE computed_at < ?";
+
+    /* Books the user added since the list was computed are skipped at read time. */
+    private static final String FIND_SQL = """
+            SELECT r.computed_at, rec.book_id, rec.score, rec.reason,
+                   cb.title, cb.author_names, cb.genre_names, cb.cover_image_id, cb.average_rating
+            FROM user_recommendations r
+            CROSS JOIN LATERAL unnest(r.book_ids, r.scores, r.reasons) WITH ORDINALITY AS rec(book_id, score, reason, position)
+            JOIN catalog_book_snapshots cb ON cb.book_id = rec.book_id AND cb.is_deleted = false
+            WHERE r.user_id = ?
+              AND NOT EXISTS (SELECT 1 FROM user_books ub WHERE ub.user_id = r.user_id AND ub.catalog_book_id = rec.book_id)
+            ORDER BY rec.position
+            LIMIT ?
+            """;
+
+    /* Fallback for users without a list: the given books in order, minus the ones the user has. */
+    private static final String FIND_POPULAR_SQL = """
+            SELECT pop.book_id, cb.average_rating,
+                   cb.title, cb.author_names, cb.genre_names, cb.cover_image_id
+            FROM unnest(?) WITH ORDINALITY AS pop(book_id, position)
+            JOIN catalog_book_snapshots cb ON cb.book_id = pop.book_id AND cb.is_deleted = false
+            WHERE NOT EXISTS (SELECT 1 FROM user_books ub WHERE ub.user_id = ? AND ub.catalog_book_id = pop.book_id)
+            ORDER BY pop.position
+            LIMIT ?
+            """;
+
+    private static final String EXISTS_SQL = "SELECT EXISTS (SELECT 1 FROM user_recommendations WHERE user_id = ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public RecommendationRepository(DataSource dataSource) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+    }
+
+    public void findCatalogBooks(Consumer<CatalogBook> consumer) {
+        jdbcTemplate.query(CATALOG_SQL, (RowCallbackHandler) rs -> consumer.accept(new CatalogBook(
+                rs.getInt("book_id"),
+                toInts(rs.getArray("author_ids")),
+                toInts(rs.getArray("genre_ids")),
+                toInts(rs.getArray("publisher_ids")),
+                rs.getDouble("average_rating"))));
+    }
+
+    public List<Integer> findUserIds() {
+        return jdbcTemplate.queryForList(USER_IDS_SQL, Integer.class);
+    }
+
+    public List<Preference> findGenrePreferences(Collection<Integer> userIds) {
+        return findPreferences(GENRE_PREFERENCES_SQL, userIds);
+    }
+
+    public List<Preference> findAuthorPreferences(Collection<Integer> userIds) {
+        return findPreferences(AUTHOR_PREFERENCES_SQL, userIds);
+    }
+
+    public List<Preference> findPublisherPreferences(Collection<Integer> userIds) {
+        return findPreferences(PUBLISHER_PREFERENCES_SQL, userIds);
+    }
+
+    public List<OwnedBook> findUserBooks(Collection<Integer> userIds) {
+        return jdbcTemplate.query(USER_BOOKS_SQL, (rs, rowNum) -> new OwnedBook(
+                rs.getInt("user_id"),
+                rs.getInt("catalog_book_id"),
+                rs.getBoolean("liked")), (Object) userIds.toArray(Integer[]::new));
+    }
+
+    public List<CoRead> findCoReads(Collection<Integer> bookIds) {
+        return jdbcTemplate.query(CO_READS_SQL, (rs, rowNum) -> new CoRead(
+                rs.getInt("book_id"),
+                rs.getInt("related_book_id"),
+                rs.getInt("co_reads")), (Object) bookIds.toArray(Integer[]::new));
+    }
+
+    /* Rebuilds book_co_reads; readers keep seeing the previous rows until the caller commits. */
+    public int refreshCoReads(int maxBooksPerUser, int minCoReads, int neighbours) {
+        jdbcTemplate.update(DELETE_CO_READS_SQL);
+        return jdbcTemplate.update(INSERT_CO_READS_SQL, maxBooksPerUser, minCoReads, neighbours);
+    }
+
+    public void saveAll(List<UserRecommendations> recommendations, LocalDateTime computedAt) {
+        Timestamp timestamp = Timestamp.valueOf(computedAt);
+        jdbcTemplate.batchUpdate(SAVE_SQL, recommendations, BATCH_SIZE, (ps, user) -> {
+            Connection connection = ps.getConnection();
+            List<ScoredBook> books = user.books();
+            ps.setInt(1, user.userId());
+            ps.setArray(2, connection.createArrayOf("integer", books.stream().map(ScoredBook::bookId).toArray()));
+            ps.setArray(3, connection.createArrayOf("real", books.stream().map(book -> (float) book.score()).toArray()));
+            ps.setArray(4, connection.createArrayOf("text", books.stream().map(book -> book.reason().name()).toArray()));
+            ps.setTimestamp(5, timestamp);
+        });
+    }
+
+    public int deleteComputedBefore(LocalDateTime computedAt) {
+        return jdbcTemplate.update(DELETE_STALE_SQL, Timestamp.valueOf(computedAt));
+    }
+
+    public List<RecommendedBook> findRecommendations(Integer userId, int limit) {
+        return jdbcTemplate.query(FIND_SQL, (rs, rowNum) -> new RecommendedBook(
+                rs.getInt("book_id"),
+                rs.getDouble("score"),
+                rs.getString("reason"),
+                rs.getString("title"),
+                rs.getString("author_names"),
+                rs.getString("genre_names"),
+                rs.getObject("cover_image_id", Integer.class),
+                rs.getBigDecimal("average_rating"),
+                rs.getTimestamp("computed_at").toLocalDateTime()), userId, limit);
+    }
+
+    /* Not personalised, so computedAt is null and the reason is POPULAR. */
+    public List<RecommendedBook> findPopular(Integer userId, int[] bookIds, int limit) {
+        if (bookIds.length == 0) {
+            return List.of();
+        }
+
+        return jdbcTemplate.query(FIND_POPULAR_SQL, ps -> {
+            ps.setArray(1, ps.getConnection().createArrayOf("integer", Arrays.stream(bookIds).boxed().toArray()));
+            ps.setInt(2, userId);
+            ps.setInt(3, limit);
+        }, (rs, rowNum) -> {
+            BigDecimal rating = rs.getBigDecimal("average_rating");
+            return new RecommendedBook(
+                    rs.getInt("book_id"),
+                    RecommendationScorer.popularScore(rating != null ? rating.doubleValue() : 0),
+                    RecommendationReason.POPULAR.name(),
+                    rs.getString("title"),
+                    rs.getString("author_names"),
+                    rs.getString("genre_names"),
+                    rs.getObject("cover_image_id", Integer.class),
+                    rating,
+                    null);
+        });
+    }
+
+    public boolean hasRecommendations(Integer userId) {
+        return Boolean.TRUE.equals(jdbcTemplate.queryForObject(EXISTS_SQL, Boolean.class, userId));
+    }
+
+    private List<Preference> findPreferences(String sql, Collection<Integer> userIds) {
+        return jdbcTemplate.query(sql, (rs, rowNum) -> new Preference(
+                rs.getInt("user_id"),
+                rs.getInt("target_id"),
+                rs.getInt("preference_level"),
+                rs.getBoolean("is_favorite"),
+                rs.getBoolean("is_excluded")), (Object) userIds.toArray(Integer[]::new));
+    }
+
+    private static int[] toInts(Array array) throws SQLException {
+        if (array == null) {
+            return new int[0];
+        }
+
+        return Arrays.stream((Object[]) array.getArray()).mapToInt(id -> ((Number) id).intValue()).toArray();
+    }
+
+    public record CatalogBook(int id, int[] authorIds, int[] genreIds, int[] publisherIds, double rating) {
+    }
+
+    /* preferenceLevel is 0 when the column is null and then treated as neutral. */
+    public record Preference(int userId, int targetId, int preferenceLevel, boolean favorite, boolean excluded) {
+    }
+
+    public record OwnedBook(int userId, int bookId, boolean liked) {
+    }
+
+    public record CoRead(int bookId, int relatedBookId, int coReads) {
+    }
+
+    public record ScoredBook(int bookId, double score, RecommendationReason reason) {
+    }
+
+    public record UserRecommendations(int userId, List<ScoredBook> books) {
+    }
+
+    public record RecommendedBook(int bookId, double score, String reason, String title, String authorNames, String genreNames,
+                                  Integer coverImageId, BigDecimal averageRating, LocalDateTime computedAt) {
+    }
+}
@@ -0,0 +1,169 @@
+package com.biblioteca.userlibraryservice.repository;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+
+import javax.sql.DataSource;
+import java.math.BigDecimal;
+import java.sql.Date;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+
+/*
+ * JDBC access for SeriesProgressTracker. A user series contains the user's books whose catalog
+ * snapshot belongs to the series plus the books linked through user_series_books, counted once
+ * per catalog book. The incremental path locks the few series rows touched by one user book;
+ * recompute rebuilds the counts of whole batches of users in one statement.
+ */
+@Repository
+public class SeriesProgressRepository {
+    private static final String AFFECTED_SERIES_SQL = """
+            SELECT us.id
+            FROM user_series us
+            JOIN catalog_book_snapshots cb ON cb.series_id = us.catalog_series_id AND cb.is_deleted = false
+            WHERE us.user_id = ? AND cb.book_id = ?
+            UNION
+            SELECT usb.user_series_id FROM user_series_books usb WHERE usb.user_book_id = ?
+            """;
+
+    private static final String LOCK_SERIES_SQL = """
+            SELECT us.id, us.status, us.books_read, us.books_owned, us.completion_percentage, us.completion_date, cs.total_books
+            FROM user_series us
+            LEFT JOIN catalog_series_snapshots cs ON cs.series_id = us.catalog_series_id AND cs.is_deleted = false
+            WHERE us.id = ANY (?)
+            ORDER BY us.id
+            FOR UPDATE OF us
+            """;
+
+    /* %s is the user_series column the ids refer to: id or user_id. */
+    private static final String RECOMPUTE_SQL = """
+            SELECT s.id, s.status, s.books_read, s.books_owned, s.completion_percentage, s.completion_date, cs.total_books,
+                   COUNT(DISTINCT m.catalog_book_id) FILTER (WHERE m.status = 'READ') AS actual_books_read,
+                   COUNT(DISTINCT m.catalog_book_id) AS actual_books_owned
+            FROM user_series s
+            LEFT JOIN catalog_series_snapshots cs ON cs.series_id = s.catalog_series_id AND cs.is_deleted = false
+            LEFT JOIN LATERAL (
+                SELECT ub.catalog_book_id, ub.status
+                FROM catalog_book_snapshots cb
+                JOIN user_books ub ON ub.user_id = s.user_id AND ub.catalog_book_id = cb.book_id
+                WHERE cb.series_id = s.catalog_series_id AND cb.is_deleted = false
+                UNION
+                SELECT ub.catalog_book_id, ub.status
+                FROM user_series_books usb
+                JOIN user_books ub ON ub.id = usb.user_book_id
+                WHERE usb.user_series_id = s.id
+            ) m ON true
+            WHERE s.%s = ANY (?)
+            GROUP BY s.id, cs.total_books
+            ORDER BY s.id
+            """;
+
+    private static final String UPDATE_SERIES_SQL = """
+            UPDATE user_series
+            SET books_read = ?, books_owned = ?, completion_percentage = ?, status = ?, completion_date = ?,
+                updated_at = CURRENT_TIMESTAMP
+            WHERE id = ?
+            """;
+
+    private static final String MARK_READ_SQL = """
+            UPDATE user_series_books SET is_read = ?, updated_at = CURRENT_TIMESTAMP
+            WHERE user_book_id = ? AND is_read IS DISTINCT FROM ?
+            """;
+
+    private static final String SYNC_READ_FLAGS_SQL = """
+            UPDATE user_series_books usb SET is_read = (ub.status = 'READ'), updated_at = CURRENT_TIMESTAMP
+            FROM user_books ub, user_series s
+            WHERE ub.id = usb.user_book_id AND s.id = usb.user_series_id AND s.user_id = ANY (?)
+              AND usb.is_read IS DISTINCT FROM (ub.status = 'READ')
+            """;
+
+    private static final String USER_IDS_AFTER_SQL = """
+            SELECT DISTINCT user_id FROM user_series WHERE user_id > ? ORDER BY user_id LIMIT ?
+            """;
+
+    private static final RowMapper<SeriesState> STATE_MAPPER = (rs, rowNum) -> new SeriesState(
+            rs.getInt("id"),
+            rs.getString("status"),
+            rs.getInt("books_read"),
+            rs.getInt("books_owned"),
+            rs.getBigDecimal("completion_percentage"),
+            toLocalDate(rs.getDate("completion_date")),
+            getInteger(rs, "total_books"));
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public SeriesProgressRepository(DataSource dataSource) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+    }
+
+    /* Series of the user that contain the book, through the catalog or an explicit link. */
+    public List<Integer> findAffectedSeriesIds(Integer userId, Integer catalogBookId, Integer userBookId) {
+        return jdbcTemplate.queryForList(AFFECTED_SERIES_SQL, Integer.class, userId, catalogBookId, userBookId);
+    }
+
+    /* Locks the series rows in id order for the rest of the transaction. */
+    public List<SeriesState> lockSeries(Collection<Integer> userSeriesIds) {
+        return jdbcTemplate.query(LOCK_SERIES_SQL, STATE_MAPPER, (Object) userSeriesIds.toArray(Integer[]::new));
+    }
+
+    public List<RecomputedSeries> recomputeSeries(Collection<Integer> userSeriesIds) {
+        return recompute("id", userSeriesIds);
+    }
+
+    public List<RecomputedSeries> recomputeUsers(Collection<Integer> userIds) {
+        return recompute("user_id", userIds);
+    }
+
+    public void saveSeries(List<SeriesState> states) {
+        jdbcTemplate.batchUpdate(UPDATE_SERIES_SQL, states, states.size(), (ps, state) -> {
+            ps.setInt(1, state.booksRead());
+            ps.setInt(2, state.booksOwned());
+            ps.setBigDecimal(3, state.completionPercentage());
+            ps.setString(4, state.status());
+            ps.setDate(5, state.completionDate() != null ? Date.valueOf(state.completionDate()) : null);
+            ps.setInt(6, state.id());
+        });
+    }
+
+    public void markRead(Integer userBookId, boolean read) {
+        jdbcTemplate.update(MARK_READ_SQL, read, userBookId, read);
+    }
+
+    /* Brings user_series_books.is_read in line with the linked user books; returns the rows changed. */
+    public int syncReadFlags(Collection<Integer> userIds) {
+        return jdbcTemplate.update(SYNC_READ_FLAGS_SQL, (Object) userIds.toArray(Integer[]::new));
+    }
+
+    public List<Integer> findUserIdsAfter(int afterUserId, int limit) {
+        return jdbcTemplate.queryForList(USER_IDS_AFTER_SQL, Integer.class, afterUserId, limit);
+    }
+
+    private List<RecomputedSeries> recompute(String column, Collection<Integer> ids) {
+        return jdbcTemplate.query(RECOMPUTE_SQL.formatted(column), (rs, rowNum) -> new RecomputedSeries(
+                STATE_MAPPER.mapRow(rs, rowNum),
+                rs.getInt("actual_books_read"),
+                rs.getInt("actual_books_owned")), (Object) ids.toArray(Integer[]::new));
+    }
+
+    private static Integer getInteger(ResultSet rs, String column) throws SQLException {
+        int value = rs.getInt(column);
+        return rs.wasNull() ? null : value;
+    }
+
+    private static LocalDate toLocalDate(Date date) {
+        return date != null ? date.toLocalDate() : null;
+    }
+
+    /* Stored progress of one user series; totalBooks comes from the catalog and is null when unknown. */
+    public record SeriesState(Integer id, String status, int booksRead, int booksOwned,
+                              BigDecimal completionPercentage, LocalDate completionDate, Integer totalBooks) {
+    }
+
+    /* Stored state next to the counts derived from the user's books. */
+    public record RecomputedSeries(SeriesState stored, int booksRead, int booksOwned) {
+    }
+}
@@ -6,6 +6,7 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
 import java.util.Optional;
 
 @Repository
@@ -13,4 +14,6 @@ public interface UserAuthorPreferenceRepository extends JpaRepository<UserAuthor
     Optional<UserAuthorPreference> findByUserIdAndCatalogAuthorId(Integer userId, Integer catalogAuthorId);
 
     Page<UserAuthorPreference> findByUserId(Integer userId, Pageable pageable);
+
+    List<UserAuthorPreference> findByUserId(Integer userId);
 }
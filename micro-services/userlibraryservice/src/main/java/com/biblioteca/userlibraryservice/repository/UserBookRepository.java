@@ -1,9 +1,55 @@
 package com.biblioteca.userlibraryservice.repository;
 
 import com.biblioteca.userlibraryservice.entity.UserBook;
+import com.biblioteca.userlibraryservice.repository.projection.UserBookShelfView;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+/*
+ * Shelf reads walk idx_user_books_shelf / idx_user_books_library ((user_id[, status],
+ * updated_at DESC, id DESC)) and seek past the (updated_at, id) cursor, so every page is an
+ * index range scan regardless of how deep into the shelf it is. Catalog fields come from the
+ * local catalog_book_snapshots replica (primary-key join), so a page needs no call to
+ * catalogservice.
+ */
 @Repository
 public interface UserBookRepository extends JpaRepository<UserBook, Integer> {
+    String SHELF_COLUMNS = "SELECT ub.id AS id, ub.catalogBookId AS catalogBookId, ub.status AS status, ub.rating AS rating, " +
+            "ub.progressPercentage AS progressPercentage, ub.currentPage AS currentPage, ub.startDate AS startDate, " +
+            "ub.finishDate AS finishDate, ub.isFavorite AS isFavorite, ub.readingFormat AS readingFormat, ub.updatedAt AS updatedAt, " +
+            "cb.title AS title, cb.subtitle AS subtitle, cb.authorNames AS authorNames, cb.seriesName AS seriesName, " +
+            "cb.seriesPosition AS seriesPosition, cb.coverImageId AS coverImageId, cb.pageCount AS pageCount " +
+            "FROM UserBook ub LEFT JOIN CatalogBookSnapshot cb ON cb.bookId = ub.catalogBookId AND cb.isDeleted = false ";
+
+    Optional<UserBook> findByUserIdAndCatalogBookId(Integer userId, Integer catalogBookId);
+
+    @Query(SHELF_COLUMNS + "WHERE ub.userId = :userId AND ub.status = :status " +
+            "ORDER BY ub.updatedAt DESC, ub.id DESC")
+    List<UserBookShelfView> findShelf(@Param("userId") Integer userId, @Param("status") String status, Limit limit);
+
+    @Query(SHELF_COLUMNS + "WHERE ub.userId = :userId AND ub.status = :status " +
+            "AND (ub.updatedAt, ub.id) < (:updatedAt, :id) " +
+            "ORDER BY ub.updatedAt DESC, ub.id DESC")
+    List<UserBookShelfView> findShelfAfter(@Param("userId") Integer userId, @Param("status") String status,
+                                           @Param("updatedAt") LocalDateTime updatedAt, @Param("id") Integer id, Limit limit);
+
+    @Query(SHELF_COLUMNS + "WHERE ub.userId = :userId " +
+            "ORDER BY ub.updatedAt DESC, ub.id DESC")
+    List<UserBookShelfView> findLibrary(@Param("userId") Integer userId, Limit limit);
+
+    @Query(SHELF_COLUMNS + "WHERE ub.userId = :userId " +
+            "AND (ub.updatedAt, ub.id) < (:updatedAt, :id) " +
+            "ORDER BY ub.updatedAt DESC, ub.id DESC")
+    List<UserBookShelfView> findLibraryAfter(@Param("userId") Integer userId,
+                                             @Param("updatedAt") LocalDateTime updatedAt, @Param("id") Integer id, Limit limit);
+
+    @Query("SELECT ub.status, COUNT(ub) FROM UserBook ub WHERE ub.userId = :userId GROUP BY ub.status")
+    List<Object[]> countByStatus(@Param("userId") Integer userId);
 }
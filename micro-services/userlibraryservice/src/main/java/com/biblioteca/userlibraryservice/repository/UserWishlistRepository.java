@@ -0,0 +1,15 @@
+package com.biblioteca.userlibraryservice.repository;
+
+import com.biblioteca.userlibraryservice.entity.UserWishlist;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface UserWishlistRepository extends JpaRepository<UserWishlist, Integer> {
+    Optional<UserWishlist> findByUserIdAndCatalogBookId(Integer userId, Integer catalogBookId);
+
+    List<UserWishlist> findByUserIdOrderByPriorityAscAddedDateDesc(Integer userId);
+}
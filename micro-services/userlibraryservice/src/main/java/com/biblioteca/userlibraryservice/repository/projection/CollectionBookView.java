@@ -0,0 +1,35 @@
+package com.biblioteca.userlibraryservice.repository.projection;
+
+import java.time.LocalDateTime;
+
+/*
+ * One collection member with the user book and catalog columns a collection page shows.
+ * Catalog columns are null until the book's snapshot has been replicated.
+ */
+public interface CollectionBookView {
+    Integer getId();
+
+    Integer getCollectionId();
+
+    Integer getUserBookId();
+
+    Integer getDisplayOrder();
+
+    String getNotes();
+
+    LocalDateTime getAddedAt();
+
+    Integer getCatalogBookId();
+
+    String getStatus();
+
+    Integer getRating();
+
+    String getTitle();
+
+    String getAuthorNames();
+
+    String getGenreNames();
+
+    Integer getCoverImageId();
+}
@@ -0,0 +1,47 @@
+package com.biblioteca.userlibraryservice.repository.projection;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/*
+ * Shelf list columns only; the TEXT notes and wishlist columns are never selected. Catalog
+ * columns are null until the book's snapshot has been replicated.
+ */
+public interface UserBookShelfView {
+    Integer getId();
+
+    Integer getCatalogBookId();
+
+    String getStatus();
+
+    Integer getRating();
+
+    BigDecimal getProgressPercentage();
+
+    Integer getCurrentPage();
+
+    LocalDate getStartDate();
+
+    LocalDate getFinishDate();
+
+    Boolean getIsFavorite();
+
+    String getReadingFormat();
+
+    LocalDateTime getUpdatedAt();
+
+    String getTitle();
+
+    String getSubtitle();
+
+    String getAuthorNames();
+
+    String getSeriesName();
+
+    Integer getSeriesPosition();
+
+    Integer getCoverImageId();
+
+    Integer getPageCount();
+}
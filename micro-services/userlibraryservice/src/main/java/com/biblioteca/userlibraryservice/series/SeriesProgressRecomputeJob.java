@@ -0,0 +1,117 @@
+package com.biblioteca.userlibraryservice.series;
+
+import com.biblioteca.userlibraryservice.repository.SeriesProgressRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/*
+ * Recomputes the progress of every user series from user_books, catching what the incremental
+ * path cannot see: catalog series totals and membership changing, books linked or unlinked
+ * through user_series_books and rows written before the tracker existed. Users are read in
+ * keyset order and handed out in batches to a fixed pool; each batch is one transaction with
+ * one recompute query, and at most twice as many batches as threads are in flight.
+ */
+@Component
+@Slf4j
+public class SeriesProgressRecomputeJob {
+    private final SeriesProgressTracker seriesProgressTracker;
+    private final SeriesProgressRepository seriesProgressRepository;
+    private final TransactionTemplate batchTransaction;
+    private final MeterRegistry meterRegistry;
+    private final boolean enabled;
+    private final int parallelism;
+    private final int batchSize;
+
+    public SeriesProgressRecomputeJob(SeriesProgressTracker seriesProgressTracker,
+                                      SeriesProgressRepository seriesProgressRepository,
+                                      PlatformTransactionManager transactionManager,
+                                      MeterRegistry meterRegistry,
+                                      @Value("${series.recompute.enabled:true}") boolean enabled,
+                                      @Value("${series.recompute.parallelism:4}") int parallelism,
+                                      @Value("${series.recompute.batch-size:500}") int batchSize) {
+        this.seriesProgressTracker = seriesProgressTracker;
+        this.seriesProgressRepository = seriesProgressRepository;
+        this.batchTransaction = new TransactionTemplate(transactionManager);
+        this.meterRegistry = meterRegistry;
+        this.enabled = enabled;
+        this.parallelism = Math.max(1, parallelism);
+        this.batchSize = Math.max(1, batchSize);
+    }
+
+    @Scheduled(cron = "${series.recompute.cron:0 0 4 * * *}")
+    public void recomputeNightly() {
+        if (enabled) {
+            recomputeAll();
+        }
+    }
+
+    public RecomputeReport recomputeAll() {
+        long started = System.currentTimeMillis();
+        AtomicInteger threadNumber = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(parallelism, runnable -> {
+            Thread thread = new Thread(runnable, "series-recompute-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        Semaphore inFlight = new Semaphore(parallelism * 2);
+        AtomicInteger users = new AtomicInteger();
+        AtomicInteger corrected = new AtomicInteger();
+        AtomicInteger failed = new AtomicInteger();
+
+        try {
+            int afterUserId = 0;
+            while (true) {
+                List<Integer> userIds = seriesProgressRepository.findUserIdsAfter(afterUserId, batchSize);
+                if (userIds.isEmpty()) {
+                    break;
+                }
+                afterUserId = userIds.get(userIds.size() - 1);
+
+                inFlight.acquire();
+                executor.execute(() -> {
+                    try {
+                        Integer changed = batchTransaction.execute(status -> seriesProgressTracker.recomputeUsers(userIds));
+                        corrected.addAndGet(changed != null ? changed : 0);
+                        users.addAndGet(userIds.size());
+                    } catch (RuntimeException e) {
+                        failed.addAndGet(userIds.size());
+                        log.error("Series progress recompute failed for users {}..{}: {}",
+                                userIds.get(0), userIds.get(userIds.size() - 1), e.getMessage());
+                    } finally {
+                        inFlight.release();
+                    }
+                });
+            }
+
+            executor.shutdown();
+            executor.awaitTermination(1, TimeUnit.HOURS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Series progress recompute was interrupted", e);
+        } finally {
+            executor.shutdownNow();
+        }
+
+        RecomputeReport report = new RecomputeReport(users.get(), corrected.get(), failed.get());
+        meterRegistry.counter("series.recompute.corrected").increment(report.corrected());
+        log.info("Series progress recompute finished in {} ms: {} users, {} rows corrected, {} users failed",
+                System.currentTimeMillis() - started, report.users(), report.corrected(), report.failed());
+
+        return report;
+    }
+
+    public record RecomputeReport(int users, int corrected, int failed) {
+    }
+}
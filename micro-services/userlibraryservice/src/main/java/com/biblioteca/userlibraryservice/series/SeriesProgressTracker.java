@@ -0,0 +1,145 @@
+package com.biblioteca.userlibraryservice.series;
+
+import com.biblioteca.userlibraryservice.entity.UserSeries;
+import com.biblioteca.userlibraryservice.progress.UserBookStatusChangedEvent;
+import com.biblioteca.userlibraryservice.repository.SeriesProgressRepository;
+import com.biblioteca.userlibraryservice.repository.SeriesProgressRepository.RecomputedSeries;
+import com.biblioteca.userlibraryservice.repository.SeriesProgressRepository.SeriesState;
+import com.biblioteca.userlibraryservice.util.enums.BookStatus;
+import com.biblioteca.userlibraryservice.util.enums.SeriesStatus;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+
+/*
+ * Owns books_read, books_owned, completion_percentage and the completion status of user series.
+ * A user book status change only adjusts the counts of the series containing that book, in the
+ * publishing transaction; the counts are then turned into completion by progress(), which is
+ * also what the series service and SeriesProgressRecomputeJob apply to counts recomputed from
+ * user_books, so every path follows the same rules.
+ */
+@Component
+@RequiredArgsConstructor
+public class SeriesProgressTracker {
+    private static final BigDecimal HUNDRED = BigDecimal.valueOf(100);
+
+    private final SeriesProgressRepository seriesProgressRepository;
+
+    @EventListener
+    public void onUserBookStatusChanged(UserBookStatusChangedEvent event) {
+        if (Objects.equals(event.previousStatus(), event.status())) {
+            return;
+        }
+
+        int ownedDelta = (event.status() != null ? 1 : 0) - (event.previousStatus() != null ? 1 : 0);
+        int readDelta = (isRead(event.status()) ? 1 : 0) - (isRead(event.previousStatus()) ? 1 : 0);
+
+        if (event.status() != null && readDelta != 0) {
+            seriesProgressRepository.markRead(event.userBookId(), readDelta > 0);
+        }
+        if (ownedDelta == 0 && readDelta == 0) {
+            return;
+        }
+
+        List<Integer> seriesIds = seriesProgressRepository.findAffectedSeriesIds(event.userId(), event.catalogBookId(), event.userBookId());
+        if (seriesIds.isEmpty()) {
+            return;
+        }
+
+        LocalDate today = LocalDate.now();
+        List<SeriesState> changed = new ArrayList<>();
+        for (SeriesState state : seriesProgressRepository.lockSeries(seriesIds)) {
+            SeriesState next = progress(state, Math.max(state.booksRead() + readDelta, 0),
+                    Math.max(state.booksOwned() + ownedDelta, 0), today);
+            if (!next.equals(state)) {
+                changed.add(next);
+            }
+        }
+        if (!changed.isEmpty()) {
+            seriesProgressRepository.saveSeries(changed);
+        }
+    }
+
+    /* Sets the derived fields of a saved user series from the user's books, ignoring client values. */
+    public void refresh(UserSeries userSeries) {
+        List<RecomputedSeries> recomputed = seriesProgressRepository.recomputeSeries(List.of(userSeries.getId()));
+        if (recomputed.isEmpty()) {
+            return;
+        }
+
+        RecomputedSeries series = recomputed.get(0);
+        SeriesState current = new SeriesState(userSeries.getId(), userSeries.getStatus(), series.stored().booksRead(),
+                series.stored().booksOwned(), userSeries.getCompletionPercentage(), userSeries.getCompletionDate(),
+                series.stored().totalBooks());
+        SeriesState next = progress(current, series.booksRead(), series.booksOwned(), LocalDate.now());
+
+        userSeries.setBooksRead(next.booksRead());
+        userSeries.setBooksOwned(next.booksOwned());
+        userSeries.setCompletionPercentage(next.completionPercentage());
+        userSeries.setStatus(next.status());
+        userSeries.setCompletionDate(next.completionDate());
+    }
+
+    /* Recomputes every series of the given users and returns the number of rows corrected. */
+    public int recomputeUsers(Collection<Integer> userIds) {
+        LocalDate today = LocalDate.now();
+        List<SeriesState> changed = new ArrayList<>();
+        for (RecomputedSeries series : seriesProgressRepository.recomputeUsers(userIds)) {
+            SeriesState next = progress(series.stored(), series.booksRead(), series.booksOwned(), today);
+            if (!next.equals(series.stored())) {
+                changed.add(next);
+            }
+        }
+        if (!changed.isEmpty()) {
+            seriesProgressRepository.saveSeries(changed);
+        }
+
+        return changed.size() + seriesProgressRepository.syncReadFlags(userIds);
+    }
+
+    /*
+     * Completion is only known when the catalog has a total; a series without one keeps its
+     * status and completion date. Dropped series are never completed automatically.
+     */
+    static SeriesState progress(SeriesState state, int booksRead, int booksOwned, LocalDate today) {
+        Integer totalBooks = state.totalBooks();
+        if (totalBooks == null || totalBooks <= 0) {
+            String status = SeriesStatus.WANT_TO_READ.name().equals(state.status()) && booksRead > 0
+                    ? SeriesStatus.READING.name()
+                    : state.status();
+            return new SeriesState(state.id(), status, booksRead, booksOwned, null, state.completionDate(), totalBooks);
+        }
+
+        BigDecimal completionPercentage = BigDecimal.valueOf(Math.min(booksRead, totalBooks))
+                .multiply(HUNDRED)
+                .divide(BigDecimal.valueOf(totalBooks), 2, RoundingMode.HALF_UP);
+        boolean completed = booksRead >= totalBooks;
+
+        String status = state.status();
+        if (completed && !SeriesStatus.DROPPED.name().equals(status)) {
+            status = SeriesStatus.COMPLETED.name();
+        } else if (!completed && SeriesStatus.COMPLETED.name().equals(status)) {
+            status = SeriesStatus.READING.name();
+        } else if (SeriesStatus.WANT_TO_READ.name().equals(status) && booksRead > 0) {
+            status = SeriesStatus.READING.name();
+        }
+
+        LocalDate completionDate = completed
+                ? (state.completionDate() != null ? state.completionDate() : today)
+                : null;
+
+        return new SeriesState(state.id(), status, booksRead, booksOwned, completionPercentage, completionDate, totalBooks);
+    }
+
+    private static boolean isRead(String status) {
+        return BookStatus.READ.name().equals(status);
+    }
+}
@@ -0,0 +1,9 @@
+package com.biblioteca.userlibraryservice.service;
+
+import com.biblioteca.userlibraryservice.dto.catalogSnapshot.CatalogChangeEventDTO;
+
+import java.util.List;
+
+public interface CatalogSnapshotService {
+    Integer applyEvents(List<CatalogChangeEventDTO> events);
+}
@@ -0,0 +1,29 @@
+package com.biblioteca.userlibraryservice.service;
+
+import com.biblioteca.userlibraryservice.dto.pagination.CursorPageDTO;
+import com.biblioteca.userlibraryservice.dto.pagination.CursorPageRequestDTO;
+import com.biblioteca.userlibraryservice.dto.readingCollections.*;
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.security.oauth2.jwt.Jwt;
+
+import java.util.List;
+
+public interface ReadingCollectionService {
+    ReadingCollectionDTO createReadingCollection(ReadingCollectionCreateDTO readingCollectionCreateDTO, HttpServletRequest request, Jwt jwt);
+
+    List<ReadingCollectionDTO> getReadingCollectionsByUserId(Integer userId, HttpServletRequest request, Jwt jwt);
+
+    ReadingCollectionDTO getReadingCollectionById(Integer id, HttpServletRequest request, Jwt jwt);
+
+    ReadingCollectionDTO updateReadingCollection(ReadingCollectionUpdateDTO readingCollectionUpdateDTO, HttpServletRequest request, Jwt jwt);
+
+    String deleteReadingCollection(Integer id, HttpServletRequest request, Jwt jwt);
+
+    CursorPageDTO<CollectionBookDTO> getCollectionBooks(Integer collectionId, CursorPageRequestDTO cursorPageRequestDTO, HttpServletRequest request, Jwt jwt);
+
+    ReadingCollectionDTO addCollectionBooks(Integer collectionId, CollectionBooksAddDTO collectionBooksAddDTO, HttpServletRequest request, Jwt jwt);
+
+    ReadingCollectionDTO removeCollectionBooks(Integer collectionId, List<Integer> userBookIds, HttpServletRequest request, Jwt jwt);
+
+    ReadingCollectionDTO reorderCollectionBooks(Integer collectionId, CollectionBooksReorderDTO collectionBooksReorderDTO, HttpServletRequest request, Jwt jwt);
+}
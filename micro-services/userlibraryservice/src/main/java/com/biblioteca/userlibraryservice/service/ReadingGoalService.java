@@ -0,0 +1,19 @@
+package com.biblioteca.userlibraryservice.service;
+
+import com.biblioteca.userlibraryservice.dto.readingGoals.ReadingGoalCreateDTO;
+import com.biblioteca.userlibraryservice.dto.readingGoals.ReadingGoalDTO;
+import com.biblioteca.userlibraryservice.dto.readingGoals.ReadingStreakDTO;
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.security.oauth2.jwt.Jwt;
+
+import java.util.List;
+
+public interface ReadingGoalService {
+    ReadingGoalDTO createReadingGoal(ReadingGoalCreateDTO readingGoalCreateDTO, HttpServletRequest request, Jwt jwt);
+
+    List<ReadingGoalDTO> getReadingGoals(Integer userId, HttpServletRequest request, Jwt jwt);
+
+    String deleteReadingGoal(Integer id, HttpServletRequest request, Jwt jwt);
+
+    ReadingStreakDTO getReadingStreak(Integer userId, HttpServletRequest request, Jwt jwt);
+}
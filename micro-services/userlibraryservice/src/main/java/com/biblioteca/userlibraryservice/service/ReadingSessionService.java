@@ -0,0 +1,18 @@
+package com.biblioteca.userlibraryservice.service;
+
+import com.biblioteca.userlibraryservice.dto.pagination.CursorPageDTO;
+import com.biblioteca.userlibraryservice.dto.pagination.CursorPageRequestDTO;
+import com.biblioteca.userlibraryservice.dto.readingSessions.ReadingSessionBatchCreateDTO;
+import com.biblioteca.userlibraryservice.dto.readingSessions.ReadingSessionBatchResultDTO;
+import com.biblioteca.userlibraryservice.dto.readingSessions.ReadingSessionCreateDTO;
+import com.biblioteca.userlibraryservice.dto.readingSessions.ReadingSessionDTO;
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.security.oauth2.jwt.Jwt;
+
+public interface ReadingSessionService {
+    ReadingSessionDTO createReadingSession(ReadingSessionCreateDTO readingSessionCreateDTO, HttpServletRequest request, Jwt jwt);
+
+    ReadingSessionBatchResultDTO createReadingSessions(ReadingSessionBatchCreateDTO readingSessionBatchCreateDTO, HttpServletRequest request, Jwt jwt);
+
+    CursorPageDTO<ReadingSessionDTO> getReadingSessions(Integer userBookId, CursorPageRequestDTO cursorPageRequestDTO, HttpServletRequest request, Jwt jwt);
+}
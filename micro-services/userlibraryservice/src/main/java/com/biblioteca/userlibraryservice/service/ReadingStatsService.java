@@ -0,0 +1,11 @@
+package com.biblioteca.userlibraryservice.service;
+
+import com.biblioteca.userlibraryservice.dto.readingStats.ReadingStatsDTO;
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.security.oauth2.jwt.Jwt;
+
+import java.time.LocalDate;
+
+public interface ReadingStatsService {
+    ReadingStatsDTO getReadingStats(Integer userId, LocalDate startDate, LocalDate endDate, HttpServletRequest request, Jwt jwt);
+}
@@ -0,0 +1,11 @@
+package com.biblioteca.userlibraryservice.service;
+
+import com.biblioteca.userlibraryservice.dto.recommendations.RecommendationsDTO;
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.security.oauth2.jwt.Jwt;
+
+public interface RecommendationService {
+    RecommendationsDTO getRecommendations(Integer userId, int limit, HttpServletRequest request, Jwt jwt);
+
+    RecommendationsDTO refreshRecommendations(Integer userId, int limit, HttpServletRequest request, Jwt jwt);
+}
@@ -8,6 +8,8 @@ import jakarta.servlet.http.HttpServletRequest;
 import org.springframework.data.domain.Page;
 import org.springframework.security.oauth2.jwt.Jwt;
 
+import java.util.List;
+
 public interface UserAuthorPreferenceService {
     UserAuthorPreferenceDTO createUserAuthorPreference(UserAuthorPreferenceCreateDTO createDTO, HttpServletRequest request, Jwt jwt);
 
@@ -18,4 +20,6 @@ public interface UserAuthorPreferenceService {
     UserAuthorPreferenceDTO updateUserAuthor(UserAuthorPreferenceUpdateDTO updateDTO, HttpServletRequest request, Jwt jwt);
 
     String deleteUserAuthorPreference(Integer id, HttpServletRequest request, Jwt jwt);
+
+    List<UserAuthorPreferenceDTO> getAllUserAuthorsByUserId(Integer userId, HttpServletRequest request, Jwt jwt);
 }
@@ -0,0 +1,27 @@
+package com.biblioteca.userlibraryservice.service;
+
+import com.biblioteca.userlibraryservice.dto.pagination.CursorPageDTO;
+import com.biblioteca.userlibraryservice.dto.pagination.CursorPageRequestDTO;
+import com.biblioteca.userlibraryservice.dto.userBooks.UserBookCreateDTO;
+import com.biblioteca.userlibraryservice.dto.userBooks.UserBookDTO;
+import com.biblioteca.userlibraryservice.dto.userBooks.UserBookShelfItemDTO;
+import com.biblioteca.userlibraryservice.dto.userBooks.UserBookUpdateDTO;
+import com.biblioteca.userlibraryservice.util.enums.BookStatus;
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.security.oauth2.jwt.Jwt;
+
+import java.util.Map;
+
+public interface UserBookService {
+    UserBookDTO createUserBook(UserBookCreateDTO userBookCreateDTO, HttpServletRequest request, Jwt jwt);
+
+    UserBookDTO getUserBookById(Integer id, HttpServletRequest request, Jwt jwt);
+
+    UserBookDTO updateUserBook(UserBookUpdateDTO userBookUpdateDTO, HttpServletRequest request, Jwt jwt);
+
+    String deleteUserBook(Integer id, HttpServletRequest request, Jwt jwt);
+
+    CursorPageDTO<UserBookShelfItemDTO> getShelf(Integer userId, BookStatus status, CursorPageRequestDTO cursorPageRequestDTO, HttpServletRequest request, Jwt jwt);
+
+    Map<BookStatus, Long> getShelfCounts(Integer userId, HttpServletRequest request, Jwt jwt);
+}
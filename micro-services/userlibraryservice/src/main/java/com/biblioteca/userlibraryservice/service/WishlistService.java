@@ -0,0 +1,21 @@
+package com.biblioteca.userlibraryservice.service;
+
+import com.biblioteca.userlibraryservice.dto.wishlists.WishlistCreateDTO;
+import com.biblioteca.userlibraryservice.dto.wishlists.WishlistDTO;
+import com.biblioteca.userlibraryservice.dto.wishlists.WishlistUpdateDTO;
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.security.oauth2.jwt.Jwt;
+
+import java.util.List;
+
+public interface WishlistService {
+    WishlistDTO createWishlistItem(WishlistCreateDTO wishlistCreateDTO, HttpServletRequest request, Jwt jwt);
+
+    List<WishlistDTO> getWishlistByUserId(Integer userId, HttpServletRequest request, Jwt jwt);
+
+    WishlistDTO getWishlistItemById(Integer id, HttpServletRequest request, Jwt jwt);
+
+    WishlistDTO updateWishlistItem(WishlistUpdateDTO wishlistUpdateDTO, HttpServletRequest request, Jwt jwt);
+
+    String deleteWishlistItem(Integer id, HttpServletRequest request, Jwt jwt);
+}
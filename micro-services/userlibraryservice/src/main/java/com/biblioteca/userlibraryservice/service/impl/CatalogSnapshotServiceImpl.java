@@ -0,0 +1,85 @@
+package com.biblioteca.userlibraryservice.service.impl;
+
+import com.biblioteca.userlibraryservice.dto.catalogSnapshot.*;
+import com.biblioteca.userlibraryservice.repository.CatalogSnapshotRepository;
+import com.biblioteca.userlibraryservice.repository.PriceAlertRepository.BookPrice;
+import com.biblioteca.userlibraryservice.service.CatalogSnapshotService;
+import com.biblioteca.userlibraryservice.util.enums.CatalogAggregateType;
+import com.biblioteca.userlibraryservice.util.enums.CatalogEventType;
+import com.biblioteca.userlibraryservice.util.exception.CustomException;
+import com.biblioteca.userlibraryservice.wishlist.PriceAlertEvaluator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.transaction.Transactional;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+
+import java.util.*;
+
+@Service
+@Slf4j
+public class CatalogSnapshotServiceImpl implements CatalogSnapshotService {
+    private final CatalogSnapshotRepository catalogSnapshotRepository;
+    private final PriceAlertEvaluator priceAlertEvaluator;
+    private final ObjectMapper objectMapper;
+
+    public CatalogSnapshotServiceImpl(CatalogSnapshotRepository catalogSnapshotRepository,
+                                      PriceAlertEvaluator priceAlertEvaluator,
+                                      ObjectMapper objectMapper) {
+        this.catalogSnapshotRepository = catalogSnapshotRepository;
+        this.priceAlertEvaluator = priceAlertEvaluator;
+        this.objectMapper = objectMapper;
+    }
+
+    /* A batch is applied atomically; catalogservice redelivers the whole batch on any failure. */
+    @Override
+    @Transactional
+    public Integer applyEvents(List<CatalogChangeEventDTO> events) {
+        log.info("applyEvents in CatalogSnapshotServiceImpl is called with {} events", events.size());
+
+        Map<CatalogAggregateType, Map<Long, List<CatalogChangeEventDTO>>> upserts = new EnumMap<>(CatalogAggregateType.class);
+        Map<CatalogAggregateType, Map<Long, List<Integer>>> deletes = new EnumMap<>(CatalogAggregateType.class);
+
+        for (CatalogChangeEventDTO event : events) {
+            if (event.getAggregateType() == null || event.getAggregateId() == null || event.getEventType() == null || event.getVersion() == null) {
+                throw new CustomException("Catalog event is missing required fields", HttpStatus.BAD_REQUEST.value());
+            }
+
+            if (event.getEventType() == CatalogEventType.DELETE || event.getPayload() == null || event.getPayload().isNull()) {
+                deletes.computeIfAbsent(event.getAggregateType(), type -> new HashMap<>())
+                        .computeIfAbsent(event.getVersion(), version -> new ArrayList<>())
+                        .add(event.getAggregateId());
+            } else {
+                upserts.computeIfAbsent(event.getAggregateType(), type -> new HashMap<>())
+                        .computeIfAbsent(event.getVersion(), version -> new ArrayList<>())
+                        .add(event);
+            }
+        }
+
+        upserts.forEach((aggregateType, byVersion) -> byVersion.forEach((version, batch) -> upsert(aggregateType, batch, version)));
+        deletes.forEach((aggregateType, byVersion) -> byVersion.forEach((version, ids) -> catalogSnapshotRepository.markDeleted(aggregateType, ids, version)));
+
+        log.info("Applied {} catalog events", events.size());
+
+        return events.size();
+    }
+
+    private void upsert(CatalogAggregateType aggregateType, List<CatalogChangeEventDTO> events, long version) {
+        switch (aggregateType) {
+            case BOOK -> {
+                List<BookSnapshotDTO> books = payloads(events, BookSnapshotDTO.class);
+                List<BookPrice> priceChanges = priceAlertEvaluator.findPriceChanges(books, version);
+                catalogSnapshotRepository.upsertBooks(books, version);
+                priceAlertEvaluator.evaluate(priceChanges);
+            }
+            case AUTHOR -> catalogSnapshotRepository.upsertAuthors(payloads(events, AuthorSnapshotDTO.class), version);
+            case SERIES -> catalogSnapshotRepository.upsertSeries(payloads(events, SeriesSnapshotDTO.class), version);
+            case GENRE -> catalogSnapshotRepository.upsertGenres(payloads(events, GenreSnapshotDTO.class), version);
+            case PUBLISHER -> catalogSnapshotRepository.upsertPublishers(payloads(events, PublisherSnapshotDTO.class), version);
+        }
+    }
+
+    private <T> List<T> payloads(List<CatalogChangeEventDTO> events, Class<T> type) {
+        return events.stream().map(event -> objectMapper.convertValue(event.getPayload(), type)).toList();
+    }
+}
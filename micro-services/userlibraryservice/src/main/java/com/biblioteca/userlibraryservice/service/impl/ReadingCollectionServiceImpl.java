@@ -0,0 +1,267 @@
+package com.biblioteca.userlibraryservice.service.impl;
+
+import com.biblioteca.userlibraryservice.collection.CollectionOrdering;
+import com.biblioteca.userlibraryservice.dto.pagination.CursorPageDTO;
+import com.biblioteca.userlibraryservice.dto.pagination.CursorPageRequestDTO;
+import com.biblioteca.userlibraryservice.dto.pagination.OrderKeysetCursor;
+import com.biblioteca.userlibraryservice.dto.pagination.PaginationUtil;
+import com.biblioteca.userlibraryservice.dto.readingCollections.*;
+import com.biblioteca.userlibraryservice.entity.ReadingCollection;
+import com.biblioteca.userlibraryservice.repository.CollectionMembershipRepository;
+import com.biblioteca.userlibraryservice.repository.CollectionMembershipRepository.Member;
+import com.biblioteca.userlibraryservice.repository.ReadingCollectionBookRepository;
+import com.biblioteca.userlibraryservice.repository.ReadingCollectionRepository;
+import com.biblioteca.userlibraryservice.repository.projection.CollectionBookView;
+import com.biblioteca.userlibraryservice.service.ReadingCollectionService;
+import com.biblioteca.userlibraryservice.util.exception.CustomException;
+import com.biblioteca.userlibraryservice.util.mapper.ReadingCollectionMapper;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.transaction.Transactional;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Limit;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.*;
+
+@Service
+@Slf4j
+@RequiredArgsConstructor
+public class ReadingCollectionServiceImpl implements ReadingCollectionService {
+    private static final int MAX_BULK_SIZE = 500;
+
+    private final ReadingCollectionRepository readingCollectionRepository;
+    private final ReadingCollectionBookRepository readingCollectionBookRepository;
+    private final CollectionMembershipRepository collectionMembershipRepository;
+
+    @Override
+    @Transactional
+    public ReadingCollectionDTO createReadingCollection(ReadingCollectionCreateDTO readingCollectionCreateDTO, HttpServletRequest request, Jwt jwt) {
+        log.info("createReadingCollection method in ReadingCollectionServiceImpl is called with data: {}", readingCollectionCreateDTO.toString());
+
+        if (readingCollectionRepository.findByUserIdAndName(readingCollectionCreateDTO.getUserId(), readingCollectionCreateDTO.getName()).isPresent()) {
+            log.error("ReadingCollection already exists in ReadingCollectionServiceImpl");
+            throw new CustomException("Collection with this name already exist for user", HttpStatus.CONFLICT.value());
+        }
+
+        ReadingCollection readingCollection = ReadingCollectionMapper.fromCreateDTO(readingCollectionCreateDTO);
+
+        try {
+            readingCollectionRepository.save(readingCollection);
+
+            log.info("ReadingCollection created successfully in ReadingCollectionServiceImpl");
+
+            return ReadingCollectionMapper.toDTO(readingCollection, 0);
+        } catch (Exception e) {
+            log.error("exception in creating reading collection: {}", e.getMessage());
+            throw new CustomException("Error in creating reading collection", HttpStatus.INTERNAL_SERVER_ERROR.value());
+        }
+    }
+
+    @Override
+    public List<ReadingCollectionDTO> getReadingCollectionsByUserId(Integer userId, HttpServletRequest request, Jwt jwt) {
+        log.info("getReadingCollectionsByUserId method in ReadingCollectionServiceImpl is called with userId: {}", userId);
+
+        List<ReadingCollection> collections = readingCollectionRepository.findByUserIdOrderBySortOrderAscIdAsc(userId);
+        if (collections.isEmpty()) {
+            return List.of();
+        }
+
+        /* One grouped count for all of the user's collections. */
+        Map<Integer, Long> bookCounts = new HashMap<>();
+        for (Object[] row : readingCollectionBookRepository.countByCollection(collections.stream().map(ReadingCollection::getId).toList())) {
+            bookCounts.put((Integer) row[0], (Long) row[1]);
+        }
+
+        return collections.stream()
+                .map(collection -> ReadingCollectionMapper.toDTO(collection, bookCounts.getOrDefault(collection.getId(), 0L)))
+                .toList();
+    }
+
+    @Override
+    public ReadingCollectionDTO getReadingCollectionById(Integer id, HttpServletRequest request, Jwt jwt) {
+        log.info("getReadingCollectionById method in ReadingCollectionServiceImpl is called with id: {}", id);
+
+        ReadingCollection readingCollection = findById(id);
+
+        return ReadingCollectionMapper.toDTO(readingCollection, readingCollectionBookRepository.countByCollectionId(id));
+    }
+
+    @Override
+    @Transactional
+    public ReadingCollectionDTO updateReadingCollection(ReadingCollectionUpdateDTO readingCollectionUpdateDTO, HttpServletRequest request, Jwt jwt) {
+        log.info("updateReadingCollection method in ReadingCollectionServiceImpl is called with data: {}", readingCollectionUpdateDTO.toString());
+
+        ReadingCollection readingCollection = findById(readingCollectionUpdateDTO.getId());
+
+        Optional<ReadingCollection> sameName = readingCollectionRepository.findByUserIdAndName(readingCollection.getUserId(), readingCollectionUpdateDTO.getName());
+        if (sameName.isPresent() && !sameName.get().getId().equals(readingCollection.getId())) {
+            log.error("ReadingCollection name already used in ReadingCollectionServiceImpl");
+            throw new CustomException("Collection with this name already exist for user", HttpStatus.CONFLICT.value());
+        }
+
+        ReadingCollectionMapper.fromUpdateDTO(readingCollectionUpdateDTO, readingCollection);
+
+        try {
+            readingCollectionRepository.save(readingCollection);
+
+            log.info("ReadingCollection updated successfully in ReadingCollectionServiceImpl");
+
+            return ReadingCollectionMapper.toDTO(readingCollection, readingCollectionBookRepository.countByCollectionId(readingCollection.getId()));
+        } catch (Exception e) {
+            log.error("exception in updating reading collection: {}", e.getMessage());
+            throw new CustomException("Error in updating reading collection", HttpStatus.INTERNAL_SERVER_ERROR.value());
+        }
+    }
+
+    @Override
+    @Transactional
+    public String deleteReadingCollection(Integer id, HttpServletRequest request, Jwt jwt) {
+        log.info("deleteReadingCollection method in ReadingCollectionServiceImpl is called with id: {}", id);
+
+        ReadingCollection readingCollection = findById(id);
+
+        if (Boolean.TRUE.equals(readingCollection.getIsDefault())) {
+            log.error("Default ReadingCollection can not be deleted in ReadingCollectionServiceImpl");
+            throw new CustomException("Default collection can not be deleted", HttpStatus.BAD_REQUEST.value());
+        }
+
+        try {
+            /* Members go with it through ON DELETE CASCADE. */
+            readingCollectionRepository.delete(readingCollection);
+            log.info("ReadingCollection deleted successfully in ReadingCollectionServiceImpl");
+            return "delete successfully";
+        } catch (Exception e) {
+            log.error("exception in deleting reading collection: {}", e.getMessage());
+            throw new CustomException("Error in deleting reading collection", HttpStatus.INTERNAL_SERVER_ERROR.value());
+        }
+    }
+
+    @Override
+    public CursorPageDTO<CollectionBookDTO> getCollectionBooks(Integer collectionId, CursorPageRequestDTO cursorPageRequestDTO, HttpServletRequest request, Jwt jwt) {
+        log.info("getCollectionBooks method in ReadingCollectionServiceImpl is called with collectionId: {}, data: {}", collectionId, cursorPageRequestDTO);
+
+        if (!readingCollectionRepository.existsById(collectionId)) {
+            log.error("ReadingCollection id not found in ReadingCollectionServiceImpl");
+            throw new CustomException("ReadingCollection id not found in ReadingCollectionServiceImpl", HttpStatus.NOT_FOUND.value());
+        }
+
+        int size = PaginationUtil.getCursorPageSize(cursorPageRequestDTO);
+        Limit limit = Limit.of(size + 1);
+        OrderKeysetCursor cursor = cursorPageRequestDTO.getAfter() != null ? PaginationUtil.decodeOrderCursor(cursorPageRequestDTO.getAfter()) : null;
+
+        List<CollectionBookView> rows = cursor == null
+                ? readingCollectionBookRepository.findPage(collectionId, limit)
+                : readingCollectionBookRepository.findPageAfter(collectionId, cursor.getPosition(), cursor.getId(), limit);
+
+        List<CollectionBookDTO> items = rows.stream().map(ReadingCollectionMapper::toBookDTO).toList();
+
+        return PaginationUtil.getCursorPage(items, size, cursor != null,
+                item -> PaginationUtil.encodeOrderCursor(item.getDisplayOrder(), item.getId()));
+    }
+
+    @Override
+    @Transactional
+    public ReadingCollectionDTO addCollectionBooks(Integer collectionId, CollectionBooksAddDTO collectionBooksAddDTO, HttpServletRequest request, Jwt jwt) {
+        log.info("addCollectionBooks method in ReadingCollectionServiceImpl is called with collectionId: {}, data: {}", collectionId, collectionBooksAddDTO);
+
+        ReadingCollection readingCollection = lockById(collectionId);
+        List<Integer> userBookIds = List.copyOf(new LinkedHashSet<>(collectionBooksAddDTO.getUserBookIds()));
+
+        Set<Integer> owned = collectionMembershipRepository.findOwnedUserBookIds(readingCollection.getUserId(), userBookIds);
+        List<Integer> missing = userBookIds.stream().filter(id -> !owned.contains(id)).toList();
+        if (!missing.isEmpty()) {
+            log.error("UserBooks not in the user's library in ReadingCollectionServiceImpl: {}", missing);
+            throw new CustomException("UserBook ids not found in user library: " + missing, HttpStatus.BAD_REQUEST.value());
+        }
+
+        try {
+            int[] positions = CollectionOrdering.append(collectionMembershipRepository.findLastPosition(collectionId), userBookIds.size());
+            if (positions == null) {
+                renumber(collectionId);
+                positions = CollectionOrdering.append(collectionMembershipRepository.findLastPosition(collectionId), userBookIds.size());
+            }
+
+            int added = collectionMembershipRepository.insertAll(collectionId, userBookIds, positions);
+            readingCollection.setUpdatedAt(LocalDateTime.now());
+
+            log.info("{} books added to ReadingCollection {} in ReadingCollectionServiceImpl", added, collectionId);
+
+            return ReadingCollectionMapper.toDTO(readingCollection, readingCollectionBookRepository.countByCollectionId(collectionId));
+        } catch (Exception e) {
+            log.error("exception in adding books to reading collection: {}", e.getMessage());
+            throw new CustomException("Error in adding books to reading collection", HttpStatus.INTERNAL_SERVER_ERROR.value());
+        }
+    }
+
+    @Override
+    @Transactional
+    public ReadingCollectionDTO removeCollectionBooks(Integer collectionId, List<Integer> userBookIds, HttpServletRequest request, Jwt jwt) {
+        log.info("removeCollectionBooks method in ReadingCollectionServiceImpl is called with collectionId: {}, userBookIds: {}", collectionId, userBookIds);
+
+        if (userBookIds == null || userBookIds.isEmpty() || userBookIds.size() > MAX_BULK_SIZE) {
+            throw new CustomException("userBookIds must contain between 1 and " + MAX_BULK_SIZE + " ids", HttpStatus.BAD_REQUEST.value());
+        }
+
+        ReadingCollection readingCollection = lockById(collectionId);
+
+        try {
+            /* Removing leaves a wider gap; the remaining books keep their positions. */
+            int removed = collectionMembershipRepository.deleteAll(collectionId, userBookIds);
+            readingCollection.setUpdatedAt(LocalDateTime.now());
+
+            log.info("{} books removed from ReadingCollection {} in ReadingCollectionServiceImpl", removed, collectionId);
+
+            return ReadingCollectionMapper.toDTO(readingCollection, readingCollectionBookRepository.countByCollectionId(collectionId));
+        } catch (Exception e) {
+            log.error("exception in removing books from reading collection: {}", e.getMessage());
+            throw new CustomException("Error in removing books from reading collection", HttpStatus.INTERNAL_SERVER_ERROR.value());
+        }
+    }
+
+    @Override
+    @Transactional
+    public ReadingCollectionDTO reorderCollectionBooks(Integer collectionId, CollectionBooksReorderDTO collectionBooksReorderDTO, HttpServletRequest request, Jwt jwt) {
+        log.info("reorderCollectionBooks method in ReadingCollectionServiceImpl is called with collectionId: {}, data: {}", collectionId, collectionBooksReorderDTO);
+
+        ReadingCollection readingCollection = lockById(collectionId);
+        List<Member> members = collectionMembershipRepository.findMembers(collectionId);
+
+        /* Validates every move before anything is written. */
+        List<Member> changed = CollectionOrdering.move(members, collectionBooksReorderDTO.getMoves());
+
+        try {
+            collectionMembershipRepository.updatePositions(changed);
+            readingCollection.setUpdatedAt(LocalDateTime.now());
+
+            log.info("{} moves applied to ReadingCollection {} rewriting {} of {} books in ReadingCollectionServiceImpl",
+                    collectionBooksReorderDTO.getMoves().size(), collectionId, changed.size(), members.size());
+
+            return ReadingCollectionMapper.toDTO(readingCollection, members.size());
+        } catch (Exception e) {
+            log.error("exception in reordering reading collection: {}", e.getMessage());
+            throw new CustomException("Error in reordering reading collection", HttpStatus.INTERNAL_SERVER_ERROR.value());
+        }
+    }
+
+    private void renumber(Integer collectionId) {
+        collectionMembershipRepository.updatePositions(CollectionOrdering.renumber(collectionMembershipRepository.findMembers(collectionId)));
+    }
+
+    private ReadingCollection findById(Integer id) {
+        return readingCollectionRepository.findById(id).orElseThrow(() -> {
+            log.error("ReadingCollection id not found in ReadingCollectionServiceImpl");
+            return new CustomException("ReadingCollection id not found in ReadingCollectionServiceImpl", HttpStatus.NOT_FOUND.value());
+        });
+    }
+
+    private ReadingCollection lockById(Integer id) {
+        return readingCollectionRepository.findByIdForUpdate(id).orElseThrow(() -> {
+            log.error("ReadingCollection id not found in ReadingCollectionServiceImpl");
+            return new CustomException("ReadingCollection id not found in ReadingCollectionServiceImpl", HttpStatus.NOT_FOUND.value());
+        });
+    }
+}
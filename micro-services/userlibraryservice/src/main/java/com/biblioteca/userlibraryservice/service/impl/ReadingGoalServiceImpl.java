@@ -0,0 +1,144 @@
+package com.biblioteca.userlibraryservice.service.impl;
+
+import com.biblioteca.userlibraryservice.dto.readingGoals.ReadingGoalCreateDTO;
+import com.biblioteca.userlibraryservice.dto.readingGoals.ReadingGoalDTO;
+import com.biblioteca.userlibraryservice.dto.readingGoals.ReadingStreakDTO;
+import com.biblioteca.userlibraryservice.entity.ReadingGoal;
+import com.biblioteca.userlibraryservice.entity.ReadingStreak;
+import com.biblioteca.userlibraryservice.progress.ReadingProgressEngine;
+import com.biblioteca.userlibraryservice.progress.ReadingProgressEngine.GoalValue;
+import com.biblioteca.userlibraryservice.repository.ReadingGoalRepository;
+import com.biblioteca.userlibraryservice.repository.ReadingStreakRepository;
+import com.biblioteca.userlibraryservice.service.ReadingGoalService;
+import com.biblioteca.userlibraryservice.util.enums.GoalPeriod;
+import com.biblioteca.userlibraryservice.util.enums.StreakType;
+import com.biblioteca.userlibraryservice.util.exception.CustomException;
+import com.biblioteca.userlibraryservice.util.mapper.ReadingGoalMapper;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.transaction.Transactional;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.stereotype.Service;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Service
+@Slf4j
+@RequiredArgsConstructor
+public class ReadingGoalServiceImpl implements ReadingGoalService {
+    private final ReadingGoalRepository readingGoalRepository;
+    private final ReadingStreakRepository readingStreakRepository;
+    private final ReadingProgressEngine readingProgressEngine;
+
+    @Override
+    @Transactional
+    public ReadingGoalDTO createReadingGoal(ReadingGoalCreateDTO readingGoalCreateDTO, HttpServletRequest request, Jwt jwt) {
+        log.info("createReadingGoal method in ReadingGoalServiceImpl is called with data: {}", readingGoalCreateDTO.toString());
+
+        LocalDate startDate = readingGoalCreateDTO.getStartDate() != null
+                ? readingGoalCreateDTO.getStartDate()
+                : periodStart(readingGoalCreateDTO.getGoalPeriod(), LocalDate.now());
+        LocalDateTime now = LocalDateTime.now();
+
+        ReadingGoal readingGoal = ReadingGoal.builder()
+                .userId(readingGoalCreateDTO.getUserId())
+                .goalType(readingGoalCreateDTO.getGoalType().name())
+                .targetValue(readingGoalCreateDTO.getTargetValue())
+                .currentValue(0)
+                .progressMinutes(0)
+                .goalPeriod(readingGoalCreateDTO.getGoalPeriod().name())
+                .startDate(startDate)
+                .endDate(periodEnd(readingGoalCreateDTO.getGoalPeriod(), startDate))
+                .isActive(true)
+                .isCompleted(false)
+                .createdAt(now)
+                .updatedAt(now)
+                .build();
+
+        try {
+            /* Flushed first: genre variety progress is stored in rows that reference the goal. */
+            readingGoalRepository.saveAndFlush(readingGoal);
+
+            /* The period may already have started; later progress arrives through ReadingProgressEngine. */
+            GoalValue value = readingProgressEngine.computeGoal(readingGoal.getId(), readingGoal.getUserId(),
+                    readingGoalCreateDTO.getGoalType(), readingGoal.getStartDate(), readingGoal.getEndDate());
+            readingGoal.setCurrentValue(value.currentValue());
+            readingGoal.setProgressMinutes(value.progressMinutes());
+            readingGoal.setIsCompleted(value.currentValue() >= readingGoal.getTargetValue());
+            readingGoal.setCompletedAt(readingGoal.getIsCompleted() ? now : null);
+            readingGoalRepository.save(readingGoal);
+
+            log.info("ReadingGoal created successfully in ReadingGoalServiceImpl");
+
+            return ReadingGoalMapper.toDTO(readingGoal);
+        } catch (Exception e) {
+            log.error("exception in creating reading goal: {}", e.getMessage());
+            throw new CustomException("Error in creating reading goal", HttpStatus.INTERNAL_SERVER_ERROR.value());
+        }
+    }
+
+    @Override
+    public List<ReadingGoalDTO> getReadingGoals(Integer userId, HttpServletRequest request, Jwt jwt) {
+        log.info("getReadingGoals method in ReadingGoalServiceImpl is called with userId: {}", userId);
+
+        return readingGoalRepository.findByUserIdAndIsActiveOrderByEndDateAscIdAsc(userId, true).stream()
+                .map(ReadingGoalMapper::toDTO)
+                .toList();
+    }
+
+    @Override
+    @Transactional
+    public String deleteReadingGoal(Integer id, HttpServletRequest request, Jwt jwt) {
+        log.info("deleteReadingGoal method in ReadingGoalServiceImpl is called with id: {}", id);
+
+        ReadingGoal readingGoal = readingGoalRepository.findById(id).orElseThrow(() -> {
+            log.error("ReadingGoal id not found in ReadingGoalServiceImpl");
+            return new CustomException("ReadingGoal id not found in ReadingGoalServiceImpl", HttpStatus.NOT_FOUND.value());
+        });
+
+        try {
+            readingGoalRepository.delete(readingGoal);
+            log.info("ReadingGoal deleted successfully in ReadingGoalServiceImpl");
+            return "delete successfully";
+        } catch (Exception e) {
+            log.error("exception in deleting reading goal: {}", e.getMessage());
+            throw new CustomException("Error in deleting reading goal", HttpStatus.INTERNAL_SERVER_ERROR.value());
+        }
+    }
+
+    @Override
+    public ReadingStreakDTO getReadingStreak(Integer userId, HttpServletRequest request, Jwt jwt) {
+        log.info("getReadingStreak method in ReadingGoalServiceImpl is called with userId: {}", userId);
+
+        ReadingStreak readingStreak = readingStreakRepository.findByUserIdAndStreakType(userId, StreakType.DAILY_READING.name())
+                .orElseGet(() -> ReadingStreak.builder()
+                        .userId(userId)
+                        .streakType(StreakType.DAILY_READING.name())
+                        .currentStreak(0)
+                        .longestStreak(0)
+                        .build());
+
+        return ReadingGoalMapper.toStreakDTO(readingStreak, LocalDate.now());
+    }
+
+    private static LocalDate periodStart(GoalPeriod goalPeriod, LocalDate today) {
+        return switch (goalPeriod) {
+            case WEEKLY -> today.with(DayOfWeek.MONDAY);
+            case MONTHLY -> today.withDayOfMonth(1);
+            case YEARLY -> today.withDayOfYear(1);
+        };
+    }
+
+    private static LocalDate periodEnd(GoalPeriod goalPeriod, LocalDate startDate) {
+        return switch (goalPeriod) {
+            case WEEKLY -> startDate.plusWeeks(1).minusDays(1);
+            case MONTHLY -> startDate.plusMonths(1).minusDays(1);
+            case YEARLY -> startDate.plusYears(1).minusDays(1);
+        };
+    }
+}
@@ -0,0 +1,176 @@
+package com.biblioteca.userlibraryservice.service.impl;
+
+import com.biblioteca.userlibraryservice.dto.pagination.CursorPageDTO;
+import com.biblioteca.userlibraryservice.dto.pagination.CursorPageRequestDTO;
+import com.biblioteca.userlibraryservice.dto.pagination.KeysetCursor;
+import com.biblioteca.userlibraryservice.dto.pagination.PaginationUtil;
+import com.biblioteca.userlibraryservice.dto.readingSessions.ReadingSessionBatchCreateDTO;
+import com.biblioteca.userlibraryservice.dto.readingSessions.ReadingSessionBatchResultDTO;
+import com.biblioteca.userlibraryservice.dto.readingSessions.ReadingSessionCreateDTO;
+import com.biblioteca.userlibraryservice.dto.readingSessions.ReadingSessionDTO;
+import com.biblioteca.userlibraryservice.entity.ReadingSession;
+import com.biblioteca.userlibraryservice.progress.ReadingSessionsRecordedEvent;
+import com.biblioteca.userlibraryservice.progress.ReadingSessionsRecordedEvent.RecordedSession;
+import com.biblioteca.userlibraryservice.progress.UserBookStatusChangedEvent;
+import com.biblioteca.userlibraryservice.repository.ReadingSessionRepository;
+import com.biblioteca.userlibraryservice.repository.ReadingSessionWriteRepository;
+import com.biblioteca.userlibraryservice.repository.ReadingSessionWriteRepository.ProgressDelta;
+import com.biblioteca.userlibraryservice.repository.ReadingSessionWriteRepository.ProgressUpdate;
+import com.biblioteca.userlibraryservice.repository.UserBookRepository;
+import com.biblioteca.userlibraryservice.service.ReadingSessionService;
+import com.biblioteca.userlibraryservice.util.exception.CustomException;
+import com.biblioteca.userlibraryservice.util.mapper.ReadingSessionMapper;
+import com.biblioteca.userlibraryservice.util.security.JwtUtil;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.transaction.Transactional;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.util.*;
+
+@Service
+@Slf4j
+@RequiredArgsConstructor
+public class ReadingSessionServiceImpl implements ReadingSessionService {
+    private final ReadingSessionRepository readingSessionRepository;
+    private final ReadingSessionWriteRepository readingSessionWriteRepository;
+    private final UserBookRepository userBookRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Override
+    @Transactional
+    public ReadingSessionDTO createReadingSession(ReadingSessionCreateDTO readingSessionCreateDTO, HttpServletRequest request, Jwt jwt) {
+        log.info("createReadingSession method in ReadingSessionServiceImpl is called with data: {}", readingSessionCreateDTO.toString());
+
+        ingest(List.of(readingSessionCreateDTO), jwt);
+
+        return readingSessionRepository.findByUserBookIdAndClientSessionId(readingSessionCreateDTO.getUserBookId(), readingSessionCreateDTO.getClientSessionId())
+                .map(ReadingSessionMapper::toDTO)
+                .orElseThrow(() -> new CustomException("Error in creating reading session", HttpStatus.INTERNAL_SERVER_ERROR.value()));
+    }
+
+    @Override
+    @Transactional
+    public ReadingSessionBatchResultDTO createReadingSessions(ReadingSessionBatchCreateDTO readingSessionBatchCreateDTO, HttpServletRequest request, Jwt jwt) {
+        log.info("createReadingSessions method in ReadingSessionServiceImpl is called with {} sessions", readingSessionBatchCreateDTO.getSessions().size());
+
+        return ingest(readingSessionBatchCreateDTO.getSessions(), jwt);
+    }
+
+    @Override
+    public CursorPageDTO<ReadingSessionDTO> getReadingSessions(Integer userBookId, CursorPageRequestDTO cursorPageRequestDTO, HttpServletRequest request, Jwt jwt) {
+        log.info("getReadingSessions method in ReadingSessionServiceImpl is called with userBookId: {}, data: {}", userBookId, cursorPageRequestDTO);
+
+        if (!userBookRepository.existsById(userBookId)) {
+            log.error("UserBook id not found in ReadingSessionServiceImpl");
+            throw new CustomException("UserBook id not found in ReadingSessionServiceImpl", HttpStatus.NOT_FOUND.value());
+        }
+
+        int size = PaginationUtil.getCursorPageSize(cursorPageRequestDTO);
+        Limit limit = Limit.of(size + 1);
+        KeysetCursor cursor = cursorPageRequestDTO.getAfter() != null ? PaginationUtil.decodeCursor(cursorPageRequestDTO.getAfter()) : null;
+
+        List<ReadingSession> rows = cursor == null
+                ? readingSessionRepository.findHistory(userBookId, limit)
+                : readingSessionRepository.findHistoryAfter(userBookId, cursor.getPosition().toLocalDate(), cursor.getId(), limit);
+
+        List<ReadingSessionDTO> items = rows.stream().map(ReadingSessionMapper::toDTO).toList();
+
+        return PaginationUtil.getCursorPage(items, size, cursor != null,
+                item -> PaginationUtil.encodeCursor(item.getSessionDate().atStartOfDay(), item.getId()));
+    }
+
+    /*
+     * Validates the whole upload up front, stores it in JDBC batches and then moves each touched
+     * user book forward once, using only the sessions that were actually new. Streaks and goals
+     * follow through ReadingSessionsRecordedEvent, and books moved from WANT_TO_READ to
+     * CURRENTLY_READ publish UserBookStatusChangedEvent like any other status change. Every
+     * session must belong to the authenticated user. A batch either goes in completely or not at all.
+     */
+    private ReadingSessionBatchResultDTO ingest(List<ReadingSessionCreateDTO> sessions, Jwt jwt) {
+        Integer userId = JwtUtil.getUserId(jwt);
+
+        for (ReadingSessionCreateDTO session : sessions) {
+            if (!Objects.equals(session.getUserId(), userId)) {
+                log.error("Reading session for user {} uploaded by user {} in ReadingSessionServiceImpl", session.getUserId(), userId);
+                throw new CustomException("This action is not allowed", HttpStatus.FORBIDDEN.value());
+            }
+            if (session.getEndPage() < session.getStartPage()) {
+                log.error("Reading session endPage is before startPage in ReadingSessionServiceImpl");
+                throw new CustomException("endPage can not be less than startPage", HttpStatus.BAD_REQUEST.value());
+            }
+            if (session.getStartTime() != null && session.getEndTime() != null && session.getEndTime().isBefore(session.getStartTime())) {
+                log.error("Reading session endTime is before startTime in ReadingSessionServiceImpl");
+                throw new CustomException("endTime can not be before startTime", HttpStatus.BAD_REQUEST.value());
+            }
+            if (session.getClientSessionId() == null) {
+                session.setClientSessionId(UUID.randomUUID());
+            }
+        }
+
+        Map<Integer, Integer> owners = readingSessionWriteRepository.findOwners(
+                sessions.stream().map(ReadingSessionCreateDTO::getUserBookId).distinct().toList());
+        for (ReadingSessionCreateDTO session : sessions) {
+            if (!Objects.equals(owners.get(session.getUserBookId()), userId)) {
+                log.error("UserBook id {} not found for user {} in ReadingSessionServiceImpl", session.getUserBookId(), userId);
+                throw new CustomException("UserBook id not found in ReadingSessionServiceImpl", HttpStatus.NOT_FOUND.value());
+            }
+        }
+
+        try {
+            boolean[] inserted = readingSessionWriteRepository.insertAll(sessions);
+
+            /* Furthest page and first date per book, over the new sessions only; TreeMap keeps lock order stable. */
+            Map<Integer, ProgressDelta> deltas = new TreeMap<>();
+            List<RecordedSession> recorded = new ArrayList<>();
+            int insertedCount = 0;
+            for (int i = 0; i < sessions.size(); i++) {
+                if (!inserted[i]) {
+                    continue;
+                }
+                insertedCount++;
+
+                ReadingSessionCreateDTO session = sessions.get(i);
+                recorded.add(new RecordedSession(session.getUserId(), session.getSessionDate(), session.getEndPage() - session.getStartPage(),
+                        session.getSessionDurationMinutes() != null ? session.getSessionDurationMinutes() : 0));
+                deltas.merge(session.getUserBookId(),
+                        new ProgressDelta(session.getUserBookId(), session.getEndPage(), session.getSessionDate()),
+                        (a, b) -> new ProgressDelta(a.userBookId(), Math.max(a.currentPage(), b.currentPage()),
+                                earliest(a.firstSessionDate(), b.firstSessionDate())));
+            }
+
+            List<ProgressUpdate> updates = deltas.isEmpty() ? List.of() : readingSessionWriteRepository.updateProgress(new ArrayList<>(deltas.values()));
+            for (ProgressUpdate update : updates) {
+                if (update.statusChanged()) {
+                    eventPublisher.publishEvent(new UserBookStatusChangedEvent(update.userId(), update.userBookId(), update.catalogBookId(),
+                            update.previousStatus(), update.status(), null, null, update.rating(), update.rating()));
+                }
+            }
+            if (!recorded.isEmpty()) {
+                eventPublisher.publishEvent(new ReadingSessionsRecordedEvent(recorded));
+            }
+
+            log.info("Reading sessions stored successfully in ReadingSessionServiceImpl: {} new, {} duplicates", insertedCount, sessions.size() - insertedCount);
+
+            return ReadingSessionBatchResultDTO.builder()
+                    .received(sessions.size())
+                    .inserted(insertedCount)
+                    .duplicates(sessions.size() - insertedCount)
+                    .userBooksUpdated(updates.size())
+                    .build();
+        } catch (Exception e) {
+            log.error("exception in creating reading sessions: {}", e.getMessage());
+            throw new CustomException("Error in creating reading sessions", HttpStatus.INTERNAL_SERVER_ERROR.value());
+        }
+    }
+
+    private static LocalDate earliest(LocalDate a, LocalDate b) {
+        return a.isBefore(b) ? a : b;
+    }
+}
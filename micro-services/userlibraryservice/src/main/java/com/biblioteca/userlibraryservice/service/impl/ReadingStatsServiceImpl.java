@@ -0,0 +1,117 @@
+package com.biblioteca.userlibraryservice.service.impl;
+
+import com.biblioteca.userlibraryservice.dto.readingStats.GenreStatsDTO;
+import com.biblioteca.userlibraryservice.dto.readingStats.MonthlyStatsDTO;
+import com.biblioteca.userlibraryservice.dto.readingStats.ReadingStatsDTO;
+import com.biblioteca.userlibraryservice.dto.readingStats.YearlyStatsDTO;
+import com.biblioteca.userlibraryservice.repository.ReadingStatsRepository;
+import com.biblioteca.userlibraryservice.repository.ReadingStatsRepository.StatsRow;
+import com.biblioteca.userlibraryservice.service.ReadingStatsService;
+import com.biblioteca.userlibraryservice.util.exception.CustomException;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.stereotype.Service;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/*
+ * Answers from the rollups maintained by ReadingStatsProjector: one indexed read per request,
+ * independent of how many books or sessions the user has. Only the per-month rows are
+ * filtered and folded into years here, which is bounded by twelve rows per year of history.
+ */
+@Service
+@Slf4j
+@RequiredArgsConstructor
+public class ReadingStatsServiceImpl implements ReadingStatsService {
+    private static final TypeReference<List<MonthlyStatsDTO>> MONTHS_TYPE = new TypeReference<>() {
+    };
+    private static final TypeReference<List<GenreStatsDTO>> GENRES_TYPE = new TypeReference<>() {
+    };
+
+    private final ReadingStatsRepository readingStatsRepository;
+    private final ObjectMapper objectMapper;
+
+    @Override
+    public ReadingStatsDTO getReadingStats(Integer userId, LocalDate startDate, LocalDate endDate, HttpServletRequest request, Jwt jwt) {
+        log.info("getReadingStats method in ReadingStatsServiceImpl is called with userId: {}, startDate: {}, endDate: {}",
+                userId, startDate, endDate);
+
+        if (startDate != null && endDate != null && startDate.isAfter(endDate)) {
+            log.error("startDate is after endDate in ReadingStatsServiceImpl");
+            throw new CustomException("startDate must not be after endDate", HttpStatus.BAD_REQUEST.value());
+        }
+
+        StatsRow stats = readingStatsRepository.findStats(userId)
+                .orElseGet(() -> new StatsRow(0, 0, 0, 0, 0, 0, 0, 0, 0, 0, null, null));
+
+        List<MonthlyStatsDTO> months = readJson(stats.monthsJson(), MONTHS_TYPE).stream()
+                .filter(month -> startDate == null || !month.getMonth().isBefore(startDate.withDayOfMonth(1)))
+                .filter(month -> endDate == null || !month.getMonth().isAfter(endDate))
+                .toList();
+
+        return ReadingStatsDTO.builder()
+                .userId(userId)
+                .totalBooks(stats.wantToRead() + stats.currentlyRead() + stats.read() + stats.didNotFinish() + stats.onHold())
+                .booksRead(stats.read())
+                .currentlyReading(stats.currentlyRead())
+                .wantToRead(stats.wantToRead())
+                .onHold(stats.onHold())
+                .didNotFinish(stats.didNotFinish())
+                .averageRating(stats.ratingCount() > 0 ? ratio(stats.ratingSum(), stats.ratingCount()) : null)
+                .completionRate(stats.read() + stats.didNotFinish() > 0
+                        ? ratio(stats.read() * 100L, stats.read() + stats.didNotFinish())
+                        : null)
+                .pagesRead(stats.pagesRead())
+                .minutesRead(stats.minutesRead())
+                .sessions(stats.sessions())
+                .booksPerYear(toYears(months))
+                .pagesPerMonth(months)
+                .genreMix(readJson(stats.genresJson(), GENRES_TYPE))
+                .build();
+    }
+
+    private <T> List<T> readJson(String json, TypeReference<List<T>> type) {
+        if (json == null) {
+            return List.of();
+        }
+
+        try {
+            return objectMapper.readValue(json, type);
+        } catch (JsonProcessingException e) {
+            log.error("exception in reading reading stats: {}", e.getMessage());
+            throw new CustomException("Error in reading reading stats", HttpStatus.INTERNAL_SERVER_ERROR.value());
+        }
+    }
+
+    private static List<YearlyStatsDTO> toYears(List<MonthlyStatsDTO> months) {
+        Map<Integer, YearlyStatsDTO> years = new TreeMap<>();
+        for (MonthlyStatsDTO month : months) {
+            YearlyStatsDTO year = years.computeIfAbsent(month.getMonth().getYear(), y -> YearlyStatsDTO.builder()
+                    .year(y)
+                    .booksFinished(0)
+                    .pagesRead(0L)
+                    .minutesRead(0L)
+                    .build());
+            year.setBooksFinished(year.getBooksFinished() + month.getBooksFinished());
+            year.setPagesRead(year.getPagesRead() + month.getPagesRead());
+            year.setMinutesRead(year.getMinutesRead() + month.getMinutesRead());
+        }
+
+        return List.copyOf(years.values());
+    }
+
+    private static BigDecimal ratio(long dividend, long divisor) {
+        return BigDecimal.valueOf(dividend).divide(BigDecimal.valueOf(divisor), 2, RoundingMode.HALF_UP);
+    }
+}
@@ -0,0 +1,71 @@
+package com.biblioteca.userlibraryservice.service.impl;
+
+import com.biblioteca.userlibraryservice.dto.recommendations.RecommendationsDTO;
+import com.biblioteca.userlibraryservice.recommendation.RecommendationEngine;
+import com.biblioteca.userlibraryservice.repository.RecommendationRepository;
+import com.biblioteca.userlibraryservice.repository.RecommendationRepository.RecommendedBook;
+import com.biblioteca.userlibraryservice.service.RecommendationService;
+import com.biblioteca.userlibraryservice.util.exception.CustomException;
+import com.biblioteca.userlibraryservice.util.mapper.RecommendationMapper;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.transaction.Transactional;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/*
+ * Serves the precomputed lists: one primary-key read of user_recommendations joined to the
+ * catalog replica. A user the refresh job has not seen yet gets the most popular books they do
+ * not own while their own list is computed in the background.
+ */
+@Service
+@Slf4j
+@RequiredArgsConstructor
+public class RecommendationServiceImpl implements RecommendationService {
+    private static final int MAX_LIMIT = 50;
+
+    private final RecommendationRepository recommendationRepository;
+    private final RecommendationEngine recommendationEngine;
+
+    @Override
+    @Transactional
+    public RecommendationsDTO getRecommendations(Integer userId, int limit, HttpServletRequest request, Jwt jwt) {
+        log.info("getRecommendations method in RecommendationServiceImpl is called with userId: {}, limit: {}", userId, limit);
+
+        int size = Math.max(1, Math.min(limit, MAX_LIMIT));
+        List<RecommendedBook> books = recommendationRepository.findRecommendations(userId, size);
+
+        if (books.isEmpty() && !recommendationRepository.hasRecommendations(userId)) {
+            recommendationEngine.recomputeLater(userId);
+            return RecommendationMapper.toDTO(userId, recommendationRepository.findPopular(userId, recommendationEngine.popularBooks(), size));
+        }
+
+        return RecommendationMapper.toDTO(userId, books);
+    }
+
+    @Override
+    @Transactional
+    public RecommendationsDTO refreshRecommendations(Integer userId, int limit, HttpServletRequest request, Jwt jwt) {
+        log.info("refreshRecommendations method in RecommendationServiceImpl is called with userId: {}, limit: {}", userId, limit);
+
+        return compute(userId, Math.max(1, Math.min(limit, MAX_LIMIT)));
+    }
+
+    private RecommendationsDTO compute(Integer userId, int size) {
+        try {
+            recommendationEngine.recomputeUsers(List.of(userId), LocalDateTime.now());
+
+            log.info("Recommendations computed for user {} in RecommendationServiceImpl", userId);
+
+            return RecommendationMapper.toDTO(userId, recommendationRepository.findRecommendations(userId, size));
+        } catch (Exception e) {
+            log.error("exception in computing recommendations: {}", e.getMessage());
+            throw new CustomException("Error in computing recommendations", HttpStatus.INTERNAL_SERVER_ERROR.value());
+        }
+    }
+}
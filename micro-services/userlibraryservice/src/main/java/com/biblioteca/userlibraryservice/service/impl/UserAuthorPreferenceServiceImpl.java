@@ -21,6 +21,7 @@ import org.springframework.http.HttpStatus;
 import org.springframework.security.oauth2.jwt.Jwt;
 import org.springframework.stereotype.Service;
 
+import java.util.List;
 import java.util.Optional;
 
 import static org.springframework.http.HttpStatus.CONFLICT;
@@ -128,6 +129,15 @@ public class UserAuthorPreferenceServiceImpl implements UserAuthorPreferenceServ
         }
     }
 
+    @Override
+    public List<UserAuthorPreferenceDTO> getAllUserAuthorsByUserId(Integer userId, HttpServletRequest request, Jwt jwt) {
+        log.info("getAllUserAuthorsByUserId in UserAuthorPreferenceServiceImpl is called with userId: {}", userId);
+
+        List<UserAuthorPreference> authorPreferences = userAuthorPreferenceRepository.findByUserId(userId);
+
+        return authorPreferences.stream().map(this::convertToDTO).toList();
+    }
+
     private UserAuthorPreference findById(Integer id){
         log.info("getUserAuthorPreferenceById in UserAuthorPreferenceServiceImpl is called with id: {}", id);
 
@@ -0,0 +1,201 @@
+package com.biblioteca.userlibraryservice.service.impl;
+
+import com.biblioteca.userlibraryservice.dto.pagination.CursorPageDTO;
+import com.biblioteca.userlibraryservice.dto.pagination.CursorPageRequestDTO;
+import com.biblioteca.userlibraryservice.dto.pagination.KeysetCursor;
+import com.biblioteca.userlibraryservice.dto.pagination.PaginationUtil;
+import com.biblioteca.userlibraryservice.dto.userBooks.UserBookCreateDTO;
+import com.biblioteca.userlibraryservice.dto.userBooks.UserBookDTO;
+import com.biblioteca.userlibraryservice.dto.userBooks.UserBookShelfItemDTO;
+import com.biblioteca.userlibraryservice.dto.userBooks.UserBookUpdateDTO;
+import com.biblioteca.userlibraryservice.entity.UserBook;
+import com.biblioteca.userlibraryservice.progress.UserBookStatusChangedEvent;
+import com.biblioteca.userlibraryservice.repository.UserBookRepository;
+import com.biblioteca.userlibraryservice.repository.projection.UserBookShelfView;
+import com.biblioteca.userlibraryservice.service.UserBookService;
+import com.biblioteca.userlibraryservice.util.enums.BookStatus;
+import com.biblioteca.userlibraryservice.util.exception.CustomException;
+import com.biblioteca.userlibraryservice.util.mapper.UserBookMapper;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.transaction.Transactional;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+@Service
+@Slf4j
+@RequiredArgsConstructor
+public class UserBookServiceImpl implements UserBookService {
+    private final UserBookRepository userBookRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Override
+    @Transactional
+    public UserBookDTO createUserBook(UserBookCreateDTO userBookCreateDTO, HttpServletRequest request, Jwt jwt) {
+        log.info("createUserBook method in UserBookServiceImpl is called with data: {}", userBookCreateDTO.toString());
+
+        if (userBookRepository.findByUserIdAndCatalogBookId(userBookCreateDTO.getUserId(), userBookCreateDTO.getCatalogBookId()).isPresent()) {
+            log.error("UserBook already exists in UserBookServiceImpl");
+            throw new CustomException("Book already exist for user", HttpStatus.CONFLICT.value());
+        }
+
+        UserBook userBook = fromCreateDTO(userBookCreateDTO);
+        userBook.setUserId(userBookCreateDTO.getUserId());
+        userBook.setCatalogBookId(userBookCreateDTO.getCatalogBookId());
+        defaultFinishDate(userBook, null);
+
+        try {
+            userBookRepository.save(userBook);
+            publishStatusChange(userBook, null, null, null);
+
+            log.info("UserBook created successfully in UserBookServiceImpl");
+
+            return convertToDTO(userBook);
+        } catch (Exception e) {
+            log.error("exception in creating user book: {}", e.getMessage());
+            throw new CustomException("Error in creating user book", HttpStatus.INTERNAL_SERVER_ERROR.value());
+        }
+    }
+
+    @Override
+    public UserBookDTO getUserBookById(Integer id, HttpServletRequest request, Jwt jwt) {
+        log.info("getUserBookById method in UserBookServiceImpl is called with id: {}", id);
+
+        return convertToDTO(findById(id));
+    }
+
+    @Override
+    @Transactional
+    public UserBookDTO updateUserBook(UserBookUpdateDTO userBookUpdateDTO, HttpServletRequest request, Jwt jwt) {
+        log.info("updateUserBook method in UserBookServiceImpl is called with data: {}", userBookUpdateDTO.toString());
+
+        UserBook existing = findById(userBookUpdateDTO.getId());
+
+        if (!Objects.equals(existing.getUserId(), userBookUpdateDTO.getUserId()) || !Objects.equals(existing.getCatalogBookId(), userBookUpdateDTO.getCatalogBookId())) {
+            log.error("UserBook update can not be performed on different user book");
+            throw new CustomException("This action is not allowed", HttpStatus.BAD_REQUEST.value());
+        }
+
+        String previousStatus = existing.getStatus();
+        LocalDate previousReadOn = UserBookStatusChangedEvent.readOn(existing);
+        Integer previousRating = existing.getRating();
+
+        UserBook userBook = fromUpdateDTO(userBookUpdateDTO, existing);
+        defaultFinishDate(userBook, previousStatus);
+
+        try {
+            userBookRepository.save(userBook);
+            publishStatusChange(userBook, previousStatus, previousReadOn, previousRating);
+            log.info("UserBook updated successfully in UserBookServiceImpl");
+            return convertToDTO(userBook);
+        } catch (Exception e) {
+            log.error("exception in updating user book: {}", e.getMessage());
+            throw new CustomException("Error in updating user book", HttpStatus.INTERNAL_SERVER_ERROR.value());
+        }
+    }
+
+    @Override
+    @Transactional
+    public String deleteUserBook(Integer id, HttpServletRequest request, Jwt jwt) {
+        log.info("deleteUserBook method in UserBookServiceImpl is called with id: {}", id);
+
+        UserBook userBook = findById(id);
+
+        try {
+            userBookRepository.delete(userBook);
+            eventPublisher.publishEvent(new UserBookStatusChangedEvent(userBook.getUserId(), userBook.getId(), userBook.getCatalogBookId(),
+                    userBook.getStatus(), null, UserBookStatusChangedEvent.readOn(userBook), null, userBook.getRating(), null));
+            log.info("UserBook deleted successfully in UserBookServiceImpl");
+            return "delete successfully";
+        } catch (Exception e) {
+            log.error("exception in deleting user book: {}", e.getMessage());
+            throw new CustomException("Error in deleting user book", HttpStatus.INTERNAL_SERVER_ERROR.value());
+        }
+    }
+
+    @Override
+    public CursorPageDTO<UserBookShelfItemDTO> getShelf(Integer userId, BookStatus status, CursorPageRequestDTO cursorPageRequestDTO, HttpServletRequest request, Jwt jwt) {
+        log.info("getShelf method in UserBookServiceImpl is called with userId: {}, status: {}, data: {}", userId, status, cursorPageRequestDTO);
+
+        int size = PaginationUtil.getCursorPageSize(cursorPageRequestDTO);
+        Limit limit = Limit.of(size + 1);
+        KeysetCursor cursor = cursorPageRequestDTO.getAfter() != null ? PaginationUtil.decodeCursor(cursorPageRequestDTO.getAfter()) : null;
+
+        List<UserBookShelfView> rows;
+        if (status != null) {
+            rows = cursor == null
+                    ? userBookRepository.findShelf(userId, status.name(), limit)
+                    : userBookRepository.findShelfAfter(userId, status.name(), cursor.getPosition(), cursor.getId(), limit);
+        } else {
+            rows = cursor == null
+                    ? userBookRepository.findLibrary(userId, limit)
+                    : userBookRepository.findLibraryAfter(userId, cursor.getPosition(), cursor.getId(), limit);
+        }
+
+        List<UserBookShelfItemDTO> items = rows.stream().map(UserBookMapper::toShelfItemDTO).toList();
+
+        return PaginationUtil.getCursorPage(items, size, cursor != null,
+                item -> PaginationUtil.encodeCursor(item.getUpdatedAt(), item.getId()));
+    }
+
+    @Override
+    public Map<BookStatus, Long> getShelfCounts(Integer userId, HttpServletRequest request, Jwt jwt) {
+        log.info("getShelfCounts method in UserBookServiceImpl is called with userId: {}", userId);
+
+        Map<BookStatus, Long> counts = new EnumMap<>(BookStatus.class);
+        for (BookStatus status : BookStatus.values()) {
+            counts.put(status, 0L);
+        }
+        for (Object[] row : userBookRepository.countByStatus(userId)) {
+            counts.put(BookStatus.valueOf((String) row[0]), (Long) row[1]);
+        }
+
+        return counts;
+    }
+
+    private UserBook findById(Integer id) {
+        return userBookRepository.findById(id).orElseThrow(() -> {
+            log.error("UserBook id not found in UserBookServiceImpl");
+            return new CustomException("UserBook id not found in UserBookServiceImpl", HttpStatus.NOT_FOUND.value());
+        });
+    }
+
+    /* A book marked read without a finish date counts as finished on the day it was marked. */
+    private void defaultFinishDate(UserBook userBook, String previousStatus) {
+        if (BookStatus.READ.name().equals(userBook.getStatus()) && !BookStatus.READ.name().equals(previousStatus)
+                && userBook.getFinishDate() == null) {
+            userBook.setFinishDate(LocalDate.now());
+        }
+    }
+
+    private void publishStatusChange(UserBook userBook, String previousStatus, LocalDate previousReadOn, Integer previousRating) {
+        LocalDate readOn = UserBookStatusChangedEvent.readOn(userBook);
+        if (!Objects.equals(previousStatus, userBook.getStatus()) || !Objects.equals(previousReadOn, readOn)
+                || !Objects.equals(previousRating, userBook.getRating())) {
+            eventPublisher.publishEvent(new UserBookStatusChangedEvent(userBook.getUserId(), userBook.getId(), userBook.getCatalogBookId(),
+                    previousStatus, userBook.getStatus(), previousReadOn, readOn, previousRating, userBook.getRating()));
+        }
+    }
+
+    private UserBook fromCreateDTO(UserBookCreateDTO userBookCreateDTO) {
+        return UserBookMapper.fromCreateDTO(userBookCreateDTO);
+    }
+
+    private UserBook fromUpdateDTO(UserBookUpdateDTO userBookUpdateDTO, UserBook userBook) {
+        return UserBookMapper.fromUpdateDTO(userBookUpdateDTO, userBook);
+    }
+
+    private UserBookDTO convertToDTO(UserBook userBook) {
+        return UserBookMapper.toDTO(userBook);
+    }
+}
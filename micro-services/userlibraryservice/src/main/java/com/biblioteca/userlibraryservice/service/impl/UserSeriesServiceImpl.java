@@ -5,6 +5,7 @@ import com.biblioteca.userlibraryservice.dto.userSeries.UserSeriesDTO;
 import com.biblioteca.userlibraryservice.dto.userSeries.UserSeriesUpdateDTO;
 import com.biblioteca.userlibraryservice.entity.UserSeries;
 import com.biblioteca.userlibraryservice.repository.UserSeriesRepository;
+import com.biblioteca.userlibraryservice.series.SeriesProgressTracker;
 import com.biblioteca.userlibraryservice.service.UserSeriesService;
 import com.biblioteca.userlibraryservice.util.exception.CustomException;
 import com.biblioteca.userlibraryservice.util.mapper.UserSeriesMapper;
@@ -16,8 +17,6 @@ import org.springframework.http.HttpStatus;
 import org.springframework.security.oauth2.jwt.Jwt;
 import org.springframework.stereotype.Service;
 
-import java.math.BigDecimal;
-import java.math.RoundingMode;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
@@ -27,6 +26,7 @@ import java.util.Optional;
 @RequiredArgsConstructor
 public class UserSeriesServiceImpl implements UserSeriesService {
     private final UserSeriesRepository userSeriesRepository;
+    private final SeriesProgressTracker seriesProgressTracker;
 
 
     @Override
@@ -44,23 +44,13 @@ public class UserSeriesServiceImpl implements UserSeriesService {
 
         UserSeries userSeries = fromCreateDTO(userSeriesCreateDTO);
 
-        if(userSeriesCreateDTO.getSeriesTotalBooks() != null && userSeriesCreateDTO.getSeriesTotalBooks() > 0 && userSeriesCreateDTO.getBooksRead() != null && userSeriesCreateDTO.getBooksRead() > 0) {
-            BigDecimal booksRead = BigDecimal.valueOf(userSeriesCreateDTO.getBooksRead());
-            BigDecimal totalBooks = BigDecimal.valueOf(userSeriesCreateDTO.getSeriesTotalBooks());
-
-            BigDecimal completionPercentage = booksRead
-                    .divide(totalBooks, 2, RoundingMode.HALF_UP)
-                    .multiply(BigDecimal.valueOf(100));
-
-            userSeries.setCompletionPercentage(completionPercentage);
-        }else{
-            userSeries.setCompletionPercentage(null);
-        }
-
         userSeries.setUserId(userSeriesCreateDTO.getUserId());
         userSeries.setCatalogSeriesId(userSeriesCreateDTO.getCatalogSeriesId());
 
         try{
+            /* Progress is derived from the user's books once the row exists; client counts are ignored. */
+            userSeriesRepository.saveAndFlush(userSeries);
+            seriesProgressTracker.refresh(userSeries);
             userSeriesRepository.save(userSeries);
 
             log.info("UserSeries created successfully in UserSeriesServiceImpl");
@@ -102,7 +92,7 @@ public class UserSeriesServiceImpl implements UserSeriesService {
     public UserSeriesDTO updateUserSeries(UserSeriesUpdateDTO userSeriesUpdateDTO, HttpServletRequest request, Jwt jwt) {
         log.info("updateUserSeries method in UserSeriesServiceImpl is called with data: {}", userSeriesUpdateDTO.toString());
 
-        UserSeries existing = findById(userSeriesUpdateDTO.getUserId());
+        UserSeries existing = findById(userSeriesUpdateDTO.getId());
 
         if(!Objects.equals(existing.getUserId(), userSeriesUpdateDTO.getUserId()) && !Objects.equals(existing.getCatalogSeriesId(), userSeriesUpdateDTO.getCatalogSeriesId())){
             log.error("UserSeries update can not be performed on different user series");
@@ -111,20 +101,8 @@ public class UserSeriesServiceImpl implements UserSeriesService {
 
         UserSeries newUserSeries = fromUpdateDTO(userSeriesUpdateDTO, existing);
 
-        if(userSeriesUpdateDTO.getSeriesTotalBooks() != null && userSeriesUpdateDTO.getSeriesTotalBooks() > 0 && userSeriesUpdateDTO.getBooksRead() != null && userSeriesUpdateDTO.getBooksRead() > 0) {
-            BigDecimal booksRead = BigDecimal.valueOf(userSeriesUpdateDTO.getBooksRead());
-            BigDecimal totalBooks = BigDecimal.valueOf(userSeriesUpdateDTO.getSeriesTotalBooks());
-
-            BigDecimal completionPercentage = booksRead
-                    .divide(totalBooks, 2, RoundingMode.HALF_UP)
-                    .multiply(BigDecimal.valueOf(100));
-
-            newUserSeries.setCompletionPercentage(completionPercentage);
-        }else{
-            newUserSeries.setCompletionPercentage(null);
-        }
-
         try{
+            seriesProgressTracker.refresh(newUserSeries);
             userSeriesRepository.save(newUserSeries);
             log.info("UserSeries updated successfully in UserSeriesServiceImpl");
             return convertToDTO(newUserSeries);
@@ -0,0 +1,149 @@
+package com.biblioteca.userlibraryservice.service.impl;
+
+import com.biblioteca.userlibraryservice.dto.wishlists.PriceAlertDTO;
+import com.biblioteca.userlibraryservice.dto.wishlists.WishlistCreateDTO;
+import com.biblioteca.userlibraryservice.dto.wishlists.WishlistDTO;
+import com.biblioteca.userlibraryservice.dto.wishlists.WishlistUpdateDTO;
+import com.biblioteca.userlibraryservice.entity.UserWishlist;
+import com.biblioteca.userlibraryservice.repository.UserWishlistRepository;
+import com.biblioteca.userlibraryservice.service.WishlistService;
+import com.biblioteca.userlibraryservice.util.exception.CustomException;
+import com.biblioteca.userlibraryservice.util.mapper.WishlistMapper;
+import com.biblioteca.userlibraryservice.wishlist.PriceAlertEvaluator;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.transaction.Transactional;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.stereotype.Service;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Objects;
+
+@Service
+@Slf4j
+@RequiredArgsConstructor
+public class WishlistServiceImpl implements WishlistService {
+    private final UserWishlistRepository userWishlistRepository;
+    private final PriceAlertEvaluator priceAlertEvaluator;
+
+    @Override
+    @Transactional
+    public WishlistDTO createWishlistItem(WishlistCreateDTO wishlistCreateDTO, HttpServletRequest request, Jwt jwt) {
+        log.info("createWishlistItem method in WishlistServiceImpl is called with data: {}", wishlistCreateDTO.toString());
+
+        if (userWishlistRepository.findByUserIdAndCatalogBookId(wishlistCreateDTO.getUserId(), wishlistCreateDTO.getCatalogBookId()).isPresent()) {
+            log.error("Wishlist item already exists in WishlistServiceImpl");
+            throw new CustomException("Book already exist in wishlist for user", HttpStatus.CONFLICT.value());
+        }
+
+        UserWishlist userWishlist = WishlistMapper.fromCreateDTO(wishlistCreateDTO);
+
+        try {
+            userWishlistRepository.saveAndFlush(userWishlist);
+            checkPrice(userWishlist);
+
+            log.info("Wishlist item created successfully in WishlistServiceImpl");
+
+            return WishlistMapper.toDTO(userWishlist);
+        } catch (Exception e) {
+            log.error("exception in creating wishlist item: {}", e.getMessage());
+            throw new CustomException("Error in creating wishlist item", HttpStatus.INTERNAL_SERVER_ERROR.value());
+        }
+    }
+
+    @Override
+    public List<WishlistDTO> getWishlistByUserId(Integer userId, HttpServletRequest request, Jwt jwt) {
+        log.info("getWishlistByUserId method in WishlistServiceImpl is called with userId: {}", userId);
+
+        return userWishlistRepository.findByUserIdOrderByPriorityAscAddedDateDesc(userId).stream()
+                .map(WishlistMapper::toDTO)
+                .toList();
+    }
+
+    @Override
+    public WishlistDTO getWishlistItemById(Integer id, HttpServletRequest request, Jwt jwt) {
+        log.info("getWishlistItemById method in WishlistServiceImpl is called with id: {}", id);
+
+        return WishlistMapper.toDTO(findById(id));
+    }
+
+    @Override
+    @Transactional
+    public WishlistDTO updateWishlistItem(WishlistUpdateDTO wishlistUpdateDTO, HttpServletRequest request, Jwt jwt) {
+        log.info("updateWishlistItem method in WishlistServiceImpl is called with data: {}", wishlistUpdateDTO.toString());
+
+        UserWishlist userWishlist = findById(wishlistUpdateDTO.getId());
+        BigDecimal previousThreshold = userWishlist.getPriceAlertThreshold();
+        String previousCurrency = userWishlist.getTargetCurrency();
+
+        WishlistMapper.fromUpdateDTO(wishlistUpdateDTO, userWishlist);
+
+        /* A new threshold or currency starts a new watch. */
+        boolean watchChanged = !sameAmount(previousThreshold, userWishlist.getPriceAlertThreshold())
+                || !Objects.equals(previousCurrency, userWishlist.getTargetCurrency());
+        if (watchChanged) {
+            userWishlist.setLastAlertedPrice(null);
+            userWishlist.setLastAlertedAt(null);
+        }
+
+        try {
+            userWishlistRepository.saveAndFlush(userWishlist);
+            if (watchChanged) {
+                checkPrice(userWishlist);
+            }
+
+            log.info("Wishlist item updated successfully in WishlistServiceImpl");
+
+            return WishlistMapper.toDTO(userWishlist);
+        } catch (Exception e) {
+            log.error("exception in updating wishlist item: {}", e.getMessage());
+            throw new CustomException("Error in updating wishlist item", HttpStatus.INTERNAL_SERVER_ERROR.value());
+        }
+    }
+
+    @Override
+    @Transactional
+    public String deleteWishlistItem(Integer id, HttpServletRequest request, Jwt jwt) {
+        log.info("deleteWishlistItem method in WishlistServiceImpl is called with id: {}", id);
+
+        UserWishlist userWishlist = findById(id);
+
+        try {
+            userWishlistRepository.delete(userWishlist);
+            log.info("Wishlist item deleted successfully in WishlistServiceImpl");
+            return "delete successfully";
+        } catch (Exception e) {
+            log.error("exception in deleting wishlist item: {}", e.getMessage());
+            throw new CustomException("Error in deleting wishlist item", HttpStatus.INTERNAL_SERVER_ERROR.value());
+        }
+    }
+
+    /* The book may already be cheap enough; later drops arrive through catalog replication. */
+    private void checkPrice(UserWishlist userWishlist) {
+        if (userWishlist.getPriceAlertThreshold() == null) {
+            return;
+        }
+
+        for (PriceAlertDTO alert : priceAlertEvaluator.evaluateBooks(List.of(userWishlist.getCatalogBookId()))) {
+            if (alert.getWishlistId().equals(userWishlist.getId())) {
+                userWishlist.setLastAlertedPrice(alert.getPrice());
+                userWishlist.setLastAlertedAt(LocalDateTime.now());
+            }
+        }
+    }
+
+    private UserWishlist findById(Integer id) {
+        return userWishlistRepository.findById(id).orElseThrow(() -> {
+            log.error("Wishlist id not found in WishlistServiceImpl");
+            return new CustomException("Wishlist id not found in WishlistServiceImpl", HttpStatus.NOT_FOUND.value());
+        });
+    }
+
+    private static boolean sameAmount(BigDecimal a, BigDecimal b) {
+        return a == null ? b == null : b != null && a.compareTo(b) == 0;
+    }
+}
@@ -0,0 +1,120 @@
+package com.biblioteca.userlibraryservice.stats;
+
+import com.biblioteca.userlibraryservice.progress.ReadingSessionsRecordedEvent;
+import com.biblioteca.userlibraryservice.progress.ReadingSessionsRecordedEvent.RecordedSession;
+import com.biblioteca.userlibraryservice.progress.UserBookStatusChangedEvent;
+import com.biblioteca.userlibraryservice.repository.ReadingProgressRepository;
+import com.biblioteca.userlibraryservice.repository.ReadingStatsRepository;
+import com.biblioteca.userlibraryservice.repository.ReadingStatsRepository.MonthTotals;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.util.*;
+
+/*
+ * Keeps the statistics rollups in step with user books and reading sessions. Runs on the same
+ * events as ReadingProgressEngine, in the publishing transaction, and only applies deltas:
+ * one upsert per touched user and month, plus the genres of a book entering or leaving the
+ * read shelf. The nightly ReadingProgressReconciler rebuilds the rollups of every user to
+ * pick up catalog genre changes.
+ */
+@Component
+@RequiredArgsConstructor
+public class ReadingStatsProjector {
+    private final ReadingStatsRepository readingStatsRepository;
+    private final ReadingProgressRepository readingProgressRepository;
+
+    @EventListener
+    public void onReadingSessionsRecorded(ReadingSessionsRecordedEvent event) {
+        Map<Integer, Map<LocalDate, long[]>> byUserAndMonth = new TreeMap<>();
+        for (RecordedSession session : event.sessions()) {
+            long[] totals = byUserAndMonth.computeIfAbsent(session.userId(), userId -> new TreeMap<>())
+                    .computeIfAbsent(session.sessionDate().withDayOfMonth(1), month -> new long[3]);
+            totals[0] += session.pagesRead();
+            totals[1] += session.minutes();
+            totals[2]++;
+        }
+
+        byUserAndMonth.forEach((userId, months) -> {
+            long[] userTotals = new long[3];
+            months.forEach((month, totals) -> {
+                readingStatsRepository.addToMonth(userId, month, sessionDeltas(totals[0], totals[1], totals[2]));
+                for (int i = 0; i < userTotals.length; i++) {
+                    userTotals[i] += totals[i];
+                }
+            });
+            readingStatsRepository.addToTotals(userId, sessionDeltas(userTotals[0], userTotals[1], userTotals[2]));
+        });
+    }
+
+    @EventListener
+    public void onUserBookStatusChanged(UserBookStatusChangedEvent event) {
+        Map<String, Long> totals = new LinkedHashMap<>();
+
+        if (!Objects.equals(event.previousStatus(), event.status())) {
+            if (event.previousStatus() != null) {
+                totals.merge(ReadingStatsRepository.statusColumn(event.previousStatus()), -1L, Long::sum);
+            }
+            if (event.status() != null) {
+                totals.merge(ReadingStatsRepository.statusColumn(event.status()), 1L, Long::sum);
+            }
+        }
+
+        if (!Objects.equals(event.previousRating(), event.rating())) {
+            if (event.previousRating() != null) {
+                totals.merge(ReadingStatsRepository.RATING_SUM, (long) -event.previousRating(), Long::sum);
+                totals.merge(ReadingStatsRepository.RATING_COUNT, -1L, Long::sum);
+            }
+            if (event.rating() != null) {
+                totals.merge(ReadingStatsRepository.RATING_SUM, (long) event.rating(), Long::sum);
+                totals.merge(ReadingStatsRepository.RATING_COUNT, 1L, Long::sum);
+            }
+        }
+
+        /* A deleted book takes its sessions with it (ON DELETE CASCADE); they are still visible here. */
+        if (event.status() == null) {
+            for (MonthTotals month : readingStatsRepository.findBookSessionTotals(event.userBookId())) {
+                readingStatsRepository.addToMonth(event.userId(), month.periodMonth(),
+                        sessionDeltas(-month.pagesRead(), -month.minutesRead(), -month.sessions()));
+                totals.merge(ReadingStatsRepository.PAGES_READ, -month.pagesRead(), Long::sum);
+                totals.merge(ReadingStatsRepository.MINUTES_READ, -month.minutesRead(), Long::sum);
+                totals.merge(ReadingStatsRepository.SESSIONS_COUNT, -month.sessions(), Long::sum);
+            }
+        }
+
+        if (!totals.isEmpty()) {
+            readingStatsRepository.addToTotals(event.userId(), totals);
+        }
+
+        if (!Objects.equals(event.previousReadOn(), event.readOn())) {
+            if (event.previousReadOn() != null) {
+                readingStatsRepository.addToMonth(event.userId(), event.previousReadOn(), Map.of(ReadingStatsRepository.BOOKS_FINISHED, -1L));
+            }
+            if (event.readOn() != null) {
+                readingStatsRepository.addToMonth(event.userId(), event.readOn(), Map.of(ReadingStatsRepository.BOOKS_FINISHED, 1L));
+            }
+
+            int genreDelta = (event.readOn() != null ? 1 : 0) - (event.previousReadOn() != null ? 1 : 0);
+            if (genreDelta != 0) {
+                List<Integer> genreIds = readingProgressRepository.findGenreIds(event.catalogBookId());
+                if (!genreIds.isEmpty()) {
+                    readingStatsRepository.addToGenres(event.userId(), genreIds, genreDelta);
+                }
+            }
+        }
+    }
+
+    public void rebuild(Integer userId) {
+        readingStatsRepository.rebuild(userId);
+    }
+
+    private static Map<String, Long> sessionDeltas(long pagesRead, long minutesRead, long sessions) {
+        Map<String, Long> deltas = new LinkedHashMap<>();
+        deltas.put(ReadingStatsRepository.PAGES_READ, pagesRead);
+        deltas.put(ReadingStatsRepository.MINUTES_READ, minutesRead);
+        deltas.put(ReadingStatsRepository.SESSIONS_COUNT, sessions);
+        return deltas;
+    }
+}
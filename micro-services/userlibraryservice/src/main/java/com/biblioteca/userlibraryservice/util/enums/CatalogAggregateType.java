@@ -0,0 +1,9 @@
+package com.biblioteca.userlibraryservice.util.enums;
+
+public enum CatalogAggregateType {
+    BOOK,
+    AUTHOR,
+    SERIES,
+    GENRE,
+    PUBLISHER,
+}
@@ -0,0 +1,6 @@
+package com.biblioteca.userlibraryservice.util.enums;
+
+public enum CatalogEventType {
+    UPSERT,
+    DELETE,
+}
@@ -0,0 +1,10 @@
+package com.biblioteca.userlibraryservice.util.enums;
+
+/* Stored in lower case in reading_collections.collection_type. */
+public enum CollectionType {
+    READING_LIST,
+    WISHLIST,
+    GIFT_IDEAS,
+    PRICE_WATCH,
+    SEASONAL
+}
@@ -0,0 +1,7 @@
+package com.biblioteca.userlibraryservice.util.enums;
+
+public enum GoalPeriod {
+    WEEKLY,
+    MONTHLY,
+    YEARLY
+}
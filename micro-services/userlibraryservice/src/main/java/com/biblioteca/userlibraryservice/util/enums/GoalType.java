@@ -0,0 +1,8 @@
+package com.biblioteca.userlibraryservice.util.enums;
+
+public enum GoalType {
+    BOOKS_COUNT,
+    PAGES_COUNT,
+    HOURS_COUNT,
+    GENRE_VARIETY
+}
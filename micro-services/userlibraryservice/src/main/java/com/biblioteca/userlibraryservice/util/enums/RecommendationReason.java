@@ -0,0 +1,10 @@
+package com.biblioteca.userlibraryservice.util.enums;
+
+/* The strongest signal behind a recommended book. */
+public enum RecommendationReason {
+    AUTHOR,
+    GENRE,
+    PUBLISHER,
+    CO_READ,
+    POPULAR
+}
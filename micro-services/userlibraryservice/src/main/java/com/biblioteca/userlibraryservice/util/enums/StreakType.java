@@ -0,0 +1,5 @@
+package com.biblioteca.userlibraryservice.util.enums;
+
+public enum StreakType {
+    DAILY_READING
+}
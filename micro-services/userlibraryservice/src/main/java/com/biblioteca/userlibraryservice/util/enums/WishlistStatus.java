@@ -0,0 +1,16 @@
+package com.biblioteca.userlibraryservice.util.enums;
+
+/* Stored in lower case in user_wishlists.wishlist_status. */
+public enum WishlistStatus {
+    PLANNED,
+    PRIORITY_HIGH,
+    PRIORITY_MEDIUM,
+    PRIORITY_LOW,
+    GIFT_IDEA,
+    PRICE_WATCH,
+    PRE_ORDER,
+    MAYBE,
+    SEASONAL,
+    RESEARCH,
+    COMPLETED
+}
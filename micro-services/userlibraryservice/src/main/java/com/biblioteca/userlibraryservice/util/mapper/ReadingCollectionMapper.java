@@ -0,0 +1,94 @@
+package com.biblioteca.userlibraryservice.util.mapper;
+
+import com.biblioteca.userlibraryservice.dto.readingCollections.CollectionBookDTO;
+import com.biblioteca.userlibraryservice.dto.readingCollections.ReadingCollectionCreateDTO;
+import com.biblioteca.userlibraryservice.dto.readingCollections.ReadingCollectionDTO;
+import com.biblioteca.userlibraryservice.dto.readingCollections.ReadingCollectionUpdateDTO;
+import com.biblioteca.userlibraryservice.entity.ReadingCollection;
+import com.biblioteca.userlibraryservice.repository.projection.CollectionBookView;
+import com.biblioteca.userlibraryservice.util.enums.BookStatus;
+import com.biblioteca.userlibraryservice.util.enums.CollectionType;
+
+import java.time.LocalDateTime;
+import java.util.Locale;
+
+public class ReadingCollectionMapper {
+    public static ReadingCollectionDTO toDTO(ReadingCollection readingCollection, long bookCount) {
+        return ReadingCollectionDTO.builder()
+                .id(readingCollection.getId())
+                .userId(readingCollection.getUserId())
+                .name(readingCollection.getName())
+                .description(readingCollection.getDescription())
+                .collectionType(toType(readingCollection.getCollectionType()))
+                .isPublic(readingCollection.getIsPublic())
+                .isDefault(readingCollection.getIsDefault())
+                .sortOrder(readingCollection.getSortOrder())
+                .bookCount(bookCount)
+                .createdAt(readingCollection.getCreatedAt())
+                .updatedAt(readingCollection.getUpdatedAt())
+                .build();
+    }
+
+    public static ReadingCollection fromCreateDTO(ReadingCollectionCreateDTO readingCollectionCreateDTO) {
+        LocalDateTime now = LocalDateTime.now();
+
+        return ReadingCollection.builder()
+                .userId(readingCollectionCreateDTO.getUserId())
+                .name(readingCollectionCreateDTO.getName())
+                .description(readingCollectionCreateDTO.getDescription())
+                .collectionType(fromType(readingCollectionCreateDTO.getCollectionType() != null
+                        ? readingCollectionCreateDTO.getCollectionType() : CollectionType.READING_LIST))
+                .isPublic(Boolean.TRUE.equals(readingCollectionCreateDTO.getIsPublic()))
+                .isDefault(Boolean.TRUE.equals(readingCollectionCreateDTO.getIsDefault()))
+                .sortOrder(readingCollectionCreateDTO.getSortOrder() != null ? readingCollectionCreateDTO.getSortOrder() : 0)
+                .createdAt(now)
+                .updatedAt(now)
+                .build();
+    }
+
+    public static ReadingCollection fromUpdateDTO(ReadingCollectionUpdateDTO readingCollectionUpdateDTO, ReadingCollection readingCollection) {
+        readingCollection.setName(readingCollectionUpdateDTO.getName());
+        readingCollection.setDescription(readingCollectionUpdateDTO.getDescription());
+        if (readingCollectionUpdateDTO.getCollectionType() != null) {
+            readingCollection.setCollectionType(fromType(readingCollectionUpdateDTO.getCollectionType()));
+        }
+        if (readingCollectionUpdateDTO.getIsPublic() != null) {
+            readingCollection.setIsPublic(readingCollectionUpdateDTO.getIsPublic());
+        }
+        if (readingCollectionUpdateDTO.getIsDefault() != null) {
+            readingCollection.setIsDefault(readingCollectionUpdateDTO.getIsDefault());
+        }
+        if (readingCollectionUpdateDTO.getSortOrder() != null) {
+            readingCollection.setSortOrder(readingCollectionUpdateDTO.getSortOrder());
+        }
+        readingCollection.setUpdatedAt(LocalDateTime.now());
+
+        return readingCollection;
+    }
+
+    public static CollectionBookDTO toBookDTO(CollectionBookView view) {
+        return CollectionBookDTO.builder()
+                .id(view.getId())
+                .collectionId(view.getCollectionId())
+                .userBookId(view.getUserBookId())
+                .displayOrder(view.getDisplayOrder())
+                .notes(view.getNotes())
+                .addedAt(view.getAddedAt())
+                .catalogBookId(view.getCatalogBookId())
+                .status(BookStatus.valueOf(view.getStatus()))
+                .rating(view.getRating())
+                .title(view.getTitle())
+                .authorNames(view.getAuthorNames())
+                .genreNames(view.getGenreNames())
+                .coverImageId(view.getCoverImageId())
+                .build();
+    }
+
+    private static CollectionType toType(String collectionType) {
+        return CollectionType.valueOf(collectionType.toUpperCase(Locale.ROOT));
+    }
+
+    private static String fromType(CollectionType collectionType) {
+        return collectionType.name().toLowerCase(Locale.ROOT);
+    }
+}
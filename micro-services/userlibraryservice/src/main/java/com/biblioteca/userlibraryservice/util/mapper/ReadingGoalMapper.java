@@ -0,0 +1,45 @@
+package com.biblioteca.userlibraryservice.util.mapper;
+
+import com.biblioteca.userlibraryservice.dto.readingGoals.ReadingGoalDTO;
+import com.biblioteca.userlibraryservice.dto.readingGoals.ReadingStreakDTO;
+import com.biblioteca.userlibraryservice.entity.ReadingGoal;
+import com.biblioteca.userlibraryservice.entity.ReadingStreak;
+import com.biblioteca.userlibraryservice.util.enums.GoalPeriod;
+import com.biblioteca.userlibraryservice.util.enums.GoalType;
+import com.biblioteca.userlibraryservice.util.enums.StreakType;
+
+import java.time.LocalDate;
+
+public class ReadingGoalMapper {
+    public static ReadingGoalDTO toDTO(ReadingGoal readingGoal) {
+        return ReadingGoalDTO.builder()
+                .id(readingGoal.getId())
+                .userId(readingGoal.getUserId())
+                .goalType(GoalType.valueOf(readingGoal.getGoalType()))
+                .targetValue(readingGoal.getTargetValue())
+                .currentValue(readingGoal.getCurrentValue())
+                .progressMinutes(readingGoal.getProgressMinutes())
+                .goalPeriod(GoalPeriod.valueOf(readingGoal.getGoalPeriod()))
+                .startDate(readingGoal.getStartDate())
+                .endDate(readingGoal.getEndDate())
+                .isActive(readingGoal.getIsActive())
+                .isCompleted(readingGoal.getIsCompleted())
+                .completedAt(readingGoal.getCompletedAt())
+                .createdAt(readingGoal.getCreatedAt())
+                .updatedAt(readingGoal.getUpdatedAt())
+                .build();
+    }
+
+    public static ReadingStreakDTO toStreakDTO(ReadingStreak readingStreak, LocalDate today) {
+        boolean current = readingStreak.getLastActivityDate() != null && !readingStreak.getLastActivityDate().isBefore(today.minusDays(1));
+
+        return ReadingStreakDTO.builder()
+                .userId(readingStreak.getUserId())
+                .streakType(StreakType.valueOf(readingStreak.getStreakType()))
+                .currentStreak(current ? readingStreak.getCurrentStreak() : 0)
+                .longestStreak(readingStreak.getLongestStreak())
+                .lastActivityDate(readingStreak.getLastActivityDate())
+                .streakStartDate(readingStreak.getStreakStartDate())
+                .build();
+    }
+}
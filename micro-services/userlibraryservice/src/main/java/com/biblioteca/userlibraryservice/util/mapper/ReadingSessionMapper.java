@@ -0,0 +1,28 @@
+package com.biblioteca.userlibraryservice.util.mapper;
+
+import com.biblioteca.userlibraryservice.dto.readingSessions.ReadingSessionDTO;
+import com.biblioteca.userlibraryservice.entity.ReadingSession;
+
+public class ReadingSessionMapper {
+    public static ReadingSessionDTO toDTO(ReadingSession readingSession) {
+        return ReadingSessionDTO.builder()
+                .id(readingSession.getId())
+                .userBookId(readingSession.getUserBookId())
+                .clientSessionId(readingSession.getClientSessionId())
+                .sessionDate(readingSession.getSessionDate())
+                .startTime(readingSession.getStartTime())
+                .endTime(readingSession.getEndTime())
+                .startPage(readingSession.getStartPage())
+                .endPage(readingSession.getEndPage())
+                .pagesRead(readingSession.getPagesRead())
+                .sessionDurationMinutes(readingSession.getSessionDurationMinutes())
+                .location(readingSession.getLocation())
+                .mood(readingSession.getMood())
+                .comprehensionRating(readingSession.getComprehensionRating())
+                .focusRating(readingSession.getFocusRating())
+                .notes(readingSession.getNotes())
+                .weather(readingSession.getWeather())
+                .createdAt(readingSession.getCreatedAt())
+                .build();
+    }
+}
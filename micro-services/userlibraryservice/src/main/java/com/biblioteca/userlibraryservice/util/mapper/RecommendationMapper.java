@@ -0,0 +1,31 @@
+package com.biblioteca.userlibraryservice.util.mapper;
+
+import com.biblioteca.userlibraryservice.dto.recommendations.RecommendationDTO;
+import com.biblioteca.userlibraryservice.dto.recommendations.RecommendationsDTO;
+import com.biblioteca.userlibraryservice.repository.RecommendationRepository.RecommendedBook;
+import com.biblioteca.userlibraryservice.util.enums.RecommendationReason;
+
+import java.util.List;
+
+public class RecommendationMapper {
+    public static RecommendationsDTO toDTO(Integer userId, List<RecommendedBook> books) {
+        return RecommendationsDTO.builder()
+                .userId(userId)
+                .computedAt(books.isEmpty() ? null : books.get(0).computedAt())
+                .recommendations(books.stream().map(RecommendationMapper::toDTO).toList())
+                .build();
+    }
+
+    public static RecommendationDTO toDTO(RecommendedBook book) {
+        return RecommendationDTO.builder()
+                .catalogBookId(book.bookId())
+                .title(book.title())
+                .authorNames(book.authorNames())
+                .genreNames(book.genreNames())
+                .coverImageId(book.coverImageId())
+                .averageRating(book.averageRating())
+                .score(book.score())
+                .reason(RecommendationReason.valueOf(book.reason()))
+                .build();
+    }
+}
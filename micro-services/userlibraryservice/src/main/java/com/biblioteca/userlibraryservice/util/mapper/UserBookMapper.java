@@ -2,11 +2,14 @@ package com.biblioteca.userlibraryservice.util.mapper;
 
 import com.biblioteca.userlibraryservice.dto.userBooks.UserBookCreateDTO;
 import com.biblioteca.userlibraryservice.dto.userBooks.UserBookDTO;
+import com.biblioteca.userlibraryservice.dto.userBooks.UserBookShelfItemDTO;
 import com.biblioteca.userlibraryservice.dto.userBooks.UserBookUpdateDTO;
 import com.biblioteca.userlibraryservice.entity.UserBook;
+import com.biblioteca.userlibraryservice.repository.projection.UserBookShelfView;
 import com.biblioteca.userlibraryservice.util.enums.BookStatus;
 import com.biblioteca.userlibraryservice.util.enums.Format;
 
+import java.math.BigDecimal;
 import java.time.LocalDateTime;
 
 public class UserBookMapper {
@@ -22,7 +25,7 @@ public class UserBookMapper {
                 .startDate(userBook.getStartDate())
                 .finishDate(userBook.getFinishDate())
                 .isFavorite(userBook.getIsFavorite())
-                .readingFormat(Format.valueOf(userBook.getReadingFormat()))
+                .readingFormat(userBook.getReadingFormat() != null ? Format.valueOf(userBook.getReadingFormat()) : null)
                 .notes(userBook.getNotes())
                 .privateNotes(userBook.getPrivateNotes())
                 .firstAcquisitionDate(userBook.getFirstAcquisitionDate())
@@ -35,24 +38,28 @@ public class UserBookMapper {
     }
 
     public static UserBook fromCreateDTO(UserBookCreateDTO userBookCreateDTO){
+        LocalDateTime now = LocalDateTime.now();
+
         return UserBook.builder()
 //                .userId(userBookCreateDTO.getUserId())
 //                .catalogBookId(userBookCreateDTO.getCatalogBookId())
                 .status(userBookCreateDTO.getStatus().name())
                 .rating(userBookCreateDTO.getRating())
-                .progressPercentage(userBookCreateDTO.getProgressPercentage())
-                .currentPage(userBookCreateDTO.getCurrentPage())
+                .progressPercentage(userBookCreateDTO.getProgressPercentage() != null ? userBookCreateDTO.getProgressPercentage() : BigDecimal.ZERO)
+                .currentPage(userBookCreateDTO.getCurrentPage() != null ? userBookCreateDTO.getCurrentPage() : 0)
                 .startDate(userBookCreateDTO.getStartDate())
                 .finishDate(userBookCreateDTO.getFinishDate())
-                .isFavorite(userBookCreateDTO.getIsFavorite())
-                .readingFormat(userBookCreateDTO.getReadingFormat().name())
+                .isFavorite(Boolean.TRUE.equals(userBookCreateDTO.getIsFavorite()))
+                .readingFormat(userBookCreateDTO.getReadingFormat() != null ? userBookCreateDTO.getReadingFormat().name() : Format.PHYSICAL.name())
                 .notes(userBookCreateDTO.getNotes())
                 .privateNotes(userBookCreateDTO.getPrivateNotes())
                 .firstAcquisitionDate(userBookCreateDTO.getFirstAcquisitionDate())
                 .firstAcquisitionMethod(userBookCreateDTO.getFirstAcquisitionMethod())
-                .sourceType(userBookCreateDTO.getSourceType())
+                .sourceType(userBookCreateDTO.getSourceType() != null ? userBookCreateDTO.getSourceType() : "catalog_existing")
                 .originalSearchQuery(userBookCreateDTO.getOriginalSearchQuery())
-                .createdAt(LocalDateTime.now())
+                .isGiftIdea(Boolean.FALSE)
+                .createdAt(now)
+                .updatedAt(now)
                 .build();
     }
 
@@ -66,7 +73,9 @@ public class UserBookMapper {
         userBook.setStartDate(userBookUpdateDTO.getStartDate());
         userBook.setFinishDate(userBookUpdateDTO.getFinishDate());
         userBook.setIsFavorite(userBookUpdateDTO.getIsFavorite());
-        userBook.setReadingFormat(userBookUpdateDTO.getReadingFormat().name());
+        if (userBookUpdateDTO.getReadingFormat() != null) {
+            userBook.setReadingFormat(userBookUpdateDTO.getReadingFormat().name());
+        }
         userBook.setNotes(userBookUpdateDTO.getNotes());
         userBook.setPrivateNotes(userBookUpdateDTO.getPrivateNotes());
         userBook.setFirstAcquisitionDate(userBookUpdateDTO.getFirstAcquisitionDate());
@@ -76,4 +85,27 @@ public class UserBookMapper {
         userBook.setUpdatedAt(LocalDateTime.now());
         return userBook;
     }
+
+    public static UserBookShelfItemDTO toShelfItemDTO(UserBookShelfView view){
+        return UserBookShelfItemDTO.builder()
+                .id(view.getId())
+                .catalogBookId(view.getCatalogBookId())
+                .status(BookStatus.valueOf(view.getStatus()))
+                .rating(view.getRating())
+                .progressPercentage(view.getProgressPercentage())
+                .currentPage(view.getCurrentPage())
+                .startDate(view.getStartDate())
+                .finishDate(view.getFinishDate())
+                .isFavorite(view.getIsFavorite())
+                .readingFormat(view.getReadingFormat() != null ? Format.valueOf(view.getReadingFormat()) : null)
+                .updatedAt(view.getUpdatedAt())
+                .title(view.getTitle())
+                .subtitle(view.getSubtitle())
+                .authorNames(view.getAuthorNames())
+                .seriesName(view.getSeriesName())
+                .seriesPosition(view.getSeriesPosition())
+                .coverImageId(view.getCoverImageId())
+                .pageCount(view.getPageCount())
+                .build();
+    }
 }
@@ -0,0 +1,94 @@
+package com.biblioteca.userlibraryservice.util.mapper;
+
+import com.biblioteca.userlibraryservice.dto.wishlists.WishlistCreateDTO;
+import com.biblioteca.userlibraryservice.dto.wishlists.WishlistDTO;
+import com.biblioteca.userlibraryservice.dto.wishlists.WishlistUpdateDTO;
+import com.biblioteca.userlibraryservice.entity.UserWishlist;
+import com.biblioteca.userlibraryservice.util.enums.WishlistStatus;
+
+import java.time.LocalDateTime;
+import java.util.Locale;
+
+public class WishlistMapper {
+    public static WishlistDTO toDTO(UserWishlist userWishlist) {
+        return WishlistDTO.builder()
+                .id(userWishlist.getId())
+                .userId(userWishlist.getUserId())
+                .catalogBookId(userWishlist.getCatalogBookId())
+                .wishlistStatus(toStatus(userWishlist.getWishlistStatus()))
+                .priority(userWishlist.getPriority())
+                .targetPrice(userWishlist.getTargetPrice())
+                .targetCurrency(userWishlist.getTargetCurrency())
+                .priceAlertThreshold(userWishlist.getPriceAlertThreshold())
+                .targetAcquisitionDate(userWishlist.getTargetAcquisitionDate())
+                .wishlistCategory(userWishlist.getWishlistCategory())
+                .isGiftIdea(userWishlist.getIsGiftIdea())
+                .giftRecipient(userWishlist.getGiftRecipient())
+                .giftOccasion(userWishlist.getGiftOccasion())
+                .wishlistNotes(userWishlist.getWishlistNotes())
+                .wishlistReason(userWishlist.getWishlistReason())
+                .sourceType(userWishlist.getSourceType())
+                .sourceReference(userWishlist.getSourceReference())
+                .targetReadDate(userWishlist.getTargetReadDate())
+                .lastAlertedPrice(userWishlist.getLastAlertedPrice())
+                .lastAlertedAt(userWishlist.getLastAlertedAt())
+                .addedDate(userWishlist.getAddedDate())
+                .updatedDate(userWishlist.getUpdatedDate())
+                .build();
+    }
+
+    public static UserWishlist fromCreateDTO(WishlistCreateDTO wishlistCreateDTO) {
+        LocalDateTime now = LocalDateTime.now();
+
+        return UserWishlist.builder()
+                .userId(wishlistCreateDTO.getUserId())
+                .catalogBookId(wishlistCreateDTO.getCatalogBookId())
+                .wishlistStatus(fromStatus(wishlistCreateDTO.getWishlistStatus()))
+                .priority(wishlistCreateDTO.getPriority() != null ? wishlistCreateDTO.getPriority() : 3)
+                .targetPrice(wishlistCreateDTO.getTargetPrice())
+                .targetCurrency(wishlistCreateDTO.getTargetCurrency())
+                .priceAlertThreshold(wishlistCreateDTO.getPriceAlertThreshold())
+                .targetAcquisitionDate(wishlistCreateDTO.getTargetAcquisitionDate())
+                .wishlistCategory(wishlistCreateDTO.getWishlistCategory())
+                .isGiftIdea(Boolean.TRUE.equals(wishlistCreateDTO.getIsGiftIdea()))
+                .giftRecipient(wishlistCreateDTO.getGiftRecipient())
+                .giftOccasion(wishlistCreateDTO.getGiftOccasion())
+                .wishlistNotes(wishlistCreateDTO.getWishlistNotes())
+                .wishlistReason(wishlistCreateDTO.getWishlistReason())
+                .sourceType(wishlistCreateDTO.getSourceType() != null ? wishlistCreateDTO.getSourceType() : "manual")
+                .sourceReference(wishlistCreateDTO.getSourceReference())
+                .targetReadDate(wishlistCreateDTO.getTargetReadDate())
+                .addedDate(now)
+                .updatedDate(now)
+                .build();
+    }
+
+    public static UserWishlist fromUpdateDTO(WishlistUpdateDTO wishlistUpdateDTO, UserWishlist userWishlist) {
+        userWishlist.setWishlistStatus(fromStatus(wishlistUpdateDTO.getWishlistStatus()));
+        userWishlist.setPriority(wishlistUpdateDTO.getPriority() != null ? wishlistUpdateDTO.getPriority() : userWishlist.getPriority());
+        userWishlist.setTargetPrice(wishlistUpdateDTO.getTargetPrice());
+        userWishlist.setTargetCurrency(wishlistUpdateDTO.getTargetCurrency());
+        userWishlist.setPriceAlertThreshold(wishlistUpdateDTO.getPriceAlertThreshold());
+        userWishlist.setTargetAcquisitionDate(wishlistUpdateDTO.getTargetAcquisitionDate());
+        userWishlist.setWishlistCategory(wishlistUpdateDTO.getWishlistCategory());
+        userWishlist.setIsGiftIdea(Boolean.TRUE.equals(wishlistUpdateDTO.getIsGiftIdea()));
+        userWishlist.setGiftRecipient(wishlistUpdateDTO.getGiftRecipient());
+        userWishlist.setGiftOccasion(wishlistUpdateDTO.getGiftOccasion());
+        userWishlist.setWishlistNotes(wishlistUpdateDTO.getWishlistNotes());
+        userWishlist.setWishlistReason(wishlistUpdateDTO.getWishlistReason());
+        userWishlist.setSourceType(wishlistUpdateDTO.getSourceType() != null ? wishlistUpdateDTO.getSourceType() : userWishlist.getSourceType());
+        userWishlist.setSourceReference(wishlistUpdateDTO.getSourceReference());
+        userWishlist.setTargetReadDate(wishlistUpdateDTO.getTargetReadDate());
+        userWishlist.setUpdatedDate(LocalDateTime.now());
+
+        return userWishlist;
+    }
+
+    private static WishlistStatus toStatus(String wishlistStatus) {
+        return WishlistStatus.valueOf(wishlistStatus.toUpperCase(Locale.ROOT));
+    }
+
+    private static String fromStatus(WishlistStatus wishlistStatus) {
+        return wishlistStatus.name().toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,29 @@
+package com.biblioteca.userlibraryservice.util.security;
+
+import com.biblioteca.userlibraryservice.util.exception.CustomException;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.oauth2.jwt.Jwt;
+
+/*
+ * The caller's identity as issued by authserver. The subject is the login email; the numeric
+ * user id the library tables are keyed by travels in the user_id claim.
+ */
+public class JwtUtil {
+    public static final String USER_ID_CLAIM = "user_id";
+
+    public static Integer getUserId(Jwt jwt) {
+        Object userId = jwt != null ? jwt.getClaims().get(USER_ID_CLAIM) : null;
+        if (userId instanceof Number number) {
+            return number.intValue();
+        }
+        if (userId instanceof String value && !value.isBlank()) {
+            try {
+                return Integer.valueOf(value);
+            } catch (NumberFormatException e) {
+                throw new CustomException("Token does not identify a user", HttpStatus.FORBIDDEN.value());
+            }
+        }
+
+        throw new CustomException("Token does not identify a user", HttpStatus.FORBIDDEN.value());
+    }
+}
@@ -0,0 +1,108 @@
+package com.biblioteca.userlibraryservice.wishlist;
+
+import com.biblioteca.outbox.OutboxPublisher;
+import com.biblioteca.userlibraryservice.dto.catalogSnapshot.BookSnapshotDTO;
+import com.biblioteca.userlibraryservice.dto.wishlists.PriceAlertDTO;
+import com.biblioteca.userlibraryservice.repository.PriceAlertRepository;
+import com.biblioteca.userlibraryservice.repository.PriceAlertRepository.BookPrice;
+import com.biblioteca.userlibraryservice.repository.PriceAlertRepository.TriggeredAlert;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/*
+ * Turns replicated price changes into wishlist price alerts. Catalog replication reports the
+ * books whose cheapest edition price changed; their watchers are matched, marked and re-armed
+ * in set-based statements of up to BATCH_SIZE books, and every alert is written to the
+ * "price-alerts" outbox topic in one JDBC batch, in the same transaction as the snapshot. The
+ * configured sink delivers them after commit.
+ */
+@Component
+@Slf4j
+@RequiredArgsConstructor
+public class PriceAlertEvaluator {
+    public static final String TOPIC = "price-alerts";
+    private static final String AGGREGATE_TYPE = "WISHLIST";
+    private static final String EVENT_TYPE = "PRICE_DROP";
+    private static final int BATCH_SIZE = 500;
+
+    private final PriceAlertRepository priceAlertRepository;
+    private final OutboxPublisher outboxPublisher;
+
+    /*
+     * Books of a replicated batch whose price differs from the stored snapshot. Must be called
+     * before the snapshots are stored; snapshots the upsert will skip as stale are ignored.
+     */
+    public List<BookPrice> findPriceChanges(List<BookSnapshotDTO> books, long version) {
+        Map<Integer, BookPrice> stored = priceAlertRepository.findPrices(books.stream().map(BookSnapshotDTO::getId).toList()).stream()
+                .collect(Collectors.toMap(BookPrice::catalogBookId, Function.identity()));
+
+        List<BookPrice> changes = new ArrayList<>();
+        for (BookSnapshotDTO book : books) {
+            BookPrice current = stored.get(book.getId());
+            if (current != null && current.version() >= version) {
+                continue;
+            }
+            if (current == null || !samePrice(current.price(), book.getLowestPrice())
+                    || !Objects.equals(current.currency(), book.getPriceCurrency())) {
+                changes.add(new BookPrice(book.getId(), book.getTitle(), book.getLowestPrice(), book.getPriceCurrency(), version));
+            }
+        }
+
+        return changes;
+    }
+
+    /* Evaluates the watchers of the given books against their current replicated price. */
+    public List<PriceAlertDTO> evaluateBooks(Collection<Integer> catalogBookIds) {
+        return evaluate(priceAlertRepository.findPrices(catalogBookIds));
+    }
+
+    public List<PriceAlertDTO> evaluate(List<BookPrice> prices) {
+        if (prices.isEmpty()) {
+            return List.of();
+        }
+
+        Map<Integer, String> titles = new HashMap<>();
+        prices.forEach(price -> titles.put(price.catalogBookId(), price.title()));
+
+        List<PriceAlertDTO> alerts = new ArrayList<>();
+        int rearmed = 0;
+        for (int from = 0; from < prices.size(); from += BATCH_SIZE) {
+            List<BookPrice> batch = prices.subList(from, Math.min(from + BATCH_SIZE, prices.size()));
+            rearmed += priceAlertRepository.rearm(batch);
+
+            List<BookPrice> priced = batch.stream().filter(price -> price.price() != null && price.currency() != null).toList();
+            if (priced.isEmpty()) {
+                continue;
+            }
+            for (TriggeredAlert alert : priceAlertRepository.triggerAlerts(priced)) {
+                alerts.add(PriceAlertDTO.builder()
+                        .wishlistId(alert.wishlistId())
+                        .userId(alert.userId())
+                        .catalogBookId(alert.catalogBookId())
+                        .bookTitle(titles.get(alert.catalogBookId()))
+                        .price(alert.price())
+                        .currency(alert.currency())
+                        .priceAlertThreshold(alert.priceAlertThreshold())
+                        .targetPrice(alert.targetPrice())
+                        .build());
+            }
+        }
+
+        outboxPublisher.publishEach(TOPIC, AGGREGATE_TYPE, EVENT_TYPE, alerts, PriceAlertDTO::getWishlistId);
+        if (!alerts.isEmpty() || rearmed > 0) {
+            log.info("Evaluated price changes of {} books: {} alerts, {} watches re-armed", prices.size(), alerts.size(), rearmed);
+        }
+
+        return alerts;
+    }
+
+    private static boolean samePrice(BigDecimal a, BigDecimal b) {
+        return a == null ? b == null : b != null && a.compareTo(b) == 0;
+    }
+}
@@ -0,0 +1,69 @@
+package com.biblioteca.userlibraryservice;
+
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.jdbc.datasource.init.ScriptUtils;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Stream;
+
+/*
+ * Base class for tests that need the real schema. One throwaway Postgres container
+ * is shared by every subclass and gets the sql/user_library_db scripts applied in their
+ * numbered order; the config server, Eureka, the outbox relay and the nightly jobs are off.
+ */
+@Testcontainers(disabledWithoutDocker = true)
+@SpringBootTest(properties = {
+        "spring.cloud.config.enabled=false",
+        "eureka.client.enabled=false",
+        "outbox.relay.enabled=false",
+        "reading.reconciliation.enabled=false",
+        "series.recompute.enabled=false",
+        "recommendations.refresh.enabled=false",
+        "catalog.replication.token=test-replication-token",
+        "price-alerts.notification.token=test-notification-token",
+        "gateway.claims.secret=test-claims-secret-test-claims-secret"
+})
+public abstract class AbstractPostgresTest {
+
+    private static final Path SCHEMA_DIR = Path.of("..", "..", "sql", "user_library_db");
+
+    @ServiceConnection
+    static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    static {
+        POSTGRES.start();
+        applySchema();
+    }
+
+    private static void applySchema() {
+        try (Stream<Path> files = Files.list(SCHEMA_DIR);
+             Connection connection = DriverManager.getConnection(POSTGRES.getJdbcUrl(), POSTGRES.getUsername(), POSTGRES.getPassword())) {
+            List<Path> scripts = files
+                    .filter(file -> file.getFileName().toString().endsWith(".sql"))
+                    .sorted(Comparator.comparingInt(AbstractPostgresTest::scriptNumber))
+                    .toList();
+            for (Path script : scripts) {
+                ScriptUtils.executeSqlScript(connection, new FileSystemResource(script));
+            }
+        } catch (IOException | SQLException e) {
+            throw new IllegalStateException("Could not apply " + SCHEMA_DIR.toAbsolutePath(), e);
+        }
+    }
+
+    /* Scripts are named "<n>. <description>.sql". */
+    private static int scriptNumber(Path script) {
+        String name = script.getFileName().toString();
+        return Integer.parseInt(name.substring(0, name.indexOf('.')));
+    }
+}
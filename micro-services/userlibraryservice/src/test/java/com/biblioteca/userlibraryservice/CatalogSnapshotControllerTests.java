@@ -0,0 +1,43 @@
+package com.biblioteca.userlibraryservice;
+
+import com.biblioteca.userlibraryservice.controller.CatalogSnapshotController;
+import com.biblioteca.userlibraryservice.dto.catalogSnapshot.CatalogChangeEventDTO;
+import com.biblioteca.userlibraryservice.util.exception.CustomException;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CatalogSnapshotControllerTests {
+
+    private final List<List<CatalogChangeEventDTO>> applied = new ArrayList<>();
+    private final CatalogSnapshotController controller = new CatalogSnapshotController(events -> {
+        applied.add(events);
+        return events.size();
+    }, "replication-token");
+
+    @Test
+    void startupFailsWithoutToken() {
+        assertThrows(IllegalStateException.class, () -> new CatalogSnapshotController(events -> 0, null));
+        assertThrows(IllegalStateException.class, () -> new CatalogSnapshotController(events -> 0, " "));
+    }
+
+    @Test
+    void rejectsMissingOrWrongTokenBeforeApplying() {
+        CustomException missing = assertThrows(CustomException.class, () -> controller.applyEvents(List.of(), null));
+        CustomException wrong = assertThrows(CustomException.class, () -> controller.applyEvents(List.of(), "biblioteca"));
+
+        assertEquals(HttpStatus.UNAUTHORIZED.value(), missing.getCode());
+        assertEquals(HttpStatus.UNAUTHORIZED.value(), wrong.getCode());
+        assertTrue(applied.isEmpty());
+    }
+
+    @Test
+    void appliesEventsWithTheConfiguredToken() {
+        assertEquals(HttpStatus.OK, controller.applyEvents(List.of(), "replication-token").getStatusCode());
+        assertEquals(1, applied.size());
+    }
+}
@@ -0,0 +1,164 @@
+package com.biblioteca.userlibraryservice;
+
+import com.biblioteca.outbox.OutboxMetrics;
+import com.biblioteca.outbox.OutboxProperties;
+import com.biblioteca.outbox.OutboxRelay;
+import com.biblioteca.outbox.OutboxRepository;
+import com.biblioteca.outbox.sink.OutboxSink;
+import com.biblioteca.userlibraryservice.config.PriceAlertConfig;
+import com.biblioteca.userlibraryservice.dto.wishlists.PriceAlertDTO;
+import com.biblioteca.userlibraryservice.repository.PriceAlertRepository.BookPrice;
+import com.biblioteca.userlibraryservice.wishlist.PriceAlertEvaluator;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.netty.DisposableServer;
+import reactor.netty.http.server.HttpServer;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/* Wishlist watchers are alerted when a replicated price crosses their threshold, and the alert reaches the notification service. */
+class PriceAlertTests extends AbstractPostgresTest {
+
+    private static final String PATH = "/v1/notifications/price_alerts";
+
+    @Autowired
+    private PriceAlertEvaluator priceAlertEvaluator;
+
+    @Autowired
+    private OutboxRepository outboxRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private TransactionTemplate transactionTemplate;
+    private DisposableServer notificationService;
+    private volatile String receivedToken;
+    private volatile String receivedBody;
+
+    @BeforeEach
+    void setUp() {
+        transactionTemplate = new TransactionTemplate(transactionManager);
+        jdbcTemplate.update("DELETE FROM outbox_events");
+        notificationService = HttpServer.create()
+                .host("127.0.0.1")
+                .port(0)
+                .route(routes -> routes.post(PATH, (request, response) -> {
+                    receivedToken = request.requestHeaders().get(PriceAlertConfig.TOKEN_HEADER);
+                    return request.receive().aggregate().asString()
+                            .doOnNext(body -> receivedBody = body)
+                            .then(response.status(204).send().then());
+                }))
+                .bindNow();
+    }
+
+    @AfterEach
+    void tearDown() {
+        notificationService.disposeNow();
+    }
+
+    @Test
+    void priceAtOrBelowTheThresholdCreatesOneAlert() {
+        Integer wishlistId = watch(8001, 92001, "12.00");
+
+        List<PriceAlertDTO> above = evaluate(92001, "12.50");
+        List<PriceAlertDTO> crossed = evaluate(92001, "11.99");
+        List<PriceAlertDTO> unchanged = evaluate(92001, "11.99");
+
+        assertTrue(above.isEmpty());
+        assertEquals(1, crossed.size());
+        assertEquals(wishlistId, crossed.get(0).getWishlistId());
+        assertEquals(0, new BigDecimal("11.99").compareTo(crossed.get(0).getPrice()));
+        assertTrue(unchanged.isEmpty(), "a watcher is alerted once per price");
+        assertEquals(1, alertsInOutbox());
+    }
+
+    @Test
+    void watchIsRearmedWhenThePriceGoesBackAboveTheThreshold() {
+        watch(8002, 92002, "20.00");
+
+        evaluate(92002, "19.00");
+        evaluate(92002, "25.00");
+        List<PriceAlertDTO> again = evaluate(92002, "19.50");
+
+        assertEquals(1, again.size());
+        assertEquals(2, alertsInOutbox());
+    }
+
+    @Test
+    void alertIsDeliveredToTheNotificationServiceWithTheServiceToken() throws Exception {
+        Integer wishlistId = watch(8003, 92003, "9.00");
+        evaluate(92003, "8.50");
+
+        relay(sink("test-notification-token")).poll();
+
+        assertEquals("test-notification-token", receivedToken);
+        JsonNode alerts = objectMapper.readTree(receivedBody);
+        assertEquals(1, alerts.size());
+        assertEquals("price-alerts", alerts.get(0).get("topic").asText());
+        assertEquals(wishlistId.intValue(), alerts.get(0).get("payload").get("wishlistId").asInt());
+        assertEquals(8003, alerts.get(0).get("payload").get("userId").asInt());
+        assertEquals(0, alertsInOutbox());
+    }
+
+    @Test
+    void undeliveredAlertStaysInTheOutbox() {
+        watch(8004, 92004, "9.00");
+        evaluate(92004, "8.50");
+        OutboxSink sink = sink("test-notification-token");
+        notificationService.disposeNow();
+
+        relay(sink).poll();
+
+        assertEquals(1, alertsInOutbox());
+        assertEquals(1, jdbcTemplate.queryForObject("SELECT attempts FROM outbox_events", Integer.class));
+    }
+
+    @Test
+    void httpSinkRequiresTheServiceToken() {
+        assertThrows(IllegalStateException.class, () -> sink(null));
+        assertThrows(IllegalStateException.class, () -> sink(" "));
+    }
+
+    private Integer watch(int userId, int bookId, String threshold) {
+        jdbcTemplate.update("INSERT INTO catalog_book_snapshots (book_id, title, version) VALUES (?, ?, 1)", bookId, "Book " + bookId);
+        return jdbcTemplate.queryForObject("""
+                INSERT INTO user_wishlists (user_id, catalog_book_id, wishlist_status, target_currency, price_alert_threshold)
+                VALUES (?, ?, 'price_watch', 'EUR', ?) RETURNING id
+                """, Integer.class, userId, bookId, new BigDecimal(threshold));
+    }
+
+    private List<PriceAlertDTO> evaluate(int bookId, String price) {
+        return transactionTemplate.execute(status -> priceAlertEvaluator.evaluate(
+                List.of(new BookPrice(bookId, "Book " + bookId, new BigDecimal(price), "EUR", 2))));
+    }
+
+    private int alertsInOutbox() {
+        return jdbcTemplate.queryForObject("SELECT count(*) FROM outbox_events WHERE topic = ?", Integer.class, PriceAlertEvaluator.TOPIC);
+    }
+
+    private OutboxSink sink(String token) {
+        return new PriceAlertConfig().priceAlertHttpSink(WebClient.builder(),
+                "http://127.0.0.1:" + notificationService.port(), PATH, token, 2000);
+    }
+
+    private OutboxRelay relay(OutboxSink sink) {
+        return new OutboxRelay(outboxRepository, transactionManager, List.of(sink), new OutboxProperties(), OutboxMetrics.noop());
+    }
+}
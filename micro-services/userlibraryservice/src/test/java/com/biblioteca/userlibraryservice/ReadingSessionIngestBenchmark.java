@@ -0,0 +1,111 @@
+package com.biblioteca.userlibraryservice;
+
+import com.biblioteca.userlibraryservice.dto.readingSessions.ReadingSessionBatchCreateDTO;
+import com.biblioteca.userlibraryservice.dto.readingSessions.ReadingSessionBatchResultDTO;
+import com.biblioteca.userlibraryservice.dto.readingSessions.ReadingSessionCreateDTO;
+import com.biblioteca.userlibraryservice.service.ReadingSessionService;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/*
+ * Sustained reading-session ingestion: concurrent uploads of small batches, each from one user
+ * for their own books, as the mobile clients sync. Passes when the stored sessions per second
+ * reach -Dbenchmark.sessions.min-per-second (1000 by default).
+ * Run with: mvn test -Pbenchmark -Dtest=ReadingSessionIngestBenchmark
+ */
+@Tag("benchmark")
+class ReadingSessionIngestBenchmark extends AbstractPostgresTest {
+
+    private static final int FIRST_USER_ID = 800_000;
+    private static final int USERS = Integer.getInteger("benchmark.sessions.users", 500);
+    private static final int BOOKS_PER_USER = Integer.getInteger("benchmark.sessions.books-per-user", 20);
+    private static final int THREADS = Integer.getInteger("benchmark.sessions.threads", 8);
+    private static final int BATCH_SIZE = Integer.getInteger("benchmark.sessions.batch-size", 10);
+    private static final long DURATION_MILLIS = Long.getLong("benchmark.sessions.duration-ms", 15_000);
+    private static final double MIN_PER_SECOND = Double.parseDouble(System.getProperty("benchmark.sessions.min-per-second", "1000"));
+
+    @Autowired
+    private ReadingSessionService readingSessionService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeAll
+    static void seed(@Autowired JdbcTemplate jdbcTemplate) {
+        jdbcTemplate.update("""
+                INSERT INTO catalog_book_snapshots (book_id, title, page_count, version)
+                SELECT 900000 + g, 'Book ' || g, 400, 1 FROM generate_series(1, ?) g
+                ON CONFLICT (book_id) DO NOTHING
+                """, BOOKS_PER_USER);
+        jdbcTemplate.update("""
+                INSERT INTO user_books (user_id, catalog_book_id, status, created_at, updated_at)
+                SELECT u, 900000 + g, 'WANT_TO_READ', CURRENT_TIMESTAMP, CURRENT_TIMESTAMP
+                FROM generate_series(?, ?) u, generate_series(1, ?) g
+                """, FIRST_USER_ID, FIRST_USER_ID + USERS - 1, BOOKS_PER_USER);
+        jdbcTemplate.execute("ANALYZE");
+    }
+
+    @Test
+    void sustainsTheTargetSessionRate() throws Exception {
+        Map<Integer, List<Integer>> booksByUser = jdbcTemplate.query(
+                        "SELECT user_id, id FROM user_books WHERE user_id BETWEEN ? AND ?",
+                        (rs, rowNum) -> new int[]{rs.getInt("user_id"), rs.getInt("id")}, FIRST_USER_ID, FIRST_USER_ID + USERS - 1)
+                .stream()
+                .collect(Collectors.groupingBy(row -> row[0], Collectors.mapping(row -> row[1], Collectors.toList())));
+        List<Integer> users = new ArrayList<>(booksByUser.keySet());
+
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(DURATION_MILLIS);
+        long started = System.nanoTime();
+        List<Future<Integer>> workers = new ArrayList<>();
+        for (int thread = 0; thread < THREADS; thread++) {
+            int worker = thread;
+            workers.add(executor.submit(() -> {
+                /* Each worker owns every THREADS-th user, so no two workers write the same rows. */
+                int stored = 0;
+                int page = 0;
+                while (System.nanoTime() < deadline) {
+                    Integer userId = users.get(worker + THREADS * ThreadLocalRandom.current().nextInt(users.size() / THREADS));
+                    List<Integer> books = booksByUser.get(userId);
+                    List<ReadingSessionCreateDTO> sessions = new ArrayList<>(BATCH_SIZE);
+                    for (int i = 0; i < BATCH_SIZE; i++) {
+                        Integer userBookId = books.get(ThreadLocalRandom.current().nextInt(books.size()));
+                        sessions.add(ReadingSessionIngestTests.session(userId, userBookId, page % 400, page % 400 + 1));
+                        page++;
+                    }
+                    ReadingSessionBatchResultDTO result = readingSessionService.createReadingSessions(
+                            new ReadingSessionBatchCreateDTO(sessions), null, ReadingSessionIngestTests.jwt(userId));
+                    stored += result.getInserted();
+                }
+                return stored;
+            }));
+        }
+
+        int stored = 0;
+        for (Future<Integer> worker : workers) {
+            stored += worker.get();
+        }
+        double seconds = (System.nanoTime() - started) / 1_000_000_000.0;
+        executor.shutdown();
+
+        double perSecond = stored / seconds;
+        System.out.printf("reading session ingest: %d sessions in %.1fs = %.0f sessions/s (%d threads, batches of %d)%n",
+                stored, seconds, perSecond, THREADS, BATCH_SIZE);
+        assertTrue(perSecond >= MIN_PER_SECOND, String.format("%.0f sessions/s is below %.0f", perSecond, MIN_PER_SECOND));
+    }
+}
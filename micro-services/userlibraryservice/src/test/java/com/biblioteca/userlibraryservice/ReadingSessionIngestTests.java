@@ -0,0 +1,115 @@
+package com.biblioteca.userlibraryservice;
+
+import com.biblioteca.userlibraryservice.dto.readingSessions.ReadingSessionBatchCreateDTO;
+import com.biblioteca.userlibraryservice.dto.readingSessions.ReadingSessionCreateDTO;
+import com.biblioteca.userlibraryservice.progress.UserBookStatusChangedEvent;
+import com.biblioteca.userlibraryservice.service.ReadingSessionService;
+import com.biblioteca.userlibraryservice.util.exception.CustomException;
+import com.biblioteca.userlibraryservice.util.security.JwtUtil;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.test.context.event.ApplicationEvents;
+import org.springframework.test.context.event.RecordApplicationEvents;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@RecordApplicationEvents
+class ReadingSessionIngestTests extends AbstractPostgresTest {
+
+    @Autowired
+    private ReadingSessionService readingSessionService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private ApplicationEvents applicationEvents;
+
+    @Test
+    void firstSessionStartsTheBookAndPublishesTheStatusChange() {
+        Integer userBookId = userBook(7001, 91001, "WANT_TO_READ");
+
+        upload(7001, session(7001, userBookId, 0, 40));
+
+        List<UserBookStatusChangedEvent> changes = statusChanges(userBookId);
+        assertEquals(1, changes.size());
+        assertEquals("WANT_TO_READ", changes.get(0).previousStatus());
+        assertEquals("CURRENTLY_READ", changes.get(0).status());
+        assertEquals("CURRENTLY_READ", jdbcTemplate.queryForObject("SELECT status FROM user_books WHERE id = ?", String.class, userBookId));
+
+        upload(7001, session(7001, userBookId, 40, 90));
+
+        assertEquals(1, statusChanges(userBookId).size());
+        assertEquals(90, jdbcTemplate.queryForObject("SELECT current_page FROM user_books WHERE id = ?", Integer.class, userBookId));
+    }
+
+    @Test
+    void progressOnABookAlreadyBeingReadPublishesNoStatusChange() {
+        Integer userBookId = userBook(7002, 91002, "CURRENTLY_READ");
+
+        upload(7002, session(7002, userBookId, 10, 30));
+
+        assertTrue(statusChanges(userBookId).isEmpty());
+    }
+
+    @Test
+    void sessionsAreAuthorisedAgainstTheTokenNotTheRequestBody() {
+        Integer userBookId = userBook(7003, 91003, "WANT_TO_READ");
+
+        CustomException otherUser = assertThrows(CustomException.class, () -> upload(7004, session(7003, userBookId, 0, 10)));
+        CustomException otherUsersBook = assertThrows(CustomException.class, () -> upload(7004, session(7004, userBookId, 0, 10)));
+        CustomException noUserId = assertThrows(CustomException.class, () -> readingSessionService.createReadingSessions(
+                new ReadingSessionBatchCreateDTO(List.of(session(7003, userBookId, 0, 10))), null,
+                Jwt.withTokenValue("token").header("alg", "none").subject("reader@biblioteca.test").build()));
+
+        assertEquals(HttpStatus.FORBIDDEN.value(), otherUser.getCode());
+        assertEquals(HttpStatus.NOT_FOUND.value(), otherUsersBook.getCode());
+        assertEquals(HttpStatus.FORBIDDEN.value(), noUserId.getCode());
+        assertEquals(0, jdbcTemplate.queryForObject("SELECT count(*) FROM reading_sessions WHERE user_book_id = ?", Integer.class, userBookId));
+    }
+
+    private Integer userBook(int userId, int catalogBookId, String status) {
+        jdbcTemplate.update("INSERT INTO catalog_book_snapshots (book_id, title, page_count, version) VALUES (?, ?, 300, 1)",
+                catalogBookId, "Book " + catalogBookId);
+        return jdbcTemplate.queryForObject("""
+                INSERT INTO user_books (user_id, catalog_book_id, status, created_at, updated_at)
+                VALUES (?, ?, ?, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP)
+                RETURNING id
+                """, Integer.class, userId, catalogBookId, status);
+    }
+
+    private void upload(int userId, ReadingSessionCreateDTO session) {
+        readingSessionService.createReadingSessions(new ReadingSessionBatchCreateDTO(List.of(session)), null, jwt(userId));
+    }
+
+    private List<UserBookStatusChangedEvent> statusChanges(Integer userBookId) {
+        return applicationEvents.stream(UserBookStatusChangedEvent.class)
+                .filter(event -> userBookId.equals(event.userBookId()))
+                .toList();
+    }
+
+    static ReadingSessionCreateDTO session(int userId, Integer userBookId, int startPage, int endPage) {
+        return ReadingSessionCreateDTO.builder()
+                .userId(userId)
+                .userBookId(userBookId)
+                .sessionDate(LocalDate.now())
+                .startPage(startPage)
+                .endPage(endPage)
+                .sessionDurationMinutes(30)
+                .build();
+    }
+
+    static Jwt jwt(int userId) {
+        return Jwt.withTokenValue("token")
+                .header("alg", "none")
+                .subject("reader" + userId + "@biblioteca.test")
+                .claim(JwtUtil.USER_ID_CLAIM, userId)
+                .build();
+    }
+}
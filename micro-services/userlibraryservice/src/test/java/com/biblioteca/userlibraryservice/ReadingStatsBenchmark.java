@@ -0,0 +1,108 @@
+package com.biblioteca.userlibraryservice;
+
+import com.biblioteca.userlibraryservice.dto.readingStats.ReadingStatsDTO;
+import com.biblioteca.userlibraryservice.repository.ReadingStatsRepository;
+import com.biblioteca.userlibraryservice.service.ReadingStatsService;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDate;
+import java.util.concurrent.ThreadLocalRandom;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/*
+ * Stats dashboard reads for users with twelve years of history (override with
+ * -Dbenchmark.stats.years): 50 books finished and ~250 reading days per user per year. The
+ * rollups are built with the reconciler's rebuild, then read through the service. The same
+ * figures computed from the raw tables are printed for comparison.
+ * Run with: mvn test -Pbenchmark -Dtest=ReadingStatsBenchmark
+ */
+@Tag("benchmark")
+class ReadingStatsBenchmark extends AbstractPostgresTest {
+
+    private static final int FIRST_USER_ID = 700_000;
+    private static final int USERS = Integer.getInteger("benchmark.stats.users", 50);
+    private static final int YEARS = Integer.getInteger("benchmark.stats.years", 12);
+    private static final int BOOKS_PER_YEAR = 50;
+    private static final double MAX_P95_MILLIS = Double.parseDouble(System.getProperty("benchmark.stats.max-p95-ms", "20"));
+    private static final LocalDate HISTORY_START = LocalDate.now().minusYears(YEARS).withDayOfYear(1);
+
+    private static final String RAW_SCAN_SQL = """
+            SELECT date_trunc('month', rs.session_date) AS period_month, SUM(rs.pages_read), SUM(rs.session_duration_minutes), COUNT(*)
+            FROM reading_sessions rs JOIN user_books ub ON ub.id = rs.user_book_id
+            WHERE ub.user_id = ?
+            GROUP BY 1
+            """;
+
+    @Autowired
+    private ReadingStatsService readingStatsService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeAll
+    static void seed(@Autowired JdbcTemplate jdbcTemplate, @Autowired ReadingStatsRepository readingStatsRepository) {
+        int books = YEARS * BOOKS_PER_YEAR;
+        jdbcTemplate.update("""
+                INSERT INTO catalog_genre_snapshots (genre_id, name, version)
+                SELECT 700000 + g, 'Genre ' || g, 1 FROM generate_series(1, 40) g
+                ON CONFLICT (genre_id) DO NOTHING
+                """);
+        jdbcTemplate.update("""
+                INSERT INTO catalog_book_snapshots (book_id, title, page_count, genre_ids, version)
+                SELECT 700000 + g, 'Book ' || g, 320, ARRAY[700001 + g % 40, 700001 + (g * 7) % 40], 1
+                FROM generate_series(1, ?) g
+                ON CONFLICT (book_id) DO NOTHING
+                """, books);
+        /* Book g of a user is read over the ~7 days before its finish date, one book every ~7 days. */
+        jdbcTemplate.update("""
+                INSERT INTO user_books (user_id, catalog_book_id, status, rating, current_page, start_date, finish_date, created_at, updated_at)
+                SELECT u, 700000 + g, 'READ', 1 + (u + g) % 5, 320,
+                       CAST(? AS date) + (g - 1) * (365 / ?), CAST(? AS date) + g * (365 / ?) - 1,
+                       CURRENT_TIMESTAMP, CURRENT_TIMESTAMP
+                FROM generate_series(?, ?) u, generate_series(1, ?) g
+                """, HISTORY_START, BOOKS_PER_YEAR, HISTORY_START, BOOKS_PER_YEAR, FIRST_USER_ID, FIRST_USER_ID + USERS - 1, books);
+        jdbcTemplate.update("""
+                INSERT INTO reading_sessions (user_book_id, client_session_id, session_date, start_page, end_page, session_duration_minutes)
+                SELECT ub.id, gen_random_uuid(), ub.start_date + d, d * 64, d * 64 + 64, 30 + (ub.id + d) % 60
+                FROM user_books ub, generate_series(0, 4) d
+                WHERE ub.user_id BETWEEN ? AND ?
+                """, FIRST_USER_ID, FIRST_USER_ID + USERS - 1);
+        for (int userId = FIRST_USER_ID; userId < FIRST_USER_ID + USERS; userId++) {
+            readingStatsRepository.rebuild(userId);
+        }
+        jdbcTemplate.execute("ANALYZE");
+    }
+
+    @Test
+    void statsStayFastWithADecadeOfHistory() {
+        LocalDate lastYear = LocalDate.now().minusYears(1);
+
+        LatencySample allTime = LatencySample.measure("stats all time", 50, 500,
+                () -> readingStatsService.getReadingStats(randomUser(), null, null, null, null));
+        LatencySample oneYear = LatencySample.measure("stats last year", 50, 500,
+                () -> readingStatsService.getReadingStats(randomUser(), lastYear, LocalDate.now(), null, null));
+        LatencySample rawScan = LatencySample.measure("monthly totals from raw sessions", 5, 50,
+                () -> jdbcTemplate.queryForList(RAW_SCAN_SQL, randomUser()));
+
+        System.out.println(allTime);
+        System.out.println(oneYear);
+        System.out.println(rawScan);
+
+        ReadingStatsDTO stats = readingStatsService.getReadingStats(FIRST_USER_ID, null, null, null, null);
+        assertEquals(YEARS * BOOKS_PER_YEAR, stats.getBooksRead());
+        assertTrue(stats.getBooksPerYear().size() >= YEARS, "books per year covers " + stats.getBooksPerYear().size() + " years");
+
+        assertTrue(allTime.p95() < MAX_P95_MILLIS, allTime.toString());
+        assertTrue(oneYear.p95() < MAX_P95_MILLIS, oneYear.toString());
+    }
+
+    private static int randomUser() {
+        return FIRST_USER_ID + ThreadLocalRandom.current().nextInt(USERS);
+    }
+}
@@ -0,0 +1,122 @@
+package com.biblioteca.userlibraryservice;
+
+import com.biblioteca.userlibraryservice.recommendation.RecommendationCatalog;
+import com.biblioteca.userlibraryservice.recommendation.RecommendationEngine;
+import com.biblioteca.userlibraryservice.recommendation.RecommendationRefreshJob;
+import com.biblioteca.userlibraryservice.recommendation.RecommendationRefreshJob.RefreshReport;
+import com.biblioteca.userlibraryservice.recommendation.RecommendationScorer;
+import com.biblioteca.userlibraryservice.recommendation.UserSignals;
+import com.biblioteca.userlibraryservice.service.RecommendationService;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/*
+ * Recommendations over a 100k book catalog (override with -Dbenchmark.recommendations.books)
+ * for 2000 users with author and genre preferences and 40 books each. Times the full refresh,
+ * reads of computed lists, the popular fallback served to users the refresh has not seen and
+ * the in-memory scoring of one user.
+ * Run with: mvn test -Pbenchmark -Dtest=RecommendationBenchmark
+ */
+@Tag("benchmark")
+class RecommendationBenchmark extends AbstractPostgresTest {
+
+    private static final int FIRST_BOOK_ID = 600_000;
+    private static final int FIRST_USER_ID = 600_000;
+    private static final int FIRST_UNSEEN_USER_ID = 650_000;
+    private static final int BOOKS = Integer.getInteger("benchmark.recommendations.books", 100_000);
+    private static final int USERS = Integer.getInteger("benchmark.recommendations.users", 2000);
+    private static final int BOOKS_PER_USER = Integer.getInteger("benchmark.recommendations.books-per-user", 40);
+    private static final int AUTHORS = BOOKS / 20;
+    private static final int GENRES = 200;
+    private static final int PAGE_SIZE = 20;
+    private static final double MAX_P95_MILLIS = Double.parseDouble(System.getProperty("benchmark.recommendations.max-p95-ms", "20"));
+
+    @Autowired
+    private RecommendationService recommendationService;
+
+    @Autowired
+    private RecommendationEngine recommendationEngine;
+
+    @Autowired
+    private RecommendationRefreshJob recommendationRefreshJob;
+
+    @BeforeAll
+    static void seed(@Autowired JdbcTemplate jdbcTemplate) {
+        jdbcTemplate.update("""
+                INSERT INTO catalog_book_snapshots (book_id, title, average_rating, author_ids, genre_ids, publisher_ids, version)
+                SELECT ? + g, 'Book ' || g, round(CAST(1 + (g * 37) % 400 / 100.0 AS numeric), 2),
+                       ARRAY[g % ?], ARRAY[g % ?, (g * 7) % ?], ARRAY[g % 50], 1
+                FROM generate_series(1, ?) g
+                ON CONFLICT (book_id) DO NOTHING
+                """, FIRST_BOOK_ID, AUTHORS, GENRES, GENRES, BOOKS);
+        jdbcTemplate.update("""
+                INSERT INTO user_books (user_id, catalog_book_id, status, rating, created_at, updated_at)
+                SELECT u, ? + 1 + (u * 7919 + g * 104729) % ?, 'READ', 1 + (u + g) % 5, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP
+                FROM generate_series(?, ?) u, generate_series(1, ?) g
+                """, FIRST_BOOK_ID, BOOKS, FIRST_USER_ID, FIRST_USER_ID + USERS - 1, BOOKS_PER_USER);
+        jdbcTemplate.update("""
+                INSERT INTO user_author_preferences (user_id, catalog_author_id, preference_level)
+                SELECT u, (u * 31 + a * 17) % ?, 1 + (u + a) % 5
+                FROM generate_series(?, ?) u, generate_series(1, 5) a
+                ON CONFLICT DO NOTHING
+                """, AUTHORS, FIRST_USER_ID, FIRST_USER_ID + USERS - 1);
+        jdbcTemplate.update("""
+                INSERT INTO user_genre_preferences (user_id, catalog_genre_id, preference_level)
+                SELECT u, (u * 13 + g * 29) % ?, 1 + (u + g) % 5
+                FROM generate_series(?, ?) u, generate_series(1, 3) g
+                ON CONFLICT DO NOTHING
+                """, GENRES, FIRST_USER_ID, FIRST_USER_ID + USERS - 1);
+        jdbcTemplate.execute("ANALYZE");
+    }
+
+    @Test
+    void refreshAndReadsStayFast() {
+        long started = System.nanoTime();
+        RefreshReport report = recommendationRefreshJob.refreshAll();
+        double refreshSeconds = (System.nanoTime() - started) / 1_000_000_000.0;
+        System.out.printf("recommendation refresh: %d users in %.1fs = %.0f users/s, %d co-read pairs%n",
+                report.users(), refreshSeconds, report.users() / refreshSeconds, report.coReads());
+        assertEquals(0, report.failed());
+
+        LatencySample computed = LatencySample.measure("computed list", 50, 500,
+                () -> recommendationService.getRecommendations(randomUser(), PAGE_SIZE, null, null));
+        AtomicInteger unseen = new AtomicInteger(FIRST_UNSEEN_USER_ID);
+        LatencySample fallback = LatencySample.measure("popular fallback", 50, 500,
+                () -> recommendationService.getRecommendations(unseen.getAndIncrement(), PAGE_SIZE, null, null));
+
+        RecommendationCatalog catalog = recommendationEngine.reloadCatalog();
+        UserSignals signals = signals();
+        LatencySample scoring = LatencySample.measure("score one user in memory", 50, 500,
+                () -> RecommendationScorer.score(signals, catalog, 50));
+
+        for (LatencySample sample : new LatencySample[]{computed, fallback, scoring}) {
+            System.out.println(sample);
+            assertTrue(sample.p95() < MAX_P95_MILLIS, sample.toString());
+        }
+    }
+
+    /* A user with the seeded preference mix and no co-reads. */
+    private static UserSignals signals() {
+        UserSignals user = new UserSignals(FIRST_USER_ID);
+        for (int a = 1; a <= 5; a++) {
+            user.getAuthorWeights().put((FIRST_USER_ID * 31 + a * 17) % AUTHORS, RecommendationScorer.levelWeight(1 + (FIRST_USER_ID + a) % 5, false));
+        }
+        for (int g = 1; g <= 3; g++) {
+            user.getGenreWeights().put((FIRST_USER_ID * 13 + g * 29) % GENRES, RecommendationScorer.levelWeight(1 + (FIRST_USER_ID + g) % 5, false));
+        }
+        return user;
+    }
+
+    private static int randomUser() {
+        return FIRST_USER_ID + ThreadLocalRandom.current().nextInt(USERS);
+    }
+}
@@ -0,0 +1,160 @@
+package com.biblioteca.userlibraryservice;
+
+import com.biblioteca.userlibraryservice.recommendation.RecommendationCatalog;
+import com.biblioteca.userlibraryservice.recommendation.RecommendationScorer;
+import com.biblioteca.userlibraryservice.recommendation.UserSignals;
+import com.biblioteca.userlibraryservice.repository.RecommendationRepository.CatalogBook;
+import com.biblioteca.userlibraryservice.repository.RecommendationRepository.ScoredBook;
+import com.biblioteca.userlibraryservice.util.enums.RecommendationReason;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RecommendationScorerTests {
+
+    private static final int AUTHOR = 1;
+    private static final int OTHER_AUTHOR = 2;
+    private static final int GENRE = 10;
+    private static final int DISLIKED_GENRE = 11;
+    private static final int PUBLISHER = 20;
+
+    @Test
+    void levelsOneAndTwoAreDislikesAndFavouritesCountOneLevelHigher() {
+        assertEquals(-2, RecommendationScorer.levelWeight(1, false));
+        assertEquals(-1, RecommendationScorer.levelWeight(2, false));
+        assertEquals(1, RecommendationScorer.levelWeight(3, false));
+        assertEquals(3, RecommendationScorer.levelWeight(5, false));
+        assertEquals(1, RecommendationScorer.levelWeight(0, false), "an unset level is the default 3");
+        assertEquals(1, RecommendationScorer.levelWeight(2, true));
+        assertEquals(2, RecommendationScorer.levelWeight(3, true));
+    }
+
+    @Test
+    void booksAreRankedByScoreThenById() {
+        RecommendationCatalog catalog = catalog(
+                book(1, AUTHOR, GENRE, 4.0),
+                book(2, OTHER_AUTHOR, GENRE, 4.0),
+                book(3, OTHER_AUTHOR, GENRE, 4.0),
+                book(4, AUTHOR, GENRE, 2.0));
+        UserSignals user = new UserSignals(1);
+        user.getAuthorWeights().put(AUTHOR, 1.0);
+        user.getGenreWeights().put(GENRE, 1.0);
+
+        List<ScoredBook> ranked = RecommendationScorer.score(user, catalog, 10);
+
+        assertEquals(List.of(1, 4, 2, 3), ids(ranked));
+        assertEquals(RecommendationReason.AUTHOR, ranked.get(0).reason());
+        assertEquals(RecommendationReason.GENRE, ranked.get(2).reason());
+        assertEquals(ranked.get(2).score(), ranked.get(3).score());
+    }
+
+    @Test
+    void dislikedGenreLowersTheScore() {
+        RecommendationCatalog catalog = catalog(
+                book(1, AUTHOR, DISLIKED_GENRE, 5.0),
+                book(2, AUTHOR, GENRE, 3.0));
+        UserSignals user = new UserSignals(1);
+        user.getAuthorWeights().put(AUTHOR, RecommendationScorer.levelWeight(3, false));
+        user.getGenreWeights().put(DISLIKED_GENRE, RecommendationScorer.levelWeight(2, false));
+
+        assertEquals(List.of(2, 1), ids(RecommendationScorer.score(user, catalog, 10)));
+    }
+
+    @Test
+    void bookWithNoPositiveSignalIsLeftOut() {
+        RecommendationCatalog catalog = catalog(book(1, AUTHOR, DISLIKED_GENRE, 5.0), book(2, AUTHOR, GENRE, 3.0));
+        UserSignals user = new UserSignals(1);
+        user.getAuthorWeights().put(AUTHOR, 1.0);
+        user.getGenreWeights().put(DISLIKED_GENRE, -2.0);
+
+        assertEquals(List.of(2), ids(RecommendationScorer.score(user, catalog, 10)));
+    }
+
+    @Test
+    void ownedAndExcludedBooksAreNeverRecommended() {
+        RecommendationCatalog catalog = catalog(
+                book(1, AUTHOR, GENRE, 4.0),
+                book(2, AUTHOR, DISLIKED_GENRE, 4.0),
+                book(3, OTHER_AUTHOR, GENRE, 4.0),
+                book(4, AUTHOR, GENRE, 3.0));
+        UserSignals user = new UserSignals(1);
+        user.getGenreWeights().put(GENRE, 1.0);
+        user.getAuthorWeights().put(AUTHOR, 1.0);
+        user.getExcludedGenres().add(DISLIKED_GENRE);
+        user.getExcludedAuthors().add(OTHER_AUTHOR);
+        user.getOwnedBooks().add(1);
+
+        assertEquals(List.of(4), ids(RecommendationScorer.score(user, catalog, 10)));
+    }
+
+    @Test
+    void onlyTheTopNAreKept() {
+        List<CatalogBook> books = new ArrayList<>();
+        for (int id = 1; id <= 100; id++) {
+            books.add(book(id, AUTHOR, GENRE, id % 50 / 10.0));
+        }
+        UserSignals user = new UserSignals(1);
+        user.getAuthorWeights().put(AUTHOR, 1.0);
+
+        List<ScoredBook> ranked = RecommendationScorer.score(user, RecommendationCatalog.of(books, 1000), 5);
+
+        assertEquals(List.of(49, 99, 48, 98, 47), ids(ranked));
+    }
+
+    @Test
+    void coReadsCanOutweighPreferences() {
+        RecommendationCatalog catalog = catalog(book(1, AUTHOR, GENRE, 5.0), book(2, OTHER_AUTHOR, GENRE, 1.0));
+        UserSignals user = new UserSignals(1);
+        user.getAuthorWeights().put(AUTHOR, 1.0);
+        user.getCoReads().put(2, Math.log1p(20));
+
+        List<ScoredBook> ranked = RecommendationScorer.score(user, catalog, 10);
+
+        assertEquals(List.of(2, 1), ids(ranked));
+        assertEquals(RecommendationReason.CO_READ, ranked.get(0).reason());
+    }
+
+    @Test
+    void userWithoutSignalsGetsTheTopRatedBooksTheyDoNotOwn() {
+        RecommendationCatalog catalog = catalog(
+                book(1, AUTHOR, GENRE, 3.0),
+                book(2, AUTHOR, GENRE, 5.0),
+                book(3, OTHER_AUTHOR, GENRE, 4.5),
+                book(4, OTHER_AUTHOR, GENRE, 4.0));
+        UserSignals user = new UserSignals(1);
+        user.getOwnedBooks().add(2);
+
+        List<ScoredBook> ranked = RecommendationScorer.score(user, catalog, 2);
+
+        assertEquals(List.of(3, 4), ids(ranked));
+        assertTrue(ranked.stream().allMatch(book -> book.reason() == RecommendationReason.POPULAR));
+        assertEquals(RecommendationScorer.popularScore(4.5), ranked.get(0).score());
+    }
+
+    @Test
+    void candidateListsAreCappedToTheBestRated() {
+        RecommendationCatalog catalog = RecommendationCatalog.of(new ArrayList<>(List.of(
+                book(1, AUTHOR, GENRE, 2.0),
+                book(2, AUTHOR, GENRE, 5.0),
+                book(3, AUTHOR, GENRE, 4.0))), 2);
+
+        assertArrayEquals(new int[]{2, 3}, catalog.booksByAuthor(AUTHOR));
+        assertArrayEquals(new int[]{2, 3}, catalog.topRated());
+        assertArrayEquals(new int[0], catalog.booksByGenre(DISLIKED_GENRE));
+    }
+
+    private static RecommendationCatalog catalog(CatalogBook... books) {
+        return RecommendationCatalog.of(new ArrayList<>(List.of(books)), 1000);
+    }
+
+    private static CatalogBook book(int id, int authorId, int genreId, double rating) {
+        return new CatalogBook(id, new int[]{authorId}, new int[]{genreId}, new int[]{PUBLISHER}, rating);
+    }
+
+    private static List<Integer> ids(List<ScoredBook> books) {
+        return books.stream().map(ScoredBook::bookId).toList();
+    }
+}
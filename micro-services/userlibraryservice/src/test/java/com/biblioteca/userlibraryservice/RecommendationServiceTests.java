@@ -0,0 +1,79 @@
+package com.biblioteca.userlibraryservice;
+
+import com.biblioteca.userlibraryservice.dto.recommendations.RecommendationDTO;
+import com.biblioteca.userlibraryservice.dto.recommendations.RecommendationsDTO;
+import com.biblioteca.userlibraryservice.recommendation.RecommendationEngine;
+import com.biblioteca.userlibraryservice.repository.RecommendationRepository;
+import com.biblioteca.userlibraryservice.service.RecommendationService;
+import com.biblioteca.userlibraryservice.util.enums.RecommendationReason;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/* A user the nightly refresh has not seen gets popular books at once and their own list shortly after. */
+class RecommendationServiceTests extends AbstractPostgresTest {
+
+    private static final int USER_ID = 9001;
+    private static final int AUTHOR_ID = 93100;
+
+    @Autowired
+    private RecommendationService recommendationService;
+
+    @Autowired
+    private RecommendationEngine recommendationEngine;
+
+    @Autowired
+    private RecommendationRepository recommendationRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void unseenUserGetsPopularBooksWhileTheirListIsComputedInTheBackground() throws InterruptedException {
+        book(93001, "9.99", AUTHOR_ID);
+        book(93002, "9.98", AUTHOR_ID + 1);
+        book(93003, "9.97", AUTHOR_ID + 1);
+        book(93004, "9.96", AUTHOR_ID + 1);
+        book(93005, "1.00", AUTHOR_ID);
+        jdbcTemplate.update("""
+                INSERT INTO user_books (user_id, catalog_book_id, status, created_at, updated_at)
+                VALUES (?, 93001, 'READ', CURRENT_TIMESTAMP, CURRENT_TIMESTAMP)
+                """, USER_ID);
+        jdbcTemplate.update("INSERT INTO user_author_preferences (user_id, catalog_author_id, preference_level) VALUES (?, ?, 5)",
+                USER_ID, AUTHOR_ID);
+        recommendationEngine.reloadCatalog();
+
+        long started = System.nanoTime();
+        RecommendationsDTO fallback = recommendationService.getRecommendations(USER_ID, 3, null, null);
+        long fallbackMillis = (System.nanoTime() - started) / 1_000_000;
+
+        assertNull(fallback.getComputedAt());
+        assertEquals(List.of(93002, 93003, 93004), bookIds(fallback));
+        assertTrue(fallback.getRecommendations().stream().allMatch(book -> book.getReason() == RecommendationReason.POPULAR));
+        assertTrue(fallbackMillis < 1000, "fallback took " + fallbackMillis + " ms");
+
+        for (int i = 0; i < 100 && !recommendationRepository.hasRecommendations(USER_ID); i++) {
+            Thread.sleep(100);
+        }
+        RecommendationsDTO computed = recommendationService.getRecommendations(USER_ID, 3, null, null);
+
+        assertNotNull(computed.getComputedAt());
+        assertEquals(93005, bookIds(computed).get(0));
+        assertEquals(RecommendationReason.AUTHOR, computed.getRecommendations().get(0).getReason());
+    }
+
+    private void book(int bookId, String rating, int authorId) {
+        jdbcTemplate.update("""
+                INSERT INTO catalog_book_snapshots (book_id, title, average_rating, author_ids, version)
+                VALUES (?, ?, CAST(? AS numeric), ARRAY[?]::integer[], 1)
+                """, bookId, "Book " + bookId, rating, authorId);
+    }
+
+    private static List<Integer> bookIds(RecommendationsDTO recommendations) {
+        return recommendations.getRecommendations().stream().map(RecommendationDTO::getCatalogBookId).toList();
+    }
+}
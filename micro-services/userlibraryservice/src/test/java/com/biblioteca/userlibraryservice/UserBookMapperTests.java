@@ -0,0 +1,43 @@
+package com.biblioteca.userlibraryservice;
+
+import com.biblioteca.userlibraryservice.dto.userBooks.UserBookUpdateDTO;
+import com.biblioteca.userlibraryservice.entity.UserBook;
+import com.biblioteca.userlibraryservice.util.enums.BookStatus;
+import com.biblioteca.userlibraryservice.util.enums.Format;
+import com.biblioteca.userlibraryservice.util.mapper.UserBookMapper;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class UserBookMapperTests {
+
+    @Test
+    void updateWithoutReadingFormatKeepsTheStoredFormat() {
+        UserBook userBook = new UserBook();
+        userBook.setReadingFormat(Format.DIGITAL.name());
+
+        UserBookMapper.fromUpdateDTO(update(null), userBook);
+
+        assertEquals(Format.DIGITAL.name(), userBook.getReadingFormat());
+    }
+
+    @Test
+    void updateWithReadingFormatReplacesIt() {
+        UserBook userBook = new UserBook();
+        userBook.setReadingFormat(Format.DIGITAL.name());
+
+        UserBookMapper.fromUpdateDTO(update(Format.PHYSICAL), userBook);
+
+        assertEquals(Format.PHYSICAL.name(), userBook.getReadingFormat());
+    }
+
+    private static UserBookUpdateDTO update(Format readingFormat) {
+        UserBookUpdateDTO dto = new UserBookUpdateDTO();
+        dto.setId(1);
+        dto.setUserId(1);
+        dto.setCatalogBookId(1);
+        dto.setStatus(BookStatus.CURRENTLY_READ);
+        dto.setReadingFormat(readingFormat);
+        return dto;
+    }
+}
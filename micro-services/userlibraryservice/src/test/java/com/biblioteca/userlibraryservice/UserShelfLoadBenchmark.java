@@ -0,0 +1,109 @@
+package com.biblioteca.userlibraryservice;
+
+import com.biblioteca.userlibraryservice.dto.pagination.CursorPageDTO;
+import com.biblioteca.userlibraryservice.dto.pagination.CursorPageRequestDTO;
+import com.biblioteca.userlibraryservice.dto.userBooks.UserBookShelfItemDTO;
+import com.biblioteca.userlibraryservice.service.UserBookService;
+import com.biblioteca.userlibraryservice.util.enums.BookStatus;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/*
+ * Shelf reads for one user with 20k books (override with -Dbenchmark.shelf.books) among
+ * other users' libraries. Rows carry large notes so a list view that loaded the TEXT
+ * columns would show up here. Run with: mvn test -Pbenchmark -Dtest=UserShelfLoadBenchmark
+ */
+@Tag("benchmark")
+class UserShelfLoadBenchmark extends AbstractPostgresTest {
+
+    private static final int USER_ID = 1;
+    private static final int BOOKS = Integer.getInteger("benchmark.shelf.books", 20_000);
+    private static final int OTHER_USERS = Integer.getInteger("benchmark.shelf.other-users", 200);
+    private static final int PAGE_SIZE = 50;
+    private static final double MAX_P95_MILLIS = Double.parseDouble(System.getProperty("benchmark.shelf.max-p95-ms", "50"));
+
+    @Autowired
+    private UserBookService userBookService;
+
+    @BeforeAll
+    static void seed(@Autowired JdbcTemplate jdbcTemplate) {
+        jdbcTemplate.update("""
+                INSERT INTO catalog_book_snapshots (book_id, title, subtitle, page_count, author_names, series_name, series_position, version)
+                SELECT g, 'Book ' || g, 'Subtitle ' || g, 200 + g % 400, 'Author ' || (g % 997), 'Series ' || (g % 311), g % 12 + 1, 1
+                FROM generate_series(1, ?) g
+                """, BOOKS);
+        jdbcTemplate.update("""
+                INSERT INTO user_books (user_id, catalog_book_id, status, reading_format, notes, private_notes, wishlist_notes, created_at, updated_at)
+                SELECT u, g, (ARRAY['WANT_TO_READ', 'CURRENTLY_READ', 'READ', 'DID_NOT_FINISH', 'ON_HOLD'])[g % 5 + 1], 'PHYSICAL',
+                       repeat('note ', 400), repeat('private ', 250), repeat('wish ', 400),
+                       TIMESTAMP '2015-01-01' + g * INTERVAL '3 hours',
+                       TIMESTAMP '2015-01-01' + g * INTERVAL '3 hours' + (g % 7) * INTERVAL '1 day'
+                FROM generate_series(1, ?) g,
+                     generate_series(?, ?) u
+                WHERE u = ? OR g <= ?
+                """, BOOKS, USER_ID, USER_ID + OTHER_USERS, USER_ID, BOOKS / 40);
+        jdbcTemplate.execute("ANALYZE");
+    }
+
+    @Test
+    void walksTheWholeLibraryWithoutGapsOrDuplicates() {
+        Set<Integer> seen = new HashSet<>();
+        String after = null;
+        int pages = 0;
+        do {
+            CursorPageDTO<UserBookShelfItemDTO> page = shelf(null, after);
+            for (UserBookShelfItemDTO item : page.getContent()) {
+                assertTrue(seen.add(item.getId()), "duplicate id " + item.getId());
+            }
+            after = page.isHasNext() ? page.getNextCursor() : null;
+            pages++;
+        } while (after != null);
+
+        assertEquals(BOOKS, seen.size());
+        assertEquals((BOOKS + PAGE_SIZE - 1) / PAGE_SIZE, pages);
+    }
+
+    @Test
+    void shelfPagesStayFastAtDepth() {
+        String deepCursor = cursorAt(null, BOOKS - PAGE_SIZE);
+        String deepReadCursor = cursorAt(BookStatus.READ, BOOKS / 5 - PAGE_SIZE);
+
+        LatencySample firstPage = LatencySample.measure("library first page", 20, 200, () -> shelf(null, null));
+        LatencySample deepPage = LatencySample.measure("library last page", 20, 200, () -> shelf(null, deepCursor));
+        LatencySample readShelf = LatencySample.measure("READ shelf first page", 20, 200, () -> shelf(BookStatus.READ, null));
+        LatencySample deepReadShelf = LatencySample.measure("READ shelf last page", 20, 200, () -> shelf(BookStatus.READ, deepReadCursor));
+        LatencySample counts = LatencySample.measure("shelf counts", 20, 200,
+                () -> userBookService.getShelfCounts(USER_ID, null, null));
+
+        for (LatencySample sample : new LatencySample[]{firstPage, deepPage, readShelf, deepReadShelf, counts}) {
+            System.out.println(sample);
+            assertTrue(sample.p95() < MAX_P95_MILLIS, sample.toString());
+        }
+
+        Map<BookStatus, Long> shelfCounts = userBookService.getShelfCounts(USER_ID, null, null);
+        assertEquals(BOOKS, shelfCounts.values().stream().mapToLong(Long::longValue).sum());
+    }
+
+    private CursorPageDTO<UserBookShelfItemDTO> shelf(BookStatus status, String after) {
+        return userBookService.getShelf(USER_ID, status, new CursorPageRequestDTO(after, PAGE_SIZE), null, null);
+    }
+
+    /* Cursor that starts a page `offset` rows into the shelf. */
+    private String cursorAt(BookStatus status, int offset) {
+        String after = null;
+        for (int skipped = 0; skipped < offset; skipped += PAGE_SIZE) {
+            after = shelf(status, after).getNextCursor();
+        }
+        return after;
+    }
+}
@@ -0,0 +1,165 @@
+package com.biblioteca.userlibraryservice.collection;
+
+import com.biblioteca.userlibraryservice.dto.readingCollections.CollectionBookMoveDTO;
+import com.biblioteca.userlibraryservice.repository.CollectionMembershipRepository.Member;
+import com.biblioteca.userlibraryservice.util.exception.CustomException;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class CollectionOrderingTests {
+
+    private static final int GAP = CollectionOrdering.GAP;
+
+    @Test
+    void appendToAnEmptyCollectionStartsAtOneGap() {
+        assertArrayEquals(new int[]{GAP, 2 * GAP, 3 * GAP}, CollectionOrdering.append(null, 3));
+    }
+
+    @Test
+    void appendContinuesAfterTheLastPosition() {
+        assertArrayEquals(new int[]{5000 + GAP, 5000 + 2 * GAP}, CollectionOrdering.append(5000, 2));
+    }
+
+    @Test
+    void appendThatWouldOverflowReturnsNull() {
+        assertNull(CollectionOrdering.append(Integer.MAX_VALUE - GAP, 2));
+    }
+
+    @Test
+    void renumberSpacesMembersOneGapApartInOrder() {
+        List<Member> renumbered = CollectionOrdering.renumber(List.of(new Member(7, 70, 3), new Member(8, 80, 4)));
+
+        assertEquals(List.of(new Member(7, 70, GAP), new Member(8, 80, 2 * GAP)), renumbered);
+    }
+
+    @Test
+    void moveBetweenTwoBooksTakesTheMidpointAndWritesOneRow() {
+        List<Member> changed = CollectionOrdering.move(members(4), List.of(move(4, 1)));
+
+        assertEquals(List.of(new Member(4, 4, GAP + GAP / 2)), changed);
+    }
+
+    @Test
+    void moveToTheTopGoesOneGapBeforeTheFirstBook() {
+        List<Member> changed = CollectionOrdering.move(members(3), List.of(move(3, null)));
+
+        assertEquals(List.of(new Member(3, 3, 0)), changed);
+    }
+
+    @Test
+    void moveToTheEndGoesOneGapAfterTheLastBook() {
+        List<Member> changed = CollectionOrdering.move(members(3), List.of(move(1, 3)));
+
+        assertEquals(List.of(new Member(1, 1, 4 * GAP)), changed);
+    }
+
+    @Test
+    void movesAreAppliedInOrderAndEachBookIsReturnedOnce() {
+        List<Member> changed = CollectionOrdering.move(members(4), List.of(move(4, null), move(4, 2)));
+
+        assertEquals(List.of(new Member(4, 4, 2 * GAP + GAP / 2)), changed);
+    }
+
+    @Test
+    void adjacentNeighboursRenumberTheCollection() {
+        List<Member> members = List.of(new Member(1, 1, 10), new Member(2, 2, 11), new Member(3, 3, 12));
+
+        List<Member> changed = CollectionOrdering.move(members, List.of(move(3, 1)));
+
+        assertEquals(List.of(1, 3, 2), order(members, changed));
+        assertEquals(3, changed.size());
+        assertEquals(new Member(3, 3, GAP + GAP / 2), changed.stream().filter(member -> member.id() == 3).findFirst().orElseThrow());
+    }
+
+    @Test
+    void repeatedMovesIntoTheSameSpotStayOrdered() {
+        List<Member> current = members(3);
+        int writes = 0;
+
+        /* Alternately pushes 3 and 2 right after 1, halving the gap each time until a renumber. */
+        for (int i = 0; i < 40; i++) {
+            int userBookId = i % 2 == 0 ? 3 : 2;
+            List<Member> changed = CollectionOrdering.move(sorted(current), List.of(move(userBookId, 1)));
+            writes += changed.size();
+            current = merge(current, changed);
+
+            assertEquals(List.of(1, userBookId), sorted(current).stream().limit(2).map(Member::userBookId).toList());
+        }
+
+        assertTrue(writes < 40 * 3, "writes " + writes);
+    }
+
+    @Test
+    void randomMovesMatchAListReorder() {
+        Random random = new Random(42);
+        List<Member> current = members(30);
+        List<Integer> expected = new ArrayList<>(current.stream().map(Member::userBookId).toList());
+
+        for (int i = 0; i < 2000; i++) {
+            Integer userBookId = expected.get(random.nextInt(expected.size()));
+            expected.remove(userBookId);
+            Integer after = random.nextInt(5) == 0 ? null : expected.get(random.nextInt(expected.size()));
+            expected.add(after == null ? 0 : expected.indexOf(after) + 1, userBookId);
+
+            current = merge(current, CollectionOrdering.move(sorted(current), List.of(move(userBookId, after))));
+        }
+
+        assertEquals(expected, sorted(current).stream().map(Member::userBookId).toList());
+    }
+
+    @Test
+    void movingABookAfterItselfIsRejected() {
+        CustomException exception = assertThrows(CustomException.class,
+                () -> CollectionOrdering.move(members(2), List.of(move(1, 1))));
+
+        assertEquals(400, exception.getCode());
+    }
+
+    @Test
+    void movingABookThatIsNotInTheCollectionIsRejected() {
+        CustomException exception = assertThrows(CustomException.class,
+                () -> CollectionOrdering.move(members(2), List.of(move(9, 1))));
+
+        assertEquals(400, exception.getCode());
+    }
+
+    /* count members with id = userBookId = 1..count, spaced one gap apart. */
+    private static List<Member> members(int count) {
+        List<Member> members = new ArrayList<>();
+        for (int i = 1; i <= count; i++) {
+            members.add(new Member(i, i, i * GAP));
+        }
+        return members;
+    }
+
+    private static CollectionBookMoveDTO move(Integer userBookId, Integer afterUserBookId) {
+        return new CollectionBookMoveDTO(userBookId, afterUserBookId);
+    }
+
+    private static List<Member> merge(List<Member> members, List<Member> changed) {
+        Map<Integer, Member> byId = new HashMap<>();
+        members.forEach(member -> byId.put(member.id(), member));
+        changed.forEach(member -> byId.put(member.id(), member));
+        return new ArrayList<>(byId.values());
+    }
+
+    private static List<Member> sorted(List<Member> members) {
+        return members.stream().sorted(Comparator.comparingInt(Member::displayOrder)).toList();
+    }
+
+    private static List<Integer> order(List<Member> members, List<Member> changed) {
+        return sorted(merge(members, changed)).stream().map(Member::userBookId).toList();
+    }
+}
@@ -0,0 +1,115 @@
+package com.biblioteca.userlibraryservice.progress;
+
+import com.biblioteca.userlibraryservice.repository.ReadingProgressRepository.StreakState;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.Random;
+import java.util.TreeSet;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/* Streak arithmetic of ReadingProgressEngine.advance; lives in the engine's package because advance is package-private. */
+class ReadingProgressEngineTests {
+
+    private static final LocalDate DAY = LocalDate.of(2026, 3, 10);
+
+    @Test
+    void firstDayStartsARun() {
+        assertEquals(new StreakState(1, 1, DAY, DAY), ReadingProgressEngine.advance(StreakState.EMPTY, DAY));
+    }
+
+    @Test
+    void dayInsideTheRunChangesNothing() {
+        StreakState streak = new StreakState(3, 5, DAY, DAY.minusDays(2));
+
+        assertEquals(streak, ReadingProgressEngine.advance(streak, DAY));
+        assertEquals(streak, ReadingProgressEngine.advance(streak, DAY.minusDays(1)));
+        assertEquals(streak, ReadingProgressEngine.advance(streak, DAY.minusDays(2)));
+    }
+
+    @Test
+    void nextDayExtendsTheRunAndTheLongest() {
+        StreakState streak = new StreakState(3, 3, DAY, DAY.minusDays(2));
+
+        assertEquals(new StreakState(4, 4, DAY.plusDays(1), DAY.minusDays(2)), ReadingProgressEngine.advance(streak, DAY.plusDays(1)));
+    }
+
+    @Test
+    void nextDayKeepsALongerPreviousRun() {
+        StreakState streak = new StreakState(2, 9, DAY, DAY.minusDays(1));
+
+        assertEquals(new StreakState(3, 9, DAY.plusDays(1), DAY.minusDays(1)), ReadingProgressEngine.advance(streak, DAY.plusDays(1)));
+    }
+
+    @Test
+    void gapStartsANewRunAndKeepsTheLongest() {
+        StreakState streak = new StreakState(4, 4, DAY, DAY.minusDays(3));
+
+        assertEquals(new StreakState(1, 4, DAY.plusDays(2), DAY.plusDays(2)), ReadingProgressEngine.advance(streak, DAY.plusDays(2)));
+    }
+
+    @Test
+    void dayBeforeTheRunExtendsItBackwards() {
+        StreakState streak = new StreakState(2, 2, DAY, DAY.minusDays(1));
+
+        assertEquals(new StreakState(3, 3, DAY, DAY.minusDays(2)), ReadingProgressEngine.advance(streak, DAY.minusDays(2)));
+    }
+
+    @Test
+    void olderBackfilledDayIsLeftToReconciliation() {
+        StreakState streak = new StreakState(2, 2, DAY, DAY.minusDays(1));
+
+        assertEquals(streak, ReadingProgressEngine.advance(streak, DAY.minusDays(5)));
+    }
+
+    @Test
+    void runAcrossMonthAndYearBoundaries() {
+        StreakState streak = StreakState.EMPTY;
+        for (LocalDate day = LocalDate.of(2025, 12, 30); !day.isAfter(LocalDate.of(2026, 1, 2)); day = day.plusDays(1)) {
+            streak = ReadingProgressEngine.advance(streak, day);
+        }
+
+        assertEquals(new StreakState(4, 4, LocalDate.of(2026, 1, 2), LocalDate.of(2025, 12, 30)), streak);
+    }
+
+    @Test
+    void daysInOrderMatchAStreakComputedFromHistory() {
+        Random random = new Random(42);
+        for (int round = 0; round < 200; round++) {
+            TreeSet<LocalDate> days = new TreeSet<>();
+            LocalDate day = DAY;
+            for (int i = 0; i < 40; i++) {
+                day = day.plusDays(random.nextInt(100) < 70 ? 1 : 2 + random.nextInt(3));
+                days.add(day);
+            }
+
+            StreakState streak = StreakState.EMPTY;
+            for (LocalDate readingDay : days) {
+                streak = ReadingProgressEngine.advance(streak, readingDay);
+            }
+
+            assertEquals(fromHistory(days), streak, "round " + round);
+        }
+    }
+
+    /* Reference: the last run of consecutive days is the current streak, the longest run is kept. */
+    private static StreakState fromHistory(TreeSet<LocalDate> days) {
+        int current = 0;
+        int longest = 0;
+        LocalDate start = null;
+        LocalDate previous = null;
+        for (LocalDate day : days) {
+            if (previous != null && day.equals(previous.plusDays(1))) {
+                current++;
+            } else {
+                current = 1;
+                start = day;
+            }
+            longest = Math.max(longest, current);
+            previous = day;
+        }
+
+        return new StreakState(current, longest, previous, start);
+    }
+}
@@ -0,0 +1,105 @@
+package com.biblioteca.userlibraryservice.series;
+
+import com.biblioteca.userlibraryservice.repository.SeriesProgressRepository.SeriesState;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+/* Completion rules of SeriesProgressTracker.progress; lives in the tracker's package because progress is package-private. */
+class SeriesProgressTrackerTests {
+
+    private static final LocalDate TODAY = LocalDate.of(2026, 3, 10);
+    private static final LocalDate EARLIER = LocalDate.of(2025, 11, 2);
+
+    @Test
+    void firstBookReadStartsTheSeries() {
+        SeriesState next = SeriesProgressTracker.progress(state("WANT_TO_READ", 5, null), 1, 2, TODAY);
+
+        assertEquals(new SeriesState(1, "READING", 1, 2, new BigDecimal("20.00"), null, 5), next);
+    }
+
+    @Test
+    void percentageIsRoundedHalfUpToTwoDecimals() {
+        SeriesState next = SeriesProgressTracker.progress(state("READING", 3, null), 2, 3, TODAY);
+
+        assertEquals(new BigDecimal("66.67"), next.completionPercentage());
+        assertEquals("READING", next.status());
+    }
+
+    @Test
+    void readingTheLastBookCompletesTheSeriesToday() {
+        SeriesState next = SeriesProgressTracker.progress(state("READING", 3, null), 3, 3, TODAY);
+
+        assertEquals(new SeriesState(1, "COMPLETED", 3, 3, new BigDecimal("100.00"), TODAY, 3), next);
+    }
+
+    @Test
+    void completedSeriesKeepsItsCompletionDate() {
+        SeriesState next = SeriesProgressTracker.progress(state("COMPLETED", 3, EARLIER), 3, 4, TODAY);
+
+        assertEquals(EARLIER, next.completionDate());
+        assertEquals("COMPLETED", next.status());
+    }
+
+    @Test
+    void moreBooksReadThanTheTotalCapsAtOneHundred() {
+        SeriesState next = SeriesProgressTracker.progress(state("READING", 3, null), 5, 5, TODAY);
+
+        assertEquals(new BigDecimal("100.00"), next.completionPercentage());
+        assertEquals("COMPLETED", next.status());
+    }
+
+    @Test
+    void unreadingABookReopensACompletedSeries() {
+        SeriesState next = SeriesProgressTracker.progress(state("COMPLETED", 3, EARLIER), 2, 3, TODAY);
+
+        assertEquals(new SeriesState(1, "READING", 2, 3, new BigDecimal("66.67"), null, 3), next);
+    }
+
+    @Test
+    void droppedSeriesIsNeverCompleted() {
+        SeriesState next = SeriesProgressTracker.progress(state("DROPPED", 3, null), 3, 3, TODAY);
+
+        assertEquals("DROPPED", next.status());
+        assertEquals(new BigDecimal("100.00"), next.completionPercentage());
+    }
+
+    @Test
+    void pausedSeriesStaysPausedWhileIncomplete() {
+        SeriesState next = SeriesProgressTracker.progress(state("PAUSED", 4, null), 2, 2, TODAY);
+
+        assertEquals("PAUSED", next.status());
+        assertEquals(new BigDecimal("50.00"), next.completionPercentage());
+    }
+
+    @Test
+    void wantToReadWithNothingReadIsUnchanged() {
+        SeriesState next = SeriesProgressTracker.progress(state("WANT_TO_READ", 4, null), 0, 1, TODAY);
+
+        assertEquals(new SeriesState(1, "WANT_TO_READ", 0, 1, new BigDecimal("0.00"), null, 4), next);
+    }
+
+    @Test
+    void unknownTotalKeepsStatusAndCompletionDate() {
+        SeriesState next = SeriesProgressTracker.progress(state("COMPLETED", null, EARLIER), 7, 7, TODAY);
+
+        assertEquals(new SeriesState(1, "COMPLETED", 7, 7, null, EARLIER, null), next);
+    }
+
+    @Test
+    void unknownTotalStillStartsTheSeries() {
+        SeriesState next = SeriesProgressTracker.progress(state("WANT_TO_READ", 0, null), 1, 1, TODAY);
+
+        assertEquals("READING", next.status());
+        assertNull(next.completionPercentage());
+        assertNull(next.completionDate());
+    }
+
+    private static SeriesState state(String status, Integer totalBooks, LocalDate completionDate) {
+        return new SeriesState(1, status, 0, 0, null, completionDate, totalBooks);
+    }
+}
@@ -0,0 +1,11 @@
+-- Hibernate allocates ids in blocks of 50 (pooled-lo) so inserts can be JDBC-batched.
+-- The BIGSERIAL sequences must advance by the same allocation size as the entities.
+ALTER SEQUENCE user_books_id_seq INCREMENT BY 50;
+ALTER SEQUENCE user_book_editions_id_seq INCREMENT BY 50;
+ALTER SEQUENCE user_series_id_seq INCREMENT BY 50;
+ALTER SEQUENCE user_series_books_id_seq INCREMENT BY 50;
+ALTER SEQUENCE user_genre_preferences_id_seq INCREMENT BY 50;
+ALTER SEQUENCE user_author_preferences_id_seq INCREMENT BY 50;
+ALTER SEQUENCE user_publisher_preferences_id_seq INCREMENT BY 50;
+ALTER SEQUENCE reading_collections_id_seq INCREMENT BY 50;
+ALTER SEQUENCE reading_collection_books_id_seq INCREMENT BY 50;
@@ -0,0 +1,12 @@
+-- Shelf read model: "my shelf" lists are ordered by last activity and paged with an
+-- (updated_at, id) keyset, so updated_at must always be set.
+UPDATE user_books SET updated_at = COALESCE(created_at, CURRENT_TIMESTAMP) WHERE updated_at IS NULL;
+ALTER TABLE user_books ALTER COLUMN updated_at SET NOT NULL;
+
+-- One shelf (status) and the whole library, both in keyset order
+CREATE INDEX idx_user_books_shelf ON user_books(user_id, status, updated_at DESC, id DESC);
+CREATE INDEX idx_user_books_library ON user_books(user_id, updated_at DESC, id DESC);
+
+-- Covered by the indexes above and by UNIQUE(user_id, catalog_book_id)
+DROP INDEX IF EXISTS idx_user_books_status;
+DROP INDEX IF EXISTS idx_user_books_user;
@@ -0,0 +1,64 @@
+-- Local, denormalised copy of the catalog maintained from catalogservice change events, so
+-- library pages are served by this service alone with a single query.
+-- version: catalogservice snapshot version; older deliveries are ignored.
+-- is_deleted: tombstone, kept so a late redelivery cannot resurrect a deleted row.
+CREATE TABLE catalog_book_snapshots (
+    book_id BIGINT PRIMARY KEY, -- References catalog_service.books.id
+    title VARCHAR(500),
+    subtitle VARCHAR(500),
+    publication_date DATE,
+    page_count INTEGER,
+    language VARCHAR(10),
+    average_rating DECIMAL(3,2),
+    is_active BOOLEAN,
+    cover_image_id INTEGER,
+    author_ids INTEGER[] NOT NULL DEFAULT '{}',
+    author_names TEXT,
+    genre_ids INTEGER[] NOT NULL DEFAULT '{}',
+    genre_names TEXT,
+    series_id BIGINT,
+    series_name VARCHAR(255),
+    series_position INTEGER,
+    is_deleted BOOLEAN NOT NULL DEFAULT false,
+    version BIGINT NOT NULL,
+    synced_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+
+CREATE TABLE catalog_author_snapshots (
+    author_id BIGINT PRIMARY KEY, -- References catalog_service.authors.id
+    name VARCHAR(255),
+    image_id VARCHAR(500),
+    is_deleted BOOLEAN NOT NULL DEFAULT false,
+    version BIGINT NOT NULL,
+    synced_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+
+CREATE TABLE catalog_series_snapshots (
+    series_id BIGINT PRIMARY KEY, -- References catalog_service.series.id
+    name VARCHAR(255),
+    total_books INTEGER,
+    is_completed BOOLEAN,
+    is_deleted BOOLEAN NOT NULL DEFAULT false,
+    version BIGINT NOT NULL,
+    synced_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+
+CREATE TABLE catalog_genre_snapshots (
+    genre_id BIGINT PRIMARY KEY, -- References catalog_service.genres.id
+    name VARCHAR(100),
+    parent_genre_id BIGINT,
+    is_active BOOLEAN,
+    is_deleted BOOLEAN NOT NULL DEFAULT false,
+    version BIGINT NOT NULL,
+    synced_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+
+CREATE TABLE catalog_publisher_snapshots (
+    publisher_id BIGINT PRIMARY KEY, -- References catalog_service.publishers.id
+    name VARCHAR(255),
+    is_deleted BOOLEAN NOT NULL DEFAULT false,
+    version BIGINT NOT NULL,
+    synced_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+
+COMMENT ON TABLE catalog_book_snapshots IS 'Read-only replica of catalog books, joined by user_books.catalog_book_id for shelf pages';
@@ -0,0 +1,15 @@
+-- Reading session ingestion: every session carries a client-generated id so an upload that
+-- is retried (offline clients replay their whole queue) is stored once and only once.
+ALTER TABLE reading_sessions ADD COLUMN client_session_id UUID;
+UPDATE reading_sessions SET client_session_id = gen_random_uuid() WHERE client_session_id IS NULL;
+ALTER TABLE reading_sessions ALTER COLUMN client_session_id SET NOT NULL;
+CREATE UNIQUE INDEX uq_reading_sessions_client ON reading_sessions(user_book_id, client_session_id);
+
+-- Session history of one book in keyset order (session_date, id)
+CREATE INDEX idx_reading_sessions_history ON reading_sessions(user_book_id, session_date DESC, id DESC);
+
+-- Covered by the indexes above / not used by any query, but paid for on every insert
+DROP INDEX IF EXISTS idx_reading_sessions_user_book;
+DROP INDEX IF EXISTS idx_reading_sessions_duration;
+
+COMMENT ON COLUMN reading_sessions.client_session_id IS 'Client-generated id used to deduplicate retried uploads';
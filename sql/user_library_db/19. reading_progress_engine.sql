@@ -0,0 +1,23 @@
+-- Incremental goal progress. Hours goals accumulate minutes so sub-hour sessions are not lost
+-- to rounding; current_value stays the whole hours shown to the user.
+ALTER TABLE reading_goals ADD COLUMN progress_minutes INTEGER NOT NULL DEFAULT 0;
+
+-- Genre variety goals keep one row per genre read in the goal period, counted per book, so
+-- un-finishing a book can remove its genres again without rescanning the period.
+CREATE TABLE reading_goal_genres (
+    goal_id BIGINT NOT NULL,
+    genre_id INTEGER NOT NULL,
+    book_count INTEGER NOT NULL DEFAULT 0,
+
+    PRIMARY KEY (goal_id, genre_id),
+    FOREIGN KEY (goal_id) REFERENCES reading_goals(id) ON DELETE CASCADE
+);
+
+-- Every event updates the active goals of one user whose period contains a date
+CREATE INDEX idx_reading_goals_active ON reading_goals(user_id, goal_type, start_date, end_date) WHERE is_active = true;
+
+-- Goals are created through Hibernate with pooled-lo allocation (see 15. pooled_id_sequences.sql)
+ALTER SEQUENCE reading_goals_id_seq INCREMENT BY 50;
+
+COMMENT ON COLUMN reading_goals.progress_minutes IS 'Minutes read in the goal period (hours_count goals)';
+COMMENT ON TABLE reading_goal_genres IS 'Genres of books finished within a genre variety goal period';
@@ -0,0 +1,83 @@
+-- Materialised reading statistics, maintained incrementally by ReadingStatsProjector so the
+-- stats dashboard reads a handful of rows per user instead of the user's whole history.
+
+-- One row per user: shelf counts, rating and session totals
+CREATE TABLE user_reading_stats (
+    user_id BIGINT PRIMARY KEY,
+    books_want_to_read INTEGER NOT NULL DEFAULT 0,
+    books_currently_read INTEGER NOT NULL DEFAULT 0,
+    books_read INTEGER NOT NULL DEFAULT 0,
+    books_did_not_finish INTEGER NOT NULL DEFAULT 0,
+    books_on_hold INTEGER NOT NULL DEFAULT 0,
+    rating_sum BIGINT NOT NULL DEFAULT 0,
+    rating_count INTEGER NOT NULL DEFAULT 0,
+    pages_read BIGINT NOT NULL DEFAULT 0,
+    minutes_read BIGINT NOT NULL DEFAULT 0,
+    sessions_count INTEGER NOT NULL DEFAULT 0,
+    updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+
+-- One row per user and calendar month (period_month is the first day of the month)
+CREATE TABLE user_reading_stats_monthly (
+    user_id BIGINT NOT NULL,
+    period_month DATE NOT NULL,
+    pages_read BIGINT NOT NULL DEFAULT 0,
+    minutes_read BIGINT NOT NULL DEFAULT 0,
+    sessions_count INTEGER NOT NULL DEFAULT 0,
+    books_finished INTEGER NOT NULL DEFAULT 0,
+
+    PRIMARY KEY (user_id, period_month)
+);
+
+-- Books read per genre; names are joined from catalog_genre_snapshots when read
+CREATE TABLE user_genre_stats (
+    user_id BIGINT NOT NULL,
+    genre_id INTEGER NOT NULL,
+    books_read INTEGER NOT NULL DEFAULT 0,
+
+    PRIMARY KEY (user_id, genre_id)
+);
+
+-- Backfill from existing data
+INSERT INTO user_reading_stats_monthly (user_id, period_month, pages_read, minutes_read, sessions_count, books_finished)
+SELECT user_id, period_month, SUM(pages_read), SUM(minutes_read), SUM(sessions_count), SUM(books_finished)
+FROM (
+    SELECT ub.user_id, CAST(date_trunc('month', rs.session_date) AS date) AS period_month,
+           COALESCE(rs.pages_read, 0) AS pages_read, COALESCE(rs.session_duration_minutes, 0) AS minutes_read,
+           1 AS sessions_count, 0 AS books_finished
+    FROM reading_sessions rs JOIN user_books ub ON ub.id = rs.user_book_id
+    UNION ALL
+    SELECT ub.user_id, CAST(date_trunc('month', COALESCE(ub.finish_date, CAST(ub.updated_at AS date))) AS date),
+           0, 0, 0, 1
+    FROM user_books ub WHERE ub.status = 'READ'
+) activity
+GROUP BY user_id, period_month;
+
+INSERT INTO user_reading_stats (user_id, books_want_to_read, books_currently_read, books_read, books_did_not_finish,
+    books_on_hold, rating_sum, rating_count, pages_read, minutes_read, sessions_count)
+SELECT ub.user_id,
+       COUNT(*) FILTER (WHERE ub.status = 'WANT_TO_READ'),
+       COUNT(*) FILTER (WHERE ub.status = 'CURRENTLY_READ'),
+       COUNT(*) FILTER (WHERE ub.status = 'READ'),
+       COUNT(*) FILTER (WHERE ub.status = 'DID_NOT_FINISH'),
+       COUNT(*) FILTER (WHERE ub.status = 'ON_HOLD'),
+       COALESCE(SUM(ub.rating), 0), COUNT(ub.rating),
+       COALESCE(MAX(m.pages_read), 0), COALESCE(MAX(m.minutes_read), 0), COALESCE(MAX(m.sessions_count), 0)
+FROM user_books ub
+LEFT JOIN (
+    SELECT user_id, SUM(pages_read) AS pages_read, SUM(minutes_read) AS minutes_read, SUM(sessions_count) AS sessions_count
+    FROM user_reading_stats_monthly GROUP BY user_id
+) m ON m.user_id = ub.user_id
+GROUP BY ub.user_id;
+
+INSERT INTO user_genre_stats (user_id, genre_id, books_read)
+SELECT ub.user_id, genre.id, COUNT(*)
+FROM user_books ub
+JOIN catalog_book_snapshots cb ON cb.book_id = ub.catalog_book_id AND cb.is_deleted = false
+CROSS JOIN unnest(cb.genre_ids) AS genre(id)
+WHERE ub.status = 'READ'
+GROUP BY ub.user_id, genre.id;
+
+COMMENT ON TABLE user_reading_stats IS 'Per-user reading totals maintained on every user book and reading session write';
+COMMENT ON TABLE user_reading_stats_monthly IS 'Per-user monthly pages, minutes, sessions and finished books';
+COMMENT ON TABLE user_genre_stats IS 'Per-user count of read books per catalog genre';
@@ -0,0 +1,11 @@
+-- Server-side series progress. books_read, books_owned and completion_percentage of
+-- user_series are derived from user_books (through the replicated catalog series membership
+-- and user_series_books) and catalog_series_snapshots.total_books by SeriesProgressTracker;
+-- client-supplied values are ignored. Existing rows are corrected by the first run of
+-- SeriesProgressRecomputeJob.
+
+-- Series membership of the catalog books on a user's shelf
+CREATE INDEX idx_catalog_book_snapshots_series ON catalog_book_snapshots(series_id) WHERE series_id IS NOT NULL;
+
+-- The recompute job walks users in user_id order; UNIQUE(user_id, catalog_series_id) covers it
+DROP INDEX IF EXISTS idx_user_series_user;
@@ -0,0 +1,55 @@
+-- Wishlist price watching. catalog_book_snapshots now carries the cheapest priced edition of
+-- every book; when a replicated snapshot changes that price, PriceAlertEvaluator looks up the
+-- watchers of the changed books through idx_user_wishlists_price_watch and writes one
+-- notification per watcher to the outbox.
+
+ALTER TABLE catalog_book_snapshots ADD COLUMN lowest_price DECIMAL(10,2);
+ALTER TABLE catalog_book_snapshots ADD COLUMN price_currency VARCHAR(10);
+
+-- Price an alert was last sent at; a watcher is alerted again only below it, and re-armed
+-- once the price rises above the threshold
+ALTER TABLE user_wishlists ADD COLUMN last_alerted_price DECIMAL(10,2);
+ALTER TABLE user_wishlists ADD COLUMN last_alerted_at TIMESTAMP;
+
+-- Watchers are looked up per changed book, never per user
+CREATE INDEX idx_user_wishlists_price_watch ON user_wishlists(catalog_book_id, price_alert_threshold)
+WHERE price_alert_threshold IS NOT NULL AND wishlist_status <> 'completed';
+
+DROP INDEX IF EXISTS idx_user_wishlists_price_alerts;
+DROP INDEX IF EXISTS idx_user_books_price_alerts;
+
+-- UNIQUE(user_id, catalog_book_id) already serves lookups by user
+DROP INDEX IF EXISTS idx_user_wishlists_user;
+
+-- Wishlist items are created through Hibernate with pooled-lo allocation (see 15. pooled_id_sequences.sql)
+ALTER SEQUENCE user_wishlists_id_seq INCREMENT BY 50;
+
+-- Thresholds set on shelf books become price watches on the wishlist, the only place alerts are evaluated
+INSERT INTO user_wishlists (user_id, catalog_book_id, wishlist_status, priority, target_price, target_currency,
+    price_alert_threshold, target_acquisition_date, wishlist_category, is_gift_idea, gift_recipient, wishlist_notes,
+    wishlist_reason)
+SELECT user_id, catalog_book_id, 'price_watch', COALESCE(wishlist_priority, 3), target_price, target_currency,
+       price_alert_threshold, target_acquisition_date, wishlist_category, COALESCE(is_gift_idea, false), gift_recipient,
+       wishlist_notes, wishlist_reason
+FROM user_books
+WHERE price_alert_threshold IS NOT NULL
+ON CONFLICT (user_id, catalog_book_id) DO NOTHING;
+
+-- Transactional outbox for price alert notifications (mirrors outbox/src/main/resources/db/outbox/outbox_events.sql)
+CREATE TABLE IF NOT EXISTS outbox_events (
+    id BIGSERIAL PRIMARY KEY,
+    topic VARCHAR(100) NOT NULL,
+    aggregate_type VARCHAR(50) NOT NULL,
+    aggregate_id VARCHAR(100) NOT NULL,
+    event_type VARCHAR(50) NOT NULL,
+    payload JSONB,
+    attempts INT NOT NULL DEFAULT 0,
+    next_attempt_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    last_error TEXT,
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+
+CREATE INDEX IF NOT EXISTS idx_outbox_events_topic ON outbox_events (topic, id);
+
+COMMENT ON COLUMN catalog_book_snapshots.lowest_price IS 'Price of the cheapest priced edition, replicated from catalogservice';
+COMMENT ON COLUMN user_wishlists.last_alerted_price IS 'Price the last alert was sent at; null when the watch is armed';
@@ -0,0 +1,29 @@
+-- Collections API: ordered membership with gap-based display_order.
+-- Members are spaced 1024 apart, so moving a book writes only that book (midpoint of its new
+-- neighbours); a collection is renumbered only when two neighbours run out of room.
+DELETE FROM reading_collection_books WHERE collection_id IS NULL OR user_book_id IS NULL;
+
+UPDATE reading_collection_books rcb
+SET display_order = ranked.position * 1024
+FROM (
+    SELECT id, row_number() OVER (PARTITION BY collection_id ORDER BY display_order, id) AS position
+    FROM reading_collection_books
+) ranked
+WHERE ranked.id = rcb.id;
+
+ALTER TABLE reading_collection_books ALTER COLUMN collection_id SET NOT NULL;
+ALTER TABLE reading_collection_books ALTER COLUMN user_book_id SET NOT NULL;
+ALTER TABLE reading_collection_books ALTER COLUMN display_order SET NOT NULL;
+
+UPDATE reading_collections SET collection_type = 'reading_list' WHERE collection_type IS NULL;
+ALTER TABLE reading_collections ALTER COLUMN collection_type SET NOT NULL;
+
+-- Collection pages are read in (display_order, id) keyset order
+CREATE INDEX idx_reading_collection_books_position ON reading_collection_books(collection_id, display_order, id);
+
+-- Covered by the index above, by UNIQUE(collection_id, user_book_id) and by UNIQUE(user_id, name)
+DROP INDEX IF EXISTS idx_reading_collection_books_order;
+DROP INDEX IF EXISTS idx_reading_collection_books_collection;
+DROP INDEX IF EXISTS idx_reading_collections_user;
+
+COMMENT ON COLUMN reading_collection_books.display_order IS 'Position in the collection, spaced 1024 apart; only relative order is meaningful';
@@ -0,0 +1,29 @@
+-- Recommendations: publisher ids on the book replica, item-to-item co-reads and per-user top-N lists.
+-- Snapshots replicated before this migration carry no publishers until their book changes again.
+ALTER TABLE catalog_book_snapshots ADD COLUMN publisher_ids INTEGER[] NOT NULL DEFAULT '{}';
+
+-- Top related books per book from co-occurrence in users' liked books; rebuilt by the refresh job
+CREATE TABLE book_co_reads (
+    book_id BIGINT NOT NULL, -- References catalog_service.books.id
+    related_book_id BIGINT NOT NULL,
+    co_reads INTEGER NOT NULL,
+    PRIMARY KEY (book_id, related_book_id)
+);
+
+-- Precomputed top-N per user, read by primary key; parallel arrays in rank order
+CREATE TABLE user_recommendations (
+    user_id BIGINT PRIMARY KEY,
+    book_ids INTEGER[] NOT NULL,
+    scores REAL[] NOT NULL,
+    reasons TEXT[] NOT NULL,
+    computed_at TIMESTAMP NOT NULL
+);
+
+-- Covered by UNIQUE(user_id, catalog_genre_id) / (user_id, catalog_author_id) / (user_id, catalog_publisher_id)
+DROP INDEX IF EXISTS idx_user_genre_preferences_user;
+DROP INDEX IF EXISTS idx_user_author_preferences_user;
+DROP INDEX IF EXISTS idx_user_publisher_preferences_user;
+
+COMMENT ON TABLE book_co_reads IS 'Books liked by the same users, strongest first; rebuilt nightly';
+COMMENT ON TABLE user_recommendations IS 'Scored catalog books per user from preferences and co-reads; rebuilt nightly and on demand';
+COMMENT ON COLUMN user_recommendations.reasons IS 'Strongest signal per book: AUTHOR, GENRE, PUBLISHER, CO_READ or POPULAR';
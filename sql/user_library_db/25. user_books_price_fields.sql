@@ -0,0 +1,26 @@
+-- Price watching lives on user_wishlists only (see 22. wishlist_price_alerts.sql). Watches that
+-- could not be copied there because the book was already on the user's wishlist are merged into
+-- that entry, then the per-book price columns are dropped so nothing can write them again.
+
+UPDATE user_wishlists w
+SET price_alert_threshold = ub.price_alert_threshold,
+    target_price = COALESCE(w.target_price, ub.target_price),
+    target_currency = COALESCE(w.target_currency, ub.target_currency)
+FROM user_books ub
+WHERE ub.user_id = w.user_id
+  AND ub.catalog_book_id = w.catalog_book_id
+  AND ub.price_alert_threshold IS NOT NULL
+  AND w.price_alert_threshold IS NULL;
+
+-- Target prices without a threshold become plain wishlist entries
+INSERT INTO user_wishlists (user_id, catalog_book_id, wishlist_status, priority, target_price, target_currency)
+SELECT user_id, catalog_book_id, 'planned', COALESCE(wishlist_priority, 3), target_price, target_currency
+FROM user_books
+WHERE target_price IS NOT NULL AND price_alert_threshold IS NULL
+ON CONFLICT (user_id, catalog_book_id) DO UPDATE
+SET target_price = COALESCE(user_wishlists.target_price, EXCLUDED.target_price),
+    target_currency = COALESCE(user_wishlists.target_currency, EXCLUDED.target_currency);
+
+ALTER TABLE user_books DROP COLUMN target_price;
+ALTER TABLE user_books DROP COLUMN target_currency;
+ALTER TABLE user_books DROP COLUMN price_alert_threshold;